@@ -0,0 +1,186 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.attrs.attr;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.references.ConcurrentWeakValueHashMap;
+
+/**
+ * Interned name of an attribute.
+ *
+ * <p>The attribute names are case-insensitive. An instance of this class contains
+ * the name, as given for the first time to {@link #intern(String)}, and the case-folded
+ * key and its hash code, which are computed once. Two attribute names are equal if their
+ * case-folded keys are equal; their order is the same as the order of
+ * {@link AttributeImpl#compareAttrNames(String, String)}.
+ *
+ * <p>The interned instances are weakly referenced by the interning table: they are
+ * released when they are no more used.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+public final class AttributeName implements Comparable<AttributeName>, Serializable {
+
+	private static final long serialVersionUID = 1870431297652186937L;
+
+	private static final int SHIFT = 16;
+
+	private static final ConcurrentMap<String, AttributeName> NAMES = new ConcurrentWeakValueHashMap<>();
+
+	private final String name;
+
+	private final String key;
+
+	private final int hash;
+
+	private AttributeName(String name) {
+		this.name = name;
+		this.key = fold(name);
+		final int value = this.key.hashCode();
+		this.hash = value ^ (value >>> SHIFT);
+	}
+
+	/** Replies the case-folded key of the given name. The characters are folded in the same
+	 * way as {@link String#compareToIgnoreCase(String)}.
+	 */
+	private static String fold(String name) {
+		char[] chars = null;
+		for (int i = 0; i < name.length(); ++i) {
+			final char character = name.charAt(i);
+			final char folded = Character.toLowerCase(Character.toUpperCase(character));
+			if (folded != character) {
+				if (chars == null) {
+					chars = name.toCharArray();
+				}
+				chars[i] = folded;
+			}
+		}
+		return chars == null ? name : new String(chars);
+	}
+
+	/** Replies the interned attribute name for the given string.
+	 *
+	 * @param name the name of the attribute.
+	 * @return the interned name.
+	 */
+	public static AttributeName intern(String name) {
+		assert name != null;
+		AttributeName attributeName = NAMES.get(name);
+		if (attributeName == null) {
+			final AttributeName newName = new AttributeName(name);
+			attributeName = NAMES.putIfAbsent(name, newName);
+			if (attributeName == null) {
+				attributeName = newName;
+			}
+		}
+		return attributeName;
+	}
+
+	/** Replies an attribute name that may be used for looking up the given string, without interning it.
+	 *
+	 * <p>If the string was interned, the interned name is replied. Otherwise, a new name is
+	 * replied, which is equal to any interned name with the same case-folded key, but which is
+	 * not added to the interning table. This function should be used by the queries that do not
+	 * store the name, so that an absent name does not grow the interning table.
+	 *
+	 * @param name the name of the attribute.
+	 * @return the interned name, or a name that is not interned.
+	 */
+	public static AttributeName probe(String name) {
+		assert name != null;
+		final AttributeName attributeName = NAMES.get(name);
+		if (attributeName == null) {
+			return new AttributeName(name);
+		}
+		return attributeName;
+	}
+
+	/** Replace the deserialized name by the interned name.
+	 *
+	 * @return the interned name.
+	 * @throws ObjectStreamException never thrown.
+	 */
+	private Object readResolve() throws ObjectStreamException {
+		return intern(this.name);
+	}
+
+	/** Replies the name of the attribute.
+	 *
+	 * @return the name.
+	 */
+	@Pure
+	public String getName() {
+		return this.name;
+	}
+
+	/** Replies the case-folded name of the attribute.
+	 *
+	 * @return the case-folded name.
+	 */
+	@Pure
+	public String getKey() {
+		return this.key;
+	}
+
+	@Pure
+	@Override
+	public int hashCode() {
+		return this.hash;
+	}
+
+	@Pure
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (obj instanceof AttributeName) {
+			final AttributeName attributeName = (AttributeName) obj;
+			return this.hash == attributeName.hash && this.key.equals(attributeName.key);
+		}
+		return false;
+	}
+
+	@Pure
+	@Override
+	public int compareTo(AttributeName attributeName) {
+		if (attributeName == this) {
+			return 0;
+		}
+		return AttributeImpl.compareAttrNames(this.name, attributeName.name);
+	}
+
+	@Pure
+	@Override
+	public String toString() {
+		return this.name;
+	}
+
+}
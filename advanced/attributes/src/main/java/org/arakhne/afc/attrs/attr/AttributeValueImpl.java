@@ -33,6 +33,8 @@ import static org.arakhne.afc.attrs.attr.AttributeConstants.T_CONSTANT;
 import static org.arakhne.afc.attrs.attr.AttributeConstants.YES_CONSTANT;
 import static org.arakhne.afc.attrs.attr.AttributeConstants.Y_CONSTANT;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.lang.reflect.Array;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
@@ -82,7 +84,9 @@ public class AttributeValueImpl implements AttributeValue {
 	private AttributeType type;
 
 	/**
-	 * Value of the metadata.
+	 * Value of the metadata. If {@link #primitive} is <code>true</code>, this field
+	 * is <code>null</code> or contains the boxed value of {@link #bits}. It is never
+	 * changed by the getters, which box the primitive value without storing the box.
 	 */
 	private Object value;
 
@@ -90,12 +94,28 @@ public class AttributeValueImpl implements AttributeValue {
 	 */
 	private boolean assigned;
 
+	/** Indicates if the value is an integer, a real or a boolean that is stored in {@link #bits}.
+	 */
+	private transient boolean primitive;
+
+	/** Value of an integer, bits of a real, or {@code 0} or {@code 1} for a boolean.
+	 */
+	private transient long bits;
+
+	/** Last string that was parsed as an integer, and its value.
+	 */
+	private transient ParsedLong parsedLong;
+
+	/** Last string that was parsed as a real, and its value.
+	 */
+	private transient ParsedDouble parsedDouble;
+
 	/**
 	 * Uninitialized value.
 	 */
 	public AttributeValueImpl() {
-		this.type = AttributeType.OBJECT;
-		this.value = this.type.getDefaultValue();
+		setRawType(AttributeType.OBJECT);
+		setRawValue(this.type.getDefaultValue());
 	}
 
 	/**
@@ -104,8 +124,8 @@ public class AttributeValueImpl implements AttributeValue {
 	 * @param type is the type of the value.
 	 */
 	public AttributeValueImpl(AttributeType type) {
-		this.type = type;
-		this.value = null;
+		setRawType(type);
+		setRawValue(null);
 		this.assigned = false;
 	}
 
@@ -113,17 +133,19 @@ public class AttributeValueImpl implements AttributeValue {
 	 * @param value is the value to initialize this new instance.
 	 */
 	public AttributeValueImpl(AttributeValue value) {
-		if (value != null) {
-			this.type = value.getType();
+		if (copyPrimitiveFrom(value)) {
+			this.assigned = true;
+		} else if (value != null) {
+			setRawType(value.getType());
 			try {
-				this.value = value.getValue();
-				this.assigned = isNullAllowed() || (this.value != null);
+				setRawValue(value.getValue());
+				this.assigned = isNullAllowed() || !isNullValue();
 			} catch (AttributeException exception) {
-				this.value = null;
+				setRawValue(null);
 				this.assigned = false;
 			}
 		} else {
-			this.value = null;
+			setRawValue(null);
 			this.assigned = false;
 		}
 	}
@@ -133,17 +155,17 @@ public class AttributeValueImpl implements AttributeValue {
 	 * @param rawValue is the value.
 	 */
 	public AttributeValueImpl(AttributeType type, Object rawValue) {
-		this.type = type;
+		setRawType(type);
 		if (rawValue == null) {
-			this.value = rawValue;
+			setRawValue(rawValue);
 		} else {
 			try {
-				this.value = type.cast(rawValue);
+				setRawValue(type.cast(rawValue));
 			} catch (Exception exception) {
-				this.value = null;
+				setRawValue(null);
 			}
 		}
-		this.assigned = this.value != null;
+		this.assigned = !isNullValue();
 	}
 
 
@@ -151,8 +173,7 @@ public class AttributeValueImpl implements AttributeValue {
 	 * @param value is the value.
 	 */
 	public AttributeValueImpl(boolean value) {
-		this.type = AttributeType.BOOLEAN;
-		this.value = new Boolean(value);
+		storeBoolean(value);
 		this.assigned = true;
 	}
 
@@ -162,99 +183,98 @@ public class AttributeValueImpl implements AttributeValue {
 	 */
 	@Deprecated
 	public AttributeValueImpl(Color value) {
-		this.type = AttributeType.COLOR;
-		this.value = (value != null) ? VectorToolkit.color(value.getRed(), value.getGreen(),
-				value.getBlue(), value.getAlpha()) : null;
-		this.assigned = this.value != null;
+		setRawType(AttributeType.COLOR);
+		setRawValue((value != null) ? VectorToolkit.color(value.getRed(), value.getGreen(),
+				value.getBlue(), value.getAlpha()) : null);
+		this.assigned = !isNullValue();
 	}
 
 	/**
 	 * @param value is the value.
 	 */
 	public AttributeValueImpl(UUID value) {
-		this.type = AttributeType.UUID;
-		this.value = (value != null) ? new UUID(value.getMostSignificantBits(),
-				value.getLeastSignificantBits()) : null;
-		this.assigned = this.value != null;
+		setRawType(AttributeType.UUID);
+		setRawValue((value != null) ? new UUID(value.getMostSignificantBits(),
+				value.getLeastSignificantBits()) : null);
+		this.assigned = !isNullValue();
 	}
 
 	/**
 	 * @param value is the value.
 	 */
 	public AttributeValueImpl(URL value) {
-		this.type = AttributeType.URL;
+		setRawType(AttributeType.URL);
 		try {
-			this.value = (value != null) ? new URL(value.toExternalForm()) : null;
+			setRawValue((value != null) ? new URL(value.toExternalForm()) : null);
 		} catch (MalformedURLException e) {
-			this.value = null;
+			setRawValue(null);
 		}
-		this.assigned = this.value != null;
+		this.assigned = !isNullValue();
 	}
 
 	/**
 	 * @param value is the value.
 	 */
 	public AttributeValueImpl(URI value) {
-		this.type = AttributeType.URI;
+		setRawType(AttributeType.URI);
 		try {
-			this.value = (value != null) ? new URI(value.toASCIIString()) : null;
+			setRawValue((value != null) ? new URI(value.toASCIIString()) : null);
 		} catch (URISyntaxException e) {
-			this.value = null;
+			setRawValue(null);
 		}
-		this.assigned = this.value != null;
+		this.assigned = !isNullValue();
 	}
 
 	/**
 	 * @param value is the value.
 	 */
 	public AttributeValueImpl(InetAddress value) {
-		this.type = AttributeType.INET_ADDRESS;
-		this.value = (value != null) ? value : null;
-		this.assigned = this.value != null;
+		setRawType(AttributeType.INET_ADDRESS);
+		setRawValue((value != null) ? value : null);
+		this.assigned = !isNullValue();
 	}
 
 	/**
 	 * @param value is the value.
 	 */
 	public AttributeValueImpl(InetSocketAddress value) {
-		this.type = AttributeType.INET_ADDRESS;
-		this.value = (value != null) ? value.getAddress() : null;
-		this.assigned = this.value != null;
+		setRawType(AttributeType.INET_ADDRESS);
+		setRawValue((value != null) ? value.getAddress() : null);
+		this.assigned = !isNullValue();
 	}
 
 	/**
 	 * @param value is the value.
 	 */
 	public AttributeValueImpl(Enum<?> value) {
-		this.type = AttributeType.ENUMERATION;
-		this.value = (value != null) ? value : null;
-		this.assigned = this.value != null;
+		setRawType(AttributeType.ENUMERATION);
+		setRawValue((value != null) ? value : null);
+		this.assigned = !isNullValue();
 	}
 
 	/**
 	 * @param value is the value.
 	 */
 	public AttributeValueImpl(Class<?> value) {
-		this.type = AttributeType.TYPE;
-		this.value = (value != null) ? value : null;
-		this.assigned = this.value != null;
+		setRawType(AttributeType.TYPE);
+		setRawValue((value != null) ? value : null);
+		this.assigned = !isNullValue();
 	}
 
 	/**
 	 * @param value is the value.
 	 */
 	public AttributeValueImpl(Date value) {
-		this.type = AttributeType.DATE;
-		this.value = (value != null) ? new Date(value.getTime()) : null;
-		this.assigned = this.value != null;
+		setRawType(AttributeType.DATE);
+		setRawValue((value != null) ? new Date(value.getTime()) : null);
+		this.assigned = !isNullValue();
 	}
 
 	/**
 	 * @param value is the value.
 	 */
 	public AttributeValueImpl(float value) {
-		this.type = AttributeType.REAL;
-		this.value = new Double(value);
+		storeDouble(value);
 		this.assigned = true;
 	}
 
@@ -262,8 +282,7 @@ public class AttributeValueImpl implements AttributeValue {
 	 * @param value is the value.
 	 */
 	public AttributeValueImpl(double value) {
-		this.type = AttributeType.REAL;
-		this.value = new Double(value);
+		storeDouble(value);
 		this.assigned = true;
 	}
 
@@ -273,8 +292,8 @@ public class AttributeValueImpl implements AttributeValue {
 	 */
 	@Deprecated
 	public AttributeValueImpl(Image value) {
-		this.type = AttributeType.IMAGE;
-		this.value = value;
+		setRawType(AttributeType.IMAGE);
+		setRawValue(value);
 		this.assigned = true;
 	}
 
@@ -282,8 +301,7 @@ public class AttributeValueImpl implements AttributeValue {
 	 * @param value is the value.
 	 */
 	public AttributeValueImpl(int value) {
-		this.type = AttributeType.INTEGER;
-		this.value = new Long(value);
+		storeLong(value);
 		this.assigned = true;
 	}
 
@@ -291,8 +309,7 @@ public class AttributeValueImpl implements AttributeValue {
 	 * @param value is the value.
 	 */
 	public AttributeValueImpl(long value) {
-		this.type = AttributeType.INTEGER;
-		this.value = new Long(value);
+		storeLong(value);
 		this.assigned = true;
 	}
 
@@ -300,9 +317,9 @@ public class AttributeValueImpl implements AttributeValue {
 	 * @param value is the value.
 	 */
 	public AttributeValueImpl(Point2D<?, ?> value) {
-		this.type = AttributeType.POINT;
-		this.value = value;
-		this.assigned = this.value != null;
+		setRawType(AttributeType.POINT);
+		setRawValue(value);
+		this.assigned = !isNullValue();
 	}
 
 	/**
@@ -310,8 +327,8 @@ public class AttributeValueImpl implements AttributeValue {
 	 * @param y is the value.
 	 */
 	public AttributeValueImpl(float x, float y) {
-		this.type = AttributeType.POINT;
-		this.value = new Point2d(x, y);
+		setRawType(AttributeType.POINT);
+		setRawValue(new Point2d(x, y));
 		this.assigned = true;
 	}
 
@@ -320,8 +337,8 @@ public class AttributeValueImpl implements AttributeValue {
 	 * @param y is the value.
 	 */
 	public AttributeValueImpl(double x, double y) {
-		this.type = AttributeType.POINT;
-		this.value = new Point2d(x, y);
+		setRawType(AttributeType.POINT);
+		setRawValue(new Point2d(x, y));
 		this.assigned = true;
 	}
 
@@ -329,9 +346,9 @@ public class AttributeValueImpl implements AttributeValue {
 	 * @param value is the value.
 	 */
 	public AttributeValueImpl(Point3D value) {
-		this.type = AttributeType.POINT3D;
-		this.value = value;
-		this.assigned = this.value != null;
+		setRawType(AttributeType.POINT3D);
+		setRawValue(value);
+		this.assigned = !isNullValue();
 	}
 
 	/**
@@ -340,9 +357,9 @@ public class AttributeValueImpl implements AttributeValue {
 	 * @param z is the value.
 	 */
 	public AttributeValueImpl(float x, float y, float z) {
-		this.type = AttributeType.POINT3D;
+		setRawType(AttributeType.POINT3D);
 		//TODO: Fix code: new Point3fp(x, y, z);
-		this.value = null;
+		setRawValue(null);
 		this.assigned = true;
 	}
 
@@ -352,9 +369,9 @@ public class AttributeValueImpl implements AttributeValue {
 	 * @param z is the value.
 	 */
 	public AttributeValueImpl(double x, double y, double z) {
-		this.type = AttributeType.POINT3D;
+		setRawType(AttributeType.POINT3D);
 		// TODO: Fix code: new Point3fp(x, y, z);
-		this.value = null;
+		setRawValue(null);
 		this.assigned = true;
 	}
 
@@ -362,27 +379,27 @@ public class AttributeValueImpl implements AttributeValue {
 	 * @param value is the value.
 	 */
 	public AttributeValueImpl(String value) {
-		this.type = AttributeType.STRING;
-		this.value = value;
-		this.assigned = this.value != null;
+		setRawType(AttributeType.STRING);
+		setRawValue(value);
+		this.assigned = !isNullValue();
 	}
 
 	/**
 	 * @param value is the value.
 	 */
 	public AttributeValueImpl(Point2D<?, ?>[] value) {
-		this.type = AttributeType.POLYLINE;
-		this.value = value;
-		this.assigned = this.value != null;
+		setRawType(AttributeType.POLYLINE);
+		setRawValue(value);
+		this.assigned = !isNullValue();
 	}
 
 	/**
 	 * @param value is the value.
 	 */
 	public AttributeValueImpl(Point3D[] value) {
-		this.type = AttributeType.POLYLINE3D;
-		this.value = value;
-		this.assigned = this.value != null;
+		setRawType(AttributeType.POLYLINE3D);
+		setRawValue(value);
+		this.assigned = !isNullValue();
 	}
 
 	/**
@@ -390,9 +407,9 @@ public class AttributeValueImpl implements AttributeValue {
 	 */
 	public AttributeValueImpl(Object value) {
 		final AttributeType detectedType = AttributeType.fromValue(value);
-		this.type = detectedType;
-		this.value = detectedType.cast(value);
-		this.assigned = isNullAllowed() || (this.value != null);
+		setRawType(detectedType);
+		setRawValue(detectedType.cast(value));
+		this.assigned = isNullAllowed() || !isNullValue();
 	}
 
 	/** Replies the best attribute value that is representing
@@ -415,7 +432,7 @@ public class AttributeValueImpl implements AttributeValue {
 						binValue = value.getBoolean();
 						break;
 					case COLOR:
-						binValue = parseColor((String) value.value, true);
+						binValue = parseColor((String) value.boxedValue(), true);
 						break;
 					case DATE:
 						binValue = value.getDate();
@@ -436,16 +453,16 @@ public class AttributeValueImpl implements AttributeValue {
 						binValue = value.getJavaObject();
 						break;
 					case POINT:
-						binValue = parsePoint((String) value.value, true);
+						binValue = parsePoint((String) value.boxedValue(), true);
 						break;
 					case POINT3D:
-						binValue = parsePoint3D((String) value.value, true);
+						binValue = parsePoint3D((String) value.boxedValue(), true);
 						break;
 					case POLYLINE:
-						binValue = parsePolyline((String) value.value, true);
+						binValue = parsePolyline((String) value.boxedValue(), true);
 						break;
 					case POLYLINE3D:
-						binValue = parsePolyline3D((String) value.value, true);
+						binValue = parsePolyline3D((String) value.boxedValue(), true);
 						break;
 					case REAL:
 						binValue = value.getReal();
@@ -460,13 +477,13 @@ public class AttributeValueImpl implements AttributeValue {
 						binValue = value.getJavaClass();
 						break;
 					case URI:
-						binValue = parseURI((String) value.value);
+						binValue = parseURI((String) value.boxedValue());
 						break;
 					case URL:
 						binValue = value.getURL();
 						break;
 					case UUID:
-						binValue = parseUUID((String) value.value);
+						binValue = parseUUID((String) value.boxedValue());
 						break;
 					default:
 						//
@@ -503,6 +520,11 @@ public class AttributeValueImpl implements AttributeValue {
 			return Integer.MIN_VALUE;
 		}
 
+		if (arg0 instanceof AttributeValueImpl && arg1 instanceof AttributeValueImpl
+				&& isPrimitivelyComparable((AttributeValueImpl) arg0, (AttributeValueImpl) arg1)) {
+			return comparePrimitiveValues((AttributeValueImpl) arg0, (AttributeValueImpl) arg1);
+		}
+
 		Object v0;
 		Object v1;
 
@@ -521,6 +543,35 @@ public class AttributeValueImpl implements AttributeValue {
 		return compareRawValues(v0, v1);
 	}
 
+	/** Replies if the two values are assigned and stored without boxing, and may be compared
+	 * with {@link #comparePrimitiveValues(AttributeValueImpl, AttributeValueImpl)}.
+	 *
+	 * @param arg0 first value.
+	 * @param arg1 second value.
+	 * @return <code>true</code> if the values are two numbers or two booleans.
+	 */
+	private static boolean isPrimitivelyComparable(AttributeValueImpl arg0, AttributeValueImpl arg1) {
+		return arg0.primitive && arg1.primitive && arg0.assigned && arg1.assigned
+				&& (arg0.type == arg1.type
+				|| (arg0.type != AttributeType.BOOLEAN && arg1.type != AttributeType.BOOLEAN));
+	}
+
+	/** Compare two numbers or two booleans that are stored without boxing, in the same way as
+	 * {@link #compareRawValues(Object, Object)}.
+	 *
+	 * @param arg0 first value.
+	 * @param arg1 second value.
+	 * @return replies a negative value if {@code arg0} is lesser than
+	 * {@code arg1}, a positive value if {@code arg0} is greater than
+	 * {@code arg1}, or <code>0</code> if they are equal.
+	 */
+	private static int comparePrimitiveValues(AttributeValueImpl arg0, AttributeValueImpl arg1) {
+		if (arg0.type == AttributeType.BOOLEAN) {
+			return Boolean.compare(arg0.bits != 0, arg1.bits != 0);
+		}
+		return Double.compare(arg0.numericValue(), arg1.numericValue());
+	}
+
 	/** Compare the internal objects of two specified values
 	 *
 	 * @param arg0 first value.
@@ -588,13 +639,13 @@ public class AttributeValueImpl implements AttributeValue {
 		if (obj instanceof AttributeValue) {
 			return compareValues(this, (AttributeValue) obj) == 0;
 		}
-		return compareRawValues(this.value, obj) == 0;
+		return compareRawValues(boxedValue(), obj) == 0;
 	}
 
 	@Pure
 	@Override
 	public int hashCode() {
-		return 31 + Objects.hashCode(this.value);
+		return 31 + Objects.hashCode(boxedValue());
 	}
 
 	@Pure
@@ -602,9 +653,9 @@ public class AttributeValueImpl implements AttributeValue {
 	public String toString() {
 		final StringBuilder str = new StringBuilder();
 		str.append("["); //$NON-NLS-1$
-		str.append((this.value == null)
+		str.append(isNullValue()
 				? "???" //$NON-NLS-1$
-				: this.value.toString());
+				: boxedValue().toString());
 		str.append(":"); //$NON-NLS-1$
 		str.append(this.type.toString());
 		str.append("]"); //$NON-NLS-1$
@@ -623,6 +674,201 @@ public class AttributeValueImpl implements AttributeValue {
 		return getType().isAssignableFrom(value.getType());
 	}
 
+	/** Store an integer value without boxing.
+	 *
+	 * @param value the value.
+	 */
+	private void storeLong(long value) {
+		this.type = AttributeType.INTEGER;
+		this.value = null;
+		this.bits = value;
+		this.primitive = true;
+	}
+
+	/** Store a real value without boxing.
+	 *
+	 * @param value the value.
+	 */
+	private void storeDouble(double value) {
+		this.type = AttributeType.REAL;
+		this.value = null;
+		this.bits = Double.doubleToRawLongBits(value);
+		this.primitive = true;
+	}
+
+	/** Store a boolean value without boxing.
+	 *
+	 * @param value the value.
+	 */
+	private void storeBoolean(boolean value) {
+		this.type = AttributeType.BOOLEAN;
+		this.value = null;
+		this.bits = value ? 1 : 0;
+		this.primitive = true;
+	}
+
+	/** Copy the primitive value of the given value without boxing.
+	 *
+	 * @param source the value to copy.
+	 * @return <code>true</code> if the value was copied; <code>false</code> if
+	 *     the given value is not an assigned primitive value.
+	 */
+	private boolean copyPrimitiveFrom(AttributeValue source) {
+		if (source instanceof AttributeValueImpl) {
+			final AttributeValueImpl other = (AttributeValueImpl) source;
+			if (other.primitive && other.assigned) {
+				this.type = other.type;
+				this.value = other.value;
+				this.bits = other.bits;
+				this.primitive = true;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/** Replies the integer value, that is stored in {@link #bits} or boxed in {@link #value}.
+	 *
+	 * @return the value.
+	 */
+	private long storedLong() {
+		if (this.primitive && this.type == AttributeType.INTEGER) {
+			return this.bits;
+		}
+		return ((Long) this.value).longValue();
+	}
+
+	/** Replies the real value, that is stored in {@link #bits} or boxed in {@link #value}.
+	 *
+	 * @return the value.
+	 */
+	private double storedDouble() {
+		if (this.primitive && this.type == AttributeType.REAL) {
+			return Double.longBitsToDouble(this.bits);
+		}
+		return ((Double) this.value).doubleValue();
+	}
+
+	/** Replies the boolean value, that is stored in {@link #bits} or boxed in {@link #value}.
+	 *
+	 * @return the value.
+	 */
+	private boolean storedBoolean() {
+		if (this.primitive && this.type == AttributeType.BOOLEAN) {
+			return this.bits != 0;
+		}
+		return ((Boolean) this.value).booleanValue();
+	}
+
+	/** Replies the primitive integer or real value as a real.
+	 *
+	 * @return the value.
+	 */
+	private double numericValue() {
+		if (this.type == AttributeType.INTEGER) {
+			return this.bits;
+		}
+		return Double.longBitsToDouble(this.bits);
+	}
+
+	/** Replies the value as an object, and box the primitive value if needed.
+	 *
+	 * <p>The box of a primitive value is not stored, so that the getters do not
+	 * change the state of this object.
+	 *
+	 * @return the value.
+	 */
+	@Pure
+	private Object boxedValue() {
+		if (this.primitive && this.value == null) {
+			switch (this.type) {
+			case INTEGER:
+				return Long.valueOf(this.bits);
+			case REAL:
+				return Double.valueOf(Double.longBitsToDouble(this.bits));
+			case BOOLEAN:
+				return Boolean.valueOf(this.bits != 0);
+			default:
+				throw new IllegalStateException();
+			}
+		}
+		return this.value;
+	}
+
+	/** Replies if the value is <code>null</code>, without boxing the primitive values.
+	 *
+	 * @return <code>true</code> if the value is <code>null</code>.
+	 */
+	private boolean isNullValue() {
+		return !this.primitive && this.value == null;
+	}
+
+	/** Change the value.
+	 *
+	 * @param value the new value.
+	 */
+	private void setRawValue(Object value) {
+		this.value = value;
+		this.primitive = false;
+	}
+
+	/** Change the type without changing the value.
+	 *
+	 * @param type the new type.
+	 */
+	private void setRawType(AttributeType type) {
+		if (this.primitive && this.type != type) {
+			this.value = boxedValue();
+			this.primitive = false;
+		}
+		this.type = type;
+	}
+
+	/** Parse the given string as an integer. The last parsed string is cached.
+	 *
+	 * <p>The string and its value are stored in the same immutable object, so that
+	 * the concurrent readers see a consistent pair.
+	 *
+	 * @param text the text to parse.
+	 * @return the integer.
+	 */
+	private long parseLongValue(String text) {
+		final ParsedLong parsed = this.parsedLong;
+		if (parsed != null && parsed.text == text) {
+			return parsed.value;
+		}
+		final long value = Long.parseLong(text);
+		this.parsedLong = new ParsedLong(text, value);
+		return value;
+	}
+
+	/** Parse the given string as a real. The last parsed string is cached.
+	 *
+	 * <p>The string and its value are stored in the same immutable object, so that
+	 * the concurrent readers see a consistent pair.
+	 *
+	 * @param text the text to parse.
+	 * @return the real.
+	 */
+	private double parseDoubleValue(String text) {
+		final ParsedDouble parsed = this.parsedDouble;
+		if (parsed != null && parsed.text == text) {
+			return parsed.value;
+		}
+		final double value = Double.parseDouble(text);
+		this.parsedDouble = new ParsedDouble(text, value);
+		return value;
+	}
+
+	private void writeObject(ObjectOutputStream stream) throws IOException {
+		// The primitive values are serialized as their boxes, without storing the boxes
+		final ObjectOutputStream.PutField fields = stream.putFields();
+		fields.put("type", this.type); //$NON-NLS-1$
+		fields.put("value", boxedValue()); //$NON-NLS-1$
+		fields.put("assigned", this.assigned); //$NON-NLS-1$
+		stream.writeFields();
+	}
+
 	/** Replies if this value was assigned and
 	 * supposes that the <code>null</code> value is
 	 * allowed.
@@ -630,7 +876,7 @@ public class AttributeValueImpl implements AttributeValue {
 	 * @return <code>true</code> if the value is not assigned or equals to <code>null</code>.
 	 */
 	private boolean isNotAssignedOrNull() {
-		return !this.assigned || this.value == null;
+		return !this.assigned || isNullValue();
 	}
 
 	/** Assert that the attribute value was assigned.
@@ -646,7 +892,7 @@ public class AttributeValueImpl implements AttributeValue {
 	 * @throws AttributeNotInitializedException attribute not initialized.
 	 */
 	protected void assertAssignedAndNotNull() throws AttributeNotInitializedException {
-		if ((this.type == null) || (!this.assigned) || (this.value == null)) {
+		if ((this.type == null) || (!this.assigned) || isNullValue()) {
 			throw new AttributeNotInitializedException();
 		}
 	}
@@ -675,61 +921,61 @@ public class AttributeValueImpl implements AttributeValue {
 		try {
 			switch (type) {
 			case INTEGER:
-				this.value = new Long(getInteger());
+				storeLong(getInteger());
 				break;
 			case REAL:
-				this.value = new Double(getReal());
+				storeDouble(getReal());
 				break;
 			case STRING:
-				this.value = getString();
+				setRawValue(getString());
 				break;
 			case BOOLEAN:
-				this.value = new Boolean(getBoolean());
+				storeBoolean(getBoolean());
 				break;
 			case DATE:
-				this.value = getDate();
+				setRawValue(getDate());
 				break;
 			case TIMESTAMP:
-				this.value = new Timestamp(getTimestamp());
+				setRawValue(new Timestamp(getTimestamp()));
 				break;
 			case OBJECT:
-				this.value = getJavaObject();
+				setRawValue(getJavaObject());
 				break;
 			case POINT:
-				this.value = getPoint();
+				setRawValue(getPoint());
 				break;
 			case POINT3D:
-				this.value = getPoint3D();
+				setRawValue(getPoint3D());
 				break;
 			case COLOR:
-				this.value = getColor();
+				setRawValue(getColor());
 				break;
 			case UUID:
-				this.value = getUUID();
+				setRawValue(getUUID());
 				break;
 			case IMAGE:
-				this.value = getImage();
+				setRawValue(getImage());
 				break;
 			case POLYLINE:
-				this.value = getPolyline();
+				setRawValue(getPolyline());
 				break;
 			case POLYLINE3D:
-				this.value = getPolyline3D();
+				setRawValue(getPolyline3D());
 				break;
 			case URI:
-				this.value = getURI();
+				setRawValue(getURI());
 				break;
 			case URL:
-				this.value = getURL();
+				setRawValue(getURL());
 				break;
 			case INET_ADDRESS:
-				this.value = getInetAddress();
+				setRawValue(getInetAddress());
 				break;
 			case ENUMERATION:
-				this.value = getEnumeration();
+				setRawValue(getEnumeration());
 				break;
 			case TYPE:
-				this.value = getJavaClass();
+				setRawValue(getJavaClass());
 				break;
 			default:
 				throw new InvalidAttributeTypeException();
@@ -737,9 +983,9 @@ public class AttributeValueImpl implements AttributeValue {
 		} catch (NumberFormatException ex) {
 			throw new InvalidAttributeTypeException();
 		} catch (AttributeNotInitializedException e) {
-			this.value = type.getDefaultValue();
+			setRawValue(type.getDefaultValue());
 		}
-		this.type = type;
+		setRawType(type);
 	}
 
 	@Override
@@ -748,10 +994,10 @@ public class AttributeValueImpl implements AttributeValue {
 		try {
 			setType(attrType);
 		} catch (InvalidAttributeTypeException ex) {
-			this.value = attrType.getDefaultValue();
+			setRawValue(attrType.getDefaultValue());
 			b = false;
 		}
-		this.type = attrType;
+		setRawType(attrType);
 		return b;
 	}
 
@@ -759,27 +1005,27 @@ public class AttributeValueImpl implements AttributeValue {
 	public void castAndSet(AttributeType attrType, Object attrValue) {
 		try {
 			if (attrValue instanceof AttributeValue) {
-				this.type = ((AttributeValue) attrValue).getType();
+				setRawType(((AttributeValue) attrValue).getType());
 				try {
-					this.value = ((AttributeValue) attrValue).getValue();
+					setRawValue(((AttributeValue) attrValue).getValue());
 					this.assigned = true;
 				} catch (AttributeNotInitializedException e) {
-					this.value = attrType.getDefaultValue();
+					setRawValue(attrType.getDefaultValue());
 					this.assigned = true;
 				}
 			} else {
-				this.type = attrType;
-				this.value = attrType.cast(attrValue);
+				setRawType(attrType);
+				setRawValue(attrType.cast(attrValue));
 				this.assigned = true;
 			}
 			if (attrValue != null) {
 				setType(attrType);
 			} else {
-				this.value = attrType.getDefaultValue();
+				setRawValue(attrType.getDefaultValue());
 				this.assigned = true;
 			}
 		} catch (InvalidAttributeTypeException ex) {
-			this.value = attrType.getDefaultValue();
+			setRawValue(attrType.getDefaultValue());
 			this.assigned = true;
 		}
 	}
@@ -788,7 +1034,7 @@ public class AttributeValueImpl implements AttributeValue {
 	@Override
 	public Object getValue() throws InvalidAttributeTypeException, AttributeNotInitializedException {
 		assertAssigned();
-		return this.value;
+		return boxedValue();
 	}
 
 	@Pure
@@ -841,20 +1087,24 @@ public class AttributeValueImpl implements AttributeValue {
 
 	@Override
 	public void setValue(AttributeValue value) {
-		this.type = value.getType();
+		if (copyPrimitiveFrom(value)) {
+			this.assigned = true;
+			return;
+		}
+		setRawType(value.getType());
 		try {
 			this.assigned = value.isAssigned();
-			this.value = value.getValue();
+			setRawValue(value.getValue());
 		} catch (AttributeException e) {
-			this.value = this.type.getDefaultValue();
+			setRawValue(this.type.getDefaultValue());
 		}
 	}
 
 	@Override
 	public void setValue(Object value) {
 		final AttributeType detectedType = AttributeType.fromValue(value);
-		this.value = detectedType.cast(value);
-		this.assigned = this.value != null;
+		setRawValue(detectedType.cast(value));
+		this.assigned = !isNullValue();
 	}
 
 	/** Set this value with the content of the specified one.
@@ -867,8 +1117,8 @@ public class AttributeValueImpl implements AttributeValue {
 	 * @param value is the raw value to put inside this attribute value.
 	 */
 	protected void setInternalValue(Object value) {
-		this.value = value;
-		this.assigned = this.value != null;
+		setRawValue(value);
+		this.assigned = !isNullValue();
 	}
 
 	/** Set this value with the content of the specified one.
@@ -883,15 +1133,15 @@ public class AttributeValueImpl implements AttributeValue {
 	 * @param type is the type of the value.
 	 */
 	protected void setInternalValue(Object value, AttributeType type) {
-		this.value = value;
-		this.assigned = this.value != null;
-		this.type = type;
+		setRawValue(value);
+		this.assigned = !isNullValue();
+		setRawType(type);
 	}
 
 	@Override
 	public void setToDefault() {
 		this.assigned = true;
-		this.value = this.type.getDefaultValue();
+		setRawValue(this.type.getDefaultValue());
 	}
 
 	@Override
@@ -901,7 +1151,6 @@ public class AttributeValueImpl implements AttributeValue {
 		}
 	}
 
-	@Pure
 	@Override
 	@SuppressWarnings({"checkstyle:returncount", "checkstyle:cyclomaticcomplexity"})
 	public long getInteger() throws InvalidAttributeTypeException, AttributeNotInitializedException {
@@ -909,27 +1158,27 @@ public class AttributeValueImpl implements AttributeValue {
 			assertAssignedAndNotNull();
 			switch (this.type) {
 			case INTEGER:
-				return ((Long) this.value).longValue();
+				return storedLong();
 			case TIMESTAMP:
-				return ((Timestamp) this.value).longValue();
+				return ((Timestamp) boxedValue()).longValue();
 			case REAL:
-				return ((Double) this.value).longValue();
+				return (long) storedDouble();
 			case STRING:
-				return Long.parseLong((String) this.value);
+				return parseLongValue((String) boxedValue());
 			case DATE:
-				return ((Date) this.value).getTime();
+				return ((Date) boxedValue()).getTime();
 			case BOOLEAN:
-				return ((Boolean) this.value).booleanValue() ? 1 : 0;
+				return storedBoolean() ? 1 : 0;
 			case COLOR:
-				return ((Color) this.value).getRGB();
+				return ((Color) boxedValue()).getRGB();
 			case OBJECT:
-				if (this.value instanceof Number) {
-					return ((Number) this.value).longValue();
+				if (boxedValue() instanceof Number) {
+					return ((Number) boxedValue()).longValue();
 				}
 				break;
 			case ENUMERATION:
-				if (this.value instanceof Enum<?>) {
-					return ((Enum<?>) this.value).ordinal();
+				if (boxedValue() instanceof Enum<?>) {
+					return ((Enum<?>) boxedValue()).ordinal();
 				}
 				break;
 			case IMAGE:
@@ -954,19 +1203,16 @@ public class AttributeValueImpl implements AttributeValue {
 
 	@Override
 	public void setInteger(int value) {
-		this.value = new Long(value);
-		this.type = AttributeType.INTEGER;
+		storeLong(value);
 		this.assigned = true;
 	}
 
 	@Override
 	public void setInteger(long value) {
-		this.value = new Long(value);
-		this.type = AttributeType.INTEGER;
+		storeLong(value);
 		this.assigned = true;
 	}
 
-	@Pure
 	@Override
 	@SuppressWarnings({"checkstyle:returncount", "checkstyle:cyclomaticcomplexity"})
 	public double getReal() throws InvalidAttributeTypeException, AttributeNotInitializedException {
@@ -974,27 +1220,27 @@ public class AttributeValueImpl implements AttributeValue {
 			assertAssignedAndNotNull();
 			switch (this.type) {
 			case INTEGER:
-				return ((Long) this.value).doubleValue();
+				return (double) storedLong();
 			case TIMESTAMP:
-				return ((Timestamp) this.value).doubleValue();
+				return ((Timestamp) boxedValue()).doubleValue();
 			case REAL:
-				return ((Double) this.value).doubleValue();
+				return storedDouble();
 			case STRING:
-				return Double.parseDouble((String) this.value);
+				return parseDoubleValue((String) boxedValue());
 			case DATE:
-				return ((Date) this.value).getTime();
+				return ((Date) boxedValue()).getTime();
 			case BOOLEAN:
-				return ((Boolean) this.value).booleanValue() ? 1. : 0.;
+				return storedBoolean() ? 1. : 0.;
 			case COLOR:
-				return ((Color) this.value).getRGB();
+				return ((Color) boxedValue()).getRGB();
 			case OBJECT:
-				if (this.value instanceof Number) {
-					return ((Number) this.value).doubleValue();
+				if (boxedValue() instanceof Number) {
+					return ((Number) boxedValue()).doubleValue();
 				}
 				break;
 			case ENUMERATION:
-				if (this.value instanceof Enum<?>) {
-					return ((Enum<?>) this.value).ordinal();
+				if (boxedValue() instanceof Enum<?>) {
+					return ((Enum<?>) boxedValue()).ordinal();
 				}
 				break;
 			case IMAGE:
@@ -1020,8 +1266,7 @@ public class AttributeValueImpl implements AttributeValue {
 
 	@Override
 	public void setReal(double value) {
-		this.value = new Double(value);
-		this.type = AttributeType.REAL;
+		storeDouble(value);
 		this.assigned = true;
 	}
 
@@ -1033,40 +1278,40 @@ public class AttributeValueImpl implements AttributeValue {
 			assertAssignedAndNotNull();
 			switch (this.type) {
 			case STRING:
-				return (String) this.value;
+				return (String) boxedValue();
 			case BOOLEAN:
-				return ((Boolean) this.value).toString();
+				return ((Boolean) boxedValue()).toString();
 			case COLOR:
-				final Color col = (Color) this.value;
+				final Color col = (Color) boxedValue();
 				return Integer.toString(col.getRed())
 						+ ';' + col.getGreen()
 						+ ';' + col.getBlue()
 						+ ';' + col.getAlpha();
 			case UUID:
-				final UUID uuid = (UUID) this.value;
+				final UUID uuid = (UUID) boxedValue();
 				return uuid.toString();
 			case URL:
-				final URL url = (URL) this.value;
+				final URL url = (URL) boxedValue();
 				return url.toExternalForm();
 			case URI:
-				final URI uri = (URI) this.value;
+				final URI uri = (URI) boxedValue();
 				return uri.toASCIIString();
 			case TIMESTAMP:
 				final SimpleDateFormat tmformat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss"); //$NON-NLS-1$
-				return tmformat.format(new Date(((Timestamp) this.value).longValue()));
+				return tmformat.format(new Date(((Timestamp) boxedValue()).longValue()));
 			case INTEGER:
-				return ((Long) this.value).toString();
+				return ((Long) boxedValue()).toString();
 			case REAL:
-				return ((Double) this.value).toString();
+				return ((Double) boxedValue()).toString();
 			case POINT:
-				final Point2D<?, ?> pt2 = (Point2D<?, ?>) this.value;
+				final Point2D<?, ?> pt2 = (Point2D<?, ?>) boxedValue();
 				final StringBuilder buffer1 = new StringBuilder();
 				buffer1.append(pt2.getX());
 				buffer1.append(";"); //$NON-NLS-1$
 				buffer1.append(pt2.getY());
 				return buffer1.toString();
 			case POINT3D:
-				final Point3D pt3 = (Point3D) this.value;
+				final Point3D pt3 = (Point3D) boxedValue();
 				final StringBuilder buffer2 = new StringBuilder();
 				buffer2.append(pt3.getX());
 				buffer2.append(";"); //$NON-NLS-1$
@@ -1076,10 +1321,10 @@ public class AttributeValueImpl implements AttributeValue {
 				return buffer2.toString();
 			case DATE:
 				final SimpleDateFormat dtformat = new SimpleDateFormat("yyyy-MM-dd"); //$NON-NLS-1$
-				return dtformat.format((Date) this.value);
+				return dtformat.format((Date) boxedValue());
 			case POLYLINE:
 				final StringBuilder buffer3 = new StringBuilder();
-				final Point2D<?, ?>[] lstpt2 = (Point2D<?, ?>[]) this.value;
+				final Point2D<?, ?>[] lstpt2 = (Point2D<?, ?>[]) boxedValue();
 				for (int i = 0; i < lstpt2.length; ++i) {
 					if (lstpt2[i] != null) {
 						if (buffer3.length() > 0) {
@@ -1093,7 +1338,7 @@ public class AttributeValueImpl implements AttributeValue {
 				return buffer3.toString();
 			case POLYLINE3D:
 				final StringBuilder buffer4 = new StringBuilder();
-				final Point3D[] lstpt3 = (Point3D[]) this.value;
+				final Point3D[] lstpt3 = (Point3D[]) boxedValue();
 				for (int i = 0; i < lstpt3.length; ++i) {
 					if (lstpt3[i] != null) {
 						if (buffer4.length() > 0) {
@@ -1109,19 +1354,19 @@ public class AttributeValueImpl implements AttributeValue {
 				return buffer4.toString();
 			case ENUMERATION:
 				final StringBuilder buffer5 = new StringBuilder();
-				final Enum<?> enumeration = (Enum<?>) this.value;
+				final Enum<?> enumeration = (Enum<?>) boxedValue();
 				final Class<?> enumerationType = enumeration.getDeclaringClass();
 				final String typeName = enumerationType.getCanonicalName();
 				buffer5.append(typeName);
 				buffer5.append("."); //$NON-NLS-1$
-				buffer5.append(((Enum<?>) this.value).name());
+				buffer5.append(((Enum<?>) boxedValue()).name());
 				return buffer5.toString();
 			case TYPE:
-				return ((Class<?>) this.value).getCanonicalName();
+				return ((Class<?>) boxedValue()).getCanonicalName();
 			case INET_ADDRESS:
 			case OBJECT:
 			case IMAGE:
-				return this.value.toString();
+				return boxedValue().toString();
 			default:
 				throw new InvalidAttributeTypeException();
 			}
@@ -1133,9 +1378,9 @@ public class AttributeValueImpl implements AttributeValue {
 
 	@Override
 	public void setString(String value) {
-		this.value = value;
-		this.type = AttributeType.STRING;
-		this.assigned = this.value != null;
+		setRawValue(value);
+		setRawType(AttributeType.STRING);
+		this.assigned = !isNullValue();
 	}
 
 	/** Parse a date according to the specified locale.
@@ -1178,15 +1423,15 @@ public class AttributeValueImpl implements AttributeValue {
 			assertAssignedAndNotNull();
 			switch (this.type) {
 			case DATE:
-				return (Date) ((Date) this.value).clone();
+				return (Date) ((Date) boxedValue()).clone();
 			case REAL:
-				return new Date(((Double) this.value).longValue());
+				return new Date((long) storedDouble());
 			case INTEGER:
-				return new Date(((Long) this.value).longValue());
+				return new Date(storedLong());
 			case TIMESTAMP:
-				return new Date(((Timestamp) this.value).longValue());
+				return new Date(((Timestamp) boxedValue()).longValue());
 			case STRING:
-				final String txt = (String) this.value;
+				final String txt = (String) boxedValue();
 				DateFormat fmt;
 				Date dt;
 
@@ -1214,14 +1459,14 @@ public class AttributeValueImpl implements AttributeValue {
 				fmt = new SimpleDateFormat("yyyy-MM-dd"); //$NON-NLS-1$
 				return fmt.parse(txt);
 			case OBJECT:
-				if (this.value instanceof Date) {
-					return (Date) this.value;
+				if (boxedValue() instanceof Date) {
+					return (Date) boxedValue();
 				}
-				if (this.value instanceof Calendar) {
-					return ((Calendar) this.value).getTime();
+				if (boxedValue() instanceof Calendar) {
+					return ((Calendar) boxedValue()).getTime();
 				}
-				if (this.value instanceof Number) {
-					return new Date(((Number) this.value).longValue());
+				if (boxedValue() instanceof Number) {
+					return new Date(((Number) boxedValue()).longValue());
 				}
 				break;
 			case BOOLEAN:
@@ -1247,9 +1492,9 @@ public class AttributeValueImpl implements AttributeValue {
 
 	@Override
 	public void setDate(Date value) {
-		this.value = value;
-		this.type = AttributeType.DATE;
-		this.assigned = this.value != null;
+		setRawValue(value);
+		setRawType(AttributeType.DATE);
+		this.assigned = !isNullValue();
 	}
 
 	@Pure
@@ -1260,55 +1505,55 @@ public class AttributeValueImpl implements AttributeValue {
 			assertAssignedAndNotNull();
 			switch (this.type) {
 			case BOOLEAN:
-				return ((Boolean) this.value).booleanValue();
+				return storedBoolean();
 			case STRING:
 				// Do not use the function Boolean.parseBoolean() because
 				// it replies false when the string does not contains "true"
-				if (TRUE_CONSTANT.compareToIgnoreCase((String) this.value) == 0) {
+				if (TRUE_CONSTANT.compareToIgnoreCase((String) boxedValue()) == 0) {
 					return true;
 				}
-				if (YES_CONSTANT.compareToIgnoreCase((String) this.value) == 0) {
+				if (YES_CONSTANT.compareToIgnoreCase((String) boxedValue()) == 0) {
 					return true;
 				}
-				if (OUI_CONSTANT.compareToIgnoreCase((String) this.value) == 0) {
+				if (OUI_CONSTANT.compareToIgnoreCase((String) boxedValue()) == 0) {
 					return true;
 				}
-				if (T_CONSTANT.compareToIgnoreCase((String) this.value) == 0) {
+				if (T_CONSTANT.compareToIgnoreCase((String) boxedValue()) == 0) {
 					return true;
 				}
-				if (Y_CONSTANT.compareToIgnoreCase((String) this.value) == 0) {
+				if (Y_CONSTANT.compareToIgnoreCase((String) boxedValue()) == 0) {
 					return true;
 				}
-				if (O_CONSTANT.compareToIgnoreCase((String) this.value) == 0) {
+				if (O_CONSTANT.compareToIgnoreCase((String) boxedValue()) == 0) {
 					return true;
 				}
 
-				if (FALSE_CONSTANT.compareToIgnoreCase((String) this.value) == 0) {
+				if (FALSE_CONSTANT.compareToIgnoreCase((String) boxedValue()) == 0) {
 					return false;
 				}
-				if (NO_CONSTANT.compareToIgnoreCase((String) this.value) == 0) {
+				if (NO_CONSTANT.compareToIgnoreCase((String) boxedValue()) == 0) {
 					return false;
 				}
-				if (NON_CONSTANT.compareToIgnoreCase((String) this.value) == 0) {
+				if (NON_CONSTANT.compareToIgnoreCase((String) boxedValue()) == 0) {
 					return false;
 				}
-				if (F_CONSTANT.compareToIgnoreCase((String) this.value) == 0) {
+				if (F_CONSTANT.compareToIgnoreCase((String) boxedValue()) == 0) {
 					return false;
 				}
-				if (N_CONSTANT.compareToIgnoreCase((String) this.value) == 0) {
+				if (N_CONSTANT.compareToIgnoreCase((String) boxedValue()) == 0) {
 					return false;
 				}
 
 				break;
 			case INTEGER:
-				return ((Long) this.value).longValue() != 0;
+				return storedLong() != 0;
 			case TIMESTAMP:
-				return ((Timestamp) this.value).longValue() != 0;
+				return ((Timestamp) boxedValue()).longValue() != 0;
 			case REAL:
-				return ((Double) this.value).doubleValue() != 0.;
+				return storedDouble() != 0.;
 			case OBJECT:
-				if (this.value instanceof Boolean) {
-					return ((Boolean) this.value).booleanValue();
+				if (boxedValue() instanceof Boolean) {
+					return storedBoolean();
 				}
 				break;
 			case COLOR:
@@ -1334,8 +1579,7 @@ public class AttributeValueImpl implements AttributeValue {
 
 	@Override
 	public void setBoolean(boolean value) {
-		this.value = new Boolean(value);
-		this.type = AttributeType.BOOLEAN;
+		storeBoolean(value);
 		this.assigned = true;
 	}
 
@@ -1356,7 +1600,7 @@ public class AttributeValueImpl implements AttributeValue {
 			return null;
 		}
 		try {
-			return (T) this.value;
+			return (T) boxedValue();
 		} catch (ClassCastException exception) {
 			throw new InvalidAttributeTypeException();
 		}
@@ -1364,12 +1608,11 @@ public class AttributeValueImpl implements AttributeValue {
 
 	@Override
 	public void setJavaObject(Object value) {
-		this.value = value;
-		this.type = AttributeType.OBJECT;
+		setRawValue(value);
+		setRawType(AttributeType.OBJECT);
 		this.assigned = true;
 	}
 
-	@Pure
 	@Override
 	@SuppressWarnings({"checkstyle:returncount", "checkstyle:cyclomaticcomplexity", "checkstyle:npathcomplexity"})
 	public long getTimestamp() throws InvalidAttributeTypeException, AttributeNotInitializedException {
@@ -1377,28 +1620,28 @@ public class AttributeValueImpl implements AttributeValue {
 			assertAssignedAndNotNull();
 			switch (this.type) {
 			case INTEGER:
-				return ((Long) this.value).longValue();
+				return storedLong();
 			case TIMESTAMP:
-				return ((Timestamp) this.value).longValue();
+				return ((Timestamp) boxedValue()).longValue();
 			case REAL:
-				return ((Double) this.value).longValue();
+				return (long) storedDouble();
 			case STRING:
-				return Long.parseLong((String) this.value);
+				return parseLongValue((String) boxedValue());
 			case DATE:
-				return ((Date) this.value).getTime();
+				return ((Date) boxedValue()).getTime();
 			case BOOLEAN:
-				return ((Boolean) this.value).booleanValue() ? 1 : 0;
+				return storedBoolean() ? 1 : 0;
 			case COLOR:
-				return ((Color) this.value).getRGB();
+				return ((Color) boxedValue()).getRGB();
 			case OBJECT:
-				if (this.value instanceof Number) {
-					return ((Number) this.value).longValue();
+				if (boxedValue() instanceof Number) {
+					return ((Number) boxedValue()).longValue();
 				}
-				if (this.value instanceof Date) {
-					return ((Date) this.value).getTime();
+				if (boxedValue() instanceof Date) {
+					return ((Date) boxedValue()).getTime();
 				}
-				if (this.value instanceof Calendar) {
-					return ((Calendar) this.value).getTimeInMillis();
+				if (boxedValue() instanceof Calendar) {
+					return ((Calendar) boxedValue()).getTimeInMillis();
 				}
 				break;
 			case IMAGE:
@@ -1424,8 +1667,8 @@ public class AttributeValueImpl implements AttributeValue {
 
 	@Override
 	public void setTimestamp(long value) {
-		this.value = new Timestamp(value);
-		this.type = AttributeType.TIMESTAMP;
+		setRawValue(new Timestamp(value));
+		setRawType(AttributeType.TIMESTAMP);
 		this.assigned = true;
 	}
 
@@ -1506,16 +1749,16 @@ public class AttributeValueImpl implements AttributeValue {
 
 	@Override
 	public void setPoint3D(Point3D value) {
-		this.value = value;
-		this.type = AttributeType.POINT3D;
-		this.assigned = this.value != null;
+		setRawValue(value);
+		setRawType(AttributeType.POINT3D);
+		this.assigned = !isNullValue();
 	}
 
 	@Override
 	public void setPoint3D(float x, float y, float z) {
 		//FIXME: Fix code: new Point3f(x, y, z);
-		this.value = null;
-		this.type = AttributeType.POINT3D;
+		setRawValue(null);
+		setRawType(AttributeType.POINT3D);
 		this.assigned = true;
 	}
 
@@ -1548,35 +1791,35 @@ public class AttributeValueImpl implements AttributeValue {
 			assertAssignedAndNotNull();
 			switch (this.type) {
 			case COLOR:
-				final Color col = (Color) this.value;
+				final Color col = (Color) boxedValue();
 				return new Point2d(col.getRed(), col.getGreen());
 			case REAL:
-				final Double flt = (Double) this.value;
+				final Double flt = (Double) boxedValue();
 				return new Point2d(flt.floatValue(), 0f);
 			case INTEGER:
-				final Long lg = (Long) this.value;
+				final Long lg = (Long) boxedValue();
 				return new Point2d(lg.floatValue(), 0f);
 			case TIMESTAMP:
-				final Timestamp ts = (Timestamp) this.value;
+				final Timestamp ts = (Timestamp) boxedValue();
 				return new Point2d(ts.floatValue(), 0f);
 			case DATE:
-				final Date dt = (Date) this.value;
+				final Date dt = (Date) boxedValue();
 				return new Point2d(dt.getTime(), 0f);
 			case POINT:
-				return new Point2d(((Point2D<?, ?>) this.value).getX(),
-						((Point2D<?, ?>) this.value).getY());
+				return new Point2d(((Point2D<?, ?>) boxedValue()).getX(),
+						((Point2D<?, ?>) boxedValue()).getY());
 			case POINT3D:
-				final Point3D pt3 = (Point3D) this.value;
+				final Point3D pt3 = (Point3D) boxedValue();
 				return new Point2d(pt3.getX(), pt3.getY());
 			case STRING:
-				return parsePoint((String) this.value, false);
+				return parsePoint((String) boxedValue(), false);
 			case OBJECT:
-				if (this.value instanceof Tuple3D<?>) {
-					final Tuple3D<?> t3 = (Tuple3D<?>) this.value;
+				if (boxedValue() instanceof Tuple3D<?>) {
+					final Tuple3D<?> t3 = (Tuple3D<?>) boxedValue();
 					return new Point2d(t3.getX(), t3.getY());
 				}
-				if (this.value instanceof Tuple2D<?>) {
-					final Tuple2D<?> t2 = (Tuple2D<?>) this.value;
+				if (boxedValue() instanceof Tuple2D<?>) {
+					final Tuple2D<?> t2 = (Tuple2D<?>) boxedValue();
 					return new Point2d(t2.getX(), t2.getY());
 				}
 				break;
@@ -1602,15 +1845,15 @@ public class AttributeValueImpl implements AttributeValue {
 
 	@Override
 	public void setPoint(Point2D<?, ?> value) {
-		this.value = value;
-		this.type = AttributeType.POINT;
-		this.assigned = this.value != null;
+		setRawValue(value);
+		setRawType(AttributeType.POINT);
+		this.assigned = !isNullValue();
 	}
 
 	@Override
 	public void setPoint(float x, float y) {
-		this.value = new Point2d(x, y);
-		this.type = AttributeType.POINT;
+		setRawValue(new Point2d(x, y));
+		setRawType(AttributeType.POINT);
 		this.assigned = true;
 	}
 
@@ -1652,40 +1895,40 @@ public class AttributeValueImpl implements AttributeValue {
 			assertAssignedAndNotNull();
 			switch (this.type) {
 			case COLOR:
-				final Color col = (Color) this.value;
+				final Color col = (Color) boxedValue();
 				return VectorToolkit.color(col.getRed(), col.getGreen(), col.getBlue(), col.getAlpha());
 			case POINT:
-				final Point2D<?, ?> pt2 = (Point2D<?, ?>) this.value;
+				final Point2D<?, ?> pt2 = (Point2D<?, ?>) boxedValue();
 				return VectorToolkit.color((float) pt2.getX(), (float) pt2.getY(), 0f, 1f);
 			case POINT3D:
-				final Point3D pt3 = (Point3D) this.value;
+				final Point3D pt3 = (Point3D) boxedValue();
 				return VectorToolkit.color((float) pt3.getX(), (float) pt3.getY(), (float) pt3.getZ(), 1f);
 			case STRING:
-				final Color color = parseColor((String) this.value, false);
+				final Color color = parseColor((String) boxedValue(), false);
 				if (color != null) {
 					return color;
 				}
 				break;
 			case INTEGER:
-				return VectorToolkit.color(((Long) this.value).intValue());
+				return VectorToolkit.color((int) storedLong());
 			case TIMESTAMP:
-				return VectorToolkit.color(((Timestamp) this.value).intValue());
+				return VectorToolkit.color(((Timestamp) boxedValue()).intValue());
 			case REAL:
-				return VectorToolkit.color(((Double) this.value).intValue());
+				return VectorToolkit.color((int) storedDouble());
 			case DATE:
-				return VectorToolkit.color((int) ((Date) this.value).getTime());
+				return VectorToolkit.color((int) ((Date) boxedValue()).getTime());
 			case OBJECT:
-				if (this.value instanceof Color) {
-					return (Color) this.value;
+				if (boxedValue() instanceof Color) {
+					return (Color) boxedValue();
 				}
-				if (this.value instanceof Number) {
-					return VectorToolkit.color(((Number) this.value).intValue());
+				if (boxedValue() instanceof Number) {
+					return VectorToolkit.color(((Number) boxedValue()).intValue());
 				}
-				if (this.value instanceof Date) {
-					return VectorToolkit.color((int) ((Date) this.value).getTime());
+				if (boxedValue() instanceof Date) {
+					return VectorToolkit.color((int) ((Date) boxedValue()).getTime());
 				}
-				if (this.value instanceof Calendar) {
-					return VectorToolkit.color((int) ((Calendar) this.value).getTimeInMillis());
+				if (boxedValue() instanceof Calendar) {
+					return VectorToolkit.color((int) ((Calendar) boxedValue()).getTimeInMillis());
 				}
 				break;
 			case BOOLEAN:
@@ -1710,37 +1953,37 @@ public class AttributeValueImpl implements AttributeValue {
 
 	@Override
 	public void setColor(Color color) {
-		this.value = color;
-		this.type = AttributeType.COLOR;
-		this.assigned = this.value != null;
+		setRawValue(color);
+		setRawType(AttributeType.COLOR);
+		this.assigned = !isNullValue();
 	}
 
 	@Override
 	public void setColor(float red, float green, float blue) {
-		this.value = VectorToolkit.color(red, green, blue, 1f);
-		this.type = AttributeType.COLOR;
+		setRawValue(VectorToolkit.color(red, green, blue, 1f));
+		setRawType(AttributeType.COLOR);
 		this.assigned = true;
 	}
 
 	@Override
 	public void setColor(float red, float green, float blue, float alpha) {
-		this.value = VectorToolkit.color(red, green, blue, alpha);
-		this.type = AttributeType.COLOR;
+		setRawValue(VectorToolkit.color(red, green, blue, alpha));
+		setRawType(AttributeType.COLOR);
 		this.assigned = true;
 	}
 
 	@Override
 	@SuppressWarnings("checkstyle:magicnumber")
 	public void setColor(int red, int green, int blue) {
-		this.value = VectorToolkit.color(red, green, blue, 255);
-		this.type = AttributeType.COLOR;
+		setRawValue(VectorToolkit.color(red, green, blue, 255));
+		setRawType(AttributeType.COLOR);
 		this.assigned = true;
 	}
 
 	@Override
 	public void setColor(int red, int green, int blue, int alpha) {
-		this.value = VectorToolkit.color(red, green, blue, alpha);
-		this.type = AttributeType.COLOR;
+		setRawValue(VectorToolkit.color(red, green, blue, alpha));
+		setRawType(AttributeType.COLOR);
 		this.assigned = true;
 	}
 
@@ -1770,10 +2013,10 @@ public class AttributeValueImpl implements AttributeValue {
 			assertAssignedAndNotNull();
 			switch (this.type) {
 			case UUID:
-				final UUID id = (UUID) this.value;
+				final UUID id = (UUID) boxedValue();
 				return new UUID(id.getMostSignificantBits(), id.getLeastSignificantBits());
 			case URI:
-				final URI uri = (URI) this.value;
+				final URI uri = (URI) boxedValue();
 				if ("uuid".equalsIgnoreCase(uri.getScheme())) { //$NON-NLS-1$
 					try {
 						return UUID.fromString(uri.getHost());
@@ -1785,13 +2028,13 @@ public class AttributeValueImpl implements AttributeValue {
 				}
 				break;
 			case OBJECT:
-				if (this.value instanceof UUID) {
-					return (UUID) this.value;
+				if (boxedValue() instanceof UUID) {
+					return (UUID) boxedValue();
 				}
-				if (this.value instanceof URI
-						&& "uuid".equalsIgnoreCase(((URI) this.value).getScheme())) { //$NON-NLS-1$
+				if (boxedValue() instanceof URI
+						&& "uuid".equalsIgnoreCase(((URI) boxedValue()).getScheme())) { //$NON-NLS-1$
 					try {
-						return UUID.fromString(((URI) this.value).getHost());
+						return UUID.fromString(((URI) boxedValue()).getHost());
 					} catch (AssertionError e) {
 						throw e;
 					} catch (Throwable exception) {
@@ -1823,10 +2066,10 @@ public class AttributeValueImpl implements AttributeValue {
 		} catch (NumberFormatException exception) {
 			//
 		}
-		if (this.value == null) {
+		if (isNullValue()) {
 			return (UUID) AttributeType.UUID.getDefaultValue();
 		}
-		final String s = this.value.toString();
+		final String s = boxedValue().toString();
 		if (s == null || "".equals(s)) { //$NON-NLS-1$
 			return (UUID) AttributeType.UUID.getDefaultValue();
 		}
@@ -1849,21 +2092,21 @@ public class AttributeValueImpl implements AttributeValue {
 			assertAssignedAndNotNull();
 			switch (this.type) {
 			case URL:
-				return new URL(((URL) this.value).toExternalForm());
+				return new URL(((URL) boxedValue()).toExternalForm());
 			case URI:
-				return ((URI) this.value).toURL();
+				return ((URI) boxedValue()).toURL();
 			case STRING:
-				return new URL((String) this.value);
+				return new URL((String) boxedValue());
 			case OBJECT:
-				if (this.value instanceof URL) {
-					return (URL) this.value;
+				if (boxedValue() instanceof URL) {
+					return (URL) boxedValue();
 				}
-				if (this.value instanceof URI) {
-					return ((URI) this.value).toURL();
+				if (boxedValue() instanceof URI) {
+					return ((URI) boxedValue()).toURL();
 				}
 				break;
 			case INET_ADDRESS:
-				return new URL(DEFAULT_SCHEME.name(), ((InetAddress) this.value).getHostAddress(), ""); //$NON-NLS-1$
+				return new URL(DEFAULT_SCHEME.name(), ((InetAddress) boxedValue()).getHostAddress(), ""); //$NON-NLS-1$
 			case UUID:
 			case BOOLEAN:
 			case COLOR:
@@ -1885,10 +2128,10 @@ public class AttributeValueImpl implements AttributeValue {
 		} catch (MalformedURLException exception) {
 			//
 		}
-		if (this.value == null) {
+		if (isNullValue()) {
 			return (URL) AttributeType.URL.getDefaultValue();
 		}
-		final String s = this.value.toString();
+		final String s = boxedValue().toString();
 		if (s == null) {
 			return (URL) AttributeType.URL.getDefaultValue();
 		}
@@ -1920,26 +2163,26 @@ public class AttributeValueImpl implements AttributeValue {
 			assertAssignedAndNotNull();
 			switch (this.type) {
 			case URL:
-				return ((URL) this.value).toURI();
+				return ((URL) boxedValue()).toURI();
 			case URI:
-				return new URI(((URI) this.value).toASCIIString());
+				return new URI(((URI) boxedValue()).toASCIIString());
 			case STRING:
-				return new URI((String) this.value);
+				return new URI((String) boxedValue());
 			case UUID:
-				return new URI("uuid:" + ((UUID) this.value).toString()); //$NON-NLS-1$
+				return new URI("uuid:" + ((UUID) boxedValue()).toString()); //$NON-NLS-1$
 			case OBJECT:
-				if (this.value instanceof URI) {
-					return (URI) this.value;
+				if (boxedValue() instanceof URI) {
+					return (URI) boxedValue();
 				}
-				if (this.value instanceof URL) {
-					return ((URL) this.value).toURI();
+				if (boxedValue() instanceof URL) {
+					return ((URL) boxedValue()).toURI();
 				}
-				if (this.value instanceof UUID) {
-					return new URI("uuid:" + ((UUID) this.value).toString()); //$NON-NLS-1$
+				if (boxedValue() instanceof UUID) {
+					return new URI("uuid:" + ((UUID) boxedValue()).toString()); //$NON-NLS-1$
 				}
 				break;
 			case INET_ADDRESS:
-				return new URI(DEFAULT_SCHEME.name(), ((InetAddress) this.value).getHostAddress(), ""); //$NON-NLS-1$
+				return new URI(DEFAULT_SCHEME.name(), ((InetAddress) boxedValue()).getHostAddress(), ""); //$NON-NLS-1$
 			case BOOLEAN:
 			case COLOR:
 			case DATE:
@@ -1960,10 +2203,10 @@ public class AttributeValueImpl implements AttributeValue {
 		} catch (URISyntaxException exception) {
 			//
 		}
-		if (this.value == null) {
+		if (isNullValue()) {
 			return (URI) AttributeType.URI.getDefaultValue();
 		}
-		final String s = this.value.toString();
+		final String s = boxedValue().toString();
 		if (s == null) {
 			return (URI) AttributeType.URI.getDefaultValue();
 		}
@@ -1976,9 +2219,9 @@ public class AttributeValueImpl implements AttributeValue {
 
 	@Override
 	public void setUUID(UUID u) {
-		this.value = (u == null) ? AttributeType.UUID.getDefaultValue() : u;
-		this.type = AttributeType.UUID;
-		this.assigned = this.value != null;
+		setRawValue((u == null) ? AttributeType.UUID.getDefaultValue() : u);
+		setRawType(AttributeType.UUID);
+		this.assigned = !isNullValue();
 	}
 
 	/**
@@ -1988,20 +2231,20 @@ public class AttributeValueImpl implements AttributeValue {
 	 */
 	public void setUUID(String id) {
 		try {
-			this.value = (id != null) ? UUID.fromString(id) : null;
+			setRawValue((id != null) ? UUID.fromString(id) : null);
 		} catch (Throwable exception) {
 			assert id != null;
-			this.value = UUID.nameUUIDFromBytes(id.getBytes());
+			setRawValue(UUID.nameUUIDFromBytes(id.getBytes()));
 		}
-		this.type = AttributeType.UUID;
-		this.assigned = this.value != null;
+		setRawType(AttributeType.UUID);
+		this.assigned = !isNullValue();
 	}
 
 	@Override
 	public void setURL(URL u) {
-		this.value = (u == null) ? AttributeType.URL.getDefaultValue() : u;
-		this.type = AttributeType.URL;
-		this.assigned = this.value != null;
+		setRawValue((u == null) ? AttributeType.URL.getDefaultValue() : u);
+		setRawType(AttributeType.URL);
+		this.assigned = !isNullValue();
 	}
 
 	/**
@@ -2011,19 +2254,19 @@ public class AttributeValueImpl implements AttributeValue {
 	 */
 	public void setURL(String url) {
 		try {
-			this.value = (url != null) ? new URL(url) : null;
+			setRawValue((url != null) ? new URL(url) : null);
 		} catch (Throwable exception) {
-			this.value = null;
+			setRawValue(null);
 		}
-		this.type = AttributeType.URL;
-		this.assigned = this.value != null;
+		setRawType(AttributeType.URL);
+		this.assigned = !isNullValue();
 	}
 
 	@Override
 	public void setURI(URI u) {
-		this.value = (u == null) ? AttributeType.URI.getDefaultValue() : u;
-		this.type = AttributeType.URI;
-		this.assigned = this.value != null;
+		setRawValue((u == null) ? AttributeType.URI.getDefaultValue() : u);
+		setRawType(AttributeType.URI);
+		this.assigned = !isNullValue();
 	}
 
 	/**
@@ -2033,12 +2276,12 @@ public class AttributeValueImpl implements AttributeValue {
 	 */
 	public void setURI(String uri) {
 		try {
-			this.value = (uri != null) ? new URI(uri) : null;
+			setRawValue((uri != null) ? new URI(uri) : null);
 		} catch (Throwable exception) {
-			this.value = null;
+			setRawValue(null);
 		}
-		this.type = AttributeType.URI;
-		this.assigned = this.value != null;
+		setRawType(AttributeType.URI);
+		this.assigned = !isNullValue();
 	}
 
 	@Pure
@@ -2051,10 +2294,10 @@ public class AttributeValueImpl implements AttributeValue {
 			switch (this.type) {
 			case IMAGE:
 				assertAssignedAndNotNull();
-				return (Image) this.value;
+				return (Image) boxedValue();
 			case OBJECT:
-				if ((this.value == null) || (this.value instanceof Image)) {
-					return (Image) this.value;
+				if (isNullValue() || (boxedValue() instanceof Image)) {
+					return (Image) boxedValue();
 				}
 				break;
 			case BOOLEAN:
@@ -2084,8 +2327,8 @@ public class AttributeValueImpl implements AttributeValue {
 
 	@Override
 	public void setImage(Image image) {
-		this.value = image;
-		this.type = AttributeType.IMAGE;
+		setRawValue(image);
+		setRawType(AttributeType.IMAGE);
 		this.assigned = true;
 	}
 
@@ -2123,15 +2366,15 @@ public class AttributeValueImpl implements AttributeValue {
 			assertAssignedAndNotNull();
 			switch (this.type) {
 			case POINT:
-				final Point2D<?, ?> pt2 = (Point2D<?, ?>) this.value;
+				final Point2D<?, ?> pt2 = (Point2D<?, ?>) boxedValue();
 				//TODO: Fix code: new Point3fp(pt2.getX(), pt2.getY(), 0f)
 				return new Point3D[] {};
 			case POINT3D:
 				return new Point3D[] {
-						((Point3D) this.value).clone(),
+						((Point3D) boxedValue()).clone(),
 				};
 			case POLYLINE:
-				final Point2D<?, ?>[] current = (Point2D<?, ?>[]) this.value;
+				final Point2D<?, ?>[] current = (Point2D<?, ?>[]) boxedValue();
 				final Point3D[] tab = new Point3D[current.length];
 				for (int i = 0; i < current.length; ++i) {
 					//					TODO: Fix code tab[i] = new Point3f(
@@ -2141,28 +2384,28 @@ public class AttributeValueImpl implements AttributeValue {
 				}
 				return tab;
 			case POLYLINE3D:
-				return (Point3D[]) this.value;
+				return (Point3D[]) boxedValue();
 			case STRING:
-				return parsePolyline3D((String) this.value, false);
+				return parsePolyline3D((String) boxedValue(), false);
 			case OBJECT:
-				if (this.value instanceof Tuple2D<?>) {
-					final Tuple2D<?> t2 = (Tuple2D<?>) this.value;
+				if (boxedValue() instanceof Tuple2D<?>) {
+					final Tuple2D<?> t2 = (Tuple2D<?>) boxedValue();
 					// FIXME: Fixcode: new Point3f(t2.getX(), t2.getY(), 0)
 					return new Point3D[] {};
-				} else if (this.value instanceof Tuple3D<?>) {
-					final Tuple3D<?> t2 = (Tuple3D<?>) this.value;
+				} else if (boxedValue() instanceof Tuple3D<?>) {
+					final Tuple3D<?> t2 = (Tuple3D<?>) boxedValue();
 					// FIXME: Fixcode: new Point3f(t2.getX(), t2.getY(), t2.getZ())
 					return new Point3D[] {};
-				} else if (this.value.getClass().isArray()) {
-					final Class<?> elementType = this.value.getClass().getComponentType();
+				} else if (boxedValue().getClass().isArray()) {
+					final Class<?> elementType = boxedValue().getClass().getComponentType();
 					if (Point3D.class.equals(elementType)) {
-						return (Point3D[]) this.value;
+						return (Point3D[]) boxedValue();
 					}
-					final int size = Array.getLength(this.value);
+					final int size = Array.getLength(boxedValue());
 					if (Tuple3D.class.isAssignableFrom(elementType)) {
 						final Point3D[] pa3 = new Point3D[size];
 						for (int i = 0; i < pa3.length; ++i) {
-							final Tuple3D<?> t = (Tuple3D<?>) Array.get(this.value, i);
+							final Tuple3D<?> t = (Tuple3D<?>) Array.get(boxedValue(), i);
 							// FIXME: Fixcode: new Point3f(t);
 							pa3[i] = null;
 						}
@@ -2171,7 +2414,7 @@ public class AttributeValueImpl implements AttributeValue {
 					if (Tuple2D.class.isAssignableFrom(elementType)) {
 						final Point3D[] pa3 = new Point3D[size];
 						for (int i = 0; i < pa3.length; ++i) {
-							final Tuple2D<?> t = (Tuple2D<?>) Array.get(this.value, i);
+							final Tuple2D<?> t = (Tuple2D<?>) Array.get(boxedValue(), i);
 							// FIXME: Fixcode: new Point3f(t.getX(), t.getY(), 0);
 							pa3[i] = null;
 						}
@@ -2204,55 +2447,55 @@ public class AttributeValueImpl implements AttributeValue {
 
 	@Override
 	public void setPolyline3D(Point3D... value) {
-		this.value = value;
-		this.type = AttributeType.POLYLINE3D;
-		this.assigned = this.value != null;
+		setRawValue(value);
+		setRawType(AttributeType.POLYLINE3D);
+		this.assigned = !isNullValue();
 	}
 
 	@Override
 	public void setPolyline3D(Collection<? extends Point3D> value) {
 		if (value == null) {
-			this.value = null;
+			setRawValue(null);
 		} else {
 			final Point3D[] tab = new Point3D[value.size()];
 			value.toArray(tab);
-			this.value = tab;
+			setRawValue(tab);
 		}
-		this.type = AttributeType.POLYLINE3D;
-		this.assigned = this.value != null;
+		setRawType(AttributeType.POLYLINE3D);
+		this.assigned = !isNullValue();
 	}
 
 	@Override
 	public void addToPolyline3D(Point3D... pts) {
 		final Point3D[] tab;
-		if (this.value instanceof Point3D[]) {
-			final int size = ((Point3D[]) this.value).length;
+		if (boxedValue() instanceof Point3D[]) {
+			final int size = ((Point3D[]) boxedValue()).length;
 			tab = new Point3D[size + pts.length];
-			System.arraycopy(this.value, 0, tab, 0, size);
+			System.arraycopy(boxedValue(), 0, tab, 0, size);
 			System.arraycopy(pts, 0, tab, size, pts.length);
 		} else {
 			tab = pts;
 		}
-		this.value = tab;
-		this.assigned = this.value != null;
-		this.type = AttributeType.POLYLINE3D;
+		setRawValue(tab);
+		this.assigned = !isNullValue();
+		setRawType(AttributeType.POLYLINE3D);
 	}
 
 	@Override
 	public void addToPolyline3D(Collection<? extends Point3D> pts) {
 		final Point3D[] tab;
-		if (this.value instanceof Point3D[]) {
-			final int size = ((Point3D[]) this.value).length;
+		if (boxedValue() instanceof Point3D[]) {
+			final int size = ((Point3D[]) boxedValue()).length;
 			tab = new Point3D[size + pts.size()];
-			System.arraycopy(this.value, 0, tab, 0, size);
+			System.arraycopy(boxedValue(), 0, tab, 0, size);
 			System.arraycopy(pts.toArray(), 0, tab, size, pts.size());
 		} else {
 			tab = new Point3D[pts.size()];
 			pts.toArray(tab);
 		}
-		this.value = tab;
-		this.assigned = this.value != null;
-		this.type = AttributeType.POLYLINE3D;
+		setRawValue(tab);
+		this.assigned = !isNullValue();
+		setRawType(AttributeType.POLYLINE3D);
 	}
 
 	private static Point2D<?, ?>[] parsePolyline(String text, boolean isStrict) {
@@ -2286,17 +2529,17 @@ public class AttributeValueImpl implements AttributeValue {
 			switch (this.type) {
 			case POINT:
 				return new Point2D[] {
-					new Point2d(((Point2D<?, ?>) this.value).getX(), ((Point2D<?, ?>) this.value).getY()),
+					new Point2d(((Point2D<?, ?>) boxedValue()).getX(), ((Point2D<?, ?>) boxedValue()).getY()),
 				};
 			case POINT3D:
-				final Point3D pt3 = (Point3D) this.value;
+				final Point3D pt3 = (Point3D) boxedValue();
 				return new Point2D[] {
 					new Point2d(pt3.getX(), pt3.getY()),
 				};
 			case POLYLINE:
-				return (Point2D[]) this.value;
+				return (Point2D[]) boxedValue();
 			case POLYLINE3D:
-				final Point3D[] current = (Point3D[]) this.value;
+				final Point3D[] current = (Point3D[]) boxedValue();
 				final Point2D<?, ?>[] tab = new Point2D<?, ?>[current.length];
 				for (int i = 0; i < current.length; ++i) {
 					tab[i] = new Point2d(
@@ -2305,27 +2548,27 @@ public class AttributeValueImpl implements AttributeValue {
 				}
 				return tab;
 			case STRING:
-				return parsePolyline((String) this.value, false);
+				return parsePolyline((String) boxedValue(), false);
 			case OBJECT:
-				if (this.value instanceof Tuple2D) {
+				if (boxedValue() instanceof Tuple2D) {
 					return new Point2D[] {
-						new Point2d(((Tuple2D<?>) this.value).getX(), ((Tuple2D<?>) this.value).getY()),
+						new Point2d(((Tuple2D<?>) boxedValue()).getX(), ((Tuple2D<?>) boxedValue()).getY()),
 					};
-				} else if (this.value instanceof Tuple3D) {
-					final Tuple3D<?> t3 = (Tuple3D<?>) this.value;
+				} else if (boxedValue() instanceof Tuple3D) {
+					final Tuple3D<?> t3 = (Tuple3D<?>) boxedValue();
 					return new Point2D[] {
 						new Point2d(t3.getX(), t3.getY()),
 					};
-				} else if (this.value instanceof Point2D[]) {
-					return (Point2D[]) this.value;
-				} else if (this.value instanceof Tuple2D[]) {
-					final Tuple2D<?>[] ta2 = (Tuple2D[]) this.value;
+				} else if (boxedValue() instanceof Point2D[]) {
+					return (Point2D[]) boxedValue();
+				} else if (boxedValue() instanceof Tuple2D[]) {
+					final Tuple2D<?>[] ta2 = (Tuple2D[]) boxedValue();
 					final Point2D<?, ?>[] pa2 = new Point2D[ta2.length];
 					for (int i = 0; i < pa2.length; ++i) {
 						pa2[i] = new Point2d(ta2[i]);
 					}
-				} else if (this.value instanceof Tuple3D[]) {
-					final Tuple3D<?>[] ta3 = (Tuple3D[]) this.value;
+				} else if (boxedValue() instanceof Tuple3D[]) {
+					final Tuple3D<?>[] ta3 = (Tuple3D[]) boxedValue();
 					final Point2D<?, ?>[] pa2 = new Point2D<?, ?>[ta3.length];
 					for (int i = 0; i < pa2.length; ++i) {
 						pa2[i] = new Point2d(ta3[i].getX(), ta3[i].getY());
@@ -2357,56 +2600,56 @@ public class AttributeValueImpl implements AttributeValue {
 
 	@Override
 	public void setPolyline(Point2D<?, ?>... value) {
-		this.value = value;
-		this.type = AttributeType.POLYLINE;
-		this.assigned = this.value != null;
+		setRawValue(value);
+		setRawType(AttributeType.POLYLINE);
+		this.assigned = !isNullValue();
 	}
 
 	@Override
 	public void setPolyline(Collection<? extends Point2D<?, ?>> value) {
 		if (value == null) {
-			this.value = null;
+			setRawValue(null);
 		} else {
 			final Point2D<?, ?>[] tab = new Point2D<?, ?>[value.size()];
 			value.toArray(tab);
-			this.value = tab;
+			setRawValue(tab);
 		}
-		this.value = value;
-		this.type = AttributeType.POLYLINE;
-		this.assigned = this.value != null;
+		setRawValue(value);
+		setRawType(AttributeType.POLYLINE);
+		this.assigned = !isNullValue();
 	}
 
 	@Override
 	public void addToPolyline(Point2D<?, ?>... pts) {
 		final Point2D<?, ?>[] tab;
-		if (this.value instanceof Point2D[]) {
-			final int size = ((Point2D<?, ?>[]) this.value).length;
+		if (boxedValue() instanceof Point2D[]) {
+			final int size = ((Point2D<?, ?>[]) boxedValue()).length;
 			tab = new Point2D[size + pts.length];
-			System.arraycopy(this.value, 0, tab, 0, size);
-			System.arraycopy(this.value, 0, tab, size, pts.length);
+			System.arraycopy(boxedValue(), 0, tab, 0, size);
+			System.arraycopy(boxedValue(), 0, tab, size, pts.length);
 		} else {
 			tab = pts;
 		}
-		this.value = tab;
-		this.assigned = this.value != null;
-		this.type = AttributeType.POLYLINE;
+		setRawValue(tab);
+		this.assigned = !isNullValue();
+		setRawType(AttributeType.POLYLINE);
 	}
 
 	@Override
 	public void addToPolyline(Collection<? extends Point2D<?, ?>> pts) {
 		final Point2D<?, ?>[] tab;
-		if (this.value instanceof Point2D[]) {
-			final int size = ((Point2D<?, ?>[]) this.value).length;
+		if (boxedValue() instanceof Point2D[]) {
+			final int size = ((Point2D<?, ?>[]) boxedValue()).length;
 			tab = new Point2D[size + pts.size()];
-			System.arraycopy(this.value, 0, tab, 0, size);
-			System.arraycopy(this.value, 0, tab, size, pts.size());
+			System.arraycopy(boxedValue(), 0, tab, 0, size);
+			System.arraycopy(boxedValue(), 0, tab, size, pts.size());
 		} else {
 			tab = new Point2D[pts.size()];
 			pts.toArray(tab);
 		}
-		this.value = tab;
-		this.assigned = this.value != null;
-		this.type = AttributeType.POLYLINE;
+		setRawValue(tab);
+		this.assigned = !isNullValue();
+		setRawType(AttributeType.POLYLINE);
 	}
 
 	@Pure
@@ -2418,10 +2661,10 @@ public class AttributeValueImpl implements AttributeValue {
 			assertAssignedAndNotNull();
 			switch (this.type) {
 			case INET_ADDRESS:
-				return (InetAddress) this.value;
+				return (InetAddress) boxedValue();
 			case STRING:
 				try {
-					final InetAddress adr = InetAddress.getByName(this.value.toString());
+					final InetAddress adr = InetAddress.getByName(boxedValue().toString());
 					if (adr != null) {
 						return adr;
 					}
@@ -2430,16 +2673,16 @@ public class AttributeValueImpl implements AttributeValue {
 				}
 				break;
 			case OBJECT:
-				if (this.value instanceof InetAddress) {
-					return (InetAddress) this.value;
+				if (boxedValue() instanceof InetAddress) {
+					return (InetAddress) boxedValue();
 				}
-				if (this.value instanceof InetSocketAddress) {
-					return ((InetSocketAddress) this.value).getAddress();
+				if (boxedValue() instanceof InetSocketAddress) {
+					return ((InetSocketAddress) boxedValue()).getAddress();
 				}
-				if (this.value != null) {
+				if (!isNullValue()) {
 					final InetAddress adr;
 					try {
-						adr = InetAddress.getByName(this.value.toString());
+						adr = InetAddress.getByName(boxedValue().toString());
 						if (adr != null) {
 							return adr;
 						}
@@ -2451,10 +2694,10 @@ public class AttributeValueImpl implements AttributeValue {
 				}
 				break;
 			case URI:
-				final URI uri = (URI) this.value;
+				final URI uri = (URI) boxedValue();
 				return InetAddress.getByName(uri.getHost());
 			case URL:
-				final URL url = (URL) this.value;
+				final URL url = (URL) boxedValue();
 				return InetAddress.getByName(url.getHost());
 			case COLOR:
 			case POINT:
@@ -2484,9 +2727,9 @@ public class AttributeValueImpl implements AttributeValue {
 
 	@Override
 	public void setInetAddress(InetAddress address) {
-		this.value = address;
-		this.type = AttributeType.INET_ADDRESS;
-		this.assigned = this.value != null;
+		setRawValue(address);
+		setRawType(AttributeType.INET_ADDRESS);
+		this.assigned = !isNullValue();
 	}
 
 	/**
@@ -2495,9 +2738,9 @@ public class AttributeValueImpl implements AttributeValue {
 	 * @param address the address.
 	 */
 	public void setInetAddress(InetSocketAddress address) {
-		this.value = address.getAddress();
-		this.type = AttributeType.INET_ADDRESS;
-		this.assigned = this.value != null;
+		setRawValue(address.getAddress());
+		setRawType(AttributeType.INET_ADDRESS);
+		this.assigned = !isNullValue();
 	}
 
 	/**
@@ -2506,32 +2749,32 @@ public class AttributeValueImpl implements AttributeValue {
 	 * @param hostname the hostname
 	 */
 	public void setInetAddress(String hostname) {
-		this.type = AttributeType.INET_ADDRESS;
+		setRawType(AttributeType.INET_ADDRESS);
 		try {
-			this.value = InetAddress.getByName(hostname);
+			setRawValue(InetAddress.getByName(hostname));
 		} catch (Throwable exception) {
-			this.value = null;
+			setRawValue(null);
 		}
-		this.assigned = this.value != null;
+		this.assigned = !isNullValue();
 	}
 
 	@Pure
 	@Override
 	@SuppressWarnings({"unchecked", "rawtypes", "checkstyle:cyclomaticcomplexity"})
 	public Enum<?> getEnumeration() throws InvalidAttributeTypeException, AttributeNotInitializedException {
-		if (this.value == null) {
+		if (isNullValue()) {
 			return null;
 		}
 		try {
 			assertAssignedAndNotNull();
 			switch (this.type) {
 			case ENUMERATION:
-				return (Enum<?>) this.value;
+				return (Enum<?>) boxedValue();
 			case STRING:
-				final int index = ((String) this.value).lastIndexOf('.');
+				final int index = ((String) boxedValue()).lastIndexOf('.');
 				if (index >= 0) {
-					final String classname = ((String) this.value).substring(0, index);
-					final String enumName = ((String) this.value).substring(index + 1);
+					final String classname = ((String) boxedValue()).substring(0, index);
+					final String enumName = ((String) boxedValue()).substring(index + 1);
 					final Class classType = Class.forName(classname);
 					if (Enum.class.isAssignableFrom(classType)) {
 						return Enum.valueOf(classType, enumName);
@@ -2539,8 +2782,8 @@ public class AttributeValueImpl implements AttributeValue {
 				}
 				break;
 			case OBJECT:
-				if (this.value instanceof Enum<?>) {
-					return (Enum<?>) this.value;
+				if (boxedValue() instanceof Enum<?>) {
+					return (Enum<?>) boxedValue();
 				}
 				break;
 			case REAL:
@@ -2573,27 +2816,27 @@ public class AttributeValueImpl implements AttributeValue {
 	@SuppressWarnings("checkstyle:cyclomaticcomplexity")
 	public <T extends Enum<T>> T getEnumeration(Class<T> type) throws InvalidAttributeTypeException,
 			AttributeNotInitializedException {
-		if (this.value == null) {
+		if (isNullValue()) {
 			return null;
 		}
 		try {
 			assertAssignedAndNotNull();
 			switch (this.type) {
 			case ENUMERATION:
-				return type.cast(this.value);
+				return type.cast(boxedValue());
 			case STRING:
-				final int index = ((String) this.value).lastIndexOf('.');
+				final int index = ((String) boxedValue()).lastIndexOf('.');
 				if (index >= 0) {
-					final String classname = ((String) this.value).substring(0, index);
-					final String enumName = ((String) this.value).substring(index + 1);
+					final String classname = ((String) boxedValue()).substring(0, index);
+					final String enumName = ((String) boxedValue()).substring(index + 1);
 					final Class<?> classType = Class.forName(classname);
 					assert type.equals(classType);
 					return Enum.valueOf(type, enumName);
 				}
 				break;
 			case OBJECT:
-				if (this.value instanceof Enum<?>) {
-					return type.cast(this.value);
+				if (boxedValue() instanceof Enum<?>) {
+					return type.cast(boxedValue());
 				}
 				break;
 			case REAL:
@@ -2623,9 +2866,9 @@ public class AttributeValueImpl implements AttributeValue {
 
 	@Override
 	public void setEnumeration(Enum<?> enumConstant) {
-		this.value = enumConstant;
-		this.type = AttributeType.ENUMERATION;
-		this.assigned = this.value != null;
+		setRawValue(enumConstant);
+		setRawType(AttributeType.ENUMERATION);
+		this.assigned = !isNullValue();
 	}
 
 	@Pure
@@ -2637,9 +2880,9 @@ public class AttributeValueImpl implements AttributeValue {
 			switch (this.type) {
 			case TYPE:
 			case OBJECT:
-				return (Class<?>) this.value;
+				return (Class<?>) boxedValue();
 			case STRING:
-				return Class.forName((String) this.value);
+				return Class.forName((String) boxedValue());
 			case ENUMERATION:
 			case REAL:
 			case INTEGER:
@@ -2666,9 +2909,9 @@ public class AttributeValueImpl implements AttributeValue {
 
 	@Override
 	public void setJavaClass(Class<?> type) {
-		this.value = type;
-		this.type = AttributeType.TYPE;
-		this.assigned = this.value != null;
+		setRawValue(type);
+		setRawType(AttributeType.TYPE);
+		this.assigned = !isNullValue();
 	}
 
 	@Pure
@@ -2679,7 +2922,7 @@ public class AttributeValueImpl implements AttributeValue {
 
 	@Override
 	public void uninitializeValue() {
-		this.value = null;
+		setRawValue(null);
 		this.assigned = false;
 	}
 
@@ -2694,4 +2937,54 @@ public class AttributeValueImpl implements AttributeValue {
 		return new AttributeValueComparator();
 	}
 
+	/** String that was parsed as an integer, and its value.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private static final class ParsedLong {
+
+		final String text;
+
+		final long value;
+
+		/**
+		 * @param text the parsed string.
+		 * @param value the value of the string.
+		 */
+		ParsedLong(String text, long value) {
+			this.text = text;
+			this.value = value;
+		}
+
+	}
+
+	/** String that was parsed as a real, and its value.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private static final class ParsedDouble {
+
+		final String text;
+
+		final double value;
+
+		/**
+		 * @param text the parsed string.
+		 * @param value the value of the string.
+		 */
+		ParsedDouble(String text, double value) {
+			this.text = text;
+			this.value = value;
+		}
+
+	}
+
 }
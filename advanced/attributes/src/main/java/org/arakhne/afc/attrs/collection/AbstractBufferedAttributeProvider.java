@@ -33,7 +33,8 @@ import org.arakhne.afc.attrs.attr.AttributeImpl;
 import org.arakhne.afc.attrs.attr.AttributeType;
 import org.arakhne.afc.attrs.attr.AttributeValue;
 import org.arakhne.afc.attrs.attr.AttributeValueImpl;
-import org.arakhne.afc.references.SoftValueTreeMap;
+import org.arakhne.afc.references.BoundedCache;
+import org.arakhne.afc.references.BoundedCache.EvictionPolicy;
 
 /**
  * This class implements an abstract attribute container that use
@@ -48,7 +49,7 @@ public abstract class AbstractBufferedAttributeProvider extends AbstractAttribut
 
 	private static final long serialVersionUID = -4231000555346674004L;
 
-	private transient Map<String, AttributeValue> cache = new SoftValueTreeMap<>();
+	private transient Map<String, AttributeValue> cache;
 
 	/** Make a deep copy of this object and replies the copy.
 	 *
@@ -57,10 +58,36 @@ public abstract class AbstractBufferedAttributeProvider extends AbstractAttribut
 	@Override
 	public AbstractBufferedAttributeProvider clone() {
 		final AbstractBufferedAttributeProvider clone = (AbstractBufferedAttributeProvider) super.clone();
-		clone.cache = new SoftValueTreeMap<>(this.cache);
+		clone.cache = null;
+		if (this.cache != null) {
+			clone.getCache().putAll(this.cache);
+		}
 		return clone;
 	}
 
+	/** Create the memory cache of the attribute values.
+	 *
+	 * <p>By default, the cache keeps the {@link BoundedCache#DEFAULT_MAXIMUM_SIZE} most recently
+	 * used values, and the evicted values are kept with soft references.
+	 *
+	 * @return the cache.
+	 */
+	@SuppressWarnings("static-method")
+	protected Map<String, AttributeValue> createCache() {
+		return new BoundedCache<>(BoundedCache.DEFAULT_MAXIMUM_SIZE, EvictionPolicy.LRU, true);
+	}
+
+	/** Replies the memory cache of the attribute values.
+	 *
+	 * @return the cache.
+	 */
+	protected Map<String, AttributeValue> getCache() {
+		if (this.cache == null) {
+			this.cache = createCache();
+		}
+		return this.cache;
+	}
+
 	/** Load a value from the data source.
 	 *
 	 * @param name is the name of the attribute to load
@@ -76,12 +103,13 @@ public abstract class AbstractBufferedAttributeProvider extends AbstractAttribut
 	/** Replies the value associated to the specified name.
 	 */
 	private AttributeValue extractValueFor(String name) throws AttributeException {
-		AttributeValue value = null;
-		if (this.cache.containsKey(name)) {
-			value = this.cache.get(name);
-		} else {
+		final Map<String, AttributeValue> cache = getCache();
+		AttributeValue value = cache.get(name);
+		if (value == null) {
 			value = loadValue(name);
-			this.cache.put(name, value);
+			if (value != null) {
+				cache.put(name, value);
+			}
 		}
 		return value;
 	}
@@ -169,7 +197,9 @@ public abstract class AbstractBufferedAttributeProvider extends AbstractAttribut
 
 	@Override
 	public void freeMemory() {
-		this.cache.clear();
+		if (this.cache != null) {
+			this.cache.clear();
+		}
 	}
 
 }
@@ -0,0 +1,388 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.attrs.collection;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.attrs.attr.AttributeName;
+
+/**
+ * Map with case-insensitive attribute names as keys.
+ *
+ * <p>The names are {@link AttributeName#intern(String) interned} when they are put, and stored in an
+ * open-addressing hash table with linear probing, so that the lookups do not compare
+ * the names character by character. The name that is stored in the map is the name
+ * given when the entry was added. The queries and the removals do not intern the names
+ * they are given, see {@link AttributeName#probe(String)}.
+ *
+ * <p>The iterators reply the entries sorted by names, as
+ * {@link AttributeNameStringComparator} does. The sorted order is computed
+ * when an iterator is created after the keys were changed.
+ *
+ * <p>This map does not accept <code>null</code> keys. It is not thread-safe.
+ *
+ * @param <V> the type of the values.
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+public class AttributeHashMap<V> extends AbstractMap<String, V> implements Serializable {
+
+	private static final long serialVersionUID = -4530178364419290371L;
+
+	private static final int DEFAULT_CAPACITY = 8;
+
+	private static final int LOAD_NUMERATOR = 3;
+
+	private static final int LOAD_DENOMINATOR = 4;
+
+	private AttributeName[] keys;
+
+	private Object[] values;
+
+	private int size;
+
+	private transient AttributeName[] sortedKeys;
+
+	private transient Set<Entry<String, V>> entrySet;
+
+	/** Construct an empty map.
+	 */
+	public AttributeHashMap() {
+		this.keys = new AttributeName[DEFAULT_CAPACITY];
+		this.values = new Object[DEFAULT_CAPACITY];
+	}
+
+	/** Construct a map with the content of the given map.
+	 *
+	 * @param map the map to copy.
+	 */
+	public AttributeHashMap(Map<String, ? extends V> map) {
+		this();
+		putAll(map);
+	}
+
+	/** Replies the index of the given name in the table.
+	 *
+	 * @param name the name.
+	 * @return the index, or {@code -1} if the name is not in the table.
+	 */
+	private int indexOf(AttributeName name) {
+		final AttributeName[] table = this.keys;
+		final int mask = table.length - 1;
+		int index = name.hashCode() & mask;
+		AttributeName candidate = table[index];
+		while (candidate != null) {
+			if (candidate == name || candidate.equals(name)) {
+				return index;
+			}
+			index = (index + 1) & mask;
+			candidate = table[index];
+		}
+		return -1;
+	}
+
+	private int indexOf(Object key) {
+		if (key instanceof String) {
+			return indexOf(AttributeName.probe((String) key));
+		}
+		if (key instanceof AttributeName) {
+			return indexOf((AttributeName) key);
+		}
+		return -1;
+	}
+
+	/** Insert the given name in the table, that does not contain it.
+	 */
+	private static void insert(AttributeName[] keys, Object[] values, AttributeName name, Object value) {
+		final int mask = keys.length - 1;
+		int index = name.hashCode() & mask;
+		while (keys[index] != null) {
+			index = (index + 1) & mask;
+		}
+		keys[index] = name;
+		values[index] = value;
+	}
+
+	private void resize(int capacity) {
+		final AttributeName[] newKeys = new AttributeName[capacity];
+		final Object[] newValues = new Object[capacity];
+		for (int i = 0; i < this.keys.length; ++i) {
+			final AttributeName name = this.keys[i];
+			if (name != null) {
+				insert(newKeys, newValues, name, this.values[i]);
+			}
+		}
+		this.keys = newKeys;
+		this.values = newValues;
+	}
+
+	@Pure
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Pure
+	@Override
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	@Pure
+	@Override
+	public boolean containsKey(Object key) {
+		return indexOf(key) >= 0;
+	}
+
+	@Pure
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		final int index = indexOf(key);
+		return index >= 0 ? (V) this.values[index] : null;
+	}
+
+	@Override
+	public V put(String key, V value) {
+		return put(AttributeName.intern(key), value);
+	}
+
+	/** Put a value in the map.
+	 *
+	 * @param name the name of the attribute.
+	 * @param value the value.
+	 * @return the previous value, or <code>null</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(AttributeName name, V value) {
+		final int index = indexOf(name);
+		if (index >= 0) {
+			final V old = (V) this.values[index];
+			this.values[index] = value;
+			return old;
+		}
+		if ((this.size + 1) * LOAD_DENOMINATOR > this.keys.length * LOAD_NUMERATOR) {
+			resize(this.keys.length * 2);
+		}
+		insert(this.keys, this.values, name, value);
+		++this.size;
+		this.sortedKeys = null;
+		return null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		final int index = indexOf(key);
+		if (index >= 0) {
+			final V old = (V) this.values[index];
+			removeAt(index);
+			return old;
+		}
+		return null;
+	}
+
+	/** Remove the entry at the given index, and move back the entries of the same probe sequence.
+	 */
+	private void removeAt(int index) {
+		final AttributeName[] table = this.keys;
+		final int mask = table.length - 1;
+		int hole = index;
+		int current = index;
+		while (true) {
+			current = (current + 1) & mask;
+			final AttributeName name = table[current];
+			if (name == null) {
+				break;
+			}
+			final int home = name.hashCode() & mask;
+			// Move the entry if its home slot is not cyclically in ]hole; current]
+			final boolean inRange = hole <= current ? hole < home && home <= current
+					: hole < home || home <= current;
+			if (!inRange) {
+				table[hole] = name;
+				this.values[hole] = this.values[current];
+				hole = current;
+			}
+		}
+		table[hole] = null;
+		this.values[hole] = null;
+		--this.size;
+		this.sortedKeys = null;
+	}
+
+	@Override
+	public void clear() {
+		if (this.size > 0) {
+			Arrays.fill(this.keys, null);
+			Arrays.fill(this.values, null);
+			this.size = 0;
+			this.sortedKeys = null;
+		}
+	}
+
+	/** Replies the names of the entries, sorted.
+	 */
+	private AttributeName[] getSortedKeys() {
+		AttributeName[] sorted = this.sortedKeys;
+		if (sorted == null) {
+			sorted = new AttributeName[this.size];
+			int i = 0;
+			for (final AttributeName name : this.keys) {
+				if (name != null) {
+					sorted[i] = name;
+					++i;
+				}
+			}
+			Arrays.sort(sorted);
+			this.sortedKeys = sorted;
+		}
+		return sorted;
+	}
+
+	@Pure
+	@Override
+	public Set<Entry<String, V>> entrySet() {
+		if (this.entrySet == null) {
+			this.entrySet = new EntrySet();
+		}
+		return this.entrySet;
+	}
+
+	/** Set of the entries, sorted by names.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private class EntrySet extends AbstractSet<Entry<String, V>> {
+
+		EntrySet() {
+			//
+		}
+
+		@Override
+		public Iterator<Entry<String, V>> iterator() {
+			return new EntryIterator(getSortedKeys());
+		}
+
+		@Override
+		public int size() {
+			return AttributeHashMap.this.size();
+		}
+
+		@Override
+		public void clear() {
+			AttributeHashMap.this.clear();
+		}
+
+	}
+
+	/** Iterator on the entries, sorted by names.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private class EntryIterator implements Iterator<Entry<String, V>> {
+
+		private final AttributeName[] names;
+
+		private int next;
+
+		private int nextIndex = -1;
+
+		private AttributeName last;
+
+		EntryIterator(AttributeName[] names) {
+			this.names = names;
+			searchNext();
+		}
+
+		/** Skip the names that were removed from the map.
+		 */
+		private void searchNext() {
+			this.nextIndex = -1;
+			while (this.nextIndex < 0 && this.next < this.names.length) {
+				this.nextIndex = indexOf(this.names[this.next]);
+				++this.next;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.nextIndex >= 0;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Entry<String, V> next() {
+			if (this.nextIndex < 0) {
+				throw new NoSuchElementException();
+			}
+			final AttributeName name = AttributeHashMap.this.keys[this.nextIndex];
+			final V value = (V) AttributeHashMap.this.values[this.nextIndex];
+			this.last = name;
+			searchNext();
+			return new SimpleEntry<String, V>(name.getName(), value) {
+
+				private static final long serialVersionUID = 6183398254154437154L;
+
+				@Override
+				public V setValue(V newValue) {
+					AttributeHashMap.this.put(name, newValue);
+					return super.setValue(newValue);
+				}
+
+			};
+		}
+
+		@Override
+		public void remove() {
+			if (this.last == null) {
+				throw new IllegalStateException();
+			}
+			AttributeHashMap.this.remove(this.last);
+			this.last = null;
+			// The table may have been reorganized
+			--this.next;
+			searchNext();
+		}
+
+	}
+
+}
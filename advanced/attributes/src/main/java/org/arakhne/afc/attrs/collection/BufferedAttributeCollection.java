@@ -39,7 +39,8 @@ import org.arakhne.afc.attrs.attr.AttributeImpl;
 import org.arakhne.afc.attrs.attr.AttributeType;
 import org.arakhne.afc.attrs.attr.AttributeValue;
 import org.arakhne.afc.attrs.attr.AttributeValueImpl;
-import org.arakhne.afc.references.SoftValueTreeMap;
+import org.arakhne.afc.references.BoundedCache;
+import org.arakhne.afc.references.BoundedCache.EvictionPolicy;
 import org.arakhne.afc.ui.vector.Color;
 import org.arakhne.afc.ui.vector.Image;
 
@@ -58,7 +59,7 @@ public abstract class BufferedAttributeCollection extends AbstractAttributeColle
 
 	private static final long serialVersionUID = 1865614675044905721L;
 
-	private transient Map<String, AttributeValue> cache = new SoftValueTreeMap<>();
+	private transient Map<String, AttributeValue> cache;
 
 	/** Make a deep copy of this object and replies the copy.
 	 *
@@ -68,10 +69,33 @@ public abstract class BufferedAttributeCollection extends AbstractAttributeColle
 	@Override
 	public BufferedAttributeCollection clone() {
 		final BufferedAttributeCollection clone = (BufferedAttributeCollection) super.clone();
-		this.cache = new SoftValueTreeMap<>();
+		clone.cache = null;
 		return clone;
 	}
 
+	/** Create the memory cache of the attribute values.
+	 *
+	 * <p>By default, the cache keeps the {@link BoundedCache#DEFAULT_MAXIMUM_SIZE} most recently
+	 * used values, and the evicted values are kept with soft references.
+	 *
+	 * @return the cache.
+	 */
+	@SuppressWarnings("static-method")
+	protected Map<String, AttributeValue> createCache() {
+		return new BoundedCache<>(BoundedCache.DEFAULT_MAXIMUM_SIZE, EvictionPolicy.LRU, true);
+	}
+
+	/** Replies the memory cache of the attribute values.
+	 *
+	 * @return the cache.
+	 */
+	protected Map<String, AttributeValue> getCache() {
+		if (this.cache == null) {
+			this.cache = createCache();
+		}
+		return this.cache;
+	}
+
 	/** Load a value from the data source.
 	 *
 	 * @param name is the name of the attribute to load
@@ -111,12 +135,13 @@ public abstract class BufferedAttributeCollection extends AbstractAttributeColle
 	 * @throws AttributeException on error.
 	 */
 	private AttributeValue extractValueFor(String name) throws AttributeException {
-		AttributeValue value = null;
-		if (this.cache.containsKey(name)) {
-			value = this.cache.get(name);
-		} else {
+		final Map<String, AttributeValue> cache = getCache();
+		AttributeValue value = cache.get(name);
+		if (value == null) {
 			value = loadValue(name);
-			this.cache.put(name, value);
+			if (value != null) {
+				cache.put(name, value);
+			}
 		}
 		return value;
 	}
@@ -202,7 +227,9 @@ public abstract class BufferedAttributeCollection extends AbstractAttributeColle
 
 	@Override
 	public void freeMemory() {
-		this.cache.clear();
+		if (this.cache != null) {
+			this.cache.clear();
+		}
 	}
 
 	/** Set the attribute value.
@@ -241,7 +268,7 @@ public abstract class BufferedAttributeCollection extends AbstractAttributeColle
 
 		saveValue(name, attr);
 
-		this.cache.put(name, attr);
+		getCache().put(name, attr);
 
 		if (oldValue != null) {
 			fireAttributeChangedEvent(name, oldValue, attr);
@@ -269,7 +296,7 @@ public abstract class BufferedAttributeCollection extends AbstractAttributeColle
 		final Attribute attr = new AttributeImpl(name, oldValue.getValue());
 		attr.cast(type);
 
-		this.cache.put(name, attr);
+		getCache().put(name, attr);
 
 		fireAttributeChangedEvent(name, oldValue, attr);
 
@@ -445,7 +472,7 @@ public abstract class BufferedAttributeCollection extends AbstractAttributeColle
 		try {
 			if (hasAttribute(name)) {
 				final AttributeValue currentValue = extractValueFor(name);
-				this.cache.remove(name);
+				getCache().remove(name);
 				removeValue(name);
 				fireAttributeRemovedEvent(name, currentValue);
 				return true;
@@ -460,7 +487,7 @@ public abstract class BufferedAttributeCollection extends AbstractAttributeColle
 	public boolean removeAllAttributes() {
 		try {
 			if (getAttributeCount() > 0) {
-				this.cache.clear();
+				getCache().clear();
 				if (removeAllValues()) {
 					fireAttributeClearedEvent();
 					return true;
@@ -504,12 +531,12 @@ public abstract class BufferedAttributeCollection extends AbstractAttributeColle
 			final AttributeValue oldValueCopyForNewName = new AttributeValueImpl(oldValueForNewName);
 
 			removeValue(oldname);
-			this.cache.remove(oldname);
+			getCache().remove(oldname);
 			if (valueForOldName instanceof Attribute) {
 				((Attribute) valueForOldName).setName(newname);
 			}
 			saveValue(newname, valueForOldName);
-			this.cache.put(newname, valueForOldName);
+			getCache().put(newname, valueForOldName);
 
 			if (oldValueForNewName != null) {
 				fireAttributeRemovedEvent(newname, oldValueCopyForNewName);
@@ -61,7 +61,7 @@ public class HeapAttributeCollection extends AbstractAttributeCollection {
 
 	private static final long serialVersionUID = 4362736589775617590L;
 
-	private Map<String, Object> heap = new TreeMap<>(new AttributeNameStringComparator());
+	private Map<String, Object> heap = new AttributeHashMap<>();
 
 	/** Make a deep copy of this object and replies the copy.
 	 *
@@ -71,8 +71,7 @@ public class HeapAttributeCollection extends AbstractAttributeCollection {
 	@Override
 	public HeapAttributeCollection clone() {
 		final HeapAttributeCollection clone = (HeapAttributeCollection) super.clone();
-		clone.heap = new TreeMap<>(new AttributeNameStringComparator());
-		clone.heap.putAll(this.heap);
+		clone.heap = new AttributeHashMap<>(this.heap);
 		return clone;
 	}
 
@@ -89,6 +89,17 @@ public class MultiAttributeCollection extends MultiAttributeProvider implements
 
 	private boolean isEventFirable = true;
 
+	/** {@inheritDoc}
+	 *
+	 * <p>The index of the owners is updated from the events of the containers, and
+	 * from the changes made through this collection.
+	 */
+	@Pure
+	@Override
+	boolean isOwnerIndexMaintained() {
+		return true;
+	}
+
 	@Pure
 	@Override
 	public synchronized boolean isEventFirable() {
@@ -189,7 +200,7 @@ public class MultiAttributeCollection extends MultiAttributeProvider implements
 			}
 			if (changed) {
 				this.cache.clear();
-				this.names = null;
+				this.owners = null;
 				fireAttributeChange(new AttributeChangeEvent(this, Type.REMOVE_ALL, null, null, null, null));
 			}
 			return changed;
@@ -206,19 +217,14 @@ public class MultiAttributeCollection extends MultiAttributeProvider implements
 			final ManyValueAttributeValue oldValue = new ManyValueAttributeValue();
 			for (final AttributeProvider c : containers()) {
 				assign(oldValue, c.getAttribute(name));
-				if (c instanceof AttributeCollection) {
-					changed = ((AttributeCollection) c).removeAttribute(name) | changed;
+				if (c instanceof AttributeCollection && ((AttributeCollection) c).removeAttribute(name)) {
+					removeOwner(name, c);
+					changed = true;
 				}
 			}
 			if (changed) {
 				final AttributeValue value = canonize(oldValue);
 				this.cache.remove(name);
-				if (this.names != null) {
-					this.names.remove(name);
-					if (this.names.isEmpty()) {
-						this.names = null;
-					}
-				}
 				fireAttributeChange(new AttributeChangeEvent(this, Type.REMOVAL, name, value, null, null));
 			}
 			return changed;
@@ -235,18 +241,16 @@ public class MultiAttributeCollection extends MultiAttributeProvider implements
 			final ManyValueAttributeValue currentValue = new ManyValueAttributeValue();
 			for (final AttributeProvider c : containers()) {
 				assign(currentValue, c.getAttribute(oldname));
-				if (c instanceof AttributeCollection) {
-					changed = ((AttributeCollection) c).renameAttribute(oldname, newname) | changed;
+				if (c instanceof AttributeCollection && ((AttributeCollection) c).renameAttribute(oldname, newname)) {
+					removeOwner(oldname, c);
+					addOwner(newname, c);
+					changed = true;
 				}
 			}
 			if (changed) {
 				final AttributeValue cValue = canonize(currentValue);
 				this.cache.remove(oldname);
 				this.cache.remove(newname);
-				if (this.names != null) {
-					this.names.remove(oldname);
-					this.names.add(newname);
-				}
 				fireAttributeChange(new AttributeChangeEvent(this, Type.RENAME, oldname, cValue, newname, cValue));
 			}
 			return changed;
@@ -263,17 +267,17 @@ public class MultiAttributeCollection extends MultiAttributeProvider implements
 			final ManyValueAttributeValue currentValue = new ManyValueAttributeValue();
 			for (final AttributeProvider c : containers()) {
 				assign(currentValue, c.getAttribute(oldname));
-				if (c instanceof AttributeCollection) {
-					changed = ((AttributeCollection) c).renameAttribute(oldname, newname, overwrite) | changed;
+				if (c instanceof AttributeCollection
+						&& ((AttributeCollection) c).renameAttribute(oldname, newname, overwrite)) {
+					removeOwner(oldname, c);
+					addOwner(newname, c);
+					changed = true;
 				}
 			}
 			if (changed) {
 				final AttributeValue cValue = canonize(currentValue);
 				this.cache.remove(oldname);
-				if (this.names != null) {
-					this.names.remove(oldname);
-					this.names.add(newname);
-				}
+				this.cache.remove(newname);
 				fireAttributeChange(new AttributeChangeEvent(this, Type.RENAME, oldname, cValue, newname, cValue));
 			}
 			return changed;
@@ -346,6 +350,7 @@ public class MultiAttributeCollection extends MultiAttributeProvider implements
 					attr = ((AttributeCollection) c).setAttribute(name, value);
 					assign(newValue, attr);
 					if (attr != null) {
+						addOwner(name, c);
 						changed = true;
 					}
 				} else {
@@ -355,7 +360,11 @@ public class MultiAttributeCollection extends MultiAttributeProvider implements
 			if (changed) {
 				final AttributeValue oValue = canonize(oldValue);
 				final AttributeValue nValue = canonize(newValue);
-				this.cache.put(name, nValue);
+				if (nValue == null) {
+					this.cache.remove(name);
+				} else {
+					this.cache.put(name, nValue);
+				}
 				final AttributeChangeEvent event;
 				if (nValue == null) {
 					event = new AttributeChangeEvent(this, Type.REMOVAL, name, oValue, null, null);
@@ -560,7 +569,11 @@ public class MultiAttributeCollection extends MultiAttributeProvider implements
 			final AttributeValue cValue = canonize(attr);
 			if (changed) {
 				final AttributeValue oValue = canonize(oldValue);
-				this.cache.put(name, cValue);
+				if (cValue == null) {
+					this.cache.remove(name);
+				} else {
+					this.cache.put(name, cValue);
+				}
 				fireAttributeChange(new AttributeChangeEvent(this, Type.VALUE_UPDATE, name, oValue, name, cValue));
 			}
 			return new AttributeImpl(name, cValue);
@@ -588,15 +601,11 @@ public class MultiAttributeCollection extends MultiAttributeProvider implements
 				switch (event.getType()) {
 				case ADDITION:
 					MultiAttributeCollection.this.cache.remove(event.getName());
-					if (MultiAttributeCollection.this.names != null) {
-						MultiAttributeCollection.this.names.add(event.getName());
-					}
+					addOwner(event.getName(), (AttributeProvider) event.getSource());
 					break;
 				case REMOVAL:
 					MultiAttributeCollection.this.cache.remove(event.getOldName());
-					if (MultiAttributeCollection.this.names != null) {
-						MultiAttributeCollection.this.names.remove(event.getOldName());
-					}
+					removeOwner(event.getOldName(), (AttributeProvider) event.getSource());
 					break;
 				case REMOVE_ALL:
 					freeMemory();
@@ -604,10 +613,8 @@ public class MultiAttributeCollection extends MultiAttributeProvider implements
 				case RENAME:
 					MultiAttributeCollection.this.cache.remove(event.getOldName());
 					MultiAttributeCollection.this.cache.remove(event.getName());
-					if (MultiAttributeCollection.this.names != null) {
-						MultiAttributeCollection.this.names.remove(event.getOldName());
-						MultiAttributeCollection.this.names.remove(event.getName());
-					}
+					removeOwner(event.getOldName(), (AttributeProvider) event.getSource());
+					addOwner(event.getName(), (AttributeProvider) event.getSource());
 					break;
 				case VALUE_UPDATE:
 					MultiAttributeCollection.this.cache.remove(event.getName());
@@ -21,14 +21,13 @@
 package org.arakhne.afc.attrs.collection;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
 import java.util.TreeMap;
-import java.util.TreeSet;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
@@ -37,7 +36,8 @@ import org.arakhne.afc.attrs.attr.AttributeImpl;
 import org.arakhne.afc.attrs.attr.AttributeType;
 import org.arakhne.afc.attrs.attr.AttributeValue;
 import org.arakhne.afc.attrs.attr.AttributeValueImpl;
-import org.arakhne.afc.references.SoftValueTreeMap;
+import org.arakhne.afc.references.BoundedCache;
+import org.arakhne.afc.references.BoundedCache.EvictionPolicy;
 
 /**
  * This class contains a collection of attribute containers and
@@ -71,11 +71,12 @@ public class MultiAttributeProvider extends AbstractAttributeProvider {
 
 	/** Cache of the attribute values.
 	 */
-	transient Map<String, AttributeValue> cache = new SoftValueTreeMap<>();
+	transient Map<String, AttributeValue> cache = createCache();
 
-	/** Cache of the names of the attributes.
+	/** Index of the containers that define each attribute, or <code>null</code> if it
+	 * must be rebuilt.
 	 */
-	Set<String> names;
+	transient AttributeHashMap<AttributeProvider[]> owners;
 
 	private Collection<AttributeProvider> containers = new ArrayList<>();
 
@@ -86,23 +87,127 @@ public class MultiAttributeProvider extends AbstractAttributeProvider {
 		}
 	}
 
+	private static Map<String, AttributeValue> createCache() {
+		return new BoundedCache<>(BoundedCache.DEFAULT_MAXIMUM_SIZE, EvictionPolicy.LRU, true);
+	}
+
 	/** Replies the value associated to the specified name.
 	 */
 	private Attribute extract(String name) {
-		AttributeValue value = null;
-		if (this.cache.containsKey(name)) {
-			value = this.cache.get(name);
-		} else {
+		AttributeValue value = this.cache.get(name);
+		if (value == null) {
 			final ManyValueAttributeValue result = new ManyValueAttributeValue();
-			AttributeValue attrValue;
-			for (final AttributeProvider c : this.containers) {
-				attrValue = c.getAttribute(name);
-				assign(result, attrValue);
+			if (isOwnerIndexMaintained()) {
+				final AttributeProvider[] providers = getOwners().get(name);
+				if (providers == null) {
+					return null;
+				}
+				for (final AttributeProvider c : providers) {
+					assign(result, c.getAttribute(name));
+				}
+				if (providers.length < this.containers.size()) {
+					// The other containers have no value for the attribute
+					assign(result, null);
+				}
+			} else {
+				for (final AttributeProvider c : this.containers) {
+					assign(result, c.getAttribute(name));
+				}
 			}
 			value = canonize(result);
+			if (value == null) {
+				return null;
+			}
 			this.cache.put(name, value);
 		}
-		return (value != null) ? new AttributeImpl(name, value) : null;
+		return new AttributeImpl(name, value);
+	}
+
+	/** Replies if the index of the owners is updated when the attributes of the containers change.
+	 *
+	 * <p>If not, the index may be out of date, and the queries about a single attribute are
+	 * done on the containers.
+	 *
+	 * @return <code>true</code> if the index of the owners may be used for the queries
+	 *     about a single attribute.
+	 */
+	@Pure
+	boolean isOwnerIndexMaintained() {
+		return false;
+	}
+
+	/** Replies the index of the containers that define each attribute.
+	 *
+	 * @return the index.
+	 */
+	AttributeHashMap<AttributeProvider[]> getOwners() {
+		if (this.owners == null) {
+			final AttributeHashMap<AttributeProvider[]> index = new AttributeHashMap<>();
+			for (final AttributeProvider container : this.containers) {
+				for (final String name : container.getAllAttributeNames()) {
+					final AttributeProvider[] providers = index.get(name);
+					if (providers == null) {
+						index.put(name, new AttributeProvider[] {container});
+					} else {
+						final AttributeProvider[] newProviders = Arrays.copyOf(providers, providers.length + 1);
+						newProviders[providers.length] = container;
+						index.put(name, newProviders);
+					}
+				}
+			}
+			this.owners = index;
+		}
+		return this.owners;
+	}
+
+	/** Mark the given container as a definer of the given attribute in the index.
+	 *
+	 * @param name the name of the attribute.
+	 * @param container the container that defines the attribute.
+	 */
+	void addOwner(String name, AttributeProvider container) {
+		final AttributeHashMap<AttributeProvider[]> index = this.owners;
+		if (index != null) {
+			final AttributeProvider[] providers = index.get(name);
+			if (providers == null) {
+				index.put(name, new AttributeProvider[] {container});
+			} else if (!Arrays.asList(providers).contains(container)) {
+				// Keep the order of the containers
+				final AttributeProvider[] newProviders = new AttributeProvider[providers.length + 1];
+				int i = 0;
+				for (final AttributeProvider provider : this.containers) {
+					if (provider == container || Arrays.asList(providers).contains(provider)) {
+						newProviders[i] = provider;
+						++i;
+					}
+				}
+				index.put(name, newProviders);
+			}
+		}
+	}
+
+	/** Unmark the given container as a definer of the given attribute in the index.
+	 *
+	 * @param name the name of the attribute.
+	 * @param container the container that does not define the attribute anymore.
+	 */
+	void removeOwner(String name, AttributeProvider container) {
+		final AttributeHashMap<AttributeProvider[]> index = this.owners;
+		if (index != null) {
+			final AttributeProvider[] providers = index.get(name);
+			if (providers != null) {
+				if (providers.length == 1) {
+					if (providers[0] == container) {
+						index.remove(name);
+					}
+				} else {
+					final List<AttributeProvider> newProviders = new ArrayList<>(Arrays.asList(providers));
+					if (newProviders.remove(container)) {
+						index.put(name, newProviders.toArray(new AttributeProvider[newProviders.size()]));
+					}
+				}
+			}
+		}
 	}
 
 	/** Assign the value v2 to v1 and change v1 according
@@ -206,14 +311,13 @@ public class MultiAttributeProvider extends AbstractAttributeProvider {
 	@Override
 	public MultiAttributeProvider clone() {
 		final MultiAttributeProvider clone = (MultiAttributeProvider) super.clone();
-		clone.cache = new SoftValueTreeMap<>();
+		clone.cache = createCache();
 		for (final Entry<String, AttributeValue> e : this.cache.entrySet()) {
 			clone.cache.put(e.getKey(), new AttributeValueImpl(e.getValue()));
 		}
 		clone.containers = new ArrayList<>(this.containers);
-		if (this.names != null) {
-			clone.names = new TreeSet<>(new AttributeNameStringComparator());
-			clone.names.addAll(this.names);
+		if (this.owners != null) {
+			clone.owners = new AttributeHashMap<>(this.owners);
 		}
 		return clone;
 	}
@@ -221,10 +325,7 @@ public class MultiAttributeProvider extends AbstractAttributeProvider {
 	@Override
 	public void freeMemory() {
 		this.cache.clear();
-		if (this.names != null) {
-			this.names.clear();
-		}
-		this.names = null;
+		this.owners = null;
 	}
 
 	@Pure
@@ -283,20 +384,13 @@ public class MultiAttributeProvider extends AbstractAttributeProvider {
 	@Pure
 	@Override
 	public int getAttributeCount() {
-		return getAllAttributeNames().size();
+		return getOwners().size();
 	}
 
 	@Pure
 	@Override
 	public Collection<String> getAllAttributeNames() {
-		if (this.names == null) {
-			final Set<String> names = new TreeSet<>(new AttributeNameStringComparator());
-			for (final AttributeProvider c : this.containers) {
-				names.addAll(c.getAllAttributeNames());
-			}
-			this.names = names;
-		}
-		return Collections.unmodifiableSet(this.names);
+		return Collections.unmodifiableSet(getOwners().keySet());
 	}
 
 	@Pure
@@ -308,6 +402,9 @@ public class MultiAttributeProvider extends AbstractAttributeProvider {
 	@Pure
 	@Override
 	public boolean hasAttribute(String name) {
+		if (isOwnerIndexMaintained()) {
+			return getOwners().containsKey(name);
+		}
 		for (final AttributeProvider c : this.containers) {
 			if (c.hasAttribute(name)) {
 				return true;
@@ -0,0 +1,160 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.arakhne.afc.attrs.attr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.Test;
+
+import org.arakhne.afc.testtools.AbstractTestCase;
+
+@SuppressWarnings("all")
+public class AttributeValueImplTest extends AbstractTestCase {
+
+	private static AttributeValueImpl serializeAndDeserialize(AttributeValueImpl value) throws Exception {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(value);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			return (AttributeValueImpl) in.readObject();
+		}
+	}
+
+	@Test
+	public void primitiveInteger() throws AttributeException {
+		final AttributeValueImpl value = new AttributeValueImpl(1234567890123L);
+		assertEquals(AttributeType.INTEGER, value.getType());
+		assertTrue(value.isAssigned());
+		assertEquals(1234567890123L, value.getInteger());
+		assertEquals(1234567890123., value.getReal(), 0.);
+		assertEquals("1234567890123", value.getString());
+		assertEquals(Long.valueOf(1234567890123L), value.getValue());
+		// The getters do not store the boxed value
+		assertEquals(value.getValue(), value.getValue());
+		value.setInteger(-5);
+		assertEquals(-5L, value.getInteger());
+		assertEquals(Long.valueOf(-5), value.getValue());
+	}
+
+	@Test
+	public void primitiveReal() throws AttributeException {
+		final AttributeValueImpl value = new AttributeValueImpl(-0.);
+		assertEquals(AttributeType.REAL, value.getType());
+		assertEquals(Double.valueOf(-0.), value.getValue());
+		value.setReal(Double.NaN);
+		assertTrue(Double.isNaN(value.getReal()));
+		value.setReal(12.75);
+		assertEquals(12L, value.getInteger());
+		assertEquals(12.75, value.getReal(), 0.);
+		assertEquals(Double.valueOf(12.75), value.getValue());
+	}
+
+	@Test
+	public void primitiveBoolean() throws AttributeException {
+		final AttributeValueImpl value = new AttributeValueImpl(true);
+		assertEquals(AttributeType.BOOLEAN, value.getType());
+		assertTrue(value.getBoolean());
+		assertEquals(1L, value.getInteger());
+		assertEquals(Boolean.TRUE, value.getValue());
+		value.setBoolean(false);
+		assertFalse(value.getBoolean());
+		assertEquals(0., value.getReal(), 0.);
+	}
+
+	@Test
+	public void setType() throws AttributeException {
+		final AttributeValueImpl value = new AttributeValueImpl(42);
+		value.setType(AttributeType.REAL);
+		assertEquals(AttributeType.REAL, value.getType());
+		assertEquals(42., value.getReal(), 0.);
+		assertEquals(Double.valueOf(42.), value.getValue());
+		value.setType(AttributeType.STRING);
+		assertEquals("42.0", value.getString());
+		value.setType(AttributeType.REAL);
+		assertEquals(42., value.getReal(), 0.);
+		value.setType(AttributeType.INTEGER);
+		assertEquals(42L, value.getInteger());
+		assertEquals(Long.valueOf(42), value.getValue());
+	}
+
+	@Test
+	public void copy() throws AttributeException {
+		final AttributeValueImpl source = new AttributeValueImpl(12.5);
+		final AttributeValueImpl copy = new AttributeValueImpl(source);
+		assertEquals(AttributeType.REAL, copy.getType());
+		assertTrue(copy.isAssigned());
+		assertEquals(12.5, copy.getReal(), 0.);
+		source.setReal(3.);
+		assertEquals(12.5, copy.getReal(), 0.);
+		copy.setValue(new AttributeValueImpl(true));
+		assertEquals(AttributeType.BOOLEAN, copy.getType());
+		assertTrue(copy.getBoolean());
+	}
+
+	@Test
+	public void parseString() throws AttributeException {
+		final AttributeValueImpl value = new AttributeValueImpl("123");
+		assertEquals(123L, value.getInteger());
+		assertEquals(123L, value.getInteger());
+		assertEquals(123., value.getReal(), 0.);
+		value.setString("456");
+		assertEquals(456L, value.getInteger());
+		assertEquals(456., value.getReal(), 0.);
+	}
+
+	@Test
+	public void serialization() throws Exception {
+		final AttributeValueImpl integer = serializeAndDeserialize(new AttributeValueImpl(77));
+		assertEquals(AttributeType.INTEGER, integer.getType());
+		assertEquals(77L, integer.getInteger());
+		final AttributeValueImpl real = serializeAndDeserialize(new AttributeValueImpl(7.5));
+		assertEquals(7.5, real.getReal(), 0.);
+		final AttributeValueImpl bool = serializeAndDeserialize(new AttributeValueImpl(true));
+		assertTrue(bool.getBoolean());
+	}
+
+	@Test
+	public void compareValues() {
+		final AttributeValueImpl primitive1 = new AttributeValueImpl(3);
+		final AttributeValueImpl primitive2 = new AttributeValueImpl(2.5);
+		final AttributeValueImpl boxed1 = new AttributeValueImpl(AttributeType.INTEGER, Long.valueOf(3));
+		final AttributeValueImpl boxed2 = new AttributeValueImpl(AttributeType.REAL, Double.valueOf(2.5));
+		assertEquals(
+				Integer.signum(AttributeValueImpl.compareValues(boxed1, boxed2)),
+				Integer.signum(AttributeValueImpl.compareValues(primitive1, primitive2)));
+		assertEquals(
+				Integer.signum(AttributeValueImpl.compareValues(boxed2, boxed1)),
+				Integer.signum(AttributeValueImpl.compareValues(primitive2, primitive1)));
+		assertEquals(0, AttributeValueImpl.compareValues(primitive1, boxed1));
+		assertStrictlyNegative(AttributeValueImpl.compareValues(
+				new AttributeValueImpl(false), new AttributeValueImpl(true)));
+	}
+
+}
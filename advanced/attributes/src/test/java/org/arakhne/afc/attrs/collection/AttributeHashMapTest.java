@@ -0,0 +1,142 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.attrs.collection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import org.arakhne.afc.attrs.attr.AttributeName;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+@SuppressWarnings("all")
+public class AttributeHashMapTest {
+
+	@Test
+	public void intern() {
+		final AttributeName name = AttributeName.intern("Name");
+		assertSame(name, AttributeName.intern(new String("Name")));
+		assertEquals(name, AttributeName.intern("NAME"));
+		assertEquals(name.hashCode(), AttributeName.intern("nAmE").hashCode());
+		assertEquals("Name", name.getName());
+		assertEquals("name", name.getKey());
+		assertFalse(name.equals(AttributeName.intern("Names")));
+	}
+
+	@Test
+	public void probe() {
+		final AttributeName name = AttributeName.intern("Probed");
+		assertSame(name, AttributeName.probe("Probed"));
+		assertEquals(name, AttributeName.probe("PROBED"));
+		assertEquals(name.hashCode(), AttributeName.probe("pRoBeD").hashCode());
+		final AttributeName absent = AttributeName.probe("NeverInterned");
+		assertEquals("neverinterned", absent.getKey());
+		assertNotSame(absent, AttributeName.probe("NeverInterned"));
+	}
+
+	@Test
+	public void caseInsensitiveKeys() {
+		final AttributeHashMap<Integer> map = new AttributeHashMap<>();
+		assertNull(map.put("Abc", 1));
+		assertEquals(Integer.valueOf(1), map.put("ABC", 2));
+		assertEquals(1, map.size());
+		assertTrue(map.containsKey("abc"));
+		assertEquals(Integer.valueOf(2), map.get("aBc"));
+		assertEquals("Abc", map.keySet().iterator().next());
+		assertEquals(Integer.valueOf(2), map.remove("abC"));
+		assertTrue(map.isEmpty());
+		assertFalse(map.containsKey(null));
+	}
+
+	@Test
+	public void randomOperations() {
+		final Random random = new Random(2016);
+		final AttributeHashMap<Integer> map = new AttributeHashMap<>();
+		final TreeMap<String, Integer> reference = new TreeMap<>(new AttributeNameStringComparator());
+		for (int i = 0; i < 20000; ++i) {
+			final String name = (random.nextBoolean() ? "attr" : "ATTR") + random.nextInt(300);
+			final Integer value = random.nextInt();
+			switch (random.nextInt(3)) {
+			case 0:
+				assertEquals(reference.remove(name), map.remove(name));
+				break;
+			case 1:
+				assertEquals(reference.get(name), map.get(name));
+				break;
+			default:
+				assertEquals(reference.put(name, value), map.put(name, value));
+				break;
+			}
+			assertEquals(reference.size(), map.size());
+		}
+		assertEquals(new ArrayList<>(reference.entrySet()), new ArrayList<>(map.entrySet()));
+	}
+
+	@Test
+	public void iteratorRemoveAndSetValue() {
+		final AttributeHashMap<Integer> map = new AttributeHashMap<>();
+		for (int i = 0; i < 100; ++i) {
+			map.put("name" + i, i);
+		}
+		final Iterator<Entry<String, Integer>> iterator = map.entrySet().iterator();
+		final List<String> visited = new ArrayList<>();
+		while (iterator.hasNext()) {
+			final Entry<String, Integer> entry = iterator.next();
+			visited.add(entry.getKey());
+			if (entry.getValue() % 2 == 0) {
+				iterator.remove();
+			} else {
+				entry.setValue(-entry.getValue());
+			}
+		}
+		assertEquals(100, visited.size());
+		assertEquals(50, map.size());
+		for (int i = 0; i < 100; ++i) {
+			if (i % 2 == 0) {
+				assertFalse(map.containsKey("NAME" + i));
+			} else {
+				assertEquals(Integer.valueOf(-i), map.get("NAME" + i));
+			}
+		}
+		final List<String> sorted = new ArrayList<>(visited);
+		sorted.sort(new AttributeNameStringComparator());
+		assertEquals(sorted, visited);
+	}
+
+}
@@ -139,6 +139,19 @@ public class MultiAttributeProviderTest extends AbstractTestCase {
 		assertFalse(this.container.hasAttribute("Z4")); 
 	}
 
+	@Test
+	public void testHasAttributeStringAfterContainerChange() {
+		assertFalse(this.container.hasAttribute("F"));
+		assertEquals(8, this.container.getAttributeCount());
+		this.subcontainer1.setAttribute("F", 1);
+		assertTrue(this.container.hasAttribute("F"));
+		assertNotNull(this.container.getAttribute("F"));
+		this.subcontainer1.removeAttribute("A");
+		this.subcontainer2.removeAttribute("A");
+		this.subcontainer3.removeAttribute("A");
+		assertFalse(this.container.hasAttribute("A"));
+	}
+
 	@Test
 	public void testGetAttributeString() {
 		assertUninitialized(AttributeType.BOOLEAN,
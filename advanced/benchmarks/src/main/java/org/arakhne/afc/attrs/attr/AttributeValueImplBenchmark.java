@@ -0,0 +1,158 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.arakhne.afc.attrs.attr;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the numeric accessors and of the comparator of {@link AttributeValueImpl}
+ * when the values are stored in primitive fields, compared to the same operations on
+ * values that are stored as boxed objects. Run with {@code -prof gc} to compare
+ * the allocation rates.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings({"checkstyle:visibilitymodifier", "checkstyle:magicnumber"})
+public class AttributeValueImplBenchmark {
+
+	/** Number of attribute values.
+	 */
+	@Param({"1024", "65536"})
+	public int size;
+
+	private AttributeValueImpl[] primitiveValues;
+
+	private AttributeValueImpl[] boxedValues;
+
+	private AttributeValueImpl[] stringValues;
+
+	private AttributeValueComparator comparator;
+
+	/** Create the attribute values.
+	 */
+	@Setup
+	public void setUp() {
+		this.primitiveValues = new AttributeValueImpl[this.size];
+		this.boxedValues = new AttributeValueImpl[this.size];
+		this.stringValues = new AttributeValueImpl[this.size];
+		for (int i = 0; i < this.size; ++i) {
+			// Pseudo-random permutation of the values
+			final long value = (i * 7919L) % this.size + 1000;
+			this.primitiveValues[i] = new AttributeValueImpl(value);
+			this.boxedValues[i] = new AttributeValueImpl(AttributeType.INTEGER, Long.valueOf(value));
+			this.stringValues[i] = new AttributeValueImpl(Long.toString(value));
+		}
+		this.comparator = new AttributeValueComparator();
+	}
+
+	/** Set and get the values with the primitive setters.
+	 *
+	 * @return the sum of the values.
+	 * @throws AttributeException if a value cannot be read.
+	 */
+	@Benchmark
+	public double setGetPrimitive() throws AttributeException {
+		double sum = 0;
+		for (int i = 0; i < this.size; ++i) {
+			final AttributeValueImpl value = this.primitiveValues[i];
+			value.setInteger(i + 1000);
+			sum += value.getReal();
+		}
+		return sum;
+	}
+
+	/** Set and get the values with boxed objects.
+	 *
+	 * @return the sum of the values.
+	 * @throws AttributeException if a value cannot be read.
+	 */
+	@Benchmark
+	public double setGetBoxed() throws AttributeException {
+		double sum = 0;
+		for (int i = 0; i < this.size; ++i) {
+			final AttributeValueImpl value = this.boxedValues[i];
+			value.setValue((Object) Long.valueOf(i + 1000));
+			sum += value.getReal();
+		}
+		return sum;
+	}
+
+	/** Read the integer values that are stored as strings.
+	 *
+	 * @return the sum of the values.
+	 * @throws AttributeException if a value cannot be read.
+	 */
+	@Benchmark
+	public long getIntegerFromString() throws AttributeException {
+		long sum = 0;
+		for (final AttributeValueImpl value : this.stringValues) {
+			sum += value.getInteger();
+		}
+		return sum;
+	}
+
+	/** Sort the values that are stored in primitive fields.
+	 *
+	 * @return the smallest value.
+	 */
+	@Benchmark
+	public AttributeValue sortPrimitive() {
+		final AttributeValue[] values = Arrays.copyOf(this.primitiveValues, this.size, AttributeValue[].class);
+		Arrays.sort(values, this.comparator);
+		return values[0];
+	}
+
+	/** Sort the values that are stored as boxed objects.
+	 *
+	 * @return the smallest value.
+	 */
+	@Benchmark
+	public AttributeValue sortBoxed() {
+		final AttributeValue[] values = Arrays.copyOf(this.boxedValues, this.size, AttributeValue[].class);
+		Arrays.sort(values, this.comparator);
+		return values[0];
+	}
+
+}
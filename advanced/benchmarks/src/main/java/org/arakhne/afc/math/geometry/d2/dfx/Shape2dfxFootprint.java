@@ -0,0 +1,142 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.dfx;
+
+import java.io.PrintStream;
+import java.util.function.IntFunction;
+
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+
+/**
+ * Measure of the retained heap size of the JavaFX shapes.
+ *
+ * <p>For each type of shape, {@value #SIZE} instances are created, either with their primitive fields only, or
+ * with all their properties created, as they were before the properties were lazily created. The retained size
+ * of the whole object graph is measured with JOL, and divided by the number of instances. The objects that are
+ * shared by the instances, e.g. the names of the properties, are counted once. The size of the array
+ * that contains the instances is not counted.
+ * <pre><code>java -cp benchmarks.jar org.arakhne.afc.math.geometry.d2.dfx.Shape2dfxFootprint</code></pre>
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+@SuppressWarnings("checkstyle:magicnumber")
+public final class Shape2dfxFootprint {
+
+	/** Number of shapes that are created for each measure.
+	 */
+	public static final int SIZE = 10000;
+
+	private Shape2dfxFootprint() {
+		//
+	}
+
+	/** Measure the retained size per instance of the shapes created by the given factory.
+	 *
+	 * @param factory the shape factory, which takes the index of the shape.
+	 * @return the average retained size of a shape, in bytes.
+	 */
+	public static double retainedSize(IntFunction<Object> factory) {
+		final Object[] shapes = new Object[SIZE];
+		for (int i = 0; i < SIZE; ++i) {
+			shapes[i] = factory.apply(i);
+		}
+		final long total = GraphLayout.parseInstance((Object) shapes).totalSize() - VM.current().sizeOf(shapes);
+		return (double) total / SIZE;
+	}
+
+	private static void print(PrintStream out, String name, IntFunction<Object> fieldsOnly,
+			IntFunction<Object> withProperties) {
+		out.println(String.format("%-22s %10.1f %10.1f", name, //$NON-NLS-1$
+				retainedSize(fieldsOnly), retainedSize(withProperties)));
+	}
+
+	/** Print the retained sizes per instance, without and with properties.
+	 *
+	 * @param args no argument.
+	 */
+	public static void main(String[] args) {
+		final PrintStream out = System.out;
+		out.println(VM.current().details());
+		out.println(String.format("%-22s %10s %10s", //$NON-NLS-1$
+				"shape", "fields", "properties")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		print(out, "Rectangle2dfx", //$NON-NLS-1$
+			(i) -> new Rectangle2dfx(i, i, 10, 20),
+			(i) -> {
+				final Rectangle2dfx shape = new Rectangle2dfx(i, i, 10, 20);
+				shape.minXProperty();
+				shape.minYProperty();
+				shape.maxXProperty();
+				shape.maxYProperty();
+				shape.widthProperty();
+				shape.heightProperty();
+				return shape;
+			});
+		print(out, "Ellipse2dfx", //$NON-NLS-1$
+			(i) -> new Ellipse2dfx(i, i, 10, 20),
+			(i) -> {
+				final Ellipse2dfx shape = new Ellipse2dfx(i, i, 10, 20);
+				shape.minXProperty();
+				shape.minYProperty();
+				shape.maxXProperty();
+				shape.maxYProperty();
+				shape.widthProperty();
+				shape.heightProperty();
+				return shape;
+			});
+		print(out, "Circle2dfx", //$NON-NLS-1$
+			(i) -> new Circle2dfx(i, i, 5),
+			(i) -> {
+				final Circle2dfx shape = new Circle2dfx(i, i, 5);
+				shape.xProperty();
+				shape.yProperty();
+				shape.radiusProperty();
+				return shape;
+			});
+		print(out, "Segment2dfx", //$NON-NLS-1$
+			(i) -> new Segment2dfx(i, i, i + 1, i + 2),
+			(i) -> {
+				final Segment2dfx shape = new Segment2dfx(i, i, i + 1, i + 2);
+				shape.x1Property();
+				shape.y1Property();
+				shape.x2Property();
+				shape.y2Property();
+				return shape;
+			});
+		print(out, "OrientedRectangle2dfx", //$NON-NLS-1$
+			(i) -> new OrientedRectangle2dfx(i, i, 1, 0, 3, 4),
+			(i) -> {
+				final OrientedRectangle2dfx shape = new OrientedRectangle2dfx(i, i, 1, 0, 3, 4);
+				shape.centerXProperty();
+				shape.centerYProperty();
+				shape.firstAxisProperty();
+				shape.secondAxisProperty();
+				shape.firstAxisExtentProperty();
+				shape.secondAxisExtentProperty();
+				return shape;
+			});
+	}
+
+}
@@ -62,6 +62,22 @@ public abstract class AbstractRectangularShape2dfx<IT extends AbstractRectangula
 	 */
 	DoubleProperty maxY;
 
+	/** Minimum x coordinate when the {@link #minX} property is not created.
+	 */
+	double minXValue;
+
+	/** Minimum y coordinate when the {@link #minY} property is not created.
+	 */
+	double minYValue;
+
+	/** Maximum x coordinate when the {@link #maxX} property is not created.
+	 */
+	double maxXValue;
+
+	/** Maximum y coordinate when the {@link #maxY} property is not created.
+	 */
+	double maxYValue;
+
 	/** width property.
 	 */
 	DoubleProperty width;
@@ -87,54 +103,55 @@ public abstract class AbstractRectangularShape2dfx<IT extends AbstractRectangula
 	@Override
 	public IT clone() {
 		final IT clone = super.clone();
-		if (clone.minX != null) {
-			clone.minX = null;
-			clone.minXProperty().set(getMinX());
-		}
-		if (clone.minY != null) {
-			clone.minY = null;
-			clone.minYProperty().set(getMinY());
-		}
-		if (clone.maxX != null) {
-			clone.maxX = null;
-			clone.maxXProperty().set(getMaxX());
-		}
-		if (clone.maxY != null) {
-			clone.maxY = null;
-			clone.maxYProperty().set(getMaxY());
-		}
+		clone.minXValue = getMinX();
+		clone.minX = null;
+		clone.minYValue = getMinY();
+		clone.minY = null;
+		clone.maxXValue = getMaxX();
+		clone.maxX = null;
+		clone.maxYValue = getMaxY();
+		clone.maxY = null;
 		clone.width = null;
 		clone.height = null;
+		clone.boundingBox = null;
 		return clone;
 	}
 
 	@Override
 	public void setFromCorners(double x1, double y1, double x2, double y2) {
 		if (x1 <= x2) {
-			minXProperty().set(x1);
-			maxXProperty().set(x2);
+			setMinX(x1);
+			setMaxX(x2);
 		} else {
-			minXProperty().set(x2);
-			maxXProperty().set(x1);
+			setMinX(x2);
+			setMaxX(x1);
 		}
 		if (y1 <= y2) {
-			minYProperty().set(y1);
-			maxYProperty().set(y2);
+			setMinY(y1);
+			setMaxY(y2);
 		} else {
-			minYProperty().set(y2);
-			maxYProperty().set(y1);
+			setMinY(y2);
+			setMaxY(y1);
 		}
 	}
 
 	@Pure
 	@Override
 	public double getMinX() {
-		return this.minX == null ? 0 : this.minX.get();
+		return this.minX == null ? this.minXValue : this.minX.get();
 	}
 
 	@Override
 	public void setMinX(double x) {
-		minXProperty().set(x);
+		if (this.minX != null) {
+			this.minX.set(x);
+		} else {
+			this.minXValue = x;
+			if (getMaxX() < x) {
+				// min-max constrain is broken
+				setMaxX(x);
+			}
+		}
 	}
 
 	/** Replies the property that is the minimum x coordinate of the box.
@@ -144,14 +161,14 @@ public abstract class AbstractRectangularShape2dfx<IT extends AbstractRectangula
 	@Pure
 	public DoubleProperty minXProperty() {
 		if (this.minX == null) {
-			this.minX = new SimpleDoubleProperty(this, MathFXAttributeNames.MINIMUM_X) {
+			this.minX = new SimpleDoubleProperty(this, MathFXAttributeNames.MINIMUM_X, this.minXValue) {
 				@Override
 				protected void invalidated() {
 					final double currentMin = get();
 					final double currentMax = getMaxX();
 					if (currentMin > currentMax) {
 						// min-max constrain is broken
-						maxXProperty().set(currentMin);
+						setMaxX(currentMin);
 					}
 				}
 			};
@@ -162,12 +179,20 @@ public abstract class AbstractRectangularShape2dfx<IT extends AbstractRectangula
 	@Pure
 	@Override
 	public double getMaxX() {
-		return this.maxX == null ? 0 : this.maxX.get();
+		return this.maxX == null ? this.maxXValue : this.maxX.get();
 	}
 
 	@Override
 	public void setMaxX(double x) {
-		maxXProperty().set(x);
+		if (this.maxX != null) {
+			this.maxX.set(x);
+		} else {
+			this.maxXValue = x;
+			if (getMinX() > x) {
+				// min-max constrain is broken
+				setMinX(x);
+			}
+		}
 	}
 
 	/** Replies the property that is the maximum x coordinate of the box.
@@ -177,14 +202,14 @@ public abstract class AbstractRectangularShape2dfx<IT extends AbstractRectangula
 	@Pure
 	public DoubleProperty maxXProperty() {
 		if (this.maxX == null) {
-			this.maxX = new SimpleDoubleProperty(this, MathFXAttributeNames.MAXIMUM_X) {
+			this.maxX = new SimpleDoubleProperty(this, MathFXAttributeNames.MAXIMUM_X, this.maxXValue) {
 				@Override
 				protected void invalidated() {
 					final double currentMax = get();
 					final double currentMin = getMinX();
 					if (currentMin > currentMax) {
 						// min-max constrain is broken
-						minXProperty().set(currentMax);
+						setMinX(currentMax);
 					}
 				}
 			};
@@ -195,12 +220,20 @@ public abstract class AbstractRectangularShape2dfx<IT extends AbstractRectangula
 	@Pure
 	@Override
 	public double getMinY() {
-		return this.minY == null ? 0 : this.minY.get();
+		return this.minY == null ? this.minYValue : this.minY.get();
 	}
 
 	@Override
 	public void setMinY(double y) {
-		minYProperty().set(y);
+		if (this.minY != null) {
+			this.minY.set(y);
+		} else {
+			this.minYValue = y;
+			if (getMaxY() < y) {
+				// min-max constrain is broken
+				setMaxY(y);
+			}
+		}
 	}
 
 	/** Replies the property that is the minimum y coordinate of the box.
@@ -210,14 +243,14 @@ public abstract class AbstractRectangularShape2dfx<IT extends AbstractRectangula
 	@Pure
 	public DoubleProperty minYProperty() {
 		if (this.minY == null) {
-			this.minY = new SimpleDoubleProperty(this, MathFXAttributeNames.MINIMUM_Y) {
+			this.minY = new SimpleDoubleProperty(this, MathFXAttributeNames.MINIMUM_Y, this.minYValue) {
 				@Override
 				protected void invalidated() {
 					final double currentMin = get();
 					final double currentMax = getMaxY();
 					if (currentMin > currentMax) {
 						// min-max constrain is broken
-						maxYProperty().set(currentMin);
+						setMaxY(currentMin);
 					}
 				}
 			};
@@ -228,12 +261,20 @@ public abstract class AbstractRectangularShape2dfx<IT extends AbstractRectangula
 	@Pure
 	@Override
 	public double getMaxY() {
-		return this.maxY == null ? 0 : this.maxY.get();
+		return this.maxY == null ? this.maxYValue : this.maxY.get();
 	}
 
 	@Override
 	public void setMaxY(double y) {
-		maxYProperty().set(y);
+		if (this.maxY != null) {
+			this.maxY.set(y);
+		} else {
+			this.maxYValue = y;
+			if (getMinY() > y) {
+				// min-max constrain is broken
+				setMinY(y);
+			}
+		}
 	}
 
 	/** Replies the property that is the maximum y coordinate of the box.
@@ -243,14 +284,14 @@ public abstract class AbstractRectangularShape2dfx<IT extends AbstractRectangula
 	@Pure
 	public DoubleProperty maxYProperty() {
 		if (this.maxY == null) {
-			this.maxY = new SimpleDoubleProperty(this, MathFXAttributeNames.MAXIMUM_Y) {
+			this.maxY = new SimpleDoubleProperty(this, MathFXAttributeNames.MAXIMUM_Y, this.maxYValue) {
 				@Override
 				protected void invalidated() {
 					final double currentMax = get();
 					final double currentMin = getMinY();
 					if (currentMin > currentMax) {
 						// min-max constrain is broken
-						minYProperty().set(currentMax);
+						setMinY(currentMax);
 					}
 				}
 			};
@@ -260,7 +301,7 @@ public abstract class AbstractRectangularShape2dfx<IT extends AbstractRectangula
 
 	@Override
 	public double getWidth() {
-		return widthProperty().get();
+		return getMaxX() - getMinX();
 	}
 
 	/** Replies the property that is the width of the box.
@@ -278,7 +319,7 @@ public abstract class AbstractRectangularShape2dfx<IT extends AbstractRectangula
 
 	@Override
 	public double getHeight() {
-		return heightProperty().get();
+		return getMaxY() - getMinY();
 	}
 
 	/** Replies the property that is the height of the box.
@@ -53,6 +53,18 @@ public class Circle2dfx
 
 	private DoubleProperty radius;
 
+	/** X coordinate of the center when the {@link #centerX} property is not created.
+	 */
+	private double centerXValue;
+
+	/** Y coordinate of the center when the {@link #centerY} property is not created.
+	 */
+	private double centerYValue;
+
+	/** Radius when the {@link #radius} property is not created.
+	 */
+	private double radiusValue;
+
 	/** Construct an empty circle.
 	 */
 	public Circle2dfx() {
@@ -89,18 +101,13 @@ public class Circle2dfx
 	@Override
 	public Circle2dfx clone() {
 		final Circle2dfx clone = super.clone();
-		if (clone.centerX != null) {
-			clone.centerX = null;
-			clone.xProperty().set(getX());
-		}
-		if (clone.centerY != null) {
-			clone.centerY = null;
-			clone.yProperty().set(getY());
-		}
-		if (clone.radius != null) {
-			clone.radius = null;
-			clone.radiusProperty().set(getRadius());
-		}
+		clone.centerXValue = getX();
+		clone.centerX = null;
+		clone.centerYValue = getY();
+		clone.centerY = null;
+		clone.radiusValue = getRadius();
+		clone.radius = null;
+		clone.boundingBox = null;
 		return clone;
 	}
 
@@ -131,13 +138,13 @@ public class Circle2dfx
 	@Pure
 	@Override
 	public double getX() {
-		return this.centerX == null ? 0 : this.centerX.get();
+		return this.centerX == null ? this.centerXValue : this.centerX.get();
 	}
 
 	@Pure
 	@Override
 	public double getY() {
-		return this.centerY == null ? 0 : this.centerY.get();
+		return this.centerY == null ? this.centerYValue : this.centerY.get();
 	}
 
 	@Pure
@@ -148,12 +155,20 @@ public class Circle2dfx
 
 	@Override
 	public void setX(double x) {
-		xProperty().set(x);
+		if (this.centerX != null) {
+			this.centerX.set(x);
+		} else {
+			this.centerXValue = x;
+		}
 	}
 
 	@Override
 	public void setY(double y) {
-		yProperty().set(y);
+		if (this.centerY != null) {
+			this.centerY.set(y);
+		} else {
+			this.centerYValue = y;
+		}
 	}
 
 	/** Replies the property that is the x coordinate of the circle center.
@@ -163,7 +178,7 @@ public class Circle2dfx
 	@Pure
 	public DoubleProperty xProperty() {
 		if (this.centerX == null) {
-			this.centerX = new SimpleDoubleProperty(this, MathFXAttributeNames.X);
+			this.centerX = new SimpleDoubleProperty(this, MathFXAttributeNames.X, this.centerXValue);
 		}
 		return this.centerX;
 	}
@@ -175,7 +190,7 @@ public class Circle2dfx
 	@Pure
 	public DoubleProperty yProperty() {
 		if (this.centerY == null) {
-			this.centerY = new SimpleDoubleProperty(this, MathFXAttributeNames.Y);
+			this.centerY = new SimpleDoubleProperty(this, MathFXAttributeNames.Y, this.centerYValue);
 		}
 		return this.centerY;
 	}
@@ -183,13 +198,17 @@ public class Circle2dfx
 	@Pure
 	@Override
 	public double getRadius() {
-		return this.radius == null ? 0 : this.radius.get();
+		return this.radius == null ? this.radiusValue : this.radius.get();
 	}
 
 	@Override
 	public void setRadius(double radius) {
 		assert radius >= 0 : AssertMessages.positiveOrZeroParameter();
-		radiusProperty().set(radius);
+		if (this.radius != null) {
+			this.radius.set(radius);
+		} else {
+			this.radiusValue = Math.max(0., radius);
+		}
 	}
 
 	/** Replies the property that is the radius of the circle.
@@ -199,7 +218,7 @@ public class Circle2dfx
 	@Pure
 	public DoubleProperty radiusProperty() {
 		if (this.radius == null) {
-			this.radius = new SimpleDoubleProperty(this, MathFXAttributeNames.RADIUS) {
+			this.radius = new SimpleDoubleProperty(this, MathFXAttributeNames.RADIUS, this.radiusValue) {
 				@Override
 				protected void invalidated() {
 					if (get() < 0.) {
@@ -214,9 +233,9 @@ public class Circle2dfx
 	@Override
 	public void set(double x, double y, double radius) {
 		assert radius >= 0 : AssertMessages.positiveOrZeroParameter(2);
-		xProperty().set(x);
-		yProperty().set(y);
-		radiusProperty().set(radius);
+		setX(x);
+		setY(y);
+		setRadius(radius);
 	}
 
 	@Override
@@ -80,6 +80,30 @@ public class OrientedRectangle2dfx extends AbstractShape2dfx<OrientedRectangle2d
 	 */
 	private DoubleProperty extentS;
 
+	/** X coordinate of the center when the {@link #cx} property is not created.
+	 */
+	private double cxValue;
+
+	/** Y coordinate of the center when the {@link #cy} property is not created.
+	 */
+	private double cyValue;
+
+	/** X coordinate of the first axis when the {@link #raxis} property is not created.
+	 */
+	private double raxisXValue = 1;
+
+	/** Y coordinate of the first axis when the {@link #raxis} property is not created.
+	 */
+	private double raxisYValue;
+
+	/** Extent of the first axis when the {@link #extentR} property is not created.
+	 */
+	private double extentRValue;
+
+	/** Extent of the second axis when the {@link #extentS} property is not created.
+	 */
+	private double extentSValue;
+
 	/** Create an empty oriented rectangle.
 	 */
 	public OrientedRectangle2dfx() {
@@ -145,27 +169,19 @@ public class OrientedRectangle2dfx extends AbstractShape2dfx<OrientedRectangle2d
 	@Override
 	public OrientedRectangle2dfx clone() {
 		final OrientedRectangle2dfx clone = super.clone();
-		if (clone.cx != null) {
-			clone.cx = null;
-			clone.centerXProperty().set(getCenterX());
-		}
-		if (clone.cy != null) {
-			clone.cy = null;
-			clone.centerYProperty().set(getCenterY());
-		}
-		if (clone.raxis != null) {
-			clone.raxis = null;
-			clone.firstAxisProperty().set(getFirstAxis());
-		}
-		if (clone.extentR != null) {
-			clone.extentR = null;
-			clone.firstAxisExtentProperty().set(getFirstAxisExtent());
-		}
+		clone.cxValue = getCenterX();
+		clone.cx = null;
+		clone.cyValue = getCenterY();
+		clone.cy = null;
+		clone.raxisXValue = getFirstAxisX();
+		clone.raxisYValue = getFirstAxisY();
+		clone.raxis = null;
+		clone.extentRValue = getFirstAxisExtent();
+		clone.extentR = null;
 		clone.saxis = null;
-		if (clone.extentS != null) {
-			clone.extentS = null;
-			clone.secondAxisExtentProperty().set(getSecondAxisExtent());
-		}
+		clone.extentSValue = getSecondAxisExtent();
+		clone.extentS = null;
+		clone.boundingBox = null;
 		return clone;
 	}
 
@@ -218,13 +234,13 @@ public class OrientedRectangle2dfx extends AbstractShape2dfx<OrientedRectangle2d
 	@Pure
 	@Override
 	public double getCenterX() {
-		return this.cx == null ? 0 : this.cx.get();
+		return this.cx == null ? this.cxValue : this.cx.get();
 	}
 
 	@Pure
 	@Override
 	public double getCenterY() {
-		return this.cy == null ? 0 : this.cy.get();
+		return this.cy == null ? this.cyValue : this.cy.get();
 	}
 
 	/** Replies the property for the x coordinate of the rectangle's center.
@@ -234,7 +250,7 @@ public class OrientedRectangle2dfx extends AbstractShape2dfx<OrientedRectangle2d
 	@Pure
 	public DoubleProperty centerXProperty() {
 		if (this.cx == null) {
-			this.cx = new SimpleDoubleProperty(this, MathFXAttributeNames.CENTER_X);
+			this.cx = new SimpleDoubleProperty(this, MathFXAttributeNames.CENTER_X, this.cxValue);
 		}
 		return this.cx;
 	}
@@ -246,25 +262,33 @@ public class OrientedRectangle2dfx extends AbstractShape2dfx<OrientedRectangle2d
 	@Pure
 	public DoubleProperty centerYProperty() {
 		if (this.cy == null) {
-			this.cy = new SimpleDoubleProperty(this, MathFXAttributeNames.CENTER_Y);
+			this.cy = new SimpleDoubleProperty(this, MathFXAttributeNames.CENTER_Y, this.cyValue);
 		}
 		return this.cy;
 	}
 
 	@Override
 	public void setCenter(double cx, double cy) {
-		centerXProperty().set(cx);
-		centerYProperty().set(cy);
+		setCenterX(cx);
+		setCenterY(cy);
 	}
 
 	@Override
 	public void setCenterX(double cx) {
-		centerXProperty().set(cx);
+		if (this.cx != null) {
+			this.cx.set(cx);
+		} else {
+			this.cxValue = cx;
+		}
 	}
 
 	@Override
 	public void setCenterY(double cy) {
-		centerYProperty().set(cy);
+		if (this.cy != null) {
+			this.cy.set(cy);
+		} else {
+			this.cyValue = cy;
+		}
 	}
 
 	@Pure
@@ -276,13 +300,13 @@ public class OrientedRectangle2dfx extends AbstractShape2dfx<OrientedRectangle2d
 	@Pure
 	@Override
 	public double getFirstAxisX() {
-		return this.raxis == null ? 1 : this.raxis.getX();
+		return this.raxis == null ? this.raxisXValue : this.raxis.getX();
 	}
 
 	@Pure
 	@Override
 	public double getFirstAxisY() {
-		return this.raxis == null ? 0 : this.raxis.getY();
+		return this.raxis == null ? this.raxisYValue : this.raxis.getY();
 	}
 
 	@Pure
@@ -294,13 +318,13 @@ public class OrientedRectangle2dfx extends AbstractShape2dfx<OrientedRectangle2d
 	@Pure
 	@Override
 	public double getSecondAxisX() {
-		return secondAxisProperty().getX();
+		return -getFirstAxisY();
 	}
 
 	@Pure
 	@Override
 	public double getSecondAxisY() {
-		return secondAxisProperty().getY();
+		return getFirstAxisX();
 	}
 
 	/** Replies the property for the first rectangle axis.
@@ -311,6 +335,7 @@ public class OrientedRectangle2dfx extends AbstractShape2dfx<OrientedRectangle2d
 	public UnitVectorProperty firstAxisProperty() {
 		if (this.raxis == null) {
 			this.raxis = new UnitVectorProperty(this, MathFXAttributeNames.FIRST_AXIS, getGeomFactory());
+			this.raxis.set(this.raxisXValue, this.raxisYValue);
 		}
 		return this.raxis;
 	}
@@ -335,13 +360,17 @@ public class OrientedRectangle2dfx extends AbstractShape2dfx<OrientedRectangle2d
 	@Pure
 	@Override
 	public double getFirstAxisExtent() {
-		return this.extentR == null ? 0 : this.extentR.get();
+		return this.extentR == null ? this.extentRValue : this.extentR.get();
 	}
 
 	@Override
 	public void setFirstAxisExtent(double extent) {
 		assert extent >= 0 : AssertMessages.positiveOrZeroParameter();
-		firstAxisExtentProperty().set(extent);
+		if (this.extentR != null) {
+			this.extentR.set(extent);
+		} else {
+			this.extentRValue = Math.max(0., extent);
+		}
 	}
 
 	/** Replies the property for the extent of the first rectangle axis.
@@ -351,7 +380,7 @@ public class OrientedRectangle2dfx extends AbstractShape2dfx<OrientedRectangle2d
 	@Pure
 	public DoubleProperty firstAxisExtentProperty() {
 		if (this.extentR == null) {
-			this.extentR = new SimpleDoubleProperty(this, MathFXAttributeNames.FIRST_AXIS_EXTENT) {
+			this.extentR = new SimpleDoubleProperty(this, MathFXAttributeNames.FIRST_AXIS_EXTENT, this.extentRValue) {
 				@Override
 				protected void invalidated() {
 					if (get() < 0.) {
@@ -366,13 +395,17 @@ public class OrientedRectangle2dfx extends AbstractShape2dfx<OrientedRectangle2d
 	@Pure
 	@Override
 	public double getSecondAxisExtent() {
-		return this.extentS == null ? 0 : this.extentS.get();
+		return this.extentS == null ? this.extentSValue : this.extentS.get();
 	}
 
 	@Override
 	public void setSecondAxisExtent(double extent) {
 		assert extent >= 0 : AssertMessages.positiveOrZeroParameter();
-		secondAxisExtentProperty().set(extent);
+		if (this.extentS != null) {
+			this.extentS.set(extent);
+		} else {
+			this.extentSValue = Math.max(0., extent);
+		}
 	}
 
 	/** Replies the property for the extent of the second rectangle axis.
@@ -382,7 +415,7 @@ public class OrientedRectangle2dfx extends AbstractShape2dfx<OrientedRectangle2d
 	@Pure
 	public DoubleProperty secondAxisExtentProperty() {
 		if (this.extentS == null) {
-			this.extentS = new SimpleDoubleProperty(this, MathFXAttributeNames.SECOND_AXIS_EXTENT) {
+			this.extentS = new SimpleDoubleProperty(this, MathFXAttributeNames.SECOND_AXIS_EXTENT, this.extentSValue) {
 				@Override
 				protected void invalidated() {
 					if (get() < 0.) {
@@ -398,16 +431,21 @@ public class OrientedRectangle2dfx extends AbstractShape2dfx<OrientedRectangle2d
 	public void setFirstAxis(double x, double y, double extent) {
 		assert Vector2D.isUnitVector(x, y) : AssertMessages.normalizedParameters(0, 1);
 		assert extent >= 0 : AssertMessages.positiveOrZeroParameter(2);
-		firstAxisProperty().set(x, y);
-		firstAxisExtentProperty().set(extent);
+		if (this.raxis != null) {
+			this.raxis.set(x, y);
+		} else {
+			this.raxisXValue = x;
+			this.raxisYValue = y;
+		}
+		setFirstAxisExtent(extent);
 	}
 
 	@Override
 	public void setSecondAxis(double x, double y, double extent) {
 		assert Vector2D.isUnitVector(x, y) : AssertMessages.normalizedParameters(0, 1);
 		assert extent >= 0 : AssertMessages.positiveOrZeroParameter(2);
-		firstAxisProperty().set(y, -x);
-		secondAxisExtentProperty().set(extent);
+		setFirstAxis(y, -x, getFirstAxisExtent());
+		setSecondAxisExtent(extent);
 	}
 
 	@Override
@@ -416,12 +454,11 @@ public class OrientedRectangle2dfx extends AbstractShape2dfx<OrientedRectangle2d
 		assert Vector2D.isUnitVector(axis1x, axis1y) : AssertMessages.normalizedParameters(2, 3);
 		assert axis1Extent >= 0 : AssertMessages.positiveOrZeroParameter(4);
 		assert axis2Extent >= 0 : AssertMessages.positiveOrZeroParameter(5);
-		centerXProperty().set(centerX);
-		centerYProperty().set(centerY);
-		firstAxisProperty().set(axis1x, axis1y);
-		firstAxisExtentProperty().set(axis1Extent);
+		setCenterX(centerX);
+		setCenterY(centerY);
+		setFirstAxis(axis1x, axis1y, axis1Extent);
 		// Do not need to the second axis coordinates since it will be automatically done by the properties of the first axis.
-		secondAxisExtentProperty().set(axis2Extent);
+		setSecondAxisExtent(axis2Extent);
 	}
 
 	@Override
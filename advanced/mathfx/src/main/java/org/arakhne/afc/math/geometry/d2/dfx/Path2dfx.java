@@ -20,14 +20,19 @@
 
 package org.arakhne.afc.math.geometry.d2.dfx;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.ListIterator;
+import java.util.List;
 import java.util.Objects;
 
+import javafx.beans.Observable;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.LongProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.beans.property.ReadOnlyDoubleWrapper;
@@ -35,8 +40,9 @@ import javafx.beans.property.ReadOnlyListProperty;
 import javafx.beans.property.ReadOnlyListWrapper;
 import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleLongProperty;
 import javafx.beans.property.SimpleObjectProperty;
-import javafx.collections.FXCollections;
+import javafx.collections.ObservableListBase;
 import org.eclipse.xtext.xbase.lib.Pure;
 
 import org.arakhne.afc.math.MathConstants;
@@ -47,11 +53,18 @@ import org.arakhne.afc.math.geometry.d2.Point2D;
 import org.arakhne.afc.math.geometry.d2.Transform2D;
 import org.arakhne.afc.math.geometry.d2.afp.InnerComputationPoint2afp;
 import org.arakhne.afc.math.geometry.d2.afp.Path2afp;
+import org.arakhne.afc.math.geometry.d2.afp.PathElement2afp;
 import org.arakhne.afc.math.geometry.d2.afp.PathIterator2afp;
 import org.arakhne.afc.vmutil.asserts.AssertMessages;
 import org.arakhne.afc.vmutil.locale.Locale;
 
 /** Path with 2 double precision floating-point FX properties.
+ *
+ * <p>The elements of the path are stored into primitive arrays. The observable lists
+ * replied by {@link #coordinatesProperty()} and {@link #typesProperty()} are read-only
+ * views on these arrays that are created on demand. The change events are fired
+ * once per modification function, or once per block of modifications enclosed
+ * by {@link #beginUpdate()} and {@link #endUpdate()}.
  *
  * @author $Author: sgalland$
  * @author $Author: hjaffali$
@@ -65,13 +78,63 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 		implements Path2afp<Shape2dfx<?>, Path2dfx, PathElement2dfx, Point2dfx, Vector2dfx, Rectangle2dfx> {
 	private static final long serialVersionUID = 6051061640155091109L;
 
-	/** Array of types.
+	private static final PathElementType[] TYPE_VALUES = PathElementType.values();
+
+	private static final byte[] EMPTY_TYPES = new byte[0];
+
+	private static final double[] EMPTY_COORDS = new double[0];
+
+	/** Array of types, stored as the ordinals of {@link PathElementType}.
 	 */
-	private ReadOnlyListWrapper<PathElementType> types;
+	private byte[] types = EMPTY_TYPES;
 
 	/** Array of coords.
 	 */
-	private ReadOnlyListWrapper<Double> coords;
+	private double[] coords = EMPTY_COORDS;
+
+	/** Number of types in the array.
+	 */
+	private int numTypes;
+
+	/** Number of coords in the array.
+	 */
+	private int numCoords;
+
+	/** Observable view on the types.
+	 */
+	private transient ReadOnlyListWrapper<PathElementType> typesView;
+
+	/** Observable view on the coords.
+	 */
+	private transient ReadOnlyListWrapper<Double> coordsView;
+
+	/** Counter of the modifications, used as dependency by the bindings.
+	 */
+	private transient LongProperty modificationCount;
+
+	/** Depth of the nested updates.
+	 */
+	private transient int updateDepth;
+
+	/** Indicates if the path was changed during the current update.
+	 */
+	private transient boolean changed;
+
+	/** Index of the first type changed during the current update, or {@code -1}.
+	 */
+	private transient int typeChangeIndex = -1;
+
+	/** Types that were replaced during the current update, from {@link #typeChangeIndex}.
+	 */
+	private transient byte[] removedTypes;
+
+	/** Index of the first coordinate changed during the current update, or {@code -1}.
+	 */
+	private transient int coordChangeIndex = -1;
+
+	/** Coordinates that were replaced during the current update, from {@link #coordChangeIndex}.
+	 */
+	private transient double[] removedCoords;
 
 	/** Winding rule for the path.
 	 */
@@ -153,17 +216,133 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 		set(path);
 	}
 
+	/** Start a block of modifications.
+	 *
+	 * <p>The change events of the path, including the events of its properties, are delayed until the
+	 * matching call to {@link #endUpdate()}. Then, a single event is fired for the coordinates and
+	 * a single event is fired for the types. The blocks of modifications may be nested.
+	 *
+	 * @see #endUpdate()
+	 */
+	public void beginUpdate() {
+		++this.updateDepth;
+	}
+
+	/** Terminate a block of modifications that was started with {@link #beginUpdate()}.
+	 *
+	 * @see #beginUpdate()
+	 */
+	public void endUpdate() {
+		assert this.updateDepth > 0 : AssertMessages.invalidFalseValue("beginUpdate"); //$NON-NLS-1$
+		--this.updateDepth;
+		if (this.updateDepth == 0 && this.changed) {
+			this.changed = false;
+			fireChanges();
+		}
+	}
+
+	private void fireChanges() {
+		if (this.typeChangeIndex >= 0) {
+			final int from = this.typeChangeIndex;
+			final byte[] removed = this.removedTypes;
+			this.typeChangeIndex = -1;
+			this.removedTypes = null;
+			if (this.typesView != null) {
+				((TypeList) this.typesView.get()).fireChange(from, this.numTypes, removed);
+			}
+		}
+		if (this.coordChangeIndex >= 0) {
+			final int from = this.coordChangeIndex;
+			final double[] removed = this.removedCoords;
+			this.coordChangeIndex = -1;
+			this.removedCoords = null;
+			if (this.coordsView != null) {
+				((CoordinateList) this.coordsView.get()).fireChange(from, this.numCoords, removed);
+			}
+		}
+		if (this.modificationCount != null) {
+			this.modificationCount.set(this.modificationCount.get() + 1);
+		}
+	}
+
+	/** Notifies that the types from the given index are going to be changed.
+	 * The old values are saved only if the types are observed.
+	 *
+	 * @param from the index of the first changed type.
+	 */
+	private void willChangeTypes(int from) {
+		this.changed = true;
+		if (this.typesView != null) {
+			if (this.typeChangeIndex < 0) {
+				this.typeChangeIndex = from;
+				this.removedTypes = Arrays.copyOfRange(this.types, from, this.numTypes);
+			} else if (from < this.typeChangeIndex) {
+				// The types in [from, typeChangeIndex) were not changed yet.
+				final byte[] removed = new byte[this.typeChangeIndex - from + this.removedTypes.length];
+				System.arraycopy(this.types, from, removed, 0, this.typeChangeIndex - from);
+				System.arraycopy(this.removedTypes, 0, removed, this.typeChangeIndex - from, this.removedTypes.length);
+				this.typeChangeIndex = from;
+				this.removedTypes = removed;
+			}
+		}
+	}
+
+	/** Notifies that the coordinates from the given index are going to be changed.
+	 * The old values are saved only if the coordinates are observed.
+	 *
+	 * @param from the index of the first changed coordinate.
+	 */
+	private void willChangeCoords(int from) {
+		this.changed = true;
+		if (this.coordsView != null) {
+			if (this.coordChangeIndex < 0) {
+				this.coordChangeIndex = from;
+				this.removedCoords = Arrays.copyOfRange(this.coords, from, this.numCoords);
+			} else if (from < this.coordChangeIndex) {
+				// The coordinates in [from, coordChangeIndex) were not changed yet.
+				final double[] removed = new double[this.coordChangeIndex - from + this.removedCoords.length];
+				System.arraycopy(this.coords, from, removed, 0, this.coordChangeIndex - from);
+				System.arraycopy(this.removedCoords, 0, removed, this.coordChangeIndex - from, this.removedCoords.length);
+				this.coordChangeIndex = from;
+				this.removedCoords = removed;
+			}
+		}
+	}
+
+	private void ensureSlots(boolean needMove, int nbSlots) {
+		if (needMove && this.numTypes == 0) {
+			throw new IllegalStateException(Locale.getString("E1")); //$NON-NLS-1$
+		}
+		if (this.numTypes == this.types.length) {
+			this.types = Arrays.copyOf(this.types, newCapacity(this.types.length, this.numTypes + 1));
+		}
+		if (this.numCoords + nbSlots > this.coords.length) {
+			this.coords = Arrays.copyOf(this.coords, newCapacity(this.coords.length, this.numCoords + nbSlots));
+		}
+	}
+
+	private static int newCapacity(int currentCapacity, int minCapacity) {
+		return Math.max(minCapacity, Math.max(GROW_SIZE, currentCapacity + (currentCapacity >> 1)));
+	}
+
+	private void appendType(PathElementType type) {
+		willChangeTypes(this.numTypes);
+		this.types[this.numTypes++] = (byte) type.ordinal();
+	}
+
+	private PathElementType lastType() {
+		return TYPE_VALUES[this.types[this.numTypes - 1]];
+	}
+
 	@Pure
 	@Override
 	public boolean containsControlPoint(Point2D<?, ?> pt) {
 		assert pt != null : AssertMessages.notNullParameter();
-		if (this.coords != null && !this.coords.isEmpty()) {
-			for (int i = 0; i < this.coords.size(); i += 2) {
-				final double x = this.coords.get(i);
-				final double y = this.coords.get(i + 1);
-				if (x == pt.getX() && y == pt.getY()) {
-					return true;
-				}
+		for (int i = 0; i < this.numCoords; i += 2) {
+			final double x = this.coords[i];
+			final double y = this.coords[i + 1];
+			if (x == pt.getX() && y == pt.getY()) {
+				return true;
 			}
 		}
 		return false;
@@ -171,11 +350,18 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 
 	@Override
 	public void clear() {
-		if (this.coords != null) {
-			this.coords.clear();
-		}
-		if (this.types != null) {
-			this.types.clear();
+		if (this.numTypes > 0 || this.numCoords > 0) {
+			beginUpdate();
+			try {
+				willChangeTypes(0);
+				willChangeCoords(0);
+				this.types = EMPTY_TYPES;
+				this.coords = EMPTY_COORDS;
+				this.numTypes = 0;
+				this.numCoords = 0;
+			} finally {
+				endUpdate();
+			}
 		}
 	}
 
@@ -183,14 +369,17 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 	@Override
 	public Path2dfx clone() {
 		final Path2dfx clone = super.clone();
-		clone.coords = null;
-		if (this.coords != null && !this.coords.isEmpty()) {
-			clone.innerCoordinatesProperty().addAll(this.coords);
-		}
-		clone.types = null;
-		if (this.types != null && !this.types.isEmpty()) {
-			clone.innerTypesProperty().addAll(this.types);
-		}
+		clone.coords = Arrays.copyOf(this.coords, this.numCoords);
+		clone.types = Arrays.copyOf(this.types, this.numTypes);
+		clone.coordsView = null;
+		clone.typesView = null;
+		clone.modificationCount = null;
+		clone.updateDepth = 0;
+		clone.changed = false;
+		clone.typeChangeIndex = -1;
+		clone.removedTypes = null;
+		clone.coordChangeIndex = -1;
+		clone.removedCoords = null;
 		clone.windingRule = null;
 		if (this.windingRule != null) {
 			clone.windingRuleProperty().set(this.windingRule.get());
@@ -207,12 +396,30 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 		return clone;
 	}
 
+	/** Invoked when this object must be deserialized.
+	 *
+	 * <p>The transient fields are not initialized by their declarations when the path is deserialized.
+	 *
+	 * @param in is the input stream.
+	 * @throws IOException in case of input stream access error.
+	 * @throws ClassNotFoundException if some class was not found.
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		this.typeChangeIndex = -1;
+		this.coordChangeIndex = -1;
+	}
+
 	@Pure
 	@Override
 	public int hashCode() {
 		long bits = 1L;
-		bits = 31L * bits + Objects.hashCode(this.coords);
-		bits = 31L * bits + Objects.hashCode(this.types);
+		for (int i = 0; i < this.numCoords; ++i) {
+			bits = 31L * bits + Double.hashCode(this.coords[i]);
+		}
+		for (int i = 0; i < this.numTypes; ++i) {
+			bits = 31L * bits + this.types[i];
+		}
 		bits = 31L * bits + Objects.hashCode(this.windingRule);
 		return (int) (bits ^ (bits >> 31));
 	}
@@ -222,13 +429,11 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 	public String toString() {
 		final StringBuilder b = new StringBuilder();
 		b.append("["); //$NON-NLS-1$
-		if (this.coords != null && !this.coords.isEmpty()) {
-			final Iterator<Double> iterator = this.coords.iterator();
-			b.append(iterator.next());
-			while (iterator.hasNext()) {
+		for (int i = 0; i < this.numCoords; ++i) {
+			if (i > 0) {
 				b.append(", "); //$NON-NLS-1$
-				b.append(iterator.next());
 			}
+			b.append(this.coords[i]);
 		}
 		b.append("]"); //$NON-NLS-1$
 		return b.toString();
@@ -236,29 +441,49 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 
 	@Override
 	public void translate(double dx, double dy) {
-		if (this.coords != null && !this.coords.isEmpty()) {
-			final ListIterator<Double> li = this.coords.listIterator();
-	        while (li.hasNext()) {
-	            li.set(li.next() + dx);
-	            li.set(li.next() + dy);
-	        }
+		if (this.numCoords > 0) {
+			beginUpdate();
+			try {
+				willChangeCoords(0);
+				for (int i = 0; i < this.numCoords; i += 2) {
+					this.coords[i] += dx;
+					this.coords[i + 1] += dy;
+				}
+			} finally {
+				endUpdate();
+			}
 		}
 	}
 
 	@Override
 	public void transform(Transform2D transform) {
 		assert transform != null : AssertMessages.notNullParameter();
-		final Point2D<?, ?> p = new InnerComputationPoint2afp();
-		if (this.coords != null && !this.coords.isEmpty()) {
-			final ListIterator<Double> li = this.coords.listIterator();
-			int i = 0;
-	        while (li.hasNext()) {
-	        	p.set(li.next(), li.next());
-				transform.transform(p);
-				this.coords.set(i++, p.getX());
-				this.coords.set(i++, p.getY());
-	        }
+		if (this.numCoords > 0) {
+			beginUpdate();
+			try {
+				willChangeCoords(0);
+				final Point2D<?, ?> p = new InnerComputationPoint2afp();
+				for (int i = 0; i < this.numCoords; i += 2) {
+					p.set(this.coords[i], this.coords[i + 1]);
+					transform.transform(p);
+					this.coords[i] = p.getX();
+					this.coords[i + 1] = p.getY();
+				}
+			} finally {
+				endUpdate();
+			}
+		}
+	}
+
+	/** Replies the property that is changed each time the content of the path is changed.
+	 *
+	 * @return the modification property.
+	 */
+	private Observable modificationProperty() {
+		if (this.modificationCount == null) {
+			this.modificationCount = new SimpleLongProperty(this, "modificationCount"); //$NON-NLS-1$
 		}
+		return this.modificationCount;
 	}
 
 	/** Replies the isEmpty property.
@@ -278,7 +503,7 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 				}
 				return true;
 			},
-					innerTypesProperty(), innerCoordinatesProperty()));
+					modificationProperty()));
 		}
 		return this.isEmpty;
 	}
@@ -331,23 +556,17 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 		if (this.isPolyline == null) {
 			this.isPolyline = new ReadOnlyBooleanWrapper(this, MathFXAttributeNames.IS_POLYLINE, false);
 			this.isPolyline.bind(Bindings.createBooleanBinding(() -> {
-				boolean first = true;
-				boolean hasOneLine = false;
-				for (final PathElementType type : innerTypesProperty()) {
-					if (first) {
-						if (type != PathElementType.MOVE_TO) {
-							return false;
-						}
-						first = false;
-					} else if (type != PathElementType.LINE_TO) {
+				if (this.numTypes == 0 || TYPE_VALUES[this.types[0]] != PathElementType.MOVE_TO) {
+					return false;
+				}
+				for (int i = 1; i < this.numTypes; ++i) {
+					if (TYPE_VALUES[this.types[i]] != PathElementType.LINE_TO) {
 						return false;
-					} else {
-						hasOneLine = true;
 					}
 				}
-				return hasOneLine;
+				return this.numTypes > 1;
 			},
-					innerTypesProperty()));
+					modificationProperty()));
 		}
 		return this.isPolyline;
 	}
@@ -365,14 +584,15 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 		if (this.isCurved == null) {
 			this.isCurved = new ReadOnlyBooleanWrapper(this, MathFXAttributeNames.IS_CURVED, false);
 			this.isCurved.bind(Bindings.createBooleanBinding(() -> {
-				for (final PathElementType type : innerTypesProperty()) {
+				for (int i = 0; i < this.numTypes; ++i) {
+					final PathElementType type = TYPE_VALUES[this.types[i]];
 					if (type == PathElementType.CURVE_TO || type == PathElementType.QUAD_TO) {
 						return true;
 					}
 				}
 				return false;
 			},
-					innerTypesProperty()));
+					modificationProperty()));
 		}
 		return this.isCurved;
 	}
@@ -391,8 +611,8 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 			this.isMultiparts = new ReadOnlyBooleanWrapper(this, MathFXAttributeNames.IS_MULTIPARTS, false);
 			this.isMultiparts.bind(Bindings.createBooleanBinding(() -> {
 				boolean foundOne = false;
-				for (final PathElementType type : innerTypesProperty()) {
-					if (type == PathElementType.MOVE_TO) {
+				for (int i = 0; i < this.numTypes; ++i) {
+					if (TYPE_VALUES[this.types[i]] == PathElementType.MOVE_TO) {
 						if (foundOne) {
 							return true;
 						}
@@ -401,7 +621,7 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 				}
 				return false;
 			},
-					innerTypesProperty()));
+					modificationProperty()));
 		}
 		return this.isMultiparts;
 	}
@@ -421,7 +641,8 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 			this.isPolygon.bind(Bindings.createBooleanBinding(() -> {
 				boolean first = true;
 				boolean lastIsClose = false;
-				for (final PathElementType type : innerTypesProperty()) {
+				for (int i = 0; i < this.numTypes; ++i) {
+					final PathElementType type = TYPE_VALUES[this.types[i]];
 					lastIsClose = false;
 					if (first) {
 						if (type != PathElementType.MOVE_TO) {
@@ -436,7 +657,7 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 				}
 				return lastIsClose;
 			},
-					innerTypesProperty()));
+					modificationProperty()));
 		}
 		return this.isPolygon;
 	}
@@ -448,11 +669,16 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 
 	@Override
 	public void closePath() {
-		if (this.types == null
-				|| this.types.isEmpty()
-				|| (this.types.get(this.types.size() - 1) != PathElementType.CLOSE
-				&& this.types.get(this.types.size() - 1) != PathElementType.MOVE_TO)) {
-			this.types.add(PathElementType.CLOSE);
+		if (this.numTypes == 0
+				|| (lastType() != PathElementType.CLOSE
+				&& lastType() != PathElementType.MOVE_TO)) {
+			beginUpdate();
+			try {
+				ensureSlots(true, 0);
+				appendType(PathElementType.CLOSE);
+			} finally {
+				endUpdate();
+			}
 		}
 	}
 
@@ -480,23 +706,19 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 
 	@Override
 	public int[] toIntArray(Transform2D transform) {
-		final int n = (this.coords != null) ? this.coords.size() : 0;
+		final int n = this.numCoords;
 		final int[] clone = new int[n];
-		if (n > 0) {
-			if (transform == null || transform.isIdentity()) {
-				final Iterator<Double> iterator = this.coords.iterator();
-				for (int i = 0; i < n; ++i) {
-					clone[i] = iterator.next().intValue();
-				}
-			} else {
-				final Point2D<?, ?> p = new InnerComputationPoint2afp();
-				final Iterator<Double> iterator = this.coords.iterator();
-				for (int i = 0; i < n; i += 2) {
-					p.set(iterator.next(), iterator.next());
-					transform.transform(p);
-					clone[i] = p.ix();
-					clone[i + 1] = p.iy();
-				}
+		if (transform == null || transform.isIdentity()) {
+			for (int i = 0; i < n; ++i) {
+				clone[i] = (int) this.coords[i];
+			}
+		} else {
+			final Point2D<?, ?> p = new InnerComputationPoint2afp();
+			for (int i = 0; i < n; i += 2) {
+				p.set(this.coords[i], this.coords[i + 1]);
+				transform.transform(p);
+				clone[i] = p.ix();
+				clone[i + 1] = p.iy();
 			}
 		}
 		return clone;
@@ -504,23 +726,19 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 
 	@Override
 	public float[] toFloatArray(Transform2D transform) {
-		final int n = (this.coords != null) ? this.coords.size() : 0;
+		final int n = this.numCoords;
 		final float[] clone = new float[n];
-		if (n > 0) {
-			if (transform == null || transform.isIdentity()) {
-				final Iterator<Double> iterator = this.coords.iterator();
-				for (int i = 0; i < n; ++i) {
-					clone[i] = iterator.next().floatValue();
-				}
-			} else {
-				final Point2D<?, ?> p = new InnerComputationPoint2afp();
-				final Iterator<Double> iterator = this.coords.iterator();
-				for (int i = 0; i < n; i += 2) {
-					p.set(iterator.next(), iterator.next());
-					transform.transform(p);
-					clone[i] = (float) p.getX();
-					clone[i + 1] = (float) p.getY();
-				}
+		if (transform == null || transform.isIdentity()) {
+			for (int i = 0; i < n; ++i) {
+				clone[i] = (float) this.coords[i];
+			}
+		} else {
+			final Point2D<?, ?> p = new InnerComputationPoint2afp();
+			for (int i = 0; i < n; i += 2) {
+				p.set(this.coords[i], this.coords[i + 1]);
+				transform.transform(p);
+				clone[i] = (float) p.getX();
+				clone[i + 1] = (float) p.getY();
 			}
 		}
 		return clone;
@@ -528,47 +746,34 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 
 	@Override
 	public double[] toDoubleArray(Transform2D transform) {
-		final int n = (this.coords != null) ? this.coords.size() : 0;
+		if (transform == null || transform.isIdentity()) {
+			return Arrays.copyOf(this.coords, this.numCoords);
+		}
+		final int n = this.numCoords;
 		final double[] clone = new double[n];
-		if (n > 0) {
-			if (transform == null || transform.isIdentity()) {
-				final Iterator<Double> iterator = this.coords.iterator();
-				for (int i = 0; i < n; ++i) {
-					clone[i] = iterator.next().doubleValue();
-				}
-			} else {
-				final Point2D<?, ?> p = new InnerComputationPoint2afp();
-				final Iterator<Double> iterator = this.coords.iterator();
-				for (int i = 0; i < n; i += 2) {
-					p.set(iterator.next(), iterator.next());
-					transform.transform(p);
-					clone[i] = p.getX();
-					clone[i + 1] = p.getY();
-				}
-			}
+		final Point2D<?, ?> p = new InnerComputationPoint2afp();
+		for (int i = 0; i < n; i += 2) {
+			p.set(this.coords[i], this.coords[i + 1]);
+			transform.transform(p);
+			clone[i] = p.getX();
+			clone[i + 1] = p.getY();
 		}
 		return clone;
 	}
 
 	@Override
 	public Point2dfx[] toPointArray(Transform2D transform) {
-		final int n = (this.coords != null) ? this.coords.size() / 2 : 0;
+		final int n = this.numCoords / 2;
 		final Point2dfx[] clone = new Point2dfx[n];
-		if (n > 0) {
-			if (transform == null || transform.isIdentity()) {
-				final Iterator<Double> iterator = this.coords.iterator();
-				for (int i = 0; i < n; ++i) {
-					clone[i] = getGeomFactory().newPoint(
-							iterator.next().doubleValue(),
-							iterator.next().doubleValue());
-				}
-			} else {
-				final Iterator<Double> iterator = this.coords.iterator();
-				for (int i = 0; i < n; ++i) {
-					final Point2dfx p = getGeomFactory().newPoint(iterator.next(), iterator.next());
-					transform.transform(p);
-					clone[i] = p;
-				}
+		if (transform == null || transform.isIdentity()) {
+			for (int i = 0, j = 0; i < n; ++i, j += 2) {
+				clone[i] = getGeomFactory().newPoint(this.coords[j], this.coords[j + 1]);
+			}
+		} else {
+			for (int i = 0, j = 0; i < n; ++i, j += 2) {
+				final Point2dfx p = getGeomFactory().newPoint(this.coords[j], this.coords[j + 1]);
+				transform.transform(p);
+				clone[i] = p;
 			}
 		}
 		return clone;
@@ -576,81 +781,83 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 
 	@Override
 	public Point2dfx getPointAt(int index) {
-		if (this.coords == null) {
+		final int baseIdx = index * 2;
+		if (index < 0 || baseIdx + 1 >= this.numCoords) {
 			throw new IndexOutOfBoundsException();
 		}
-		final int baseIdx = index * 2;
 		return getGeomFactory().newPoint(
-				this.coords.get(baseIdx),
-				this.coords.get(baseIdx + 1));
+				this.coords[baseIdx],
+				this.coords[baseIdx + 1]);
 	}
 
 	@Pure
 	@Override
 	public double getCurrentX() {
-		if (this.coords == null) {
+		if (this.numCoords < 2) {
 			throw new IndexOutOfBoundsException();
 		}
-		final int baseIdx = this.coords.size() - 1;
-		return this.coords.get(baseIdx - 1);
+		return this.coords[this.numCoords - 2];
 	}
 
 	@Pure
 	@Override
 	public double getCurrentY() {
-		if (this.coords == null) {
+		if (this.numCoords < 2) {
 			throw new IndexOutOfBoundsException();
 		}
-		final int baseIdx = this.coords.size() - 1;
-		return this.coords.get(baseIdx);
+		return this.coords[this.numCoords - 1];
 	}
 
 	@Pure
 	@Override
 	public Point2dfx getCurrentPoint() {
-		if (this.coords == null) {
+		if (this.numCoords < 2) {
 			throw new IndexOutOfBoundsException();
 		}
-		final int baseIdx = this.coords.size() - 1;
 		return getGeomFactory().newPoint(
-				this.coords.get(baseIdx - 1),
-				this.coords.get(baseIdx));
+				this.coords[this.numCoords - 2],
+				this.coords[this.numCoords - 1]);
 	}
 
 	@Override
 	public int size() {
-		return (this.coords == null) ? 0 : this.coords.size() / 2;
+		return this.numCoords / 2;
 	}
 
 	@Override
 	public void removeLast() {
-		if (this.types != null && !this.types.isEmpty() && this.coords != null && !this.coords.isEmpty()) {
-			final int lastIndex = this.types.size() - 1;
-			final int coordSize = this.coords.size();
+		if (this.numTypes > 0 && this.numCoords > 0) {
 			final int coordIndex;
-			switch (this.types.get(lastIndex)) {
+			switch (lastType()) {
 			case CLOSE:
 				// no coord to remove
-				coordIndex = coordSize;
+				coordIndex = this.numCoords;
 				break;
 			case MOVE_TO:
-				coordIndex = coordSize - 2;
+				coordIndex = this.numCoords - 2;
 				break;
 			case LINE_TO:
-				coordIndex = coordSize - 2;
+				coordIndex = this.numCoords - 2;
 				break;
 			case CURVE_TO:
-				coordIndex = coordSize - 6;
+				coordIndex = this.numCoords - 6;
 				break;
 			case QUAD_TO:
-				coordIndex = coordSize - 4;
+				coordIndex = this.numCoords - 4;
 				break;
 			case ARC_TO:
 			default:
 				throw new IllegalStateException();
 			}
-			this.coords.remove(coordIndex, coordSize);
-			this.types.remove(lastIndex);
+			beginUpdate();
+			try {
+				willChangeCoords(coordIndex);
+				willChangeTypes(this.numTypes - 1);
+				this.numCoords = coordIndex;
+				--this.numTypes;
+			} finally {
+				endUpdate();
+			}
 		} else {
 			throw new IllegalStateException();
 		}
@@ -658,57 +865,81 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 
 	@Override
 	public void moveTo(double x, double y) {
-		if (this.types != null && !this.types.isEmpty()
-				&& this.types.get(this.types.size() - 1) == PathElementType.MOVE_TO) {
-			assert this.coords != null && this.coords.size() >= 2;
-			final int idx = this.coords.size() - 1;
-			this.coords.set(idx - 1, x);
-			this.coords.set(idx, y);
-		} else {
-			innerTypesProperty().add(PathElementType.MOVE_TO);
-			final ReadOnlyListWrapper<Double> coords = innerCoordinatesProperty();
-			coords.add(x);
-			coords.add(y);
-		}
-	}
-
-	private void ensureMoveTo() {
-		if (this.types == null || this.types.isEmpty()) {
-			throw new IllegalStateException(Locale.getString("E1")); //$NON-NLS-1$
+		beginUpdate();
+		try {
+			if (this.numTypes > 0 && lastType() == PathElementType.MOVE_TO) {
+				assert this.numCoords >= 2;
+				willChangeCoords(this.numCoords - 2);
+				this.coords[this.numCoords - 2] = x;
+				this.coords[this.numCoords - 1] = y;
+			} else {
+				ensureSlots(false, 2);
+				appendType(PathElementType.MOVE_TO);
+				willChangeCoords(this.numCoords);
+				this.coords[this.numCoords++] = x;
+				this.coords[this.numCoords++] = y;
+			}
+		} finally {
+			endUpdate();
 		}
 	}
 
 	@Override
 	public void lineTo(double x, double y) {
-		ensureMoveTo();
-		innerTypesProperty().add(PathElementType.LINE_TO);
-		final ReadOnlyListWrapper<Double> coords = innerCoordinatesProperty();
-		coords.add(x);
-		coords.add(y);
+		beginUpdate();
+		try {
+			ensureSlots(true, 2);
+			appendType(PathElementType.LINE_TO);
+			willChangeCoords(this.numCoords);
+			this.coords[this.numCoords++] = x;
+			this.coords[this.numCoords++] = y;
+		} finally {
+			endUpdate();
+		}
 	}
 
 	@Override
 	public void quadTo(double x1, double y1, double x2, double y2) {
-		ensureMoveTo();
-		innerTypesProperty().add(PathElementType.QUAD_TO);
-		final ReadOnlyListWrapper<Double> coords = innerCoordinatesProperty();
-		coords.add(x1);
-		coords.add(y1);
-		coords.add(x2);
-		coords.add(y2);
+		beginUpdate();
+		try {
+			ensureSlots(true, 4);
+			appendType(PathElementType.QUAD_TO);
+			willChangeCoords(this.numCoords);
+			this.coords[this.numCoords++] = x1;
+			this.coords[this.numCoords++] = y1;
+			this.coords[this.numCoords++] = x2;
+			this.coords[this.numCoords++] = y2;
+		} finally {
+			endUpdate();
+		}
 	}
 
 	@Override
 	public void curveTo(double x1, double y1, double x2, double y2, double x3, double y3) {
-		ensureMoveTo();
-		innerTypesProperty().add(PathElementType.CURVE_TO);
-		final ReadOnlyListWrapper<Double> coords = innerCoordinatesProperty();
-		coords.add(x1);
-		coords.add(y1);
-		coords.add(x2);
-		coords.add(y2);
-		coords.add(x3);
-		coords.add(y3);
+		beginUpdate();
+		try {
+			ensureSlots(true, 6);
+			appendType(PathElementType.CURVE_TO);
+			willChangeCoords(this.numCoords);
+			this.coords[this.numCoords++] = x1;
+			this.coords[this.numCoords++] = y1;
+			this.coords[this.numCoords++] = x2;
+			this.coords[this.numCoords++] = y2;
+			this.coords[this.numCoords++] = x3;
+			this.coords[this.numCoords++] = y3;
+		} finally {
+			endUpdate();
+		}
+	}
+
+	@Override
+	public void add(Iterator<? extends PathElement2afp> iterator) {
+		beginUpdate();
+		try {
+			Path2afp.super.add(iterator);
+		} finally {
+			endUpdate();
+		}
 	}
 
 	/** Replies the private coordinates property.
@@ -716,14 +947,16 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 	 * @return the private coordinates property.
 	 */
 	protected ReadOnlyListWrapper<Double> innerCoordinatesProperty() {
-		if (this.coords == null) {
-			this.coords = new ReadOnlyListWrapper<>(this, MathFXAttributeNames.COORDINATES,
-					FXCollections.observableList(new ArrayList<>()));
+		if (this.coordsView == null) {
+			this.coordsView = new ReadOnlyListWrapper<>(this, MathFXAttributeNames.COORDINATES,
+					new CoordinateList());
 		}
-		return this.coords;
+		return this.coordsView;
 	}
 
 	/** Replies the coordinates property.
+	 *
+	 * <p>The replied list is a read-only view on the coordinates of the path.
 	 *
 	 * @return the coordinates property.
 	 */
@@ -733,69 +966,90 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 
 	@Override
 	public double getCoordAt(int index) {
-		if (this.coords == null) {
+		if (index < 0 || index >= this.numCoords) {
 			throw new IndexOutOfBoundsException();
 		}
-		return this.coords.get(index);
+		return this.coords[index];
 	}
 
 	@Override
 	public void setLastPoint(double x, double y) {
-		if (this.coords != null && this.coords.size() >= 2) {
-			final int idx = this.coords.size() - 1;
-			this.coords.set(idx - 1, x);
-			this.coords.set(idx, y);
+		if (this.numCoords >= 2) {
+			beginUpdate();
+			try {
+				willChangeCoords(this.numCoords - 2);
+				this.coords[this.numCoords - 2] = x;
+				this.coords[this.numCoords - 1] = y;
+			} finally {
+				endUpdate();
+			}
 		} else {
 			throw new IllegalStateException();
 		}
 	}
 
+	/** Remove the element at the given indexes.
+	 *
+	 * @param typeIndex the index of the type of the element.
+	 * @param coordIndex the index of the first coordinate of the element.
+	 * @param coordCount the number of coordinates of the element.
+	 */
+	private void removeElement(int typeIndex, int coordIndex, int coordCount) {
+		beginUpdate();
+		try {
+			willChangeTypes(typeIndex);
+			willChangeCoords(coordIndex);
+			System.arraycopy(this.types, typeIndex + 1, this.types, typeIndex, this.numTypes - typeIndex - 1);
+			--this.numTypes;
+			System.arraycopy(this.coords, coordIndex + coordCount, this.coords, coordIndex,
+					this.numCoords - coordIndex - coordCount);
+			this.numCoords -= coordCount;
+		} finally {
+			endUpdate();
+		}
+	}
+
 	@Override
 	@SuppressWarnings("checkstyle:cyclomaticcomplexity")
 	public boolean remove(double x, double y) {
-		if (this.types != null && !this.types.isEmpty() && this.coords != null && !this.coords.isEmpty()) {
-			for (int i = 0, j = 0; i < this.coords.size() && j < this.types.size();) {
-				switch (this.types.get(j)) {
-				case MOVE_TO:
-					//$FALL-THROUGH$
-				case LINE_TO:
-					if (x == this.coords.get(i) && y == this.coords.get(i + 1)) {
-						this.coords.remove(i, i + 2);
-						this.types.remove(j);
-						return true;
-					}
-					i += 2;
-					++j;
-					break;
-				case CURVE_TO:
-					if ((x == this.coords.get(i) && y == this.coords.get(i + 1))
-							|| (x == this.coords.get(i + 2) && y == this.coords.get(i + 3))
-							|| (x == this.coords.get(i + 4) && y == this.coords.get(i + 5))) {
-						this.coords.remove(i, i + 6);
-						this.types.remove(j);
-						return true;
-					}
-					i += 6;
-					++j;
-					break;
-				case QUAD_TO:
-					if ((x == this.coords.get(i) && y == this.coords.get(i + 1))
-							|| (x == this.coords.get(i + 2) && y == this.coords.get(i + 3))) {
-						this.coords.remove(i, i + 4);
-						this.types.remove(j);
-						return true;
-					}
-					i += 4;
-					++j;
-					break;
-				case CLOSE:
-					++j;
-					break;
-				case ARC_TO:
-					throw new IllegalStateException();
-				default:
-					break;
+		for (int i = 0, j = 0; i < this.numCoords && j < this.numTypes;) {
+			switch (TYPE_VALUES[this.types[j]]) {
+			case MOVE_TO:
+				//$FALL-THROUGH$
+			case LINE_TO:
+				if (x == this.coords[i] && y == this.coords[i + 1]) {
+					removeElement(j, i, 2);
+					return true;
 				}
+				i += 2;
+				++j;
+				break;
+			case CURVE_TO:
+				if ((x == this.coords[i] && y == this.coords[i + 1])
+						|| (x == this.coords[i + 2] && y == this.coords[i + 3])
+						|| (x == this.coords[i + 4] && y == this.coords[i + 5])) {
+					removeElement(j, i, 6);
+					return true;
+				}
+				i += 6;
+				++j;
+				break;
+			case QUAD_TO:
+				if ((x == this.coords[i] && y == this.coords[i + 1])
+						|| (x == this.coords[i + 2] && y == this.coords[i + 3])) {
+					removeElement(j, i, 4);
+					return true;
+				}
+				i += 4;
+				++j;
+				break;
+			case CLOSE:
+				++j;
+				break;
+			case ARC_TO:
+				throw new IllegalStateException();
+			default:
+				break;
 			}
 		}
 		return false;
@@ -804,8 +1058,19 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 	@Override
 	public void set(Path2dfx path) {
 		assert path != null : AssertMessages.notNullParameter();
-		clear();
-		add(path.getPathIterator());
+		set((Path2afp<?, ?, ?, ?, ?, ?>) path);
+	}
+
+	@Override
+	public void set(Path2afp<?, ?, ?, ?, ?, ?> path) {
+		assert path != null : AssertMessages.notNullParameter();
+		beginUpdate();
+		try {
+			clear();
+			add(path.getPathIterator());
+		} finally {
+			endUpdate();
+		}
 	}
 
 	/** Replies the private types property.
@@ -813,14 +1078,16 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 	 * @return the private types property.
 	 */
 	protected ReadOnlyListWrapper<PathElementType> innerTypesProperty() {
-		if (this.types == null) {
-			this.types = new ReadOnlyListWrapper<>(this, MathFXAttributeNames.TYPES,
-					FXCollections.observableList(new ArrayList<>()));
+		if (this.typesView == null) {
+			this.typesView = new ReadOnlyListWrapper<>(this, MathFXAttributeNames.TYPES,
+					new TypeList());
 		}
-		return this.types;
+		return this.typesView;
 	}
 
 	/** Replies the types property.
+	 *
+	 * <p>The replied list is a read-only view on the types of the path elements.
 	 *
 	 * @return the types property.
 	 */
@@ -830,15 +1097,15 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 
 	@Override
 	public int getPathElementCount() {
-		return this.types == null ? 0 : innerTypesProperty().size();
+		return this.numTypes;
 	}
 
 	@Override
 	public PathElementType getPathElementTypeAt(int index) {
-		if (this.types == null) {
+		if (index < 0 || index >= this.numTypes) {
 			throw new IndexOutOfBoundsException();
 		}
-		return this.types.get(index);
+		return TYPE_VALUES[this.types[index]];
 	}
 
 	@Override
@@ -856,7 +1123,7 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 			this.length.bind(Bindings.createDoubleBinding(() -> {
 				return Path2afp.computeLength(getPathIterator());
 			},
-					innerTypesProperty(), innerCoordinatesProperty()));
+					modificationProperty()));
 		}
 		return this.length;
 	}
@@ -872,7 +1139,7 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 						bb);
 				return bb;
 			},
-					innerCoordinatesProperty()));
+					modificationProperty()));
 		}
 		return this.boundingBox;
 	}
@@ -894,9 +1161,127 @@ public class Path2dfx extends AbstractShape2dfx<Path2dfx>
 						bb);
 				return bb;
 			},
-					innerCoordinatesProperty()));
+					modificationProperty()));
 		}
 		return this.logicalBounds;
 	}
 
+	/** Read-only observable view on the coordinates of the path.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private class CoordinateList extends ObservableListBase<Double> {
+
+		/** Construct the view.
+		 */
+		CoordinateList() {
+			//
+		}
+
+		@Override
+		public Double get(int index) {
+			return getCoordAt(index);
+		}
+
+		@Override
+		public int size() {
+			return Path2dfx.this.numCoords;
+		}
+
+		/** Fire the change of the coordinates from the given index.
+		 *
+		 * @param from the index of the first changed coordinate.
+		 * @param to the index after the last added coordinate.
+		 * @param removed the removed coordinates.
+		 */
+		void fireChange(int from, int to, double[] removed) {
+			final List<Double> removedList = new AbstractList<Double>() {
+				@Override
+				public Double get(int index) {
+					return removed[index];
+				}
+
+				@Override
+				public int size() {
+					return removed.length;
+				}
+			};
+			beginChange();
+			if (removed.length > 0) {
+				if (to > from) {
+					nextReplace(from, to, removedList);
+				} else {
+					nextRemove(from, removedList);
+				}
+			} else if (to > from) {
+				nextAdd(from, to);
+			}
+			endChange();
+		}
+
+	}
+
+	/** Read-only observable view on the types of the path elements.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private class TypeList extends ObservableListBase<PathElementType> {
+
+		/** Construct the view.
+		 */
+		TypeList() {
+			//
+		}
+
+		@Override
+		public PathElementType get(int index) {
+			return getPathElementTypeAt(index);
+		}
+
+		@Override
+		public int size() {
+			return Path2dfx.this.numTypes;
+		}
+
+		/** Fire the change of the types from the given index.
+		 *
+		 * @param from the index of the first changed type.
+		 * @param to the index after the last added type.
+		 * @param removed the removed types.
+		 */
+		void fireChange(int from, int to, byte[] removed) {
+			final List<PathElementType> removedList = new AbstractList<PathElementType>() {
+				@Override
+				public PathElementType get(int index) {
+					return TYPE_VALUES[removed[index]];
+				}
+
+				@Override
+				public int size() {
+					return removed.length;
+				}
+			};
+			beginChange();
+			if (removed.length > 0) {
+				if (to > from) {
+					nextReplace(from, to, removedList);
+				} else {
+					nextRemove(from, removedList);
+				}
+			} else if (to > from) {
+				nextAdd(from, to);
+			}
+			endChange();
+		}
+
+	}
+
 }
@@ -55,6 +55,22 @@ public class Segment2dfx extends AbstractShape2dfx<Segment2dfx>
 
 	private DoubleProperty by;
 
+	/** X coordinate of the first point when the {@link #ax} property is not created.
+	 */
+	private double axValue;
+
+	/** Y coordinate of the first point when the {@link #ay} property is not created.
+	 */
+	private double ayValue;
+
+	/** X coordinate of the second point when the {@link #bx} property is not created.
+	 */
+	private double bxValue;
+
+	/** Y coordinate of the second point when the {@link #by} property is not created.
+	 */
+	private double byValue;
+
 	/** Construct an empty segment.
 	 */
 	public Segment2dfx() {
@@ -89,22 +105,15 @@ public class Segment2dfx extends AbstractShape2dfx<Segment2dfx>
 	@Override
 	public Segment2dfx clone() {
 		final Segment2dfx clone = super.clone();
-		if (clone.ax != null) {
-			clone.ax = null;
-			clone.x1Property().set(getX1());
-		}
-		if (clone.ay != null) {
-			clone.ay = null;
-			clone.y1Property().set(getY1());
-		}
-		if (clone.bx != null) {
-			clone.bx = null;
-			clone.x2Property().set(getX2());
-		}
-		if (clone.by != null) {
-			clone.by = null;
-			clone.y2Property().set(getY2());
-		}
+		clone.axValue = getX1();
+		clone.ax = null;
+		clone.ayValue = getY1();
+		clone.ay = null;
+		clone.bxValue = getX2();
+		clone.bx = null;
+		clone.byValue = getY2();
+		clone.by = null;
+		clone.boundingBox = null;
 		return clone;
 	}
 
@@ -159,28 +168,44 @@ public class Segment2dfx extends AbstractShape2dfx<Segment2dfx>
 
 	@Override
 	public void setX1(double x) {
-		x1Property().set(x);
+		if (this.ax != null) {
+			this.ax.set(x);
+		} else {
+			this.axValue = x;
+		}
 	}
 
 	@Override
 	public void setY1(double y) {
-		y1Property().set(y);
+		if (this.ay != null) {
+			this.ay.set(y);
+		} else {
+			this.ayValue = y;
+		}
 	}
 
 	@Override
 	public void setX2(double x) {
-		x2Property().set(x);
+		if (this.bx != null) {
+			this.bx.set(x);
+		} else {
+			this.bxValue = x;
+		}
 	}
 
 	@Override
 	public void setY2(double y) {
-		y2Property().set(y);
+		if (this.by != null) {
+			this.by.set(y);
+		} else {
+			this.byValue = y;
+		}
 	}
 
 	@Pure
 	@Override
 	public double getX1() {
-		return this.ax == null ? 0 : this.ax.get();
+		return this.ax == null ? this.axValue : this.ax.get();
 	}
 
 	/** Replies the property that is the x coordinate of the first segment point.
@@ -190,7 +215,7 @@ public class Segment2dfx extends AbstractShape2dfx<Segment2dfx>
 	@Pure
 	public DoubleProperty x1Property() {
 		if (this.ax == null) {
-			this.ax = new SimpleDoubleProperty(this, MathFXAttributeNames.X1);
+			this.ax = new SimpleDoubleProperty(this, MathFXAttributeNames.X1, this.axValue);
 		}
 		return this.ax;
 	}
@@ -198,7 +223,7 @@ public class Segment2dfx extends AbstractShape2dfx<Segment2dfx>
 	@Pure
 	@Override
 	public double getY1() {
-		return this.ay == null ? 0 : this.ay.get();
+		return this.ay == null ? this.ayValue : this.ay.get();
 	}
 
 	/** Replies the property that is the y coordinate of the first segment point.
@@ -208,7 +233,7 @@ public class Segment2dfx extends AbstractShape2dfx<Segment2dfx>
 	@Pure
 	public DoubleProperty y1Property() {
 		if (this.ay == null) {
-			this.ay = new SimpleDoubleProperty(this, MathFXAttributeNames.Y1);
+			this.ay = new SimpleDoubleProperty(this, MathFXAttributeNames.Y1, this.ayValue);
 		}
 		return this.ay;
 	}
@@ -216,7 +241,7 @@ public class Segment2dfx extends AbstractShape2dfx<Segment2dfx>
 	@Pure
 	@Override
 	public double getX2() {
-		return this.bx == null ? 0 : this.bx.get();
+		return this.bx == null ? this.bxValue : this.bx.get();
 	}
 
 	/** Replies the property that is the x coordinate of the second segment point.
@@ -226,7 +251,7 @@ public class Segment2dfx extends AbstractShape2dfx<Segment2dfx>
 	@Pure
 	public DoubleProperty x2Property() {
 		if (this.bx == null) {
-			this.bx = new SimpleDoubleProperty(this, MathFXAttributeNames.X2);
+			this.bx = new SimpleDoubleProperty(this, MathFXAttributeNames.X2, this.bxValue);
 		}
 		return this.bx;
 	}
@@ -234,7 +259,7 @@ public class Segment2dfx extends AbstractShape2dfx<Segment2dfx>
 	@Pure
 	@Override
 	public double getY2() {
-		return this.by == null ? 0 : this.by.get();
+		return this.by == null ? this.byValue : this.by.get();
 	}
 
 	/** Replies the property that is the x coordinate of the second segment point.
@@ -244,19 +269,19 @@ public class Segment2dfx extends AbstractShape2dfx<Segment2dfx>
 	@Pure
 	public DoubleProperty y2Property() {
 		if (this.by == null) {
-			this.by = new SimpleDoubleProperty(this, MathFXAttributeNames.Y2);
+			this.by = new SimpleDoubleProperty(this, MathFXAttributeNames.Y2, this.byValue);
 		}
 		return this.by;
 	}
 
 	@Override
 	public Point2dfx getP1() {
-		return getGeomFactory().newPoint(this.ax, this.ay);
+		return getGeomFactory().newPoint(x1Property(), y1Property());
 	}
 
 	@Override
 	public Point2dfx getP2() {
-		return getGeomFactory().newPoint(this.bx, this.by);
+		return getGeomFactory().newPoint(x2Property(), y2Property());
 	}
 
 	@Override
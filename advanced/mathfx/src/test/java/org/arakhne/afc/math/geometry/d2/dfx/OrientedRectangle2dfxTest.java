@@ -148,4 +148,22 @@ public class OrientedRectangle2dfxTest extends AbstractOrientedRectangle2afpTest
 		assertEpsilonEquals(pHy, box.getMaxY());
 	}
 
+	@Test
+	public void firstAxisPropertyAfterPrimitiveChanges() {
+		OrientedRectangle2dfx rectangle = new OrientedRectangle2dfx();
+		assertEpsilonEquals(1, rectangle.firstAxisProperty().getX());
+		assertEpsilonEquals(0, rectangle.firstAxisProperty().getY());
+		rectangle = new OrientedRectangle2dfx(1, 2, 0, 1, 3, 4);
+		assertEpsilonEquals(-1, rectangle.getSecondAxisX());
+		assertEpsilonEquals(0, rectangle.getSecondAxisY());
+		UnitVectorProperty property = rectangle.firstAxisProperty();
+		assertEpsilonEquals(0, property.getX());
+		assertEpsilonEquals(1, property.getY());
+		assertEpsilonEquals(-1, rectangle.secondAxisProperty().getX());
+		rectangle.setFirstAxis(1, 0, 5);
+		assertEpsilonEquals(1, property.getX());
+		assertEpsilonEquals(1, rectangle.secondAxisProperty().getY());
+		assertEpsilonEquals(5, rectangle.firstAxisExtentProperty().get());
+	}
+
 }
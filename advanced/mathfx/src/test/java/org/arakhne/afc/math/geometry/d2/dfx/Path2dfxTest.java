@@ -30,10 +30,18 @@ import org.arakhne.afc.math.geometry.d2.dfx.Path2dfx;
 import org.arakhne.afc.math.geometry.d2.dfx.Rectangle2dfx;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyListProperty;
+import javafx.collections.ListChangeListener;
 
 @SuppressWarnings("all")
 public class Path2dfxTest extends AbstractPath2afpTest<Path2dfx, Rectangle2dfx> {
@@ -155,4 +163,134 @@ public class Path2dfxTest extends AbstractPath2afpTest<Path2dfx, Rectangle2dfx>
 		assertSame(PathWindingRule.NON_ZERO, property.get());
 	}
 
+	@Test
+	public void coordinatesPropertyChangeEvents() {
+		ReadOnlyListProperty<Double> property = this.shape.coordinatesProperty();
+		List<ListChangeListener.Change<? extends Double>> events = new ArrayList<>();
+		property.addListener((ListChangeListener<Double>) (it) -> {
+			while (it.next()) {
+				assertTrue(it.wasAdded());
+				assertFalse(it.wasRemoved());
+				assertEquals(14, it.getFrom());
+				assertEquals(16, it.getTo());
+			}
+			events.add(it);
+		});
+		this.shape.lineTo(10, 11);
+		assertEquals(1, events.size());
+		assertEquals(16, property.size());
+		assertEpsilonEquals(10, property.get(14));
+		assertEpsilonEquals(11, property.get(15));
+	}
+
+	@Test
+	public void serializeDeserializeChange() throws Exception {
+		Path2dfx path = new Path2dfx();
+		path.moveTo(1, 2);
+		path.lineTo(3, 4);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(path);
+		}
+		Path2dfx copy;
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			copy = (Path2dfx) in.readObject();
+		}
+		ReadOnlyListProperty<Double> coords = copy.coordinatesProperty();
+		ReadOnlyListProperty<PathElementType> types = copy.typesProperty();
+		int[] events = new int[2];
+		coords.addListener((ListChangeListener<Double>) (it) -> {
+			while (it.next()) {
+				assertEquals(4, it.getFrom());
+				assertEquals(6, it.getTo());
+				assertFalse(it.wasRemoved());
+			}
+			++events[0];
+		});
+		types.addListener((ListChangeListener<PathElementType>) (it) -> {
+			while (it.next()) {
+				assertEquals(2, it.getFrom());
+				assertEquals(3, it.getTo());
+				assertFalse(it.wasRemoved());
+			}
+			++events[1];
+		});
+		copy.lineTo(5, 6);
+		assertEquals(1, events[0]);
+		assertEquals(1, events[1]);
+		assertEquals(6, coords.size());
+		assertEpsilonEquals(5, coords.get(4));
+		assertEpsilonEquals(6, coords.get(5));
+		assertEquals(PathElementType.LINE_TO, types.get(2));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void coordinatesPropertyReadOnly() {
+		this.shape.coordinatesProperty().add(1.);
+	}
+
+	@Test
+	public void beginUpdateEndUpdate() {
+		ReadOnlyListProperty<Double> coords = this.shape.coordinatesProperty();
+		ReadOnlyListProperty<PathElementType> types = this.shape.typesProperty();
+		BooleanProperty polyline = this.shape.isPolylineProperty();
+		assertFalse(polyline.get());
+		int[] coordEvents = new int[1];
+		int[] typeEvents = new int[1];
+		int[] polylineEvents = new int[1];
+		coords.addListener((ListChangeListener<Double>) (it) -> {
+			while (coordEvents[0] == 0 && it.next()) {
+				assertEquals(0, it.getFrom());
+				assertEquals(6, it.getTo());
+				assertEquals(14, it.getRemovedSize());
+			}
+			++coordEvents[0];
+		});
+		types.addListener((ListChangeListener<PathElementType>) (it) -> {
+			while (typeEvents[0] == 0 && it.next()) {
+				assertEquals(0, it.getFrom());
+				assertEquals(3, it.getTo());
+				assertEquals(4, it.getRemovedSize());
+			}
+			++typeEvents[0];
+		});
+		polyline.addListener((it) -> ++polylineEvents[0]);
+		this.shape.beginUpdate();
+		this.shape.clear();
+		this.shape.moveTo(1, 2);
+		this.shape.lineTo(3, 4);
+		this.shape.lineTo(5, 6);
+		assertEquals(0, coordEvents[0]);
+		assertEquals(0, typeEvents[0]);
+		assertEquals(0, polylineEvents[0]);
+		this.shape.endUpdate();
+		assertEquals(1, coordEvents[0]);
+		assertEquals(1, typeEvents[0]);
+		assertEquals(1, polylineEvents[0]);
+		assertTrue(polyline.get());
+		assertEquals(6, coords.size());
+		assertEquals(3, types.size());
+		this.shape.lineTo(7, 8);
+		assertEquals(2, coordEvents[0]);
+		this.shape.translate(1, 1);
+		this.shape.removeLast();
+		assertEquals(3, types.size());
+		assertEpsilonEquals(6, coords.get(4));
+		assertEpsilonEquals(7, coords.get(5));
+	}
+
+	@Test
+	public void setPath2afpSingleEvent() {
+		Path2dfx path = new Path2dfx();
+		path.moveTo(0, 0);
+		path.lineTo(1, 1);
+		int[] events = new int[1];
+		path.coordinatesProperty().addListener((ListChangeListener<Double>) (it) -> ++events[0]);
+		path.set(this.shape);
+		assertEquals(1, events[0]);
+		assertEquals(14, path.coordinatesProperty().size());
+		assertTrue(path.isCurved());
+		assertFalse(path.isPolyline());
+	}
+
 }
\ No newline at end of file
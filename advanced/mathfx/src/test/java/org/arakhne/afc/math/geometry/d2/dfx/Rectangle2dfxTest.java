@@ -143,4 +143,24 @@ public class Rectangle2dfxTest extends AbstractRectangle2afpTest<Rectangle2dfx,
 		assertEpsilonEquals(18, box.getMaxY());
 	}
 
+	@Test
+	public void propertiesAfterPrimitiveChanges() {
+		Rectangle2dfx rectangle = new Rectangle2dfx(1, 2, 3, 4);
+		rectangle.setMinX(10);
+		assertEpsilonEquals(10, rectangle.getMaxX());
+		assertEpsilonEquals(0, rectangle.getWidth());
+		rectangle.setMaxY(1);
+		assertEpsilonEquals(1, rectangle.getMinY());
+		DoubleProperty width = rectangle.widthProperty();
+		assertEpsilonEquals(0, width.get());
+		rectangle.setMaxX(15);
+		assertEpsilonEquals(5, width.get());
+		assertEpsilonEquals(10, rectangle.minXProperty().get());
+		assertEpsilonEquals(1, rectangle.minYProperty().get());
+		Rectangle2dfx clone = rectangle.clone();
+		clone.setMaxX(20);
+		assertEpsilonEquals(5, width.get());
+		assertEpsilonEquals(10, clone.getWidth());
+	}
+
 }
\ No newline at end of file
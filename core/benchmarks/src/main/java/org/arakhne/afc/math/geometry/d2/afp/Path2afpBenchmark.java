@@ -0,0 +1,142 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.arakhne.afc.math.MathConstants;
+import org.arakhne.afc.math.geometry.CrossingComputationType;
+import org.arakhne.afc.math.geometry.d2.d.Path2d;
+import org.arakhne.afc.math.geometry.d2.d.PathElement2d;
+
+/**
+ * Benchmarks of the crossing computation and of the flattening of {@link Path2afp}.
+ *
+ * <p>This benchmark is in the package of {@link Path2afp} for accessing to the
+ * package-private shadow implementation.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings({"checkstyle:visibilitymodifier", "checkstyle:magicnumber"})
+public class Path2afpBenchmark {
+
+	/** Number of curves in the path.
+	 */
+	@Param({"10", "100", "1000"})
+	public int size;
+
+	private Path2d path;
+
+	private BasicPathShadow2afp shadow;
+
+	/** Create the paths.
+	 */
+	@Setup
+	public void setUp() {
+		final Random random = new Random(1234);
+		this.path = new Path2d();
+		this.path.moveTo(random.nextDouble() * 100, random.nextDouble() * 100);
+		for (int i = 0; i < this.size; ++i) {
+			switch (i % 3) {
+			case 0:
+				this.path.lineTo(random.nextDouble() * 100, random.nextDouble() * 100);
+				break;
+			case 1:
+				this.path.quadTo(random.nextDouble() * 100, random.nextDouble() * 100,
+						random.nextDouble() * 100, random.nextDouble() * 100);
+				break;
+			default:
+				this.path.curveTo(random.nextDouble() * 100, random.nextDouble() * 100,
+						random.nextDouble() * 100, random.nextDouble() * 100,
+						random.nextDouble() * 100, random.nextDouble() * 100);
+				break;
+			}
+		}
+		this.path.closePath();
+		final Path2d other = new Path2d();
+		other.moveTo(40, 40);
+		other.lineTo(60, 45);
+		other.quadTo(70, 60, 55, 65);
+		other.closePath();
+		this.shadow = new BasicPathShadow2afp(other);
+	}
+
+	/** Compute the crossings between the path and the shadow of another path.
+	 *
+	 * @return the crossings.
+	 */
+	@Benchmark
+	public int computeCrossingsFromPath() {
+		return Path2afp.computeCrossingsFromPath(0, this.path.getPathIterator(), this.shadow,
+				CrossingComputationType.STANDARD);
+	}
+
+	/** Compute the crossings between the path and the shadow of a rectangle.
+	 *
+	 * @return the crossings.
+	 */
+	@Benchmark
+	public int computeCrossingsFromRect() {
+		return Path2afp.computeCrossingsFromRect(0, this.path.getPathIterator(), 40, 40, 60, 65,
+				CrossingComputationType.STANDARD);
+	}
+
+	/** Iterate on the flattened path.
+	 *
+	 * @return the sum of the coordinates, for avoiding dead-code elimination.
+	 */
+	@Benchmark
+	public double flatteningPathIterator() {
+		final PathIterator2afp<PathElement2d> iterator = new Path2afp.FlatteningPathIterator<>(
+				this.path.getPathIterator(), MathConstants.SPLINE_APPROXIMATION_RATIO,
+				Path2afp.DEFAULT_FLATTENING_LIMIT);
+		double sum = 0;
+		while (iterator.hasNext()) {
+			final PathElement2d element = iterator.next();
+			sum += element.getToX() + element.getToY();
+		}
+		return sum;
+	}
+
+}
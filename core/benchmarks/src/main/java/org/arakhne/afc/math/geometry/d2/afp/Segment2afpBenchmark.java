@@ -0,0 +1,161 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+import org.arakhne.afc.math.geometry.d2.d.Segment2d;
+
+/**
+ * Benchmarks of the intersection tests of {@link Segment2afp}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings({"checkstyle:visibilitymodifier", "checkstyle:magicnumber"})
+public class Segment2afpBenchmark {
+
+	/** Number of segments.
+	 */
+	@Param({"100", "10000"})
+	public int size;
+
+	/** Coordinates of the segments: <code>x1, y1, x2, y2</code> for each segment.
+	 */
+	private double[] coordinates;
+
+	private Segment2d[] segments;
+
+	private Rectangle2d rectangle;
+
+	private SegmentBatch2afp batch;
+
+	private boolean[] flags;
+
+	/** Create the segments.
+	 */
+	@Setup
+	public void setUp() {
+		final Random random = new Random(1234);
+		this.coordinates = new double[this.size * 4];
+		this.segments = new Segment2d[this.size];
+		for (int i = 0, j = 0; i < this.size; ++i, j += 4) {
+			this.coordinates[j] = random.nextDouble() * 100;
+			this.coordinates[j + 1] = random.nextDouble() * 100;
+			this.coordinates[j + 2] = random.nextDouble() * 100;
+			this.coordinates[j + 3] = random.nextDouble() * 100;
+			this.segments[i] = new Segment2d(this.coordinates[j], this.coordinates[j + 1],
+					this.coordinates[j + 2], this.coordinates[j + 3]);
+		}
+		this.rectangle = new Rectangle2d(40, 40, 20, 20);
+		this.batch = new SegmentBatch2afp(this.size);
+		for (int j = 0; j < this.coordinates.length; j += 4) {
+			this.batch.add(this.coordinates[j], this.coordinates[j + 1],
+					this.coordinates[j + 2], this.coordinates[j + 3]);
+		}
+		this.flags = new boolean[this.size];
+	}
+
+	/** Test each segment against the next one, ends included.
+	 *
+	 * @return the number of intersections.
+	 */
+	@Benchmark
+	public int intersectsSegmentSegmentWithEnds() {
+		final double[] c = this.coordinates;
+		int count = 0;
+		for (int j = 4; j < c.length; j += 4) {
+			if (Segment2afp.intersectsSegmentSegmentWithEnds(c[j - 4], c[j - 3], c[j - 2], c[j - 1],
+					c[j], c[j + 1], c[j + 2], c[j + 3])) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+	/** Test each segment against the next one, ends excluded.
+	 *
+	 * @return the number of intersections.
+	 */
+	@Benchmark
+	public int intersectsSegmentSegmentWithoutEnds() {
+		final double[] c = this.coordinates;
+		int count = 0;
+		for (int j = 4; j < c.length; j += 4) {
+			if (Segment2afp.intersectsSegmentSegmentWithoutEnds(c[j - 4], c[j - 3], c[j - 2], c[j - 1],
+					c[j], c[j + 1], c[j + 2], c[j + 3])) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+	/** Test each segment against a rectangle.
+	 *
+	 * @return the number of intersections.
+	 */
+	@Benchmark
+	public int intersectsRectangle() {
+		int count = 0;
+		for (final Segment2d segment : this.segments) {
+			if (segment.intersects(this.rectangle)) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+	/** Test all the segments of a batch against a rectangle.
+	 *
+	 * @return the number of intersections.
+	 */
+	@Benchmark
+	public int intersectsRectangleBatch() {
+		return this.batch.intersectsRectangle(
+				this.rectangle.getMinX(), this.rectangle.getMinY(),
+				this.rectangle.getMaxX(), this.rectangle.getMaxY(),
+				this.flags);
+	}
+
+}
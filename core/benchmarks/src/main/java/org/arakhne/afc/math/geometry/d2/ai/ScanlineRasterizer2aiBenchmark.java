@@ -0,0 +1,153 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.ai;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.arakhne.afc.math.geometry.PathWindingRule;
+import org.arakhne.afc.math.geometry.d2.ai.ScanlineRasterizer2ai.SpanBuffer;
+import org.arakhne.afc.math.geometry.d2.i.Path2i;
+import org.arakhne.afc.util.IntegerList;
+
+/**
+ * Benchmarks of {@link ScanlineRasterizer2ai} on a self-intersecting star polygon that covers
+ * a square grid, compared to the test of each pixel of the grid with {@link Path2i#contains(int, int)}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings({"checkstyle:visibilitymodifier", "checkstyle:magicnumber"})
+public class ScanlineRasterizer2aiBenchmark {
+
+	/** Number of rows and columns of the grid.
+	 */
+	@Param({"256", "4096"})
+	public int size;
+
+	/** Winding rule of the polygon.
+	 */
+	@Param({"NON_ZERO", "EVEN_ODD"})
+	public PathWindingRule rule;
+
+	private Path2i polygon;
+
+	private ScanlineRasterizer2ai rasterizer;
+
+	private SpanBuffer buffer;
+
+	/** Create the polygon.
+	 */
+	@Setup
+	public void setUp() {
+		this.polygon = new Path2i(this.rule);
+		final int radius = this.size / 2;
+		final int points = 7;
+		for (int i = 0; i < points; ++i) {
+			// Star polygon {7/3}
+			final double angle = 2 * Math.PI * ((i * 3) % points) / points;
+			final int x = radius + (int) Math.round(Math.cos(angle) * (radius - 1));
+			final int y = radius + (int) Math.round(Math.sin(angle) * (radius - 1));
+			if (i == 0) {
+				this.polygon.moveTo(x, y);
+			} else {
+				this.polygon.lineTo(x, y);
+			}
+		}
+		this.polygon.closePath();
+		this.rasterizer = new ScanlineRasterizer2ai();
+		this.buffer = new SpanBuffer();
+	}
+
+	/** Fill a bit set with the pixels of the polygon.
+	 *
+	 * @return the number of filled pixels.
+	 */
+	@Benchmark
+	public int rasterizeBitSet() {
+		final BitSet bits = new BitSet(this.size * this.size);
+		this.rasterizer.rasterize(this.polygon.getPathIterator(),
+				ScanlineRasterizer2ai.bitSetConsumer(bits, 0, 0, this.size, this.size));
+		return bits.cardinality();
+	}
+
+	/** Fill an integer list with the pixels of the polygon.
+	 *
+	 * @return the number of filled pixels.
+	 */
+	@Benchmark
+	public int rasterizeIntegerList() {
+		final IntegerList list = new IntegerList();
+		this.rasterizer.rasterize(this.polygon.getPathIterator(),
+				ScanlineRasterizer2ai.integerListConsumer(list, 0, 0, this.size, this.size));
+		return list.size();
+	}
+
+	/** Fill a reused span buffer with the spans of the polygon.
+	 *
+	 * @return the number of filled pixels.
+	 */
+	@Benchmark
+	public long rasterizeSpanBuffer() {
+		this.buffer.clear();
+		this.rasterizer.rasterize(this.polygon.getPathIterator(), this.buffer);
+		return this.buffer.getPixelCount();
+	}
+
+	/** Fill a bit set by testing each pixel of the grid.
+	 *
+	 * @return the number of filled pixels.
+	 */
+	@Benchmark
+	public int containsPerPixel() {
+		final BitSet bits = new BitSet(this.size * this.size);
+		for (int y = 0; y < this.size; ++y) {
+			for (int x = 0; x < this.size; ++x) {
+				if (this.polygon.contains(x, y)) {
+					bits.set(y * this.size + x);
+				}
+			}
+		}
+		return bits.cardinality();
+	}
+
+}
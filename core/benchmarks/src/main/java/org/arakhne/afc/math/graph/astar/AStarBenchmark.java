@@ -0,0 +1,143 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.astar;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.arakhne.afc.math.graph.GraphPath;
+import org.arakhne.afc.math.graph.compact.CompactGraph;
+import org.arakhne.afc.math.graph.compact.CompactGraphPoint;
+import org.arakhne.afc.math.graph.compact.CompactGraphSegment;
+
+/**
+ * Benchmarks of {@link AStar#solve(Object, Object)} on square grids.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("checkstyle:visibilitymodifier")
+public class AStarBenchmark {
+
+	/** Number of points on each side of the grid.
+	 */
+	@Param({"32", "128", "512"})
+	public int size;
+
+	private CompactGraph graph;
+
+	private AStar<GridPath, CompactGraphSegment, CompactGraphPoint> astar;
+
+	/** Create the grid and the A* algorithm.
+	 */
+	@Setup
+	public void setUp() {
+		final int n = this.size;
+		final int segmentCount = 2 * n * (n - 1);
+		final int[] begins = new int[segmentCount];
+		final int[] ends = new int[segmentCount];
+		final double[] lengths = new double[segmentCount];
+		int segment = 0;
+		for (int y = 0; y < n; ++y) {
+			for (int x = 0; x < n; ++x) {
+				final int index = y * n + x;
+				if (x + 1 < n) {
+					begins[segment] = index;
+					ends[segment] = index + 1;
+					lengths[segment] = 1;
+					++segment;
+				}
+				if (y + 1 < n) {
+					begins[segment] = index;
+					ends[segment] = index + n;
+					lengths[segment] = 1;
+					++segment;
+				}
+			}
+		}
+		this.graph = new CompactGraph(n * n, begins, ends, lengths);
+		this.astar = new AStar<GridPath, CompactGraphSegment, CompactGraphPoint>(
+			(p1, p2) -> Math.abs(p1.getIndex() % n - p2.getIndex() % n) + Math.abs(p1.getIndex() / n - p2.getIndex() / n),
+			(point, firstSegment) -> new GridPath(firstSegment, point));
+	}
+
+	/** Solve the path between two opposite corners of the grid.
+	 *
+	 * @return the path.
+	 */
+	@Benchmark
+	public GridPath solveCornerToCorner() {
+		return this.astar.solve(this.graph.getPointAt(0), this.graph.getPointAt(this.size * this.size - 1));
+	}
+
+	/** Solve the path between the middle of two opposite sides of the grid.
+	 *
+	 * @return the path.
+	 */
+	@Benchmark
+	public GridPath solveSideToSide() {
+		final int n = this.size;
+		return this.astar.solve(this.graph.getPointAt(n / 2), this.graph.getPointAt((n - 1) * n + n / 2));
+	}
+
+	/**
+	 * Path in the grid.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	public static class GridPath extends GraphPath<GridPath, CompactGraphSegment, CompactGraphPoint> {
+
+		/** Construct a path.
+		 *
+		 * @param segment the first segment.
+		 * @param point the starting point.
+		 */
+		GridPath(CompactGraphSegment segment, CompactGraphPoint point) {
+			super(segment, point, true);
+		}
+
+	}
+
+}
@@ -0,0 +1,153 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.arakhne.afc.math.geometry.d2.d.Point2d;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+
+/**
+ * Benchmarks of the queries on {@link SpatialQuadTree} against a brute-force scan.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+@SuppressWarnings({"checkstyle:visibilitymodifier", "checkstyle:magicnumber"})
+public class SpatialQuadTreeBenchmark {
+
+	private static final double WORLD_SIZE = 10000;
+
+	private static final int NEAREST_COUNT = 10;
+
+	/** Number of entities.
+	 */
+	@Param({"10000", "1000000"})
+	public int size;
+
+	private List<Rectangle2d> entities;
+
+	private SpatialQuadTree<Rectangle2d> tree;
+
+	private Rectangle2d query;
+
+	private Point2d point;
+
+	/** Create the entities and the tree.
+	 */
+	@Setup
+	public void setUp() {
+		final Random random = new Random(1234);
+		this.entities = new ArrayList<>(this.size);
+		for (int i = 0; i < this.size; ++i) {
+			this.entities.add(new Rectangle2d(random.nextDouble() * WORLD_SIZE, random.nextDouble() * WORLD_SIZE,
+					random.nextDouble() * 10, random.nextDouble() * 10));
+		}
+		this.tree = new SpatialQuadTree<>(0, 0, WORLD_SIZE, WORLD_SIZE);
+		this.tree.build(this.entities);
+		this.query = new Rectangle2d(WORLD_SIZE / 2, WORLD_SIZE / 2, 100, 100);
+		this.point = new Point2d(WORLD_SIZE / 3, WORLD_SIZE / 3);
+	}
+
+	/** Rectangle query on the tree.
+	 *
+	 * @return the entities in the rectangle.
+	 */
+	@Benchmark
+	public List<Rectangle2d> treeIntersecting() {
+		return this.tree.getIntersecting(this.query);
+	}
+
+	/** Rectangle query with a scan of all the entities.
+	 *
+	 * @return the entities in the rectangle.
+	 */
+	@Benchmark
+	public List<Rectangle2d> bruteForceIntersecting() {
+		final List<Rectangle2d> result = new ArrayList<>();
+		for (final Rectangle2d entity : this.entities) {
+			if (entity.intersects(this.query)) {
+				result.add(entity);
+			}
+		}
+		return result;
+	}
+
+	/** Nearest-neighbor query on the tree.
+	 *
+	 * @return the nearest entities.
+	 */
+	@Benchmark
+	public List<Rectangle2d> treeNearest() {
+		return this.tree.getNearest(this.point, NEAREST_COUNT);
+	}
+
+	/** Nearest-neighbor query with a scan of all the entities.
+	 *
+	 * @return the nearest entities.
+	 */
+	@Benchmark
+	public List<Rectangle2d> bruteForceNearest() {
+		final Rectangle2d[] nearest = new Rectangle2d[NEAREST_COUNT];
+		final double[] distances = new double[NEAREST_COUNT];
+		Arrays.fill(distances, Double.POSITIVE_INFINITY);
+		for (final Rectangle2d entity : this.entities) {
+			final double distance = entity.getDistanceSquared(this.point);
+			if (distance < distances[NEAREST_COUNT - 1]) {
+				int i = NEAREST_COUNT - 1;
+				while (i > 0 && distances[i - 1] > distance) {
+					distances[i] = distances[i - 1];
+					nearest[i] = nearest[i - 1];
+					--i;
+				}
+				distances[i] = distance;
+				nearest[i] = entity;
+			}
+		}
+		return Arrays.asList(nearest);
+	}
+
+}
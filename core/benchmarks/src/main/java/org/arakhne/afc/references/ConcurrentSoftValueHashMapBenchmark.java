@@ -0,0 +1,128 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.references;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of {@link ConcurrentSoftValueHashMap} shared by several threads, compared
+ * to a {@link SoftValueHashMap} wrapped with {@link Collections#synchronizedMap(Map)}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+@SuppressWarnings("checkstyle:visibilitymodifier")
+public class ConcurrentSoftValueHashMapBenchmark {
+
+	/** Number of entries.
+	 */
+	@Param({"1000", "100000"})
+	public int size;
+
+	private Integer[] keys;
+
+	private String[] values;
+
+	private Map<Integer, String> concurrent;
+
+	private Map<Integer, String> synchronizedMap;
+
+	/** Create the keys, the values and the filled maps.
+	 */
+	@Setup
+	public void setUp() {
+		this.keys = new Integer[this.size];
+		this.values = new String[this.size];
+		this.concurrent = new ConcurrentSoftValueHashMap<>();
+		this.synchronizedMap = Collections.synchronizedMap(new SoftValueHashMap<>());
+		for (int i = 0; i < this.size; ++i) {
+			this.keys[i] = i;
+			this.values[i] = Integer.toString(i);
+			this.concurrent.put(this.keys[i], this.values[i]);
+			this.synchronizedMap.put(this.keys[i], this.values[i]);
+		}
+	}
+
+	/** Read a random value of the concurrent map.
+	 *
+	 * @return the value.
+	 */
+	@Benchmark
+	public String getConcurrent() {
+		return this.concurrent.get(this.keys[ThreadLocalRandom.current().nextInt(this.size)]);
+	}
+
+	/** Read a random value of the synchronized map, as reference.
+	 *
+	 * @return the value.
+	 */
+	@Benchmark
+	public String getSynchronized() {
+		return this.synchronizedMap.get(this.keys[ThreadLocalRandom.current().nextInt(this.size)]);
+	}
+
+	/** Replace a random value of the concurrent map.
+	 *
+	 * @return the old value.
+	 */
+	@Benchmark
+	public String putConcurrent() {
+		final int index = ThreadLocalRandom.current().nextInt(this.size);
+		return this.concurrent.put(this.keys[index], this.values[index]);
+	}
+
+	/** Replace a random value of the synchronized map, as reference.
+	 *
+	 * @return the old value.
+	 */
+	@Benchmark
+	public String putSynchronized() {
+		final int index = ThreadLocalRandom.current().nextInt(this.size);
+		return this.synchronizedMap.put(this.keys[index], this.values[index]);
+	}
+
+}
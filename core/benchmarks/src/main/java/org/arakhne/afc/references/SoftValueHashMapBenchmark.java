@@ -0,0 +1,123 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.references;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of {@link SoftValueHashMap}, compared to {@link HashMap}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("checkstyle:visibilitymodifier")
+public class SoftValueHashMapBenchmark {
+
+	/** Number of entries.
+	 */
+	@Param({"1000", "100000"})
+	public int size;
+
+	private Integer[] keys;
+
+	private String[] values;
+
+	private SoftValueHashMap<Integer, String> filled;
+
+	/** Create the keys, the values and a filled map.
+	 */
+	@Setup
+	public void setUp() {
+		this.keys = new Integer[this.size];
+		this.values = new String[this.size];
+		this.filled = new SoftValueHashMap<>();
+		for (int i = 0; i < this.size; ++i) {
+			this.keys[i] = i;
+			this.values[i] = Integer.toString(i);
+			this.filled.put(this.keys[i], this.values[i]);
+		}
+	}
+
+	/** Fill a soft map.
+	 *
+	 * @return the map.
+	 */
+	@Benchmark
+	public Map<Integer, String> put() {
+		final Map<Integer, String> map = new SoftValueHashMap<>();
+		for (int i = 0; i < this.size; ++i) {
+			map.put(this.keys[i], this.values[i]);
+		}
+		return map;
+	}
+
+	/** Fill a standard map, as reference.
+	 *
+	 * @return the map.
+	 */
+	@Benchmark
+	public Map<Integer, String> putReference() {
+		final Map<Integer, String> map = new HashMap<>();
+		for (int i = 0; i < this.size; ++i) {
+			map.put(this.keys[i], this.values[i]);
+		}
+		return map;
+	}
+
+	/** Read all the values of a soft map.
+	 *
+	 * @return the number of found values.
+	 */
+	@Benchmark
+	public int get() {
+		int count = 0;
+		for (final Integer key : this.keys) {
+			if (this.filled.get(key) != null) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.text;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the HTML conversions of {@link TextUtil}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings({"checkstyle:visibilitymodifier", "checkstyle:magicnumber"})
+public class TextUtilBenchmark {
+
+	private static final String ALPHABET = "abcdefghij <>&\"' éèàçôü"; //$NON-NLS-1$
+
+	/** Number of characters in the text.
+	 */
+	@Param({"100", "10000"})
+	public int size;
+
+	private String text;
+
+	private String html;
+
+	/** Create the texts.
+	 */
+	@Setup
+	public void setUp() {
+		final Random random = new Random(1234);
+		final StringBuilder builder = new StringBuilder(this.size);
+		for (int i = 0; i < this.size; ++i) {
+			builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+		}
+		this.text = builder.toString();
+		this.html = TextUtil.toHTML(this.text);
+	}
+
+	/** Convert a text to HTML.
+	 *
+	 * @return the HTML text.
+	 */
+	@Benchmark
+	public String toHTML() {
+		return TextUtil.toHTML(this.text);
+	}
+
+	/** Convert an HTML text to a text.
+	 *
+	 * @return the text.
+	 */
+	@Benchmark
+	public String parseHTML() {
+		return TextUtil.parseHTML(this.html);
+	}
+
+}
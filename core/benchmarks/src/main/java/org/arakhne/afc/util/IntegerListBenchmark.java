@@ -0,0 +1,132 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.util;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of {@link IntegerList}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings({"checkstyle:visibilitymodifier", "checkstyle:magicnumber"})
+public class IntegerListBenchmark {
+
+	/** Number of values to add.
+	 */
+	@Param({"1000", "100000"})
+	public int size;
+
+	private int[] randomValues;
+
+	private IntegerList filled;
+
+	/** Create the values.
+	 */
+	@Setup
+	public void setUp() {
+		final Random random = new Random(1234);
+		this.randomValues = new int[this.size];
+		for (int i = 0; i < this.size; ++i) {
+			this.randomValues[i] = random.nextInt(this.size * 4);
+		}
+		this.filled = new IntegerList();
+		for (final int value : this.randomValues) {
+			this.filled.add(value);
+		}
+	}
+
+	/** Add increasing values, which are merged into a single segment.
+	 *
+	 * @return the list.
+	 */
+	@Benchmark
+	public IntegerList addSequential() {
+		final IntegerList list = new IntegerList();
+		for (int i = 0; i < this.size; ++i) {
+			list.add(i);
+		}
+		return list;
+	}
+
+	/** Add random values, which are creating many segments.
+	 *
+	 * @return the list.
+	 */
+	@Benchmark
+	public IntegerList addRandom() {
+		final IntegerList list = new IntegerList();
+		for (final int value : this.randomValues) {
+			list.add(value);
+		}
+		return list;
+	}
+
+	/** Add random values in a single bulk operation.
+	 *
+	 * @return the list.
+	 */
+	@Benchmark
+	public IntegerList addAllRandom() {
+		final IntegerList list = new IntegerList();
+		list.addAll(this.randomValues);
+		return list;
+	}
+
+	/** Search for values in a fragmented list.
+	 *
+	 * @return the number of found values.
+	 */
+	@Benchmark
+	public int contains() {
+		int count = 0;
+		for (int i = 0; i < this.size; ++i) {
+			if (this.filled.contains(i)) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+}
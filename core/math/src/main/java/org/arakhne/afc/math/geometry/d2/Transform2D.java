@@ -54,6 +54,14 @@ public class Transform2D extends Matrix3d {
 
 	private static final long serialVersionUID = -2858647743636794878L;
 
+	private static final int KIND_IDENTITY = 0;
+
+	private static final int KIND_TRANSLATION = 1;
+
+	private static final int KIND_SCALE = 2;
+
+	private static final int KIND_GENERAL = 3;
+
 	/**
 	 * Constructs a new Transform2D object and sets it to the identity transformation.
 	 */
@@ -688,6 +696,333 @@ public class Transform2D extends Matrix3d {
 				this.m10 * tuple.getX() + this.m11 * tuple.getY() + this.m12);
 	}
 
+	/**
+	 * Transform the points that are stored in the source array, and put the transformed
+	 * points into the destination array. The coordinates of the points are stored as
+	 * <code>x0, y0, x1, y1, ...</code>.
+	 *
+	 * <p>This function is equivalent to {@link #transform(Tuple2D)} on each point, without
+	 * the creation of any intermediate object. The two arrays may be the same array, even
+	 * with overlapping ranges.
+	 *
+	 * @param src the array of the source coordinates.
+	 * @param srcOff the index of the first source coordinate.
+	 * @param dst the array that receives the transformed coordinates.
+	 * @param dstOff the index of the first transformed coordinate.
+	 * @param count the number of points to transform.
+	 */
+	@SuppressWarnings("checkstyle:magicnumber")
+	public void transform(double[] src, int srcOff, double[] dst, int dstOff, int count) {
+		assert src != null : AssertMessages.notNullParameter(0);
+		assert dst != null : AssertMessages.notNullParameter(2);
+		assert count >= 0 : AssertMessages.positiveOrZeroParameter(4);
+		double[] source = src;
+		int sidx = srcOff;
+		if (src == dst && srcOff != dstOff) {
+			// Overlapping ranges: first move the coordinates, then transform them in place
+			System.arraycopy(src, srcOff, dst, dstOff, count * 2);
+			source = dst;
+			sidx = dstOff;
+		}
+		final int n = count * 2;
+		final double a = this.m00;
+		final double b = this.m01;
+		final double c = this.m02;
+		final double d = this.m10;
+		final double e = this.m11;
+		final double f = this.m12;
+		switch (getBulkKind()) {
+		case KIND_IDENTITY:
+			if (source != dst) {
+				System.arraycopy(source, sidx, dst, dstOff, n);
+			}
+			break;
+		case KIND_TRANSLATION:
+			for (int i = 0; i < n; i += 2) {
+				dst[dstOff + i] = source[sidx + i] + c;
+				dst[dstOff + i + 1] = source[sidx + i + 1] + f;
+			}
+			break;
+		case KIND_SCALE:
+			for (int i = 0; i < n; i += 2) {
+				dst[dstOff + i] = a * source[sidx + i] + c;
+				dst[dstOff + i + 1] = e * source[sidx + i + 1] + f;
+			}
+			break;
+		case KIND_GENERAL:
+		default:
+			for (int i = 0; i < n; i += 2) {
+				final double x = source[sidx + i];
+				final double y = source[sidx + i + 1];
+				dst[dstOff + i] = a * x + b * y + c;
+				dst[dstOff + i + 1] = d * x + e * y + f;
+			}
+			break;
+		}
+	}
+
+	/**
+	 * Transform the points that are stored in the source array, and put the transformed
+	 * points into the destination array. The coordinates of the points are stored as
+	 * <code>x0, y0, x1, y1, ...</code>.
+	 *
+	 * <p>The computations are done in double precision, and the results are cast to float.
+	 *
+	 * @param src the array of the source coordinates.
+	 * @param srcOff the index of the first source coordinate.
+	 * @param dst the array that receives the transformed coordinates.
+	 * @param dstOff the index of the first transformed coordinate.
+	 * @param count the number of points to transform.
+	 * @see #transform(double[], int, double[], int, int)
+	 */
+	@SuppressWarnings("checkstyle:magicnumber")
+	public void transform(double[] src, int srcOff, float[] dst, int dstOff, int count) {
+		assert src != null : AssertMessages.notNullParameter(0);
+		assert dst != null : AssertMessages.notNullParameter(2);
+		assert count >= 0 : AssertMessages.positiveOrZeroParameter(4);
+		final int n = count * 2;
+		final double a = this.m00;
+		final double b = this.m01;
+		final double c = this.m02;
+		final double d = this.m10;
+		final double e = this.m11;
+		final double f = this.m12;
+		switch (getBulkKind()) {
+		case KIND_IDENTITY:
+			for (int i = 0; i < n; ++i) {
+				dst[dstOff + i] = (float) src[srcOff + i];
+			}
+			break;
+		case KIND_TRANSLATION:
+			for (int i = 0; i < n; i += 2) {
+				dst[dstOff + i] = (float) (src[srcOff + i] + c);
+				dst[dstOff + i + 1] = (float) (src[srcOff + i + 1] + f);
+			}
+			break;
+		case KIND_SCALE:
+			for (int i = 0; i < n; i += 2) {
+				dst[dstOff + i] = (float) (a * src[srcOff + i] + c);
+				dst[dstOff + i + 1] = (float) (e * src[srcOff + i + 1] + f);
+			}
+			break;
+		case KIND_GENERAL:
+		default:
+			for (int i = 0; i < n; i += 2) {
+				final double x = src[srcOff + i];
+				final double y = src[srcOff + i + 1];
+				dst[dstOff + i] = (float) (a * x + b * y + c);
+				dst[dstOff + i + 1] = (float) (d * x + e * y + f);
+			}
+			break;
+		}
+	}
+
+	/**
+	 * Transform the points that are stored in the source array, and put the transformed
+	 * points into the destination array. The coordinates of the points are stored as
+	 * <code>x0, y0, x1, y1, ...</code>.
+	 *
+	 * <p>The computations are done in double precision, and the results are rounded
+	 * to the nearest integers, as for the integer points.
+	 *
+	 * @param src the array of the source coordinates.
+	 * @param srcOff the index of the first source coordinate.
+	 * @param dst the array that receives the transformed coordinates.
+	 * @param dstOff the index of the first transformed coordinate.
+	 * @param count the number of points to transform.
+	 * @see #transform(double[], int, double[], int, int)
+	 */
+	@SuppressWarnings("checkstyle:magicnumber")
+	public void transform(double[] src, int srcOff, int[] dst, int dstOff, int count) {
+		assert src != null : AssertMessages.notNullParameter(0);
+		assert dst != null : AssertMessages.notNullParameter(2);
+		assert count >= 0 : AssertMessages.positiveOrZeroParameter(4);
+		final int n = count * 2;
+		final double a = this.m00;
+		final double b = this.m01;
+		final double c = this.m02;
+		final double d = this.m10;
+		final double e = this.m11;
+		final double f = this.m12;
+		switch (getBulkKind()) {
+		case KIND_IDENTITY:
+			for (int i = 0; i < n; ++i) {
+				dst[dstOff + i] = (int) Math.round(src[srcOff + i]);
+			}
+			break;
+		case KIND_TRANSLATION:
+			for (int i = 0; i < n; i += 2) {
+				dst[dstOff + i] = (int) Math.round(src[srcOff + i] + c);
+				dst[dstOff + i + 1] = (int) Math.round(src[srcOff + i + 1] + f);
+			}
+			break;
+		case KIND_SCALE:
+			for (int i = 0; i < n; i += 2) {
+				dst[dstOff + i] = (int) Math.round(a * src[srcOff + i] + c);
+				dst[dstOff + i + 1] = (int) Math.round(e * src[srcOff + i + 1] + f);
+			}
+			break;
+		case KIND_GENERAL:
+		default:
+			for (int i = 0; i < n; i += 2) {
+				final double x = src[srcOff + i];
+				final double y = src[srcOff + i + 1];
+				dst[dstOff + i] = (int) Math.round(a * x + b * y + c);
+				dst[dstOff + i + 1] = (int) Math.round(d * x + e * y + f);
+			}
+			break;
+		}
+	}
+
+	/**
+	 * Transform the points that are stored in the source array, and put the transformed
+	 * points into the destination array. The coordinates of the points are stored as
+	 * <code>x0, y0, x1, y1, ...</code>.
+	 *
+	 * <p>The computations are done in double precision, and the results are cast to float.
+	 * The two arrays may be the same array, even with overlapping ranges.
+	 *
+	 * @param src the array of the source coordinates.
+	 * @param srcOff the index of the first source coordinate.
+	 * @param dst the array that receives the transformed coordinates.
+	 * @param dstOff the index of the first transformed coordinate.
+	 * @param count the number of points to transform.
+	 * @see #transform(double[], int, double[], int, int)
+	 */
+	@SuppressWarnings("checkstyle:magicnumber")
+	public void transform(float[] src, int srcOff, float[] dst, int dstOff, int count) {
+		assert src != null : AssertMessages.notNullParameter(0);
+		assert dst != null : AssertMessages.notNullParameter(2);
+		assert count >= 0 : AssertMessages.positiveOrZeroParameter(4);
+		float[] source = src;
+		int sidx = srcOff;
+		if (src == dst && srcOff != dstOff) {
+			// Overlapping ranges: first move the coordinates, then transform them in place
+			System.arraycopy(src, srcOff, dst, dstOff, count * 2);
+			source = dst;
+			sidx = dstOff;
+		}
+		final int n = count * 2;
+		final double a = this.m00;
+		final double b = this.m01;
+		final double c = this.m02;
+		final double d = this.m10;
+		final double e = this.m11;
+		final double f = this.m12;
+		switch (getBulkKind()) {
+		case KIND_IDENTITY:
+			if (source != dst) {
+				System.arraycopy(source, sidx, dst, dstOff, n);
+			}
+			break;
+		case KIND_TRANSLATION:
+			for (int i = 0; i < n; i += 2) {
+				dst[dstOff + i] = (float) (source[sidx + i] + c);
+				dst[dstOff + i + 1] = (float) (source[sidx + i + 1] + f);
+			}
+			break;
+		case KIND_SCALE:
+			for (int i = 0; i < n; i += 2) {
+				dst[dstOff + i] = (float) (a * source[sidx + i] + c);
+				dst[dstOff + i + 1] = (float) (e * source[sidx + i + 1] + f);
+			}
+			break;
+		case KIND_GENERAL:
+		default:
+			for (int i = 0; i < n; i += 2) {
+				final double x = source[sidx + i];
+				final double y = source[sidx + i + 1];
+				dst[dstOff + i] = (float) (a * x + b * y + c);
+				dst[dstOff + i + 1] = (float) (d * x + e * y + f);
+			}
+			break;
+		}
+	}
+
+	/**
+	 * Transform the points that are stored in the source array, and put the transformed
+	 * points into the destination array. The coordinates of the points are stored as
+	 * <code>x0, y0, x1, y1, ...</code>.
+	 *
+	 * <p>The computations are done in double precision, and the results are rounded
+	 * to the nearest integers, as for the integer points.
+	 * The two arrays may be the same array, even with overlapping ranges.
+	 *
+	 * @param src the array of the source coordinates.
+	 * @param srcOff the index of the first source coordinate.
+	 * @param dst the array that receives the transformed coordinates.
+	 * @param dstOff the index of the first transformed coordinate.
+	 * @param count the number of points to transform.
+	 * @see #transform(double[], int, double[], int, int)
+	 */
+	@SuppressWarnings("checkstyle:magicnumber")
+	public void transform(int[] src, int srcOff, int[] dst, int dstOff, int count) {
+		assert src != null : AssertMessages.notNullParameter(0);
+		assert dst != null : AssertMessages.notNullParameter(2);
+		assert count >= 0 : AssertMessages.positiveOrZeroParameter(4);
+		int[] source = src;
+		int sidx = srcOff;
+		if (src == dst && srcOff != dstOff) {
+			// Overlapping ranges: first move the coordinates, then transform them in place
+			System.arraycopy(src, srcOff, dst, dstOff, count * 2);
+			source = dst;
+			sidx = dstOff;
+		}
+		final int n = count * 2;
+		final double a = this.m00;
+		final double b = this.m01;
+		final double c = this.m02;
+		final double d = this.m10;
+		final double e = this.m11;
+		final double f = this.m12;
+		switch (getBulkKind()) {
+		case KIND_IDENTITY:
+			if (source != dst) {
+				System.arraycopy(source, sidx, dst, dstOff, n);
+			}
+			break;
+		case KIND_TRANSLATION:
+			for (int i = 0; i < n; i += 2) {
+				dst[dstOff + i] = (int) Math.round(source[sidx + i] + c);
+				dst[dstOff + i + 1] = (int) Math.round(source[sidx + i + 1] + f);
+			}
+			break;
+		case KIND_SCALE:
+			for (int i = 0; i < n; i += 2) {
+				dst[dstOff + i] = (int) Math.round(a * source[sidx + i] + c);
+				dst[dstOff + i + 1] = (int) Math.round(e * source[sidx + i + 1] + f);
+			}
+			break;
+		case KIND_GENERAL:
+		default:
+			for (int i = 0; i < n; i += 2) {
+				final double x = source[sidx + i];
+				final double y = source[sidx + i + 1];
+				dst[dstOff + i] = (int) Math.round(a * x + b * y + c);
+				dst[dstOff + i + 1] = (int) Math.round(d * x + e * y + f);
+			}
+			break;
+		}
+	}
+
+	/** Replies the kind of the matrix for the bulk transformations.
+	 *
+	 * @return {@link #KIND_IDENTITY}, {@link #KIND_TRANSLATION}, {@link #KIND_SCALE} or {@link #KIND_GENERAL}.
+	 */
+	@Pure
+	private int getBulkKind() {
+		if (this.m01 == 0. && this.m10 == 0.) {
+			if (this.m00 == 1. && this.m11 == 1.) {
+				if (this.m02 == 0. && this.m12 == 0.) {
+					return KIND_IDENTITY;
+				}
+				return KIND_TRANSLATION;
+			}
+			return KIND_SCALE;
+		}
+		return KIND_GENERAL;
+	}
+
 	/**
 	 * Returns an <code>Transform2D</code> object representing the
 	 * inverse transformation.
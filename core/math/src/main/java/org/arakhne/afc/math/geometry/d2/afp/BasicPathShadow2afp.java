@@ -36,7 +36,7 @@ import org.arakhne.afc.vmutil.locale.Locale;
  * @mavenartifactid $ArtifactId$
  * @since 13.0
  */
-class BasicPathShadow2afp {
+class BasicPathShadow2afp implements CurveCrossings2afp.SegmentCrossings {
 
     private final PathIterator2afp<?> pathIterator;
 
@@ -110,6 +110,7 @@ class BasicPathShadow2afp {
      * @param y1 is the second point of the segment.
      * @return the crossings or {@link MathConstants#SHAPE_INTERSECTS}.
      */
+    @Override
     @SuppressWarnings("checkstyle:npathcomplexity")
     public int computeCrossings(
             int crossings,
@@ -0,0 +1,111 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntBinaryOperator;
+
+/** Fork/join task that applies a batch kernel on ranges of indexes.
+ *
+ * <p>The range is split in two halves until its size is below the threshold.
+ * The results of the halves are merged with a combiner that receives the result of
+ * the lower range as its first argument.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+final class BatchTask2afp extends RecursiveTask<Integer> {
+
+	private static final long serialVersionUID = -2183593290637425619L;
+
+	private final transient RangeKernel kernel;
+
+	private final transient IntBinaryOperator combiner;
+
+	private final int threshold;
+
+	private final int from;
+
+	private final int to;
+
+	private BatchTask2afp(RangeKernel kernel, IntBinaryOperator combiner, int threshold, int from, int to) {
+		this.kernel = kernel;
+		this.combiner = combiner;
+		this.threshold = threshold;
+		this.from = from;
+		this.to = to;
+	}
+
+	/** Run the kernel on the range {@code [0, size)}, splitting the range on the
+	 * common fork/join pool when its size reaches the threshold.
+	 *
+	 * @param size the number of elements.
+	 * @param threshold the minimal number of elements for running the kernel in parallel.
+	 * @param kernel the kernel to run.
+	 * @param combiner the merging function of the results of two consecutive ranges.
+	 * @return the merged result.
+	 */
+	static int invoke(int size, int threshold, RangeKernel kernel, IntBinaryOperator combiner) {
+		if (size < threshold || size < 2) {
+			return kernel.run(0, size);
+		}
+		return ForkJoinPool.commonPool().invoke(new BatchTask2afp(kernel, combiner, threshold, 0, size)).intValue();
+	}
+
+	@Override
+	protected Integer compute() {
+		if (this.to - this.from <= this.threshold) {
+			return Integer.valueOf(this.kernel.run(this.from, this.to));
+		}
+		final int middle = (this.from + this.to) >>> 1;
+		final BatchTask2afp lower = new BatchTask2afp(this.kernel, this.combiner, this.threshold, this.from, middle);
+		final BatchTask2afp upper = new BatchTask2afp(this.kernel, this.combiner, this.threshold, middle, this.to);
+		upper.fork();
+		final int lowerResult = lower.compute().intValue();
+		return Integer.valueOf(this.combiner.applyAsInt(lowerResult, upper.join().intValue()));
+	}
+
+	/** Kernel that is applied on a range of indexes.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	@FunctionalInterface
+	interface RangeKernel {
+
+		/** Run the kernel on the given range.
+		 *
+		 * @param from the first index, inclusive.
+		 * @param to the last index, exclusive.
+		 * @return the result of the kernel on the range.
+		 */
+		int run(int from, int to);
+
+	}
+
+}
@@ -0,0 +1,210 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import org.arakhne.afc.math.geometry.d2.Point2D;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** Closed-form computation of the closest point between two convex polygonal shapes
+ * (segments, triangles, rectangles, oriented rectangles and parallelograms) that are
+ * not intersecting.
+ *
+ * <p>When two convex shapes are disjoint, the closest point of the first shape is located
+ * on one of its edges, and it is the closest point of this edge to one of the edges
+ * of the second shape. The edges are enumerated in the same order as the path iterators
+ * of the shapes, and the ties are broken in the same way as
+ * {@link Path2afp#getClosestPointTo(PathIterator2afp, PathIterator2afp, Point2D)}.
+ * Consequently, the replied point is the same as the one replied by this generic function,
+ * without creating path iterators or path elements.
+ *
+ * <p>When the borders of the shapes are touching or crossing, or when the second shape is inside
+ * the first shape, the closed-form computation gives up and the caller must use the
+ * generic function.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+final class ConvexPolygonClosestPoint2afp {
+
+	/** Maximal number of coordinates for a supported shape.
+	 */
+	private static final int MAX_COORDINATES = 8;
+
+	private ConvexPolygonClosestPoint2afp() {
+		//
+	}
+
+	/** Compute the point on the first shape that is the closest to the second shape.
+	 *
+	 * <p>The two shapes must be not empty.
+	 *
+	 * @param first the shape on which the closest point is located.
+	 * @param second the shape to which the closest point is computed.
+	 * @param result the closest point on the first shape.
+	 * @return <code>true</code> if the closest point was computed; <code>false</code> if the shapes
+	 *     are intersecting and the generic function must be used.
+	 */
+	static boolean computeClosestPoint(Shape2afp<?, ?, ?, ?, ?, ?> first, Shape2afp<?, ?, ?, ?, ?, ?> second,
+			Point2D<?, ?> result) {
+		assert first != null : AssertMessages.notNullParameter(0);
+		assert second != null : AssertMessages.notNullParameter(1);
+		assert result != null : AssertMessages.notNullParameter(2);
+		final double[] firstCoords = new double[MAX_COORDINATES];
+		final double[] secondCoords = new double[MAX_COORDINATES];
+		final int firstCount = getVertices(first, firstCoords);
+		final int secondCount = getVertices(second, secondCoords);
+		if (first.contains(secondCoords[0], secondCoords[1])) {
+			return false;
+		}
+		final Point2D<?, ?> candidate = new InnerComputationPoint2afp();
+		double minDistance = Double.POSITIVE_INFINITY;
+		final int firstEdges = getEdgeCount(firstCoords, firstCount);
+		final int secondEdges = getEdgeCount(secondCoords, secondCount);
+		for (int i = 0; i < firstEdges; ++i) {
+			final int i0 = i * 2;
+			final int i1 = ((i + 1) % firstCount) * 2;
+			for (int j = 0; j < secondEdges; ++j) {
+				final int j0 = j * 2;
+				final int j1 = ((j + 1) % secondCount) * 2;
+				final double x0 = firstCoords[i0];
+				final double y0 = firstCoords[i0 + 1];
+				final double x1 = firstCoords[i1];
+				final double y1 = firstCoords[i1 + 1];
+				final double x2 = secondCoords[j0];
+				final double y2 = secondCoords[j0 + 1];
+				final double x3 = secondCoords[j1];
+				final double y3 = secondCoords[j1 + 1];
+				if (Segment2afp.intersectsSegmentSegmentWithEnds(x0, y0, x1, y1, x2, y2, x3, y3)) {
+					return false;
+				}
+				final double distance = Segment2afp.computeClosestPointToSegment(
+						x0, y0, x1, y1, x2, y2, x3, y3, candidate);
+				if (distance <= 0.) {
+					return false;
+				}
+				if (distance < minDistance) {
+					minDistance = distance;
+					result.set(candidate);
+				}
+			}
+		}
+		return true;
+	}
+
+	/** Replies the number of edges that are enumerated by the path iterator of a shape.
+	 *
+	 * <p>The closing edge of a polygon is not enumerated when its last vertex is equal
+	 * to its first vertex.
+	 *
+	 * @param coords the coordinates of the vertices.
+	 * @param count the number of vertices.
+	 * @return the number of edges.
+	 */
+	private static int getEdgeCount(double[] coords, int count) {
+		if (count <= 2) {
+			return count - 1;
+		}
+		final int last = (count - 1) * 2;
+		if (coords[last] != coords[0] || coords[last + 1] != coords[1]) {
+			return count;
+		}
+		return count - 1;
+	}
+
+	/** Extract the vertices of the given shape in the order of its path iterator.
+	 *
+	 * @param shape the shape.
+	 * @param coords the coordinates of the vertices.
+	 * @return the number of vertices.
+	 */
+	@SuppressWarnings("checkstyle:magicnumber")
+	private static int getVertices(Shape2afp<?, ?, ?, ?, ?, ?> shape, double[] coords) {
+		if (shape instanceof Segment2afp) {
+			final Segment2afp<?, ?, ?, ?, ?, ?> segment = (Segment2afp<?, ?, ?, ?, ?, ?>) shape;
+			coords[0] = segment.getX1();
+			coords[1] = segment.getY1();
+			coords[2] = segment.getX2();
+			coords[3] = segment.getY2();
+			return 2;
+		}
+		if (shape instanceof Triangle2afp) {
+			final Triangle2afp<?, ?, ?, ?, ?, ?> triangle = (Triangle2afp<?, ?, ?, ?, ?, ?>) shape;
+			coords[0] = triangle.getX1();
+			coords[1] = triangle.getY1();
+			coords[2] = triangle.getX2();
+			coords[3] = triangle.getY2();
+			coords[4] = triangle.getX3();
+			coords[5] = triangle.getY3();
+			return 3;
+		}
+		if (shape instanceof Rectangle2afp) {
+			final Rectangle2afp<?, ?, ?, ?, ?, ?> rectangle = (Rectangle2afp<?, ?, ?, ?, ?, ?>) shape;
+			final double x1 = rectangle.getMinX();
+			final double y1 = rectangle.getMinY();
+			final double x2 = rectangle.getMaxX();
+			final double y2 = rectangle.getMaxY();
+			coords[0] = x1;
+			coords[1] = y1;
+			coords[2] = x2;
+			coords[3] = y1;
+			coords[4] = x2;
+			coords[5] = y2;
+			coords[6] = x1;
+			coords[7] = y2;
+			return 4;
+		}
+		if (shape instanceof OrientedRectangle2afp) {
+			final OrientedRectangle2afp<?, ?, ?, ?, ?, ?> rectangle = (OrientedRectangle2afp<?, ?, ?, ?, ?, ?>) shape;
+			return getParallelogramVertices(rectangle.getCenterX(), rectangle.getCenterY(),
+					rectangle.getFirstAxisX() * rectangle.getFirstAxisExtent(),
+					rectangle.getFirstAxisY() * rectangle.getFirstAxisExtent(),
+					rectangle.getSecondAxisX() * rectangle.getSecondAxisExtent(),
+					rectangle.getSecondAxisY() * rectangle.getSecondAxisExtent(),
+					coords);
+		}
+		assert shape instanceof Parallelogram2afp;
+		final Parallelogram2afp<?, ?, ?, ?, ?, ?> parallelogram = (Parallelogram2afp<?, ?, ?, ?, ?, ?>) shape;
+		return getParallelogramVertices(parallelogram.getCenterX(), parallelogram.getCenterY(),
+				parallelogram.getFirstAxisX() * parallelogram.getFirstAxisExtent(),
+				parallelogram.getFirstAxisY() * parallelogram.getFirstAxisExtent(),
+				parallelogram.getSecondAxisX() * parallelogram.getSecondAxisExtent(),
+				parallelogram.getSecondAxisY() * parallelogram.getSecondAxisExtent(),
+				coords);
+	}
+
+	@SuppressWarnings({"checkstyle:magicnumber", "checkstyle:parameternumber"})
+	private static int getParallelogramVertices(double cx, double cy, double rx, double ry, double sx, double sy,
+			double[] coords) {
+		coords[0] = cx + rx + sx;
+		coords[1] = cy + ry + sy;
+		coords[2] = cx - rx + sx;
+		coords[3] = cy - ry + sy;
+		coords[4] = cx - rx - sx;
+		coords[5] = cy - ry - sy;
+		coords[6] = cx + rx - sx;
+		coords[7] = cy + ry - sy;
+		return 4;
+	}
+
+}
@@ -0,0 +1,429 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import org.arakhne.afc.math.MathConstants;
+import org.arakhne.afc.math.geometry.d2.afp.Path2afp.FlatteningPathIterator;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** Compute the crossings of the flattened approximation of curves.
+ *
+ * <p>The curves are subdivided on a primitive stack, and each approximating
+ * line segment is directly given to a {@link SegmentCrossings} function.
+ * No intermediate path, path iterator nor path element is created.
+ * The approximating line segments are the same as the ones replied by the
+ * {@link FlatteningPathIterator} that is run on a path containing the curve,
+ * with the flatness {@link MathConstants#SPLINE_APPROXIMATION_RATIO}.
+ * In this way, the crossing values are the same as the ones computed
+ * from the flattening path iterator.
+ *
+ * <p>An instance of this class is not thread-safe: it contains the subdivision stack.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+final class CurveCrossings2afp {
+
+    /** Number of values for a quadratic curve.
+     */
+    private static final int QUAD_SIZE = 6;
+
+    /** Number of values for a cubic curve.
+     */
+    private static final int CURVE_SIZE = 8;
+
+    /**
+     * Square of the flatness parameter for testing against squared lengths.
+     */
+    private final double squaredFlatness;
+
+    /**
+     * Maximum number of recursion levels.
+     */
+    private final int limit;
+
+    /** The function that computes the crossings of each approximating segment.
+     */
+    private final SegmentCrossings segmentCrossings;
+
+    /** The recursion level at which each curve being held in the stack was generated.
+     */
+    private int[] levels;
+
+    /** The stack of subdivided curves. The curve on the top of the stack is at the
+     * lowest index.
+     */
+    private double[] hold;
+
+    /** The x coordinate of the current point of the arc approximation.
+     */
+    private double currentX;
+
+    /** The y coordinate of the current point of the arc approximation.
+     */
+    private double currentY;
+
+    /** Constructor with the default flatness and the default limit of subdivisions.
+     *
+     * @param segmentCrossings the function that computes the crossings of each approximating segment.
+     */
+    CurveCrossings2afp(SegmentCrossings segmentCrossings) {
+        this(segmentCrossings, MathConstants.SPLINE_APPROXIMATION_RATIO, Path2afp.DEFAULT_FLATTENING_LIMIT);
+    }
+
+    /** Constructor.
+     *
+     * @param segmentCrossings the function that computes the crossings of each approximating segment.
+     * @param flatness the maximum allowable distance between the
+     *     control points and the flattened curve
+     * @param limit the maximum number of recursive subdivisions
+     *     allowed for any curved segment
+     */
+    CurveCrossings2afp(SegmentCrossings segmentCrossings, double flatness, int limit) {
+        assert segmentCrossings != null : AssertMessages.notNullParameter(0);
+        assert flatness >= 0. : AssertMessages.positiveOrZeroParameter(1);
+        assert limit >= 0 : AssertMessages.positiveOrZeroParameter(2);
+        this.segmentCrossings = segmentCrossings;
+        this.squaredFlatness = flatness * flatness;
+        this.limit = limit;
+    }
+
+    /** Replies the subdivision stack, and allocates it on the first call.
+     *
+     * @return the stack.
+     */
+    private double[] getStack() {
+        if (this.hold == null) {
+            this.levels = new int[this.limit + 1];
+            // Each subdivision pushes one curve without its shared first point.
+            this.hold = new double[CURVE_SIZE + (CURVE_SIZE - 2) * this.limit];
+        }
+        return this.hold;
+    }
+
+    /** Compute the crossings of the approximation of the given quadratic curve.
+     *
+     * @param crossings the initial value of the crossings.
+     * @param x0 x coordinate of the first point of the curve.
+     * @param y0 y coordinate of the first point of the curve.
+     * @param ctrlx x coordinate of the control point.
+     * @param ctrly y coordinate of the control point.
+     * @param x1 x coordinate of the last point of the curve.
+     * @param y1 y coordinate of the last point of the curve.
+     * @return the crossings, or {@link MathConstants#SHAPE_INTERSECTS}.
+     */
+    @SuppressWarnings({"checkstyle:parameternumber", "checkstyle:magicnumber"})
+    int quadTo(int crossings, double x0, double y0, double ctrlx, double ctrly, double x1, double y1) {
+        final double[] stack = getStack();
+        final int end = stack.length - 2;
+        int index = stack.length - QUAD_SIZE;
+        stack[index] = x0;
+        stack[index + 1] = y0;
+        stack[index + 2] = ctrlx;
+        stack[index + 3] = ctrly;
+        stack[index + 4] = x1;
+        stack[index + 5] = y1;
+        int levelIndex = 0;
+        this.levels[0] = 0;
+        double curx = x0;
+        double cury = y0;
+        int numCrossings = crossings;
+        while (index < end) {
+            int level = this.levels[levelIndex];
+            // The negated test has the same behavior as the flattening iterator for NaN values
+            while (level < this.limit
+                    && !(FlatteningPathIterator.getQuadSquaredFlatness(stack, index) < this.squaredFlatness)) {
+                FlatteningPathIterator.subdivideQuad(stack, index, stack, index - 4, stack, index);
+                index -= 4;
+                ++level;
+                this.levels[levelIndex] = level;
+                ++levelIndex;
+                this.levels[levelIndex] = level;
+            }
+            index += 4;
+            --levelIndex;
+            final double endx = stack[index];
+            final double endy = stack[index + 1];
+            numCrossings = this.segmentCrossings.computeCrossings(numCrossings, curx, cury, endx, endy);
+            if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
+                return numCrossings;
+            }
+            curx = endx;
+            cury = endy;
+        }
+        return numCrossings;
+    }
+
+    /** Compute the crossings of the approximation of the given cubic curve.
+     *
+     * @param crossings the initial value of the crossings.
+     * @param x0 x coordinate of the first point of the curve.
+     * @param y0 y coordinate of the first point of the curve.
+     * @param ctrlx1 x coordinate of the first control point.
+     * @param ctrly1 y coordinate of the first control point.
+     * @param ctrlx2 x coordinate of the second control point.
+     * @param ctrly2 y coordinate of the second control point.
+     * @param x1 x coordinate of the last point of the curve.
+     * @param y1 y coordinate of the last point of the curve.
+     * @return the crossings, or {@link MathConstants#SHAPE_INTERSECTS}.
+     */
+    @SuppressWarnings({"checkstyle:parameternumber", "checkstyle:magicnumber"})
+    int curveTo(int crossings, double x0, double y0, double ctrlx1, double ctrly1,
+            double ctrlx2, double ctrly2, double x1, double y1) {
+        final double[] stack = getStack();
+        final int end = stack.length - 2;
+        int index = stack.length - CURVE_SIZE;
+        stack[index] = x0;
+        stack[index + 1] = y0;
+        stack[index + 2] = ctrlx1;
+        stack[index + 3] = ctrly1;
+        stack[index + 4] = ctrlx2;
+        stack[index + 5] = ctrly2;
+        stack[index + 6] = x1;
+        stack[index + 7] = y1;
+        int levelIndex = 0;
+        this.levels[0] = 0;
+        double curx = x0;
+        double cury = y0;
+        int numCrossings = crossings;
+        while (index < end) {
+            int level = this.levels[levelIndex];
+            // The negated test has the same behavior as the flattening iterator for NaN values
+            while (level < this.limit
+                    && !(FlatteningPathIterator.getCurveSquaredFlatness(stack, index) < this.squaredFlatness)) {
+                FlatteningPathIterator.subdivideCurve(stack, index, stack, index - 6, stack, index);
+                index -= 6;
+                ++level;
+                this.levels[levelIndex] = level;
+                ++levelIndex;
+                this.levels[levelIndex] = level;
+            }
+            index += 6;
+            --levelIndex;
+            final double endx = stack[index];
+            final double endy = stack[index + 1];
+            numCrossings = this.segmentCrossings.computeCrossings(numCrossings, curx, cury, endx, endy);
+            if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
+                return numCrossings;
+            }
+            curx = endx;
+            cury = endy;
+        }
+        return numCrossings;
+    }
+
+    /** Compute the crossings of the approximation of the given elliptical arc.
+     *
+     * <p>The arc is converted into cubic curves in the same way as
+     * {@link Path2afp#arcTo(double, double, double, double, double, boolean, boolean)}.
+     *
+     * @param crossings the initial value of the crossings.
+     * @param x0 x coordinate of the first point of the arc.
+     * @param y0 y coordinate of the first point of the arc.
+     * @param tox the X coordinate of the target point.
+     * @param toy the Y coordinate of the target point.
+     * @param radiusx the X radius of the tilted ellipse.
+     * @param radiusy the Y radius of the tilted ellipse.
+     * @param xAxisRotation the angle of tilt of the ellipse.
+     * @param largeArcFlag <code>true</code> iff the path will sweep the long way around the ellipse.
+     * @param sweepFlag <code>true</code> iff the path will sweep clockwise around the ellipse.
+     * @return the crossings, or {@link MathConstants#SHAPE_INTERSECTS}.
+     */
+    @SuppressWarnings({"checkstyle:parameternumber", "checkstyle:cyclomaticcomplexity",
+        "checkstyle:npathcomplexity", "checkstyle:returncount"})
+    int arcTo(int crossings, double x0, double y0, double tox, double toy, double radiusx, double radiusy,
+            double xAxisRotation, boolean largeArcFlag, boolean sweepFlag) {
+        if (radiusx == 0. || radiusy == 0.) {
+            return this.segmentCrossings.computeCrossings(crossings, x0, y0, tox, toy);
+        }
+        double x1 = x0;
+        double y1 = y0;
+        final double x2 = tox;
+        final double y2 = toy;
+        if (x1 == x2 && y1 == y2) {
+            return crossings;
+        }
+        this.currentX = x0;
+        this.currentY = y0;
+        final double cosphi;
+        final double sinphi;
+        if (xAxisRotation == 0.) {
+            cosphi = 1.;
+            sinphi = 0.;
+        } else {
+            cosphi = Math.cos(xAxisRotation);
+            sinphi = Math.sin(xAxisRotation);
+        }
+        double mx = (x1 + x2) / 2.;
+        double my = (y1 + y2) / 2.;
+        final double relx1 = x1 - mx;
+        final double rely1 = y1 - my;
+        final double x1p = (cosphi * relx1 + sinphi * rely1) / radiusx;
+        final double y1p = (cosphi * rely1 - sinphi * relx1) / radiusy;
+        final double lenpsq = x1p * x1p + y1p * y1p;
+        int numCrossings = crossings;
+        if (lenpsq >= 1.) {
+            double xqpr = y1p * radiusx;
+            double yqpr = x1p * radiusy;
+            if (sweepFlag) {
+                xqpr = -xqpr;
+            } else {
+                yqpr = -yqpr;
+            }
+            final double relxq = cosphi * xqpr - sinphi * yqpr;
+            final double relyq = cosphi * yqpr + sinphi * xqpr;
+            final double xq = mx + relxq;
+            final double yq = my + relyq;
+            numCrossings = arcSection(numCrossings, x1 + relxq, y1 + relyq, xq, yq, 1.);
+            if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
+                return numCrossings;
+            }
+            return arcSection(numCrossings, x2 + relxq, y2 + relyq, x2, y2, 1.);
+        }
+        final double scalef = Math.sqrt((1. - lenpsq) / lenpsq);
+        double cxp = scalef * y1p;
+        double cyp = scalef * x1p;
+        if (largeArcFlag == sweepFlag) {
+            cxp = -cxp;
+        } else {
+            cyp = -cyp;
+        }
+        mx += cosphi * cxp * radiusx - sinphi * cyp * radiusy;
+        my += cosphi * cyp * radiusy + sinphi * cxp * radiusx;
+        double ux = x1p - cxp;
+        double uy = y1p - cyp;
+        final double vx = -(x1p + cxp);
+        final double vy = -(y1p + cyp);
+        boolean done = false;
+        double quadlen = 1.;
+        boolean wasclose = false;
+        do {
+            double xqp = uy;
+            double yqp = ux;
+            if (sweepFlag) {
+                xqp = -xqp;
+            } else {
+                yqp = -yqp;
+            }
+            if (xqp * vx + yqp * vy > 0.) {
+                final double dot = ux * vx + uy * vy;
+                if (dot >= 0) {
+                    quadlen = Math.acos(dot) / MathConstants.DEMI_PI;
+                    done = true;
+                }
+                wasclose = true;
+            } else if (wasclose) {
+                break;
+            }
+            final double relxq = cosphi * xqp * radiusx - sinphi * yqp * radiusy;
+            final double relyq = cosphi * yqp * radiusy + sinphi * xqp * radiusx;
+            final double xq = mx + relxq;
+            final double yq = my + relyq;
+            numCrossings = arcSection(numCrossings, x1 + relxq, y1 + relyq, xq, yq, quadlen);
+            if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
+                return numCrossings;
+            }
+            x1 = xq;
+            y1 = yq;
+            ux = xqp;
+            uy = yqp;
+        } while (!done);
+        return numCrossings;
+    }
+
+    /** Compute the crossings of a section of a shallow ellipse that is starting at the current point.
+     *
+     * <p>The section is converted in the same way as
+     * {@link Path2afp#arcTo(double, double, double, double, double, double,
+     * org.arakhne.afc.math.geometry.d2.Path2D.ArcType)}
+     * with a starting fraction equal to zero, and {@code ARC_ONLY}.
+     *
+     * @param crossings the initial value of the crossings.
+     * @param ctrlx the x coordinate of the control point.
+     * @param ctrly the y coordinate of the control point.
+     * @param tox the x coordinate of the target point.
+     * @param toy the y coordinate of the target point.
+     * @param tto the fraction of the ellipse section where the curve should end
+     * @return the crossings, or {@link MathConstants#SHAPE_INTERSECTS}.
+     */
+    @SuppressWarnings("checkstyle:parameternumber")
+    private int arcSection(int crossings, double ctrlx, double ctrly, double tox, double toy, double tto) {
+        final double curx = this.currentX;
+        final double cury = this.currentY;
+        double targetx = tox;
+        double targety = toy;
+        double cx0 = curx + (ctrlx - curx) * Circle2afp.AbstractCirclePathIterator.CTRL_POINT_DISTANCE;
+        double cy0 = cury + (ctrly - cury) * Circle2afp.AbstractCirclePathIterator.CTRL_POINT_DISTANCE;
+        double cx1 = targetx + (ctrlx - targetx) * Circle2afp.AbstractCirclePathIterator.CTRL_POINT_DISTANCE;
+        double cy1 = targety + (ctrly - targety) * Circle2afp.AbstractCirclePathIterator.CTRL_POINT_DISTANCE;
+        if (tto < 1.) {
+            final double t = 1. - tto;
+            targetx += (cx1 - targetx) * t;
+            targety += (cy1 - targety) * t;
+            cx1 += (cx0 - cx1) * t;
+            cy1 += (cy0 - cy1) * t;
+            cx0 += (curx - cx0) * t;
+            cy0 += (cury - cy0) * t;
+            targetx += (cx1 - targetx) * t;
+            targety += (cy1 - targety) * t;
+            cx1 += (cx0 - cx1) * t;
+            cy1 += (cy0 - cy1) * t;
+            targetx += (cx1 - targetx) * t;
+            targety += (cy1 - targety) * t;
+        }
+        this.currentX = targetx;
+        this.currentY = targety;
+        if (tto == 0.
+                || (curx == cx0 && cx0 == cx1 && cx1 == targetx
+                && cury == cy0 && cy0 == cy1 && cy1 == targety)) {
+            return this.segmentCrossings.computeCrossings(crossings, curx, cury, targetx, targety);
+        }
+        return curveTo(crossings, curx, cury, cx0, cy0, cx1, cy1, targetx, targety);
+    }
+
+    /** Function that computes the crossings of a single line segment.
+     *
+     * @author $Author: sgalland$
+     * @version $FullVersion$
+     * @mavengroupid $GroupId$
+     * @mavenartifactid $ArtifactId$
+     * @since 13.0
+     */
+    @FunctionalInterface
+    interface SegmentCrossings {
+
+        /** Compute the crossings of the given segment.
+         *
+         * @param crossings the initial value of the crossings.
+         * @param x0 x coordinate of the first point of the segment.
+         * @param y0 y coordinate of the first point of the segment.
+         * @param x1 x coordinate of the second point of the segment.
+         * @param y1 y coordinate of the second point of the segment.
+         * @return the crossings, or {@link MathConstants#SHAPE_INTERSECTS}.
+         */
+        int computeCrossings(int crossings, double x0, double y0, double x1, double y1);
+
+    }
+
+}
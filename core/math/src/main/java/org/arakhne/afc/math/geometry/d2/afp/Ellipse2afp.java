@@ -99,7 +99,6 @@ public interface Ellipse2afp<
      * @see #computeClosestPointToShallowEllipse(double, double, double, double, double, double, Point2D)
      */
     @Pure
-    @Unefficient
     @SuppressWarnings("checkstyle:magicnumber")
     static void computeClosestPointToSolidEllipse(
             double px, double py, double ex, double ey, double ew, double eh,
@@ -184,7 +183,6 @@ public interface Ellipse2afp<
      * @see #computeClosestPointToSolidEllipse(double, double, double, double, double, double, Point2D)
      */
     @Pure
-    @Unefficient
     @SuppressWarnings("checkstyle:magicnumber")
     static void computeClosestPointToShallowEllipse(double px, double py, double ex, double ey, double ew, double eh,
             Point2D<?, ?> result) {
@@ -1291,16 +1289,60 @@ public interface Ellipse2afp<
 
         private static final int MAX_ITERATIONS = 1074;
 
+        private static final int MAX_NEWTON_ITERATIONS = 32;
+
         private PrivateAPI() {
             //
         }
 
-        @Unefficient
+        /** Compute the root of the normal function for the closest point.
+         *
+         * <p>A Newton iteration is started from the lower bound of the bracketing interval.
+         * Because the normal function is convex and decreasing on this interval,
+         * the iteration is converging quadratically. Each Newton step is kept inside
+         * the bracketing interval; if a step leaves the interval, a bisection step is done
+         * instead. After {@link #MAX_NEWTON_ITERATIONS} steps, the remaining interval is
+         * reduced by pure bisection.
+         *
+         * @param r0 the squared ratio between the radii.
+         * @param zx the normalized x coordinate of the point.
+         * @param zy the normalized y coordinate of the point.
+         * @param gval the value of the ellipse equation at the point.
+         * @return the root.
+         */
         private static double getClosestNormalPointRoot(double r0, double zx, double zy, double gval) {
             final double n0 = r0 * zx;
             double s0 = zy - 1;
-            double localG = gval;
-            double s1 = (localG < 0) ? 0 : Math.hypot(n0, zy) - 1.;
+            double s1 = (gval < 0) ? 0 : Math.hypot(n0, zy) - 1.;
+            double result = s0;
+            for (int i = 0; i < MAX_NEWTON_ITERATIONS; ++i) {
+                final double ratio0 = n0 / (result + r0);
+                final double ratio1 = zy / (result + 1.);
+                final double localG = ratio0 * ratio0 + ratio1 * ratio1 - 1.;
+                if (localG > 0) {
+                    s0 = result;
+                } else if (localG < 0) {
+                    s1 = result;
+                } else {
+                    return result;
+                }
+                final double derivative = -2. * (ratio0 * ratio0 / (result + r0) + ratio1 * ratio1 / (result + 1.));
+                double next = result - localG / derivative;
+                if (!(next > s0 && next < s1)) {
+                    next = (s0 + s1) / 2.;
+                }
+                if (next == result || next == s0 || next == s1) {
+                    return next;
+                }
+                result = next;
+            }
+            return bisectClosestNormalPointRoot(r0, n0, zy, s0, s1);
+        }
+
+        @Unefficient
+        private static double bisectClosestNormalPointRoot(double r0, double n0, double zy, double lower, double upper) {
+            double s0 = lower;
+            double s1 = upper;
             double result = Double.NaN;
             for (int i = 0; i < MAX_ITERATIONS; ++i) {
                 result = (s0 + s1) / 2.;
@@ -1309,7 +1351,7 @@ public interface Ellipse2afp<
                 }
                 final double ratio0 = n0 / (result + r0);
                 final double ratio1 = zy / (result + 1.);
-                localG = ratio0 * ratio0 + ratio1 * ratio1 - 1.;
+                final double localG = ratio0 * ratio0 + ratio1 * ratio1 - 1.;
                 if (localG > 0) {
                     s0 = result;
                 } else if (localG < 0) {
@@ -1336,7 +1378,6 @@ public interface Ellipse2afp<
          * @return the triplet (closest point x, closest point y, distance to closest point) if
          * <code>computeDistance</code> if <code>true</code>. Otherwise, the triplet (closest point x, closest point y).
          */
-        @Unefficient
         public static double[] computeClosestPointOnShallowEllipseInPositiveQuadrant(
                 double px, double py,
                 double horizontalRadius, double verticalRadius,
@@ -1419,7 +1460,6 @@ public interface Ellipse2afp<
          * @return the triplet (closest point x, closest point y, distance to closest point) if
          * <code>computeDistance</code> if <code>true</code>. Otherwise, the triplet (closest point x, closest point y).
          */
-        @Unefficient
         @SuppressWarnings("checkstyle:nestedifdepth")
         public static double[] computeClosestPointOnSolidEllipseInPositiveQuadrant(
                 double px, double py,
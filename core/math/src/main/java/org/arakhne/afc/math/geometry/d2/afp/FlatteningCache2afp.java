@@ -0,0 +1,282 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.geometry.PathElementType;
+import org.arakhne.afc.math.geometry.PathWindingRule;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** Cache of the flattened polylines of a path.
+ *
+ * <p>The cache keeps the results of the {@link Path2afp.FlatteningPathIterator flattening iterator}
+ * for a small number of flatness values. Each polyline is stored as a packed array of coordinates,
+ * two per path element, and replayed through the geometry factory of the path by
+ * {@link #getPathIterator(Path2afp, double)}. The replied elements are the same as the ones
+ * replied by the flattening iterator.
+ *
+ * <p>The cache does not listen to the changes of the path. The owner of the cache is
+ * in charge of dropping it when the path is changed.
+ *
+ * <p>This cache is not thread-safe.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+public final class FlatteningCache2afp {
+
+	/** Default number of flatness values that are kept by the cache.
+	 */
+	public static final int DEFAULT_CAPACITY = 4;
+
+	private final double[] flatnesses;
+
+	private final Polyline[] polylines;
+
+	private int count;
+
+	private int next;
+
+	/** Construct a cache with the {@link #DEFAULT_CAPACITY default capacity}.
+	 */
+	public FlatteningCache2afp() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/** Construct a cache.
+	 *
+	 * @param capacity the maximal number of flatness values kept by the cache.
+	 */
+	public FlatteningCache2afp(int capacity) {
+		assert capacity > 0 : AssertMessages.invalidValue();
+		this.flatnesses = new double[capacity];
+		this.polylines = new Polyline[capacity];
+	}
+
+	/** Replies the number of flattened polylines that are stored in the cache.
+	 *
+	 * @return the number of polylines.
+	 */
+	@Pure
+	public int size() {
+		return this.count;
+	}
+
+	/** Replies if a flattened polyline is stored in the cache for the given flatness.
+	 *
+	 * @param flatness the flatness.
+	 * @return {@code true} if the polyline is already computed.
+	 */
+	@Pure
+	public boolean contains(double flatness) {
+		return indexOf(flatness) >= 0;
+	}
+
+	/** Replies an iterator on the flattened elements of the given path.
+	 * The polyline is computed with the {@link Path2afp.FlatteningPathIterator flattening iterator}
+	 * the first time it is requested for the given flatness.
+	 *
+	 * @param <T> the type of the path elements.
+	 * @param path the path to flatten. It must be the path for which this cache was created.
+	 * @param flatness is the maximum distance that the line segments used to approximate
+	 *     the curved segments are allowed to deviate from any point on the original curve.
+	 * @return the iterator on the flattened elements.
+	 */
+	public <T extends PathElement2afp> PathIterator2afp<T> getPathIterator(Path2afp<?, ?, T, ?, ?, ?> path,
+			double flatness) {
+		assert path != null : AssertMessages.notNullParameter(0);
+		assert flatness >= 0. : AssertMessages.positiveOrZeroParameter(1);
+		int index = indexOf(flatness);
+		if (index < 0) {
+			index = this.next;
+			this.flatnesses[index] = flatness;
+			this.polylines[index] = new Polyline(new Path2afp.FlatteningPathIterator<>(
+					path.getPathIterator(null), flatness, Path2afp.DEFAULT_FLATTENING_LIMIT));
+			this.next = (index + 1) % this.polylines.length;
+			if (this.count < this.polylines.length) {
+				++this.count;
+			}
+		}
+		return new PolylinePathIterator<>(path, this.polylines[index]);
+	}
+
+	@Pure
+	private int indexOf(double flatness) {
+		for (int i = 0; i < this.count; ++i) {
+			if (this.flatnesses[i] == flatness) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/** Flattened polyline.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private static final class Polyline {
+
+		final PathElementType[] types;
+
+		final double[] coords;
+
+		Polyline(PathIterator2afp<?> iterator) {
+			PathElementType[] elementTypes = new PathElementType[Path2afp.GROW_SIZE];
+			double[] elementCoords = new double[Path2afp.GROW_SIZE * 2];
+			int size = 0;
+			while (iterator.hasNext()) {
+				final PathElement2afp element = iterator.next();
+				if (size >= elementTypes.length) {
+					elementTypes = Arrays.copyOf(elementTypes, size + Path2afp.GROW_SIZE);
+					elementCoords = Arrays.copyOf(elementCoords, elementTypes.length * 2);
+				}
+				elementTypes[size] = element.getType();
+				elementCoords[size * 2] = element.getToX();
+				elementCoords[size * 2 + 1] = element.getToY();
+				++size;
+			}
+			this.types = Arrays.copyOf(elementTypes, size);
+			this.coords = Arrays.copyOf(elementCoords, size * 2);
+		}
+
+	}
+
+	/** Iterator on a flattened polyline.
+	 *
+	 * @param <T> the type of the path elements.
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private static final class PolylinePathIterator<T extends PathElement2afp> implements PathIterator2afp<T> {
+
+		private final Path2afp<?, ?, T, ?, ?, ?> path;
+
+		private final Polyline polyline;
+
+		private int index;
+
+		private double lastNextX;
+
+		private double lastNextY;
+
+		PolylinePathIterator(Path2afp<?, ?, T, ?, ?, ?> path, Polyline polyline) {
+			this.path = path;
+			this.polyline = polyline;
+		}
+
+		@Override
+		public PathIterator2afp<T> restartIterations() {
+			return new PolylinePathIterator<>(this.path, this.polyline);
+		}
+
+		@Pure
+		@Override
+		public boolean hasNext() {
+			return this.index < this.polyline.types.length;
+		}
+
+		@Override
+		public T next() {
+			if (this.index >= this.polyline.types.length) {
+				throw new NoSuchElementException();
+			}
+			final PathElementType type = this.polyline.types[this.index];
+			final double x = this.polyline.coords[this.index * 2];
+			final double y = this.polyline.coords[this.index * 2 + 1];
+			++this.index;
+			final T element;
+			switch (type) {
+			case MOVE_TO:
+				element = getGeomFactory().newMovePathElement(x, y);
+				break;
+			case CLOSE:
+				element = getGeomFactory().newClosePathElement(this.lastNextX, this.lastNextY, x, y);
+				break;
+			case LINE_TO:
+			case QUAD_TO:
+			case CURVE_TO:
+			case ARC_TO:
+			default:
+				element = getGeomFactory().newLinePathElement(this.lastNextX, this.lastNextY, x, y);
+			}
+			this.lastNextX = x;
+			this.lastNextY = y;
+			return element;
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Pure
+		@Override
+		public PathWindingRule getWindingRule() {
+			return this.path.getWindingRule();
+		}
+
+		@Pure
+		@Override
+		public boolean isPolyline() {
+			return this.path.isPolyline() || (!this.path.isMultiParts() && !this.path.isPolygon());
+		}
+
+		@Pure
+		@Override
+		public boolean isCurved() {
+			return false;
+		}
+
+		@Pure
+		@Override
+		public boolean isPolygon() {
+			return this.path.isPolygon();
+		}
+
+		@Pure
+		@Override
+		public boolean isMultiParts() {
+			return this.path.isMultiParts();
+		}
+
+		@Pure
+		@Override
+		public GeomFactory2afp<T, ?, ?, ?> getGeomFactory() {
+			return this.path.getGeomFactory();
+		}
+
+	}
+
+}
@@ -23,6 +23,7 @@ package org.arakhne.afc.math.geometry.d2.afp;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.ToDoubleFunction;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
@@ -64,12 +65,83 @@ public interface MultiShape2afp<
 		extends Shape2afp<ST, IT, IE, P, V, B>,
 		MultiShape2D<ST, IT, CT, PathIterator2afp<IE>, P, V, B> {
 
+	/** Replies the shapes of this multishape that may intersect the given rectangle.
+	 *
+	 * <p>The replied shapes include at least all the shapes with a bounding box that
+	 * is intersecting the given rectangle. By default, all the shapes of the multishape
+	 * are replied. The implementations that are maintaining a spatial index may reply
+	 * a smaller set of shapes, in an unspecified order.
+	 *
+	 * @param rectangle the rectangle.
+	 * @return the candidate shapes.
+	 */
+	@Pure
+	default Iterable<CT> getBackendDataIntersecting(Rectangle2afp<?, ?, ?, ?, ?, ?> rectangle) {
+		return getBackendDataList();
+	}
+
+	/** Replies the shape of this multishape that is minimizing the given distance function.
+	 *
+	 * <p>The distance function must never reply a value lower than the squared distance
+	 * between the bounding box of the shape and the given rectangle. This property
+	 * enables the implementations that are maintaining a spatial index to prune the shapes
+	 * that are too far from the rectangle.
+	 *
+	 * @param rectangle the bounding box of the reference object.
+	 * @param distanceSquared the function that is computing the squared distance to a shape.
+	 * @return the closest shape, or <code>null</code> if this multishape is empty.
+	 */
+	@Pure
+	default CT getBackendDataClosestTo(Rectangle2afp<?, ?, ?, ?, ?, ?> rectangle,
+			ToDoubleFunction<? super CT> distanceSquared) {
+		assert distanceSquared != null : AssertMessages.notNullParameter(1);
+		CT closest = null;
+		double min = Double.POSITIVE_INFINITY;
+		for (final CT shape : getBackendDataList()) {
+			final double dist = distanceSquared.applyAsDouble(shape);
+			if (dist < min) {
+				min = dist;
+				closest = shape;
+			}
+		}
+		return closest;
+	}
+
+	@Pure
+	@Override
+	default CT getFirstShapeContaining(Point2D<?, ?> point) {
+		assert point != null : AssertMessages.notNullParameter();
+		if (toBoundingBox().contains(point)) {
+			for (final CT shape : getBackendDataIntersecting(getGeomFactory().newBox(point.getX(), point.getY(), 0, 0))) {
+				if (shape.contains(point)) {
+					return shape;
+				}
+			}
+		}
+		return null;
+	}
+
+	@Pure
+	@Override
+	default List<CT> getShapesContaining(Point2D<?, ?> point) {
+		assert point != null : AssertMessages.notNullParameter();
+		final List<CT> list = new ArrayList<>();
+		if (toBoundingBox().contains(point)) {
+			for (final CT shape : getBackendDataIntersecting(getGeomFactory().newBox(point.getX(), point.getY(), 0, 0))) {
+				if (shape.contains(point)) {
+					list.add(shape);
+				}
+			}
+		}
+		return list;
+	}
+
 	@Pure
 	@Override
 	default boolean intersects(Ellipse2afp<?, ?, ?, ?, ?, ?> ellipse) {
 		assert ellipse != null : AssertMessages.notNullParameter();
 		if (ellipse.intersects(toBoundingBox())) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataIntersecting(ellipse.toBoundingBox())) {
 				if (shape.intersects(ellipse)) {
 					return true;
 				}
@@ -83,7 +155,7 @@ public interface MultiShape2afp<
 	default boolean intersects(Circle2afp<?, ?, ?, ?, ?, ?> circle) {
 		assert circle != null : AssertMessages.notNullParameter();
 		if (circle.intersects(toBoundingBox())) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataIntersecting(circle.toBoundingBox())) {
 				if (shape.intersects(circle)) {
 					return true;
 				}
@@ -97,7 +169,7 @@ public interface MultiShape2afp<
 	default boolean intersects(Rectangle2afp<?, ?, ?, ?, ?, ?> rectangle) {
 		assert rectangle != null : AssertMessages.notNullParameter();
 		if (rectangle.intersects(toBoundingBox())) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataIntersecting(rectangle)) {
 				if (shape.intersects(rectangle)) {
 					return true;
 				}
@@ -111,7 +183,7 @@ public interface MultiShape2afp<
 	default boolean intersects(Segment2afp<?, ?, ?, ?, ?, ?> segment) {
 		assert segment != null : AssertMessages.notNullParameter();
 		if (segment.intersects(toBoundingBox())) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataIntersecting(segment.toBoundingBox())) {
 				if (shape.intersects(segment)) {
 					return true;
 				}
@@ -125,7 +197,7 @@ public interface MultiShape2afp<
 	default boolean intersects(Triangle2afp<?, ?, ?, ?, ?, ?> triangle) {
 		assert triangle != null : AssertMessages.notNullParameter();
 		if (triangle.intersects(toBoundingBox())) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataIntersecting(triangle.toBoundingBox())) {
 				if (shape.intersects(triangle)) {
 					return true;
 				}
@@ -152,7 +224,7 @@ public interface MultiShape2afp<
 	default boolean intersects(OrientedRectangle2afp<?, ?, ?, ?, ?, ?> orientedRectangle) {
 		assert orientedRectangle != null : AssertMessages.notNullParameter();
 		if (orientedRectangle.intersects(toBoundingBox())) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataIntersecting(orientedRectangle.toBoundingBox())) {
 				if (shape.intersects(orientedRectangle)) {
 					return true;
 				}
@@ -166,7 +238,7 @@ public interface MultiShape2afp<
 	default boolean intersects(Parallelogram2afp<?, ?, ?, ?, ?, ?> parallelogram) {
 		assert parallelogram != null : AssertMessages.notNullParameter();
 		if (parallelogram.intersects(toBoundingBox())) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataIntersecting(parallelogram.toBoundingBox())) {
 				if (shape.intersects(parallelogram)) {
 					return true;
 				}
@@ -180,7 +252,7 @@ public interface MultiShape2afp<
 	default boolean intersects(RoundRectangle2afp<?, ?, ?, ?, ?, ?> roundRectangle) {
 		assert roundRectangle != null : AssertMessages.notNullParameter();
 		if (roundRectangle.intersects(toBoundingBox())) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataIntersecting(roundRectangle.toBoundingBox())) {
 				if (shape.intersects(roundRectangle)) {
 					return true;
 				}
@@ -195,8 +267,8 @@ public interface MultiShape2afp<
 	default boolean intersects(MultiShape2afp<?, ?, ?, ?, ?, ?, ?> multishape) {
 		assert multishape != null : AssertMessages.notNullParameter();
 		if (multishape.toBoundingBox().intersects(toBoundingBox())) {
-			for (final CT shape1 : getBackendDataList()) {
-				for (final Shape2afp<?, ?, ?, ?, ?, ?> shape2 : multishape.getBackendDataList()) {
+			for (final Shape2afp<?, ?, ?, ?, ?, ?> shape2 : multishape.getBackendDataList()) {
+				for (final CT shape1 : getBackendDataIntersecting(shape2.toBoundingBox())) {
 					if (shape1.intersects(shape2)) {
 						return true;
 					}
@@ -210,7 +282,7 @@ public interface MultiShape2afp<
 	@Override
 	default boolean contains(double x, double y) {
 		if (toBoundingBox().contains(x, y)) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataIntersecting(getGeomFactory().newBox(x, y, 0, 0))) {
 				if (shape.contains(x, y)) {
 					return true;
 				}
@@ -224,7 +296,7 @@ public interface MultiShape2afp<
 	default boolean contains(Rectangle2afp<?, ?, ?, ?, ?, ?> rectangle) {
 		assert rectangle != null : AssertMessages.notNullParameter();
 		if (rectangle.intersects(toBoundingBox())) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataIntersecting(rectangle)) {
 				if (shape.contains(rectangle)) {
 					return true;
 				}
@@ -258,7 +330,7 @@ public interface MultiShape2afp<
 	default CT getFirstShapeIntersecting(ST shape) {
 		assert shape != null : AssertMessages.notNullParameter();
 		if (shape.intersects(toBoundingBox())) {
-			for (final CT innerShape : getBackendDataList()) {
+			for (final CT innerShape : getBackendDataIntersecting(shape.toBoundingBox())) {
 				if (innerShape.intersects(shape)) {
 					return innerShape;
 				}
@@ -274,7 +346,7 @@ public interface MultiShape2afp<
 		assert shape != null : AssertMessages.notNullParameter();
 		final List<CT> list = new ArrayList<>();
 		if (shape.intersects(toBoundingBox())) {
-			for (final CT subshape : getBackendDataList()) {
+			for (final CT subshape : getBackendDataIntersecting(shape.toBoundingBox())) {
 				if (subshape.intersects(shape)) {
 					list.add(subshape);
 				}
@@ -322,20 +394,32 @@ public interface MultiShape2afp<
                 Path2afp.DEFAULT_FLATTENING_LIMIT);
     }
 
+	@Pure
+	@Override
+	default double getDistanceSquared(Point2D<?, ?> point) {
+		assert point != null : AssertMessages.notNullParameter();
+		final CT shape = getBackendDataClosestTo(getGeomFactory().newBox(point.getX(), point.getY(), 0, 0),
+			it -> it.getDistanceSquared(point));
+		return shape == null ? Double.POSITIVE_INFINITY : shape.getDistanceSquared(point);
+	}
+
+	@Pure
+	@Override
+	default P getClosestPointTo(Point2D<?, ?> point) {
+		assert point != null : AssertMessages.notNullParameter();
+		final CT shape = getBackendDataClosestTo(getGeomFactory().newBox(point.getX(), point.getY(), 0, 0),
+			it -> it.getDistanceSquared(point));
+		return shape == null ? null : shape.getClosestPointTo(point);
+	}
+
     @Override
 	default P getClosestPointTo(Circle2afp<?, ?, ?, ?, ?, ?> circle) {
 		assert circle != null : AssertMessages.notNullParameter();
-		double min = Double.POSITIVE_INFINITY;
 		final P closest = getGeomFactory().newPoint();
-		P point;
-		double dist;
-		for (final CT innerShape : getBackendDataList()) {
-			point = innerShape.getClosestPointTo(circle);
-			dist = circle.getDistanceSquared(point);
-			if (dist < min) {
-				min = dist;
-				closest.set(point);
-			}
+		final CT shape = getBackendDataClosestTo(circle.toBoundingBox(),
+			it -> circle.getDistanceSquared(it.getClosestPointTo(circle)));
+		if (shape != null) {
+			closest.set(shape.getClosestPointTo(circle));
 		}
 		return closest;
 	}
@@ -343,17 +427,11 @@ public interface MultiShape2afp<
 	@Override
 	default P getClosestPointTo(Segment2afp<?, ?, ?, ?, ?, ?> segment) {
 		assert segment != null : AssertMessages.notNullParameter();
-		double min = Double.POSITIVE_INFINITY;
 		final P closest = getGeomFactory().newPoint();
-		P point;
-		double dist;
-		for (final CT innerShape : getBackendDataList()) {
-			point = innerShape.getClosestPointTo(segment);
-			dist = segment.getDistanceSquared(point);
-			if (dist < min) {
-				min = dist;
-				closest.set(point);
-			}
+		final CT shape = getBackendDataClosestTo(segment.toBoundingBox(),
+			it -> segment.getDistanceSquared(it.getClosestPointTo(segment)));
+		if (shape != null) {
+			closest.set(shape.getClosestPointTo(segment));
 		}
 		return closest;
 	}
@@ -361,17 +439,11 @@ public interface MultiShape2afp<
 	@Override
 	default P getClosestPointTo(Rectangle2afp<?, ?, ?, ?, ?, ?> rectangle) {
 		assert rectangle != null : AssertMessages.notNullParameter();
-		double min = Double.POSITIVE_INFINITY;
 		final P closest = getGeomFactory().newPoint();
-		P point;
-		double dist;
-		for (final CT innerShape : getBackendDataList()) {
-			point = innerShape.getClosestPointTo(rectangle);
-			dist = rectangle.getDistanceSquared(point);
-			if (dist < min) {
-				min = dist;
-				closest.set(point);
-			}
+		final CT shape = getBackendDataClosestTo(rectangle.toBoundingBox(),
+			it -> rectangle.getDistanceSquared(it.getClosestPointTo(rectangle)));
+		if (shape != null) {
+			closest.set(shape.getClosestPointTo(rectangle));
 		}
 		return closest;
 	}
@@ -379,17 +451,11 @@ public interface MultiShape2afp<
 	@Override
 	default P getClosestPointTo(RoundRectangle2afp<?, ?, ?, ?, ?, ?> roundRectangle) {
 		assert roundRectangle != null : AssertMessages.notNullParameter();
-		double min = Double.POSITIVE_INFINITY;
 		final P closest = getGeomFactory().newPoint();
-		P point;
-		double dist;
-		for (final CT innerShape : getBackendDataList()) {
-			point = innerShape.getClosestPointTo(roundRectangle);
-			dist = roundRectangle.getDistanceSquared(point);
-			if (dist < min) {
-				min = dist;
-				closest.set(point);
-			}
+		final CT shape = getBackendDataClosestTo(roundRectangle.toBoundingBox(),
+			it -> roundRectangle.getDistanceSquared(it.getClosestPointTo(roundRectangle)));
+		if (shape != null) {
+			closest.set(shape.getClosestPointTo(roundRectangle));
 		}
 		return closest;
 	}
@@ -397,17 +463,11 @@ public interface MultiShape2afp<
 	@Override
 	default P getClosestPointTo(Ellipse2afp<?, ?, ?, ?, ?, ?> ellipse) {
 		assert ellipse != null : AssertMessages.notNullParameter();
-		double min = Double.POSITIVE_INFINITY;
 		final P closest = getGeomFactory().newPoint();
-		P point;
-		double dist;
-		for (final CT innerShape : getBackendDataList()) {
-			point = innerShape.getClosestPointTo(ellipse);
-			dist = ellipse.getDistanceSquared(point);
-			if (dist < min) {
-				min = dist;
-				closest.set(point);
-			}
+		final CT shape = getBackendDataClosestTo(ellipse.toBoundingBox(),
+			it -> ellipse.getDistanceSquared(it.getClosestPointTo(ellipse)));
+		if (shape != null) {
+			closest.set(shape.getClosestPointTo(ellipse));
 		}
 		return closest;
 	}
@@ -415,17 +475,11 @@ public interface MultiShape2afp<
 	@Override
 	default P getClosestPointTo(Triangle2afp<?, ?, ?, ?, ?, ?> triangle) {
 		assert triangle != null : AssertMessages.notNullParameter();
-		double min = Double.POSITIVE_INFINITY;
 		final P closest = getGeomFactory().newPoint();
-		P point;
-		double dist;
-		for (final CT innerShape : getBackendDataList()) {
-			point = innerShape.getClosestPointTo(triangle);
-			dist = triangle.getDistanceSquared(point);
-			if (dist < min) {
-				min = dist;
-				closest.set(point);
-			}
+		final CT shape = getBackendDataClosestTo(triangle.toBoundingBox(),
+			it -> triangle.getDistanceSquared(it.getClosestPointTo(triangle)));
+		if (shape != null) {
+			closest.set(shape.getClosestPointTo(triangle));
 		}
 		return closest;
 	}
@@ -433,17 +487,11 @@ public interface MultiShape2afp<
 	@Override
 	default P getClosestPointTo(OrientedRectangle2afp<?, ?, ?, ?, ?, ?> orientedRectangle) {
 		assert orientedRectangle != null : AssertMessages.notNullParameter();
-		double min = Double.POSITIVE_INFINITY;
 		final P closest = getGeomFactory().newPoint();
-		P point;
-		double dist;
-		for (final CT innerShape : getBackendDataList()) {
-			point = innerShape.getClosestPointTo(orientedRectangle);
-			dist = orientedRectangle.getDistanceSquared(point);
-			if (dist < min) {
-				min = dist;
-				closest.set(point);
-			}
+		final CT shape = getBackendDataClosestTo(orientedRectangle.toBoundingBox(),
+			it -> orientedRectangle.getDistanceSquared(it.getClosestPointTo(orientedRectangle)));
+		if (shape != null) {
+			closest.set(shape.getClosestPointTo(orientedRectangle));
 		}
 		return closest;
 	}
@@ -451,17 +499,11 @@ public interface MultiShape2afp<
 	@Override
 	default P getClosestPointTo(Parallelogram2afp<?, ?, ?, ?, ?, ?> parallelogram) {
 		assert parallelogram != null : AssertMessages.notNullParameter();
-		double min = Double.POSITIVE_INFINITY;
 		final P closest = getGeomFactory().newPoint();
-		P point;
-		double dist;
-		for (final CT innerShape : getBackendDataList()) {
-			point = innerShape.getClosestPointTo(parallelogram);
-			dist = parallelogram.getDistanceSquared(point);
-			if (dist < min) {
-				min = dist;
-				closest.set(point);
-			}
+		final CT shape = getBackendDataClosestTo(parallelogram.toBoundingBox(),
+			it -> parallelogram.getDistanceSquared(it.getClosestPointTo(parallelogram)));
+		if (shape != null) {
+			closest.set(shape.getClosestPointTo(parallelogram));
 		}
 		return closest;
 	}
@@ -469,17 +511,11 @@ public interface MultiShape2afp<
 	@Override
 	default P getClosestPointTo(Path2afp<?, ?, ?, ?, ?, ?> path) {
 		assert path != null : AssertMessages.notNullParameter();
-		double min = Double.POSITIVE_INFINITY;
 		final P closest = getGeomFactory().newPoint();
-		P point;
-		double dist;
-		for (final CT innerShape : getBackendDataList()) {
-			point = innerShape.getClosestPointTo(path);
-			dist = path.getDistanceSquared(point);
-			if (dist < min) {
-				min = dist;
-				closest.set(point);
-			}
+		final CT shape = getBackendDataClosestTo(path.toBoundingBox(),
+			it -> path.getDistanceSquared(it.getClosestPointTo(path)));
+		if (shape != null) {
+			closest.set(shape.getClosestPointTo(path));
 		}
 		return closest;
 	}
@@ -487,17 +523,11 @@ public interface MultiShape2afp<
 	@Override
 	default P getClosestPointTo(MultiShape2afp<?, ?, ?, ?, ?, ?, ?> multishape) {
 		assert multishape != null : AssertMessages.notNullParameter();
-		double min = Double.POSITIVE_INFINITY;
 		final P closest = getGeomFactory().newPoint();
-		P point;
-		double dist;
-		for (final CT innerShape : getBackendDataList()) {
-			point = innerShape.getClosestPointTo(multishape);
-			dist = multishape.getDistanceSquared(point);
-			if (dist < min) {
-				min = dist;
-				closest.set(point);
-			}
+		final CT shape = getBackendDataClosestTo(multishape.toBoundingBox(),
+			it -> multishape.getDistanceSquared(it.getClosestPointTo(multishape)));
+		if (shape != null) {
+			closest.set(shape.getClosestPointTo(multishape));
 		}
 		return closest;
 	}
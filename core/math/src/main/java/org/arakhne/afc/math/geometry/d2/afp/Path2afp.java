@@ -108,8 +108,7 @@ public interface Path2afp<
         if (pathElement1.getType() != PathElementType.MOVE_TO) {
             throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
         }
-        final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
-        Path2afp<?, ?, ?, ?, ?, ?> subPath;
+        final CurveCrossings2afp curves = new CurveCrossings2afp(shadow);
         double curx = pathElement1.getToX();
         double movx = curx;
         double cury = pathElement1.getToY();
@@ -140,13 +139,9 @@ public interface Path2afp<
             case QUAD_TO:
                 endx = pathElement1.getToX();
                 endy = pathElement1.getToY();
-                subPath = factory.newPath(iterator.getWindingRule());
-                subPath.moveTo(curx, cury);
-                subPath.quadTo(
-                        pathElement1.getCtrlX1(), pathElement1.getCtrlY1(), endx, endy);
-                numCrossings = computeCrossingsFromPath(
-                        numCrossings, subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        shadow, CrossingComputationType.STANDARD);
+                numCrossings = curves.quadTo(numCrossings, curx, cury,
+                        pathElement1.getCtrlX1(), pathElement1.getCtrlY1(),
+                        endx, endy);
                 if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
                     return numCrossings;
                 }
@@ -156,13 +151,10 @@ public interface Path2afp<
             case CURVE_TO:
                 endx = pathElement1.getToX();
                 endy = pathElement1.getToY();
-                subPath = factory.newPath(iterator.getWindingRule());
-                subPath.moveTo(curx, cury);
-                subPath.curveTo(pathElement1.getCtrlX1(), pathElement1.getCtrlY1(),
-                        pathElement1.getCtrlX2(), pathElement1.getCtrlY2(), endx, endy);
-                numCrossings = computeCrossingsFromPath(
-                        numCrossings, subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        shadow, CrossingComputationType.STANDARD);
+                numCrossings = curves.curveTo(numCrossings, curx, cury,
+                        pathElement1.getCtrlX1(), pathElement1.getCtrlY1(),
+                        pathElement1.getCtrlX2(), pathElement1.getCtrlY2(),
+                        endx, endy);
                 if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
                     return numCrossings;
                 }
@@ -172,14 +164,11 @@ public interface Path2afp<
             case ARC_TO:
                 endx = pathElement1.getToX();
                 endy = pathElement1.getToY();
-                subPath = factory.newPath(iterator.getWindingRule());
-                subPath.moveTo(curx, cury);
-                subPath.arcTo(endx, endy, pathElement1.getRadiusX(), pathElement1.getRadiusY(),
+                numCrossings = curves.arcTo(numCrossings, curx, cury,
+                        endx, endy,
+                        pathElement1.getRadiusX(), pathElement1.getRadiusY(),
                         pathElement1.getRotationX(), pathElement1.getLargeArcFlag(),
                         pathElement1.getSweepFlag());
-                numCrossings = computeCrossingsFromPath(
-                        numCrossings, subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        shadow, CrossingComputationType.STANDARD);
                 if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
                     return numCrossings;
                 }
@@ -708,8 +697,12 @@ public interface Path2afp<
         if (element.getType() != PathElementType.MOVE_TO) {
             throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
         }
-        final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
-        Path2afp<?, ?, ?, ?, ?, ?> subPath;
+        final CurveCrossings2afp curves = new CurveCrossings2afp((crossingValue, sx1, sy1, sx2, sy2) -> {
+            if (sx2 == px && sy2 == py) {
+                return MathConstants.SHAPE_INTERSECTS;
+            }
+            return crossingValue + Segment2afp.computeCrossingsFromPoint(px, py, sx1, sy1, sx2, sy2);
+        });
         double movx = element.getToX();
         double movy = element.getToY();
         double curx = movx;
@@ -745,16 +738,9 @@ public interface Path2afp<
                 if (endx == px && endy == py) {
                     return MathConstants.SHAPE_INTERSECTS;
                 }
-                subPath = factory.newPath(iterator.getWindingRule());
-                subPath.moveTo(curx, cury);
-                subPath.quadTo(
+                numCrossings = curves.quadTo(numCrossings, curx, cury,
                         element.getCtrlX1(), element.getCtrlY1(),
                         endx, endy);
-                numCrossings = computeCrossingsFromPoint(
-                        numCrossings,
-                        subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        px, py,
-                        CrossingComputationType.STANDARD);
                 if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
                     return numCrossings;
                 }
@@ -767,17 +753,10 @@ public interface Path2afp<
                 if (endx == px && endy == py) {
                     return MathConstants.SHAPE_INTERSECTS;
                 }
-                subPath = factory.newPath(iterator.getWindingRule());
-                subPath.moveTo(curx, cury);
-                subPath.curveTo(
+                numCrossings = curves.curveTo(numCrossings, curx, cury,
                         element.getCtrlX1(), element.getCtrlY1(),
                         element.getCtrlX2(), element.getCtrlY2(),
                         endx, endy);
-                numCrossings = computeCrossingsFromPoint(
-                        numCrossings,
-                        subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        px, py,
-                        CrossingComputationType.STANDARD);
                 if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
                     return numCrossings;
                 }
@@ -790,18 +769,11 @@ public interface Path2afp<
                 if (endx == px && endy == py) {
                     return MathConstants.SHAPE_INTERSECTS;
                 }
-                subPath = factory.newPath(iterator.getWindingRule());
-                subPath.moveTo(curx, cury);
-                subPath.arcTo(
+                numCrossings = curves.arcTo(numCrossings, curx, cury,
                         endx, endy,
                         element.getRadiusX(), element.getRadiusY(),
                         element.getRotationX(), element.getLargeArcFlag(),
                         element.getSweepFlag());
-                numCrossings = computeCrossingsFromPoint(
-                        numCrossings,
-                        subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        px, py,
-                        CrossingComputationType.STANDARD);
                 if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
                     return numCrossings;
                 }
@@ -884,8 +856,10 @@ public interface Path2afp<
             throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
         }
 
-        final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
-        Path2afp<?, ?, ?, ?, ?, ?> localPath;
+        final CurveCrossings2afp curves = new CurveCrossings2afp((crossingValue, sx1, sy1, sx2, sy2) -> {
+            return Segment2afp.computeCrossingsFromEllipse(
+                    crossingValue, ex, ey, ew, eh, sx1, sy1, sx2, sy2);
+        });
         double movx = element.getToX();
         double movy = element.getToY();
         double curx = movx;
@@ -919,16 +893,9 @@ public interface Path2afp<
             case QUAD_TO:
                 endx = element.getToX();
                 endy = element.getToY();
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.quadTo(
+                numCrosses = curves.quadTo(numCrosses, curx, cury,
                         element.getCtrlX1(), element.getCtrlY1(),
                         endx, endy);
-                numCrosses = computeCrossingsFromEllipse(
-                        numCrosses,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        ex, ey, ew, eh,
-                        CrossingComputationType.STANDARD);
                 if (numCrosses == MathConstants.SHAPE_INTERSECTS) {
                     return numCrosses;
                 }
@@ -938,18 +905,10 @@ public interface Path2afp<
             case CURVE_TO:
                 endx = element.getToX();
                 endy = element.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.curveTo(
+                numCrosses = curves.curveTo(numCrosses, curx, cury,
                         element.getCtrlX1(), element.getCtrlY1(),
                         element.getCtrlX2(), element.getCtrlY2(),
                         endx, endy);
-                numCrosses = computeCrossingsFromEllipse(
-                        numCrosses,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        ex, ey, ew, eh,
-                        CrossingComputationType.STANDARD);
                 if (numCrosses == MathConstants.SHAPE_INTERSECTS) {
                     return numCrosses;
                 }
@@ -959,19 +918,11 @@ public interface Path2afp<
             case ARC_TO:
                 endx = element.getToX();
                 endy = element.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.arcTo(
+                numCrosses = curves.arcTo(numCrosses, curx, cury,
                         endx, endy,
                         element.getRadiusX(), element.getRadiusY(),
                         element.getRotationX(), element.getLargeArcFlag(),
                         element.getSweepFlag());
-                numCrosses = computeCrossingsFromEllipse(
-                        numCrosses,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        ex, ey, ew, eh,
-                        CrossingComputationType.STANDARD);
                 if (numCrosses == MathConstants.SHAPE_INTERSECTS) {
                     return numCrosses;
                 }
@@ -1061,13 +1012,15 @@ public interface Path2afp<
             throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
         }
 
-        final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
+        final CurveCrossings2afp curves = new CurveCrossings2afp((crossingValue, sx1, sy1, sx2, sy2) -> {
+            return Segment2afp.computeCrossingsFromRoundRect(
+                    crossingValue, x1, y1, x2, y2, arcWidth, arcHeight, sx1, sy1, sx2, sy2);
+        });
         double curx = pathElement.getToX();
         double movx = curx;
         double cury = pathElement.getToY();
         double movy = cury;
         int numCrossings = crossings;
-        Path2afp<?, ?, ?, ?, ?, ?> localPath;
         double endx;
         double endy;
 
@@ -1099,17 +1052,9 @@ public interface Path2afp<
             case QUAD_TO:
                 endx = pathElement.getToX();
                 endy = pathElement.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.quadTo(
+                numCrossings = curves.quadTo(numCrossings, curx, cury,
                         pathElement.getCtrlX1(), pathElement.getCtrlY1(),
                         endx, endy);
-                numCrossings = computeCrossingsFromRoundRect(
-                        numCrossings,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        x1, y1, x2, y2, arcWidth, arcHeight,
-                        CrossingComputationType.STANDARD);
                 if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
                     return numCrossings;
                 }
@@ -1119,18 +1064,10 @@ public interface Path2afp<
             case CURVE_TO:
                 endx = pathElement.getToX();
                 endy = pathElement.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.curveTo(
+                numCrossings = curves.curveTo(numCrossings, curx, cury,
                         pathElement.getCtrlX1(), pathElement.getCtrlY1(),
                         pathElement.getCtrlX2(), pathElement.getCtrlY2(),
                         endx, endy);
-                numCrossings = computeCrossingsFromRoundRect(
-                        numCrossings,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        x1, y1, x2, y2, arcWidth, arcHeight,
-                        CrossingComputationType.STANDARD);
                 if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
                     return numCrossings;
                 }
@@ -1140,19 +1077,11 @@ public interface Path2afp<
             case ARC_TO:
                 endx = pathElement.getToX();
                 endy = pathElement.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.arcTo(
+                numCrossings = curves.arcTo(numCrossings, curx, cury,
                         endx, endy,
                         pathElement.getRadiusX(), pathElement.getRadiusY(),
                         pathElement.getRotationX(), pathElement.getLargeArcFlag(),
                         pathElement.getSweepFlag());
-                numCrossings = computeCrossingsFromRoundRect(
-                        numCrossings,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        x1, y1, x2, y2, arcWidth, arcHeight,
-                        CrossingComputationType.STANDARD);
                 if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
                     return numCrossings;
                 }
@@ -1234,8 +1163,10 @@ public interface Path2afp<
             throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
         }
 
-        final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
-        Path2afp<?, ?, ?, ?, ?, ?> localPath;
+        final CurveCrossings2afp curves = new CurveCrossings2afp((crossingValue, sx1, sy1, sx2, sy2) -> {
+            return Segment2afp.computeCrossingsFromCircle(
+                    crossingValue, cx, cy, radius, sx1, sy1, sx2, sy2);
+        });
         double movx = element.getToX();
         double movy = element.getToY();
         double curx = movx;
@@ -1269,17 +1200,9 @@ public interface Path2afp<
             case QUAD_TO:
                 endx = element.getToX();
                 endy = element.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(element.getFromX(), element.getFromY());
-                localPath.quadTo(
+                numCrosses = curves.quadTo(numCrosses, curx, cury,
                         element.getCtrlX1(), element.getCtrlY1(),
                         endx, endy);
-                numCrosses = computeCrossingsFromCircle(
-                        numCrosses,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        cx, cy, radius,
-                        CrossingComputationType.STANDARD);
                 if (numCrosses == MathConstants.SHAPE_INTERSECTS) {
                     return numCrosses;
                 }
@@ -1289,18 +1212,10 @@ public interface Path2afp<
             case CURVE_TO:
                 endx = element.getToX();
                 endy = element.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(element.getFromX(), element.getFromY());
-                localPath.curveTo(
+                numCrosses = curves.curveTo(numCrosses, curx, cury,
                         element.getCtrlX1(), element.getCtrlY1(),
                         element.getCtrlX2(), element.getCtrlY2(),
                         endx, endy);
-                numCrosses = computeCrossingsFromCircle(
-                        numCrosses,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        cx, cy, radius,
-                        CrossingComputationType.STANDARD);
                 if (numCrosses == MathConstants.SHAPE_INTERSECTS) {
                     return numCrosses;
                 }
@@ -1310,19 +1225,11 @@ public interface Path2afp<
             case ARC_TO:
                 endx = element.getToX();
                 endy = element.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(element.getFromX(), element.getFromY());
-                localPath.arcTo(
+                numCrosses = curves.arcTo(numCrosses, curx, cury,
                         endx, endy,
                         element.getRadiusX(), element.getRadiusY(),
                         element.getRotationX(), element.getLargeArcFlag(),
                         element.getSweepFlag());
-                numCrosses = computeCrossingsFromCircle(
-                        numCrosses,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        cx, cy, radius,
-                        CrossingComputationType.STANDARD);
                 if (numCrosses == MathConstants.SHAPE_INTERSECTS) {
                     return numCrosses;
                 }
@@ -1405,8 +1312,10 @@ public interface Path2afp<
             throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
         }
 
-        final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
-        Path2afp<?, ?, ?, ?, ?, ?> localPath;
+        final CurveCrossings2afp curves = new CurveCrossings2afp((crossingValue, sx1, sy1, sx2, sy2) -> {
+            return Segment2afp.computeCrossingsFromSegment(
+                    crossingValue, x1, y1, x2, y2, sx1, sy1, sx2, sy2);
+        });
         double movx = element.getToX();
         double movy = element.getToY();
         double curx = movx;
@@ -1440,17 +1349,9 @@ public interface Path2afp<
             case QUAD_TO:
                 endx = element.getToX();
                 endy = element.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.quadTo(
+                numCrosses = curves.quadTo(numCrosses, curx, cury,
                         element.getCtrlX1(), element.getCtrlY1(),
                         endx, endy);
-                numCrosses = computeCrossingsFromSegment(
-                        numCrosses,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        x1, y1, x2, y2,
-                        CrossingComputationType.STANDARD);
                 if (numCrosses == MathConstants.SHAPE_INTERSECTS) {
                     return numCrosses;
                 }
@@ -1460,18 +1361,10 @@ public interface Path2afp<
             case CURVE_TO:
                 endx = element.getToX();
                 endy = element.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.curveTo(
+                numCrosses = curves.curveTo(numCrosses, curx, cury,
                         element.getCtrlX1(), element.getCtrlY1(),
                         element.getCtrlX2(), element.getCtrlY2(),
                         endx, endy);
-                numCrosses = computeCrossingsFromSegment(
-                        numCrosses,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        x1, y1, x2, y2,
-                        CrossingComputationType.STANDARD);
                 if (numCrosses == MathConstants.SHAPE_INTERSECTS) {
                     return numCrosses;
                 }
@@ -1481,19 +1374,11 @@ public interface Path2afp<
             case ARC_TO:
                 endx = element.getToX();
                 endy = element.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.arcTo(
+                numCrosses = curves.arcTo(numCrosses, curx, cury,
                         endx, endy,
                         element.getRadiusX(), element.getRadiusY(),
                         element.getRotationX(), element.getLargeArcFlag(),
                         element.getSweepFlag());
-                numCrosses = computeCrossingsFromSegment(
-                        numCrosses,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        x1, y1, x2, y2,
-                        CrossingComputationType.STANDARD);
                 if (numCrosses == MathConstants.SHAPE_INTERSECTS) {
                     return numCrosses;
                 }
@@ -1586,8 +1471,10 @@ public interface Path2afp<
             throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
         }
 
-        final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
-        Path2afp<?, ?, ?, ?, ?, ?> localPath;
+        final CurveCrossings2afp curves = new CurveCrossings2afp((crossingValue, sx1, sy1, sx2, sy2) -> {
+            return Segment2afp.computeCrossingsFromRect(
+                    crossingValue, rxmin, rymin, rxmax, rymax, sx1, sy1, sx2, sy2);
+        });
         double curx = pathElement.getToX();
         double movx = curx;
         double cury = pathElement.getToY();
@@ -1626,18 +1513,9 @@ public interface Path2afp<
             case QUAD_TO:
                 endx = pathElement.getToX();
                 endy = pathElement.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.quadTo(
+                numCrossings = curves.quadTo(numCrossings, curx, cury,
                         pathElement.getCtrlX1(), pathElement.getCtrlY1(),
                         endx, endy);
-                numCrossings = computeCrossingsFromRect(
-                        numCrossings,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        rxmin, rymin,
-                        rxmax, rymax,
-                        CrossingComputationType.STANDARD);
                 if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
                     return numCrossings;
                 }
@@ -1647,19 +1525,10 @@ public interface Path2afp<
             case CURVE_TO:
                 endx = pathElement.getToX();
                 endy = pathElement.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.curveTo(
+                numCrossings = curves.curveTo(numCrossings, curx, cury,
                         pathElement.getCtrlX1(), pathElement.getCtrlY1(),
                         pathElement.getCtrlX2(), pathElement.getCtrlY2(),
                         endx, endy);
-                numCrossings = computeCrossingsFromRect(
-                        numCrossings,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        rxmin, rymin,
-                        rxmax, rymax,
-                        CrossingComputationType.STANDARD);
                 if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
                     return numCrossings;
                 }
@@ -1669,20 +1538,11 @@ public interface Path2afp<
             case ARC_TO:
                 endx = pathElement.getToX();
                 endy = pathElement.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.arcTo(
+                numCrossings = curves.arcTo(numCrossings, curx, cury,
                         endx, endy,
                         pathElement.getRadiusX(), pathElement.getRadiusY(),
                         pathElement.getRotationX(), pathElement.getLargeArcFlag(),
                         pathElement.getSweepFlag());
-                numCrossings = computeCrossingsFromRect(
-                        numCrossings,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        rxmin, rymin,
-                        rxmax, rymax,
-                        CrossingComputationType.STANDARD);
                 if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
                     return numCrossings;
                 }
@@ -1782,8 +1642,10 @@ public interface Path2afp<
             throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
         }
 
-        final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
-        Path2afp<?, ?, ?, ?, ?, ?> localPath;
+        final CurveCrossings2afp curves = new CurveCrossings2afp((crossingValue, sx1, sy1, sx2, sy2) -> {
+            return Segment2afp.computeCrossingsFromTriangle(
+                    crossingValue, x1, y1, x2, y2, x3, y3, sx1, sy1, sx2, sy2);
+        });
         double curx = pathElement.getToX();
         double movx = curx;
         double cury = pathElement.getToY();
@@ -1820,17 +1682,9 @@ public interface Path2afp<
             case QUAD_TO:
                 endx = pathElement.getToX();
                 endy = pathElement.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.quadTo(
+                numCrossings = curves.quadTo(numCrossings, curx, cury,
                         pathElement.getCtrlX1(), pathElement.getCtrlY1(),
                         endx, endy);
-                numCrossings = computeCrossingsFromTriangle(
-                        numCrossings,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        x1, y1, x2, y2, x3, y3,
-                        CrossingComputationType.STANDARD);
                 if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
                     return numCrossings;
                 }
@@ -1840,18 +1694,10 @@ public interface Path2afp<
             case CURVE_TO:
                 endx = pathElement.getToX();
                 endy = pathElement.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.curveTo(
+                numCrossings = curves.curveTo(numCrossings, curx, cury,
                         pathElement.getCtrlX1(), pathElement.getCtrlY1(),
                         pathElement.getCtrlX2(), pathElement.getCtrlY2(),
                         endx, endy);
-                numCrossings = computeCrossingsFromTriangle(
-                        numCrossings,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        x1, y1, x2, y2, x3, y3,
-                        CrossingComputationType.STANDARD);
                 if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
                     return numCrossings;
                 }
@@ -1861,19 +1707,11 @@ public interface Path2afp<
             case ARC_TO:
                 endx = pathElement.getToX();
                 endy = pathElement.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.arcTo(
+                numCrossings = curves.arcTo(numCrossings, curx, cury,
                         endx, endy,
                         pathElement.getRadiusX(), pathElement.getRadiusY(),
                         pathElement.getRotationX(), pathElement.getLargeArcFlag(),
                         pathElement.getSweepFlag());
-                numCrossings = computeCrossingsFromTriangle(
-                        numCrossings,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        x1, y1, x2, y2, x3, y3,
-                        CrossingComputationType.STANDARD);
                 if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
                     return numCrossings;
                 }
@@ -3307,18 +3145,18 @@ public interface Path2afp<
 
         private final Transform2D transform;
 
-        private final Point2D<?, ?> p1;
-
-        private final Point2D<?, ?> p2;
-
-        private final Point2D<?, ?> ptmp1;
-
-        private final Point2D<?, ?> ptmp2;
+        /** The coordinates of the path, transformed in one pass.
+         */
+        private final double[] coords;
 
         private int typeIndex;
 
         private int coordIndex;
 
+        private double lastx;
+
+        private double lasty;
+
         private double movex;
 
         private double movey;
@@ -3331,10 +3169,8 @@ public interface Path2afp<
             super(path);
             assert transform != null : AssertMessages.notNullParameter(1);
             this.transform = transform;
-            this.p1 = new InnerComputationPoint2afp();
-            this.p2 = new InnerComputationPoint2afp();
-            this.ptmp1 = new InnerComputationPoint2afp();
-            this.ptmp2 = new InnerComputationPoint2afp();
+            this.coords = path.toDoubleArray(null);
+            transform.transform(this.coords, 0, this.coords, 0, this.coords.length / 2);
         }
 
         @Override
@@ -3349,73 +3185,58 @@ public interface Path2afp<
         }
 
         @Override
+        @SuppressWarnings("checkstyle:magicnumber")
         public T next() {
             final Path2afp<?, ?, T, ?, ?, ?> path = getPath();
             if (this.typeIndex >= path.getPathElementCount()) {
                 throw new NoSuchElementException();
             }
+            final double[] pts = this.coords;
+            final int idx = this.coordIndex;
             T element = null;
             switch (path.getPathElementTypeAt(this.typeIndex++)) {
             case MOVE_TO:
-                this.movex = path.getCoordAt(this.coordIndex++);
-                this.movey = path.getCoordAt(this.coordIndex++);
-                this.p2.set(this.movex, this.movey);
-                this.transform.transform(this.p2);
+                this.movex = pts[idx];
+                this.movey = pts[idx + 1];
+                this.coordIndex += 2;
                 element = getGeomFactory().newMovePathElement(
-                        this.p2.getX(), this.p2.getY());
+                        this.movex, this.movey);
+                this.lastx = this.movex;
+                this.lasty = this.movey;
                 break;
             case LINE_TO:
-                this.p1.set(this.p2);
-                this.p2.set(
-                        path.getCoordAt(this.coordIndex++),
-                        path.getCoordAt(this.coordIndex++));
-                this.transform.transform(this.p2);
+                this.coordIndex += 2;
                 element = getGeomFactory().newLinePathElement(
-                        this.p1.getX(), this.p1.getY(),
-                        this.p2.getX(), this.p2.getY());
+                        this.lastx, this.lasty,
+                        pts[idx], pts[idx + 1]);
+                this.lastx = pts[idx];
+                this.lasty = pts[idx + 1];
                 break;
             case QUAD_TO:
-                this.p1.set(this.p2);
-                this.ptmp1.set(
-                        path.getCoordAt(this.coordIndex++),
-                        path.getCoordAt(this.coordIndex++));
-                this.transform.transform(this.ptmp1);
-                this.p2.set(
-                        path.getCoordAt(this.coordIndex++),
-                        path.getCoordAt(this.coordIndex++));
-                this.transform.transform(this.p2);
+                this.coordIndex += 4;
                 element = getGeomFactory().newCurvePathElement(
-                        this.p1.getX(), this.p1.getY(),
-                        this.ptmp1.getX(), this.ptmp1.getY(),
-                        this.p2.getX(), this.p2.getY());
+                        this.lastx, this.lasty,
+                        pts[idx], pts[idx + 1],
+                        pts[idx + 2], pts[idx + 3]);
+                this.lastx = pts[idx + 2];
+                this.lasty = pts[idx + 3];
                 break;
             case CURVE_TO:
-                this.p1.set(this.p2);
-                this.ptmp1.set(
-                        path.getCoordAt(this.coordIndex++),
-                        path.getCoordAt(this.coordIndex++));
-                this.transform.transform(this.ptmp1);
-                this.ptmp2.set(
-                        path.getCoordAt(this.coordIndex++),
-                        path.getCoordAt(this.coordIndex++));
-                this.transform.transform(this.ptmp2);
-                this.p2.set(
-                        path.getCoordAt(this.coordIndex++),
-                        path.getCoordAt(this.coordIndex++));
-                this.transform.transform(this.p2);
+                this.coordIndex += 6;
                 element = getGeomFactory().newCurvePathElement(
-                        this.p1.getX(), this.p1.getY(),
-                        this.ptmp1.getX(), this.ptmp1.getY(),
-                        this.ptmp2.getX(), this.ptmp2.getY(),
-                        this.p2.getX(), this.p2.getY());
+                        this.lastx, this.lasty,
+                        pts[idx], pts[idx + 1],
+                        pts[idx + 2], pts[idx + 3],
+                        pts[idx + 4], pts[idx + 5]);
+                this.lastx = pts[idx + 4];
+                this.lasty = pts[idx + 5];
                 break;
             case CLOSE:
-                this.p1.set(this.p2);
-                this.p2.set(this.movex, this.movey);
-                this.transform.transform(this.p2);
                 element = getGeomFactory().newClosePathElement(
-                        this.p1.getX(), this.p1.getY(),
-                        this.p2.getX(), this.p2.getY());
+                        this.lastx, this.lasty,
+                        this.movex, this.movey);
+                this.lastx = this.movex;
+                this.lasty = this.movey;
                 break;
             case ARC_TO:
                 throw new IllegalStateException();
@@ -3576,7 +3397,7 @@ public interface Path2afp<
          * @return the flatness of the quadratic curve that is defined by the
          *          values in the specified array at the specified index.
          */
-        private static double getQuadSquaredFlatness(double[] coords, int offset) {
+        static double getQuadSquaredFlatness(double[] coords, int offset) {
             return Segment2afp.computeDistanceSquaredLinePoint(
                     coords[offset + 0], coords[offset + 1],
                     coords[offset + 4], coords[offset + 5],
@@ -3610,7 +3431,7 @@ public interface Path2afp<
          * @param rightoff the offset into the array of the beginning of the
          *     the 6 right coordinates
          */
-        private static void subdivideQuad(double[] src, int srcoff,
+        static void subdivideQuad(double[] src, int srcoff,
                 double[] left, int leftoff,
                 double[] right, int rightoff) {
             double x1 = src[srcoff + 0];
@@ -3659,7 +3480,7 @@ public interface Path2afp<
          *          specified by the coordinates in <code>coords</code> at
          *          the specified offset.
          */
-        private static double getCurveSquaredFlatness(double[] coords, int offset) {
+        static double getCurveSquaredFlatness(double[] coords, int offset) {
             return Math.max(
                     Segment2afp.computeDistanceSquaredSegmentPoint(
                             coords[offset + 6],
@@ -3704,7 +3525,7 @@ public interface Path2afp<
          * @param rightoff the offset into the array of the beginning of the
          *     the 6 right coordinates
          */
-        private static void subdivideCurve(
+        static void subdivideCurve(
                 double[] src, int srcoff,
                 double[] left, int leftoff,
                 double[] right, int rightoff) {
@@ -0,0 +1,319 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.geometry.d2.Point2D;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** Batch of points that are stored in parallel columns of coordinates.
+ *
+ * <p>The batch provides bulk versions of the point functions of {@link Point2D},
+ * {@link Segment2afp} and {@link Rectangle2afp}. Each kernel is a loop over the coordinate
+ * columns, without creation of point objects. When the batch contains at least
+ * {@link #getParallelThreshold() threshold} points, the loop is split into ranges that
+ * are run on the common fork/join pool.
+ *
+ * <p>This batch is not thread-safe.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ * @see SegmentBatch2afp
+ */
+public class PointBatch2afp {
+
+	/** Default number of elements from which the kernels are run in parallel.
+	 */
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 65536;
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private double[] xs;
+
+	private double[] ys;
+
+	private int size;
+
+	private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+	/** Construct an empty batch.
+	 */
+	public PointBatch2afp() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/** Construct an empty batch.
+	 *
+	 * @param initialCapacity the initial number of points that could be stored without reallocation.
+	 */
+	public PointBatch2afp(int initialCapacity) {
+		assert initialCapacity >= 0 : AssertMessages.positiveOrZeroParameter();
+		this.xs = new double[initialCapacity];
+		this.ys = new double[initialCapacity];
+	}
+
+	/** Replies the number of points from which the kernels are run in parallel.
+	 *
+	 * @return the threshold.
+	 */
+	@Pure
+	public int getParallelThreshold() {
+		return this.parallelThreshold;
+	}
+
+	/** Change the number of points from which the kernels are run in parallel.
+	 *
+	 * @param threshold the threshold. {@link Integer#MAX_VALUE} disables the parallel runs.
+	 */
+	public void setParallelThreshold(int threshold) {
+		assert threshold > 0 : AssertMessages.invalidValue();
+		this.parallelThreshold = threshold;
+	}
+
+	/** Replies the number of points in the batch.
+	 *
+	 * @return the number of points.
+	 */
+	@Pure
+	public int size() {
+		return this.size;
+	}
+
+	/** Replies if the batch has no point.
+	 *
+	 * @return {@code true} if the batch is empty.
+	 */
+	@Pure
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/** Remove all the points.
+	 */
+	public void clear() {
+		this.size = 0;
+	}
+
+	/** Ensure that the batch could store the given number of points without reallocation.
+	 *
+	 * @param capacity the minimal capacity.
+	 */
+	public void ensureCapacity(int capacity) {
+		if (capacity > this.xs.length) {
+			final int newCapacity = Math.max(capacity, this.xs.length + (this.xs.length >> 1) + 1);
+			this.xs = Arrays.copyOf(this.xs, newCapacity);
+			this.ys = Arrays.copyOf(this.ys, newCapacity);
+		}
+	}
+
+	/** Add a point at the end of the batch.
+	 *
+	 * @param x x coordinate of the point.
+	 * @param y y coordinate of the point.
+	 * @return the index of the point in the batch.
+	 */
+	public int add(double x, double y) {
+		final int index = this.size;
+		ensureCapacity(index + 1);
+		this.xs[index] = x;
+		this.ys[index] = y;
+		this.size = index + 1;
+		return index;
+	}
+
+	/** Add a point at the end of the batch.
+	 *
+	 * @param point the point to add.
+	 * @return the index of the point in the batch.
+	 */
+	public int add(Point2D<?, ?> point) {
+		assert point != null : AssertMessages.notNullParameter();
+		return add(point.getX(), point.getY());
+	}
+
+	/** Change the point at the given index.
+	 *
+	 * @param index the index of the point.
+	 * @param x x coordinate of the point.
+	 * @param y y coordinate of the point.
+	 */
+	public void set(int index, double x, double y) {
+		checkIndex(index);
+		this.xs[index] = x;
+		this.ys[index] = y;
+	}
+
+	/** Replies the x coordinate of the point at the given index.
+	 *
+	 * @param index the index of the point.
+	 * @return the x coordinate.
+	 */
+	@Pure
+	public double getX(int index) {
+		checkIndex(index);
+		return this.xs[index];
+	}
+
+	/** Replies the y coordinate of the point at the given index.
+	 *
+	 * @param index the index of the point.
+	 * @return the y coordinate.
+	 */
+	@Pure
+	public double getY(int index) {
+		checkIndex(index);
+		return this.ys[index];
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException();
+		}
+	}
+
+	private void checkResult(int length) {
+		assert length >= this.size : AssertMessages.tooSmallArrayParameter(length, this.size);
+	}
+
+	/** Test if every point in the batch is inside the given rectangle.
+	 *
+	 * @param rxmin the minimum x coordinate of the rectangle.
+	 * @param rymin the minimum y coordinate of the rectangle.
+	 * @param rxmax the maximum x coordinate of the rectangle.
+	 * @param rymax the maximum y coordinate of the rectangle.
+	 * @param result the array that is filled with the inclusion flags, indexed as the batch.
+	 * @return the number of points inside the rectangle.
+	 * @see Rectangle2afp#containsRectanglePoint(double, double, double, double, double, double)
+	 */
+	@SuppressWarnings("checkstyle:magicnumber")
+	public int containedInRectangle(double rxmin, double rymin, double rxmax, double rymax, boolean[] result) {
+		assert rxmin <= rxmax : AssertMessages.lowerEqualParameters(0, rxmin, 2, rxmax);
+		assert rymin <= rymax : AssertMessages.lowerEqualParameters(1, rymin, 3, rymax);
+		assert result != null : AssertMessages.notNullParameter(4);
+		checkResult(result.length);
+		final double[] px = this.xs;
+		final double[] py = this.ys;
+		return BatchTask2afp.invoke(this.size, this.parallelThreshold, (from, to) -> {
+			int count = 0;
+			for (int i = from; i < to; ++i) {
+				final double x = px[i];
+				final double y = py[i];
+				final boolean inside = x >= rxmin && x <= rxmax && y >= rymin && y <= rymax;
+				result[i] = inside;
+				if (inside) {
+					++count;
+				}
+			}
+			return count;
+		}, Integer::sum);
+	}
+
+	/** Compute the squared distances between the given point and every point in the batch.
+	 *
+	 * @param x x coordinate of the point.
+	 * @param y y coordinate of the point.
+	 * @param result the array that is filled with the squared distances, indexed as the batch.
+	 * @see Point2D#getDistanceSquaredPointPoint(double, double, double, double)
+	 */
+	public void computeDistanceSquaredToPoint(double x, double y, double[] result) {
+		assert result != null : AssertMessages.notNullParameter(2);
+		checkResult(result.length);
+		final double[] px = this.xs;
+		final double[] py = this.ys;
+		BatchTask2afp.invoke(this.size, this.parallelThreshold, (from, to) -> {
+			for (int i = from; i < to; ++i) {
+				final double dx = px[i] - x;
+				final double dy = py[i] - y;
+				result[i] = dx * dx + dy * dy;
+			}
+			return 0;
+		}, Integer::sum);
+	}
+
+	/** Compute the squared distances between the given segment and every point in the batch.
+	 *
+	 * @param x1 x coordinate of the first point of the segment.
+	 * @param y1 y coordinate of the first point of the segment.
+	 * @param x2 x coordinate of the second point of the segment.
+	 * @param y2 y coordinate of the second point of the segment.
+	 * @param result the array that is filled with the squared distances, indexed as the batch.
+	 * @see Segment2afp#computeDistanceSquaredSegmentPoint(double, double, double, double, double, double)
+	 */
+	@SuppressWarnings("checkstyle:magicnumber")
+	public void computeDistanceSquaredToSegment(double x1, double y1, double x2, double y2, double[] result) {
+		assert result != null : AssertMessages.notNullParameter(4);
+		checkResult(result.length);
+		final double[] px = this.xs;
+		final double[] py = this.ys;
+		BatchTask2afp.invoke(this.size, this.parallelThreshold, (from, to) -> {
+			for (int i = from; i < to; ++i) {
+				result[i] = Segment2afp.computeDistanceSquaredSegmentPoint(x1, y1, x2, y2, px[i], py[i]);
+			}
+			return 0;
+		}, Integer::sum);
+	}
+
+	/** Replies the index of the point that is the closest to the given point.
+	 * When several points are at the same distance, the lowest index is replied.
+	 *
+	 * @param x x coordinate of the point.
+	 * @param y y coordinate of the point.
+	 * @return the index of the closest point, or {@code -1} if the batch is empty.
+	 */
+	@Pure
+	public int getClosestPointTo(double x, double y) {
+		final double[] px = this.xs;
+		final double[] py = this.ys;
+		final IntBinaryOperator closer = (lower, upper) -> {
+			if (lower < 0) {
+				return upper;
+			}
+			if (upper < 0) {
+				return lower;
+			}
+			final double lowerDistance = Point2D.getDistanceSquaredPointPoint(px[lower], py[lower], x, y);
+			final double upperDistance = Point2D.getDistanceSquaredPointPoint(px[upper], py[upper], x, y);
+			return upperDistance < lowerDistance ? upper : lower;
+		};
+		return BatchTask2afp.invoke(this.size, this.parallelThreshold, (from, to) -> {
+			int closest = -1;
+			double min = Double.POSITIVE_INFINITY;
+			for (int i = from; i < to; ++i) {
+				final double dx = px[i] - x;
+				final double dy = py[i] - y;
+				final double distance = dx * dx + dy * dy;
+				if (closest < 0 || distance < min) {
+					min = distance;
+					closest = i;
+				}
+			}
+			return closest;
+		}, closer);
+	}
+
+}
@@ -0,0 +1,675 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** R-tree that is indexing objects by their bounding boxes.
+ *
+ * <p>The tree may be bulk-loaded with the Sort-Tile-Recursive (STR) algorithm, and
+ * updated incrementally with {@link #add(Object, Rectangle2afp)}, {@link #remove(Object)}
+ * and {@link #update(Object, Rectangle2afp)}.
+ * The objects are identified by reference, and the same object may be added several times.
+ *
+ * <p>This tree is not thread-safe.
+ *
+ * @param <T> the type of the indexed objects.
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+public class RTree2afp<T> {
+
+	/** Default maximal number of children per node.
+	 */
+	public static final int DEFAULT_NODE_CAPACITY = 16;
+
+	private static final int MIN_NODE_CAPACITY = 4;
+
+	private static final double MIN_FILL_RATIO = .4;
+
+	private final int maxEntries;
+
+	private final int minEntries;
+
+	private final Map<T, Entry<T>> entries = new IdentityHashMap<>();
+
+	private Node root;
+
+	private int size;
+
+	/** Construct an empty tree with the {@link #DEFAULT_NODE_CAPACITY default node capacity}.
+	 */
+	public RTree2afp() {
+		this(DEFAULT_NODE_CAPACITY);
+	}
+
+	/** Construct an empty tree.
+	 *
+	 * @param nodeCapacity the maximal number of children per node. It must be greater than or equal to 4.
+	 */
+	public RTree2afp(int nodeCapacity) {
+		assert nodeCapacity >= MIN_NODE_CAPACITY
+			: AssertMessages.outsideRangeInclusiveParameter(nodeCapacity, MIN_NODE_CAPACITY, Integer.MAX_VALUE);
+		this.maxEntries = nodeCapacity;
+		this.minEntries = Math.max(2, (int) (nodeCapacity * MIN_FILL_RATIO));
+		this.root = new Node(true, nodeCapacity);
+	}
+
+	/** Replies the number of objects in this tree, including the duplicates.
+	 *
+	 * @return the number of objects.
+	 */
+	@Pure
+	public int size() {
+		return this.size;
+	}
+
+	/** Replies if this tree is empty.
+	 *
+	 * @return {@code true} if the tree contains no object.
+	 */
+	@Pure
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/** Replies if the given object is inside this tree.
+	 *
+	 * @param item the object.
+	 * @return {@code true} if the object was added into the tree.
+	 */
+	@Pure
+	public boolean contains(Object item) {
+		return this.entries.containsKey(item);
+	}
+
+	/** Remove all the objects from this tree.
+	 */
+	public void clear() {
+		this.entries.clear();
+		this.root = new Node(true, this.maxEntries);
+		this.size = 0;
+	}
+
+	/** Replace the content of this tree by the given objects.
+	 *
+	 * <p>The tree is built with the Sort-Tile-Recursive (STR) algorithm, which produces
+	 * nodes with a low overlap.
+	 *
+	 * @param items the objects to put into the tree.
+	 * @param bounds the function that is replying the bounding box of an object.
+	 */
+	public void build(Iterable<? extends T> items, Function<? super T, ? extends Rectangle2afp<?, ?, ?, ?, ?, ?>> bounds) {
+		assert items != null : AssertMessages.notNullParameter(0);
+		assert bounds != null : AssertMessages.notNullParameter(1);
+		clear();
+		final List<Box> level = new ArrayList<>();
+		for (final T item : items) {
+			Entry<T> entry = this.entries.get(item);
+			if (entry == null) {
+				entry = new Entry<>(item);
+				entry.set(bounds.apply(item));
+				this.entries.put(item, entry);
+				level.add(entry);
+			} else {
+				++entry.count;
+			}
+			++this.size;
+		}
+		if (level.isEmpty()) {
+			return;
+		}
+		boolean leaf = true;
+		List<Box> current = level;
+		do {
+			current = packLevel(current, leaf);
+			leaf = false;
+		}
+		while (current.size() > 1);
+		this.root = (Node) current.get(0);
+		this.root.parent = null;
+	}
+
+	private List<Box> packLevel(List<Box> boxes, boolean leaf) {
+		final int count = boxes.size();
+		final int nodeCount = (count + this.maxEntries - 1) / this.maxEntries;
+		final int sliceCount = (int) Math.ceil(Math.sqrt(nodeCount));
+		final int sliceSize = sliceCount * this.maxEntries;
+		boxes.sort(Box.X_COMPARATOR);
+		final List<Box> nodes = new ArrayList<>(nodeCount);
+		for (int sliceStart = 0; sliceStart < count; sliceStart += sliceSize) {
+			final int sliceEnd = Math.min(count, sliceStart + sliceSize);
+			final List<Box> slice = boxes.subList(sliceStart, sliceEnd);
+			slice.sort(Box.Y_COMPARATOR);
+			for (int start = 0; start < slice.size(); start += this.maxEntries) {
+				final int end = Math.min(slice.size(), start + this.maxEntries);
+				final Node node = new Node(leaf, this.maxEntries);
+				for (int i = start; i < end; ++i) {
+					node.addChild(slice.get(i));
+				}
+				node.recomputeBounds();
+				nodes.add(node);
+			}
+		}
+		return nodes;
+	}
+
+	/** Add the given object into the tree.
+	 *
+	 * @param item the object to add.
+	 * @param bounds the bounding box of the object.
+	 */
+	public void add(T item, Rectangle2afp<?, ?, ?, ?, ?, ?> bounds) {
+		assert bounds != null : AssertMessages.notNullParameter(1);
+		add(item, bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY());
+	}
+
+	/** Add the given object into the tree.
+	 *
+	 * @param item the object to add.
+	 * @param minx the minimal x coordinate of the bounding box of the object.
+	 * @param miny the minimal y coordinate of the bounding box of the object.
+	 * @param maxx the maximal x coordinate of the bounding box of the object.
+	 * @param maxy the maximal y coordinate of the bounding box of the object.
+	 */
+	public void add(T item, double minx, double miny, double maxx, double maxy) {
+		assert item != null : AssertMessages.notNullParameter(0);
+		final Entry<T> existing = this.entries.get(item);
+		if (existing != null) {
+			++existing.count;
+		} else {
+			final Entry<T> entry = new Entry<>(item);
+			entry.set(minx, miny, maxx, maxy);
+			this.entries.put(item, entry);
+			insert(entry);
+		}
+		++this.size;
+	}
+
+	/** Remove one occurrence of the given object from the tree.
+	 *
+	 * @param item the object to remove.
+	 * @return {@code true} if the object was removed.
+	 */
+	public boolean remove(Object item) {
+		final Entry<T> entry = this.entries.get(item);
+		if (entry == null) {
+			return false;
+		}
+		--this.size;
+		if (entry.count > 1) {
+			--entry.count;
+		} else {
+			this.entries.remove(item);
+			detach(entry);
+		}
+		return true;
+	}
+
+	/** Change the bounding box of the given object.
+	 *
+	 * @param item the object to update.
+	 * @param bounds the new bounding box of the object.
+	 * @return {@code true} if the object is inside the tree.
+	 */
+	public boolean update(Object item, Rectangle2afp<?, ?, ?, ?, ?, ?> bounds) {
+		assert bounds != null : AssertMessages.notNullParameter(1);
+		final Entry<T> entry = this.entries.get(item);
+		if (entry == null) {
+			return false;
+		}
+		if (entry.minx != bounds.getMinX() || entry.miny != bounds.getMinY()
+				|| entry.maxx != bounds.getMaxX() || entry.maxy != bounds.getMaxY()) {
+			detach(entry);
+			entry.set(bounds);
+			insert(entry);
+		}
+		return true;
+	}
+
+	/** Replies the union of the bounding boxes of the objects in the tree.
+	 *
+	 * @param box the rectangle to set with the bounds.
+	 * @return {@code true} if the box was set; {@code false} if the tree is empty.
+	 */
+	public boolean toBoundingBox(Rectangle2afp<?, ?, ?, ?, ?, ?> box) {
+		assert box != null : AssertMessages.notNullParameter();
+		if (this.size == 0) {
+			return false;
+		}
+		box.setFromCorners(this.root.minx, this.root.miny, this.root.maxx, this.root.maxy);
+		return true;
+	}
+
+	/** Invoke the visitor on each object with a bounding box that is intersecting the given rectangle.
+	 *
+	 * <p>The order of the visited objects is unspecified.
+	 * An object that was added several times is visited several times.
+	 *
+	 * @param minx the minimal x coordinate of the rectangle.
+	 * @param miny the minimal y coordinate of the rectangle.
+	 * @param maxx the maximal x coordinate of the rectangle.
+	 * @param maxy the maximal y coordinate of the rectangle.
+	 * @param visitor the visitor, which replies {@code false} for stopping the search.
+	 * @return {@code false} if the search was stopped by the visitor; {@code true} otherwise.
+	 */
+	@SuppressWarnings("checkstyle:magicnumber")
+	public boolean forEachIntersecting(double minx, double miny, double maxx, double maxy,
+			Predicate<? super T> visitor) {
+		assert visitor != null : AssertMessages.notNullParameter(4);
+		if (this.size == 0) {
+			return true;
+		}
+		return visit(this.root, minx, miny, maxx, maxy, visitor);
+	}
+
+	/** Replies the objects with a bounding box that is intersecting the given rectangle.
+	 *
+	 * <p>The order of the replied objects is unspecified.
+	 *
+	 * @param rectangle the rectangle.
+	 * @return the objects.
+	 */
+	@Pure
+	public List<T> getIntersecting(Rectangle2afp<?, ?, ?, ?, ?, ?> rectangle) {
+		assert rectangle != null : AssertMessages.notNullParameter();
+		final List<T> result = new ArrayList<>();
+		forEachIntersecting(rectangle.getMinX(), rectangle.getMinY(), rectangle.getMaxX(), rectangle.getMaxY(),
+			it -> result.add(it));
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> boolean visit(Node node, double minx, double miny, double maxx, double maxy,
+			Predicate<? super T> visitor) {
+		for (int i = 0; i < node.size; ++i) {
+			final Box child = node.children[i];
+			if (child.intersects(minx, miny, maxx, maxy)) {
+				if (node.leaf) {
+					final Entry<T> entry = (Entry<T>) child;
+					for (int j = 0; j < entry.count; ++j) {
+						if (!visitor.test(entry.item)) {
+							return false;
+						}
+					}
+				} else if (!visit((Node) child, minx, miny, maxx, maxy, visitor)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/** Replies the object that minimizes the given distance function.
+	 *
+	 * <p>The search is a best-first traversal of the tree that is pruning the nodes with the
+	 * squared distance between their bounding boxes and the given rectangle.
+	 * Consequently, the distance function must never reply a value lower than the squared
+	 * distance between the bounding box of the object and the given rectangle.
+	 *
+	 * @param minx the minimal x coordinate of the rectangle.
+	 * @param miny the minimal y coordinate of the rectangle.
+	 * @param maxx the maximal x coordinate of the rectangle.
+	 * @param maxy the maximal y coordinate of the rectangle.
+	 * @param distanceSquared the function that computes the squared distance to an object.
+	 * @return the closest object, or {@code null} if the tree is empty.
+	 */
+	@Pure
+	@SuppressWarnings({"unchecked", "checkstyle:magicnumber"})
+	public T getNearest(double minx, double miny, double maxx, double maxy,
+			ToDoubleFunction<? super T> distanceSquared) {
+		assert distanceSquared != null : AssertMessages.notNullParameter(4);
+		if (this.size == 0) {
+			return null;
+		}
+		final PriorityQueue<Candidate> queue = new PriorityQueue<>();
+		queue.add(new Candidate(this.root, this.root.getDistanceSquared(minx, miny, maxx, maxy)));
+		T best = null;
+		double bestDistance = Double.POSITIVE_INFINITY;
+		while (!queue.isEmpty()) {
+			final Candidate candidate = queue.poll();
+			if (candidate.distance >= bestDistance) {
+				break;
+			}
+			final Node node = (Node) candidate.box;
+			for (int i = 0; i < node.size; ++i) {
+				final Box child = node.children[i];
+				final double lowerBound = child.getDistanceSquared(minx, miny, maxx, maxy);
+				if (lowerBound < bestDistance) {
+					if (node.leaf) {
+						final T item = ((Entry<T>) child).item;
+						final double distance = distanceSquared.applyAsDouble(item);
+						if (distance < bestDistance) {
+							bestDistance = distance;
+							best = item;
+						}
+					} else {
+						queue.add(new Candidate(child, lowerBound));
+					}
+				}
+			}
+		}
+		return best;
+	}
+
+	private void insert(Entry<T> entry) {
+		Node node = this.root;
+		while (!node.leaf) {
+			node = chooseSubtree(node, entry);
+		}
+		node.addChild(entry);
+		node.includeInBounds(entry);
+		Node current = node;
+		while (current.size > this.maxEntries) {
+			final Node sibling = split(current);
+			final Node parent = current.parent;
+			if (parent == null) {
+				final Node newRoot = new Node(false, this.maxEntries);
+				newRoot.addChild(current);
+				newRoot.addChild(sibling);
+				newRoot.recomputeBounds();
+				this.root = newRoot;
+				return;
+			}
+			parent.addChild(sibling);
+			current = parent;
+		}
+		for (Node ancestor = current; ancestor != null; ancestor = ancestor.parent) {
+			ancestor.includeInBounds(entry);
+		}
+	}
+
+	private static Node chooseSubtree(Node node, Box box) {
+		Node best = null;
+		double bestEnlargement = Double.POSITIVE_INFINITY;
+		double bestArea = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < node.size; ++i) {
+			final Node child = (Node) node.children[i];
+			final double area = child.getArea();
+			final double enlargement = (Math.max(child.maxx, box.maxx) - Math.min(child.minx, box.minx))
+					* (Math.max(child.maxy, box.maxy) - Math.min(child.miny, box.miny)) - area;
+			if (enlargement < bestEnlargement || (enlargement == bestEnlargement && area < bestArea)) {
+				best = child;
+				bestEnlargement = enlargement;
+				bestArea = area;
+			}
+		}
+		return best;
+	}
+
+	/** Split the given overflowing node along the axis with the lowest sum of margins.
+	 * The node keeps the lower half of its children, and the upper half is moved into the replied node.
+	 */
+	private Node split(Node node) {
+		final Box[] byX = Arrays.copyOf(node.children, node.size);
+		Arrays.sort(byX, Box.X_COMPARATOR);
+		final Box[] byY = Arrays.copyOf(node.children, node.size);
+		Arrays.sort(byY, Box.Y_COMPARATOR);
+		final int splitIndex = Math.max(this.minEntries, node.size / 2);
+		final Box[] chosen = getMargin(byX, splitIndex) <= getMargin(byY, splitIndex) ? byX : byY;
+		final Node sibling = new Node(node.leaf, this.maxEntries);
+		Arrays.fill(node.children, null);
+		node.size = 0;
+		for (int i = 0; i < chosen.length; ++i) {
+			if (i < splitIndex) {
+				node.addChild(chosen[i]);
+			} else {
+				sibling.addChild(chosen[i]);
+			}
+		}
+		node.recomputeBounds();
+		sibling.recomputeBounds();
+		return sibling;
+	}
+
+	private static double getMargin(Box[] boxes, int splitIndex) {
+		return getMargin(boxes, 0, splitIndex) + getMargin(boxes, splitIndex, boxes.length);
+	}
+
+	private static double getMargin(Box[] boxes, int start, int end) {
+		double minx = Double.POSITIVE_INFINITY;
+		double miny = Double.POSITIVE_INFINITY;
+		double maxx = Double.NEGATIVE_INFINITY;
+		double maxy = Double.NEGATIVE_INFINITY;
+		for (int i = start; i < end; ++i) {
+			final Box box = boxes[i];
+			minx = Math.min(minx, box.minx);
+			miny = Math.min(miny, box.miny);
+			maxx = Math.max(maxx, box.maxx);
+			maxy = Math.max(maxy, box.maxy);
+		}
+		return (maxx - minx) + (maxy - miny);
+	}
+
+	/** Remove the entry from its leaf, remove the nodes that become empty, and shrink the bounds
+	 * of the ancestors.
+	 */
+	private void detach(Entry<T> entry) {
+		Node node = entry.parent;
+		node.removeChild(entry);
+		while (node.size == 0 && node.parent != null) {
+			final Node parent = node.parent;
+			parent.removeChild(node);
+			node = parent;
+		}
+		for (Node ancestor = node; ancestor != null; ancestor = ancestor.parent) {
+			ancestor.recomputeBounds();
+		}
+		while (!this.root.leaf && this.root.size == 1) {
+			this.root = (Node) this.root.children[0];
+			this.root.parent = null;
+		}
+		if (this.root.size == 0) {
+			this.root = new Node(true, this.maxEntries);
+		}
+	}
+
+	/** Bounding box of a tree element.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private abstract static class Box {
+
+		static final Comparator<Box> X_COMPARATOR = (box1, box2) -> Double.compare(
+				box1.minx + box1.maxx, box2.minx + box2.maxx);
+
+		static final Comparator<Box> Y_COMPARATOR = (box1, box2) -> Double.compare(
+				box1.miny + box1.maxy, box2.miny + box2.maxy);
+
+		double minx;
+
+		double miny;
+
+		double maxx;
+
+		double maxy;
+
+		Node parent;
+
+		Box() {
+			//
+		}
+
+		void set(double x1, double y1, double x2, double y2) {
+			this.minx = x1;
+			this.miny = y1;
+			this.maxx = x2;
+			this.maxy = y2;
+		}
+
+		void set(Rectangle2afp<?, ?, ?, ?, ?, ?> box) {
+			set(box.getMinX(), box.getMinY(), box.getMaxX(), box.getMaxY());
+		}
+
+		boolean intersects(double x1, double y1, double x2, double y2) {
+			return this.minx <= x2 && x1 <= this.maxx && this.miny <= y2 && y1 <= this.maxy;
+		}
+
+		double getArea() {
+			return (this.maxx - this.minx) * (this.maxy - this.miny);
+		}
+
+		double getDistanceSquared(double x1, double y1, double x2, double y2) {
+			final double dx;
+			if (x2 < this.minx) {
+				dx = this.minx - x2;
+			} else if (x1 > this.maxx) {
+				dx = x1 - this.maxx;
+			} else {
+				dx = 0.;
+			}
+			final double dy;
+			if (y2 < this.miny) {
+				dy = this.miny - y2;
+			} else if (y1 > this.maxy) {
+				dy = y1 - this.maxy;
+			} else {
+				dy = 0.;
+			}
+			return dx * dx + dy * dy;
+		}
+
+	}
+
+	/** Node of the tree.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private static final class Node extends Box {
+
+		final boolean leaf;
+
+		final Box[] children;
+
+		int size;
+
+		Node(boolean leaf, int capacity) {
+			this.leaf = leaf;
+			this.children = new Box[capacity + 1];
+			set(Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY);
+		}
+
+		void addChild(Box child) {
+			this.children[this.size] = child;
+			++this.size;
+			child.parent = this;
+		}
+
+		void removeChild(Box child) {
+			for (int i = 0; i < this.size; ++i) {
+				if (this.children[i] == child) {
+					--this.size;
+					this.children[i] = this.children[this.size];
+					this.children[this.size] = null;
+					child.parent = null;
+					return;
+				}
+			}
+		}
+
+		void includeInBounds(Box box) {
+			this.minx = Math.min(this.minx, box.minx);
+			this.miny = Math.min(this.miny, box.miny);
+			this.maxx = Math.max(this.maxx, box.maxx);
+			this.maxy = Math.max(this.maxy, box.maxy);
+		}
+
+		void recomputeBounds() {
+			set(Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY);
+			for (int i = 0; i < this.size; ++i) {
+				includeInBounds(this.children[i]);
+			}
+		}
+
+	}
+
+	/** Leaf entry of the tree.
+	 *
+	 * @param <T> the type of the indexed object.
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private static final class Entry<T> extends Box {
+
+		final T item;
+
+		int count = 1;
+
+		Entry(T item) {
+			this.item = item;
+		}
+
+	}
+
+	/** Element of the queue of the nearest-object search.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private static final class Candidate implements Comparable<Candidate> {
+
+		final Box box;
+
+		final double distance;
+
+		Candidate(Box box, double distance) {
+			this.box = box;
+			this.distance = distance;
+		}
+
+		@Override
+		public int compareTo(Candidate candidate) {
+			return Double.compare(this.distance, candidate.distance);
+		}
+
+	}
+
+}
@@ -26,7 +26,6 @@ import org.eclipse.xtext.xbase.lib.Pure;
 
 import org.arakhne.afc.math.MathConstants;
 import org.arakhne.afc.math.MathUtil;
-import org.arakhne.afc.math.Unefficient;
 import org.arakhne.afc.math.geometry.CrossingComputationType;
 import org.arakhne.afc.math.geometry.PathWindingRule;
 import org.arakhne.afc.math.geometry.d2.Point2D;
@@ -1119,11 +1118,13 @@ public interface Rectangle2afp<
 	}
 
 	@Override
-	@Unefficient
 	default P getClosestPointTo(Triangle2afp<?, ?, ?, ?, ?, ?> triangle) {
 		assert triangle != null : AssertMessages.notNullParameter();
 		final P point = getGeomFactory().newPoint();
-		Path2afp.getClosestPointTo(getPathIterator(), triangle.getPathIterator(), point);
+		if (isEmpty() || triangle.isEmpty()
+				|| !ConvexPolygonClosestPoint2afp.computeClosestPoint(this, triangle, point)) {
+			Path2afp.getClosestPointTo(getPathIterator(), triangle.getPathIterator(), point);
+		}
 		return point;
 	}
 
@@ -0,0 +1,409 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.MathConstants;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** Batch of segments that are stored in parallel columns of coordinates.
+ *
+ * <p>The batch provides bulk versions of the segment functions of {@link Segment2afp}
+ * and {@link Rectangle2afp}. Each kernel is a loop over the coordinate columns, without
+ * creation of segment objects. When the batch contains at least
+ * {@link #getParallelThreshold() threshold} segments, the loop is split into ranges that
+ * are run on the common fork/join pool.
+ *
+ * <p>This batch is not thread-safe.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ * @see PointBatch2afp
+ */
+public class SegmentBatch2afp {
+
+	/** Default number of elements from which the kernels are run in parallel.
+	 */
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 65536;
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private double[] x1s;
+
+	private double[] y1s;
+
+	private double[] x2s;
+
+	private double[] y2s;
+
+	private int size;
+
+	private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+	/** Construct an empty batch.
+	 */
+	public SegmentBatch2afp() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/** Construct an empty batch.
+	 *
+	 * @param initialCapacity the initial number of segments that could be stored without reallocation.
+	 */
+	public SegmentBatch2afp(int initialCapacity) {
+		assert initialCapacity >= 0 : AssertMessages.positiveOrZeroParameter();
+		this.x1s = new double[initialCapacity];
+		this.y1s = new double[initialCapacity];
+		this.x2s = new double[initialCapacity];
+		this.y2s = new double[initialCapacity];
+	}
+
+	/** Replies the number of segments from which the kernels are run in parallel.
+	 *
+	 * @return the threshold.
+	 */
+	@Pure
+	public int getParallelThreshold() {
+		return this.parallelThreshold;
+	}
+
+	/** Change the number of segments from which the kernels are run in parallel.
+	 *
+	 * @param threshold the threshold. {@link Integer#MAX_VALUE} disables the parallel runs.
+	 */
+	public void setParallelThreshold(int threshold) {
+		assert threshold > 0 : AssertMessages.invalidValue();
+		this.parallelThreshold = threshold;
+	}
+
+	/** Replies the number of segments in the batch.
+	 *
+	 * @return the number of segments.
+	 */
+	@Pure
+	public int size() {
+		return this.size;
+	}
+
+	/** Replies if the batch has no segment.
+	 *
+	 * @return {@code true} if the batch is empty.
+	 */
+	@Pure
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/** Remove all the segments.
+	 */
+	public void clear() {
+		this.size = 0;
+	}
+
+	/** Ensure that the batch could store the given number of segments without reallocation.
+	 *
+	 * @param capacity the minimal capacity.
+	 */
+	public void ensureCapacity(int capacity) {
+		if (capacity > this.x1s.length) {
+			final int newCapacity = Math.max(capacity, this.x1s.length + (this.x1s.length >> 1) + 1);
+			this.x1s = Arrays.copyOf(this.x1s, newCapacity);
+			this.y1s = Arrays.copyOf(this.y1s, newCapacity);
+			this.x2s = Arrays.copyOf(this.x2s, newCapacity);
+			this.y2s = Arrays.copyOf(this.y2s, newCapacity);
+		}
+	}
+
+	/** Add a segment at the end of the batch.
+	 *
+	 * @param x1 x coordinate of the first point of the segment.
+	 * @param y1 y coordinate of the first point of the segment.
+	 * @param x2 x coordinate of the second point of the segment.
+	 * @param y2 y coordinate of the second point of the segment.
+	 * @return the index of the segment in the batch.
+	 */
+	public int add(double x1, double y1, double x2, double y2) {
+		final int index = this.size;
+		ensureCapacity(index + 1);
+		this.x1s[index] = x1;
+		this.y1s[index] = y1;
+		this.x2s[index] = x2;
+		this.y2s[index] = y2;
+		this.size = index + 1;
+		return index;
+	}
+
+	/** Add a segment at the end of the batch.
+	 *
+	 * @param segment the segment to add.
+	 * @return the index of the segment in the batch.
+	 */
+	public int add(Segment2afp<?, ?, ?, ?, ?, ?> segment) {
+		assert segment != null : AssertMessages.notNullParameter();
+		return add(segment.getX1(), segment.getY1(), segment.getX2(), segment.getY2());
+	}
+
+	/** Change the segment at the given index.
+	 *
+	 * @param index the index of the segment.
+	 * @param x1 x coordinate of the first point of the segment.
+	 * @param y1 y coordinate of the first point of the segment.
+	 * @param x2 x coordinate of the second point of the segment.
+	 * @param y2 y coordinate of the second point of the segment.
+	 */
+	public void set(int index, double x1, double y1, double x2, double y2) {
+		checkIndex(index);
+		this.x1s[index] = x1;
+		this.y1s[index] = y1;
+		this.x2s[index] = x2;
+		this.y2s[index] = y2;
+	}
+
+	/** Replies the x coordinate of the first point of the segment at the given index.
+	 *
+	 * @param index the index of the segment.
+	 * @return the x coordinate.
+	 */
+	@Pure
+	public double getX1(int index) {
+		checkIndex(index);
+		return this.x1s[index];
+	}
+
+	/** Replies the y coordinate of the first point of the segment at the given index.
+	 *
+	 * @param index the index of the segment.
+	 * @return the y coordinate.
+	 */
+	@Pure
+	public double getY1(int index) {
+		checkIndex(index);
+		return this.y1s[index];
+	}
+
+	/** Replies the x coordinate of the second point of the segment at the given index.
+	 *
+	 * @param index the index of the segment.
+	 * @return the x coordinate.
+	 */
+	@Pure
+	public double getX2(int index) {
+		checkIndex(index);
+		return this.x2s[index];
+	}
+
+	/** Replies the y coordinate of the second point of the segment at the given index.
+	 *
+	 * @param index the index of the segment.
+	 * @return the y coordinate.
+	 */
+	@Pure
+	public double getY2(int index) {
+		checkIndex(index);
+		return this.y2s[index];
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException();
+		}
+	}
+
+	private void checkResult(int length) {
+		assert length >= this.size : AssertMessages.tooSmallArrayParameter(length, this.size);
+	}
+
+	/** Test the intersection of every segment in the batch with the given segment.
+	 * The ends of the segments are considered as parts of the segments.
+	 *
+	 * @param x1 x coordinate of the first point of the tested segment.
+	 * @param y1 y coordinate of the first point of the tested segment.
+	 * @param x2 x coordinate of the second point of the tested segment.
+	 * @param y2 y coordinate of the second point of the tested segment.
+	 * @param result the array that is filled with the intersection flags, indexed as the batch.
+	 * @return the number of intersecting segments.
+	 * @see Segment2afp#intersectsSegmentSegmentWithEnds(double, double, double, double, double, double, double, double)
+	 */
+	@SuppressWarnings("checkstyle:magicnumber")
+	public int intersectsSegment(double x1, double y1, double x2, double y2, boolean[] result) {
+		assert result != null : AssertMessages.notNullParameter(4);
+		checkResult(result.length);
+		final double[] ax = this.x1s;
+		final double[] ay = this.y1s;
+		final double[] bx = this.x2s;
+		final double[] by = this.y2s;
+		return BatchTask2afp.invoke(this.size, this.parallelThreshold, (from, to) -> {
+			int count = 0;
+			for (int i = from; i < to; ++i) {
+				final boolean intersects = Segment2afp.intersectsSegmentSegmentWithEnds(
+						ax[i], ay[i], bx[i], by[i], x1, y1, x2, y2);
+				result[i] = intersects;
+				if (intersects) {
+					++count;
+				}
+			}
+			return count;
+		}, Integer::sum);
+	}
+
+	/** Test the intersection of every segment in the batch with the given rectangle.
+	 *
+	 * @param rxmin the minimum x coordinate of the rectangle.
+	 * @param rymin the minimum y coordinate of the rectangle.
+	 * @param rxmax the maximum x coordinate of the rectangle.
+	 * @param rymax the maximum y coordinate of the rectangle.
+	 * @param result the array that is filled with the intersection flags, indexed as the batch.
+	 * @return the number of intersecting segments.
+	 * @see Rectangle2afp#intersectsRectangleSegment(double, double, double, double, double, double, double, double)
+	 */
+	@SuppressWarnings("checkstyle:magicnumber")
+	public int intersectsRectangle(double rxmin, double rymin, double rxmax, double rymax, boolean[] result) {
+		assert rxmin <= rxmax : AssertMessages.lowerEqualParameters(0, rxmin, 2, rxmax);
+		assert rymin <= rymax : AssertMessages.lowerEqualParameters(1, rymin, 3, rymax);
+		assert result != null : AssertMessages.notNullParameter(4);
+		checkResult(result.length);
+		final double[] ax = this.x1s;
+		final double[] ay = this.y1s;
+		final double[] bx = this.x2s;
+		final double[] by = this.y2s;
+		return BatchTask2afp.invoke(this.size, this.parallelThreshold, (from, to) -> {
+			int count = 0;
+			for (int i = from; i < to; ++i) {
+				final boolean intersects = Rectangle2afp.intersectsRectangleSegment(
+						rxmin, rymin, rxmax, rymax, ax[i], ay[i], bx[i], by[i]);
+				result[i] = intersects;
+				if (intersects) {
+					++count;
+				}
+			}
+			return count;
+		}, Integer::sum);
+	}
+
+	/** Compute the crossings between the rectangle and all the segments of the batch.
+	 * The segments are considered as the borders of a shape, and their crossings are summed.
+	 *
+	 * @param rxmin the minimum x coordinate of the rectangle.
+	 * @param rymin the minimum y coordinate of the rectangle.
+	 * @param rxmax the maximum x coordinate of the rectangle.
+	 * @param rymax the maximum y coordinate of the rectangle.
+	 * @return the crossings, or {@link MathConstants#SHAPE_INTERSECTS}.
+	 * @see Segment2afp#computeCrossingsFromRect(int, double, double, double, double, double, double, double, double)
+	 */
+	@Pure
+	public int computeCrossingsFromRect(double rxmin, double rymin, double rxmax, double rymax) {
+		assert rxmin <= rxmax : AssertMessages.lowerEqualParameters(0, rxmin, 2, rxmax);
+		assert rymin <= rymax : AssertMessages.lowerEqualParameters(1, rymin, 3, rymax);
+		final double[] ax = this.x1s;
+		final double[] ay = this.y1s;
+		final double[] bx = this.x2s;
+		final double[] by = this.y2s;
+		return BatchTask2afp.invoke(this.size, this.parallelThreshold, (from, to) -> {
+			int crossings = 0;
+			for (int i = from; i < to; ++i) {
+				crossings = Segment2afp.computeCrossingsFromRect(crossings,
+						rxmin, rymin, rxmax, rymax, ax[i], ay[i], bx[i], by[i]);
+				if (crossings == MathConstants.SHAPE_INTERSECTS) {
+					break;
+				}
+			}
+			return crossings;
+		}, SegmentBatch2afp::mergeCrossings);
+	}
+
+	private static int mergeCrossings(int lower, int upper) {
+		if (lower == MathConstants.SHAPE_INTERSECTS || upper == MathConstants.SHAPE_INTERSECTS) {
+			return MathConstants.SHAPE_INTERSECTS;
+		}
+		return lower + upper;
+	}
+
+	/** Compute the squared distances between the given point and every segment in the batch.
+	 *
+	 * @param px x coordinate of the point.
+	 * @param py y coordinate of the point.
+	 * @param result the array that is filled with the squared distances, indexed as the batch.
+	 * @see Segment2afp#computeDistanceSquaredSegmentPoint(double, double, double, double, double, double)
+	 */
+	public void computeDistanceSquaredToPoint(double px, double py, double[] result) {
+		assert result != null : AssertMessages.notNullParameter(2);
+		checkResult(result.length);
+		final double[] ax = this.x1s;
+		final double[] ay = this.y1s;
+		final double[] bx = this.x2s;
+		final double[] by = this.y2s;
+		BatchTask2afp.invoke(this.size, this.parallelThreshold, (from, to) -> {
+			for (int i = from; i < to; ++i) {
+				result[i] = Segment2afp.computeDistanceSquaredSegmentPoint(ax[i], ay[i], bx[i], by[i], px, py);
+			}
+			return 0;
+		}, Integer::sum);
+	}
+
+	/** Replies the index of the segment that is the closest to the given point.
+	 * When several segments are at the same distance, the lowest index is replied.
+	 *
+	 * @param px x coordinate of the point.
+	 * @param py y coordinate of the point.
+	 * @return the index of the closest segment, or {@code -1} if the batch is empty.
+	 */
+	@Pure
+	public int getClosestSegmentTo(double px, double py) {
+		final double[] ax = this.x1s;
+		final double[] ay = this.y1s;
+		final double[] bx = this.x2s;
+		final double[] by = this.y2s;
+		final IntBinaryOperator closer = (lower, upper) -> {
+			if (lower < 0) {
+				return upper;
+			}
+			if (upper < 0) {
+				return lower;
+			}
+			final double lowerDistance = Segment2afp.computeDistanceSquaredSegmentPoint(
+					ax[lower], ay[lower], bx[lower], by[lower], px, py);
+			final double upperDistance = Segment2afp.computeDistanceSquaredSegmentPoint(
+					ax[upper], ay[upper], bx[upper], by[upper], px, py);
+			return upperDistance < lowerDistance ? upper : lower;
+		};
+		return BatchTask2afp.invoke(this.size, this.parallelThreshold, (from, to) -> {
+			int closest = -1;
+			double min = Double.POSITIVE_INFINITY;
+			for (int i = from; i < to; ++i) {
+				final double distance = Segment2afp.computeDistanceSquaredSegmentPoint(
+						ax[i], ay[i], bx[i], by[i], px, py);
+				if (closest < 0 || distance < min) {
+					min = distance;
+					closest = i;
+				}
+			}
+			return closest;
+		}, closer);
+	}
+
+}
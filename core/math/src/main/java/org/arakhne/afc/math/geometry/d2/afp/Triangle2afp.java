@@ -977,47 +977,57 @@ public interface Triangle2afp<
     }
 
     @Override
-    @Unefficient
     default P getClosestPointTo(Rectangle2afp<?, ?, ?, ?, ?, ?> rectangle) {
         assert rectangle != null : AssertMessages.notNullParameter();
         final P point = getGeomFactory().newPoint();
-        Path2afp.getClosestPointTo(getPathIterator(), rectangle.getPathIterator(), point);
+        if (isEmpty() || rectangle.isEmpty()
+                || !ConvexPolygonClosestPoint2afp.computeClosestPoint(this, rectangle, point)) {
+            Path2afp.getClosestPointTo(getPathIterator(), rectangle.getPathIterator(), point);
+        }
         return point;
     }
 
     @Override
-    @Unefficient
     default P getClosestPointTo(Segment2afp<?, ?, ?, ?, ?, ?> segment) {
         assert segment != null : AssertMessages.notNullParameter();
         final P point = getGeomFactory().newPoint();
-        Path2afp.getClosestPointTo(getPathIterator(), segment.getPathIterator(), point);
+        if (isEmpty() || segment.isEmpty()
+                || !ConvexPolygonClosestPoint2afp.computeClosestPoint(this, segment, point)) {
+            Path2afp.getClosestPointTo(getPathIterator(), segment.getPathIterator(), point);
+        }
         return point;
     }
 
     @Override
-    @Unefficient
     default P getClosestPointTo(Triangle2afp<?, ?, ?, ?, ?, ?> triangle) {
         assert triangle != null : AssertMessages.notNullParameter();
         final P point = getGeomFactory().newPoint();
-        Path2afp.getClosestPointTo(getPathIterator(), triangle.getPathIterator(), point);
+        if (isEmpty() || triangle.isEmpty()
+                || !ConvexPolygonClosestPoint2afp.computeClosestPoint(this, triangle, point)) {
+            Path2afp.getClosestPointTo(getPathIterator(), triangle.getPathIterator(), point);
+        }
         return point;
     }
 
     @Override
-    @Unefficient
     default P getClosestPointTo(OrientedRectangle2afp<?, ?, ?, ?, ?, ?> orientedRectangle) {
         assert orientedRectangle != null : AssertMessages.notNullParameter();
         final P point = getGeomFactory().newPoint();
-        Path2afp.getClosestPointTo(getPathIterator(), orientedRectangle.getPathIterator(), point);
+        if (isEmpty() || orientedRectangle.isEmpty()
+                || !ConvexPolygonClosestPoint2afp.computeClosestPoint(this, orientedRectangle, point)) {
+            Path2afp.getClosestPointTo(getPathIterator(), orientedRectangle.getPathIterator(), point);
+        }
         return point;
     }
 
     @Override
-    @Unefficient
     default P getClosestPointTo(Parallelogram2afp<?, ?, ?, ?, ?, ?> parallelogram) {
         assert parallelogram != null : AssertMessages.notNullParameter();
         final P point = getGeomFactory().newPoint();
-        Path2afp.getClosestPointTo(getPathIterator(), parallelogram.getPathIterator(), point);
+        if (isEmpty() || parallelogram.isEmpty()
+                || !ConvexPolygonClosestPoint2afp.computeClosestPoint(this, parallelogram, point)) {
+            Path2afp.getClosestPointTo(getPathIterator(), parallelogram.getPathIterator(), point);
+        }
         return point;
     }
 
@@ -2501,18 +2501,18 @@ public interface Path2ai<
 
 		private final Transform2D transform;
 
-		private final Point2D<?, ?> p1;
-
-		private final Point2D<?, ?> p2;
-
-		private final Point2D<?, ?> ptmp1;
-
-		private final Point2D<?, ?> ptmp2;
+		/** The coordinates of the path, transformed in one pass.
+		 */
+		private final int[] coords;
 
 		private int typeIndex;
 
 		private int coordIndex;
 
+		private int lastx;
+
+		private int lasty;
+
 		private int movex;
 
 		private int movey;
@@ -2525,10 +2525,8 @@ public interface Path2ai<
 			super(path);
 			assert transform != null : AssertMessages.notNullParameter(1);
 			this.transform = transform;
-			this.p1 = new InnerComputationPoint2ai();
-			this.p2 = new InnerComputationPoint2ai();
-			this.ptmp1 = new InnerComputationPoint2ai();
-			this.ptmp2 = new InnerComputationPoint2ai();
+			this.coords = path.toIntArray(null);
+			transform.transform(this.coords, 0, this.coords, 0, this.coords.length / 2);
 		}
 
 		@Override
@@ -2542,72 +2540,57 @@ public interface Path2ai<
 		}
 
 		@Override
+		@SuppressWarnings("checkstyle:magicnumber")
 		public E next() {
 			if (this.typeIndex >= this.path.getPathElementCount()) {
 				throw new NoSuchElementException();
 			}
+			final int[] pts = this.coords;
+			final int idx = this.coordIndex;
 			E element = null;
 			switch (this.path.getPathElementTypeAt(this.typeIndex++)) {
 			case MOVE_TO:
-				this.movex = this.path.getCoordAt(this.coordIndex++);
-				this.movey = this.path.getCoordAt(this.coordIndex++);
-				this.p2.set(this.movex, this.movey);
-				this.transform.transform(this.p2);
+				this.movex = pts[idx];
+				this.movey = pts[idx + 1];
+				this.coordIndex += 2;
 				element = getGeomFactory().newMovePathElement(
-						this.p2.ix(), this.p2.iy());
+						this.movex, this.movey);
+				this.lastx = this.movex;
+				this.lasty = this.movey;
 				break;
 			case LINE_TO:
-				this.p1.set(this.p2);
-				this.p2.set(
-						this.path.getCoordAt(this.coordIndex++),
-						this.path.getCoordAt(this.coordIndex++));
-				this.transform.transform(this.p2);
+				this.coordIndex += 2;
 				element = getGeomFactory().newLinePathElement(
-						this.p1.ix(), this.p1.iy(),
-						this.p2.ix(), this.p2.iy());
+						this.lastx, this.lasty,
+						pts[idx], pts[idx + 1]);
+				this.lastx = pts[idx];
+				this.lasty = pts[idx + 1];
 				break;
 			case QUAD_TO:
-				this.p1.set(this.p2);
-				this.ptmp1.set(
-						this.path.getCoordAt(this.coordIndex++),
-						this.path.getCoordAt(this.coordIndex++));
-				this.transform.transform(this.ptmp1);
-				this.p2.set(
-						this.path.getCoordAt(this.coordIndex++),
-						this.path.getCoordAt(this.coordIndex++));
-				this.transform.transform(this.p2);
+				this.coordIndex += 4;
 				element = getGeomFactory().newCurvePathElement(
-						this.p1.ix(), this.p1.iy(),
-						this.ptmp1.ix(), this.ptmp1.iy(),
-						this.p2.ix(), this.p2.iy());
+						this.lastx, this.lasty,
+						pts[idx], pts[idx + 1],
+						pts[idx + 2], pts[idx + 3]);
+				this.lastx = pts[idx + 2];
+				this.lasty = pts[idx + 3];
 				break;
 			case CURVE_TO:
-				this.p1.set(this.p2);
-				this.ptmp1.set(
-						this.path.getCoordAt(this.coordIndex++),
-						this.path.getCoordAt(this.coordIndex++));
-				this.transform.transform(this.ptmp1);
-				this.ptmp2.set(
-						this.path.getCoordAt(this.coordIndex++),
-						this.path.getCoordAt(this.coordIndex++));
-				this.transform.transform(this.ptmp2);
-				this.p2.set(
-						this.path.getCoordAt(this.coordIndex++),
-						this.path.getCoordAt(this.coordIndex++));
-				this.transform.transform(this.p2);
+				this.coordIndex += 6;
 				element = getGeomFactory().newCurvePathElement(
-						this.p1.ix(), this.p1.iy(),
-						this.ptmp1.ix(), this.ptmp1.iy(),
-						this.ptmp2.ix(), this.ptmp2.iy(),
-						this.p2.ix(), this.p2.iy());
+						this.lastx, this.lasty,
+						pts[idx], pts[idx + 1],
+						pts[idx + 2], pts[idx + 3],
+						pts[idx + 4], pts[idx + 5]);
+				this.lastx = pts[idx + 4];
+				this.lasty = pts[idx + 5];
 				break;
 			case CLOSE:
-				this.p1.set(this.p2);
-				this.p2.set(this.movex, this.movey);
-				this.transform.transform(this.p2);
 				element = getGeomFactory().newClosePathElement(
-						this.p1.ix(), this.p1.iy(),
-						this.p2.ix(), this.p2.iy());
+						this.lastx, this.lasty,
+						this.movex, this.movey);
+				this.lastx = this.movex;
+				this.lasty = this.movey;
 				break;
 			case ARC_TO:
 			default:
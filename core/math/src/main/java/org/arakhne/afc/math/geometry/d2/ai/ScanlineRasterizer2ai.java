@@ -0,0 +1,542 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.ai;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.MathConstants;
+import org.arakhne.afc.math.geometry.PathElementType;
+import org.arakhne.afc.math.geometry.PathWindingRule;
+import org.arakhne.afc.util.IntegerList;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** Scanline rasterizer of the interior of the integer shapes.
+ *
+ * <p>The rasterizer builds an edge table from the elements of a path iterator,
+ * and sweeps it row by row with an active edge list. The interior of each row is
+ * replied as horizontal spans of pixels to a {@link SpanConsumer}, according to the
+ * {@link PathWindingRule winding rule} of the path iterator. No object is allocated
+ * per pixel or per span; the internal arrays are reused from one rasterization to
+ * the next.
+ *
+ * <p>The pixel {@code (x, y)} is the unit square with its upper-left corner at {@code (x, y)}.
+ * It is filled when its center {@code (x + 0.5, y + 0.5)} is inside the shape. This is
+ * the usual convention of the raster graphics: the rectangle from {@code (0, 0)} to
+ * {@code (10, 10)} fills 10 rows of 10 pixels. All the computations are done with
+ * integer arithmetic. The curves are replaced by their
+ * {@link Path2ai.FlatteningPathIterator line approximations}.
+ *
+ * <p>This rasterizer is not thread-safe.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+public final class ScanlineRasterizer2ai {
+
+	private static final int DEFAULT_EDGE_CAPACITY = 16;
+
+	private static final int INT_BITS = 32;
+
+	/** X coordinates of the upper points of the edges.
+	 */
+	private int[] edgeX = new int[DEFAULT_EDGE_CAPACITY];
+
+	/** Y coordinates of the upper points of the edges, which are the first rows crossed by the edges.
+	 */
+	private int[] edgeMinY = new int[DEFAULT_EDGE_CAPACITY];
+
+	/** Y coordinates of the lower points of the edges, which are the first rows not crossed by the edges.
+	 */
+	private int[] edgeMaxY = new int[DEFAULT_EDGE_CAPACITY];
+
+	/** Differences between the x coordinates of the lower and upper points of the edges.
+	 */
+	private int[] edgeDx = new int[DEFAULT_EDGE_CAPACITY];
+
+	/** Directions of the edges: {@code 1} for downward edges, {@code -1} for upward edges.
+	 */
+	private int[] edgeDirection = new int[DEFAULT_EDGE_CAPACITY];
+
+	/** Edges sorted by their first row. Each key is the first row in the upper bits, and the
+	 * edge index in the lower bits.
+	 */
+	private long[] sortedEdges = new long[DEFAULT_EDGE_CAPACITY];
+
+	private int edgeCount;
+
+	/** Indexes of the active edges.
+	 */
+	private int[] activeEdges = new int[DEFAULT_EDGE_CAPACITY];
+
+	/** First filled column on the right of each active edge on the current row.
+	 */
+	private int[] activeColumns = new int[DEFAULT_EDGE_CAPACITY];
+
+	private int activeCount;
+
+	/** Construct a rasterizer.
+	 */
+	public ScanlineRasterizer2ai() {
+		//
+	}
+
+	/** Rasterize the interior of the given shape.
+	 *
+	 * @param shape the shape to rasterize.
+	 * @param consumer the receiver of the spans.
+	 */
+	public void rasterize(Shape2ai<?, ?, ?, ?, ?, ?> shape, SpanConsumer consumer) {
+		assert shape != null : AssertMessages.notNullParameter(0);
+		rasterize(shape.getPathIterator(), consumer);
+	}
+
+	/** Rasterize the interior of the path described by the given iterator.
+	 *
+	 * <p>The spans are replied row by row, from the top row to the bottom row. Inside a
+	 * row, the spans are replied from the left to the right, and they are neither overlapping
+	 * nor adjacent.
+	 *
+	 * @param iterator the iterator on the path elements.
+	 * @param consumer the receiver of the spans.
+	 */
+	public void rasterize(PathIterator2ai<?> iterator, SpanConsumer consumer) {
+		rasterize(iterator, Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, consumer);
+	}
+
+	/** Rasterize the interior of the path described by the given iterator inside the given
+	 * clipping rectangle.
+	 *
+	 * <p>The clipping rectangle contains the pixels from {@code (clip.getMinX(), clip.getMinY())}
+	 * (inclusive) to {@code (clip.getMaxX(), clip.getMaxY())} (exclusive), with the same
+	 * convention as the rasterized shapes. The spans are replied row by row, from the top row
+	 * to the bottom row. Inside a row, the spans are replied from the left to the right, and
+	 * they are neither overlapping nor adjacent.
+	 *
+	 * @param iterator the iterator on the path elements.
+	 * @param clip the clipping rectangle.
+	 * @param consumer the receiver of the spans.
+	 */
+	public void rasterize(PathIterator2ai<?> iterator, Rectangle2ai<?, ?, ?, ?, ?, ?> clip, SpanConsumer consumer) {
+		assert clip != null : AssertMessages.notNullParameter(1);
+		rasterize(iterator, clip.getMinX(), clip.getMinY(), clip.getMaxX(), clip.getMaxY(), consumer);
+	}
+
+	private void rasterize(PathIterator2ai<?> iterator, int clipMinX, int clipMinY, int clipMaxX, int clipMaxY,
+			SpanConsumer consumer) {
+		assert iterator != null : AssertMessages.notNullParameter(0);
+		assert consumer != null : AssertMessages.notNullParameter(2);
+		buildEdgeTable(iterator);
+		if (this.edgeCount > 0) {
+			Arrays.sort(this.sortedEdges, 0, this.edgeCount);
+			sweep(iterator.getWindingRule() == PathWindingRule.EVEN_ODD,
+					clipMinX, clipMinY, clipMaxX, clipMaxY, consumer);
+		}
+	}
+
+	/** Fill the edge table with the non-horizontal edges of the path.
+	 * Each sub-path is implicitly closed.
+	 *
+	 * @param iterator the iterator on the path elements.
+	 */
+	private void buildEdgeTable(PathIterator2ai<?> iterator) {
+		this.edgeCount = 0;
+		final PathIterator2ai<?> elements;
+		if (iterator.isCurved()) {
+			elements = new Path2ai.FlatteningPathIterator<>(iterator,
+					MathConstants.SPLINE_APPROXIMATION_RATIO, Path2ai.DEFAULT_FLATTENING_LIMIT);
+		} else {
+			elements = iterator;
+		}
+		int moveX = 0;
+		int moveY = 0;
+		int currentX = 0;
+		int currentY = 0;
+		while (elements.hasNext()) {
+			final PathElement2ai element = elements.next();
+			if (element.getType() == PathElementType.MOVE_TO) {
+				addEdge(currentX, currentY, moveX, moveY);
+				moveX = element.getToX();
+				moveY = element.getToY();
+				currentX = moveX;
+				currentY = moveY;
+			} else if (element.getType() == PathElementType.CLOSE) {
+				addEdge(currentX, currentY, moveX, moveY);
+				currentX = moveX;
+				currentY = moveY;
+			} else {
+				addEdge(currentX, currentY, element.getToX(), element.getToY());
+				currentX = element.getToX();
+				currentY = element.getToY();
+			}
+		}
+		addEdge(currentX, currentY, moveX, moveY);
+	}
+
+	private void addEdge(int x0, int y0, int x1, int y1) {
+		if (y0 == y1) {
+			// Horizontal edges never cross the center of a row
+			return;
+		}
+		final int index = this.edgeCount;
+		if (index == this.edgeX.length) {
+			final int newCapacity = index + (index >> 1);
+			this.edgeX = Arrays.copyOf(this.edgeX, newCapacity);
+			this.edgeMinY = Arrays.copyOf(this.edgeMinY, newCapacity);
+			this.edgeMaxY = Arrays.copyOf(this.edgeMaxY, newCapacity);
+			this.edgeDx = Arrays.copyOf(this.edgeDx, newCapacity);
+			this.edgeDirection = Arrays.copyOf(this.edgeDirection, newCapacity);
+			this.sortedEdges = Arrays.copyOf(this.sortedEdges, newCapacity);
+			this.activeEdges = Arrays.copyOf(this.activeEdges, newCapacity);
+			this.activeColumns = Arrays.copyOf(this.activeColumns, newCapacity);
+		}
+		if (y0 < y1) {
+			this.edgeX[index] = x0;
+			this.edgeMinY[index] = y0;
+			this.edgeMaxY[index] = y1;
+			this.edgeDx[index] = x1 - x0;
+			this.edgeDirection[index] = 1;
+		} else {
+			this.edgeX[index] = x1;
+			this.edgeMinY[index] = y1;
+			this.edgeMaxY[index] = y0;
+			this.edgeDx[index] = x0 - x1;
+			this.edgeDirection[index] = -1;
+		}
+		this.sortedEdges[index] = ((long) this.edgeMinY[index] << INT_BITS) | index;
+		this.edgeCount = index + 1;
+	}
+
+	/** Replies the first column on the right of the given edge on the given row,
+	 * ie. the smallest {@code x} such that {@code x + 0.5} is on the right of
+	 * or on the edge at {@code y + 0.5}.
+	 *
+	 * @param edge the index of the edge.
+	 * @param y the row.
+	 * @return the column.
+	 */
+	private int column(int edge, int y) {
+		// The edge crosses the center of the row at:
+		// xe = x0 + (2 * (y - y0) + 1) * dx / (2 * dy)
+		// The column is ceil(xe - 0.5) = ceil((2 * x0 * dy + (2 * (y - y0) + 1) * dx - dy) / (2 * dy))
+		final long dy = (long) this.edgeMaxY[edge] - this.edgeMinY[edge];
+		final long denominator = 2 * dy;
+		final long numerator = 2L * this.edgeX[edge] * dy
+				+ (2 * ((long) y - this.edgeMinY[edge]) + 1) * this.edgeDx[edge] - dy;
+		return (int) Math.floorDiv(numerator + denominator - 1, denominator);
+	}
+
+	@SuppressWarnings({"checkstyle:cyclomaticcomplexity", "checkstyle:npathcomplexity"})
+	private void sweep(boolean evenOdd, int clipMinX, int clipMinY, int clipMaxX, int clipMaxY, SpanConsumer consumer) {
+		int maxY = Integer.MIN_VALUE;
+		for (int i = 0; i < this.edgeCount; ++i) {
+			maxY = Math.max(maxY, this.edgeMaxY[i]);
+		}
+		maxY = Math.min(maxY, clipMaxY);
+		int y = Math.max((int) (this.sortedEdges[0] >> INT_BITS), clipMinY);
+		int nextEdge = 0;
+		this.activeCount = 0;
+		while (y < maxY) {
+			// Update the active edge list
+			int count = 0;
+			for (int i = 0; i < this.activeCount; ++i) {
+				final int edge = this.activeEdges[i];
+				if (this.edgeMaxY[edge] > y) {
+					this.activeEdges[count] = edge;
+					++count;
+				}
+			}
+			while (nextEdge < this.edgeCount && (int) (this.sortedEdges[nextEdge] >> INT_BITS) <= y) {
+				final int edge = (int) this.sortedEdges[nextEdge];
+				if (this.edgeMaxY[edge] > y) {
+					this.activeEdges[count] = edge;
+					++count;
+				}
+				++nextEdge;
+			}
+			this.activeCount = count;
+			if (count == 0) {
+				if (nextEdge >= this.edgeCount) {
+					return;
+				}
+				// Jump over the empty rows
+				y = Math.max(y + 1, (int) (this.sortedEdges[nextEdge] >> INT_BITS));
+				continue;
+			}
+
+			// Sort the active edges by column; the order is almost the same from one row to the next
+			for (int i = 0; i < count; ++i) {
+				final int edge = this.activeEdges[i];
+				final int col = column(edge, y);
+				int j = i - 1;
+				while (j >= 0 && this.activeColumns[j] > col) {
+					this.activeEdges[j + 1] = this.activeEdges[j];
+					this.activeColumns[j + 1] = this.activeColumns[j];
+					--j;
+				}
+				this.activeEdges[j + 1] = edge;
+				this.activeColumns[j + 1] = col;
+			}
+
+			// Reply the spans where the winding rule is satisfied
+			int winding = 0;
+			int spanStart = 0;
+			int pendingStart = 0;
+			int pendingEnd = 0;
+			boolean pending = false;
+			for (int i = 0; i < count; ++i) {
+				final boolean wasInside = evenOdd ? (winding & 1) != 0 : winding != 0;
+				winding += evenOdd ? 1 : this.edgeDirection[this.activeEdges[i]];
+				final boolean isInside = evenOdd ? (winding & 1) != 0 : winding != 0;
+				if (!wasInside && isInside) {
+					spanStart = this.activeColumns[i];
+				} else if (wasInside && !isInside) {
+					final int start = Math.max(spanStart, clipMinX);
+					final int end = Math.min(this.activeColumns[i] - 1, clipMaxX - 1);
+					if (start <= end) {
+						if (pending && start <= pendingEnd + 1) {
+							pendingEnd = Math.max(pendingEnd, end);
+						} else {
+							if (pending) {
+								consumer.span(y, pendingStart, pendingEnd);
+							}
+							pendingStart = start;
+							pendingEnd = end;
+							pending = true;
+						}
+					}
+				}
+			}
+			if (pending) {
+				consumer.span(y, pendingStart, pendingEnd);
+			}
+			++y;
+		}
+	}
+
+	/** Replies a span consumer that sets the bits of the filled pixels in the given bit set.
+	 *
+	 * <p>The pixel {@code (x, y)} is mapped to the bit at index
+	 * {@code (y - originY) * width + (x - originX)}. The pixels outside the grid
+	 * are ignored.
+	 *
+	 * @param bits the bit set to fill.
+	 * @param originX the x coordinate of the first column of the grid.
+	 * @param originY the y coordinate of the first row of the grid.
+	 * @param width the number of columns of the grid.
+	 * @param height the number of rows of the grid.
+	 * @return the span consumer.
+	 */
+	@Pure
+	@SuppressWarnings("checkstyle:magicnumber")
+	public static SpanConsumer bitSetConsumer(BitSet bits, int originX, int originY, int width, int height) {
+		assert bits != null : AssertMessages.notNullParameter(0);
+		assert width >= 0 : AssertMessages.positiveOrZeroParameter(3);
+		assert height >= 0 : AssertMessages.positiveOrZeroParameter(4);
+		return (y, minX, maxX) -> {
+			final int row = y - originY;
+			final int start = Math.max(minX - originX, 0);
+			final int end = Math.min(maxX - originX, width - 1);
+			if (row >= 0 && row < height && start <= end) {
+				final int offset = row * width;
+				bits.set(offset + start, offset + end + 1);
+			}
+		};
+	}
+
+	/** Replies a span consumer that adds the indexes of the filled pixels in the given list.
+	 *
+	 * <p>The pixel {@code (x, y)} is mapped to the index
+	 * {@code (y - originY) * width + (x - originX)}. Each span is added as a single
+	 * segment of the list. The pixels outside the grid are ignored.
+	 *
+	 * @param list the list to fill.
+	 * @param originX the x coordinate of the first column of the grid.
+	 * @param originY the y coordinate of the first row of the grid.
+	 * @param width the number of columns of the grid.
+	 * @param height the number of rows of the grid.
+	 * @return the span consumer.
+	 */
+	@Pure
+	@SuppressWarnings("checkstyle:magicnumber")
+	public static SpanConsumer integerListConsumer(IntegerList list, int originX, int originY, int width, int height) {
+		assert list != null : AssertMessages.notNullParameter(0);
+		assert width >= 0 : AssertMessages.positiveOrZeroParameter(3);
+		assert height >= 0 : AssertMessages.positiveOrZeroParameter(4);
+		return (y, minX, maxX) -> {
+			final int row = y - originY;
+			final int start = Math.max(minX - originX, 0);
+			final int end = Math.min(maxX - originX, width - 1);
+			if (row >= 0 && row < height && start <= end) {
+				final int offset = row * width;
+				list.addSegment(offset + start, offset + end);
+			}
+		};
+	}
+
+	/** Receiver of the horizontal spans of pixels that are replied by the rasterizer.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	@FunctionalInterface
+	public interface SpanConsumer {
+
+		/** Invoked for each horizontal span of filled pixels.
+		 *
+		 * @param y the row of the span.
+		 * @param minX the first column of the span (inclusive).
+		 * @param maxX the last column of the span (inclusive).
+		 */
+		void span(int y, int minX, int maxX);
+
+	}
+
+	/** Buffer of spans, stored in a single array of integers.
+	 *
+	 * <p>The span at index {@code i} is stored in the cells {@code 3 * i} (row),
+	 * {@code 3 * i + 1} (first column) and {@code 3 * i + 2} (last column) of the
+	 * {@link #getBuffer() buffer}. The buffer may be {@link #clear() cleared} and reused
+	 * for several rasterizations.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	public static class SpanBuffer implements SpanConsumer {
+
+		private static final int CELLS_PER_SPAN = 3;
+
+		private int[] buffer;
+
+		private int size;
+
+		/** Construct an empty buffer.
+		 */
+		public SpanBuffer() {
+			this.buffer = new int[DEFAULT_EDGE_CAPACITY * CELLS_PER_SPAN];
+		}
+
+		@Override
+		public void span(int y, int minX, int maxX) {
+			final int index = this.size * CELLS_PER_SPAN;
+			if (index + CELLS_PER_SPAN > this.buffer.length) {
+				this.buffer = Arrays.copyOf(this.buffer, Math.max(index + CELLS_PER_SPAN,
+						this.buffer.length + (this.buffer.length >> 1)));
+			}
+			this.buffer[index] = y;
+			this.buffer[index + 1] = minX;
+			this.buffer[index + 2] = maxX;
+			++this.size;
+		}
+
+		/** Remove all the spans from this buffer. The allocated memory is kept.
+		 */
+		public void clear() {
+			this.size = 0;
+		}
+
+		/** Replies the number of spans in this buffer.
+		 *
+		 * @return the number of spans.
+		 */
+		@Pure
+		public int size() {
+			return this.size;
+		}
+
+		/** Replies the row of the span at the given index.
+		 *
+		 * @param index the index of the span.
+		 * @return the row.
+		 */
+		@Pure
+		public int getY(int index) {
+			assert index >= 0 && index < this.size : AssertMessages.outsideRangeInclusiveParameter(index, 0, this.size - 1);
+			return this.buffer[index * CELLS_PER_SPAN];
+		}
+
+		/** Replies the first column of the span at the given index.
+		 *
+		 * @param index the index of the span.
+		 * @return the first column (inclusive).
+		 */
+		@Pure
+		public int getMinX(int index) {
+			assert index >= 0 && index < this.size : AssertMessages.outsideRangeInclusiveParameter(index, 0, this.size - 1);
+			return this.buffer[index * CELLS_PER_SPAN + 1];
+		}
+
+		/** Replies the last column of the span at the given index.
+		 *
+		 * @param index the index of the span.
+		 * @return the last column (inclusive).
+		 */
+		@Pure
+		public int getMaxX(int index) {
+			assert index >= 0 && index < this.size : AssertMessages.outsideRangeInclusiveParameter(index, 0, this.size - 1);
+			return this.buffer[index * CELLS_PER_SPAN + 2];
+		}
+
+		/** Replies the number of pixels covered by the spans of this buffer.
+		 *
+		 * @return the number of pixels.
+		 */
+		@Pure
+		public long getPixelCount() {
+			long count = 0;
+			for (int i = 0; i < this.size * CELLS_PER_SPAN; i += CELLS_PER_SPAN) {
+				count += this.buffer[i + 2] - this.buffer[i + 1] + 1;
+			}
+			return count;
+		}
+
+		/** Replies the internal array of this buffer. Only the first {@code 3 * size()} cells are used.
+		 *
+		 * @return the internal array; it is not copied.
+		 */
+		@Pure
+		public int[] getBuffer() {
+			return this.buffer;
+		}
+
+		/** Replies a copy of the used cells of this buffer.
+		 *
+		 * @return the array of {@code 3 * size()} cells.
+		 */
+		@Pure
+		public int[] toArray() {
+			return Arrays.copyOf(this.buffer, this.size * CELLS_PER_SPAN);
+		}
+
+	}
+
+}
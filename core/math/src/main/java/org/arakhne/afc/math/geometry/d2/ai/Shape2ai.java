@@ -68,6 +68,19 @@ public interface Shape2ai<
     @Pure
     Iterator<P> getPointIterator();
 
+    /** Replies the horizontal spans of the pixels covered by the interior of this shape.
+     *
+     * <p>Contrary to {@link #getPointIterator()}, no point is allocated per pixel.
+     * The pixel {@code (x, y)} is filled when its center {@code (x + 0.5, y + 0.5)}
+     * is inside the shape, according to the winding rule of the path iterator.
+     *
+     * @param consumer the receiver of the spans.
+     * @see ScanlineRasterizer2ai
+     */
+    default void rasterize(ScanlineRasterizer2ai.SpanConsumer consumer) {
+        new ScanlineRasterizer2ai().rasterize(this, consumer);
+    }
+
     @Pure
     @Override
     default boolean contains(Point2D<?, ?> pt) {
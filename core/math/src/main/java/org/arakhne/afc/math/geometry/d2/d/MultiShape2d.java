@@ -24,10 +24,13 @@ import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.ToDoubleFunction;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
 import org.arakhne.afc.math.geometry.d2.afp.MultiShape2afp;
+import org.arakhne.afc.math.geometry.d2.afp.RTree2afp;
+import org.arakhne.afc.math.geometry.d2.afp.Rectangle2afp;
 import org.arakhne.afc.vmutil.asserts.AssertMessages;
 
 /** Container for grouping of shapes.
@@ -36,6 +39,10 @@ import org.arakhne.afc.vmutil.asserts.AssertMessages;
  *
  * <p>Caution: The multishape does not detect the bound change of the stored shapes.
  *
+ * <p>A spatial index (R-tree) may be enabled with {@link #setSpatialIndexEnabled(boolean)}.
+ * It speeds up the intersection, containment and closest-point queries on large multishapes.
+ * When the index is enabled, the order of the shapes replied by the queries is unspecified.
+ *
  * @param <T> the type of the shapes inside the multishape.
  * @author $Author: tpiotrowski$
  * @author $Author: sgalland$
@@ -53,6 +60,10 @@ public class MultiShape2d<T extends Shape2d<?>> extends AbstractShape2d<MultiSha
 
 	private Rectangle2d bounds;
 
+	private boolean spatialIndexEnabled;
+
+	private transient RTree2afp<T> spatialIndex;
+
 	/**
 	 * Construct an empty multishape.
 	 */
@@ -93,9 +104,48 @@ public class MultiShape2d<T extends Shape2d<?>> extends AbstractShape2d<MultiSha
 		if (this.bounds != null) {
 			clone.bounds = this.bounds.clone();
 		}
+		clone.spatialIndex = null;
 		return clone;
 	}
 
+	/** Change the enabling of the spatial index of the multishape.
+	 *
+	 * <p>When the index is enabled, the shapes are stored into a R-tree that is updated
+	 * each time a shape is added, removed or changed. The intersection, containment and
+	 * closest-point queries use this index, and the order of the shapes that they reply is
+	 * unspecified.
+	 *
+	 * @param enable {@code true} for enabling the index; {@code false} for disabling it.
+	 * @see #isSpatialIndexEnabled()
+	 */
+	public void setSpatialIndexEnabled(boolean enable) {
+		this.spatialIndexEnabled = enable;
+		this.spatialIndex = null;
+	}
+
+	/** Replies if the spatial index of the multishape is enabled.
+	 *
+	 * @return {@code true} if the index is enabled.
+	 * @see #setSpatialIndexEnabled(boolean)
+	 */
+	@Pure
+	public boolean isSpatialIndexEnabled() {
+		return this.spatialIndexEnabled;
+	}
+
+	/** Replies the spatial index, and build it if it is enabled and not yet built.
+	 *
+	 * @return the index, or {@code null} if it is disabled.
+	 */
+	private RTree2afp<T> getSpatialIndex() {
+		if (this.spatialIndexEnabled && this.spatialIndex == null) {
+			final RTree2afp<T> index = new RTree2afp<>();
+			index.build(this.elements, it -> it.toBoundingBox());
+			this.spatialIndex = index;
+		}
+		return this.spatialIndex;
+	}
+
 	@Override
 	@Pure
 	public int hashCode() {
@@ -108,6 +158,10 @@ public class MultiShape2d<T extends Shape2d<?>> extends AbstractShape2d<MultiSha
 	@Override
 	public void onBackendDataChange() {
 		this.bounds = null;
+		if (!(this.elements instanceof MultiShape2d.ListResponseModel)) {
+			// The index is not updated by the backend list.
+			this.spatialIndex = null;
+		}
 		fireGeometryChange();
 	}
 
@@ -124,12 +178,35 @@ public class MultiShape2d<T extends Shape2d<?>> extends AbstractShape2d<MultiSha
 		return this.elements;
 	}
 
+	@Pure
+	@Override
+	public Iterable<T> getBackendDataIntersecting(Rectangle2afp<?, ?, ?, ?, ?, ?> rectangle) {
+		final RTree2afp<T> index = getSpatialIndex();
+		if (index == null) {
+			return MultiShape2afp.super.getBackendDataIntersecting(rectangle);
+		}
+		return index.getIntersecting(rectangle);
+	}
+
+	@Pure
+	@Override
+	public T getBackendDataClosestTo(Rectangle2afp<?, ?, ?, ?, ?, ?> rectangle,
+			ToDoubleFunction<? super T> distanceSquared) {
+		final RTree2afp<T> index = getSpatialIndex();
+		if (index == null) {
+			return MultiShape2afp.super.getBackendDataClosestTo(rectangle, distanceSquared);
+		}
+		assert rectangle != null : AssertMessages.notNullParameter(0);
+		return index.getNearest(rectangle.getMinX(), rectangle.getMinY(), rectangle.getMaxX(), rectangle.getMaxY(),
+				distanceSquared);
+	}
+
 	@Pure
 	@Override
 	public Rectangle2d toBoundingBox() {
 		if (this.bounds == null) {
 			this.bounds = getGeomFactory().newBox();
-			MultiShape2afp.super.toBoundingBox(this.bounds);
+			computeBounds(this.bounds);
 		}
 		return this.bounds;
 	}
@@ -140,11 +217,20 @@ public class MultiShape2d<T extends Shape2d<?>> extends AbstractShape2d<MultiSha
 		assert box != null : AssertMessages.notNullParameter();
 		if (this.bounds == null) {
 			this.bounds = getGeomFactory().newBox();
-			MultiShape2afp.super.toBoundingBox(this.bounds);
+			computeBounds(this.bounds);
 		}
 		box.set(this.bounds);
 	}
 
+	private void computeBounds(Rectangle2d box) {
+		final RTree2afp<T> index = getSpatialIndex();
+		if (index == null) {
+			MultiShape2afp.super.toBoundingBox(box);
+		} else {
+			index.toBoundingBox(box);
+		}
+	}
+
 	@Override
 	public void translate(double dx, double dy) {
 		if (dx != 0 || dy != 0) {
@@ -180,6 +266,9 @@ public class MultiShape2d<T extends Shape2d<?>> extends AbstractShape2d<MultiSha
 		public void add(int index, T element) {
 			assert element != null;
 			this.delegate.add(index, element);
+			if (MultiShape2d.this.spatialIndex != null) {
+				MultiShape2d.this.spatialIndex.add(element, element.toBoundingBox());
+			}
 			if (element instanceof AbstractShape2d<?>) {
 				((AbstractShape2d<?>) element).addShapeGeometryChangeListener(this);
 			}
@@ -188,6 +277,9 @@ public class MultiShape2d<T extends Shape2d<?>> extends AbstractShape2d<MultiSha
 		@Override
 		public T remove(int index) {
 			final T element = this.delegate.remove(index);
+			if (MultiShape2d.this.spatialIndex != null) {
+				MultiShape2d.this.spatialIndex.remove(element);
+			}
 			if (element instanceof AbstractShape2d<?>) {
 				((AbstractShape2d<?>) element).removeShapeGeometryChangeListener(this);
 			}
@@ -198,6 +290,10 @@ public class MultiShape2d<T extends Shape2d<?>> extends AbstractShape2d<MultiSha
 		public T set(int index, T element) {
 			assert element != null;
 			final T oldElement = this.delegate.set(index, element);
+			if (MultiShape2d.this.spatialIndex != null) {
+				MultiShape2d.this.spatialIndex.remove(oldElement);
+				MultiShape2d.this.spatialIndex.add(element, element.toBoundingBox());
+			}
 			if (oldElement instanceof AbstractShape2d<?>) {
 				((AbstractShape2d<?>) oldElement).removeShapeGeometryChangeListener(this);
 			}
@@ -219,6 +315,9 @@ public class MultiShape2d<T extends Shape2d<?>> extends AbstractShape2d<MultiSha
 
 		@Override
 		public void shapeGeometryChange(Shape2d<?> shape) {
+			if (MultiShape2d.this.spatialIndex != null) {
+				MultiShape2d.this.spatialIndex.update(shape, shape.toBoundingBox());
+			}
 			onContentGeometryChange();
 		}
 
@@ -27,13 +27,19 @@ import java.util.Iterator;
 import org.eclipse.xtext.xbase.lib.Pure;
 
 import org.arakhne.afc.math.MathConstants;
+import org.arakhne.afc.math.geometry.CrossingComputationType;
 import org.arakhne.afc.math.geometry.PathElementType;
 import org.arakhne.afc.math.geometry.PathWindingRule;
 import org.arakhne.afc.math.geometry.d2.Point2D;
 import org.arakhne.afc.math.geometry.d2.Transform2D;
-import org.arakhne.afc.math.geometry.d2.afp.InnerComputationPoint2afp;
+import org.arakhne.afc.math.geometry.d2.afp.Circle2afp;
+import org.arakhne.afc.math.geometry.d2.afp.Ellipse2afp;
+import org.arakhne.afc.math.geometry.d2.afp.FlatteningCache2afp;
 import org.arakhne.afc.math.geometry.d2.afp.Path2afp;
 import org.arakhne.afc.math.geometry.d2.afp.PathIterator2afp;
+import org.arakhne.afc.math.geometry.d2.afp.Rectangle2afp;
+import org.arakhne.afc.math.geometry.d2.afp.Segment2afp;
+import org.arakhne.afc.math.geometry.d2.afp.Triangle2afp;
 import org.arakhne.afc.vmutil.asserts.AssertMessages;
 import org.arakhne.afc.vmutil.locale.Locale;
 
@@ -113,6 +119,10 @@ public class Path2d
 	 */
 	private Double length;
 
+	/** Buffer for the flattened polylines of the path.
+	 */
+	private transient SoftReference<FlatteningCache2afp> flatteningCache;
+
 	/** Construct an empty path.
 	 */
 	public Path2d() {
@@ -196,6 +206,7 @@ public class Path2d
 		this.graphicalBounds = null;
 		this.logicalBounds = null;
 		this.length = null;
+		this.flatteningCache = null;
 		fireGeometryChange();
 	}
 
@@ -206,6 +217,7 @@ public class Path2d
 		clone.coords = this.coords.clone();
 		clone.types = this.types.clone();
 		clone.windingRule = this.windingRule;
+		clone.flatteningCache = null;
 		return clone;
 	}
 
@@ -252,22 +264,18 @@ public class Path2d
 		if (bb != null) {
 			bb.translate(dx, dy);
 		}
+		this.flatteningCache = null;
 		fireGeometryChange();
 	}
 
 	@Override
 	public void transform(Transform2D transform) {
 		assert transform != null : AssertMessages.notNullParameter();
-		final Point2D<?, ?> p = new InnerComputationPoint2afp();
-		for (int i = 0; i < this.numCoords; i += 2) {
-			p.set(this.coords[i], this.coords[i + 1]);
-			transform.transform(p);
-			this.coords[i] = p.getX();
-			this.coords[i + 1] = p.getY();
-		}
+		transform.transform(this.coords, 0, this.coords, 0, this.numCoords / 2);
 		this.graphicalBounds = null;
 		this.logicalBounds = null;
 		this.length = null;
+		this.flatteningCache = null;
 		fireGeometryChange();
 	}
 
@@ -422,6 +430,8 @@ public class Path2d
 			this.types[this.numTypes++] = PathElementType.CLOSE;
 			this.isPolyline = false;
 			this.isPolygon = null;
+			this.length = null;
+			this.flatteningCache = null;
 			fireGeometryChange();
 		}
 	}
@@ -464,13 +474,7 @@ public class Path2d
 				clone[i] = (int) this.coords[i];
 			}
 		} else {
-			final Point2D<?, ?> p = new InnerComputationPoint2afp();
-			for (int i = 0; i < clone.length; i += 2) {
-				p.set(this.coords[i], this.coords[i + 1]);
-				transform.transform(p);
-				clone[i] = p.ix();
-				clone[i + 1] = p.iy();
-			}
+			transform.transform(this.coords, 0, clone, 0, this.numCoords / 2);
 		}
 		return clone;
 	}
@@ -484,13 +488,7 @@ public class Path2d
 				clone[i] = (float) this.coords[i];
 			}
 		} else {
-			final Point2D<?, ?> p = new InnerComputationPoint2afp();
-			for (int i = 0; i < clone.length; i += 2) {
-				p.set(this.coords[i], this.coords[i + 1]);
-				transform.transform(p);
-				clone[i] = (float) p.getX();
-				clone[i + 1] = (float) p.getY();
-			}
+			transform.transform(this.coords, 0, clone, 0, this.numCoords / 2);
 		}
 		return clone;
 	}
@@ -501,14 +499,8 @@ public class Path2d
 		if (transform == null || transform.isIdentity()) {
 			return Arrays.copyOf(this.coords, this.numCoords);
 		}
-		final Point2D<?, ?> p = new InnerComputationPoint2afp();
 		final double[] clone = new double[this.numCoords];
-		for (int i = 0; i < clone.length; i += 2) {
-			p.set(this.coords[i], this.coords[i + 1]);
-			transform.transform(p);
-			clone[i] = p.getX();
-			clone[i + 1] = p.getY();
-		}
+		transform.transform(this.coords, 0, clone, 0, this.numCoords / 2);
 		return clone;
 	}
 
@@ -598,6 +590,7 @@ public class Path2d
 			this.graphicalBounds = null;
 			this.logicalBounds = null;
 			this.length = null;
+			this.flatteningCache = null;
 			fireGeometryChange();
 		} else {
 			throw new IllegalStateException();
@@ -625,6 +618,7 @@ public class Path2d
 		this.graphicalBounds = null;
 		this.logicalBounds = null;
 		this.length = null;
+		this.flatteningCache = null;
 		fireGeometryChange();
 	}
 
@@ -641,6 +635,7 @@ public class Path2d
 		this.graphicalBounds = null;
 		this.logicalBounds = null;
 		this.length = null;
+		this.flatteningCache = null;
 		fireGeometryChange();
 	}
 
@@ -659,6 +654,7 @@ public class Path2d
 		this.graphicalBounds = null;
 		this.logicalBounds = null;
 		this.length = null;
+		this.flatteningCache = null;
 		fireGeometryChange();
 	}
 
@@ -679,6 +675,7 @@ public class Path2d
 		this.graphicalBounds = null;
 		this.logicalBounds = null;
 		this.length = null;
+		this.flatteningCache = null;
 		fireGeometryChange();
 	}
 
@@ -696,6 +693,7 @@ public class Path2d
 			this.graphicalBounds = null;
 			this.logicalBounds = null;
 			this.length = null;
+			this.flatteningCache = null;
 			fireGeometryChange();
 		} else {
 			throw new IllegalStateException();
@@ -725,6 +723,7 @@ public class Path2d
 					System.arraycopy(this.types, j + 1, this.types, j, this.numTypes);
 					this.isEmpty = null;
 					this.length = null;
+					this.flatteningCache = null;
 					this.graphicalBounds = null;
 					this.logicalBounds = null;
 					fireGeometryChange();
@@ -744,6 +743,7 @@ public class Path2d
 					this.isEmpty = null;
 					this.isPolyline = null;
 					this.length = null;
+					this.flatteningCache = null;
 					this.graphicalBounds = null;
 					this.logicalBounds = null;
 					fireGeometryChange();
@@ -762,6 +762,7 @@ public class Path2d
 					this.isEmpty = null;
 					this.isPolyline = null;
 					this.length = null;
+					this.flatteningCache = null;
 					this.graphicalBounds = null;
 					this.logicalBounds = null;
 					fireGeometryChange();
@@ -800,11 +801,97 @@ public class Path2d
 		return this.types[index];
 	}
 
+	/** {@inheritDoc}
+	 *
+	 * <p>The flattened polylines are computed once per flatness value, and kept
+	 * until the path is changed. This function is not pure, because it fills
+	 * this internal cache; the cache does not change the observable state of the path.
+	 */
+	@Override
+	public PathIterator2afp<PathElement2d> getPathIterator(double flatness) {
+		FlatteningCache2afp cache = this.flatteningCache == null ? null : this.flatteningCache.get();
+		if (cache == null) {
+			cache = new FlatteningCache2afp();
+			this.flatteningCache = new SoftReference<>(cache);
+		}
+		return cache.getPathIterator(this, flatness);
+	}
+
+	@Override
+	@Pure
+	public boolean intersects(Rectangle2afp<?, ?, ?, ?, ?, ?> rectangle) {
+		assert rectangle != null : AssertMessages.notNullParameter();
+		if (rectangle.isEmpty()) {
+			return false;
+		}
+		final int mask = getWindingRule() == PathWindingRule.NON_ZERO ? -1 : 2;
+		final int crossings = Path2afp.computeCrossingsFromRect(
+				0, getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
+				rectangle.getMinX(), rectangle.getMinY(), rectangle.getMaxX(), rectangle.getMaxY(),
+				CrossingComputationType.SIMPLE_INTERSECTION_WHEN_NOT_POLYGON);
+		return crossings == MathConstants.SHAPE_INTERSECTS
+				|| (crossings & mask) != 0;
+	}
+
+	@Override
+	@Pure
+	public boolean intersects(Ellipse2afp<?, ?, ?, ?, ?, ?> ellipse) {
+		assert ellipse != null : AssertMessages.notNullParameter();
+		final int mask = getWindingRule() == PathWindingRule.NON_ZERO ? -1 : 2;
+		final int crossings = Path2afp.computeCrossingsFromEllipse(
+				0, getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
+				ellipse.getMinX(), ellipse.getMinY(), ellipse.getWidth(), ellipse.getHeight(),
+				CrossingComputationType.SIMPLE_INTERSECTION_WHEN_NOT_POLYGON);
+		return crossings == MathConstants.SHAPE_INTERSECTS
+				|| (crossings & mask) != 0;
+	}
+
+	@Override
+	@Pure
+	public boolean intersects(Circle2afp<?, ?, ?, ?, ?, ?> circle) {
+		assert circle != null : AssertMessages.notNullParameter();
+		final int mask = getWindingRule() == PathWindingRule.NON_ZERO ? -1 : 2;
+		final int crossings = Path2afp.computeCrossingsFromCircle(
+				0, getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
+				circle.getX(), circle.getY(), circle.getRadius(),
+				CrossingComputationType.SIMPLE_INTERSECTION_WHEN_NOT_POLYGON);
+		return crossings == MathConstants.SHAPE_INTERSECTS
+				|| (crossings & mask) != 0;
+	}
+
+	@Override
+	@Pure
+	public boolean intersects(Segment2afp<?, ?, ?, ?, ?, ?> segment) {
+		assert segment != null : AssertMessages.notNullParameter();
+		final int mask = getWindingRule() == PathWindingRule.NON_ZERO ? -1 : 2;
+		final int crossings = Path2afp.computeCrossingsFromSegment(
+				0, getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
+				segment.getX1(), segment.getY1(), segment.getX2(), segment.getY2(),
+				CrossingComputationType.SIMPLE_INTERSECTION_WHEN_NOT_POLYGON);
+		return crossings == MathConstants.SHAPE_INTERSECTS
+				|| (crossings & mask) != 0;
+	}
+
+	@Override
+	@Pure
+	public boolean intersects(Triangle2afp<?, ?, ?, ?, ?, ?> triangle) {
+		assert triangle != null : AssertMessages.notNullParameter();
+		final int mask = getWindingRule() == PathWindingRule.NON_ZERO ? -1 : 2;
+		final int crossings = Path2afp.computeCrossingsFromTriangle(
+				0, getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
+				triangle.getX1(), triangle.getY1(), triangle.getX2(), triangle.getY2(),
+				triangle.getX3(), triangle.getY3(),
+				CrossingComputationType.SIMPLE_INTERSECTION_WHEN_NOT_POLYGON);
+		return crossings == MathConstants.SHAPE_INTERSECTS
+				|| (crossings & mask) != 0;
+	}
+
 	@Override
 	@Pure
 	public double getLength() {
 		if (this.length == null) {
-			this.length = Double.valueOf(Path2afp.computeLength(getPathIterator()));
+			this.length = Double.valueOf(Path2afp.computeLength(
+					getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO)));
 		}
 		return this.length.doubleValue();
 	}
@@ -27,13 +27,16 @@ import java.util.Iterator;
 import org.eclipse.xtext.xbase.lib.Pure;
 
 import org.arakhne.afc.math.MathConstants;
+import org.arakhne.afc.math.geometry.CrossingComputationType;
 import org.arakhne.afc.math.geometry.PathElementType;
 import org.arakhne.afc.math.geometry.PathWindingRule;
 import org.arakhne.afc.math.geometry.d2.Point2D;
 import org.arakhne.afc.math.geometry.d2.Transform2D;
-import org.arakhne.afc.math.geometry.d2.ai.InnerComputationPoint2ai;
+import org.arakhne.afc.math.geometry.d2.ai.Circle2ai;
+import org.arakhne.afc.math.geometry.d2.ai.FlatteningCache2ai;
 import org.arakhne.afc.math.geometry.d2.ai.Path2ai;
 import org.arakhne.afc.math.geometry.d2.ai.PathIterator2ai;
+import org.arakhne.afc.math.geometry.d2.ai.Segment2ai;
 import org.arakhne.afc.vmutil.asserts.AssertMessages;
 import org.arakhne.afc.vmutil.locale.Locale;
 
@@ -107,6 +110,10 @@ public class Path2i extends AbstractShape2i<Path2i>
 	 */
 	private SoftReference<Rectangle2i> logicalBounds;
 
+	/** Buffer for the flattened polylines of the path.
+	 */
+	private transient SoftReference<FlatteningCache2ai> flatteningCache;
+
 	/** Construct an empty path.
 	 */
 	public Path2i() {
@@ -217,6 +224,7 @@ public class Path2i extends AbstractShape2i<Path2i>
 		this.isCurved = Boolean.FALSE;
 		this.graphicalBounds = null;
 		this.logicalBounds = null;
+		this.flatteningCache = null;
 		fireGeometryChange();
 	}
 
@@ -227,6 +235,7 @@ public class Path2i extends AbstractShape2i<Path2i>
 		clone.coords = this.coords.clone();
 		clone.types = this.types.clone();
 		clone.windingRule = this.windingRule;
+		clone.flatteningCache = null;
 		return clone;
 	}
 
@@ -273,21 +282,17 @@ public class Path2i extends AbstractShape2i<Path2i>
 		if (bb != null) {
 			bb.translate(dx, dy);
 		}
+		this.flatteningCache = null;
 		fireGeometryChange();
 	}
 
 	@Override
 	public void transform(Transform2D transform) {
 		assert transform != null : AssertMessages.notNullParameter();
-		final Point2D<?, ?> p = new InnerComputationPoint2ai();
-		for (int i = 0; i < this.numCoords; i += 2) {
-			p.set(this.coords[i], this.coords[i + 1]);
-			transform.transform(p);
-			this.coords[i] = p.ix();
-			this.coords[i + 1] = p.iy();
-		}
+		transform.transform(this.coords, 0, this.coords, 0, this.numCoords / 2);
 		this.graphicalBounds = null;
 		this.logicalBounds = null;
+		this.flatteningCache = null;
 		fireGeometryChange();
 	}
 
@@ -450,6 +455,7 @@ public class Path2i extends AbstractShape2i<Path2i>
 			this.types[this.numTypes++] = PathElementType.CLOSE;
 			this.isPolyline = false;
 			this.isPolygon = null;
+			this.flatteningCache = null;
 			fireGeometryChange();
 		}
 	}
@@ -485,14 +491,8 @@ public class Path2i extends AbstractShape2i<Path2i>
 		if (transform == null || transform.isIdentity()) {
 			return Arrays.copyOf(this.coords, this.numCoords);
 		}
-		final Point2D<?, ?> p = new InnerComputationPoint2ai();
 		final int[] clone = new int[this.numCoords];
-		for (int i = 0; i < clone.length; i += 2) {
-			p.set(this.coords[i], this.coords[i + 1]);
-			transform.transform(p);
-			clone[i] = p.ix();
-			clone[i + 1] = p.iy();
-		}
+		transform.transform(this.coords, 0, clone, 0, this.numCoords / 2);
 		return clone;
 	}
 
@@ -505,12 +505,10 @@ public class Path2i extends AbstractShape2i<Path2i>
 				clone[i] = this.coords[i];
 			}
 		} else {
-			final Point2D<?, ?> p = new InnerComputationPoint2ai();
-			for (int i = 0; i < clone.length; i += 2) {
-				p.set(this.coords[i], this.coords[i + 1]);
-				transform.transform(p);
-				clone[i] = p.ix();
-				clone[i + 1] = p.iy();
+			final int[] transformed = new int[this.numCoords];
+			transform.transform(this.coords, 0, transformed, 0, this.numCoords / 2);
+			for (int i = 0; i < transformed.length; ++i) {
+				clone[i] = transformed[i];
 			}
 		}
 		return clone;
@@ -525,12 +523,10 @@ public class Path2i extends AbstractShape2i<Path2i>
 				clone[i] = this.coords[i];
 			}
 		} else {
-			final Point2D<?, ?> p = new InnerComputationPoint2ai();
-			for (int i = 0; i < clone.length; i += 2) {
-				p.set(this.coords[i], this.coords[i + 1]);
-				transform.transform(p);
-				clone[i] = p.ix();
-				clone[i + 1] = p.iy();
+			final int[] transformed = new int[this.numCoords];
+			transform.transform(this.coords, 0, transformed, 0, this.numCoords / 2);
+			for (int i = 0; i < transformed.length; ++i) {
+				clone[i] = transformed[i];
 			}
 		}
 		return clone;
@@ -620,6 +616,7 @@ public class Path2i extends AbstractShape2i<Path2i>
 			this.isEmpty = null;
 			this.graphicalBounds = null;
 			this.logicalBounds = null;
+			this.flatteningCache = null;
 			fireGeometryChange();
 		} else {
 			throw new IllegalStateException();
@@ -646,6 +643,7 @@ public class Path2i extends AbstractShape2i<Path2i>
 		}
 		this.graphicalBounds = null;
 		this.logicalBounds = null;
+		this.flatteningCache = null;
 		fireGeometryChange();
 	}
 
@@ -661,6 +659,7 @@ public class Path2i extends AbstractShape2i<Path2i>
 		}
 		this.graphicalBounds = null;
 		this.logicalBounds = null;
+		this.flatteningCache = null;
 		fireGeometryChange();
 	}
 
@@ -677,6 +676,7 @@ public class Path2i extends AbstractShape2i<Path2i>
 		this.isCurved = Boolean.TRUE;
 		this.graphicalBounds = null;
 		this.logicalBounds = null;
+		this.flatteningCache = null;
 		fireGeometryChange();
 	}
 
@@ -695,6 +695,7 @@ public class Path2i extends AbstractShape2i<Path2i>
 		this.isCurved = Boolean.TRUE;
 		this.graphicalBounds = null;
 		this.logicalBounds = null;
+		this.flatteningCache = null;
 		fireGeometryChange();
 	}
 
@@ -711,6 +712,7 @@ public class Path2i extends AbstractShape2i<Path2i>
 			this.coords[this.numCoords - 1] = y;
 			this.graphicalBounds = null;
 			this.logicalBounds = null;
+			this.flatteningCache = null;
 			fireGeometryChange();
 		} else {
 			throw new IllegalStateException();
@@ -738,6 +740,7 @@ public class Path2i extends AbstractShape2i<Path2i>
 					System.arraycopy(this.coords, i + 2, this.coords, i, this.numCoords);
 					System.arraycopy(this.types, j + 1, this.types, j, this.numTypes);
 					this.isEmpty = null;
+					this.flatteningCache = null;
 					fireGeometryChange();
 					return true;
 				}
@@ -754,6 +757,7 @@ public class Path2i extends AbstractShape2i<Path2i>
 					System.arraycopy(this.types, j + 1, this.types, j, this.numTypes);
 					this.isEmpty = null;
 					this.isPolyline = null;
+					this.flatteningCache = null;
 					fireGeometryChange();
 					return true;
 				}
@@ -769,6 +773,7 @@ public class Path2i extends AbstractShape2i<Path2i>
 					System.arraycopy(this.types, j + 1, this.types, j, this.numTypes);
 					this.isEmpty = null;
 					this.isPolyline = null;
+					this.flatteningCache = null;
 					fireGeometryChange();
 					return true;
 				}
@@ -806,4 +811,46 @@ public class Path2i extends AbstractShape2i<Path2i>
 		return this.types[index];
 	}
 
+	/** {@inheritDoc}
+	 *
+	 * <p>The flattened polylines are computed once per flatness value, and kept
+	 * until the path is changed. This function is not pure, because it fills
+	 * this internal cache; the cache does not change the observable state of the path.
+	 */
+	@Override
+	public PathIterator2ai<PathElement2i> getPathIterator(double flatness) {
+		FlatteningCache2ai cache = this.flatteningCache == null ? null : this.flatteningCache.get();
+		if (cache == null) {
+			cache = new FlatteningCache2ai();
+			this.flatteningCache = new SoftReference<>(cache);
+		}
+		return cache.getPathIterator(this, flatness);
+	}
+
+	@Override
+	@Pure
+	public boolean intersects(Circle2ai<?, ?, ?, ?, ?, ?> circle) {
+		assert circle != null : AssertMessages.notNullParameter();
+		final int mask = getWindingRule() == PathWindingRule.NON_ZERO ? -1 : 2;
+		final int crossings = Path2ai.computeCrossingsFromCircle(
+				0, getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
+				circle.getX(), circle.getY(), circle.getRadius(),
+				CrossingComputationType.SIMPLE_INTERSECTION_WHEN_NOT_POLYGON);
+		return crossings == MathConstants.SHAPE_INTERSECTS
+				|| (crossings & mask) != 0;
+	}
+
+	@Override
+	@Pure
+	public boolean intersects(Segment2ai<?, ?, ?, ?, ?, ?> segment) {
+		assert segment != null : AssertMessages.notNullParameter();
+		final int mask = getWindingRule() == PathWindingRule.NON_ZERO ? -1 : 2;
+		final int crossings = Path2ai.computeCrossingsFromSegment(
+				0, getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
+				segment.getX1(), segment.getY1(), segment.getX2(), segment.getY2(),
+				CrossingComputationType.SIMPLE_INTERSECTION_WHEN_NOT_POLYGON);
+		return crossings == MathConstants.SHAPE_INTERSECTS
+				|| (crossings & mask) != 0;
+	}
+
 }
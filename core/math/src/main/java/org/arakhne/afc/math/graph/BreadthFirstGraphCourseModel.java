@@ -20,8 +20,8 @@
 
 package org.arakhne.afc.math.graph;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
-import java.util.LinkedList;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
@@ -40,7 +40,7 @@ import org.eclipse.xtext.xbase.lib.Pure;
 public class BreadthFirstGraphCourseModel<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>>
 		implements GraphCourseModel<ST, PT> {
 
-	private final LinkedList<GraphIterationElement<ST, PT>> list = new LinkedList<>();
+	private final ArrayDeque<GraphIterationElement<ST, PT>> list = new ArrayDeque<>();
 
 	/** Replies if this model restitutes the elements in a reverse order.
 	 *
@@ -73,7 +73,7 @@ public class BreadthFirstGraphCourseModel<ST extends GraphSegment<ST, PT>, PT ex
 		if (this.list.isEmpty()) {
 			return null;
 		}
-		return this.list.getFirst();
+		return this.list.peekFirst();
 	}
 
 	@Override
@@ -81,7 +81,7 @@ public class BreadthFirstGraphCourseModel<ST extends GraphSegment<ST, PT>, PT ex
 		if (this.list.isEmpty()) {
 			return null;
 		}
-		return this.list.removeFirst();
+		return this.list.pollFirst();
 	}
 
 	@Override
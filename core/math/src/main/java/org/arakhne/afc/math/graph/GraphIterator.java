@@ -21,8 +21,9 @@
 package org.arakhne.afc.math.graph;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.ConcurrentModificationException;
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -49,6 +50,12 @@ import org.eclipse.xtext.xbase.lib.Pure;
  * that the end points of the segments are not take into account. This parameter is usefull
  * only if {@code allowManyReplies} is set to <code>false</code>.
  *
+ * <p>When the graph is an {@link IndexedGraph}, and the comparator on visited segments is the
+ * default one, the visited segments are stored in a bit set. When the
+ * {@link #setIterationElementReuse(boolean) reuse of the iteration elements} is enabled,
+ * the iteration elements that are not used anymore are recycled. These two features
+ * permit to traverse a graph without allocating objects for each visited segment.
+ *
  * @param <PT> is the type of node in the graph
  * @param <ST> is the type of edge in the graph
  * @author $Author: sgalland$
@@ -68,6 +75,16 @@ public class GraphIterator<ST extends GraphSegment<ST, PT>, PT extends GraphPoin
 
 	private final Set<GraphIterationElement<ST, PT>> visited;
 
+	private final BitSet visitedIndexes;
+
+	private final IndexedGraph<ST, PT> indexedGraph;
+
+	private boolean reuseElements;
+
+	private ArrayDeque<GraphIterationElement<ST, PT>> freeElements;
+
+	private List<GraphIterationElement<ST, PT>> nextSegmentBuffer;
+
 	private GraphIterationElement<ST, PT> current;
 
 	private final WeakReference<Graph<ST, PT>> graph;
@@ -125,6 +142,7 @@ public class GraphIterator<ST extends GraphSegment<ST, PT>, PT extends GraphPoin
 	 * @param distanceToConsumeAfter is the distance to consume after traversing the segment.
 	 *     It must be negative or nul.
 	 */
+	@SuppressWarnings("unchecked")
 	protected GraphIterator(
 			Graph<ST, PT> graph1, GraphCourseModel<ST, PT> courseModel1,
 			ST segment, PT point,
@@ -151,13 +169,138 @@ public class GraphIterator<ST extends GraphSegment<ST, PT>, PT extends GraphPoin
 			final GraphIterationElementComparator<ST, PT> comparator = createVisitedSegmentComparator(
 					this.assumeOrientedSegments);
 			assert comparator != null;
+			if (graph1 instanceof IndexedGraph<?, ?> && comparator.getClass() == GraphIterationElementComparator.class) {
+				this.indexedGraph = (IndexedGraph<ST, PT>) graph1;
+				this.visitedIndexes = new BitSet(this.assumeOrientedSegments
+						? graph1.getSegmentCount() * 2 : graph1.getSegmentCount());
+			} else {
+				this.indexedGraph = null;
+				this.visitedIndexes = null;
+			}
 			this.visited = new TreeSet<>(comparator);
-			this.visited.add(firstElement);
+			markVisited(firstElement, true);
 		} else {
 			this.visited = null;
+			this.visitedIndexes = null;
+			this.indexedGraph = null;
+		}
+	}
+
+	/** Replies the index of the given element in the bit set of the visited segments.
+	 *
+	 * @param element the element.
+	 * @return the index in the bit set, or <code>-1</code> if the segment has no index.
+	 */
+	@Pure
+	private int getVisitedIndex(GraphIterationElement<ST, PT> element) {
+		final ST segment = element.getSegment();
+		final int index = this.indexedGraph.getSegmentIndex(segment);
+		if (index < 0 || !this.assumeOrientedSegments) {
+			return index;
+		}
+		return element.getPoint().equals(segment.getBeginPoint()) ? index * 2 : index * 2 + 1;
+	}
+
+	/** Replies if the segment of the given element was visited.
+	 *
+	 * @param element the element.
+	 * @return <code>true</code> if the segment was visited.
+	 */
+	@Pure
+	private boolean isVisited(GraphIterationElement<ST, PT> element) {
+		if (this.visitedIndexes != null) {
+			final int index = getVisitedIndex(element);
+			if (index >= 0) {
+				return this.visitedIndexes.get(index);
+			}
+		}
+		return this.visited.contains(element);
+	}
+
+	/** Mark the segment of the given element as visited or not visited.
+	 *
+	 * @param element the element.
+	 * @param visited1 indicates if the segment is visited.
+	 */
+	private void markVisited(GraphIterationElement<ST, PT> element, boolean visited1) {
+		if (this.visitedIndexes != null) {
+			final int index = getVisitedIndex(element);
+			if (index >= 0) {
+				this.visitedIndexes.set(index, visited1);
+				return;
+			}
+		}
+		if (visited1) {
+			this.visited.add(element);
+		} else {
+			this.visited.remove(element);
+		}
+	}
+
+	/** Replies if the elements replied by {@link #nextElement()} are recycled.
+	 *
+	 * @return <code>true</code> if the iteration elements are reused.
+	 * @see #setIterationElementReuse(boolean)
+	 */
+	@Pure
+	public boolean isIterationElementReuse() {
+		return this.reuseElements;
+	}
+
+	/** Change the flag that indicates if the iteration elements are recycled.
+	 *
+	 * <p>When this flag is enabled, the element replied by {@link #nextElement()} may be
+	 * changed by the next call to {@link #next()} or {@link #nextElement()}: the caller
+	 * must not keep a reference to it. The elements are recycled only if they are
+	 * not stored in the set of the visited segments. If {@link #newIterationElement(GraphSegment,
+	 * GraphSegment, GraphPoint, double, double)} is overridden, the recycled elements must not
+	 * have additional attributes.
+	 *
+	 * @param reuse is <code>true</code> to recycle the iteration elements.
+	 */
+	public void setIterationElementReuse(boolean reuse) {
+		this.reuseElements = reuse;
+		if (!reuse) {
+			this.freeElements = null;
+			this.nextSegmentBuffer = null;
+		}
+	}
+
+	/** Give back an element that is not used anymore.
+	 *
+	 * @param element the element.
+	 */
+	private void recycle(GraphIterationElement<ST, PT> element) {
+		if (this.reuseElements) {
+			if (this.freeElements == null) {
+				this.freeElements = new ArrayDeque<>();
+			}
+			this.freeElements.push(element);
 		}
 	}
 
+	/** Replies an iteration element, recycled if possible.
+	 *
+	 * @param previous_segment is the previous element that permits to reach this object during an iteration
+	 * @param segment is the current segment
+	 * @param point is the point on which the iteration arrived on the current segment.
+	 * @param distanceToReach is the distance that is already consumed to reach the segment.
+	 * @param distanceToConsume is the rest of distance to consume including the segment.
+	 * @return a graph iteration element.
+	 */
+	private GraphIterationElement<ST, PT> obtainIterationElement(
+			ST previous_segment, ST segment,
+			PT point,
+			double distanceToReach,
+			double distanceToConsume) {
+		if (this.freeElements != null && !this.freeElements.isEmpty()) {
+			final GraphIterationElement<ST, PT> element = this.freeElements.pop();
+			element.set(previous_segment, segment, point, distanceToReach, distanceToConsume);
+			return element;
+		}
+		return newIterationElement(previous_segment, segment, point, distanceToReach, distanceToConsume);
+	}
+
 	/** Invoked when a comparator on visited segments is required.
 	 *
 	 * @param assumeOrientedSegments1 may be <code>true</code> to assume that the same segment has two different
@@ -187,6 +330,9 @@ public class GraphIterator<ST extends GraphSegment<ST, PT>, PT extends GraphPoin
 		if (this.visited != null) {
 			this.visited.clear();
 		}
+		if (this.visitedIndexes != null) {
+			this.visitedIndexes.clear();
+		}
 		this.current = null;
 	}
 
@@ -210,18 +356,30 @@ public class GraphIterator<ST extends GraphSegment<ST, PT>, PT extends GraphPoin
 					final double distanceToReach = element.getDistanceToReachSegment() + segment.getLength();
 					GraphIterationElement<ST, PT> candidate;
 					final double restToConsume = element.distanceToConsume - segment.getLength();
-					final List<GraphIterationElement<ST, PT>> list = new ArrayList<>();
+					final List<GraphIterationElement<ST, PT>> list;
+					if (this.reuseElements) {
+						if (this.nextSegmentBuffer == null) {
+							this.nextSegmentBuffer = new ArrayList<>();
+						} else {
+							this.nextSegmentBuffer.clear();
+						}
+						list = this.nextSegmentBuffer;
+					} else {
+						list = new ArrayList<>();
+					}
 					for (final ST theSegment : pts.getConnectedSegmentsStartingFrom(segment)) {
 						if (!theSegment.equals(segment)) {
-							candidate = newIterationElement(
+							candidate = obtainIterationElement(
 									segment, theSegment,
 									pts,
 									distanceToReach,
 									restToConsume);
 							if ((this.allowManyReplies)
 									|| (!avoid_visited_segments)
-									|| (!this.visited.contains(candidate))) {
+									|| (!isVisited(candidate))) {
 								list.add(candidate);
+							} else {
+								recycle(candidate);
 							}
 						}
 					}
@@ -267,28 +425,30 @@ public class GraphIterator<ST extends GraphSegment<ST, PT>, PT extends GraphPoin
 	 * @return the next segment
 	 */
 	public final GraphIterationElement<ST, PT> nextElement() {
+		if (this.reuseElements && this.current != null && (this.visited == null || this.visitedIndexes != null)) {
+			// The current element is not stored in the set of the visited segments.
+			recycle(this.current);
+			this.current = null;
+		}
 		if (!this.courseModel.isEmpty()) {
 			final GraphIterationElement<ST, PT> theElement = this.courseModel.removeNextIterationElement();
 			if (theElement != null) {
 				final List<GraphIterationElement<ST, PT>> list = getNextSegments(true, theElement);
-				final Iterator<GraphIterationElement<ST, PT>> iterator;
+				final boolean reversed = this.courseModel.isReversedRestitution();
+				final int size = list.size();
 				boolean hasFollowingSegments = false;
 				GraphIterationElement<ST, PT> elt;
 
-				if (this.courseModel.isReversedRestitution()) {
-					iterator = new ReverseIterator<>(list);
-				} else {
-					iterator = list.iterator();
-				}
-
-				while (iterator.hasNext()) {
-					elt = iterator.next();
+				for (int i = 0; i < size; ++i) {
+					elt = list.get(reversed ? size - i - 1 : i);
 					if (canGotoIntoElement(elt)) {
 						hasFollowingSegments = true;
 						this.courseModel.addIterationElement(elt);
 						if (!this.allowManyReplies) {
-							this.visited.add(elt);
+							markVisited(elt, true);
 						}
+					} else {
+						recycle(elt);
 					}
 				}
 
@@ -340,6 +500,9 @@ public class GraphIterator<ST extends GraphSegment<ST, PT>, PT extends GraphPoin
 	public void ignoreElementsAfter(GraphIterationElement<ST, PT> element) {
 		final List<GraphIterationElement<ST, PT>> nexts = getNextSegments(false, element);
 		this.courseModel.removeIterationElements(nexts);
+		for (final GraphIterationElement<ST, PT> next : nexts) {
+			recycle(next);
+		}
 	}
 
 	/** Ignore the elements after the specified element.
@@ -358,7 +521,7 @@ public class GraphIterator<ST extends GraphSegment<ST, PT>, PT extends GraphPoin
 		if (this.current != null) {
 			ignoreElementsAfter(this.current);
 			if (this.visited != null) {
-				this.visited.remove(this.current);
+				markVisited(this.current, false);
 			}
 		} else {
 			clear();
@@ -384,50 +547,4 @@ public class GraphIterator<ST extends GraphSegment<ST, PT>, PT extends GraphPoin
 		return this.assumeOrientedSegments;
 	}
 
-	/** Reverse iterator.
-	 *
-	 * @author $Author: sgalland$
-	 * @version $FullVersion$
-	 * @mavengroupid $GroupId$
-	 * @mavenartifactid $ArtifactId$
-	 * @since 13.0
-	 */
-	private static class ReverseIterator<E> implements Iterator<E> {
-
-		private int savedSize;
-
-		private int index;
-
-		private final List<E> list;
-
-		ReverseIterator(List<E> list1) {
-			this.savedSize = (list1 == null) ? 0 : list1.size();
-			this.index = this.savedSize - 1;
-			this.list = list1;
-		}
-
-		@Pure
-		@Override
-		public boolean hasNext() {
-			return this.list != null && this.index >= 0 && this.index < this.list.size();
-		}
-
-		@Override
-		public E next() {
-			if (this.list == null) {
-				throw new NoSuchElementException();
-			}
-			if (this.savedSize != this.list.size()) {
-				throw new ConcurrentModificationException();
-			}
-			if (this.index >= this.list.size()) {
-				throw new NoSuchElementException();
-			}
-			final E elt = this.list.get(this.index);
-			--this.index;
-			return elt;
-		}
-
-	}
-
 }
@@ -20,18 +20,26 @@
 
 package org.arakhne.afc.math.graph;
 
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.RandomAccess;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
 /**
  * This class describes a path inside a graph.
  *
+ * <p>By default, the segments are stored in a linked list, which is efficient
+ * for adding segments at the two ends of the path. The path may also store the
+ * segments in an array, which provides constant-time access to the segments and to
+ * their starting points by index (see {@link #isRandomAccess()}).
+ *
  * @param <GP> is the type of the graph graph itself.
  * @param <PT> is the type of node in the graph
  * @param <ST> is the type of edge in the graph
@@ -47,7 +55,11 @@ public class GraphPath<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment
 
 	/** Package access to avoid comiplation error.
 	 */
-	List<ST> segmentList = new LinkedList<>();
+	List<ST> segmentList;
+
+	/** Same as {@link #segmentList} when the segments are stored in an array.
+	 */
+	private SegmentArray<ST, PT> segmentArray;
 
 	private PT startingPoint;
 
@@ -60,6 +72,17 @@ public class GraphPath<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment
 	/** Construct a path.
 	 */
 	public GraphPath() {
+		this(false);
+	}
+
+	/** Construct a path.
+	 *
+	 * @param randomAccess is <code>true</code> to store the segments in an array,
+	 *     or <code>false</code> to store them in a linked list.
+	 * @see #isRandomAccess()
+	 */
+	public GraphPath(boolean randomAccess) {
+		this.segmentList = newSegmentList(randomAccess);
 		this.isReversable = true;
 	}
 
@@ -68,12 +91,55 @@ public class GraphPath<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment
 	 * @param startingPoint1 is the segment's point indicating the direction.
 	 */
 	public GraphPath(ST segment, PT startingPoint1) {
+		this(segment, startingPoint1, false);
+	}
+
+	/**
+	 * @param segment is the segment from which to start.
+	 * @param startingPoint1 is the segment's point indicating the direction.
+	 * @param randomAccess is <code>true</code> to store the segments in an array,
+	 *     or <code>false</code> to store them in a linked list.
+	 * @see #isRandomAccess()
+	 */
+	public GraphPath(ST segment, PT startingPoint1, boolean randomAccess) {
+		this.segmentList = newSegmentList(randomAccess);
 		this.segmentList.add(segment);
 		this.startingPoint = startingPoint1;
 		this.endingPoint = segment.getOtherSidePoint(startingPoint1);
 		this.isReversable = false;
 	}
 
+	/** Create the list of segments.
+	 * Package access to avoid compilation error.
+	 *
+	 * @param randomAccess is <code>true</code> to store the segments in an array.
+	 * @return the list of segments.
+	 */
+	List<ST> newSegmentList(boolean randomAccess) {
+		if (randomAccess) {
+			this.segmentArray = new SegmentArray<>();
+			return this.segmentArray;
+		}
+		this.segmentArray = null;
+		return new LinkedList<>();
+	}
+
+	/** Replies if the segments are stored in an array.
+	 *
+	 * <p>When the segments are stored in an array, {@link #get(int)} and
+	 * {@link #getStartingPointFor(int)} run in constant time, and the removal of the
+	 * segments at the end of the path is cheap. Otherwise, the segments are
+	 * stored in a linked list, which is more efficient for inserting segments
+	 * at the beginning of the path.
+	 *
+	 * @return <code>true</code> if the segments are stored in an array,
+	 *     <code>false</code> if they are stored in a linked list.
+	 */
+	@Pure
+	public boolean isRandomAccess() {
+		return this.segmentArray != null;
+	}
+
 	/** Replies if this first segment could be reversed
 	 * when the second segment is inserted to fit the
 	 * order of the insertions.
@@ -364,6 +430,8 @@ public class GraphPath<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment
 			if (this.startingPoint != null) {
 				return this.startingPoint;
 			}
+		} else if (this.segmentArray != null) {
+			return this.segmentArray.getStartingPointFor(index, this.startingPoint);
 		} else {
 			int idx = index;
 			ST currentSegment = this.segmentList.get(idx);
@@ -567,18 +635,20 @@ public class GraphPath<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment
 		if (index >= 0) {
 			boolean changed = false;
 			PT startPoint = this.startingPoint;
-			ST segment;
 			int limit = index;
 			if (inclusive) {
 				++limit;
 			}
-			for (int i = 0; i < limit; ++i) {
-				segment = this.segmentList.remove(0);
-				this.length -= segment.getLength();
-				if (this.length < 0) {
-					this.length = 0;
+			if (limit > 0) {
+				final List<ST> removedSegments = this.segmentList.subList(0, limit);
+				for (final ST segment : removedSegments) {
+					this.length -= segment.getLength();
+					if (this.length < 0) {
+						this.length = 0;
+					}
+					startPoint = segment.getOtherSidePoint(startPoint);
 				}
-				startPoint = segment.getOtherSidePoint(startPoint);
+				removedSegments.clear();
 				changed = true;
 			}
 			if (changed) {
@@ -746,14 +816,15 @@ public class GraphPath<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment
 			} else {
 				this.length = 0;
 				final int segmentCount = this.segmentList.size();
+				final Iterator<ST> iterator = this.segmentList.iterator();
 				for (int i = 0; i < segmentCount && i < limit; ++i) {
-					segment = this.segmentList.get(i);
+					segment = iterator.next();
 					this.length += segment.getLength();
 					startPoint = segment.getOtherSidePoint(startPoint);
 				}
 				this.endingPoint = startPoint;
-				for (int i = segmentCount - 1; i >= limit; --i) {
-					this.segmentList.remove(i);
+				if (limit < segmentCount) {
+					this.segmentList.subList(limit, segmentCount).clear();
 					changed = true;
 				}
 			}
@@ -1095,7 +1166,7 @@ public class GraphPath<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment
 	public GP clone() {
 		try {
 			final GP clone = (GP) super.clone();
-			clone.segmentList = new LinkedList<>();
+			clone.segmentList = clone.newSegmentList(isRandomAccess());
 			clone.segmentList.addAll(this.segmentList);
 			return clone;
 		} catch (CloneNotSupportedException e) {
@@ -1258,6 +1329,157 @@ public class GraphPath<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment
 		return this.length;
 	}
 
+	/**
+	 * List of segments that is stored in an array, with a cache of the
+	 * starting points of the segments.
+	 *
+	 * <p>The starting points are computed on demand from the starting point
+	 * of the path, and they are invalidated from the first changed index.
+	 *
+	 * @param <ST> is the type of edge in the graph
+	 * @param <PT> is the type of node in the graph
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private static class SegmentArray<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>>
+			extends AbstractList<ST> implements RandomAccess {
+
+		private static final int DEFAULT_CAPACITY = 10;
+
+		private Object[] segments = new Object[DEFAULT_CAPACITY];
+
+		private int size;
+
+		private Object[] startingPoints;
+
+		private int startingPointCount;
+
+		private PT origin;
+
+		/** Construct an empty list.
+		 */
+		SegmentArray() {
+			//
+		}
+
+		/** Replies the starting point of the segment at the given index.
+		 *
+		 * @param index the index of the segment.
+		 * @param firstPoint the starting point of the path.
+		 * @return the starting point of the segment, or <code>null</code> if
+		 *     the segments are not connected.
+		 */
+		@SuppressWarnings("unchecked")
+		PT getStartingPointFor(int index, PT firstPoint) {
+			if (index < 0 || index >= this.size) {
+				throw new IndexOutOfBoundsException();
+			}
+			if (firstPoint != this.origin || this.startingPoints == null) {
+				this.origin = firstPoint;
+				this.startingPointCount = 0;
+				if (this.startingPoints == null || this.startingPoints.length < this.segments.length) {
+					this.startingPoints = new Object[this.segments.length];
+				}
+			} else if (this.startingPoints.length < this.segments.length) {
+				this.startingPoints = Arrays.copyOf(this.startingPoints, this.segments.length);
+			}
+			if (this.startingPointCount == 0) {
+				this.startingPoints[0] = firstPoint;
+				this.startingPointCount = 1;
+			}
+			while (this.startingPointCount <= index) {
+				final PT previous = (PT) this.startingPoints[this.startingPointCount - 1];
+				final ST segment = (ST) this.segments[this.startingPointCount - 1];
+				this.startingPoints[this.startingPointCount] = previous == null ? null : segment.getOtherSidePoint(previous);
+				++this.startingPointCount;
+			}
+			return (PT) this.startingPoints[index];
+		}
+
+		private void invalidateFrom(int index) {
+			if (index < this.startingPointCount) {
+				this.startingPointCount = index;
+			}
+		}
+
+		@Pure
+		@Override
+		public int size() {
+			return this.size;
+		}
+
+		@Pure
+		@SuppressWarnings("unchecked")
+		@Override
+		public ST get(int index) {
+			if (index < 0 || index >= this.size) {
+				throw new IndexOutOfBoundsException();
+			}
+			return (ST) this.segments[index];
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public ST set(int index, ST element) {
+			if (index < 0 || index >= this.size) {
+				throw new IndexOutOfBoundsException();
+			}
+			final ST old = (ST) this.segments[index];
+			this.segments[index] = element;
+			invalidateFrom(index + 1);
+			return old;
+		}
+
+		@Override
+		public void add(int index, ST element) {
+			if (index < 0 || index > this.size) {
+				throw new IndexOutOfBoundsException();
+			}
+			if (this.size == this.segments.length) {
+				this.segments = Arrays.copyOf(this.segments, this.size + (this.size >> 1) + 1);
+			}
+			if (index < this.size) {
+				System.arraycopy(this.segments, index, this.segments, index + 1, this.size - index);
+			}
+			this.segments[index] = element;
+			++this.size;
+			++this.modCount;
+			invalidateFrom(index);
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public ST remove(int index) {
+			if (index < 0 || index >= this.size) {
+				throw new IndexOutOfBoundsException();
+			}
+			final ST old = (ST) this.segments[index];
+			removeRange(index, index + 1);
+			return old;
+		}
+
+		@Override
+		protected void removeRange(int fromIndex, int toIndex) {
+			if (fromIndex < toIndex) {
+				System.arraycopy(this.segments, toIndex, this.segments, fromIndex, this.size - toIndex);
+				final int newSize = this.size - (toIndex - fromIndex);
+				Arrays.fill(this.segments, newSize, this.size, null);
+				this.size = newSize;
+				++this.modCount;
+				invalidateFrom(fromIndex);
+			}
+		}
+
+		@Override
+		public void clear() {
+			removeRange(0, this.size);
+		}
+
+	}
+
 	/**
 	 * Iterable on points.
 	 *
@@ -0,0 +1,52 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+/**
+ * Graph in which the segments are identified by consecutive indexes.
+ *
+ * <p>The indexes permit to the algorithms to store data for the segments
+ * in arrays or bit sets.
+ *
+ * @param <PT> is the type of node in the graph
+ * @param <ST> is the type of edge in the graph
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+public interface IndexedGraph<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>>
+		extends Graph<ST, PT> {
+
+	/** Replies the index of the given segment.
+	 *
+	 * @param segment the segment.
+	 * @return the index of the segment, between <code>0</code> (inclusive) and
+	 *     {@link #getSegmentCount()} (exclusive); or <code>-1</code> if the segment
+	 *     is not in this graph.
+	 */
+	@Pure
+	int getSegmentIndex(ST segment);
+
+}
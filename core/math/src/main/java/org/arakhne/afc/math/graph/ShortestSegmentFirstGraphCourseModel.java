@@ -20,9 +20,8 @@
 
 package org.arakhne.afc.math.graph;
 
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedList;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
@@ -30,6 +29,9 @@ import org.eclipse.xtext.xbase.lib.Pure;
  * This class permits to implement a shortest path
  * algorithm to make a course inside a graph.
  *
+ * <p>The pending elements are stored in a binary heap ordered by the
+ * distance to the end of their segments.
+ *
  * @param <PT> is the type of node in the graph
  * @param <ST> is the type of edge in the graph
  * @author $Author: sgalland$
@@ -41,7 +43,23 @@ import org.eclipse.xtext.xbase.lib.Pure;
 public class ShortestSegmentFirstGraphCourseModel<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>>
 		implements GraphCourseModel<ST, PT> {
 
-	private final LinkedList<GraphIterationElement<ST, PT>> list = new LinkedList<>();
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/** Binary heap of the elements.
+	 */
+	private Object[] elements = new Object[DEFAULT_CAPACITY];
+
+	/** Distances to the ends of the segments in the heap.
+	 */
+	private double[] distances = new double[DEFAULT_CAPACITY];
+
+	/** Insertion orders of the elements in the heap.
+	 */
+	private long[] orders = new long[DEFAULT_CAPACITY];
+
+	private int size;
+
+	private long insertionCount;
 
 	/** Replies if this model restitutes the elements in a reverse order.
 	 *
@@ -60,60 +78,126 @@ public class ShortestSegmentFirstGraphCourseModel<ST extends GraphSegment<ST, PT
 
 	@Override
 	public void addIterationElement(GraphIterationElement<ST, PT> element) {
-		// Search for the insertion index
-		final Iterator<GraphIterationElement<ST, PT>> iterator = this.list.iterator();
-		final double d1 = element.getDistanceToReachSegment() + element.getSegment().getLength();
-		int index = 0;
-
-		while (iterator.hasNext()) {
-			final GraphIterationElement<ST, PT> e = iterator.next();
-			if (e != null) {
-				final double d2 = e.getDistanceToReachSegment() + e.getSegment().getLength();
-				if (d1 <= d2) {
-					// Stop looping
-					break;
-				}
-			}
-			++index;
+		if (this.size == this.elements.length) {
+			final int capacity = this.size + (this.size >> 1) + 1;
+			this.elements = Arrays.copyOf(this.elements, capacity);
+			this.distances = Arrays.copyOf(this.distances, capacity);
+			this.orders = Arrays.copyOf(this.orders, capacity);
 		}
-
-		// Bounds the index
-		if (index < 0) {
-			index = 0;
-		}
-		if (index > this.list.size()) {
-			index = this.list.size();
-		}
-
-		// Insert the element at the computed index
-		this.list.add(index, element);
+		final int index = this.size++;
+		this.elements[index] = element;
+		this.distances[index] = element.getDistanceToReachSegment() + element.getSegment().getLength();
+		this.orders[index] = this.insertionCount++;
+		siftUp(index);
 	}
 
 	@Pure
 	@Override
 	public boolean isEmpty() {
-		return this.list.isEmpty();
+		return this.size == 0;
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public GraphIterationElement<ST, PT> getNextIterationElement() {
-		if (this.list.isEmpty()) {
+		if (this.size == 0) {
 			return null;
 		}
-		return this.list.getFirst();
+		return (GraphIterationElement<ST, PT>) this.elements[0];
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public GraphIterationElement<ST, PT> removeNextIterationElement() {
-		if (this.list.isEmpty()) {
+		if (this.size == 0) {
 			return null;
 		}
-		return this.list.removeFirst();
+		final GraphIterationElement<ST, PT> first = (GraphIterationElement<ST, PT>) this.elements[0];
+		--this.size;
+		if (this.size > 0) {
+			move(this.size, 0);
+			siftDown(0);
+		}
+		this.elements[this.size] = null;
+		return first;
 	}
 
 	@Override
 	public void removeIterationElements(Collection<GraphIterationElement<ST, PT>> elements) {
-		this.list.removeAll(elements);
+		int newSize = 0;
+		for (int i = 0; i < this.size; ++i) {
+			if (!elements.contains(this.elements[i])) {
+				move(i, newSize);
+				++newSize;
+			}
+		}
+		Arrays.fill(this.elements, newSize, this.size, null);
+		this.size = newSize;
+		for (int i = (newSize >> 1) - 1; i >= 0; --i) {
+			siftDown(i);
+		}
+	}
+
+	/** Replies if the element at the first index must be replied before the element at the second index.
+	 *
+	 * <p>The shortest elements are replied first. The last added element is replied first
+	 * among the elements with the same length.
+	 *
+	 * @param index1 the first index.
+	 * @param index2 the second index.
+	 * @return <code>true</code> if the element at {@code index1} is before the element at {@code index2}.
+	 */
+	@Pure
+	private boolean isBefore(int index1, int index2) {
+		final double d1 = this.distances[index1];
+		final double d2 = this.distances[index2];
+		return d1 < d2 || (d1 == d2 && this.orders[index1] > this.orders[index2]);
+	}
+
+	private void move(int from, int to) {
+		this.elements[to] = this.elements[from];
+		this.distances[to] = this.distances[from];
+		this.orders[to] = this.orders[from];
+	}
+
+	private void swap(int index1, int index2) {
+		final Object element = this.elements[index1];
+		final double distance = this.distances[index1];
+		final long order = this.orders[index1];
+		move(index2, index1);
+		this.elements[index2] = element;
+		this.distances[index2] = distance;
+		this.orders[index2] = order;
+	}
+
+	private void siftUp(int index) {
+		int child = index;
+		while (child > 0) {
+			final int parent = (child - 1) >> 1;
+			if (!isBefore(child, parent)) {
+				return;
+			}
+			swap(child, parent);
+			child = parent;
+		}
+	}
+
+	private void siftDown(int index) {
+		int parent = index;
+		while (true) {
+			int child = (parent << 1) + 1;
+			if (child >= this.size) {
+				return;
+			}
+			if (child + 1 < this.size && isBefore(child + 1, child)) {
+				++child;
+			}
+			if (!isBefore(child, parent)) {
+				return;
+			}
+			swap(child, parent);
+			parent = child;
+		}
 	}
 
 }
@@ -22,11 +22,15 @@ package org.arakhne.afc.math.graph.astar;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
@@ -34,13 +38,18 @@ import org.arakhne.afc.math.graph.GraphPath;
 import org.arakhne.afc.math.graph.GraphPoint;
 import org.arakhne.afc.math.graph.GraphPoint.GraphPointConnection;
 import org.arakhne.afc.math.graph.GraphSegment;
-import org.arakhne.afc.util.ListUtil;
 import org.arakhne.afc.vmutil.locale.Locale;
 
 
 /** This class provides an implementation of the
  * famous A* algorithm.
  *
+ * <p>Once configured, an A* algorithm may be shared by several threads:
+ * each thread reuses its own search buffers from one run to the next.
+ * The concurrent runs are independent only if the graph points do not
+ * implement {@link AStarNode}, because such points store the state of the search.
+ * The listeners are notified by the thread that runs the search.
+ *
  * @param <GP> is the type of the graph graph itself.
  * @param <PT> is the type of node in the graph
  * @param <ST> is the type of edge in the graph
@@ -62,10 +71,14 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 
 	private AStarSegmentReplacer<ST> segmentReplacer;
 
-	private Collection<AStarListener<ST, PT>> listeners;
+	private volatile Collection<AStarListener<ST, PT>> listeners;
+
+	private final ThreadLocal<AStarSearchContext<ST, PT>> contexts = new ThreadLocal<>();
 
 	private boolean enableClosedNodeReopening = true;
 
+	private boolean enableBidirectionalSearch;
+
 	/**
 	 * @param heuristic is the heuristic to use by the A* algorithm.
 	 * @param pathFactory1 is the factory to create new paths.
@@ -87,9 +100,9 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 	 *
 	 * @param listener the listener.
 	 */
-	public void addAStarListener(AStarListener<ST, PT> listener) {
+	public synchronized void addAStarListener(AStarListener<ST, PT> listener) {
 		if (this.listeners == null) {
-			this.listeners = new ArrayList<>();
+			this.listeners = new CopyOnWriteArrayList<>();
 		}
 		this.listeners.add(listener);
 	}
@@ -98,7 +111,7 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 	 *
 	 * @param listener the listener.
 	 */
-	public void removeAStarListener(AStarListener<ST, PT> listener) {
+	public synchronized void removeAStarListener(AStarListener<ST, PT> listener) {
 		if (this.listeners != null) {
 			this.listeners.remove(listener);
 			if (this.listeners.isEmpty()) {
@@ -108,53 +121,97 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 	}
 
 	private void fireAlgorithmStart(AStarNode<ST, PT> startPoint, PT endPoint) {
-		if (this.listeners != null) {
-			for (final AStarListener<ST, PT> listener : this.listeners) {
+		final Collection<AStarListener<ST, PT>> list = this.listeners;
+		if (list != null) {
+			for (final AStarListener<ST, PT> listener : list) {
 				listener.algorithmStarted(startPoint, endPoint);
 			}
 		}
 	}
 
-	private void fireNodeOpened(AStarNode<ST, PT> node, List<AStarNode<ST, PT>> openList) {
-		if (this.listeners != null) {
-			for (final AStarListener<ST, PT> listener : this.listeners) {
-				listener.nodeOpened(node, openList);
+	private void fireNodeOpened(AStarNode<ST, PT> node, AStarOpenList<ST, PT> openList) {
+		final Collection<AStarListener<ST, PT>> list = this.listeners;
+		if (list != null) {
+			final List<AStarNode<ST, PT>> view = openList.readOnlyView();
+			for (final AStarListener<ST, PT> listener : list) {
+				listener.nodeOpened(node, view);
 			}
 		}
 	}
 
-	private void fireNodeConsumed(AStarNode<ST, PT> node, List<AStarNode<ST, PT>> openList) {
-		if (this.listeners != null) {
-			for (final AStarListener<ST, PT> listener : this.listeners) {
-				listener.nodeConsumed(node, openList);
+	private void fireNodeConsumed(AStarNode<ST, PT> node, AStarOpenList<ST, PT> openList) {
+		final Collection<AStarListener<ST, PT>> list = this.listeners;
+		if (list != null) {
+			final List<AStarNode<ST, PT>> view = openList.readOnlyView();
+			for (final AStarListener<ST, PT> listener : list) {
+				listener.nodeConsumed(node, view);
 			}
 		}
 	}
 
-	private void fireNodeReopened(AStarNode<ST, PT> node, List<AStarNode<ST, PT>> openList) {
-		if (this.listeners != null) {
-			for (final AStarListener<ST, PT> listener : this.listeners) {
-				listener.nodeReopened(node, openList);
+	private void fireNodeReopened(AStarNode<ST, PT> node, AStarOpenList<ST, PT> openList) {
+		final Collection<AStarListener<ST, PT>> list = this.listeners;
+		if (list != null) {
+			final List<AStarNode<ST, PT>> view = openList.readOnlyView();
+			for (final AStarListener<ST, PT> listener : list) {
+				listener.nodeReopened(node, view);
 			}
 		}
 	}
 
-	private void fireNodeClosed(AStarNode<ST, PT> node, List<AStarNode<ST, PT>> closeList) {
-		if (this.listeners != null) {
-			for (final AStarListener<ST, PT> listener : this.listeners) {
-				listener.nodeClosed(node, closeList);
+	private void fireNodeClosed(AStarNode<ST, PT> node, AStarCloseList<ST, PT> closeList) {
+		final Collection<AStarListener<ST, PT>> list = this.listeners;
+		if (list != null) {
+			final List<AStarNode<ST, PT>> view = closeList.readOnlyView();
+			for (final AStarListener<ST, PT> listener : list) {
+				listener.nodeClosed(node, view);
 			}
 		}
 	}
 
-	private void fireAlgorithmEnd(List<AStarNode<ST, PT>> closeList) {
-		if (this.listeners != null) {
-			for (final AStarListener<ST, PT> listener : this.listeners) {
-				listener.algorithmEnded(closeList);
+	/** Notify the listeners about the end of the algorithm.
+	 *
+	 * <p>The listeners receive an unmodifiable copy of the given lists, because the close lists
+	 * of the search context are reused by the next run on the same thread.
+	 *
+	 * @param closeList the close list.
+	 * @param otherCloseList the close list of the backward search, or <code>null</code>.
+	 */
+	private void fireAlgorithmEnd(List<AStarNode<ST, PT>> closeList, List<AStarNode<ST, PT>> otherCloseList) {
+		final Collection<AStarListener<ST, PT>> list = this.listeners;
+		if (list != null) {
+			final List<AStarNode<ST, PT>> snapshot = new ArrayList<>(
+					closeList.size() + (otherCloseList == null ? 0 : otherCloseList.size()));
+			snapshot.addAll(closeList);
+			if (otherCloseList != null) {
+				snapshot.addAll(otherCloseList);
+			}
+			final List<AStarNode<ST, PT>> unmodifiableSnapshot = Collections.unmodifiableList(snapshot);
+			for (final AStarListener<ST, PT> listener : list) {
+				listener.algorithmEnded(unmodifiableSnapshot);
 			}
 		}
 	}
 
+	/** Replies the search context of the current thread, and marks it as used.
+	 *
+	 * <p>If the context of the current thread is already used, i.e. a
+	 * search is run from a listener, a new context is replied.
+	 *
+	 * @return the search context.
+	 */
+	private AStarSearchContext<ST, PT> acquireContext() {
+		AStarSearchContext<ST, PT> context = this.contexts.get();
+		if (context == null) {
+			context = new AStarSearchContext<>();
+			this.contexts.set(context);
+		} else if (context.isInUse()) {
+			context = new AStarSearchContext<>();
+		}
+		context.acquire();
+		return context;
+	}
+
 	/** Change the flag that permits to reopen the closed A* nodes.
 	 *
 	 * @param enableClosedNodeReopening1 is <code>true</code> to enable the closed
@@ -175,6 +232,37 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 		return this.enableClosedNodeReopening;
 	}
 
+	/** Change the flag that permits to search from the two ends of the path.
+	 *
+	 * <p>The bidirectional search runs a forward search from the starting point and
+	 * a backward search from the point to reach. It assumes that the segments may
+	 * be traversed in the two directions; it is not used when a
+	 * {@link #setSegmentOrientationTool(AStarSegmentOrientation) segment orientation tool}
+	 * is set.
+	 *
+	 * <p>{@link #translateCandidate(GraphPoint, AStarNode)} is invoked by the two searches.
+	 * The backward search passes the starting point as the point to reach.
+	 * The listeners are notified of the end of the algorithm with the union of
+	 * the close lists of the two searches.
+	 *
+	 * @param enableBidirectionalSearch1 is <code>true</code> to enable the bidirectional search;
+	 *     <code>false</code> to search only from the starting point.
+	 */
+	public void setBidirectionalSearchEnabled(boolean enableBidirectionalSearch1) {
+		this.enableBidirectionalSearch = enableBidirectionalSearch1;
+	}
+
+	/** Replies the flag that permits to search from the two ends of the path.
+	 *
+	 * @return <code>true</code> if the bidirectional search is enabled;
+	 *     <code>false</code> if the search is done only from the starting point.
+	 * @see #setBidirectionalSearchEnabled(boolean)
+	 */
+	@Pure
+	public boolean isBidirectionalSearchEnabled() {
+		return this.enableBidirectionalSearch;
+	}
+
 	/** Set the path factory used by the A* algorithm.
 	 *
 	 * @param factory is the new factory.
@@ -371,7 +459,7 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 			return this.pathFactory.newPath(startPoint, segment);
 		}
 		try {
-			return (GP) new GraphPath(segment, startPoint);
+			return (GP) new GraphPath(segment, startPoint, true);
 		} catch (Throwable e) {
 			throw new IllegalStateException(Locale.getString("E2"), e); //$NON-NLS-1$
 		}
@@ -430,20 +518,268 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 	 * @return the found path, or <code>null</code> if none found.
 	 */
 	protected GP solve(AStarNode<ST, PT> startPoint, PT endPoint) {
-		final List<AStarNode<ST, PT>> closeList;
+		final AStarSearchContext<ST, PT> context = acquireContext();
+		try {
+			if (isBidirectionalSearchEnabled() && getSegmentOrientationTool() == null) {
+				return solveBidirectional(startPoint, endPoint, context);
+			}
+
+			final List<AStarNode<ST, PT>> closeList;
+
+			fireAlgorithmStart(startPoint, endPoint);
+
+			// Run A*
+			closeList = findPath(startPoint, endPoint, context);
+			if (closeList == null || closeList.isEmpty()) {
+				return null;
+			}
+
+			fireAlgorithmEnd(closeList, null);
+
+			// Create the path
+			return createPath(startPoint, endPoint, closeList);
+		} finally {
+			context.release();
+		}
+	}
+
+	/** Run the A* algorithm for each pair of source and target points.
+	 *
+	 * <p>The runs are distributed over the threads of the common
+	 * {@link ForkJoinPool}.
+	 *
+	 * @param sources are the starting points.
+	 * @param targets are the points to reach.
+	 * @return the matrix of the found paths and of their costs.
+	 * @see #solveAll(List, List, ForkJoinPool)
+	 */
+	public final AStarPathMatrix<GP, ST, PT> solveAll(List<? extends PT> sources, List<? extends PT> targets) {
+		return solveAll(sources, targets, ForkJoinPool.commonPool());
+	}
+
+	/** Run the A* algorithm for each pair of source and target points.
+	 *
+	 * <p>The runs are distributed over the threads of the given pool.
+	 * The costs of the paths are computed with {@link #computePathCost(GraphPath)}.
+	 *
+	 * @param sources are the starting points.
+	 * @param targets are the points to reach.
+	 * @param pool is the pool of threads that runs the A* algorithm.
+	 * @return the matrix of the found paths and of their costs.
+	 * @throws ArithmeticException if the number of cells of the matrix cannot be represented
+	 *     by an <code>int</code>.
+	 */
+	public final AStarPathMatrix<GP, ST, PT> solveAll(List<? extends PT> sources, List<? extends PT> targets,
+			ForkJoinPool pool) {
+		assert pool != null;
+		final AStarPathMatrix<GP, ST, PT> matrix = new AStarPathMatrix<>(sources, targets);
+		if (matrix.size() > 0) {
+			pool.invoke(new SolveAllTask(matrix, 0, matrix.size()));
+		}
+		return matrix;
+	}
+
+	/** Compute the cost of the given path.
+	 *
+	 * <p>The cost is the sum of the costs of the segments, and of the costs
+	 * of the points from which the segments are traversed, as computed by
+	 * {@link #computeCostFor(GraphPoint)} and {@link #computeCostFor(GraphSegment)}.
+	 *
+	 * @param path the path.
+	 * @return the cost of the path.
+	 */
+	@Pure
+	protected double computePathCost(GP path) {
+		double cost = 0;
+		PT point = path.getFirstPoint();
+		for (final ST segment : path) {
+			cost += computeCostFor(point) + computeCostFor(segment);
+			point = segment.getOtherSidePoint(point);
+		}
+		return cost;
+	}
+
+	/** Run the bidirectional A* algorithm.
+	 *
+	 * <p>The forward search is guided by the estimated cost to the end point,
+	 * and the backward search by the estimated cost from the starting point.
+	 * The search with the smallest open list is expanded first.
+	 * The algorithm stops when the cost of the best path found so far
+	 * is not greater than the smallest path cost in one of the open lists:
+	 * no unexplored path may be shorter.
+	 *
+	 * @param startPoint is the starting point.
+	 * @param endPoint is the point to reach.
+	 * @param context the buffers of the search.
+	 * @return the found path, or <code>null</code> if none found.
+	 */
+	@SuppressWarnings("checkstyle:npathcomplexity")
+	private GP solveBidirectional(AStarNode<ST, PT> startPoint, PT endPoint, AStarSearchContext<ST, PT> context) {
+		final PT start = startPoint.getGraphPoint();
+		final AStarOpenList<ST, PT> forwardOpenList = context.forwardOpenList;
+		final AStarCloseList<ST, PT> forwardCloseList = context.forwardCloseList;
+		final AStarOpenList<ST, PT> backwardOpenList = context.backwardOpenList;
+		final AStarCloseList<ST, PT> backwardCloseList = context.backwardCloseList;
 
 		fireAlgorithmStart(startPoint, endPoint);
 
-		// Run A*
-		closeList = findPath(startPoint, endPoint);
-		if (closeList == null || closeList.isEmpty()) {
+		if (start.equals(endPoint)) {
+			fireAlgorithmEnd(Collections.emptyList(), null);
+			return null;
+		}
+
+		final double estimation = estimate(start, endPoint);
+		final AStarNode<ST, PT> forwardStart = newAStarNode(start, 0, estimation, null);
+		forwardOpenList.add(forwardStart);
+		fireNodeOpened(forwardStart, forwardOpenList);
+		final AStarNode<ST, PT> backwardStart = newAStarNode(endPoint, 0, estimation, null);
+		backwardOpenList.add(backwardStart);
+		fireNodeOpened(backwardStart, backwardOpenList);
+
+		final BidirectionalMeeting<PT> meeting = new BidirectionalMeeting<>();
+
+		while (!forwardOpenList.isEmpty() && !backwardOpenList.isEmpty()
+				&& meeting.cost > Math.max(
+						forwardOpenList.get(0).getPathCost(),
+						backwardOpenList.get(0).getPathCost())) {
+			if (forwardOpenList.size() <= backwardOpenList.size()) {
+				expandBidirectional(true, start, endPoint,
+						forwardOpenList, forwardCloseList,
+						backwardOpenList, backwardCloseList, meeting);
+			} else {
+				expandBidirectional(false, start, endPoint,
+						backwardOpenList, backwardCloseList,
+						forwardOpenList, forwardCloseList, meeting);
+			}
+		}
+
+		fireAlgorithmEnd(forwardCloseList, backwardCloseList);
+
+		if (meeting.point == null) {
 			return null;
 		}
 
-		fireAlgorithmEnd(closeList);
+		// Segments from the starting point to the meeting point
+		final LinkedList<ST> pathSegments = new LinkedList<>();
+		PT point = meeting.point;
+		AStarNode<ST, PT> node = findNode(forwardOpenList, forwardCloseList, point);
+		while (node != null && node.getArrivalConnection() != null) {
+			final ST segment = node.getArrivalConnection();
+			pathSegments.addFirst(segment);
+			point = segment.getOtherSidePoint(point);
+			node = findNode(forwardOpenList, forwardCloseList, point);
+		}
+		// Segments from the meeting point to the end point
+		point = meeting.point;
+		node = findNode(backwardOpenList, backwardCloseList, point);
+		while (node != null && node.getArrivalConnection() != null) {
+			final ST segment = node.getArrivalConnection();
+			pathSegments.addLast(segment);
+			point = segment.getOtherSidePoint(point);
+			node = findNode(backwardOpenList, backwardCloseList, point);
+		}
+
+		final Iterator<ST> iterator = pathSegments.iterator();
+		GP path = null;
+		if (iterator.hasNext()) {
+			path = newPath(start, iterator.next());
+			while (iterator.hasNext()) {
+				addToPath(path, iterator.next());
+			}
+		}
+		return path;
+	}
+
+	/** Expand the best candidate of one of the searches of the bidirectional A* algorithm.
+	 *
+	 * <p>The candidate is translated with {@link #translateCandidate(GraphPoint, AStarNode)}
+	 * before its expansion. If the translation replies <code>null</code>, the candidate is the
+	 * point to reach by the expanded search; it is not expanded.
+	 *
+	 * @param forward indicates if the forward search is expanded.
+	 * @param startPoint is the starting point.
+	 * @param endPoint is the point to reach.
+	 * @param openList is the open list of the expanded search.
+	 * @param closeList is the close list of the expanded search.
+	 * @param otherOpenList is the open list of the other search.
+	 * @param otherCloseList is the close list of the other search.
+	 * @param meeting is the best meeting point found so far.
+	 */
+	@SuppressWarnings({"checkstyle:parameternumber", "checkstyle:nestedifdepth", "checkstyle:npathcomplexity"})
+	private void expandBidirectional(boolean forward, PT startPoint, PT endPoint,
+			AStarOpenList<ST, PT> openList, AStarCloseList<ST, PT> closeList,
+			AStarOpenList<ST, PT> otherOpenList, AStarCloseList<ST, PT> otherCloseList,
+			BidirectionalMeeting<PT> meeting) {
+		final AStarNode<ST, PT> ocandidate = openList.poll();
+		fireNodeConsumed(ocandidate, openList);
+		closeList.add(ocandidate);
+		fireNodeClosed(ocandidate, closeList);
+
+		final AStarNode<ST, PT> candidate = translateCandidate(forward ? endPoint : startPoint, ocandidate);
+		if (candidate == null) {
+			final AStarNode<ST, PT> otherCandidate = findNode(otherOpenList, otherCloseList, ocandidate.getGraphPoint());
+			if (otherCandidate != null) {
+				final double cost = ocandidate.getCost() + otherCandidate.getCost();
+				if (cost < meeting.cost) {
+					meeting.cost = cost;
+					meeting.point = ocandidate.getGraphPoint();
+				}
+			}
+			return;
+		}
+
+		final PT node = candidate.getGraphPoint();
+		final double nodeCost = forward ? computeCostFor(node) : 0;
+		for (final ST segment : candidate.getGraphSegments()) {
+			final PT reachableNode = segment.getOtherSidePoint(node);
+			if (reachableNode != null && !reachableNode.equals(node)) {
+				final double gCost = candidate.getCost()
+						+ nodeCost
+						+ (forward ? 0 : computeCostFor(reachableNode))
+						+ computeCostFor(segment);
+				final double h1 = forward ? estimate(reachableNode, endPoint) : estimate(startPoint, reachableNode);
+				AStarNode<ST, PT> reachedCandidate = closeList.getNode(reachableNode);
+				if (reachedCandidate != null) {
+					if (isClosedNodeReopeningEnabled() && gCost < reachedCandidate.getCost()) {
+						closeList.removeNode(reachableNode);
+						reachedCandidate = newAStarNode(reachableNode, gCost, h1, segment);
+						openList.add(reachedCandidate);
+						fireNodeOpened(reachedCandidate, openList);
+					}
+				} else {
+					reachedCandidate = openList.getNode(reachableNode);
+					if (reachedCandidate != null) {
+						if (gCost < reachedCandidate.getCost()) {
+							reachedCandidate = newAStarNode(reachableNode, gCost, h1, segment);
+							openList.update(reachedCandidate);
+							fireNodeReopened(reachedCandidate, openList);
+						}
+					} else {
+						reachedCandidate = newAStarNode(reachableNode, gCost, h1, segment);
+						openList.add(reachedCandidate);
+						fireNodeOpened(reachedCandidate, openList);
+					}
+				}
+				// Update the best path if the other search has reached the node
+				final AStarNode<ST, PT> otherCandidate = findNode(otherOpenList, otherCloseList, reachableNode);
+				if (otherCandidate != null) {
+					final double cost = reachedCandidate.getCost() + otherCandidate.getCost();
+					if (cost < meeting.cost) {
+						meeting.cost = cost;
+						meeting.point = reachableNode;
+					}
+				}
+			}
+		}
+	}
 
-		// Create the path
-		return createPath(startPoint, endPoint, closeList);
+	private static <ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>> AStarNode<ST, PT> findNode(
+			AStarOpenList<ST, PT> openList, AStarCloseList<ST, PT> closeList, PT point) {
+		final AStarNode<ST, PT> node = openList.getNode(point);
+		if (node != null) {
+			return node;
+		}
+		return closeList.getNode(point);
 	}
 
 	/** Create a instance of {@link AStarNode A* node}.
@@ -486,25 +822,47 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 	/** Run the A* algorithm and tries to find a path from
 	 *  the startPoint to the endPoint.
 	 *
+	 * <p>The open list is a binary heap indexed by graph point, and
+	 * the close list is indexed by graph point. The expansion of a node
+	 * is done in <code>O(log n)</code>, where <code>n</code> is the
+	 * size of the open list.
+	 *
+	 * <p>The replied list is an unmodifiable copy of the close list: the close list
+	 * itself is reused by the next run on the same thread.
+	 *
 	 * @param startPoint is the starting point.
 	 * @param endPoint is the point to reach.
 	 * @return the close list of the A* algorithm.
 	 */
 	@Pure
-	@SuppressWarnings("checkstyle:nestedifdepth")
 	List<AStarNode<ST, PT>> findPath(AStarNode<ST, PT> startPoint, PT endPoint) {
-		final CloseComparator<ST, PT> cComparator = new CloseComparator<>();
-		final OpenComparator<ST, PT> oComparatorWithoutRef = new OpenComparator<>();
-		final List<AStarNode<ST, PT>> openList = new ArrayList<>();
-		final List<AStarNode<ST, PT>> closeList = new ArrayList<>();
+		final AStarSearchContext<ST, PT> context = acquireContext();
+		try {
+			return Collections.unmodifiableList(new ArrayList<>(findPath(startPoint, endPoint, context)));
+		} finally {
+			context.release();
+		}
+	}
+
+	/** Run the A* algorithm with the given buffers and tries to find a path from
+	 *  the startPoint to the endPoint.
+	 *
+	 * @param startPoint is the starting point.
+	 * @param endPoint is the point to reach.
+	 * @param context the buffers of the search.
+	 * @return the close list of the A* algorithm.
+	 */
+	@SuppressWarnings("checkstyle:nestedifdepth")
+	private List<AStarNode<ST, PT>> findPath(AStarNode<ST, PT> startPoint, PT endPoint,
+			AStarSearchContext<ST, PT> context) {
+		final AStarOpenList<ST, PT> openList = context.forwardOpenList;
+		final AStarCloseList<ST, PT> closeList = context.forwardCloseList;
 
 		openList.add(startPoint);
 		fireNodeOpened(startPoint, openList);
 
-		int idx;
 		AStarNode<ST, PT> candidate;
 		AStarNode<ST, PT> ocandidate;
-		AStarNode<ST, PT> reachableCandidate;
 		AStarNode<ST, PT> reachedCandidate;
 		PT reachableNode;
 		PT node;
@@ -514,7 +872,7 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 
 		while (!foundTarget && !openList.isEmpty()) {
 
-			ocandidate = openList.remove(0);
+			ocandidate = openList.poll();
 			fireNodeConsumed(ocandidate, openList);
 
 			candidate = translateCandidate(endPoint, ocandidate);
@@ -531,44 +889,31 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 								+ computeCostFor(node)
 								+ computeCostFor(segment);
 						h1 = estimate(reachableNode, endPoint);
-						reachableCandidate = newAStarNode(reachableNode, gCost, h1, segment);
 
 						// Reopen node if better cost
-						idx = (isClosedNodeReopeningEnabled())
-								? ListUtil.indexOf(closeList, cComparator, reachableCandidate)
-										: -1;
-						if (idx >= 0) {
-							reachedCandidate = closeList.get(idx);
-							if (gCost < reachedCandidate.getCost()) {
-								closeList.remove(idx);
+						reachedCandidate = closeList.getNode(reachableNode);
+						if (reachedCandidate != null) {
+							if (isClosedNodeReopeningEnabled() && gCost < reachedCandidate.getCost()) {
+								closeList.removeNode(reachableNode);
 								final AStarNode<ST, PT> nn = node(
 										reachableNode,
 										gCost,
 										h1,
 										segment);
-								ListUtil.add(
-										openList,
-										oComparatorWithoutRef,
-										nn,
-										true, false);
+								openList.add(nn);
 								fireNodeOpened(nn, openList);
 							}
 						} else {
-							idx = openList.indexOf(reachableCandidate);
-							if (idx >= 0) {
+							reachedCandidate = openList.getNode(reachableNode);
+							if (reachedCandidate != null) {
 								// Rearrange open list if better cost
-								reachedCandidate = openList.get(idx);
 								if ((gCost + h1) < reachedCandidate.getPathCost()) {
-									openList.remove(idx);
 									final AStarNode<ST, PT> nn = node(
 											reachableNode,
 											gCost,
 											h1,
 											segment);
-									ListUtil.add(openList,
-											oComparatorWithoutRef,
-											nn,
-											true, false);
+									openList.update(nn);
 									fireNodeReopened(nn, openList);
 								}
 							} else {
@@ -578,10 +923,7 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 										gCost,
 										h1,
 										segment);
-								ListUtil.add(openList,
-										oComparatorWithoutRef,
-										nn,
-										true, false);
+								openList.add(nn);
 								fireNodeOpened(nn, openList);
 							}
 						}
@@ -590,15 +932,16 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 			}
 
 			// Refresh the close list
-			idx = ListUtil.add(closeList, cComparator, ocandidate, false, true);
+			closeList.add(ocandidate);
 			fireNodeClosed(ocandidate, closeList);
-			assert idx >= 0;
 		}
 
 		return closeList;
 	}
 
 	/** Create the path from the given close list.
+	 *
+	 * <p>The nodes that are part of the path are removed from the close list.
 	 *
 	 * @param startPoint is the starting point.
 	 * @param endPoint is the ending point.
@@ -606,19 +949,26 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 	 * @return the path, or <code>null</code> if no path found.
 	 */
 	@Pure
+	@SuppressWarnings("unchecked")
 	GP createPath(AStarNode<ST, PT> startPoint, PT endPoint, List<AStarNode<ST, PT>> closeList) {
-		int idx;
+		final AStarCloseList<ST, PT> index;
+		if (closeList instanceof AStarCloseList) {
+			index = (AStarCloseList<ST, PT>) closeList;
+		} else {
+			index = new AStarCloseList<>();
+			for (final AStarNode<ST, PT> closedNode : closeList) {
+				index.add(closedNode);
+			}
+		}
+
 		ST segment;
 		PT point;
 		AStarNode<ST, PT> node;
 		GP path = null;
-		final CloseComparator<ST, PT> cComparator = new CloseComparator<>();
 
-		node = newAStarNode(endPoint, Double.NaN, Double.NaN, null);
-		idx = ListUtil.indexOf(closeList, cComparator, node);
+		node = index.removeNode(endPoint);
 
-		if (idx >= 0) {
-			node = closeList.remove(idx);
+		if (node != null) {
 			point = node.getGraphPoint();
 			segment = node.getArrivalConnection();
 			if (point != null && segment != null) {
@@ -626,10 +976,8 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 				pathSegments.add(segment);
 				do {
 					point = segment.getOtherSidePoint(point);
-					node = newAStarNode(point, Double.NaN, Double.NaN, null);
-					idx = ListUtil.indexOf(closeList, cComparator, node);
-					if (idx >= 0) {
-						node = closeList.remove(idx);
+					node = index.removeNode(point);
+					if (node != null) {
 						segment = node.getArrivalConnection();
 						if (segment != null) {
 							pathSegments.add(segment);
@@ -834,6 +1182,80 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 
 	} // class Candidate
 
+	/** Task that runs the A* algorithm for a range of cells of a path matrix.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private class SolveAllTask extends RecursiveAction {
+
+		private static final long serialVersionUID = -5283645474211512932L;
+
+		private final transient AStarPathMatrix<GP, ST, PT> matrix;
+
+		private final int from;
+
+		private final int to;
+
+		/**
+		 * @param matrix the matrix to fill.
+		 * @param from the index of the first cell to fill.
+		 * @param to the index of the cell after the last cell to fill.
+		 */
+		SolveAllTask(AStarPathMatrix<GP, ST, PT> matrix, int from, int to) {
+			this.matrix = matrix;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.to - this.from > 1) {
+				final int middle = (this.from + this.to) >>> 1;
+				invokeAll(
+						new SolveAllTask(this.matrix, this.from, middle),
+						new SolveAllTask(this.matrix, middle, this.to));
+			} else {
+				final PT source = this.matrix.getSource(this.from);
+				final PT target = this.matrix.getTarget(this.from);
+				if (source.equals(target)) {
+					this.matrix.set(this.from, null, 0);
+				} else {
+					final GP path = solve(source, target);
+					this.matrix.set(this.from, path,
+							path == null ? Double.POSITIVE_INFINITY : computePathCost(path));
+				}
+			}
+		}
+
+	}
+
+	/** Best meeting point of the bidirectional A* algorithm.
+	 *
+	 * @param <PT> is the type of node in the graph
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private static class BidirectionalMeeting<PT> {
+
+		PT point;
+
+		double cost = Double.POSITIVE_INFINITY;
+
+		/** Construct an empty meeting.
+		 */
+		BidirectionalMeeting() {
+			//
+		}
+
+	}
+
 	/** Comparator used to sort the open list of A* algorithm.
 	 *
 	 * @param <PT> is the type of node in the graph
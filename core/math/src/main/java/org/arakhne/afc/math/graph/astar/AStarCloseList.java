@@ -0,0 +1,247 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.astar;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.graph.GraphPoint;
+import org.arakhne.afc.math.graph.GraphSegment;
+
+/** Close list of the {@link AStar A* algorithm}.
+ *
+ * <p>The close list is an array of candidates associated to an index
+ * of the candidates by graph point. Adding, searching and removing a candidate
+ * for a graph point are done in <code>O(1)</code>.
+ * A removal moves the last candidate of the array at the
+ * position of the removed candidate.
+ *
+ * <p>The entries that are removed from the list are kept for the next
+ * insertions, so that a list that is reused from one run to the next
+ * does not allocate them again.
+ *
+ * <p>The list view replies the candidates in their insertion order,
+ * except for the moves caused by the removals. The {@link #add(AStarNode)} and {@link #clear()}
+ * functions of the list change the close list itself; the other modifications are not
+ * supported. The {@link AStarListener listeners} receive the {@link #readOnlyView() unmodifiable view}
+ * of the list.
+ * Contrary to the close list of the previous versions of {@link AStar},
+ * the candidates are not sorted by graph point: a sorted list would
+ * cost <code>O(n)</code> for each insertion.
+ *
+ * @param <ST> is the type of edge in the graph
+ * @param <PT> is the type of node in the graph
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+final class AStarCloseList<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>>
+		extends AbstractList<AStarNode<ST, PT>> implements RandomAccess {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private final Map<PT, Entry<ST, PT>> index = new HashMap<>();
+
+	private Entry<ST, PT>[] elements = newArray(DEFAULT_CAPACITY);
+
+	private int size;
+
+	private Entry<ST, PT>[] freeEntries = newArray(DEFAULT_CAPACITY);
+
+	private int freeCount;
+
+	private List<AStarNode<ST, PT>> readOnlyView;
+
+	/** Construct a close list.
+	 */
+	AStarCloseList() {
+		//
+	}
+
+	@Pure
+	@Override
+	public AStarNode<ST, PT> get(int index) {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException();
+		}
+		return this.elements[index].node;
+	}
+
+	@Pure
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	/** Replies an unmodifiable view on this list, which is given to the {@link AStarListener listeners}.
+	 *
+	 * @return the unmodifiable view.
+	 */
+	List<AStarNode<ST, PT>> readOnlyView() {
+		if (this.readOnlyView == null) {
+			this.readOnlyView = Collections.unmodifiableList(this);
+		}
+		return this.readOnlyView;
+	}
+
+	@Override
+	public void clear() {
+		for (int i = 0; i < this.size; ++i) {
+			releaseEntry(this.elements[i]);
+			this.elements[i] = null;
+		}
+		this.size = 0;
+		this.index.clear();
+	}
+
+	/** Replies the candidate associated to the given point.
+	 *
+	 * @param point the point.
+	 * @return the candidate, or <code>null</code> if none.
+	 */
+	@Pure
+	public AStarNode<ST, PT> getNode(PT point) {
+		final Entry<ST, PT> entry = this.index.get(point);
+		return entry == null ? null : entry.node;
+	}
+
+	/** Add a candidate in the close list.
+	 *
+	 * <p>If a candidate is already inside the list for the same graph point,
+	 * it is replaced by the given candidate.
+	 *
+	 * @param node the candidate.
+	 * @return <code>true</code>.
+	 */
+	@Override
+	public boolean add(AStarNode<ST, PT> node) {
+		assert node != null;
+		final PT point = node.getGraphPoint();
+		final Entry<ST, PT> entry = this.index.get(point);
+		if (entry != null) {
+			entry.node = node;
+		} else {
+			if (this.size >= this.elements.length) {
+				this.elements = Arrays.copyOf(this.elements, this.elements.length * 2);
+			}
+			final Entry<ST, PT> newEntry = newEntry(node, this.size);
+			this.elements[this.size] = newEntry;
+			++this.size;
+			this.index.put(point, newEntry);
+		}
+		return true;
+	}
+
+	/** Remove the candidate associated to the given point.
+	 *
+	 * @param point the point.
+	 * @return the removed candidate, or <code>null</code> if none.
+	 */
+	public AStarNode<ST, PT> removeNode(PT point) {
+		final Entry<ST, PT> entry = this.index.remove(point);
+		if (entry == null) {
+			return null;
+		}
+		--this.size;
+		if (entry.position != this.size) {
+			final Entry<ST, PT> last = this.elements[this.size];
+			last.position = entry.position;
+			this.elements[entry.position] = last;
+		}
+		this.elements[this.size] = null;
+		final AStarNode<ST, PT> node = entry.node;
+		releaseEntry(entry);
+		return node;
+	}
+
+	/** Replies an entry for the given candidate, taken from the released entries if possible.
+	 *
+	 * @param node the candidate.
+	 * @param position the position of the entry in the array.
+	 * @return the entry.
+	 */
+	private Entry<ST, PT> newEntry(AStarNode<ST, PT> node, int position) {
+		if (this.freeCount > 0) {
+			--this.freeCount;
+			final Entry<ST, PT> entry = this.freeEntries[this.freeCount];
+			this.freeEntries[this.freeCount] = null;
+			entry.node = node;
+			entry.position = position;
+			return entry;
+		}
+		return new Entry<>(node, position);
+	}
+
+	/** Release the given entry, so that it may be reused by the next insertions.
+	 *
+	 * @param entry the entry that is no more in the list.
+	 */
+	private void releaseEntry(Entry<ST, PT> entry) {
+		entry.node = null;
+		if (this.freeCount >= this.freeEntries.length) {
+			this.freeEntries = Arrays.copyOf(this.freeEntries, this.freeEntries.length * 2);
+		}
+		this.freeEntries[this.freeCount] = entry;
+		++this.freeCount;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>> Entry<ST, PT>[] newArray(int size) {
+		return (Entry<ST, PT>[]) new Entry<?, ?>[size];
+	}
+
+	/** Entry in the close list.
+	 *
+	 * @param <ST> is the type of edge in the graph
+	 * @param <PT> is the type of node in the graph
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private static final class Entry<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>> {
+
+		AStarNode<ST, PT> node;
+
+		int position;
+
+		/**
+		 * @param node the candidate.
+		 * @param position the position in the array.
+		 */
+		Entry(AStarNode<ST, PT> node, int position) {
+			this.node = node;
+			this.position = position;
+		}
+
+	}
+
+}
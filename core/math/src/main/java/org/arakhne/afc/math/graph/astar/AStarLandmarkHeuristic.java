@@ -0,0 +1,387 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.astar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.graph.Graph;
+import org.arakhne.afc.math.graph.GraphPoint;
+import org.arakhne.afc.math.graph.GraphSegment;
+
+/** This class provides an heuristic evaluation based on landmarks
+ * and on the triangle inequality (ALT) for the {@link AStar A* algorithm}.
+ *
+ * <p>The costs of the shortest paths from a set of landmarks to
+ * all the points of the graph are computed once when this heuristic is created,
+ * and stored in primitive arrays. For a landmark {@code L}, the
+ * estimated cost from {@code p1} to {@code p2} is
+ * <code>d(L, p2) - d(L, p1)</code>; the heuristic replies the maximum
+ * of these values over all the landmarks. This evaluation never overestimates
+ * the cost of the shortest path between two points.
+ *
+ * <p>The costs from the landmarks are computed by following the segments
+ * replied by {@link GraphPoint#getConnectedSegments()}, with the costs
+ * replied by the given {@link AStarCostComputer}, or the lengths of the segments
+ * if no cost computer is given. If the graph is symmetric, i.e. each
+ * segment may be traversed in the two directions with the same cost,
+ * the estimation <code>d(L, p1) - d(L, p2)</code> is also considered.
+ *
+ * <p>The points that are not in the graph given to the constructor
+ * are evaluated to zero.
+ *
+ * @param <ST> is the type of edge in the graph
+ * @param <PT> is the type of node in the graph
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ * @see AStar
+ */
+public class AStarLandmarkHeuristic<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>>
+		implements AStarHeuristic<PT> {
+
+	private final Map<PT, Integer> pointIndexes;
+
+	private final List<PT> landmarks;
+
+	private final boolean symmetric;
+
+	/** Costs from the landmarks: <code>costs[landmark * pointCount + point]</code>.
+	 */
+	private final double[] costs;
+
+	private final int pointCount;
+
+	/** Construct the heuristic with the given landmarks.
+	 *
+	 * @param graph the graph.
+	 * @param landmarks the landmarks.
+	 * @param costComputer the computer of the segment costs, or <code>null</code> to use the
+	 *     segment lengths.
+	 * @param symmetric indicates if the segments may be traversed in the two directions with
+	 *     the same cost.
+	 */
+	public AStarLandmarkHeuristic(Graph<ST, PT> graph, List<? extends PT> landmarks,
+			AStarCostComputer<? super ST, ? super PT> costComputer, boolean symmetric) {
+		assert graph != null;
+		assert landmarks != null;
+		this.symmetric = symmetric;
+		final Adjacency<ST, PT> adjacency = new Adjacency<ST, PT>(graph, costComputer);
+		this.pointIndexes = adjacency.indexes;
+		this.pointCount = adjacency.points.size();
+		this.landmarks = Collections.unmodifiableList(new ArrayList<>(landmarks));
+		this.costs = new double[this.landmarks.size() * this.pointCount];
+		int i = 0;
+		for (final PT landmark : this.landmarks) {
+			final Integer index = this.pointIndexes.get(landmark);
+			if (index == null) {
+				throw new IllegalArgumentException();
+			}
+			adjacency.computeCosts(index.intValue(), this.costs, i * this.pointCount);
+			++i;
+		}
+	}
+
+	/** Construct the heuristic with landmarks that are selected by
+	 * the farthest point method.
+	 *
+	 * <p>The first landmark is the farthest point from the first point of the graph.
+	 * Each other landmark is the point for which the cost to the nearest
+	 * already-selected landmark is the greatest.
+	 *
+	 * @param graph the graph.
+	 * @param landmarkCount the number of landmarks to select.
+	 * @param costComputer the computer of the segment costs, or <code>null</code> to use the
+	 *     segment lengths.
+	 * @param symmetric indicates if the segments may be traversed in the two directions with
+	 *     the same cost.
+	 */
+	public AStarLandmarkHeuristic(Graph<ST, PT> graph, int landmarkCount,
+			AStarCostComputer<? super ST, ? super PT> costComputer, boolean symmetric) {
+		assert graph != null;
+		assert landmarkCount >= 0;
+		this.symmetric = symmetric;
+		final Adjacency<ST, PT> adjacency = new Adjacency<ST, PT>(graph, costComputer);
+		this.pointIndexes = adjacency.indexes;
+		this.pointCount = adjacency.points.size();
+		final int count = this.pointCount == 0 ? 0 : landmarkCount;
+		final List<PT> selected = new ArrayList<>(count);
+		this.costs = new double[count * this.pointCount];
+		if (count > 0) {
+			// The minimal cost from the already-selected landmarks to each point
+			final double[] nearest = new double[this.pointCount];
+			final double[] buffer = new double[this.pointCount];
+			adjacency.computeCosts(0, buffer, 0);
+			int candidate = farthest(buffer);
+			Arrays.fill(nearest, Double.POSITIVE_INFINITY);
+			for (int i = 0; i < count && candidate >= 0; ++i) {
+				selected.add(adjacency.points.get(candidate));
+				final int offset = i * this.pointCount;
+				adjacency.computeCosts(candidate, this.costs, offset);
+				for (int j = 0; j < this.pointCount; ++j) {
+					nearest[j] = Math.min(nearest[j], this.costs[offset + j]);
+				}
+				candidate = farthest(nearest);
+			}
+		}
+		this.landmarks = Collections.unmodifiableList(selected);
+	}
+
+	/** Replies the index of the point with the greatest finite and non-zero cost.
+	 *
+	 * @param values the costs.
+	 * @return the index of the point, or <code>-1</code> if none.
+	 */
+	private static int farthest(double[] values) {
+		int index = -1;
+		double max = 0;
+		for (int i = 0; i < values.length; ++i) {
+			final double value = values[i];
+			if (value > max && !Double.isInfinite(value)) {
+				max = value;
+				index = i;
+			}
+		}
+		return index;
+	}
+
+	/** Replies the landmarks.
+	 *
+	 * @return the landmarks.
+	 */
+	@Pure
+	public List<PT> getLandmarks() {
+		return this.landmarks;
+	}
+
+	/** Replies if the graph is assumed to be symmetric.
+	 *
+	 * @return <code>true</code> if the segments may be traversed in the two directions with
+	 *     the same cost.
+	 */
+	@Pure
+	public boolean isSymmetric() {
+		return this.symmetric;
+	}
+
+	/** Replies the cost of the shortest path from the given landmark to the given point.
+	 *
+	 * @param landmarkIndex the index of the landmark.
+	 * @param point the point.
+	 * @return the cost, {@link Double#POSITIVE_INFINITY} if the point cannot be reached,
+	 *     or {@link Double#NaN} if the point is not in the graph.
+	 */
+	@Pure
+	public double getLandmarkCost(int landmarkIndex, PT point) {
+		final Integer index = this.pointIndexes.get(point);
+		if (index == null) {
+			return Double.NaN;
+		}
+		return this.costs[landmarkIndex * this.pointCount + index.intValue()];
+	}
+
+	@Pure
+	@Override
+	public double evaluate(PT p1, PT p2) {
+		final Integer idx1 = this.pointIndexes.get(p1);
+		if (idx1 == null) {
+			return 0;
+		}
+		final Integer idx2 = this.pointIndexes.get(p2);
+		if (idx2 == null) {
+			return 0;
+		}
+		final int i1 = idx1.intValue();
+		final int i2 = idx2.intValue();
+		if (i1 == i2) {
+			return 0;
+		}
+		double max = 0;
+		for (int offset = 0; offset < this.costs.length; offset += this.pointCount) {
+			final double c1 = this.costs[offset + i1];
+			final double c2 = this.costs[offset + i2];
+			if (!Double.isInfinite(c1) && !Double.isInfinite(c2)) {
+				double delta = c2 - c1;
+				if (this.symmetric && delta < 0) {
+					delta = -delta;
+				}
+				if (delta > max) {
+					max = delta;
+				}
+			}
+		}
+		return max;
+	}
+
+	/** Compressed adjacency of the graph, used to compute the costs from the landmarks.
+	 *
+	 * @param <ST> is the type of edge in the graph
+	 * @param <PT> is the type of node in the graph
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private static final class Adjacency<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>> {
+
+		final Map<PT, Integer> indexes = new HashMap<>();
+
+		final List<PT> points = new ArrayList<>();
+
+		private final int[] offsets;
+
+		private final int[] targets;
+
+		private final double[] weights;
+
+		/**
+		 * @param graph the graph.
+		 * @param costComputer the computer of the segment costs.
+		 */
+		Adjacency(Graph<ST, PT> graph, AStarCostComputer<? super ST, ? super PT> costComputer) {
+			for (final ST segment : graph) {
+				index(segment.getBeginPoint());
+				index(segment.getEndPoint());
+			}
+			final int count = this.points.size();
+			this.offsets = new int[count + 1];
+			for (int i = 0; i < count; ++i) {
+				this.offsets[i + 1] = this.offsets[i] + this.points.get(i).getConnectedSegmentCount();
+			}
+			this.targets = new int[this.offsets[count]];
+			this.weights = new double[this.offsets[count]];
+			for (int i = 0; i < count; ++i) {
+				final PT point = this.points.get(i);
+				int edge = this.offsets[i];
+				for (final ST segment : point.getConnectedSegments()) {
+					final PT other = segment.getOtherSidePoint(point);
+					final Integer target = other == null ? null : this.indexes.get(other);
+					if (target != null && edge < this.offsets[i + 1]) {
+						this.targets[edge] = target.intValue();
+						this.weights[edge] = costComputer != null
+								? costComputer.computeCostFor(segment) : segment.getLength();
+						++edge;
+					}
+				}
+				// Unused slots are self loops
+				while (edge < this.offsets[i + 1]) {
+					this.targets[edge] = i;
+					++edge;
+				}
+			}
+		}
+
+		private void index(PT point) {
+			if (point != null && !this.indexes.containsKey(point)) {
+				this.indexes.put(point, Integer.valueOf(this.points.size()));
+				this.points.add(point);
+			}
+		}
+
+		/** Compute the costs of the shortest paths from the given point with the
+		 * Dijkstra algorithm.
+		 *
+		 * @param source the index of the source point.
+		 * @param costs the array to fill.
+		 * @param offset the index of the first cell to fill.
+		 */
+		void computeCosts(int source, double[] costs, int offset) {
+			final int count = this.points.size();
+			Arrays.fill(costs, offset, offset + count, Double.POSITIVE_INFINITY);
+			final boolean[] settled = new boolean[count];
+			// Binary heap with lazy deletion
+			int[] heapPoints = new int[Math.max(1, count)];
+			double[] heapKeys = new double[heapPoints.length];
+			costs[offset + source] = 0;
+			heapPoints[0] = source;
+			int size = 1;
+			while (size > 0) {
+				final int point = heapPoints[0];
+				final double key = heapKeys[0];
+				--size;
+				if (size > 0) {
+					siftDown(heapPoints, heapKeys, size, heapPoints[size], heapKeys[size]);
+				}
+				if (!settled[point]) {
+					settled[point] = true;
+					for (int edge = this.offsets[point]; edge < this.offsets[point + 1]; ++edge) {
+						final int target = this.targets[edge];
+						final double cost = key + this.weights[edge];
+						if (!settled[target] && cost < costs[offset + target]) {
+							costs[offset + target] = cost;
+							if (size >= heapPoints.length) {
+								heapPoints = Arrays.copyOf(heapPoints, size * 2);
+								heapKeys = Arrays.copyOf(heapKeys, size * 2);
+							}
+							siftUp(heapPoints, heapKeys, size, target, cost);
+							++size;
+						}
+					}
+				}
+			}
+		}
+
+		private static void siftUp(int[] points, double[] keys, int position, int point, double key) {
+			int pos = position;
+			while (pos > 0) {
+				final int parent = (pos - 1) >>> 1;
+				if (key >= keys[parent]) {
+					break;
+				}
+				points[pos] = points[parent];
+				keys[pos] = keys[parent];
+				pos = parent;
+			}
+			points[pos] = point;
+			keys[pos] = key;
+		}
+
+		private static void siftDown(int[] points, double[] keys, int size, int point, double key) {
+			final int half = size >>> 1;
+			int pos = 0;
+			while (pos < half) {
+				int child = (pos << 1) + 1;
+				if (child + 1 < size && keys[child + 1] < keys[child]) {
+					++child;
+				}
+				if (key <= keys[child]) {
+					break;
+				}
+				points[pos] = points[child];
+				keys[pos] = keys[child];
+				pos = child;
+			}
+			points[pos] = point;
+			keys[pos] = key;
+		}
+
+	}
+
+}
@@ -54,7 +54,7 @@ public interface AStarListener<ST extends GraphSegment<ST, PT>, PT extends Graph
 	/** Invoked when a node is removed from the open list.
 	 *
 	 * @param node is the node just removed from the open list.
-	 * @param openList is the current state of the open list.
+	 * @param openList is the current state of the open list, as an unmodifiable view.
 	 */
 	default void nodeConsumed(AStarNode<ST, PT> node, List<AStarNode<ST, PT>> openList) {
 		//
@@ -63,7 +63,7 @@ public interface AStarListener<ST extends GraphSegment<ST, PT>, PT extends Graph
 	/** Invoked when a node is put in the open list.
 	 *
 	 * @param node is the node just added into the open list.
-	 * @param openList is the current state of the open list.
+	 * @param openList is the current state of the open list, as an unmodifiable view.
 	 */
 	default void nodeOpened(AStarNode<ST, PT> node, List<AStarNode<ST, PT>> openList) {
 		//
@@ -72,22 +72,30 @@ public interface AStarListener<ST extends GraphSegment<ST, PT>, PT extends Graph
 	/** Invoked when the position of a node in the open list has changed.
 	 *
 	 * @param node is the node moved into the open list.
-	 * @param openList is the current state of the open list.
+	 * @param openList is the current state of the open list, as an unmodifiable view.
 	 */
 	default void nodeReopened(AStarNode<ST, PT> node, List<AStarNode<ST, PT>> openList) {
 		//
 	}
 
 	/** Invoked when a node is put in the close list.
+	 *
+	 * <p>The close list is not sorted: the nodes are replied in the order they were closed,
+	 * except when a node is reopened.
+	 * The list is reused by the next runs of the algorithm; it must not be kept after the call.
 	 *
 	 * @param node is the node just added into the close list.
-	 * @param closeList is the current state of the close list.
+	 * @param closeList is the current state of the close list, as an unmodifiable view.
 	 */
 	default void nodeClosed(AStarNode<ST, PT> node, List<AStarNode<ST, PT>> closeList) {
 		//
 	}
 
 	/** Invoked when the A* algorithm has finished.
+	 *
+	 * <p>The close list is not sorted: the nodes are replied in the order they were closed,
+	 * except when a node is reopened.
+	 * The list is an unmodifiable copy of the close list that may be kept by the listener.
 	 *
 	 * @param closeList is the close list.
 	 */
@@ -0,0 +1,318 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.astar;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.graph.GraphPoint;
+import org.arakhne.afc.math.graph.GraphSegment;
+
+/** Open list of the {@link AStar A* algorithm}.
+ *
+ * <p>The open list is a binary heap ordered by the given comparator,
+ * associated to an index of the heap entries by graph point.
+ * Polling the best candidate, adding a candidate and decreasing the
+ * cost of a candidate are done in <code>O(log n)</code>; searching
+ * for the candidate associated to a graph point is done in <code>O(1)</code>.
+ *
+ * <p>The heap entries that are removed from the list are kept for the next
+ * insertions, so that a list that is reused from one run to the next
+ * does not allocate them again.
+ *
+ * <p>The list view replies the candidates in the heap order, not
+ * in the order of the comparator. The {@link #add(AStarNode)} and {@link #clear()}
+ * functions of the list change the open list itself; the other modifications are not
+ * supported. The {@link AStarListener listeners} receive the {@link #readOnlyView() unmodifiable view}
+ * of the list.
+ *
+ * @param <ST> is the type of edge in the graph
+ * @param <PT> is the type of node in the graph
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+final class AStarOpenList<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>>
+		extends AbstractList<AStarNode<ST, PT>> implements RandomAccess {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private final Comparator<? super AStarNode<ST, PT>> comparator;
+
+	private final Map<PT, Entry<ST, PT>> index = new HashMap<>();
+
+	private Entry<ST, PT>[] heap = newArray(DEFAULT_CAPACITY);
+
+	private int size;
+
+	private Entry<ST, PT>[] freeEntries = newArray(DEFAULT_CAPACITY);
+
+	private int freeCount;
+
+	private List<AStarNode<ST, PT>> readOnlyView;
+
+	/** Construct an open list.
+	 *
+	 * @param comparator the comparator of the candidates.
+	 */
+	AStarOpenList(Comparator<? super AStarNode<ST, PT>> comparator) {
+		assert comparator != null;
+		this.comparator = comparator;
+	}
+
+	@Pure
+	@Override
+	public AStarNode<ST, PT> get(int index) {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException();
+		}
+		return this.heap[index].node;
+	}
+
+	@Pure
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	/** Replies an unmodifiable view on this list, which is given to the {@link AStarListener listeners}.
+	 *
+	 * @return the unmodifiable view.
+	 */
+	List<AStarNode<ST, PT>> readOnlyView() {
+		if (this.readOnlyView == null) {
+			this.readOnlyView = Collections.unmodifiableList(this);
+		}
+		return this.readOnlyView;
+	}
+
+	@Override
+	public void clear() {
+		for (int i = 0; i < this.size; ++i) {
+			releaseEntry(this.heap[i]);
+			this.heap[i] = null;
+		}
+		this.size = 0;
+		this.index.clear();
+	}
+
+	/** Replies if a candidate for the given point is inside the open list.
+	 *
+	 * @param point the point.
+	 * @return <code>true</code> if a candidate exists for the point.
+	 */
+	@Pure
+	public boolean containsPoint(PT point) {
+		return this.index.containsKey(point);
+	}
+
+	/** Replies the candidate associated to the given point.
+	 *
+	 * @param point the point.
+	 * @return the candidate, or <code>null</code> if none.
+	 */
+	@Pure
+	public AStarNode<ST, PT> getNode(PT point) {
+		final Entry<ST, PT> entry = this.index.get(point);
+		return entry == null ? null : entry.node;
+	}
+
+	/** Add a candidate in the open list.
+	 *
+	 * <p>It is assumed that no candidate is already in the open list for the
+	 * same graph point.
+	 *
+	 * @param node the candidate.
+	 * @return <code>true</code>.
+	 */
+	@Override
+	public boolean add(AStarNode<ST, PT> node) {
+		assert node != null;
+		final Entry<ST, PT> entry = newEntry(node, this.size);
+		final Entry<ST, PT> old = this.index.put(node.getGraphPoint(), entry);
+		assert old == null;
+		if (this.size >= this.heap.length) {
+			this.heap = Arrays.copyOf(this.heap, this.heap.length * 2);
+		}
+		this.heap[this.size] = entry;
+		++this.size;
+		siftUp(entry.position);
+		return true;
+	}
+
+	/** Replace the candidate associated to the graph point of the given
+	 * candidate, and restore the heap order.
+	 *
+	 * @param node the new candidate.
+	 * @return <code>true</code> if the candidate was replaced, <code>false</code>
+	 *     if no candidate exists in the open list for the graph point.
+	 */
+	public boolean update(AStarNode<ST, PT> node) {
+		assert node != null;
+		final Entry<ST, PT> entry = this.index.get(node.getGraphPoint());
+		if (entry == null) {
+			return false;
+		}
+		entry.node = node;
+		if (!siftUp(entry.position)) {
+			siftDown(entry.position);
+		}
+		return true;
+	}
+
+	/** Remove and reply the best candidate in the open list.
+	 *
+	 * @return the best candidate, or <code>null</code> if the list is empty.
+	 */
+	public AStarNode<ST, PT> poll() {
+		if (this.size == 0) {
+			return null;
+		}
+		final Entry<ST, PT> first = this.heap[0];
+		--this.size;
+		final Entry<ST, PT> last = this.heap[this.size];
+		this.heap[this.size] = null;
+		if (this.size > 0) {
+			last.position = 0;
+			this.heap[0] = last;
+			siftDown(0);
+		}
+		final AStarNode<ST, PT> node = first.node;
+		this.index.remove(node.getGraphPoint());
+		releaseEntry(first);
+		return node;
+	}
+
+	/** Replies an entry for the given candidate, taken from the released entries if possible.
+	 *
+	 * @param node the candidate.
+	 * @param position the position of the entry in the heap.
+	 * @return the entry.
+	 */
+	private Entry<ST, PT> newEntry(AStarNode<ST, PT> node, int position) {
+		if (this.freeCount > 0) {
+			--this.freeCount;
+			final Entry<ST, PT> entry = this.freeEntries[this.freeCount];
+			this.freeEntries[this.freeCount] = null;
+			entry.node = node;
+			entry.position = position;
+			return entry;
+		}
+		return new Entry<>(node, position);
+	}
+
+	/** Release the given entry, so that it may be reused by the next insertions.
+	 *
+	 * @param entry the entry that is no more in the list.
+	 */
+	private void releaseEntry(Entry<ST, PT> entry) {
+		entry.node = null;
+		if (this.freeCount >= this.freeEntries.length) {
+			this.freeEntries = Arrays.copyOf(this.freeEntries, this.freeEntries.length * 2);
+		}
+		this.freeEntries[this.freeCount] = entry;
+		++this.freeCount;
+	}
+
+	private boolean siftUp(int position) {
+		final Entry<ST, PT> entry = this.heap[position];
+		int pos = position;
+		while (pos > 0) {
+			final int parentPos = (pos - 1) >>> 1;
+			final Entry<ST, PT> parent = this.heap[parentPos];
+			if (this.comparator.compare(entry.node, parent.node) >= 0) {
+				break;
+			}
+			parent.position = pos;
+			this.heap[pos] = parent;
+			pos = parentPos;
+		}
+		entry.position = pos;
+		this.heap[pos] = entry;
+		return pos != position;
+	}
+
+	private void siftDown(int position) {
+		final Entry<ST, PT> entry = this.heap[position];
+		final int half = this.size >>> 1;
+		int pos = position;
+		while (pos < half) {
+			int childPos = (pos << 1) + 1;
+			Entry<ST, PT> child = this.heap[childPos];
+			final int rightPos = childPos + 1;
+			if (rightPos < this.size && this.comparator.compare(child.node, this.heap[rightPos].node) > 0) {
+				childPos = rightPos;
+				child = this.heap[childPos];
+			}
+			if (this.comparator.compare(entry.node, child.node) <= 0) {
+				break;
+			}
+			child.position = pos;
+			this.heap[pos] = child;
+			pos = childPos;
+		}
+		entry.position = pos;
+		this.heap[pos] = entry;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>> Entry<ST, PT>[] newArray(int size) {
+		return (Entry<ST, PT>[]) new Entry<?, ?>[size];
+	}
+
+	/** Entry in the heap.
+	 *
+	 * @param <ST> is the type of edge in the graph
+	 * @param <PT> is the type of node in the graph
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private static final class Entry<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>> {
+
+		AStarNode<ST, PT> node;
+
+		int position;
+
+		/**
+		 * @param node the candidate.
+		 * @param position the position in the heap.
+		 */
+		Entry(AStarNode<ST, PT> node, int position) {
+			this.node = node;
+			this.position = position;
+		}
+
+	}
+
+}
@@ -0,0 +1,169 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.astar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.graph.GraphPath;
+import org.arakhne.afc.math.graph.GraphPoint;
+import org.arakhne.afc.math.graph.GraphSegment;
+
+/** Matrix of the shortest paths between source and target points, computed by
+ * {@link AStar#solveAll(List, List)}.
+ *
+ * <p>The cell at row {@code i} and column {@code j} contains the path from the
+ * {@code i}-th source to the {@code j}-th target, and its cost.
+ *
+ * @param <GP> is the type of the graph path.
+ * @param <ST> is the type of edge in the graph
+ * @param <PT> is the type of node in the graph
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ * @see AStar
+ */
+public class AStarPathMatrix<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST, PT>,
+		PT extends GraphPoint<PT, ST>> {
+
+	private final List<PT> sources;
+
+	private final List<PT> targets;
+
+	private final Object[] paths;
+
+	private final double[] costs;
+
+	/** Construct an empty matrix.
+	 *
+	 * @param sources the source points.
+	 * @param targets the target points.
+	 * @throws ArithmeticException if the number of cells cannot be represented by an <code>int</code>.
+	 */
+	AStarPathMatrix(List<? extends PT> sources, List<? extends PT> targets) {
+		assert sources != null;
+		assert targets != null;
+		this.sources = Collections.unmodifiableList(new ArrayList<>(sources));
+		this.targets = Collections.unmodifiableList(new ArrayList<>(targets));
+		final int size = Math.multiplyExact(this.sources.size(), this.targets.size());
+		this.paths = new Object[size];
+		this.costs = new double[size];
+		Arrays.fill(this.costs, Double.POSITIVE_INFINITY);
+	}
+
+	/** Replies the number of cells in the matrix.
+	 *
+	 * @return the number of cells.
+	 */
+	@Pure
+	int size() {
+		return this.costs.length;
+	}
+
+	/** Replies the source point of the given cell.
+	 *
+	 * @param cell the index of the cell.
+	 * @return the source point.
+	 */
+	@Pure
+	PT getSource(int cell) {
+		return this.sources.get(cell / this.targets.size());
+	}
+
+	/** Replies the target point of the given cell.
+	 *
+	 * @param cell the index of the cell.
+	 * @return the target point.
+	 */
+	@Pure
+	PT getTarget(int cell) {
+		return this.targets.get(cell % this.targets.size());
+	}
+
+	/** Set the content of the given cell.
+	 *
+	 * @param cell the index of the cell.
+	 * @param path the path, or <code>null</code> if none.
+	 * @param cost the cost of the path.
+	 */
+	void set(int cell, GP path, double cost) {
+		this.paths[cell] = path;
+		this.costs[cell] = cost;
+	}
+
+	/** Replies the source points.
+	 *
+	 * @return the source points.
+	 */
+	@Pure
+	public List<PT> getSources() {
+		return this.sources;
+	}
+
+	/** Replies the target points.
+	 *
+	 * @return the target points.
+	 */
+	@Pure
+	public List<PT> getTargets() {
+		return this.targets;
+	}
+
+	/** Replies the shortest path from the given source to the given target.
+	 *
+	 * @param sourceIndex the index of the source point.
+	 * @param targetIndex the index of the target point.
+	 * @return the path, or <code>null</code> if no path was found, or if
+	 *     the source and the target are the same point.
+	 */
+	@Pure
+	@SuppressWarnings("unchecked")
+	public GP getPath(int sourceIndex, int targetIndex) {
+		return (GP) this.paths[index(sourceIndex, targetIndex)];
+	}
+
+	/** Replies the cost of the shortest path from the given source to the given target.
+	 *
+	 * @param sourceIndex the index of the source point.
+	 * @param targetIndex the index of the target point.
+	 * @return the cost of the path; zero if the source and the target are the same point;
+	 *     or {@link Double#POSITIVE_INFINITY} if no path was found.
+	 */
+	@Pure
+	public double getCost(int sourceIndex, int targetIndex) {
+		return this.costs[index(sourceIndex, targetIndex)];
+	}
+
+	private int index(int sourceIndex, int targetIndex) {
+		if (sourceIndex < 0 || sourceIndex >= this.sources.size()
+				|| targetIndex < 0 || targetIndex >= this.targets.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		return sourceIndex * this.targets.size() + targetIndex;
+	}
+
+}
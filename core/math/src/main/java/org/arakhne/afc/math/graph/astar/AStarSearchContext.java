@@ -0,0 +1,101 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.astar;
+
+import org.arakhne.afc.math.graph.GraphPoint;
+import org.arakhne.afc.math.graph.GraphSegment;
+
+/** Buffers used by one run of the {@link AStar A* algorithm}.
+ *
+ * <p>A search context is confined to a thread: the A* algorithm keeps one
+ * context per thread and reuses its lists from one run to the next, so that
+ * no list is allocated for each run. The lists keep their capacity and their
+ * heap entries when they are cleared, but they do not reference the nodes of
+ * the last run, so that an idle context does not retain the searched graph.
+ *
+ * @param <ST> is the type of edge in the graph
+ * @param <PT> is the type of node in the graph
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+final class AStarSearchContext<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>> {
+
+	/** Open list of the forward search.
+	 */
+	final AStarOpenList<ST, PT> forwardOpenList = new AStarOpenList<>(new AStar.OpenComparator<ST, PT>());
+
+	/** Close list of the forward search.
+	 */
+	final AStarCloseList<ST, PT> forwardCloseList = new AStarCloseList<>();
+
+	/** Open list of the backward search.
+	 */
+	final AStarOpenList<ST, PT> backwardOpenList = new AStarOpenList<>(new AStar.OpenComparator<ST, PT>());
+
+	/** Close list of the backward search.
+	 */
+	final AStarCloseList<ST, PT> backwardCloseList = new AStarCloseList<>();
+
+	private boolean inUse;
+
+	/** Construct an empty context.
+	 */
+	AStarSearchContext() {
+		//
+	}
+
+	/** Replies if this context is used by a run of the A* algorithm.
+	 *
+	 * @return <code>true</code> if the context is used.
+	 */
+	boolean isInUse() {
+		return this.inUse;
+	}
+
+	/** Mark this context as used.
+	 *
+	 * <p>The lists are empty, because they are cleared by {@link #release()}.
+	 */
+	void acquire() {
+		assert !this.inUse;
+		assert this.forwardOpenList.isEmpty() && this.forwardCloseList.isEmpty();
+		assert this.backwardOpenList.isEmpty() && this.backwardCloseList.isEmpty();
+		this.inUse = true;
+	}
+
+	/** Clear the lists and mark this context as unused.
+	 *
+	 * <p>The lists must not be used after this call: the nodes of the last
+	 * run are released, so that the context does not retain them while
+	 * it is kept by its thread.
+	 */
+	void release() {
+		this.forwardOpenList.clear();
+		this.forwardCloseList.clear();
+		this.backwardOpenList.clear();
+		this.backwardCloseList.clear();
+		this.inUse = false;
+	}
+
+}
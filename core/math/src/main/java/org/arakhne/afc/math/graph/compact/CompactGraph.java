@@ -0,0 +1,475 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.compact;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.graph.DepthGraphIterator;
+import org.arakhne.afc.math.graph.Graph;
+import org.arakhne.afc.math.graph.GraphIterator;
+import org.arakhne.afc.math.graph.GraphPoint;
+import org.arakhne.afc.math.graph.GraphSegment;
+import org.arakhne.afc.math.graph.IndexedGraph;
+
+/** This class provides an immutable and compact implementation of a graph.
+ *
+ * <p>The graph is stored in a compressed sparse row (CSR) layout: the points and the
+ * segments are identified by their indexes, and the connections of the point {@code p}
+ * are the entries from {@code offsets[p]} (inclusive) to {@code offsets[p + 1]} (exclusive)
+ * of the connection arrays. Each connection is described by the connected segment and the point
+ * at the other side of the segment.
+ *
+ * <p>The points and the segments are {@link CompactGraphPoint flyweight views} on the arrays.
+ * The graph does not store them: a new view is created each time it is required. Two views
+ * are equal when they have the same graph and the same index.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+public class CompactGraph implements IndexedGraph<CompactGraphSegment, CompactGraphPoint> {
+
+	private final int[] segmentBegins;
+
+	private final int[] segmentEnds;
+
+	private final double[] segmentLengths;
+
+	private final int[] offsets;
+
+	/** Connected segments. The index of the segment is complemented (~)
+	 * when the segment is connected by its end point.
+	 */
+	private final int[] connectionSegments;
+
+	private final int[] connectionTargets;
+
+	private final int pointCount;
+
+	/** Construct a graph from the given arrays.
+	 *
+	 * <p>The segment {@code i} goes from the point {@code begins[i]} to the
+	 * point {@code ends[i]}, and its length is {@code lengths[i]}. The arrays
+	 * are copied.
+	 *
+	 * @param pointCount the number of points in the graph.
+	 * @param begins the indexes of the begin points of the segments.
+	 * @param ends the indexes of the end points of the segments.
+	 * @param lengths the lengths of the segments.
+	 * @throws IllegalArgumentException if the arrays have not the same size, or
+	 *     if a point index is invalid.
+	 */
+	public CompactGraph(int pointCount, int[] begins, int[] ends, double[] lengths) {
+		this(new Builder(pointCount, begins.clone(), ends.clone(), lengths.clone()));
+	}
+
+	/** Construct a compact copy of the given graph.
+	 *
+	 * @param <ST> the type of the segments in the source graph.
+	 * @param <PT> the type of the points in the source graph.
+	 * @param graph the graph to copy.
+	 */
+	public <ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>> CompactGraph(Graph<ST, PT> graph) {
+		this(new Builder(graph, null, null));
+	}
+
+	/** Construct a compact copy of the given graph.
+	 *
+	 * <p>The points and the segments of the source graph are added to the given lists
+	 * in the order of their indexes in the new graph, in order to map the elements
+	 * of the two graphs.
+	 *
+	 * @param <ST> the type of the segments in the source graph.
+	 * @param <PT> the type of the points in the source graph.
+	 * @param graph the graph to copy.
+	 * @param points the list to fill with the points of the source graph, or <code>null</code>.
+	 * @param segments the list to fill with the segments of the source graph, or <code>null</code>.
+	 */
+	public <ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>> CompactGraph(Graph<ST, PT> graph,
+			List<? super PT> points, List<? super ST> segments) {
+		this(new Builder(graph, points, segments));
+	}
+
+	/** Construct a graph from the arrays of the given builder.
+	 *
+	 * <p>The arrays are not copied: the graph takes their ownership.
+	 *
+	 * @param builder the builder.
+	 * @throws IllegalArgumentException if the arrays have not the same size, or
+	 *     if a point index is invalid.
+	 */
+	private CompactGraph(Builder builder) {
+		final int pointCount = builder.pointCount;
+		if (builder.begins.length != builder.ends.length || builder.begins.length != builder.lengths.length
+				|| pointCount < 0) {
+			throw new IllegalArgumentException();
+		}
+		this.segmentBegins = builder.begins;
+		this.segmentEnds = builder.ends;
+		this.segmentLengths = builder.lengths;
+
+		final int segmentCount = this.segmentBegins.length;
+		this.offsets = new int[pointCount + 1];
+		for (int i = 0; i < segmentCount; ++i) {
+			final int begin = this.segmentBegins[i];
+			final int end = this.segmentEnds[i];
+			if (begin < 0 || begin >= pointCount || end < 0 || end >= pointCount) {
+				throw new IllegalArgumentException();
+			}
+			++this.offsets[begin + 1];
+			++this.offsets[end + 1];
+		}
+		for (int i = 0; i < pointCount; ++i) {
+			this.offsets[i + 1] += this.offsets[i];
+		}
+
+		final int connectionCount = this.offsets[pointCount];
+		this.connectionSegments = new int[connectionCount];
+		this.connectionTargets = new int[connectionCount];
+		final int[] cursors = Arrays.copyOf(this.offsets, pointCount);
+		for (int i = 0; i < segmentCount; ++i) {
+			final int begin = this.segmentBegins[i];
+			final int end = this.segmentEnds[i];
+			int k = cursors[begin]++;
+			this.connectionSegments[k] = i;
+			this.connectionTargets[k] = end;
+			k = cursors[end]++;
+			this.connectionSegments[k] = ~i;
+			this.connectionTargets[k] = begin;
+		}
+
+		this.pointCount = pointCount;
+	}
+
+	@Pure
+	@Override
+	public Iterator<CompactGraphSegment> iterator() {
+		return new SegmentIterator(0, this.segmentBegins.length);
+	}
+
+	@Pure
+	@Override
+	public GraphIterator<CompactGraphSegment, CompactGraphPoint> iterator(
+			CompactGraphSegment starting_segment, CompactGraphPoint starting_point,
+			boolean allowManyReplies, boolean assumeOrientedSegments) {
+		if (starting_segment.getGraph() != this
+				|| starting_point.getGraph() != this) {
+			throw new IllegalArgumentException();
+		}
+		return new GraphIterator<>(
+				this,
+				starting_segment,
+				starting_point,
+				allowManyReplies,
+				assumeOrientedSegments,
+				0);
+	}
+
+	@Pure
+	@Override
+	public GraphIterator<CompactGraphSegment, CompactGraphPoint> depthIterator(
+			CompactGraphSegment startingSegment, double depth,
+			double position_from_starting_point, CompactGraphPoint startingPoint,
+			boolean allowManyReplies, boolean assumeOrientedSegments) {
+		if (startingSegment.getGraph() != this
+				|| startingPoint.getGraph() != this) {
+			throw new IllegalArgumentException();
+		}
+		return new DepthGraphIterator<>(
+				this,
+				depth,
+				startingSegment,
+				startingPoint,
+				allowManyReplies,
+				assumeOrientedSegments);
+	}
+
+	@Pure
+	@Override
+	public int getSegmentCount() {
+		return this.segmentBegins.length;
+	}
+
+	@Pure
+	@Override
+	public int getPointCount() {
+		return this.pointCount;
+	}
+
+	@Pure
+	@Override
+	public boolean isEmpty() {
+		return this.segmentBegins.length == 0;
+	}
+
+	@Pure
+	@Override
+	public boolean contains(Object obj) {
+		return obj instanceof CompactGraphSegment && ((CompactGraphSegment) obj).getGraph() == this;
+	}
+
+	@Pure
+	@Override
+	public int getSegmentIndex(CompactGraphSegment segment) {
+		if (segment != null && segment.getGraph() == this) {
+			return segment.getIndex();
+		}
+		return -1;
+	}
+
+	/** Replies the point at the given index.
+	 *
+	 * <p>A new view is replied at each call.
+	 *
+	 * @param index the index of the point.
+	 * @return the point.
+	 */
+	@Pure
+	public CompactGraphPoint getPointAt(int index) {
+		if (index < 0 || index >= this.pointCount) {
+			throw new IndexOutOfBoundsException();
+		}
+		return new CompactGraphPoint(this, index);
+	}
+
+	/** Replies the segment at the given index.
+	 *
+	 * <p>A new view is replied at each call.
+	 *
+	 * @param index the index of the segment.
+	 * @return the segment.
+	 */
+	@Pure
+	public CompactGraphSegment getSegmentAt(int index) {
+		if (index < 0 || index >= this.segmentBegins.length) {
+			throw new IndexOutOfBoundsException();
+		}
+		return new CompactGraphSegment(this, index);
+	}
+
+	/** Replies the index of the begin point of the given segment.
+	 *
+	 * @param segment the index of the segment.
+	 * @return the index of the begin point.
+	 */
+	@Pure
+	public int getBeginPointIndex(int segment) {
+		return this.segmentBegins[segment];
+	}
+
+	/** Replies the index of the end point of the given segment.
+	 *
+	 * @param segment the index of the segment.
+	 * @return the index of the end point.
+	 */
+	@Pure
+	public int getEndPointIndex(int segment) {
+		return this.segmentEnds[segment];
+	}
+
+	/** Replies the length of the given segment.
+	 *
+	 * @param segment the index of the segment.
+	 * @return the length of the segment.
+	 */
+	@Pure
+	public double getSegmentLength(int segment) {
+		return this.segmentLengths[segment];
+	}
+
+	/** Replies the index of the first connection of the given point.
+	 *
+	 * <p>The connections of the point {@code p} are the indexes from
+	 * {@code getFirstConnection(p)} (inclusive) to {@code getFirstConnection(p + 1)} (exclusive).
+	 *
+	 * @param point the index of the point.
+	 * @return the index of the first connection.
+	 */
+	@Pure
+	public int getFirstConnection(int point) {
+		return this.offsets[point];
+	}
+
+	/** Replies the index of the segment of the given connection.
+	 *
+	 * @param connection the index of the connection.
+	 * @return the index of the segment.
+	 */
+	@Pure
+	public int getConnectionSegment(int connection) {
+		final int segment = this.connectionSegments[connection];
+		return segment < 0 ? ~segment : segment;
+	}
+
+	/** Replies if the segment of the given connection is connected by its begin point.
+	 *
+	 * @param connection the index of the connection.
+	 * @return <code>true</code> if the segment is connected by its begin point;
+	 *     <code>false</code> if it is connected by its end point.
+	 */
+	@Pure
+	public boolean isConnectionSegmentStartConnected(int connection) {
+		return this.connectionSegments[connection] >= 0;
+	}
+
+	/** Replies the index of the point at the other side of the segment of the given connection.
+	 *
+	 * @param connection the index of the connection.
+	 * @return the index of the point.
+	 */
+	@Pure
+	public int getConnectionTarget(int connection) {
+		return this.connectionTargets[connection];
+	}
+
+	/** Replies the length of the segment of the given connection.
+	 *
+	 * @param connection the index of the connection.
+	 * @return the length of the segment.
+	 */
+	@Pure
+	public double getConnectionWeight(int connection) {
+		return this.segmentLengths[getConnectionSegment(connection)];
+	}
+
+	/** Iterator on a range of segments.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private class SegmentIterator implements Iterator<CompactGraphSegment> {
+
+		private int index;
+
+		private final int end;
+
+		/**
+		 * @param start the index of the first segment.
+		 * @param end the index after the last segment.
+		 */
+		SegmentIterator(int start, int end) {
+			this.index = start;
+			this.end = end;
+		}
+
+		@Pure
+		@Override
+		public boolean hasNext() {
+			return this.index < this.end;
+		}
+
+		@Override
+		public CompactGraphSegment next() {
+			if (this.index >= this.end) {
+				throw new NoSuchElementException();
+			}
+			return getSegmentAt(this.index++);
+		}
+
+	}
+
+	/** Arrays of a compact graph, which are given to the graph without being copied.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private static class Builder {
+
+		final int[] begins;
+
+		final int[] ends;
+
+		final double[] lengths;
+
+		int pointCount;
+
+		/**
+		 * @param pointCount the number of points.
+		 * @param begins the indexes of the begin points of the segments.
+		 * @param ends the indexes of the end points of the segments.
+		 * @param lengths the lengths of the segments.
+		 */
+		Builder(int pointCount, int[] begins, int[] ends, double[] lengths) {
+			this.pointCount = pointCount;
+			this.begins = begins;
+			this.ends = ends;
+			this.lengths = lengths;
+		}
+
+		/** Extract the arrays of the compact graph from a graph.
+		 *
+		 * @param <ST> the type of the segments in the source graph.
+		 * @param <PT> the type of the points in the source graph.
+		 * @param graph the graph to copy.
+		 * @param points the list to fill with the points, or <code>null</code>.
+		 * @param segments the list to fill with the segments, or <code>null</code>.
+		 */
+		<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>> Builder(Graph<ST, PT> graph,
+				List<? super PT> points, List<? super ST> segments) {
+			final int segmentCount = graph.getSegmentCount();
+			this.begins = new int[segmentCount];
+			this.ends = new int[segmentCount];
+			this.lengths = new double[segmentCount];
+			final Map<PT, Integer> ids = new HashMap<>();
+			int i = 0;
+			for (final ST segment : graph) {
+				this.begins[i] = id(ids, segment.getBeginPoint(), points);
+				this.ends[i] = id(ids, segment.getEndPoint(), points);
+				this.lengths[i] = segment.getLength();
+				if (segments != null) {
+					segments.add(segment);
+				}
+				++i;
+			}
+			assert i == segmentCount;
+		}
+
+		private <PT> int id(Map<PT, Integer> ids, PT point, List<? super PT> points) {
+			final Integer id = ids.get(point);
+			if (id != null) {
+				return id.intValue();
+			}
+			final int newId = this.pointCount++;
+			ids.put(point, newId);
+			if (points != null) {
+				points.add(point);
+			}
+			return newId;
+		}
+
+	}
+
+}
@@ -0,0 +1,314 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.compact;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.graph.GraphPoint;
+
+/** This class provides a view on a point of a {@link CompactGraph}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+public final class CompactGraphPoint implements GraphPoint<CompactGraphPoint, CompactGraphSegment> {
+
+	private final CompactGraph graph;
+
+	private final int index;
+
+	/**
+	 * @param graph is the graph in which the point is.
+	 * @param index is the index of the point in the graph.
+	 */
+	CompactGraphPoint(CompactGraph graph, int index) {
+		this.graph = graph;
+		this.index = index;
+	}
+
+	/** Replies the graph in which this point is.
+	 *
+	 * @return the graph in which this point is.
+	 */
+	@Pure
+	public CompactGraph getGraph() {
+		return this.graph;
+	}
+
+	/** Replies the index of this point in its graph.
+	 *
+	 * @return the index of this point.
+	 */
+	@Pure
+	public int getIndex() {
+		return this.index;
+	}
+
+	@Pure
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (obj instanceof CompactGraphPoint) {
+			final CompactGraphPoint point = (CompactGraphPoint) obj;
+			return point.graph == this.graph && point.index == this.index;
+		}
+		return false;
+	}
+
+	@Pure
+	@Override
+	public int hashCode() {
+		return this.index;
+	}
+
+	@Pure
+	@Override
+	public String toString() {
+		return "P" + this.index; //$NON-NLS-1$
+	}
+
+	@Pure
+	@Override
+	public int compareTo(GraphPoint<CompactGraphPoint, CompactGraphSegment> pt) {
+		if (pt == null) {
+			return Integer.MAX_VALUE;
+		}
+		if (pt instanceof CompactGraphPoint) {
+			final CompactGraphPoint point = (CompactGraphPoint) pt;
+			if (point.graph != this.graph) {
+				final int cmp = Integer.compare(System.identityHashCode(this.graph), System.identityHashCode(point.graph));
+				if (cmp != 0) {
+					return cmp;
+				}
+			}
+			return Integer.compare(this.index, point.index);
+		}
+		return Integer.compare(hashCode(), pt.hashCode());
+	}
+
+	@Pure
+	@Override
+	public int getConnectedSegmentCount() {
+		return this.graph.getFirstConnection(this.index + 1) - this.graph.getFirstConnection(this.index);
+	}
+
+	@Pure
+	@Override
+	public Iterable<CompactGraphSegment> getConnectedSegments() {
+		return new ConnectionIterable<>(this.graph.getFirstConnection(this.index), false);
+	}
+
+	@Pure
+	@Override
+	public Iterable<CompactGraphSegment> getConnectedSegmentsStartingFrom(CompactGraphSegment startingPoint) {
+		return new ConnectionIterable<>(findConnection(startingPoint), false);
+	}
+
+	@Pure
+	@Override
+	public Iterable<? extends GraphPointConnection<CompactGraphPoint, CompactGraphSegment>> getConnections() {
+		return new ConnectionIterable<>(this.graph.getFirstConnection(this.index), true);
+	}
+
+	@Pure
+	@Override
+	public Iterable<? extends GraphPointConnection<CompactGraphPoint, CompactGraphSegment>> getConnectionsStartingFrom(
+			CompactGraphSegment startingPoint) {
+		return new ConnectionIterable<>(findConnection(startingPoint), true);
+	}
+
+	@Pure
+	@Override
+	public boolean isConnectedSegment(CompactGraphSegment segment) {
+		return segment != null && segment.getGraph() == this.graph
+				&& (this.graph.getBeginPointIndex(segment.getIndex()) == this.index
+				|| this.graph.getEndPointIndex(segment.getIndex()) == this.index);
+	}
+
+	@Pure
+	@Override
+	public boolean isFinalConnectionPoint() {
+		return getConnectedSegmentCount() <= 1;
+	}
+
+	/** Replies the connection of the given segment, or the first connection of this point
+	 * if the segment is not connected.
+	 *
+	 * @param segment the segment to search for.
+	 * @return the index of the connection.
+	 */
+	@Pure
+	private int findConnection(CompactGraphSegment segment) {
+		final int start = this.graph.getFirstConnection(this.index);
+		if (segment != null && segment.getGraph() == this.graph) {
+			final int end = this.graph.getFirstConnection(this.index + 1);
+			for (int i = start; i < end; ++i) {
+				if (this.graph.getConnectionSegment(i) == segment.getIndex()) {
+					return i;
+				}
+			}
+		}
+		return start;
+	}
+
+	/** Iterable on the connections of the point, starting from a given connection.
+	 *
+	 * @param <T> the type of the replied elements.
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private class ConnectionIterable<T> implements Iterable<T> {
+
+		private final int first;
+
+		private final boolean connections;
+
+		/**
+		 * @param first the index of the first connection to reply.
+		 * @param connections indicates if the connections or the segments are replied.
+		 */
+		ConnectionIterable(int first, boolean connections) {
+			this.first = first;
+			this.connections = connections;
+		}
+
+		@Pure
+		@Override
+		public Iterator<T> iterator() {
+			return new ConnectionIterator<>(this.first, this.connections);
+		}
+
+	}
+
+	/** Iterator on the connections of the point, starting from a given connection.
+	 *
+	 * @param <T> the type of the replied elements.
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private class ConnectionIterator<T> implements Iterator<T> {
+
+		private final int start;
+
+		private final int end;
+
+		private final boolean connections;
+
+		private int current;
+
+		private int remaining;
+
+		/**
+		 * @param first the index of the first connection to reply.
+		 * @param connections indicates if the connections or the segments are replied.
+		 */
+		ConnectionIterator(int first, boolean connections) {
+			final CompactGraph g = CompactGraphPoint.this.graph;
+			final int idx = CompactGraphPoint.this.index;
+			this.start = g.getFirstConnection(idx);
+			this.end = g.getFirstConnection(idx + 1);
+			this.current = first;
+			this.remaining = this.end - this.start;
+			this.connections = connections;
+		}
+
+		@Pure
+		@Override
+		public boolean hasNext() {
+			return this.remaining > 0;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public T next() {
+			if (this.remaining <= 0) {
+				throw new NoSuchElementException();
+			}
+			final int connection = this.current;
+			--this.remaining;
+			++this.current;
+			if (this.current >= this.end) {
+				this.current = this.start;
+			}
+			if (this.connections) {
+				return (T) new PointConnection(connection);
+			}
+			final CompactGraph g = CompactGraphPoint.this.graph;
+			return (T) g.getSegmentAt(g.getConnectionSegment(connection));
+		}
+
+	}
+
+	/** Connection of the point.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private class PointConnection implements GraphPointConnection<CompactGraphPoint, CompactGraphSegment> {
+
+		private final int connection;
+
+		/**
+		 * @param connection the index of the connection.
+		 */
+		PointConnection(int connection) {
+			this.connection = connection;
+		}
+
+		@Pure
+		@Override
+		public CompactGraphSegment getGraphSegment() {
+			final CompactGraph g = CompactGraphPoint.this.graph;
+			return g.getSegmentAt(g.getConnectionSegment(this.connection));
+		}
+
+		@Pure
+		@Override
+		public CompactGraphPoint getGraphPoint() {
+			return CompactGraphPoint.this;
+		}
+
+		@Pure
+		@Override
+		public boolean isSegmentStartConnected() {
+			return CompactGraphPoint.this.graph.isConnectionSegmentStartConnected(this.connection);
+		}
+
+	}
+
+}
@@ -0,0 +1,572 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.tree;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.geometry.d3.Point3D;
+import org.arakhne.afc.math.tree.SpatialQuadTree.NearestCandidate;
+import org.arakhne.afc.math.tree.node.OctTreeNode;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/**
+ * This is an oct tree that is indexing 3D points.
+ *
+ * <p>Each node covers a box that is divided into eight equal sub-boxes.
+ * The north sub-boxes are the ones with the lowest y coordinates, the west
+ * sub-boxes are the ones with the lowest x coordinates, and the front
+ * sub-boxes are the ones with the lowest z coordinates.
+ * The points that are outside the box of the root node are stored into the root node.
+ *
+ * <p>A leaf node is split when it contains more than {@link #getSplittingCount()} points,
+ * and the children of a node are merged back into it when the node and its children
+ * do not contain more than {@link #getSplittingCount()} points.
+ *
+ * <p>The points must not move when they are inside the tree.
+ *
+ * @param <D> is the type of the data inside the tree
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+public class SpatialOctTree<D extends Point3D> extends LinkedTree<D, SpatialOctTree.SpatialOctTreeNode<D>> {
+
+	/** Default maximal count of points in a leaf node.
+	 */
+	public static final int DEFAULT_SPLITTING_COUNT = 16;
+
+	/** Maximal depth of the nodes.
+	 */
+	public static final int MAX_DEPTH = 24;
+
+	private static final long serialVersionUID = -6307000426880372593L;
+
+	private int splittingCount = DEFAULT_SPLITTING_COUNT;
+
+	/** Create an empty tree.
+	 *
+	 * @param minx the minimal x coordinate of the box covered by the tree.
+	 * @param miny the minimal y coordinate of the box covered by the tree.
+	 * @param minz the minimal z coordinate of the box covered by the tree.
+	 * @param maxx the maximal x coordinate of the box covered by the tree.
+	 * @param maxy the maximal y coordinate of the box covered by the tree.
+	 * @param maxz the maximal z coordinate of the box covered by the tree.
+	 */
+	@SuppressWarnings("checkstyle:parameternumber")
+	public SpatialOctTree(double minx, double miny, double minz, double maxx, double maxy, double maxz) {
+		super(new SpatialOctTreeNode<>(minx, miny, minz, maxx, maxy, maxz, 0));
+	}
+
+	/** Set the maximal count of points inside a leaf node over which the node is split.
+	 *
+	 * <p>The new value is applied on the next changes of the tree.
+	 *
+	 * @param count is the maximal count of points per leaf node.
+	 */
+	public void setSplittingCount(int count) {
+		assert count > 0 : AssertMessages.negativeOrZeroParameter();
+		this.splittingCount = count;
+	}
+
+	/** Replies the maximal count of points inside a leaf node over which the node is split.
+	 *
+	 * @return the maximal count of points per leaf node.
+	 */
+	@Pure
+	public int getSplittingCount() {
+		return this.splittingCount;
+	}
+
+	@Override
+	public void clear() {
+		final SpatialOctTreeNode<D> root = getRoot();
+		super.clear();
+		setRoot(root.createEmptyCopy());
+	}
+
+	/** Replace the content of the tree by the given points.
+	 *
+	 * <p>The tree is built from the top to the bottom by partitioning the points,
+	 * which is faster than adding the points one by one.
+	 *
+	 * @param points the points to put into the tree.
+	 */
+	public void build(Collection<? extends D> points) {
+		assert points != null : AssertMessages.notNullParameter();
+		final SpatialOctTreeNode<D> newRoot = getRoot().createEmptyCopy();
+		distribute(newRoot, new ArrayList<>(points));
+		setRoot(newRoot);
+	}
+
+	/** Add the given point into the tree.
+	 *
+	 * @param point the point to add.
+	 */
+	public void add(D point) {
+		assert point != null : AssertMessages.notNullParameter();
+		SpatialOctTreeNode<D> node = getRoot();
+		while (true) {
+			++node.deepCount;
+			if (node.isLeaf()) {
+				node.addUserData(point);
+				if (node.getUserDataCount() > this.splittingCount && node.depth < MAX_DEPTH) {
+					final List<D> data = new ArrayList<>(node.getAllUserData());
+					node.removeAllUserData();
+					node.deepCount -= data.size();
+					distribute(node, data);
+				}
+				return;
+			}
+			final int index = node.getChildIndex(point);
+			if (index < 0) {
+				node.addUserData(point);
+				return;
+			}
+			node = node.getChildAt(index);
+		}
+	}
+
+	/** Remove the given point from the tree.
+	 *
+	 * <p>The coordinates of the point must be the same as the ones it has when it was added.
+	 * The point is searched by reference.
+	 *
+	 * @param point the point to remove.
+	 * @return <code>true</code> if the point was removed.
+	 */
+	public boolean remove(D point) {
+		assert point != null : AssertMessages.notNullParameter();
+		SpatialOctTreeNode<D> node = getRoot();
+		while (!removeInstance(node, point)) {
+			final int index = node.isLeaf() ? -1 : node.getChildIndex(point);
+			if (index < 0) {
+				return false;
+			}
+			node = node.getChildAt(index);
+		}
+		for (SpatialOctTreeNode<D> ancestor = node; ancestor != null; ancestor = ancestor.getParentNode()) {
+			--ancestor.deepCount;
+		}
+		SpatialOctTreeNode<D> mergeable = null;
+		for (SpatialOctTreeNode<D> candidate = node.isLeaf() ? node.getParentNode() : node;
+				candidate != null && candidate.deepCount <= this.splittingCount;
+				candidate = candidate.getParentNode()) {
+			mergeable = candidate;
+		}
+		if (mergeable != null) {
+			merge(mergeable);
+		}
+		return true;
+	}
+
+	private static <D> boolean removeInstance(SpatialOctTreeNode<D> node, D data) {
+		for (int i = 0; i < node.getUserDataCount(); ++i) {
+			if (node.getUserDataAt(i) == data) {
+				node.removeUserData(i);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/** Put the given points into the given node, and split the node if needed.
+	 */
+	private void distribute(SpatialOctTreeNode<D> node, List<D> points) {
+		node.deepCount += points.size();
+		if (points.size() <= this.splittingCount || node.depth >= MAX_DEPTH) {
+			node.addUserData(points);
+			return;
+		}
+		final List<D> kept = new ArrayList<>();
+		final List<List<D>> childPoints = new ArrayList<>(node.getChildCount());
+		for (int i = 0; i < node.getChildCount(); ++i) {
+			childPoints.add(new ArrayList<>());
+		}
+		for (final D point : points) {
+			final int index = node.getChildIndex(point);
+			if (index < 0) {
+				kept.add(point);
+			} else {
+				childPoints.get(index).add(point);
+			}
+		}
+		node.addUserData(kept);
+		for (int i = 0; i < childPoints.size(); ++i) {
+			final SpatialOctTreeNode<D> child = node.createChild(i);
+			distribute(child, childPoints.get(i));
+			node.setChildAt(i, child);
+		}
+	}
+
+	private static <D> void merge(SpatialOctTreeNode<D> node) {
+		final List<D> data = new ArrayList<>();
+		for (int i = 0; i < node.getChildCount(); ++i) {
+			final SpatialOctTreeNode<D> child = node.getChildAt(i);
+			if (child != null) {
+				collect(child, data);
+				node.setChildAt(i, null);
+			}
+		}
+		node.addUserData(data);
+	}
+
+	private static <D> void collect(SpatialOctTreeNode<D> node, List<D> data) {
+		data.addAll(node.getAllUserData());
+		for (int i = 0; i < node.getChildCount(); ++i) {
+			final SpatialOctTreeNode<D> child = node.getChildAt(i);
+			if (child != null) {
+				collect(child, data);
+			}
+		}
+	}
+
+	/** Replies the points that are inside the given box.
+	 *
+	 * @param minx the minimal x coordinate of the box.
+	 * @param miny the minimal y coordinate of the box.
+	 * @param minz the minimal z coordinate of the box.
+	 * @param maxx the maximal x coordinate of the box.
+	 * @param maxy the maximal y coordinate of the box.
+	 * @param maxz the maximal z coordinate of the box.
+	 * @return the points inside the box.
+	 */
+	@Pure
+	@SuppressWarnings("checkstyle:parameternumber")
+	public List<D> getInBox(double minx, double miny, double minz, double maxx, double maxy, double maxz) {
+		final List<D> result = new ArrayList<>();
+		final double[] box = new double[] {minx, miny, minz, maxx, maxy, maxz};
+		getInBox(getRoot(), box, result);
+		return result;
+	}
+
+	@SuppressWarnings("checkstyle:magicnumber")
+	private static <D extends Point3D> void getInBox(SpatialOctTreeNode<D> node, double[] box, List<D> result) {
+		for (int i = 0; i < node.getUserDataCount(); ++i) {
+			final D point = node.getUserDataAt(i);
+			final double x = point.getX();
+			final double y = point.getY();
+			final double z = point.getZ();
+			if (x >= box[0] && y >= box[1] && z >= box[2] && x <= box[3] && y <= box[4] && z <= box[5]) {
+				result.add(point);
+			}
+		}
+		for (int i = 0; i < node.getChildCount(); ++i) {
+			final SpatialOctTreeNode<D> child = node.getChildAt(i);
+			if (child != null && child.getDeepCount() > 0 && child.intersects(box)) {
+				getInBox(child, box, result);
+			}
+		}
+	}
+
+	/** Replies the points that are at a distance lower than or equal to the given radius from the given point.
+	 *
+	 * @param point the point.
+	 * @param radius the radius of the range.
+	 * @return the points in the range.
+	 */
+	@Pure
+	public List<D> getInRange(Point3D point, double radius) {
+		assert point != null : AssertMessages.notNullParameter(0);
+		assert radius >= 0. : AssertMessages.positiveOrZeroParameter(1);
+		final List<D> result = new ArrayList<>();
+		getInRange(getRoot(), point, radius * radius, result);
+		return result;
+	}
+
+	private static <D extends Point3D> void getInRange(SpatialOctTreeNode<D> node, Point3D point,
+			double squaredRadius, List<D> result) {
+		for (int i = 0; i < node.getUserDataCount(); ++i) {
+			final D candidate = node.getUserDataAt(i);
+			if (candidate.getDistanceSquared(point) <= squaredRadius) {
+				result.add(candidate);
+			}
+		}
+		for (int i = 0; i < node.getChildCount(); ++i) {
+			final SpatialOctTreeNode<D> child = node.getChildAt(i);
+			if (child != null && child.getDeepCount() > 0 && child.getDistanceSquared(point) <= squaredRadius) {
+				getInRange(child, point, squaredRadius, result);
+			}
+		}
+	}
+
+	/** Replies the points that are inside the given frustum.
+	 *
+	 * <p>The frustum is the intersection of the positive half-spaces of the given planes.
+	 * Each plane is defined by four coefficients <code>{a, b, c, d}</code>, and a point
+	 * <code>(x, y, z)</code> is inside its positive half-space when
+	 * <code>a * x + b * y + c * z + d &gt;= 0</code>.
+	 *
+	 * @param planes the planes of the frustum.
+	 * @return the points inside the frustum.
+	 */
+	@Pure
+	public List<D> getInFrustum(double[]... planes) {
+		assert planes != null : AssertMessages.notNullParameter();
+		final List<D> result = new ArrayList<>();
+		getInFrustum(getRoot(), planes, result);
+		return result;
+	}
+
+	@SuppressWarnings("checkstyle:magicnumber")
+	private static <D extends Point3D> void getInFrustum(SpatialOctTreeNode<D> node, double[][] planes, List<D> result) {
+		for (int i = 0; i < node.getUserDataCount(); ++i) {
+			final D point = node.getUserDataAt(i);
+			boolean inside = true;
+			for (int j = 0; inside && j < planes.length; ++j) {
+				final double[] plane = planes[j];
+				inside = plane[0] * point.getX() + plane[1] * point.getY() + plane[2] * point.getZ() + plane[3] >= 0.;
+			}
+			if (inside) {
+				result.add(point);
+			}
+		}
+		for (int i = 0; i < node.getChildCount(); ++i) {
+			final SpatialOctTreeNode<D> child = node.getChildAt(i);
+			if (child != null && child.getDeepCount() > 0 && child.intersectsFrustum(planes)) {
+				getInFrustum(child, planes, result);
+			}
+		}
+	}
+
+	/** Replies the given number of points that are the closest to the given point.
+	 *
+	 * @param point the point.
+	 * @param count the maximal number of points to reply.
+	 * @return the closest points, sorted by increasing distance to the given point.
+	 */
+	@Pure
+	@SuppressWarnings("unchecked")
+	public List<D> getNearest(Point3D point, int count) {
+		assert point != null : AssertMessages.notNullParameter(0);
+		assert count >= 0 : AssertMessages.positiveOrZeroParameter(1);
+		final List<D> result = new ArrayList<>(count);
+		final PriorityQueue<NearestCandidate> queue = new PriorityQueue<>();
+		queue.add(new NearestCandidate(getRoot(), 0., true));
+		while (result.size() < count && !queue.isEmpty()) {
+			final NearestCandidate candidate = queue.poll();
+			if (candidate.node) {
+				final SpatialOctTreeNode<D> node = (SpatialOctTreeNode<D>) candidate.element;
+				for (int i = 0; i < node.getUserDataCount(); ++i) {
+					final D data = node.getUserDataAt(i);
+					queue.add(new NearestCandidate(data, data.getDistanceSquared(point), false));
+				}
+				for (int i = 0; i < node.getChildCount(); ++i) {
+					final SpatialOctTreeNode<D> child = node.getChildAt(i);
+					if (child != null && child.getDeepCount() > 0) {
+						queue.add(new NearestCandidate(child, child.getDistanceSquared(point), true));
+					}
+				}
+			} else {
+				result.add((D) candidate.element);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Node of a {@link SpatialOctTree}.
+	 *
+	 * @param <D> is the type of the data inside the tree
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	public static class SpatialOctTreeNode<D> extends OctTreeNode<D, SpatialOctTreeNode<D>> {
+
+		private static final long serialVersionUID = 2946244780413734003L;
+
+		/** Count of data in this node and its children.
+		 */
+		int deepCount;
+
+		/** Depth of the node.
+		 */
+		final int depth;
+
+		/** Minimal x coordinate of the box covered by the node.
+		 */
+		final double minx;
+
+		/** Minimal y coordinate of the box covered by the node.
+		 */
+		final double miny;
+
+		/** Minimal z coordinate of the box covered by the node.
+		 */
+		final double minz;
+
+		/** Maximal x coordinate of the box covered by the node.
+		 */
+		final double maxx;
+
+		/** Maximal y coordinate of the box covered by the node.
+		 */
+		final double maxy;
+
+		/** Maximal z coordinate of the box covered by the node.
+		 */
+		final double maxz;
+
+		/** Construct a node.
+		 *
+		 * @param minx the minimal x coordinate of the box covered by the node.
+		 * @param miny the minimal y coordinate of the box covered by the node.
+		 * @param minz the minimal z coordinate of the box covered by the node.
+		 * @param maxx the maximal x coordinate of the box covered by the node.
+		 * @param maxy the maximal y coordinate of the box covered by the node.
+		 * @param maxz the maximal z coordinate of the box covered by the node.
+		 * @param depth the depth of the node.
+		 */
+		@SuppressWarnings("checkstyle:parameternumber")
+		SpatialOctTreeNode(double minx, double miny, double minz, double maxx, double maxy, double maxz, int depth) {
+			super(false);
+			this.minx = minx;
+			this.miny = miny;
+			this.minz = minz;
+			this.maxx = maxx;
+			this.maxy = maxy;
+			this.maxz = maxz;
+			this.depth = depth;
+		}
+
+		/** Replies the count of data in this node and in its children.
+		 *
+		 * @return the count of data in the subtree.
+		 */
+		@Pure
+		public int getDeepCount() {
+			return this.deepCount;
+		}
+
+		/** Create an empty node that covers the same box as this node.
+		 *
+		 * @return the new node.
+		 */
+		SpatialOctTreeNode<D> createEmptyCopy() {
+			return new SpatialOctTreeNode<>(this.minx, this.miny, this.minz, this.maxx, this.maxy, this.maxz, this.depth);
+		}
+
+		/** Replies the index of the child box that is enclosing the given point.
+		 *
+		 * @param point the point.
+		 * @return the index of the child, or <code>-1</code> if the point is outside the box of this node.
+		 */
+		@Pure
+		@SuppressWarnings("checkstyle:magicnumber")
+		int getChildIndex(Point3D point) {
+			final double x = point.getX();
+			final double y = point.getY();
+			final double z = point.getZ();
+			if (x < this.minx || x > this.maxx || y < this.miny || y > this.maxy || z < this.minz || z > this.maxz) {
+				return -1;
+			}
+			int index = 0;
+			if (y >= (this.miny + this.maxy) / 2.) {
+				index += 4;
+			}
+			if (x >= (this.minx + this.maxx) / 2.) {
+				index += 2;
+			}
+			if (z >= (this.minz + this.maxz) / 2.) {
+				++index;
+			}
+			return index;
+		}
+
+		/** Create the node for the child box with the given index.
+		 *
+		 * @param index the index of the child box.
+		 * @return the new node, not linked to this node.
+		 */
+		@SuppressWarnings("checkstyle:magicnumber")
+		SpatialOctTreeNode<D> createChild(int index) {
+			final double cx = (this.minx + this.maxx) / 2.;
+			final double cy = (this.miny + this.maxy) / 2.;
+			final double cz = (this.minz + this.maxz) / 2.;
+			final boolean south = (index & 4) != 0;
+			final boolean east = (index & 2) != 0;
+			final boolean back = (index & 1) != 0;
+			return new SpatialOctTreeNode<>(
+					east ? cx : this.minx, south ? cy : this.miny, back ? cz : this.minz,
+					east ? this.maxx : cx, south ? this.maxy : cy, back ? this.maxz : cz,
+					this.depth + 1);
+		}
+
+		/** Replies if the box of this node is intersecting the given box.
+		 *
+		 * @param box the coordinates of the box: <code>{minx, miny, minz, maxx, maxy, maxz}</code>.
+		 * @return <code>true</code> if the boxes are intersecting.
+		 */
+		@Pure
+		@SuppressWarnings("checkstyle:magicnumber")
+		boolean intersects(double[] box) {
+			return this.minx <= box[3] && box[0] <= this.maxx
+					&& this.miny <= box[4] && box[1] <= this.maxy
+					&& this.minz <= box[5] && box[2] <= this.maxz;
+		}
+
+		/** Replies the squared distance between the box of this node and the given point.
+		 *
+		 * @param point the point.
+		 * @return the squared distance.
+		 */
+		@Pure
+		double getDistanceSquared(Point3D point) {
+			final double dx = Math.max(0., Math.max(this.minx - point.getX(), point.getX() - this.maxx));
+			final double dy = Math.max(0., Math.max(this.miny - point.getY(), point.getY() - this.maxy));
+			final double dz = Math.max(0., Math.max(this.minz - point.getZ(), point.getZ() - this.maxz));
+			return dx * dx + dy * dy + dz * dz;
+		}
+
+		/** Replies if the box of this node may intersect the given frustum.
+		 *
+		 * <p>The box is rejected when its corner that is the farthest along the normal
+		 * of a plane is outside the half-space of this plane.
+		 *
+		 * @param planes the planes of the frustum.
+		 * @return <code>false</code> if the box is outside the frustum.
+		 */
+		@Pure
+		@SuppressWarnings("checkstyle:magicnumber")
+		boolean intersectsFrustum(double[][] planes) {
+			for (final double[] plane : planes) {
+				final double x = plane[0] >= 0. ? this.maxx : this.minx;
+				final double y = plane[1] >= 0. ? this.maxy : this.miny;
+				final double z = plane[2] >= 0. ? this.maxz : this.minz;
+				if (plane[0] * x + plane[1] * y + plane[2] * z + plane[3] < 0.) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+	}
+
+}
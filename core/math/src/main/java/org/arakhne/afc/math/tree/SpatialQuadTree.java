@@ -0,0 +1,558 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.tree;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.geometry.d2.Point2D;
+import org.arakhne.afc.math.geometry.d2.afp.Rectangle2afp;
+import org.arakhne.afc.math.geometry.d2.afp.Shape2afp;
+import org.arakhne.afc.math.tree.node.QuadTreeNode;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/**
+ * This is a quad tree that is indexing 2D shapes according to their bounding boxes.
+ *
+ * <p>Each node covers a rectangular zone that is divided into four equal sub-zones.
+ * The north sub-zones are the ones with the lowest y coordinates, and the west
+ * sub-zones are the ones with the lowest x coordinates.
+ * A shape is stored in the deepest node with a zone that is enclosing its bounding box.
+ * The shapes that are outside the zone of the root node are stored into the root node.
+ *
+ * <p>A leaf node is split when it contains more than {@link #getSplittingCount()} shapes,
+ * and the children of a node are merged back into it when the node and its children
+ * do not contain more than {@link #getSplittingCount()} shapes.
+ *
+ * <p>The shapes must not change their bounding boxes when they are inside the tree.
+ *
+ * @param <D> is the type of the data inside the tree
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+public class SpatialQuadTree<D extends Shape2afp<?, ?, ?, ?, ?, ?>>
+		extends LinkedTree<D, SpatialQuadTree.SpatialQuadTreeNode<D>> {
+
+	/** Default maximal count of shapes in a leaf node.
+	 */
+	public static final int DEFAULT_SPLITTING_COUNT = 16;
+
+	/** Maximal depth of the nodes.
+	 */
+	public static final int MAX_DEPTH = 24;
+
+	private static final long serialVersionUID = 4189417106380339155L;
+
+	private int splittingCount = DEFAULT_SPLITTING_COUNT;
+
+	/** Create an empty tree.
+	 *
+	 * @param minx the minimal x coordinate of the zone covered by the tree.
+	 * @param miny the minimal y coordinate of the zone covered by the tree.
+	 * @param maxx the maximal x coordinate of the zone covered by the tree.
+	 * @param maxy the maximal y coordinate of the zone covered by the tree.
+	 */
+	public SpatialQuadTree(double minx, double miny, double maxx, double maxy) {
+		super(new SpatialQuadTreeNode<>(minx, miny, maxx, maxy, 0));
+	}
+
+	/** Set the maximal count of shapes inside a leaf node over which the node is split.
+	 *
+	 * <p>The new value is applied on the next changes of the tree.
+	 *
+	 * @param count is the maximal count of shapes per leaf node.
+	 */
+	public void setSplittingCount(int count) {
+		assert count > 0 : AssertMessages.negativeOrZeroParameter();
+		this.splittingCount = count;
+	}
+
+	/** Replies the maximal count of shapes inside a leaf node over which the node is split.
+	 *
+	 * @return the maximal count of shapes per leaf node.
+	 */
+	@Pure
+	public int getSplittingCount() {
+		return this.splittingCount;
+	}
+
+	@Override
+	public void clear() {
+		final SpatialQuadTreeNode<D> root = getRoot();
+		super.clear();
+		setRoot(new SpatialQuadTreeNode<>(root.getMinX(), root.getMinY(), root.getMaxX(), root.getMaxY(), 0));
+	}
+
+	/** Replace the content of the tree by the given shapes.
+	 *
+	 * <p>The tree is built from the top to the bottom by partitioning the shapes,
+	 * which is faster than adding the shapes one by one.
+	 *
+	 * @param shapes the shapes to put into the tree.
+	 */
+	public void build(Collection<? extends D> shapes) {
+		assert shapes != null : AssertMessages.notNullParameter();
+		final SpatialQuadTreeNode<D> root = getRoot();
+		final SpatialQuadTreeNode<D> newRoot = new SpatialQuadTreeNode<>(
+				root.getMinX(), root.getMinY(), root.getMaxX(), root.getMaxY(), 0);
+		distribute(newRoot, new ArrayList<>(shapes));
+		setRoot(newRoot);
+	}
+
+	/** Add the given shape into the tree.
+	 *
+	 * @param shape the shape to add.
+	 */
+	public void add(D shape) {
+		assert shape != null : AssertMessages.notNullParameter();
+		final Rectangle2afp<?, ?, ?, ?, ?, ?> box = shape.toBoundingBox();
+		SpatialQuadTreeNode<D> node = getRoot();
+		while (true) {
+			++node.deepCount;
+			if (node.isLeaf()) {
+				node.addUserData(shape);
+				if (node.getUserDataCount() > this.splittingCount && node.depth < MAX_DEPTH) {
+					final List<D> data = new ArrayList<>(node.getAllUserData());
+					node.removeAllUserData();
+					node.deepCount -= data.size();
+					distribute(node, data);
+				}
+				return;
+			}
+			final int index = node.getChildIndex(box);
+			if (index < 0) {
+				node.addUserData(shape);
+				return;
+			}
+			node = node.getChildAt(index);
+		}
+	}
+
+	/** Remove the given shape from the tree.
+	 *
+	 * <p>The bounding box of the shape must be the same as the one it has when it was added.
+	 * The shape is searched by reference.
+	 *
+	 * @param shape the shape to remove.
+	 * @return <code>true</code> if the shape was removed.
+	 */
+	public boolean remove(D shape) {
+		assert shape != null : AssertMessages.notNullParameter();
+		final Rectangle2afp<?, ?, ?, ?, ?, ?> box = shape.toBoundingBox();
+		SpatialQuadTreeNode<D> node = getRoot();
+		while (!removeInstance(node, shape)) {
+			final int index = node.isLeaf() ? -1 : node.getChildIndex(box);
+			if (index < 0) {
+				return false;
+			}
+			node = node.getChildAt(index);
+		}
+		for (SpatialQuadTreeNode<D> ancestor = node; ancestor != null; ancestor = ancestor.getParentNode()) {
+			--ancestor.deepCount;
+		}
+		SpatialQuadTreeNode<D> mergeable = null;
+		for (SpatialQuadTreeNode<D> candidate = node.isLeaf() ? node.getParentNode() : node;
+				candidate != null && candidate.deepCount <= this.splittingCount;
+				candidate = candidate.getParentNode()) {
+			mergeable = candidate;
+		}
+		if (mergeable != null) {
+			merge(mergeable);
+		}
+		return true;
+	}
+
+	private static <D> boolean removeInstance(SpatialQuadTreeNode<D> node, D data) {
+		for (int i = 0; i < node.getUserDataCount(); ++i) {
+			if (node.getUserDataAt(i) == data) {
+				node.removeUserData(i);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/** Put the given shapes into the given node, and split the node if needed.
+	 */
+	private void distribute(SpatialQuadTreeNode<D> node, List<D> shapes) {
+		node.deepCount += shapes.size();
+		if (shapes.size() <= this.splittingCount || node.depth >= MAX_DEPTH) {
+			node.addUserData(shapes);
+			return;
+		}
+		final List<D> kept = new ArrayList<>();
+		final List<List<D>> childShapes = new ArrayList<>(4);
+		for (int i = 0; i < node.getChildCount(); ++i) {
+			childShapes.add(new ArrayList<>());
+		}
+		for (final D shape : shapes) {
+			final int index = node.getChildIndex(shape.toBoundingBox());
+			if (index < 0) {
+				kept.add(shape);
+			} else {
+				childShapes.get(index).add(shape);
+			}
+		}
+		node.addUserData(kept);
+		for (int i = 0; i < childShapes.size(); ++i) {
+			final SpatialQuadTreeNode<D> child = node.createChild(i);
+			distribute(child, childShapes.get(i));
+			node.setChildAt(i, child);
+		}
+	}
+
+	private static <D> void merge(SpatialQuadTreeNode<D> node) {
+		final List<D> data = new ArrayList<>();
+		for (int i = 0; i < node.getChildCount(); ++i) {
+			final SpatialQuadTreeNode<D> child = node.getChildAt(i);
+			if (child != null) {
+				collect(child, data);
+				node.setChildAt(i, null);
+			}
+		}
+		node.addUserData(data);
+	}
+
+	private static <D> void collect(SpatialQuadTreeNode<D> node, List<D> data) {
+		data.addAll(node.getAllUserData());
+		for (int i = 0; i < node.getChildCount(); ++i) {
+			final SpatialQuadTreeNode<D> child = node.getChildAt(i);
+			if (child != null) {
+				collect(child, data);
+			}
+		}
+	}
+
+	/** Replies the shapes that are intersecting the given rectangle.
+	 *
+	 * @param rectangle the rectangle.
+	 * @return the shapes that are intersecting the rectangle.
+	 */
+	@Pure
+	public List<D> getIntersecting(Rectangle2afp<?, ?, ?, ?, ?, ?> rectangle) {
+		assert rectangle != null : AssertMessages.notNullParameter();
+		final List<D> result = new ArrayList<>();
+		getIntersecting(getRoot(), rectangle, result);
+		return result;
+	}
+
+	private static <D extends Shape2afp<?, ?, ?, ?, ?, ?>> void getIntersecting(SpatialQuadTreeNode<D> node,
+			Rectangle2afp<?, ?, ?, ?, ?, ?> rectangle, List<D> result) {
+		for (int i = 0; i < node.getUserDataCount(); ++i) {
+			final D shape = node.getUserDataAt(i);
+			if (shape.intersects(rectangle)) {
+				result.add(shape);
+			}
+		}
+		for (int i = 0; i < node.getChildCount(); ++i) {
+			final SpatialQuadTreeNode<D> child = node.getChildAt(i);
+			if (child != null && child.getDeepCount() > 0 && child.intersects(rectangle)) {
+				getIntersecting(child, rectangle, result);
+			}
+		}
+	}
+
+	/** Replies the shapes that are at a distance lower than or equal to the given radius from the given point.
+	 *
+	 * @param point the point.
+	 * @param radius the radius of the range.
+	 * @return the shapes in the range.
+	 */
+	@Pure
+	public List<D> getInRange(Point2D<?, ?> point, double radius) {
+		assert point != null : AssertMessages.notNullParameter(0);
+		assert radius >= 0. : AssertMessages.positiveOrZeroParameter(1);
+		final List<D> result = new ArrayList<>();
+		getInRange(getRoot(), point, radius * radius, result);
+		return result;
+	}
+
+	private static <D extends Shape2afp<?, ?, ?, ?, ?, ?>> void getInRange(SpatialQuadTreeNode<D> node,
+			Point2D<?, ?> point, double squaredRadius, List<D> result) {
+		for (int i = 0; i < node.getUserDataCount(); ++i) {
+			final D shape = node.getUserDataAt(i);
+			if (shape.getDistanceSquared(point) <= squaredRadius) {
+				result.add(shape);
+			}
+		}
+		for (int i = 0; i < node.getChildCount(); ++i) {
+			final SpatialQuadTreeNode<D> child = node.getChildAt(i);
+			if (child != null && child.getDeepCount() > 0
+					&& child.getDistanceSquared(point.getX(), point.getY()) <= squaredRadius) {
+				getInRange(child, point, squaredRadius, result);
+			}
+		}
+	}
+
+	/** Replies the given number of shapes that are the closest to the given point.
+	 *
+	 * @param point the point.
+	 * @param count the maximal number of shapes to reply.
+	 * @return the closest shapes, sorted by increasing distance to the point.
+	 */
+	@Pure
+	@SuppressWarnings("unchecked")
+	public List<D> getNearest(Point2D<?, ?> point, int count) {
+		assert point != null : AssertMessages.notNullParameter(0);
+		assert count >= 0 : AssertMessages.positiveOrZeroParameter(1);
+		final List<D> result = new ArrayList<>(count);
+		final PriorityQueue<NearestCandidate> queue = new PriorityQueue<>();
+		queue.add(new NearestCandidate(getRoot(), 0., true));
+		while (result.size() < count && !queue.isEmpty()) {
+			final NearestCandidate candidate = queue.poll();
+			if (candidate.node) {
+				final SpatialQuadTreeNode<D> node = (SpatialQuadTreeNode<D>) candidate.element;
+				for (int i = 0; i < node.getUserDataCount(); ++i) {
+					final D shape = node.getUserDataAt(i);
+					queue.add(new NearestCandidate(shape, shape.getDistanceSquared(point), false));
+				}
+				for (int i = 0; i < node.getChildCount(); ++i) {
+					final SpatialQuadTreeNode<D> child = node.getChildAt(i);
+					if (child != null && child.getDeepCount() > 0) {
+						queue.add(new NearestCandidate(child, child.getDistanceSquared(point.getX(), point.getY()), true));
+					}
+				}
+			} else {
+				result.add((D) candidate.element);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Node of a {@link SpatialQuadTree}.
+	 *
+	 * @param <D> is the type of the data inside the tree
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	public static class SpatialQuadTreeNode<D> extends QuadTreeNode<D, SpatialQuadTreeNode<D>> {
+
+		private static final long serialVersionUID = -2925569437985640221L;
+
+		/** Count of data in this node and its children.
+		 */
+		int deepCount;
+
+		/** Depth of the node.
+		 */
+		final int depth;
+
+		private final double minx;
+
+		private final double miny;
+
+		private final double maxx;
+
+		private final double maxy;
+
+		/** Construct a node.
+		 *
+		 * @param minx the minimal x coordinate of the zone covered by the node.
+		 * @param miny the minimal y coordinate of the zone covered by the node.
+		 * @param maxx the maximal x coordinate of the zone covered by the node.
+		 * @param maxy the maximal y coordinate of the zone covered by the node.
+		 * @param depth the depth of the node.
+		 */
+		SpatialQuadTreeNode(double minx, double miny, double maxx, double maxy, int depth) {
+			super(false);
+			this.minx = minx;
+			this.miny = miny;
+			this.maxx = maxx;
+			this.maxy = maxy;
+			this.depth = depth;
+		}
+
+		/** Replies the minimal x coordinate of the zone covered by this node.
+		 *
+		 * @return the minimal x coordinate.
+		 */
+		@Pure
+		public double getMinX() {
+			return this.minx;
+		}
+
+		/** Replies the minimal y coordinate of the zone covered by this node.
+		 *
+		 * @return the minimal y coordinate.
+		 */
+		@Pure
+		public double getMinY() {
+			return this.miny;
+		}
+
+		/** Replies the maximal x coordinate of the zone covered by this node.
+		 *
+		 * @return the maximal x coordinate.
+		 */
+		@Pure
+		public double getMaxX() {
+			return this.maxx;
+		}
+
+		/** Replies the maximal y coordinate of the zone covered by this node.
+		 *
+		 * @return the maximal y coordinate.
+		 */
+		@Pure
+		public double getMaxY() {
+			return this.maxy;
+		}
+
+		/** Replies the count of data in this node and in its children.
+		 *
+		 * @return the count of data in the subtree.
+		 */
+		@Pure
+		public int getDeepCount() {
+			return this.deepCount;
+		}
+
+		/** Replies the index of the child zone that is enclosing the given box.
+		 *
+		 * @param box the box.
+		 * @return the index of the child, or <code>-1</code> if no child zone is enclosing the box.
+		 */
+		@Pure
+		int getChildIndex(Rectangle2afp<?, ?, ?, ?, ?, ?> box) {
+			final double x1 = box.getMinX();
+			final double y1 = box.getMinY();
+			final double x2 = box.getMaxX();
+			final double y2 = box.getMaxY();
+			if (x1 < this.minx || x2 > this.maxx || y1 < this.miny || y2 > this.maxy) {
+				return -1;
+			}
+			final double cx = (this.minx + this.maxx) / 2.;
+			final double cy = (this.miny + this.maxy) / 2.;
+			final int east;
+			if (x2 <= cx) {
+				east = 0;
+			} else if (x1 >= cx) {
+				east = 1;
+			} else {
+				return -1;
+			}
+			final int south;
+			if (y2 <= cy) {
+				south = 0;
+			} else if (y1 >= cy) {
+				south = 2;
+			} else {
+				return -1;
+			}
+			return south + east;
+		}
+
+		/** Create the node for the child zone with the given index.
+		 *
+		 * @param index the index of the child zone.
+		 * @return the new node, not linked to this node.
+		 */
+		SpatialQuadTreeNode<D> createChild(int index) {
+			final double cx = (this.minx + this.maxx) / 2.;
+			final double cy = (this.miny + this.maxy) / 2.;
+			final boolean east = (index & 1) != 0;
+			final boolean south = (index & 2) != 0;
+			return new SpatialQuadTreeNode<>(
+					east ? cx : this.minx, south ? cy : this.miny,
+					east ? this.maxx : cx, south ? this.maxy : cy,
+					this.depth + 1);
+		}
+
+		/** Replies if the zone of this node is intersecting the given rectangle.
+		 *
+		 * @param rectangle the rectangle.
+		 * @return <code>true</code> if the zone and the rectangle are intersecting.
+		 */
+		@Pure
+		boolean intersects(Rectangle2afp<?, ?, ?, ?, ?, ?> rectangle) {
+			return this.minx <= rectangle.getMaxX() && rectangle.getMinX() <= this.maxx
+					&& this.miny <= rectangle.getMaxY() && rectangle.getMinY() <= this.maxy;
+		}
+
+		/** Replies the squared distance between the zone of this node and the given point.
+		 *
+		 * @param x x coordinate of the point.
+		 * @param y y coordinate of the point.
+		 * @return the squared distance.
+		 */
+		@Pure
+		double getDistanceSquared(double x, double y) {
+			final double dx = Math.max(0., Math.max(this.minx - x, x - this.maxx));
+			final double dy = Math.max(0., Math.max(this.miny - y, y - this.maxy));
+			return dx * dx + dy * dy;
+		}
+
+	}
+
+	/**
+	 * Element of the queue of the nearest-neighbor search.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	static final class NearestCandidate implements Comparable<NearestCandidate> {
+
+		/** The node or the data.
+		 */
+		final Object element;
+
+		/** The squared distance to the reference point.
+		 */
+		final double distance;
+
+		/** Indicates if the element is a node.
+		 */
+		final boolean node;
+
+		/** Construct a candidate.
+		 *
+		 * @param element the node or the data.
+		 * @param distance the squared distance to the reference point.
+		 * @param node indicates if the element is a node.
+		 */
+		NearestCandidate(Object element, double distance, boolean node) {
+			this.element = element;
+			this.distance = distance;
+			this.node = node;
+		}
+
+		@Override
+		public int compareTo(NearestCandidate candidate) {
+			return Double.compare(this.distance, candidate.distance);
+		}
+
+	}
+
+}
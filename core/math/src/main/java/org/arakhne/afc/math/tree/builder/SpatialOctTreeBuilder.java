@@ -0,0 +1,97 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.tree.builder;
+
+import java.util.List;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.geometry.d3.Point3D;
+import org.arakhne.afc.math.tree.SpatialOctTree;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/**
+ * Builder of {@link SpatialOctTree}.
+ *
+ * <p>The box covered by the built tree is the bounding box of the points.
+ *
+ * @param <D> is the type of the data inside the tree
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+public class SpatialOctTreeBuilder<D extends Point3D> implements TreeBuilder<D, SpatialOctTree<D>> {
+
+	private int splittingCount = SpatialOctTree.DEFAULT_SPLITTING_COUNT;
+
+	private boolean started;
+
+	/** Construct a builder.
+	 */
+	public SpatialOctTreeBuilder() {
+		//
+	}
+
+	@Override
+	public SpatialOctTree<D> buildTree(List<? extends D> worldEntities) throws TreeBuilderException {
+		assert worldEntities != null : AssertMessages.notNullParameter();
+		if (this.started) {
+			throw new TreeBuilderException.BuilderAlreadyStartedException();
+		}
+		if (worldEntities.isEmpty()) {
+			throw new TreeBuilderException.EmptyBoundingBoxException();
+		}
+		this.started = true;
+		double minx = Double.POSITIVE_INFINITY;
+		double miny = Double.POSITIVE_INFINITY;
+		double minz = Double.POSITIVE_INFINITY;
+		double maxx = Double.NEGATIVE_INFINITY;
+		double maxy = Double.NEGATIVE_INFINITY;
+		double maxz = Double.NEGATIVE_INFINITY;
+		for (final D point : worldEntities) {
+			minx = Math.min(minx, point.getX());
+			miny = Math.min(miny, point.getY());
+			minz = Math.min(minz, point.getZ());
+			maxx = Math.max(maxx, point.getX());
+			maxy = Math.max(maxy, point.getY());
+			maxz = Math.max(maxz, point.getZ());
+		}
+		final SpatialOctTree<D> tree = new SpatialOctTree<>(minx, miny, minz, maxx, maxy, maxz);
+		tree.setSplittingCount(this.splittingCount);
+		tree.build(worldEntities);
+		return tree;
+	}
+
+	@Override
+	public void setSplittingCount(int count) {
+		assert count > 0 : AssertMessages.negativeOrZeroParameter();
+		this.splittingCount = count;
+	}
+
+	@Override
+	@Pure
+	public int getSplittingCount() {
+		return this.splittingCount;
+	}
+
+}
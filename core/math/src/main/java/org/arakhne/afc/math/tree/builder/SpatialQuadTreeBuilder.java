@@ -0,0 +1,95 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.tree.builder;
+
+import java.util.List;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.geometry.d2.afp.Rectangle2afp;
+import org.arakhne.afc.math.geometry.d2.afp.Shape2afp;
+import org.arakhne.afc.math.tree.SpatialQuadTree;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/**
+ * Builder of {@link SpatialQuadTree}.
+ *
+ * <p>The zone covered by the built tree is the union of the bounding boxes of the entities.
+ *
+ * @param <D> is the type of the data inside the tree
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+public class SpatialQuadTreeBuilder<D extends Shape2afp<?, ?, ?, ?, ?, ?>> implements TreeBuilder<D, SpatialQuadTree<D>> {
+
+	private int splittingCount = SpatialQuadTree.DEFAULT_SPLITTING_COUNT;
+
+	private boolean started;
+
+	/** Construct a builder.
+	 */
+	public SpatialQuadTreeBuilder() {
+		//
+	}
+
+	@Override
+	public SpatialQuadTree<D> buildTree(List<? extends D> worldEntities) throws TreeBuilderException {
+		assert worldEntities != null : AssertMessages.notNullParameter();
+		if (this.started) {
+			throw new TreeBuilderException.BuilderAlreadyStartedException();
+		}
+		double minx = Double.POSITIVE_INFINITY;
+		double miny = Double.POSITIVE_INFINITY;
+		double maxx = Double.NEGATIVE_INFINITY;
+		double maxy = Double.NEGATIVE_INFINITY;
+		for (final D entity : worldEntities) {
+			final Rectangle2afp<?, ?, ?, ?, ?, ?> box = entity.toBoundingBox();
+			minx = Math.min(minx, box.getMinX());
+			miny = Math.min(miny, box.getMinY());
+			maxx = Math.max(maxx, box.getMaxX());
+			maxy = Math.max(maxy, box.getMaxY());
+		}
+		if (minx > maxx || miny > maxy) {
+			throw new TreeBuilderException.EmptyBoundingBoxException();
+		}
+		this.started = true;
+		final SpatialQuadTree<D> tree = new SpatialQuadTree<>(minx, miny, maxx, maxy);
+		tree.setSplittingCount(this.splittingCount);
+		tree.build(worldEntities);
+		return tree;
+	}
+
+	@Override
+	public void setSplittingCount(int count) {
+		assert count > 0 : AssertMessages.negativeOrZeroParameter();
+		this.splittingCount = count;
+	}
+
+	@Override
+	@Pure
+	public int getSplittingCount() {
+		return this.splittingCount;
+	}
+
+}
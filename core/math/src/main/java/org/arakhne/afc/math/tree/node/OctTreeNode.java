@@ -699,7 +699,7 @@ public abstract class OctTreeNode<D, N extends OctTreeNode<D, N>> extends Abstra
 		if (this.child6 != null) {
 			this.child6.setParentNodeReference(null, true);
 			--this.notNullChildCount;
-			firePropertyChildRemoved(5, this.child5);
+			firePropertyChildRemoved(5, this.child6);
 		}
 
 		if (newChild != null) {
@@ -723,4 +723,123 @@ public class Transform2DTest extends AbstractMathTestCase {
 				0.1, this.transform.getRotation());
 	}
 
-}
\ No newline at end of file
+	private static Transform2D[] bulkTransforms() {
+		return new Transform2D[] {
+			new Transform2D(),
+			new Transform2D(1, 0, -3.5, 0, 1, 7.25),
+			new Transform2D(2.5, 0, 1, 0, -0.5, 2),
+			new Transform2D(COS, -SIN, TRANSX, SIN, COS, TRANSY),
+			new Transform2D(0.3, -1.7, 2, 0.9, 1.1, -4),
+		};
+	}
+
+	private static double[] bulkCoordinates() {
+		return new double[] {0, 0, 1, 2, -3.25, 4.5, 100.75, -0.125, 7, -8};
+	}
+
+	@Test
+	public void transformDoubleArrayIntDoubleArrayIntInt() {
+		final double[] src = bulkCoordinates();
+		for (final Transform2D tr : bulkTransforms()) {
+			final double[] dst = new double[src.length + 2];
+			tr.transform(src, 2, dst, 1, 3);
+			for (int i = 0; i < 3; ++i) {
+				final Point2d p = new Point2d(src[2 + i * 2], src[3 + i * 2]);
+				tr.transform(p);
+				assertEpsilonEquals(p.getX(), dst[1 + i * 2]);
+				assertEpsilonEquals(p.getY(), dst[2 + i * 2]);
+			}
+			assertEquals(0, dst[0], 0);
+			assertEquals(0, dst[7], 0);
+		}
+	}
+
+	@Test
+	public void transformDoubleArrayIntDoubleArrayIntInt_overlapping() {
+		for (final Transform2D tr : bulkTransforms()) {
+			final double[] expected = new double[10];
+			tr.transform(bulkCoordinates(), 0, expected, 0, 4);
+			final double[] forward = bulkCoordinates();
+			tr.transform(forward, 0, forward, 2, 4);
+			final double[] backward = bulkCoordinates();
+			final double[] shifted = new double[12];
+			System.arraycopy(backward, 0, shifted, 2, 8);
+			tr.transform(shifted, 2, shifted, 0, 4);
+			for (int i = 0; i < 8; ++i) {
+				assertEquals(expected[i], forward[i + 2], 0);
+				assertEquals(expected[i], shifted[i], 0);
+			}
+			final double[] inPlace = bulkCoordinates();
+			tr.transform(inPlace, 0, inPlace, 0, 4);
+			for (int i = 0; i < 8; ++i) {
+				assertEquals(expected[i], inPlace[i], 0);
+			}
+		}
+	}
+
+	@Test
+	public void transformDoubleArrayIntFloatArrayIntInt() {
+		final double[] src = bulkCoordinates();
+		for (final Transform2D tr : bulkTransforms()) {
+			final double[] expected = new double[src.length];
+			tr.transform(src, 0, expected, 0, 5);
+			final float[] dst = new float[src.length];
+			tr.transform(src, 0, dst, 0, 5);
+			for (int i = 0; i < src.length; ++i) {
+				assertEquals((float) expected[i], dst[i], 0f);
+			}
+		}
+	}
+
+	@Test
+	public void transformFloatArrayIntFloatArrayIntInt() {
+		final double[] coords = bulkCoordinates();
+		final float[] src = new float[coords.length];
+		for (int i = 0; i < coords.length; ++i) {
+			src[i] = (float) coords[i];
+		}
+		for (final Transform2D tr : bulkTransforms()) {
+			final float[] dst = new float[src.length];
+			tr.transform(src, 0, dst, 0, 5);
+			for (int i = 0; i < 5; ++i) {
+				final Point2d p = new Point2d(src[i * 2], src[i * 2 + 1]);
+				tr.transform(p);
+				assertEquals((float) p.getX(), dst[i * 2], 0f);
+				assertEquals((float) p.getY(), dst[i * 2 + 1], 0f);
+			}
+		}
+	}
+
+	@Test
+	public void transformIntArrayIntIntArrayIntInt() {
+		final int[] src = new int[] {0, 0, 1, 2, -3, 4, 100, -1, 7, -8};
+		for (final Transform2D tr : bulkTransforms()) {
+			final int[] dst = new int[src.length];
+			tr.transform(src, 0, dst, 0, 5);
+			for (int i = 0; i < 5; ++i) {
+				final Point2d p = new Point2d(src[i * 2], src[i * 2 + 1]);
+				tr.transform(p);
+				assertEquals(Math.round(p.getX()), dst[i * 2]);
+				assertEquals(Math.round(p.getY()), dst[i * 2 + 1]);
+			}
+			final int[] inPlace = src.clone();
+			tr.transform(inPlace, 0, inPlace, 0, 5);
+			assertArrayEquals(dst, inPlace);
+		}
+	}
+
+	@Test
+	public void transformDoubleArrayIntIntArrayIntInt() {
+		final double[] src = bulkCoordinates();
+		for (final Transform2D tr : bulkTransforms()) {
+			final double[] expected = new double[src.length];
+			tr.transform(src, 0, expected, 0, 5);
+			final int[] dst = new int[src.length];
+			tr.transform(src, 0, dst, 0, 5);
+			for (int i = 0; i < src.length; ++i) {
+				assertEquals(Math.round(expected[i]), dst[i]);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,199 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.arakhne.afc.math.geometry.d2.Point2D;
+import org.arakhne.afc.math.geometry.d2.d.Ellipse2d;
+import org.arakhne.afc.math.geometry.d2.d.OrientedRectangle2d;
+import org.arakhne.afc.math.geometry.d2.d.Parallelogram2d;
+import org.arakhne.afc.math.geometry.d2.d.Point2d;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+import org.arakhne.afc.math.geometry.d2.d.Segment2d;
+import org.arakhne.afc.math.geometry.d2.d.Triangle2d;
+
+@SuppressWarnings("all")
+public class ConvexPolygonClosestPoint2afpTest {
+
+	private static final int PAIRS = 300;
+
+	private static final int KINDS = 5;
+
+	private static final int ELLIPSE_SAMPLES = 20000;
+
+	private Random random;
+
+	@Before
+	public void setUp() {
+		this.random = new Random(4561237);
+	}
+
+	private double coord() {
+		return this.random.nextDouble() * 100. - 50.;
+	}
+
+	private double extent() {
+		return this.random.nextDouble() * 10. + .5;
+	}
+
+	private Shape2afp<?, ?, ?, ?, ?, ?> randomShape(int kind) {
+		final double angle1 = this.random.nextDouble() * Math.PI * 2.;
+		final double angle2 = angle1 + .2 + this.random.nextDouble() * (Math.PI - .4);
+		switch (kind) {
+		case 0:
+			return new Segment2d(coord(), coord(), coord(), coord());
+		case 1:
+			final double x = coord();
+			final double y = coord();
+			return new Triangle2d(x, y,
+					x + coord() / 4., y + coord() / 4.,
+					x + coord() / 4., y + coord() / 4.);
+		case 2:
+			return new Rectangle2d(coord(), coord(), extent(), extent());
+		case 3:
+			return new OrientedRectangle2d(coord(), coord(), Math.cos(angle1), Math.sin(angle1), extent(), extent());
+		default:
+			return new Parallelogram2d(coord(), coord(),
+					Math.cos(angle1), Math.sin(angle1), extent(),
+					Math.cos(angle2), Math.sin(angle2), extent());
+		}
+	}
+
+	@Test
+	public void getClosestPointTo_matrix() {
+		int disjoint = 0;
+		for (int firstKind = 1; firstKind < KINDS; ++firstKind) {
+			for (int secondKind = 0; secondKind < KINDS; ++secondKind) {
+				if (firstKind == 2 && secondKind != 1) {
+					// Rectangle has its own closed-form functions for these shapes.
+					continue;
+				}
+				for (int i = 0; i < PAIRS; ++i) {
+					final Shape2afp<?, ?, ?, ?, ?, ?> first = randomShape(firstKind);
+					final Shape2afp<?, ?, ?, ?, ?, ?> second = randomShape(secondKind);
+					final Point2d expected = new Point2d();
+					Path2afp.getClosestPointTo(first.getPathIterator(), second.getPathIterator(), expected);
+					final Point2D<?, ?> actual = first.getClosestPointTo(second);
+					final String message = first + " / " + second;
+					assertEquals(message, expected.getX(), actual.getX(), 0.);
+					assertEquals(message, expected.getY(), actual.getY(), 0.);
+					if (ConvexPolygonClosestPoint2afp.computeClosestPoint(first, second, new Point2d())) {
+						++disjoint;
+					}
+				}
+			}
+		}
+		// Ensure that the closed-form computation was exercised.
+		assertTrue(disjoint > PAIRS);
+	}
+
+	@Test
+	public void computeClosestPoint_disjointShapes() {
+		final Rectangle2d rectangle = new Rectangle2d(0, 0, 10, 10);
+		final Triangle2d triangle = new Triangle2d(12, 5, 20, 0, 20, 10);
+		final Point2d actual = new Point2d();
+		assertTrue(ConvexPolygonClosestPoint2afp.computeClosestPoint(triangle, rectangle, actual));
+		assertEquals(12., actual.getX(), 0.);
+		assertEquals(5., actual.getY(), 0.);
+		assertTrue(ConvexPolygonClosestPoint2afp.computeClosestPoint(rectangle, triangle, actual));
+		assertEquals(10., actual.getX(), 0.);
+		assertEquals(5., actual.getY(), 0.);
+	}
+
+	@Test
+	public void computeClosestPoint_touchingShapes() {
+		final Rectangle2d rectangle = new Rectangle2d(0, 0, 10, 10);
+		final Triangle2d triangle = new Triangle2d(10, 5, 20, 0, 20, 10);
+		assertFalse(ConvexPolygonClosestPoint2afp.computeClosestPoint(triangle, rectangle, new Point2d()));
+		assertFalse(ConvexPolygonClosestPoint2afp.computeClosestPoint(rectangle, triangle, new Point2d()));
+	}
+
+	@Test
+	public void computeClosestPoint_insideShapes() {
+		final Rectangle2d rectangle = new Rectangle2d(0, 0, 10, 10);
+		final Triangle2d triangle = new Triangle2d(2, 2, 8, 2, 5, 8);
+		assertFalse(ConvexPolygonClosestPoint2afp.computeClosestPoint(rectangle, triangle, new Point2d()));
+		final Point2d actual = new Point2d();
+		assertTrue(ConvexPolygonClosestPoint2afp.computeClosestPoint(triangle, rectangle, actual));
+		final Point2d expected = new Point2d();
+		Path2afp.getClosestPointTo(triangle.getPathIterator(), rectangle.getPathIterator(), expected);
+		assertEquals(expected, actual);
+	}
+
+	@Test
+	public void computeClosestPointToShallowEllipse() {
+		for (int i = 0; i < PAIRS; ++i) {
+			final Ellipse2d ellipse = new Ellipse2d(coord(), coord(), extent() * 2., extent() * 2.);
+			final double px = coord();
+			final double py = coord();
+			final Point2d actual = new Point2d();
+			Ellipse2afp.computeClosestPointToShallowEllipse(px, py,
+					ellipse.getMinX(), ellipse.getMinY(), ellipse.getWidth(), ellipse.getHeight(), actual);
+			assertOnEllipse(ellipse, actual);
+			assertTrue(Math.hypot(actual.getX() - px, actual.getY() - py) <= sampleDistance(ellipse, px, py) + 1e-6);
+		}
+	}
+
+	@Test
+	public void computeClosestPointToSolidEllipse() {
+		for (int i = 0; i < PAIRS; ++i) {
+			final Ellipse2d ellipse = new Ellipse2d(coord(), coord(), extent() * 2., extent() * 2.);
+			final double px = coord();
+			final double py = coord();
+			final Point2d actual = new Point2d();
+			Ellipse2afp.computeClosestPointToSolidEllipse(px, py,
+					ellipse.getMinX(), ellipse.getMinY(), ellipse.getWidth(), ellipse.getHeight(), actual);
+			if (ellipse.contains(px, py)) {
+				assertEquals(px, actual.getX(), 0.);
+				assertEquals(py, actual.getY(), 0.);
+			} else {
+				assertOnEllipse(ellipse, actual);
+				assertTrue(Math.hypot(actual.getX() - px, actual.getY() - py) <= sampleDistance(ellipse, px, py) + 1e-6);
+			}
+		}
+	}
+
+	private static void assertOnEllipse(Ellipse2d ellipse, Point2D<?, ?> point) {
+		final double nx = (point.getX() - ellipse.getCenterX()) / ellipse.getHorizontalRadius();
+		final double ny = (point.getY() - ellipse.getCenterY()) / ellipse.getVerticalRadius();
+		assertEquals(1., nx * nx + ny * ny, 1e-9);
+	}
+
+	private static double sampleDistance(Ellipse2d ellipse, double px, double py) {
+		double min = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < ELLIPSE_SAMPLES; ++i) {
+			final double angle = i * 2. * Math.PI / ELLIPSE_SAMPLES;
+			final double x = ellipse.getCenterX() + ellipse.getHorizontalRadius() * Math.cos(angle);
+			final double y = ellipse.getCenterY() + ellipse.getVerticalRadius() * Math.sin(angle);
+			min = Math.min(min, Math.hypot(x - px, y - py));
+		}
+		return min;
+	}
+
+}
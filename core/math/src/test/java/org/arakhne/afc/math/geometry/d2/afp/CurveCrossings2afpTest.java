@@ -0,0 +1,152 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.arakhne.afc.math.MathConstants;
+import org.arakhne.afc.math.geometry.PathElementType;
+import org.arakhne.afc.math.geometry.d2.d.Path2d;
+import org.arakhne.afc.math.geometry.d2.d.PathElement2d;
+
+@SuppressWarnings("all")
+public class CurveCrossings2afpTest {
+
+	private Random random;
+
+	private List<double[]> segments;
+
+	private CurveCrossings2afp curves;
+
+	@Before
+	public void setUp() {
+		this.random = new Random(2016);
+		this.segments = new ArrayList<>();
+		this.curves = new CurveCrossings2afp((crossings, x0, y0, x1, y1) -> {
+			this.segments.add(new double[] {x0, y0, x1, y1});
+			return crossings + 1;
+		});
+	}
+
+	private double rnd() {
+		return this.random.nextDouble() * 200 - 100;
+	}
+
+	private void assertFlattening(Path2d path) {
+		final List<double[]> expected = new ArrayList<>();
+		final PathIterator2afp<PathElement2d> iterator = path.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO);
+		double curx = 0;
+		double cury = 0;
+		while (iterator.hasNext()) {
+			final PathElement2d element = iterator.next();
+			if (element.getType() == PathElementType.LINE_TO) {
+				expected.add(new double[] {curx, cury, element.getToX(), element.getToY()});
+			}
+			curx = element.getToX();
+			cury = element.getToY();
+		}
+		assertEquals(expected.size(), this.segments.size());
+		for (int i = 0; i < expected.size(); ++i) {
+			for (int j = 0; j < 4; ++j) {
+				assertEquals(Double.doubleToLongBits(expected.get(i)[j]), Double.doubleToLongBits(this.segments.get(i)[j]));
+			}
+		}
+	}
+
+	@Test
+	public void quadTo() {
+		for (int i = 0; i < 200; ++i) {
+			this.segments.clear();
+			final double x0 = rnd();
+			final double y0 = rnd();
+			final double cx = rnd();
+			final double cy = rnd();
+			final double x1 = rnd();
+			final double y1 = rnd();
+			final int crossings = this.curves.quadTo(0, x0, y0, cx, cy, x1, y1);
+			final Path2d path = new Path2d();
+			path.moveTo(x0, y0);
+			path.quadTo(cx, cy, x1, y1);
+			assertFlattening(path);
+			assertEquals(this.segments.size(), crossings);
+		}
+	}
+
+	@Test
+	public void curveTo() {
+		for (int i = 0; i < 200; ++i) {
+			this.segments.clear();
+			final double x0 = rnd();
+			final double y0 = rnd();
+			final double cx1 = rnd();
+			final double cy1 = rnd();
+			final double cx2 = rnd();
+			final double cy2 = rnd();
+			final double x1 = rnd();
+			final double y1 = rnd();
+			final int crossings = this.curves.curveTo(0, x0, y0, cx1, cy1, cx2, cy2, x1, y1);
+			final Path2d path = new Path2d();
+			path.moveTo(x0, y0);
+			path.curveTo(cx1, cy1, cx2, cy2, x1, y1);
+			assertFlattening(path);
+			assertEquals(this.segments.size(), crossings);
+		}
+	}
+
+	@Test
+	public void arcTo() {
+		for (int i = 0; i < 200; ++i) {
+			this.segments.clear();
+			final double x0 = rnd();
+			final double y0 = rnd();
+			final double x1 = rnd();
+			final double y1 = rnd();
+			final double rx = i % 20 == 0 ? 0 : Math.abs(rnd());
+			final double ry = Math.abs(rnd());
+			final double rotation = this.random.nextDouble() * Math.PI;
+			final boolean large = this.random.nextBoolean();
+			final boolean sweep = this.random.nextBoolean();
+			this.curves.arcTo(0, x0, y0, x1, y1, rx, ry, rotation, large, sweep);
+			final Path2d path = new Path2d();
+			path.moveTo(x0, y0);
+			path.arcTo(x1, y1, rx, ry, rotation, large, sweep);
+			assertFlattening(path);
+		}
+	}
+
+	@Test
+	public void shapeIntersects() {
+		final CurveCrossings2afp intersecting = new CurveCrossings2afp((crossings, x0, y0, x1, y1) -> {
+			this.segments.add(new double[] {x0, y0, x1, y1});
+			return MathConstants.SHAPE_INTERSECTS;
+		});
+		assertEquals(MathConstants.SHAPE_INTERSECTS, intersecting.curveTo(0, 0, 0, 10, 50, 50, -50, 100, 0));
+		assertEquals(1, this.segments.size());
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.arakhne.afc.math.MathConstants;
+import org.arakhne.afc.math.geometry.d2.d.Path2d;
+import org.arakhne.afc.math.geometry.d2.d.PathElement2d;
+
+@SuppressWarnings("all")
+public class FlatteningCache2afpTest {
+
+	private Random random;
+
+	private Path2d path;
+
+	@Before
+	public void setUp() {
+		this.random = new Random(2016);
+		this.path = new Path2d();
+		this.path.moveTo(rnd(), rnd());
+		this.path.lineTo(rnd(), rnd());
+		this.path.quadTo(rnd(), rnd(), rnd(), rnd());
+		this.path.curveTo(rnd(), rnd(), rnd(), rnd(), rnd(), rnd());
+		this.path.closePath();
+		this.path.moveTo(rnd(), rnd());
+		this.path.curveTo(rnd(), rnd(), rnd(), rnd(), rnd(), rnd());
+		this.path.lineTo(rnd(), rnd());
+	}
+
+	private double rnd() {
+		return this.random.nextDouble() * 200 - 100;
+	}
+
+	private static PathIterator2afp<PathElement2d> flattening(Path2d path, double flatness) {
+		return new Path2afp.FlatteningPathIterator<>(path.getPathIterator(null), flatness,
+				Path2afp.DEFAULT_FLATTENING_LIMIT);
+	}
+
+	private static void assertSameElements(PathIterator2afp<PathElement2d> expected, PathIterator2afp<PathElement2d> actual) {
+		assertEquals(expected.getWindingRule(), actual.getWindingRule());
+		assertEquals(expected.isPolyline(), actual.isPolyline());
+		assertEquals(expected.isCurved(), actual.isCurved());
+		assertEquals(expected.isPolygon(), actual.isPolygon());
+		assertEquals(expected.isMultiParts(), actual.isMultiParts());
+		while (expected.hasNext()) {
+			assertTrue(actual.hasNext());
+			final PathElement2d e = expected.next();
+			final PathElement2d a = actual.next();
+			assertEquals(e.getType(), a.getType());
+			assertEquals(Double.doubleToLongBits(e.getFromX()), Double.doubleToLongBits(a.getFromX()));
+			assertEquals(Double.doubleToLongBits(e.getFromY()), Double.doubleToLongBits(a.getFromY()));
+			assertEquals(Double.doubleToLongBits(e.getToX()), Double.doubleToLongBits(a.getToX()));
+			assertEquals(Double.doubleToLongBits(e.getToY()), Double.doubleToLongBits(a.getToY()));
+		}
+		assertFalse(actual.hasNext());
+	}
+
+	@Test
+	public void getPathIterator() {
+		final FlatteningCache2afp cache = new FlatteningCache2afp();
+		for (final double flatness : new double[] {10, 1, MathConstants.SPLINE_APPROXIMATION_RATIO, .01}) {
+			assertSameElements(flattening(this.path, flatness), cache.getPathIterator(this.path, flatness));
+			// Second call replays the stored polyline
+			assertSameElements(flattening(this.path, flatness), cache.getPathIterator(this.path, flatness));
+		}
+	}
+
+	@Test
+	public void restartIterations() {
+		final FlatteningCache2afp cache = new FlatteningCache2afp();
+		final PathIterator2afp<PathElement2d> iterator = cache.getPathIterator(this.path, 1);
+		iterator.next();
+		iterator.next();
+		assertSameElements(flattening(this.path, 1), iterator.restartIterations());
+	}
+
+	@Test
+	public void contains() {
+		final FlatteningCache2afp cache = new FlatteningCache2afp(2);
+		assertEquals(0, cache.size());
+		cache.getPathIterator(this.path, 1);
+		assertTrue(cache.contains(1));
+		assertFalse(cache.contains(.5));
+		cache.getPathIterator(this.path, .5);
+		cache.getPathIterator(this.path, 1);
+		assertEquals(2, cache.size());
+		cache.getPathIterator(this.path, .1);
+		assertEquals(2, cache.size());
+		assertFalse(cache.contains(1));
+		assertTrue(cache.contains(.5));
+		assertTrue(cache.contains(.1));
+	}
+
+	@Test
+	public void pathInvalidation() {
+		assertSameElements(flattening(this.path, 1), this.path.getPathIterator(1));
+		this.path.quadTo(rnd(), rnd(), rnd(), rnd());
+		assertSameElements(flattening(this.path, 1), this.path.getPathIterator(1));
+		this.path.translate(3, -4);
+		assertSameElements(flattening(this.path, 1), this.path.getPathIterator(1));
+		this.path.closePath();
+		assertSameElements(flattening(this.path, 1), this.path.getPathIterator(1));
+		this.path.removeLast();
+		assertSameElements(flattening(this.path, 1), this.path.getPathIterator(1));
+		final Path2d clone = this.path.clone();
+		clone.lineTo(rnd(), rnd());
+		assertSameElements(flattening(this.path, 1), this.path.getPathIterator(1));
+		assertSameElements(flattening(clone, 1), clone.getPathIterator(1));
+	}
+
+}
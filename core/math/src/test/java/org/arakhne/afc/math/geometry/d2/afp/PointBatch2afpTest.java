@@ -0,0 +1,155 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.arakhne.afc.math.geometry.d2.Point2D;
+
+@SuppressWarnings("all")
+public class PointBatch2afpTest {
+
+	private static final int SIZE = 1000;
+
+	private Random random;
+
+	private PointBatch2afp batch;
+
+	private PointBatch2afp parallelBatch;
+
+	@Before
+	public void setUp() {
+		this.random = new Random(2016);
+		this.batch = new PointBatch2afp(4);
+		this.parallelBatch = new PointBatch2afp();
+		this.parallelBatch.setParallelThreshold(7);
+		for (int i = 0; i < SIZE; ++i) {
+			final double x = rnd();
+			final double y = rnd();
+			assertEquals(i, this.batch.add(x, y));
+			this.parallelBatch.add(x, y);
+		}
+		// Duplicate point for checking the ties
+		this.batch.add(this.batch.getX(3), this.batch.getY(3));
+		this.parallelBatch.add(this.batch.getX(3), this.batch.getY(3));
+	}
+
+	private double rnd() {
+		return this.random.nextDouble() * 200 - 100;
+	}
+
+	@Test
+	public void add() {
+		assertEquals(SIZE + 1, this.batch.size());
+		final PointBatch2afp b = new PointBatch2afp(0);
+		assertTrue(b.isEmpty());
+		assertEquals(0, b.add(1, 2));
+		assertEquals(1, b.add(3, 4));
+		b.set(0, -1, -2);
+		assertEquals(-1, b.getX(0), 0);
+		assertEquals(-2, b.getY(0), 0);
+		assertEquals(3, b.getX(1), 0);
+		assertEquals(4, b.getY(1), 0);
+		b.clear();
+		assertTrue(b.isEmpty());
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void getX_outOfBounds() {
+		this.batch.getX(SIZE + 1);
+	}
+
+	@Test
+	public void containedInRectangle() {
+		final boolean[] result = new boolean[SIZE + 1];
+		final boolean[] parallelResult = new boolean[SIZE + 1];
+		final int count = this.batch.containedInRectangle(-20, -10, 30, 25, result);
+		assertEquals(count, this.parallelBatch.containedInRectangle(-20, -10, 30, 25, parallelResult));
+		int expectedCount = 0;
+		for (int i = 0; i < this.batch.size(); ++i) {
+			final boolean expected = Rectangle2afp.containsRectanglePoint(-20, -10, 30, 25,
+					this.batch.getX(i), this.batch.getY(i));
+			if (expected) {
+				++expectedCount;
+			}
+			assertEquals(expected, result[i]);
+			assertEquals(expected, parallelResult[i]);
+		}
+		assertEquals(expectedCount, count);
+		assertTrue(count > 0);
+	}
+
+	@Test
+	public void computeDistanceSquaredToPoint() {
+		final double[] result = new double[SIZE + 1];
+		final double[] parallelResult = new double[SIZE + 1];
+		this.batch.computeDistanceSquaredToPoint(12, -7, result);
+		this.parallelBatch.computeDistanceSquaredToPoint(12, -7, parallelResult);
+		for (int i = 0; i < this.batch.size(); ++i) {
+			final double expected = Point2D.getDistanceSquaredPointPoint(this.batch.getX(i), this.batch.getY(i), 12, -7);
+			assertEquals(expected, result[i], 0);
+			assertEquals(expected, parallelResult[i], 0);
+		}
+	}
+
+	@Test
+	public void computeDistanceSquaredToSegment() {
+		final double[] result = new double[SIZE + 1];
+		final double[] parallelResult = new double[SIZE + 1];
+		this.batch.computeDistanceSquaredToSegment(-50, 10, 40, 30, result);
+		this.parallelBatch.computeDistanceSquaredToSegment(-50, 10, 40, 30, parallelResult);
+		for (int i = 0; i < this.batch.size(); ++i) {
+			final double expected = Segment2afp.computeDistanceSquaredSegmentPoint(-50, 10, 40, 30,
+					this.batch.getX(i), this.batch.getY(i));
+			assertEquals(expected, result[i], 0);
+			assertEquals(expected, parallelResult[i], 0);
+		}
+	}
+
+	@Test
+	public void getClosestPointTo() {
+		assertEquals(-1, new PointBatch2afp().getClosestPointTo(0, 0));
+		assertEquals(3, this.batch.getClosestPointTo(this.batch.getX(3), this.batch.getY(3)));
+		assertEquals(3, this.parallelBatch.getClosestPointTo(this.batch.getX(3), this.batch.getY(3)));
+		for (int n = 0; n < 20; ++n) {
+			final double px = rnd();
+			final double py = rnd();
+			int expected = -1;
+			double min = Double.POSITIVE_INFINITY;
+			for (int i = 0; i < this.batch.size(); ++i) {
+				final double distance = Point2D.getDistanceSquaredPointPoint(this.batch.getX(i), this.batch.getY(i), px, py);
+				if (distance < min) {
+					min = distance;
+					expected = i;
+				}
+			}
+			assertEquals(expected, this.batch.getClosestPointTo(px, py));
+			assertEquals(expected, this.parallelBatch.getClosestPointTo(px, py));
+		}
+	}
+
+}
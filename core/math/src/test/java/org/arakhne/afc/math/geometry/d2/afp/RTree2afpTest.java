@@ -0,0 +1,158 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+
+@SuppressWarnings("all")
+public class RTree2afpTest {
+
+	private Random random;
+
+	private List<Rectangle2d> boxes;
+
+	@Before
+	public void setUp() {
+		this.random = new Random(2016);
+		this.boxes = new ArrayList<>();
+		for (int i = 0; i < 1000; ++i) {
+			this.boxes.add(randomBox());
+		}
+	}
+
+	private Rectangle2d randomBox() {
+		return new Rectangle2d(this.random.nextDouble() * 1000, this.random.nextDouble() * 1000,
+				this.random.nextDouble() * 15, this.random.nextDouble() * 15);
+	}
+
+	private void assertQueries(RTree2afp<Rectangle2d> tree) {
+		assertEquals(this.boxes.size(), tree.size());
+		for (int i = 0; i < 100; ++i) {
+			final Rectangle2d query = randomBox();
+			final HashSet<Rectangle2d> expected = new HashSet<>();
+			Rectangle2d nearest = null;
+			double min = Double.POSITIVE_INFINITY;
+			for (final Rectangle2d box : this.boxes) {
+				if (box.getMinX() <= query.getMaxX() && query.getMinX() <= box.getMaxX()
+						&& box.getMinY() <= query.getMaxY() && query.getMinY() <= box.getMaxY()) {
+					expected.add(box);
+				}
+				final double distance = box.getDistanceSquared(query);
+				if (distance < min) {
+					min = distance;
+					nearest = box;
+				}
+			}
+			assertEquals(expected, new HashSet<>(tree.getIntersecting(query)));
+			final Rectangle2d found = tree.getNearest(query.getMinX(), query.getMinY(), query.getMaxX(), query.getMaxY(),
+				it -> it.getDistanceSquared(query));
+			assertEquals(min, found.getDistanceSquared(query), 0);
+			assertEquals(nearest.getDistanceSquared(query), found.getDistanceSquared(query), 0);
+		}
+	}
+
+	@Test
+	public void build() {
+		final RTree2afp<Rectangle2d> tree = new RTree2afp<>();
+		tree.build(this.boxes, it -> it);
+		assertQueries(tree);
+	}
+
+	@Test
+	public void add() {
+		final RTree2afp<Rectangle2d> tree = new RTree2afp<>(4);
+		for (final Rectangle2d box : this.boxes) {
+			tree.add(box, box);
+		}
+		assertQueries(tree);
+	}
+
+	@Test
+	public void remove() {
+		final RTree2afp<Rectangle2d> tree = new RTree2afp<>(6);
+		tree.build(this.boxes, it -> it);
+		for (int i = 0; i < 700; ++i) {
+			final Rectangle2d box = this.boxes.remove(this.random.nextInt(this.boxes.size()));
+			assertTrue(tree.remove(box));
+			assertFalse(tree.contains(box));
+		}
+		assertFalse(tree.remove(new Rectangle2d()));
+		assertQueries(tree);
+		for (final Rectangle2d box : this.boxes) {
+			assertTrue(tree.remove(box));
+		}
+		assertTrue(tree.isEmpty());
+		assertNull(tree.getNearest(0, 0, 1, 1, it -> 0));
+	}
+
+	@Test
+	public void update() {
+		final RTree2afp<Rectangle2d> tree = new RTree2afp<>();
+		tree.build(this.boxes, it -> it);
+		for (final Rectangle2d box : this.boxes) {
+			box.set(randomBox());
+			assertTrue(tree.update(box, box));
+		}
+		assertQueries(tree);
+	}
+
+	@Test
+	public void duplicates() {
+		final RTree2afp<Rectangle2d> tree = new RTree2afp<>();
+		final Rectangle2d box = new Rectangle2d(0, 0, 1, 1);
+		tree.add(box, box);
+		tree.add(box, box);
+		assertEquals(2, tree.size());
+		assertEquals(2, tree.getIntersecting(box).size());
+		assertTrue(tree.remove(box));
+		assertTrue(tree.contains(box));
+		assertSame(box, tree.getNearest(5, 5, 5, 5, it -> it.getDistanceSquared(new Rectangle2d(5, 5, 0, 0))));
+	}
+
+	@Test
+	public void toBoundingBox() {
+		final RTree2afp<Rectangle2d> tree = new RTree2afp<>();
+		final Rectangle2d bounds = new Rectangle2d();
+		assertFalse(tree.toBoundingBox(bounds));
+		tree.build(this.boxes, it -> it);
+		assertTrue(tree.toBoundingBox(bounds));
+		final Rectangle2d expected = this.boxes.get(0).clone();
+		for (final Rectangle2d box : this.boxes) {
+			expected.setUnion(box);
+		}
+		assertEquals(expected, bounds);
+	}
+
+}
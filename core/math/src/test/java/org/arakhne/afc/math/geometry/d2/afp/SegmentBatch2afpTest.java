@@ -0,0 +1,190 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.arakhne.afc.math.MathConstants;
+
+@SuppressWarnings("all")
+public class SegmentBatch2afpTest {
+
+	private static final int SIZE = 1000;
+
+	private Random random;
+
+	private SegmentBatch2afp batch;
+
+	private SegmentBatch2afp parallelBatch;
+
+	@Before
+	public void setUp() {
+		this.random = new Random(2016);
+		this.batch = new SegmentBatch2afp(4);
+		this.parallelBatch = new SegmentBatch2afp();
+		this.parallelBatch.setParallelThreshold(7);
+		for (int i = 0; i < SIZE; ++i) {
+			final double x1 = rnd();
+			final double y1 = rnd();
+			final double x2 = x1 + rnd() / 10;
+			final double y2 = y1 + rnd() / 10;
+			assertEquals(i, this.batch.add(x1, y1, x2, y2));
+			this.parallelBatch.add(x1, y1, x2, y2);
+		}
+	}
+
+	private double rnd() {
+		return this.random.nextDouble() * 200 - 100;
+	}
+
+	@Test
+	public void add() {
+		assertEquals(SIZE, this.batch.size());
+		final SegmentBatch2afp b = new SegmentBatch2afp(0);
+		assertTrue(b.isEmpty());
+		assertEquals(0, b.add(1, 2, 3, 4));
+		assertEquals(1, b.add(5, 6, 7, 8));
+		b.set(0, -1, -2, -3, -4);
+		assertEquals(-1, b.getX1(0), 0);
+		assertEquals(-2, b.getY1(0), 0);
+		assertEquals(-3, b.getX2(0), 0);
+		assertEquals(-4, b.getY2(0), 0);
+		assertEquals(5, b.getX1(1), 0);
+		assertEquals(8, b.getY2(1), 0);
+		b.clear();
+		assertTrue(b.isEmpty());
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void getX1_outOfBounds() {
+		this.batch.getX1(SIZE);
+	}
+
+	@Test
+	public void intersectsSegment() {
+		final double x1 = -80;
+		final double y1 = -60;
+		final double x2 = 90;
+		final double y2 = 70;
+		final boolean[] result = new boolean[SIZE];
+		final boolean[] parallelResult = new boolean[SIZE];
+		final int count = this.batch.intersectsSegment(x1, y1, x2, y2, result);
+		assertEquals(count, this.parallelBatch.intersectsSegment(x1, y1, x2, y2, parallelResult));
+		int expectedCount = 0;
+		for (int i = 0; i < SIZE; ++i) {
+			final boolean expected = Segment2afp.intersectsSegmentSegmentWithEnds(
+					this.batch.getX1(i), this.batch.getY1(i), this.batch.getX2(i), this.batch.getY2(i),
+					x1, y1, x2, y2);
+			if (expected) {
+				++expectedCount;
+			}
+			assertEquals(expected, result[i]);
+			assertEquals(expected, parallelResult[i]);
+		}
+		assertEquals(expectedCount, count);
+		assertTrue(count > 0);
+	}
+
+	@Test
+	public void intersectsRectangle() {
+		final boolean[] result = new boolean[SIZE];
+		final boolean[] parallelResult = new boolean[SIZE];
+		final int count = this.batch.intersectsRectangle(-20, -10, 30, 25, result);
+		assertEquals(count, this.parallelBatch.intersectsRectangle(-20, -10, 30, 25, parallelResult));
+		int expectedCount = 0;
+		for (int i = 0; i < SIZE; ++i) {
+			final boolean expected = Rectangle2afp.intersectsRectangleSegment(-20, -10, 30, 25,
+					this.batch.getX1(i), this.batch.getY1(i), this.batch.getX2(i), this.batch.getY2(i));
+			if (expected) {
+				++expectedCount;
+			}
+			assertEquals(expected, result[i]);
+			assertEquals(expected, parallelResult[i]);
+		}
+		assertEquals(expectedCount, count);
+		assertTrue(count > 0);
+	}
+
+	@Test
+	public void computeCrossingsFromRect() {
+		final SegmentBatch2afp square = new SegmentBatch2afp();
+		square.add(0, 0, 10, 0);
+		square.add(10, 0, 10, 10);
+		square.add(10, 10, 0, 10);
+		square.add(0, 10, 0, 0);
+		final SegmentBatch2afp parallelSquare = new SegmentBatch2afp();
+		parallelSquare.setParallelThreshold(1);
+		for (int i = 0; i < square.size(); ++i) {
+			parallelSquare.add(square.getX1(i), square.getY1(i), square.getX2(i), square.getY2(i));
+		}
+		int expected = 0;
+		for (int i = 0; i < square.size(); ++i) {
+			expected = Segment2afp.computeCrossingsFromRect(expected, 20, 2, 25, 5,
+					square.getX1(i), square.getY1(i), square.getX2(i), square.getY2(i));
+		}
+		assertEquals(expected, square.computeCrossingsFromRect(20, 2, 25, 5));
+		assertEquals(expected, parallelSquare.computeCrossingsFromRect(20, 2, 25, 5));
+		assertEquals(MathConstants.SHAPE_INTERSECTS, square.computeCrossingsFromRect(5, 5, 15, 6));
+		assertEquals(MathConstants.SHAPE_INTERSECTS, parallelSquare.computeCrossingsFromRect(5, 5, 15, 6));
+	}
+
+	@Test
+	public void computeDistanceSquaredToPoint() {
+		final double[] result = new double[SIZE];
+		final double[] parallelResult = new double[SIZE];
+		this.batch.computeDistanceSquaredToPoint(12, -7, result);
+		this.parallelBatch.computeDistanceSquaredToPoint(12, -7, parallelResult);
+		for (int i = 0; i < SIZE; ++i) {
+			final double expected = Segment2afp.computeDistanceSquaredSegmentPoint(
+					this.batch.getX1(i), this.batch.getY1(i), this.batch.getX2(i), this.batch.getY2(i), 12, -7);
+			assertEquals(expected, result[i], 0);
+			assertEquals(expected, parallelResult[i], 0);
+		}
+	}
+
+	@Test
+	public void getClosestSegmentTo() {
+		assertEquals(-1, new SegmentBatch2afp().getClosestSegmentTo(0, 0));
+		for (int n = 0; n < 20; ++n) {
+			final double px = rnd();
+			final double py = rnd();
+			int expected = -1;
+			double min = Double.POSITIVE_INFINITY;
+			for (int i = 0; i < SIZE; ++i) {
+				final double distance = Segment2afp.computeDistanceSquaredSegmentPoint(
+						this.batch.getX1(i), this.batch.getY1(i), this.batch.getX2(i), this.batch.getY2(i), px, py);
+				if (distance < min) {
+					min = distance;
+					expected = i;
+				}
+			}
+			assertEquals(expected, this.batch.getClosestSegmentTo(px, py));
+			assertEquals(expected, this.parallelBatch.getClosestSegmentTo(px, py));
+		}
+	}
+
+}
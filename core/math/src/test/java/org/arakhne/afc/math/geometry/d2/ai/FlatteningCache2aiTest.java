@@ -0,0 +1,138 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.ai;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.arakhne.afc.math.MathConstants;
+import org.arakhne.afc.math.geometry.d2.i.Path2i;
+import org.arakhne.afc.math.geometry.d2.i.PathElement2i;
+
+@SuppressWarnings("all")
+public class FlatteningCache2aiTest {
+
+	private Random random;
+
+	private Path2i path;
+
+	@Before
+	public void setUp() {
+		this.random = new Random(2016);
+		this.path = new Path2i();
+		this.path.moveTo(rnd(), rnd());
+		this.path.lineTo(rnd(), rnd());
+		this.path.quadTo(rnd(), rnd(), rnd(), rnd());
+		this.path.curveTo(rnd(), rnd(), rnd(), rnd(), rnd(), rnd());
+		this.path.closePath();
+		this.path.moveTo(rnd(), rnd());
+		this.path.curveTo(rnd(), rnd(), rnd(), rnd(), rnd(), rnd());
+		this.path.lineTo(rnd(), rnd());
+	}
+
+	private int rnd() {
+		return this.random.nextInt(200) - 100;
+	}
+
+	private static PathIterator2ai<PathElement2i> flattening(Path2i path, double flatness) {
+		return new Path2ai.FlatteningPathIterator<>(path.getPathIterator(null), flatness,
+				Path2ai.DEFAULT_FLATTENING_LIMIT);
+	}
+
+	private static void assertSameElements(PathIterator2ai<PathElement2i> expected, PathIterator2ai<PathElement2i> actual) {
+		assertEquals(expected.getWindingRule(), actual.getWindingRule());
+		assertEquals(expected.isPolyline(), actual.isPolyline());
+		assertEquals(expected.isCurved(), actual.isCurved());
+		assertEquals(expected.isPolygon(), actual.isPolygon());
+		assertEquals(expected.isMultiParts(), actual.isMultiParts());
+		while (expected.hasNext()) {
+			assertTrue(actual.hasNext());
+			final PathElement2i e = expected.next();
+			final PathElement2i a = actual.next();
+			assertEquals(e.getType(), a.getType());
+			assertEquals(e.getFromX(), a.getFromX());
+			assertEquals(e.getFromY(), a.getFromY());
+			assertEquals(e.getToX(), a.getToX());
+			assertEquals(e.getToY(), a.getToY());
+		}
+		assertFalse(actual.hasNext());
+	}
+
+	@Test
+	public void getPathIterator() {
+		final FlatteningCache2ai cache = new FlatteningCache2ai();
+		for (final double flatness : new double[] {10, 1, MathConstants.SPLINE_APPROXIMATION_RATIO, .01}) {
+			assertSameElements(flattening(this.path, flatness), cache.getPathIterator(this.path, flatness));
+			// Second call replays the stored polyline
+			assertSameElements(flattening(this.path, flatness), cache.getPathIterator(this.path, flatness));
+		}
+	}
+
+	@Test
+	public void restartIterations() {
+		final FlatteningCache2ai cache = new FlatteningCache2ai();
+		final PathIterator2ai<PathElement2i> iterator = cache.getPathIterator(this.path, 1);
+		iterator.next();
+		iterator.next();
+		assertSameElements(flattening(this.path, 1), iterator.restartIterations());
+	}
+
+	@Test
+	public void contains() {
+		final FlatteningCache2ai cache = new FlatteningCache2ai(2);
+		assertEquals(0, cache.size());
+		cache.getPathIterator(this.path, 1);
+		assertTrue(cache.contains(1));
+		assertFalse(cache.contains(.5));
+		cache.getPathIterator(this.path, .5);
+		cache.getPathIterator(this.path, 1);
+		assertEquals(2, cache.size());
+		cache.getPathIterator(this.path, .1);
+		assertEquals(2, cache.size());
+		assertFalse(cache.contains(1));
+		assertTrue(cache.contains(.5));
+		assertTrue(cache.contains(.1));
+	}
+
+	@Test
+	public void pathInvalidation() {
+		assertSameElements(flattening(this.path, 1), this.path.getPathIterator(1));
+		this.path.quadTo(rnd(), rnd(), rnd(), rnd());
+		assertSameElements(flattening(this.path, 1), this.path.getPathIterator(1));
+		this.path.translate(3, -4);
+		assertSameElements(flattening(this.path, 1), this.path.getPathIterator(1));
+		this.path.closePath();
+		assertSameElements(flattening(this.path, 1), this.path.getPathIterator(1));
+		this.path.removeLast();
+		assertSameElements(flattening(this.path, 1), this.path.getPathIterator(1));
+		final Path2i clone = this.path.clone();
+		clone.lineTo(rnd(), rnd());
+		assertSameElements(flattening(this.path, 1), this.path.getPathIterator(1));
+		assertSameElements(flattening(clone, 1), clone.getPathIterator(1));
+	}
+
+}
@@ -0,0 +1,220 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.ai;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.arakhne.afc.math.geometry.PathWindingRule;
+import org.arakhne.afc.math.geometry.d2.ai.ScanlineRasterizer2ai.SpanBuffer;
+import org.arakhne.afc.math.geometry.d2.d.Path2d;
+import org.arakhne.afc.math.geometry.d2.i.Circle2i;
+import org.arakhne.afc.math.geometry.d2.i.Path2i;
+import org.arakhne.afc.math.geometry.d2.i.Rectangle2i;
+import org.arakhne.afc.util.IntegerList;
+
+@SuppressWarnings("all")
+public class ScanlineRasterizer2aiTest {
+
+	private static final int ORIGIN = -60;
+
+	private static final int SIZE = 120;
+
+	private Random random;
+
+	private ScanlineRasterizer2ai rasterizer;
+
+	@Before
+	public void setUp() {
+		this.random = new Random(2016);
+		this.rasterizer = new ScanlineRasterizer2ai();
+	}
+
+	/** Create a random self-intersecting polygon. The x coordinates are even and the parity of the
+	 * y coordinates alternates, so that no pixel center is located on an edge.
+	 */
+	private Path2i randomPolygon(PathWindingRule rule) {
+		final Path2i path = new Path2i(rule);
+		path.moveTo(this.random.nextInt(50) * 2 - 50, this.random.nextInt(50) * 2 - 50);
+		for (int i = 1; i < 8; ++i) {
+			path.lineTo(this.random.nextInt(50) * 2 - 50, this.random.nextInt(50) * 2 - 50 + (i & 1));
+		}
+		path.closePath();
+		return path;
+	}
+
+	private static BitSet expectedPixels(Path2i path) {
+		final Path2d reference = new Path2d(path.getWindingRule());
+		for (final PathElement2ai element : (Iterable<PathElement2ai>) () -> (java.util.Iterator) path.getPathIterator()) {
+			switch (element.getType()) {
+			case MOVE_TO:
+				reference.moveTo(element.getToX(), element.getToY());
+				break;
+			case LINE_TO:
+				reference.lineTo(element.getToX(), element.getToY());
+				break;
+			case CLOSE:
+				reference.closePath();
+				break;
+			default:
+				throw new IllegalStateException();
+			}
+		}
+		final BitSet bits = new BitSet();
+		for (int y = 0; y < SIZE; ++y) {
+			for (int x = 0; x < SIZE; ++x) {
+				if (reference.contains(ORIGIN + x + .5, ORIGIN + y + .5)) {
+					bits.set(y * SIZE + x);
+				}
+			}
+		}
+		return bits;
+	}
+
+	private static void assertSpanOrder(SpanBuffer buffer) {
+		for (int i = 0; i < buffer.size(); ++i) {
+			assertTrue(buffer.getMinX(i) <= buffer.getMaxX(i));
+			if (i > 0) {
+				assertTrue(buffer.getY(i - 1) <= buffer.getY(i));
+				if (buffer.getY(i - 1) == buffer.getY(i)) {
+					// Neither overlapping nor adjacent
+					assertTrue(buffer.getMaxX(i - 1) + 1 < buffer.getMinX(i));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void rasterizeRectangle() {
+		final SpanBuffer buffer = new SpanBuffer();
+		this.rasterizer.rasterize(new Rectangle2i(5, -3, 10, 4), buffer);
+		assertEquals(4, buffer.size());
+		assertEquals(40, buffer.getPixelCount());
+		assertArrayEquals(new int[] {-3, 5, 14, -2, 5, 14, -1, 5, 14, 0, 5, 14}, buffer.toArray());
+	}
+
+	@Test
+	public void rasterizeEmptyShape() {
+		final SpanBuffer buffer = new SpanBuffer();
+		this.rasterizer.rasterize(new Rectangle2i(5, 5, 0, 10), buffer);
+		this.rasterizer.rasterize(new Path2i(), buffer);
+		assertEquals(0, buffer.size());
+	}
+
+	@Test
+	public void rasterizeNonZero() {
+		for (int i = 0; i < 50; ++i) {
+			final Path2i path = randomPolygon(PathWindingRule.NON_ZERO);
+			final BitSet actual = new BitSet();
+			this.rasterizer.rasterize(path.getPathIterator(),
+					ScanlineRasterizer2ai.bitSetConsumer(actual, ORIGIN, ORIGIN, SIZE, SIZE));
+			assertEquals(path.toString(), expectedPixels(path), actual);
+		}
+	}
+
+	@Test
+	public void rasterizeEvenOdd() {
+		for (int i = 0; i < 50; ++i) {
+			final Path2i path = randomPolygon(PathWindingRule.EVEN_ODD);
+			final BitSet actual = new BitSet();
+			this.rasterizer.rasterize(path.getPathIterator(),
+					ScanlineRasterizer2ai.bitSetConsumer(actual, ORIGIN, ORIGIN, SIZE, SIZE));
+			assertEquals(path.toString(), expectedPixels(path), actual);
+		}
+	}
+
+	@Test
+	public void rasterizeSpanOrder() {
+		final SpanBuffer buffer = new SpanBuffer();
+		for (int i = 0; i < 50; ++i) {
+			buffer.clear();
+			final Path2i path = randomPolygon(i % 2 == 0 ? PathWindingRule.NON_ZERO : PathWindingRule.EVEN_ODD);
+			path.rasterize(buffer);
+			assertSpanOrder(buffer);
+			assertEquals(expectedPixels(path).cardinality(), buffer.getPixelCount());
+		}
+	}
+
+	@Test
+	public void rasterizeClip() {
+		final Rectangle2i clip = new Rectangle2i(-10, -20, 25, 30);
+		for (int i = 0; i < 50; ++i) {
+			final Path2i path = randomPolygon(PathWindingRule.NON_ZERO);
+			final BitSet expected = expectedPixels(path);
+			final SpanBuffer buffer = new SpanBuffer();
+			this.rasterizer.rasterize(path.getPathIterator(), clip, buffer);
+			final BitSet actual = new BitSet();
+			for (int j = 0; j < buffer.size(); ++j) {
+				assertTrue(buffer.getY(j) >= clip.getMinY() && buffer.getY(j) < clip.getMaxY());
+				assertTrue(buffer.getMinX(j) >= clip.getMinX() && buffer.getMaxX(j) < clip.getMaxX());
+				final int offset = (buffer.getY(j) - ORIGIN) * SIZE - ORIGIN;
+				actual.set(offset + buffer.getMinX(j), offset + buffer.getMaxX(j) + 1);
+			}
+			for (int y = clip.getMinY(); y < clip.getMaxY(); ++y) {
+				for (int x = clip.getMinX(); x < clip.getMaxX(); ++x) {
+					final int index = (y - ORIGIN) * SIZE + x - ORIGIN;
+					assertEquals(expected.get(index), actual.get(index));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void integerListConsumer() {
+		for (int i = 0; i < 50; ++i) {
+			final Path2i path = randomPolygon(PathWindingRule.EVEN_ODD);
+			final IntegerList list = new IntegerList();
+			this.rasterizer.rasterize(path.getPathIterator(),
+					ScanlineRasterizer2ai.integerListConsumer(list, ORIGIN, ORIGIN, SIZE, SIZE));
+			final BitSet expected = expectedPixels(path);
+			assertEquals(expected.cardinality(), list.size());
+			for (final int index : expected.stream().toArray()) {
+				assertTrue(list.contains(index));
+			}
+		}
+	}
+
+	@Test
+	public void bitSetConsumerOutsideGrid() {
+		final BitSet bits = new BitSet();
+		new Rectangle2i(-10, -10, 20, 20).rasterize(ScanlineRasterizer2ai.bitSetConsumer(bits, 0, 0, 5, 5));
+		assertEquals(25, bits.cardinality());
+		assertEquals(25, bits.length());
+	}
+
+	@Test
+	public void rasterizeCircle() {
+		final SpanBuffer buffer = new SpanBuffer();
+		new Circle2i(10, 20, 100).rasterize(buffer);
+		assertSpanOrder(buffer);
+		assertEquals(Math.PI * 100 * 100, buffer.getPixelCount(), 400);
+		assertEquals(-80, buffer.getY(0));
+		assertEquals(119, buffer.getY(buffer.size() - 1));
+	}
+
+}
@@ -0,0 +1,113 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+import org.arakhne.afc.math.geometry.d2.afp.MultiShape2afp;
+
+@SuppressWarnings("all")
+public class MultiShape2dSpatialIndexTest extends MultiShape2dTest {
+
+	@Override
+	protected TestShapeFactory2d createFactory() {
+		return new TestShapeFactory2d() {
+			@Override
+			public MultiShape2afp<?, ?, ?, ?, Point2d, Vector2d, Rectangle2d> createMultiShape() {
+				final MultiShape2d shape = new MultiShape2d();
+				shape.setSpatialIndexEnabled(true);
+				return shape;
+			}
+		};
+	}
+
+	private static MultiShape2d<Shape2d<?>> createRandomShapes(Random random, boolean index) {
+		final MultiShape2d<Shape2d<?>> shape = new MultiShape2d<>();
+		shape.setSpatialIndexEnabled(index);
+		for (int i = 0; i < 500; ++i) {
+			final double x = random.nextDouble() * 1000;
+			final double y = random.nextDouble() * 1000;
+			if (random.nextBoolean()) {
+				shape.add(new Rectangle2d(x, y, random.nextDouble() * 20, random.nextDouble() * 20));
+			} else {
+				shape.add(new Circle2d(x, y, random.nextDouble() * 10));
+			}
+		}
+		return shape;
+	}
+
+	@Test
+	public void isSpatialIndexEnabled() {
+		assertTrue(((MultiShape2d) this.shape).isSpatialIndexEnabled());
+		((MultiShape2d) this.shape).setSpatialIndexEnabled(false);
+		assertFalse(((MultiShape2d) this.shape).isSpatialIndexEnabled());
+	}
+
+	@Test
+	public void randomQueries() {
+		final MultiShape2d<Shape2d<?>> linear = createRandomShapes(new Random(1234), false);
+		final MultiShape2d<Shape2d<?>> indexed = createRandomShapes(new Random(1234), true);
+		assertEquals(linear.toBoundingBox(), indexed.toBoundingBox());
+		final Random random = new Random(4321);
+		for (int i = 0; i < 200; ++i) {
+			final Circle2d circle = new Circle2d(random.nextDouble() * 1000, random.nextDouble() * 1000,
+					random.nextDouble() * 30);
+			assertEquals(linear.intersects(circle), indexed.intersects(circle));
+			assertEquals(new HashSet<>(linear.getShapesIntersecting(circle)),
+					new HashSet<>(indexed.getShapesIntersecting(circle)));
+			assertEquals(circle.getDistanceSquared(linear.getClosestPointTo(circle)),
+					circle.getDistanceSquared(indexed.getClosestPointTo(circle)), 0);
+			final Point2d point = new Point2d(random.nextDouble() * 1200 - 100, random.nextDouble() * 1200 - 100);
+			assertEquals(linear.contains(point), indexed.contains(point));
+			assertEquals(linear.getDistanceSquared(point), indexed.getDistanceSquared(point), 0);
+			assertEquals(linear.getClosestPointTo(point), indexed.getClosestPointTo(point));
+		}
+	}
+
+	@Test
+	public void indexFollowsChanges() {
+		final MultiShape2d<Shape2d<?>> indexed = createRandomShapes(new Random(1234), true);
+		final Circle2d circle = new Circle2d(-500, -500, 1);
+		assertNull(indexed.getFirstShapeIntersecting(circle));
+		final Shape2d<?> moved = indexed.get(10);
+		moved.translate(-500 - moved.toBoundingBox().getCenterX(), -500 - moved.toBoundingBox().getCenterY());
+		assertSame(moved, indexed.getFirstShapeIntersecting(circle));
+		assertEquals(-500 - moved.toBoundingBox().getWidth() / 2, indexed.toBoundingBox().getMinX(), 1e-6);
+		indexed.remove(moved);
+		assertNull(indexed.getFirstShapeIntersecting(circle));
+		final Rectangle2d added = new Rectangle2d(-501, -501, 2, 2);
+		indexed.add(added);
+		assertSame(added, indexed.getFirstShapeIntersecting(circle));
+		indexed.clear();
+		assertNull(indexed.getFirstShapeIntersecting(circle));
+		assertTrue(indexed.isEmpty());
+	}
+
+}
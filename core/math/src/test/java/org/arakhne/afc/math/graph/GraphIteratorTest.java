@@ -0,0 +1,222 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.arakhne.afc.math.graph;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.arakhne.afc.math.graph.compact.CompactGraph;
+import org.arakhne.afc.math.graph.compact.CompactGraphPoint;
+import org.arakhne.afc.math.graph.compact.CompactGraphSegment;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class GraphIteratorTest {
+
+	private static final int SIZE = 10;
+
+	private CompactGraph graph;
+
+	/**
+	 * @throws Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		// Grid of SIZE x SIZE points
+		List<int[]> segments = new ArrayList<>();
+		for (int x = 0; x < SIZE; ++x) {
+			for (int y = 0; y < SIZE; ++y) {
+				if (x > 0) {
+					segments.add(new int[] {x * SIZE + y, (x - 1) * SIZE + y});
+				}
+				if (y > 0) {
+					segments.add(new int[] {x * SIZE + y, x * SIZE + y - 1});
+				}
+			}
+		}
+		int[] begins = new int[segments.size()];
+		int[] ends = new int[segments.size()];
+		double[] lengths = new double[segments.size()];
+		for (int i = 0; i < segments.size(); ++i) {
+			begins[i] = segments.get(i)[0];
+			ends[i] = segments.get(i)[1];
+			lengths[i] = 1 + (i % 3);
+		}
+		this.graph = new CompactGraph(SIZE * SIZE, begins, ends, lengths);
+	}
+
+	/**
+	 * @throws Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		this.graph = null;
+	}
+
+	private GraphIterator<CompactGraphSegment, CompactGraphPoint> newIterator(
+			GraphCourseModel<CompactGraphSegment, CompactGraphPoint> model, boolean oriented) {
+		CompactGraphSegment start = this.graph.getSegmentAt(0);
+		return new GraphIterator<>(this.graph, model, start, start.getBeginPoint(), false, oriented, 0);
+	}
+
+	private static List<String> trace(GraphIterator<CompactGraphSegment, CompactGraphPoint> iterator) {
+		List<String> trace = new ArrayList<>();
+		while (iterator.hasNext()) {
+			GraphIterationElement<CompactGraphSegment, CompactGraphPoint> element = iterator.nextElement();
+			trace.add(element.getSegment() + "@" + element.getPoint() + ">" + element.getDistanceToReachSegment());
+		}
+		return trace;
+	}
+
+	/**
+	 */
+	@Test
+	public void breadthFirst_allSegmentsOnce() {
+		GraphIterator<CompactGraphSegment, CompactGraphPoint> iterator = newIterator(null, false);
+		Set<CompactGraphSegment> segments = new HashSet<>();
+		while (iterator.hasNext()) {
+			assertTrue(segments.add(iterator.next()));
+		}
+		assertEquals(this.graph.getSegmentCount(), segments.size());
+	}
+
+	/**
+	 */
+	@Test
+	public void breadthFirst_oriented() {
+		GraphIterator<CompactGraphSegment, CompactGraphPoint> iterator = newIterator(null, true);
+		Set<String> elements = new HashSet<>();
+		int count = 0;
+		while (iterator.hasNext()) {
+			GraphIterationElement<CompactGraphSegment, CompactGraphPoint> element = iterator.nextElement();
+			assertTrue(elements.add(element.getSegment() + "@" + element.getPoint()));
+			++count;
+		}
+		assertTrue(count > this.graph.getSegmentCount());
+		assertTrue(count <= this.graph.getSegmentCount() * 2);
+	}
+
+	/**
+	 */
+	@Test
+	public void shortestSegmentFirst_order() {
+		GraphIterator<CompactGraphSegment, CompactGraphPoint> iterator = newIterator(
+				new ShortestSegmentFirstGraphCourseModel<CompactGraphSegment, CompactGraphPoint>(), false);
+		double previous = Double.NEGATIVE_INFINITY;
+		int count = 0;
+		while (iterator.hasNext()) {
+			GraphIterationElement<CompactGraphSegment, CompactGraphPoint> element = iterator.nextElement();
+			double distance = element.getDistanceToReachSegment() + element.getSegment().getLength();
+			assertTrue(distance >= previous);
+			previous = distance;
+			++count;
+		}
+		assertEquals(this.graph.getSegmentCount(), count);
+	}
+
+	/**
+	 */
+	@Test
+	public void shortestSegmentFirst_model() {
+		ShortestSegmentFirstGraphCourseModel<CompactGraphSegment, CompactGraphPoint> model =
+				new ShortestSegmentFirstGraphCourseModel<>();
+		assertTrue(model.isEmpty());
+		assertNull(model.getNextIterationElement());
+		assertNull(model.removeNextIterationElement());
+		List<GraphIterationElement<CompactGraphSegment, CompactGraphPoint>> elements = new ArrayList<>();
+		for (int i = 0; i < 50; ++i) {
+			CompactGraphSegment segment = this.graph.getSegmentAt(i);
+			GraphIterationElement<CompactGraphSegment, CompactGraphPoint> element = new GraphIterationElement<>(
+					null, segment, segment.getBeginPoint(), (i * 7) % 5, Double.POSITIVE_INFINITY);
+			elements.add(element);
+			model.addIterationElement(element);
+		}
+		model.removeIterationElements(Collections.singleton(elements.get(10)));
+		GraphIterationElement<CompactGraphSegment, CompactGraphPoint> previous = null;
+		int count = 0;
+		while (!model.isEmpty()) {
+			GraphIterationElement<CompactGraphSegment, CompactGraphPoint> element = model.getNextIterationElement();
+			assertSame(element, model.removeNextIterationElement());
+			assertFalse(element == elements.get(10));
+			if (previous != null) {
+				double d1 = previous.getDistanceToReachSegment() + previous.getSegment().getLength();
+				double d2 = element.getDistanceToReachSegment() + element.getSegment().getLength();
+				assertTrue(d1 <= d2);
+				if (d1 == d2) {
+					// The last added element is replied first
+					assertTrue(elements.indexOf(previous) > elements.indexOf(element));
+				}
+			}
+			previous = element;
+			++count;
+		}
+		assertEquals(49, count);
+	}
+
+	/**
+	 */
+	@Test
+	public void depthFirst_allSegmentsOnce() {
+		GraphIterator<CompactGraphSegment, CompactGraphPoint> iterator = newIterator(
+				new DepthFirstGraphCourseModel<CompactGraphSegment, CompactGraphPoint>(), false);
+		Set<CompactGraphSegment> segments = new HashSet<>();
+		while (iterator.hasNext()) {
+			assertTrue(segments.add(iterator.next()));
+		}
+		assertEquals(this.graph.getSegmentCount(), segments.size());
+	}
+
+	/**
+	 */
+	@Test
+	public void setIterationElementReuse() {
+		GraphIterator<CompactGraphSegment, CompactGraphPoint> iterator = newIterator(null, true);
+		assertFalse(iterator.isIterationElementReuse());
+		List<String> expected = trace(iterator);
+
+		iterator = newIterator(null, true);
+		iterator.setIterationElementReuse(true);
+		assertTrue(iterator.isIterationElementReuse());
+		assertEquals(expected, trace(iterator));
+
+		expected = trace(newIterator(new ShortestSegmentFirstGraphCourseModel<CompactGraphSegment, CompactGraphPoint>(), false));
+		iterator = newIterator(new ShortestSegmentFirstGraphCourseModel<CompactGraphSegment, CompactGraphPoint>(), false);
+		iterator.setIterationElementReuse(true);
+		assertEquals(expected, trace(iterator));
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.arakhne.afc.math.graph;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/** Run the tests of {@link GraphPathTest} on a path that stores
+ * its segments in an array.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class GraphPathRandomAccessTest extends GraphPathTest {
+
+	@Override
+	protected GraphPathStub createPath() {
+		return new GraphPathStub(true);
+	}
+
+	/**
+	 */
+	@Test
+	public void isRandomAccess() {
+		assertTrue(createPath().isRandomAccess());
+		assertTrue(createPath().clone().isRandomAccess());
+	}
+
+	/**
+	 */
+	@Test
+	public void getStartingPointFor_afterChanges() {
+		ConnectionStub c1 = new ConnectionStub("c1");
+		ConnectionStub c2 = new ConnectionStub("c2");
+		ConnectionStub c3 = new ConnectionStub("c3");
+		ConnectionStub c4 = new ConnectionStub("c4");
+		SegmentStub s1 = new SegmentStub("s1", c1, c2);
+		SegmentStub s2 = new SegmentStub("s2", c2, c3);
+		SegmentStub s3 = new SegmentStub("s3", c3, c4);
+		GraphPathStub path = createPath();
+		path.add(s1, c1);
+		path.add(s2);
+		path.add(s3);
+		assertSame(c1, path.getStartingPointFor(0));
+		assertSame(c2, path.getStartingPointFor(1));
+		assertSame(c3, path.getStartingPointFor(2));
+
+		path.invert();
+		assertSame(c4, path.getStartingPointFor(0));
+		assertSame(c3, path.getStartingPointFor(1));
+		assertSame(c2, path.getStartingPointFor(2));
+
+		path.removeUntil(s3);
+		assertEquals(2, path.size());
+		assertSame(c3, path.getStartingPointFor(0));
+		assertSame(c2, path.getStartingPointFor(1));
+	}
+
+}
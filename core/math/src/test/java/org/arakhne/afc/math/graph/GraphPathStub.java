@@ -34,5 +34,12 @@ class GraphPathStub extends GraphPath<GraphPathStub,SegmentStub,ConnectionStub>
 	public GraphPathStub() {
 		//
 	}
+
+	/**
+	 * @param randomAccess
+	 */
+	public GraphPathStub(boolean randomAccess) {
+		super(randomAccess);
+	}
 	
 }
@@ -62,12 +62,20 @@ public class GraphPathTest {
 	private ConnectionStub c7;
 	private GraphPathStub path;
 	
+	/** Create the path to test.
+	 *
+	 * @return the path.
+	 */
+	protected GraphPathStub createPath() {
+		return new GraphPathStub();
+	}
+
 	/**
 	 * @throws Exception
 	 */
 	@Before
 	public void setUp() throws Exception {
-		this.path = new GraphPathStub();
+		this.path = createPath();
 		
 		this.c1 = new ConnectionStub("c1[s1,s4]"); 
 		this.c2 = new ConnectionStub("c2[s1,s2]"); 
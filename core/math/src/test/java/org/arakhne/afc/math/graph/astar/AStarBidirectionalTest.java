@@ -0,0 +1,250 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.arakhne.afc.math.graph.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class AStarBidirectionalTest extends AbstractMathTestCase {
+
+	private static final int SIZE = 25;
+
+	private static final int QUERIES = 30;
+
+	private AStarGraphStub graph;
+	private AStarNodeStub[][] nodes;
+	private Random random;
+	
+	/**
+	 * @throws Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		this.random = new Random(1234);
+		this.graph = new AStarGraphStub();
+		this.nodes = new AStarNodeStub[SIZE][SIZE];
+		for (int x = 0; x < SIZE; ++x) {
+			for (int y = 0; y < SIZE; ++y) {
+				this.nodes[x][y] = new AStarNodeStub(x + "/" + y,
+						x * 10. + this.random.nextDouble() * 8.,
+						y * 10. + this.random.nextDouble() * 8.);
+				this.graph.points.add(this.nodes[x][y]);
+			}
+		}
+		for (int x = 0; x < SIZE; ++x) {
+			for (int y = 0; y < SIZE; ++y) {
+				// Holes in the grid force detours
+				if (this.random.nextInt(10) > 0) {
+					if (x > 0) {
+						this.graph.segments.add(new AStarEdgeStub(x + "/" + y + "-W",
+								this.nodes[x][y], this.nodes[x - 1][y], false));
+					}
+					if (y > 0) {
+						this.graph.segments.add(new AStarEdgeStub(x + "/" + y + "-S",
+								this.nodes[x][y], this.nodes[x][y - 1], false));
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * @throws Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		this.graph = null;
+		this.nodes = null;
+		this.random = null;
+	}
+
+	private AStarNodeStub randomNode() {
+		return this.nodes[this.random.nextInt(SIZE)][this.random.nextInt(SIZE)];
+	}
+
+	private static double length(AStarPathStub path) {
+		double length = 0;
+		for (AStarEdgeStub edge : path) {
+			length += edge.getLength();
+		}
+		return length;
+	}
+
+	private void assertSamePathCost(AStarPathStub expected, AStarPathStub actual,
+			AStarNodeStub start, AStarNodeStub end) {
+		if (expected == null) {
+			assertNull(actual);
+		} else {
+			assertNotNull(actual);
+			assertSame(start, actual.getFirstPoint());
+			assertSame(end, actual.getLastPoint());
+			assertEpsilonEquals(length(expected), length(actual));
+		}
+	}
+
+	private AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> newAStar(AStarHeuristic<? super AStarNodeStub> heuristic,
+			boolean bidirectional) {
+		AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> astar = new AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub>(heuristic, AStarPathStub.class);
+		astar.setBidirectionalSearchEnabled(bidirectional);
+		return astar;
+	}
+
+	/**
+	 */
+	@Test
+	public void isBidirectionalSearchEnabled() {
+		AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> astar = newAStar(new AStarHeuristicStub(), false);
+		assertTrue(!astar.isBidirectionalSearchEnabled());
+		astar.setBidirectionalSearchEnabled(true);
+		assertTrue(astar.isBidirectionalSearchEnabled());
+	}
+
+	/**
+	 */
+	@Test
+	public void solvePTPT_samePoint() {
+		AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> astar = newAStar(new AStarHeuristicStub(), true);
+		assertNull(astar.solve(this.nodes[2][2], this.nodes[2][2]));
+	}
+
+	/**
+	 */
+	@Test
+	public void solvePTPT_neighbors() {
+		AStarNodeStub start = this.nodes[0][0];
+		AStarEdgeStub segment = start.segments.get(0);
+		AStarNodeStub end = segment.getOtherSidePoint(start);
+		AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> astar = newAStar(new AStarHeuristicStub(), true);
+		AStarPathStub path = astar.solve(start, end);
+		assertNotNull(path);
+		assertEquals(1, path.size());
+		assertSame(segment, path.get(0));
+	}
+
+	/**
+	 */
+	@Test
+	public void solvePTPT_euclidean() {
+		AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> reference = newAStar(new AStarHeuristicStub(), false);
+		AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> astar = newAStar(new AStarHeuristicStub(), true);
+		for (int i = 0; i < QUERIES; ++i) {
+			AStarNodeStub start = randomNode();
+			AStarNodeStub end = randomNode();
+			if (start != end) {
+				assertSamePathCost(reference.solve(start, end), astar.solve(start, end), start, end);
+			}
+		}
+	}
+
+	/**
+	 */
+	@Test
+	public void solvePTPT_landmarks() {
+		AStarLandmarkHeuristic<AStarEdgeStub, AStarNodeStub> landmarks = new AStarLandmarkHeuristic<>(
+				this.graph, 4, null, true);
+		AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> reference = newAStar(new AStarHeuristicStub(), false);
+		AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> uni = newAStar(landmarks, false);
+		AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> bi = newAStar(landmarks, true);
+		for (int i = 0; i < QUERIES; ++i) {
+			AStarNodeStub start = randomNode();
+			AStarNodeStub end = randomNode();
+			if (start != end) {
+				AStarPathStub expected = reference.solve(start, end);
+				assertSamePathCost(expected, uni.solve(start, end), start, end);
+				assertSamePathCost(expected, bi.solve(start, end), start, end);
+			}
+		}
+	}
+
+	/**
+	 */
+	@Test
+	public void solvePTPT_orientationToolDisablesBidirectional() {
+		AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> astar = newAStar(new AStarHeuristicStub(), true);
+		astar.setSegmentOrientationTool(new DefaultAStarSegmentOrientation<AStarEdgeStub, AStarNodeStub>());
+		AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> reference = newAStar(new AStarHeuristicStub(), false);
+		reference.setSegmentOrientationTool(new DefaultAStarSegmentOrientation<AStarEdgeStub, AStarNodeStub>());
+		AStarNodeStub start = this.nodes[0][0];
+		AStarNodeStub end = this.nodes[SIZE - 1][SIZE - 1];
+		assertSamePathCost(reference.solve(start, end), astar.solve(start, end), start, end);
+	}
+
+	/**
+	 */
+	@Test
+	public void solvePTPT_translateCandidate() {
+		final Set<AStarNodeStub> targets = new HashSet<>();
+		AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> astar = new AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub>(
+				new AStarHeuristicStub(), AStarPathStub.class) {
+			@Override
+			protected AStarNode<AStarEdgeStub, AStarNodeStub> translateCandidate(AStarNodeStub endPoint,
+					AStarNode<AStarEdgeStub, AStarNodeStub> node) {
+				targets.add(endPoint);
+				return super.translateCandidate(endPoint, node);
+			}
+		};
+		astar.setBidirectionalSearchEnabled(true);
+		final Set<AStarNodeStub> closed = new HashSet<>();
+		final List<AStarNodeStub> ended = new ArrayList<>();
+		astar.addAStarListener(new AStarListener<AStarEdgeStub, AStarNodeStub>() {
+			@Override
+			public void nodeClosed(AStarNode<AStarEdgeStub, AStarNodeStub> node,
+					List<AStarNode<AStarEdgeStub, AStarNodeStub>> closeList) {
+				closed.add(node.getGraphPoint());
+			}
+			@Override
+			public void algorithmEnded(List<AStarNode<AStarEdgeStub, AStarNodeStub>> closeList) {
+				for (AStarNode<AStarEdgeStub, AStarNodeStub> node : closeList) {
+					ended.add(node.getGraphPoint());
+				}
+			}
+		});
+		AStarNodeStub start = this.nodes[0][0];
+		AStarNodeStub end = this.nodes[SIZE - 1][SIZE - 1];
+		AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> reference = newAStar(new AStarHeuristicStub(), false);
+		assertSamePathCost(reference.solve(start, end), astar.solve(start, end), start, end);
+		assertEquals(closed, new HashSet<>(ended));
+		assertEquals(2, targets.size());
+		assertTrue(targets.contains(start));
+		assertTrue(targets.contains(end));
+	}
+
+}
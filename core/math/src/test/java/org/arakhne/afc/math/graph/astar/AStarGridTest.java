@@ -0,0 +1,151 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.arakhne.afc.math.graph.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class AStarGridTest extends AbstractMathTestCase {
+
+	private static final int SIZE = 20;
+
+	private static final double STEP = 10.;
+
+	private AStar<AStarPathStub,AStarEdgeStub,AStarNodeStub> astar;
+	private AStarNodeStub[][] nodes;
+	
+	/**
+	 * @throws Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		this.astar = new AStar<>(new AStarHeuristicStub(), AStarPathStub.class);
+		this.nodes = new AStarNodeStub[SIZE][SIZE];
+		for (int x = 0; x < SIZE; ++x) {
+			for (int y = 0; y < SIZE; ++y) {
+				this.nodes[x][y] = new AStarNodeStub(x + "/" + y, x * STEP, y * STEP);
+			}
+		}
+		for (int x = 0; x < SIZE; ++x) {
+			for (int y = 0; y < SIZE; ++y) {
+				if (x > 0) {
+					new AStarEdgeStub(x + "/" + y + "-W", this.nodes[x][y], this.nodes[x - 1][y], false);
+				}
+				if (y > 0) {
+					new AStarEdgeStub(x + "/" + y + "-S", this.nodes[x][y], this.nodes[x][y - 1], false);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * @throws Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		this.astar = null;
+		this.nodes = null;
+	}
+
+	private static double length(AStarPathStub path) {
+		double length = 0;
+		for (AStarEdgeStub edge : path) {
+			length += edge.getLength();
+		}
+		return length;
+	}
+
+	/**
+	 */
+	@Test
+	public void solvePTPT_corners() {
+		AStarPathStub path = this.astar.solve(this.nodes[0][0], this.nodes[SIZE - 1][SIZE - 1]);
+		assertNotNull(path);
+		assertEquals(2 * (SIZE - 1), path.size());
+		assertSame(this.nodes[0][0], path.getFirstPoint());
+		assertSame(this.nodes[SIZE - 1][SIZE - 1], path.getLastPoint());
+		assertEpsilonEquals(2 * (SIZE - 1) * STEP, length(path));
+	}
+
+	/**
+	 */
+	@Test
+	public void solvePTPT_inside() {
+		AStarPathStub path = this.astar.solve(this.nodes[SIZE - 3][2], this.nodes[4][SIZE - 5]);
+		assertNotNull(path);
+		assertEquals(SIZE - 7 + SIZE - 7, path.size());
+		assertSame(this.nodes[SIZE - 3][2], path.getFirstPoint());
+		assertSame(this.nodes[4][SIZE - 5], path.getLastPoint());
+		assertEpsilonEquals((SIZE - 7 + SIZE - 7) * STEP, length(path));
+	}
+
+	/**
+	 */
+	@Test
+	public void solvePTPT_openListOrder() {
+		final int[] consumed = new int[1];
+		this.astar.addAStarListener(new AStarListener<AStarEdgeStub, AStarNodeStub>() {
+			@Override
+			public void nodeConsumed(AStarNode<AStarEdgeStub, AStarNodeStub> node,
+					List<AStarNode<AStarEdgeStub, AStarNodeStub>> openList) {
+				++consumed[0];
+				for (AStarNode<AStarEdgeStub, AStarNodeStub> openNode : openList) {
+					assertTrue(node.getPathCost() <= openNode.getPathCost());
+				}
+			}
+		});
+		AStarPathStub path = this.astar.solve(this.nodes[0][0], this.nodes[SIZE - 1][SIZE - 1]);
+		assertNotNull(path);
+		assertTrue(consumed[0] >= path.size());
+	}
+
+	/**
+	 */
+	@Test
+	public void findPathPTPT_noReopening() {
+		this.astar.setClosedNodeReopeningEnabled(false);
+		this.nodes[0][0].setCost(0.);
+		this.nodes[0][0].setEstimatedCost(0.);
+		List<AStarNode<AStarEdgeStub,AStarNodeStub>> list = this.astar.findPath(this.nodes[0][0], this.nodes[SIZE - 1][0]);
+		assertNotNull(list);
+		assertTrue(list.contains(this.nodes[0][0]));
+		assertTrue(list.contains(this.nodes[SIZE - 1][0]));
+		AStarPathStub path = this.astar.createPath(this.nodes[0][0], this.nodes[SIZE - 1][0], list);
+		assertNotNull(path);
+		assertEquals(SIZE - 1, path.size());
+	}
+
+}
@@ -0,0 +1,158 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.arakhne.afc.math.graph.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class AStarLandmarkHeuristicTest extends AbstractMathTestCase {
+
+	private AStarGraphStub graph;
+	private AStarNodeStub A, B, C, D, E, F;
+	private AStarEdgeStub AB, BD, CA, DC, DE;
+	
+	/**
+	 * @throws Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		this.graph = new AStarGraphStub();
+		this.A = new AStarNodeStub("A", 0, 0); 
+		this.B = new AStarNodeStub("B", 20, 0); 
+		this.C = new AStarNodeStub("C", 0, 20); 
+		this.D = new AStarNodeStub("D", 20, 20); 
+		this.E = new AStarNodeStub("E", 10, 40); 
+		this.F = new AStarNodeStub("F", 100, 100); 
+		this.graph.points.addAll(Arrays.asList(this.A, this.B, this.C, this.D, this.E));
+		this.AB = new AStarEdgeStub("A-B", this.A, this.B, false); 
+		this.BD = new AStarEdgeStub("B-D", this.B, this.D, false); 
+		this.CA = new AStarEdgeStub("C-A", this.C, this.A, false); 
+		this.DC = new AStarEdgeStub("D-C", this.D, this.C, false); 
+		this.DE = new AStarEdgeStub("D-E", this.D, this.E, false); 
+		this.graph.segments.addAll(Arrays.asList(this.AB, this.BD, this.CA, this.DC, this.DE));
+	}
+	
+	/**
+	 * @throws Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		this.graph = null;
+		this.A = this.B = this.C = this.D = this.E = this.F = null;
+		this.AB = this.BD = this.CA = this.DC = this.DE = null;
+	}
+
+	/**
+	 */
+	@Test
+	public void getLandmarks_given() {
+		AStarLandmarkHeuristic<AStarEdgeStub, AStarNodeStub> h = new AStarLandmarkHeuristic<>(
+				this.graph, Arrays.asList(this.E, this.A), null, true);
+		assertEquals(2, h.getLandmarks().size());
+		assertSame(this.E, h.getLandmarks().get(0));
+		assertSame(this.A, h.getLandmarks().get(1));
+		assertTrue(h.isSymmetric());
+	}
+
+	/**
+	 */
+	@Test
+	public void getLandmarks_selected() {
+		AStarLandmarkHeuristic<AStarEdgeStub, AStarNodeStub> h = new AStarLandmarkHeuristic<>(
+				this.graph, 2, null, false);
+		assertEquals(2, h.getLandmarks().size());
+		// E is the farthest point from the first point of the graph
+		assertSame(this.E, h.getLandmarks().get(0));
+		assertTrue(!h.isSymmetric());
+	}
+
+	/**
+	 */
+	@Test
+	public void getLandmarkCost() {
+		AStarLandmarkHeuristic<AStarEdgeStub, AStarNodeStub> h = new AStarLandmarkHeuristic<>(
+				this.graph, Arrays.asList(this.A), null, true);
+		double diag = Math.sqrt(500);
+		assertEpsilonEquals(0, h.getLandmarkCost(0, this.A));
+		assertEpsilonEquals(20, h.getLandmarkCost(0, this.B));
+		assertEpsilonEquals(20, h.getLandmarkCost(0, this.C));
+		assertEpsilonEquals(40, h.getLandmarkCost(0, this.D));
+		assertEpsilonEquals(40 + diag, h.getLandmarkCost(0, this.E));
+		assertTrue(Double.isNaN(h.getLandmarkCost(0, this.F)));
+	}
+
+	/**
+	 */
+	@Test
+	public void evaluate() {
+		AStarLandmarkHeuristic<AStarEdgeStub, AStarNodeStub> h = new AStarLandmarkHeuristic<>(
+				this.graph, Arrays.asList(this.A), null, true);
+		double diag = Math.sqrt(500);
+		assertEpsilonEquals(0, h.evaluate(this.A, this.A));
+		assertEpsilonEquals(40 + diag, h.evaluate(this.A, this.E));
+		assertEpsilonEquals(40 + diag, h.evaluate(this.E, this.A));
+		assertEpsilonEquals(20 + diag, h.evaluate(this.B, this.E));
+		assertEpsilonEquals(0, h.evaluate(this.B, this.C));
+		assertEpsilonEquals(0, h.evaluate(this.A, this.F));
+		assertEpsilonEquals(0, h.evaluate(this.F, this.A));
+	}
+
+	/**
+	 */
+	@Test
+	public void evaluate_notSymmetric() {
+		AStarLandmarkHeuristic<AStarEdgeStub, AStarNodeStub> h = new AStarLandmarkHeuristic<>(
+				this.graph, Arrays.asList(this.A), null, false);
+		double diag = Math.sqrt(500);
+		assertEpsilonEquals(40 + diag, h.evaluate(this.A, this.E));
+		assertEpsilonEquals(0, h.evaluate(this.E, this.A));
+	}
+
+	/**
+	 */
+	@Test
+	public void evaluate_costComputer() {
+		AStarLandmarkHeuristic<AStarEdgeStub, AStarNodeStub> h = new AStarLandmarkHeuristic<>(
+				this.graph, Arrays.asList(this.A), new AStarCostComputer<AStarEdgeStub, AStarNodeStub>() {
+					@Override
+					public double computeCostFor(AStarEdgeStub segment) {
+						return 1;
+					}
+				}, true);
+		assertEpsilonEquals(3, h.evaluate(this.A, this.E));
+		assertEpsilonEquals(2, h.evaluate(this.C, this.E));
+	}
+
+}
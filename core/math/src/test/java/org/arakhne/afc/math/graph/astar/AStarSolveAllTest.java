@@ -0,0 +1,295 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.arakhne.afc.math.graph.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class AStarSolveAllTest extends AbstractMathTestCase {
+
+	private static final int SIZE = 15;
+
+	private AStarGraphStub graph;
+	private AStarNodeStub[][] nodes;
+	private List<AStarNodeStub> sources;
+	private List<AStarNodeStub> targets;
+	private ForkJoinPool pool;
+	
+	/**
+	 * @throws Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		Random random = new Random(4321);
+		this.graph = new AStarGraphStub();
+		this.nodes = new AStarNodeStub[SIZE][SIZE];
+		for (int x = 0; x < SIZE; ++x) {
+			for (int y = 0; y < SIZE; ++y) {
+				this.nodes[x][y] = new AStarNodeStub(x + "/" + y,
+						x * 10. + random.nextDouble() * 8.,
+						y * 10. + random.nextDouble() * 8.);
+				this.graph.points.add(this.nodes[x][y]);
+			}
+		}
+		for (int x = 0; x < SIZE; ++x) {
+			for (int y = 0; y < SIZE; ++y) {
+				if (x > 0) {
+					this.graph.segments.add(new AStarEdgeStub(x + "/" + y + "-W",
+							this.nodes[x][y], this.nodes[x - 1][y], false));
+				}
+				if (y > 0 && random.nextInt(5) > 0) {
+					this.graph.segments.add(new AStarEdgeStub(x + "/" + y + "-S",
+							this.nodes[x][y], this.nodes[x][y - 1], false));
+				}
+			}
+		}
+		// Isolated point
+		this.graph.points.add(new AStarNodeStub("isolated", -100, -100));
+		this.sources = new ArrayList<>();
+		this.targets = new ArrayList<>();
+		for (int i = 0; i < 4; ++i) {
+			this.sources.add(this.nodes[random.nextInt(SIZE)][random.nextInt(SIZE)]);
+			this.targets.add(this.nodes[random.nextInt(SIZE)][random.nextInt(SIZE)]);
+		}
+		this.sources.add(this.targets.get(0));
+		this.targets.add(this.graph.points.get(this.graph.points.size() - 1));
+		// The stub points are also the A* nodes, so they must not be shared
+		// between concurrent runs.
+		this.pool = new ForkJoinPool(1);
+	}
+	
+	/**
+	 * @throws Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		this.pool.shutdown();
+		this.pool = null;
+		this.graph = null;
+		this.nodes = null;
+		this.sources = null;
+		this.targets = null;
+	}
+
+	private static double length(AStarPathStub path) {
+		double length = 0;
+		for (AStarEdgeStub edge : path) {
+			length += edge.getLength();
+		}
+		return length;
+	}
+
+	private AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> newAStar(boolean bidirectional) {
+		AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> astar = new AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub>(
+				new AStarHeuristicStub(), AStarPathStub.class);
+		astar.setBidirectionalSearchEnabled(bidirectional);
+		return astar;
+	}
+
+	private void assertMatrix(AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> astar,
+			AStarPathMatrix<AStarPathStub, AStarEdgeStub, AStarNodeStub> matrix) {
+		assertEquals(this.sources, matrix.getSources());
+		assertEquals(this.targets, matrix.getTargets());
+		for (int i = 0; i < this.sources.size(); ++i) {
+			for (int j = 0; j < this.targets.size(); ++j) {
+				AStarNodeStub source = this.sources.get(i);
+				AStarNodeStub target = this.targets.get(j);
+				AStarPathStub path = matrix.getPath(i, j);
+				if (source == target) {
+					assertNull(path);
+					assertEpsilonEquals(0, matrix.getCost(i, j));
+				} else {
+					AStarPathStub expected = astar.solve(source, target);
+					if (expected == null) {
+						assertNull(path);
+						assertEquals(Double.POSITIVE_INFINITY, matrix.getCost(i, j), 0);
+					} else {
+						assertNotNull(path);
+						assertSame(source, path.getFirstPoint());
+						assertSame(target, path.getLastPoint());
+						assertEpsilonEquals(length(expected), length(path));
+						assertEpsilonEquals(length(path), matrix.getCost(i, j));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 */
+	@Test
+	public void solveAll_unidirectional() {
+		AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> astar = newAStar(false);
+		assertMatrix(astar, astar.solveAll(this.sources, this.targets, this.pool));
+	}
+
+	/**
+	 */
+	@Test
+	public void solveAll_bidirectional() {
+		AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> astar = newAStar(true);
+		assertMatrix(astar, astar.solveAll(this.sources, this.targets, this.pool));
+	}
+
+	/**
+	 */
+	@Test
+	public void solveAll_empty() {
+		AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> astar = newAStar(false);
+		AStarPathMatrix<AStarPathStub, AStarEdgeStub, AStarNodeStub> matrix = astar.solveAll(
+				this.sources, Collections.<AStarNodeStub>emptyList(), this.pool);
+		assertEquals(this.sources, matrix.getSources());
+		assertEquals(0, matrix.getTargets().size());
+	}
+
+	/**
+	 */
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void getPath_outOfBounds() {
+		AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> astar = newAStar(false);
+		astar.solveAll(this.sources, this.targets, this.pool).getPath(0, this.targets.size());
+	}
+
+	/**
+	 */
+	@Test
+	public void solve_readOnlyListsForListeners() {
+		AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> astar = newAStar(false);
+		final int[] counts = new int[2];
+		astar.addAStarListener(new AStarListener<AStarEdgeStub, AStarNodeStub>() {
+			@Override
+			public void nodeOpened(AStarNode<AStarEdgeStub, AStarNodeStub> node,
+					List<AStarNode<AStarEdgeStub, AStarNodeStub>> openList) {
+				++counts[0];
+				try {
+					openList.clear();
+				} catch (UnsupportedOperationException exception) {
+					++counts[1];
+				}
+			}
+			@Override
+			public void nodeClosed(AStarNode<AStarEdgeStub, AStarNodeStub> node,
+					List<AStarNode<AStarEdgeStub, AStarNodeStub>> closeList) {
+				++counts[0];
+				try {
+					closeList.add(node);
+				} catch (UnsupportedOperationException exception) {
+					++counts[1];
+				}
+			}
+		});
+		AStarPathStub path = astar.solve(this.nodes[0][0], this.nodes[SIZE - 1][SIZE - 1]);
+		assertNotNull(path);
+		assertEquals(counts[0], counts[1]);
+	}
+
+	/**
+	 */
+	@Test(expected = ArithmeticException.class)
+	public void matrix_overflow() {
+		new AStarPathMatrix<AStarPathStub, AStarEdgeStub, AStarNodeStub>(
+				Collections.nCopies(70000, this.sources.get(0)),
+				Collections.nCopies(70000, this.targets.get(0)));
+	}
+
+	/**
+	 */
+	@Test
+	public void solve_reusedBuffers() {
+		AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> astar = newAStar(true);
+		AStarPathStub first = astar.solve(this.sources.get(0), this.targets.get(0));
+		AStarPathStub second = astar.solve(this.sources.get(0), this.targets.get(0));
+		assertNotNull(first);
+		assertNotNull(second);
+		assertEpsilonEquals(length(first), length(second));
+		assertEquals(first.size(), second.size());
+	}
+
+	private List<AStarNode<AStarEdgeStub, AStarNodeStub>> solveAndGetCloseList(
+			AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> astar, AStarNodeStub source, AStarNodeStub target) {
+		final List<List<AStarNode<AStarEdgeStub, AStarNodeStub>>> closeLists = new ArrayList<>();
+		AStarListener<AStarEdgeStub, AStarNodeStub> listener = new AStarListener<AStarEdgeStub, AStarNodeStub>() {
+			@Override
+			public void algorithmEnded(List<AStarNode<AStarEdgeStub, AStarNodeStub>> closeList) {
+				closeLists.add(closeList);
+			}
+		};
+		astar.addAStarListener(listener);
+		astar.solve(source, target);
+		astar.removeAStarListener(listener);
+		assertEquals(1, closeLists.size());
+		return closeLists.get(0);
+	}
+
+	/**
+	 */
+	@Test
+	public void algorithmEnded_closeListNotReused() {
+		AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> astar = newAStar(false);
+		List<AStarNode<AStarEdgeStub, AStarNodeStub>> closeList = solveAndGetCloseList(astar,
+				this.sources.get(0), this.targets.get(0));
+		List<AStarNode<AStarEdgeStub, AStarNodeStub>> expected = new ArrayList<>(closeList);
+		astar.solve(this.sources.get(1), this.targets.get(1));
+		assertEquals(expected, closeList);
+	}
+
+	/**
+	 */
+	@Test(expected = UnsupportedOperationException.class)
+	public void algorithmEnded_closeListUnmodifiable() {
+		AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> astar = newAStar(true);
+		solveAndGetCloseList(astar, this.sources.get(0), this.targets.get(0)).clear();
+	}
+
+	/**
+	 */
+	@Test
+	public void findPath_closeListNotReused() {
+		AStar<AStarPathStub, AStarEdgeStub, AStarNodeStub> astar = newAStar(false);
+		AStarNodeStub source = this.sources.get(0);
+		source.setCost(0.);
+		source.setEstimatedCost(0.);
+		List<AStarNode<AStarEdgeStub, AStarNodeStub>> closeList = astar.findPath(source, this.targets.get(0));
+		List<AStarNode<AStarEdgeStub, AStarNodeStub>> expected = new ArrayList<>(closeList);
+		astar.solve(this.sources.get(1), this.targets.get(1));
+		assertEquals(expected, closeList);
+	}
+
+}
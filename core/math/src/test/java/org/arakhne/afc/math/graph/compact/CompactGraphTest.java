@@ -0,0 +1,300 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.arakhne.afc.math.graph.compact;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.arakhne.afc.math.graph.GraphPath;
+import org.arakhne.afc.math.graph.GraphPoint.GraphPointConnection;
+import org.arakhne.afc.math.graph.astar.AStar;
+import org.arakhne.afc.math.graph.simple.SGraph;
+import org.arakhne.afc.math.graph.simple.SGraphPoint;
+import org.arakhne.afc.math.graph.simple.SGraphSegment;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class CompactGraphTest extends AbstractMathTestCase {
+
+	private CompactGraph graph;
+
+	/**
+	 * @throws Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		// 0 -S0- 1 -S1- 2 -S3- 3, with the shortcut S2 between 0 and 2, and the isolated point 4.
+		this.graph = new CompactGraph(5,
+				new int[] {0, 1, 0, 2},
+				new int[] {1, 2, 2, 3},
+				new double[] {1, 1, 5, 1});
+	}
+
+	/**
+	 * @throws Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		this.graph = null;
+	}
+
+	private static List<Integer> indexes(Iterable<CompactGraphSegment> segments) {
+		List<Integer> list = new ArrayList<>();
+		for (CompactGraphSegment segment : segments) {
+			list.add(segment.getIndex());
+		}
+		return list;
+	}
+
+	/**
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_invalidPoint() {
+		new CompactGraph(2, new int[] {0}, new int[] {2}, new double[] {1});
+	}
+
+	/**
+	 */
+	@Test
+	public void constructor_copiedArrays() {
+		int[] begins = new int[] {0};
+		int[] ends = new int[] {1};
+		double[] lengths = new double[] {3};
+		CompactGraph graph = new CompactGraph(2, begins, ends, lengths);
+		begins[0] = 1;
+		ends[0] = 0;
+		lengths[0] = 4;
+		assertEquals(graph.getPointAt(0), graph.getSegmentAt(0).getBeginPoint());
+		assertEquals(graph.getPointAt(1), graph.getSegmentAt(0).getEndPoint());
+		assertEpsilonEquals(3, graph.getSegmentAt(0).getLength());
+	}
+
+	/**
+	 */
+	@Test
+	public void getCounts() {
+		assertEquals(5, this.graph.getPointCount());
+		assertEquals(4, this.graph.getSegmentCount());
+		assertFalse(this.graph.isEmpty());
+		assertTrue(new CompactGraph(0, new int[0], new int[0], new double[0]).isEmpty());
+	}
+
+	/**
+	 */
+	@Test
+	public void iterator() {
+		Iterator<CompactGraphSegment> iterator = this.graph.iterator();
+		for (int i = 0; i < 4; ++i) {
+			assertTrue(iterator.hasNext());
+			CompactGraphSegment segment = iterator.next();
+			assertEquals(i, segment.getIndex());
+			assertEquals(this.graph.getSegmentAt(i), segment);
+			assertTrue(this.graph.contains(segment));
+		}
+		assertFalse(iterator.hasNext());
+	}
+
+	/**
+	 */
+	@Test
+	public void getPointAt() {
+		CompactGraphPoint point = this.graph.getPointAt(2);
+		assertEquals(point, this.graph.getPointAt(2));
+		assertEquals(2, point.getIndex());
+		assertSame(this.graph, point.getGraph());
+		assertEquals(new CompactGraphPoint(this.graph, 2), point);
+		assertEquals(3, point.getConnectedSegmentCount());
+		assertFalse(point.isFinalConnectionPoint());
+		assertTrue(this.graph.getPointAt(3).isFinalConnectionPoint());
+		assertEquals(0, this.graph.getPointAt(4).getConnectedSegmentCount());
+	}
+
+	/**
+	 */
+	@Test
+	public void getConnectedSegments() {
+		CompactGraphPoint point = this.graph.getPointAt(2);
+		List<Integer> segments = indexes(point.getConnectedSegments());
+		assertEquals(3, segments.size());
+		assertTrue(segments.contains(1));
+		assertTrue(segments.contains(2));
+		assertTrue(segments.contains(3));
+		assertTrue(indexes(this.graph.getPointAt(4).getConnectedSegments()).isEmpty());
+	}
+
+	/**
+	 */
+	@Test
+	public void getConnectedSegmentsStartingFrom() {
+		CompactGraphPoint point = this.graph.getPointAt(2);
+		for (int i = 1; i <= 3; ++i) {
+			List<Integer> segments = indexes(point.getConnectedSegmentsStartingFrom(this.graph.getSegmentAt(i)));
+			assertEquals(3, segments.size());
+			assertEquals(i, segments.get(0).intValue());
+		}
+	}
+
+	/**
+	 */
+	@Test
+	public void getConnections() {
+		int count = 0;
+		for (GraphPointConnection<CompactGraphPoint, CompactGraphSegment> connection
+				: this.graph.getPointAt(2).getConnections()) {
+			assertEquals(this.graph.getPointAt(2), connection.getGraphPoint());
+			CompactGraphSegment segment = connection.getGraphSegment();
+			if (connection.isSegmentStartConnected()) {
+				assertEquals(connection.getGraphPoint(), segment.getBeginPoint());
+			} else {
+				assertEquals(connection.getGraphPoint(), segment.getEndPoint());
+			}
+			++count;
+		}
+		assertEquals(3, count);
+	}
+
+	/**
+	 */
+	@Test
+	public void isConnectedSegment() {
+		CompactGraphPoint point = this.graph.getPointAt(1);
+		assertTrue(point.isConnectedSegment(this.graph.getSegmentAt(0)));
+		assertTrue(point.isConnectedSegment(this.graph.getSegmentAt(1)));
+		assertFalse(point.isConnectedSegment(this.graph.getSegmentAt(2)));
+		assertFalse(point.isConnectedSegment(this.graph.getSegmentAt(3)));
+	}
+
+	/**
+	 */
+	@Test
+	public void getOtherSidePoint() {
+		CompactGraphSegment segment = this.graph.getSegmentAt(2);
+		assertEquals(this.graph.getPointAt(0), segment.getBeginPoint());
+		assertEquals(this.graph.getPointAt(2), segment.getEndPoint());
+		assertEquals(this.graph.getPointAt(2), segment.getOtherSidePoint(this.graph.getPointAt(0)));
+		assertEquals(this.graph.getPointAt(0), segment.getOtherSidePoint(this.graph.getPointAt(2)));
+		assertNull(segment.getOtherSidePoint(this.graph.getPointAt(1)));
+		assertEpsilonEquals(5, segment.getLength());
+	}
+
+	/**
+	 */
+	@Test
+	public void copyGraph() {
+		SGraph source = new SGraph();
+		SGraphSegment s1 = new SGraphSegment(source, 10);
+		SGraphSegment s2 = new SGraphSegment(source, 20);
+		SGraphSegment s3 = new SGraphSegment(source, 30);
+		s1.connectEndToBegin(s2);
+		s2.connectEndToBegin(s3);
+		List<SGraphPoint> points = new ArrayList<>();
+		List<SGraphSegment> segments = new ArrayList<>();
+		CompactGraph copy = new CompactGraph(source, points, segments);
+		assertEquals(source.getPointCount(), copy.getPointCount());
+		assertEquals(points.size(), copy.getPointCount());
+		assertEquals(3, copy.getSegmentCount());
+		for (int i = 0; i < segments.size(); ++i) {
+			SGraphSegment segment = segments.get(i);
+			CompactGraphSegment compact = copy.getSegmentAt(i);
+			assertEpsilonEquals(segment.getLength(), compact.getLength());
+			assertSame(segment.getBeginPoint(), points.get(compact.getBeginPoint().getIndex()));
+			assertSame(segment.getEndPoint(), points.get(compact.getEndPoint().getIndex()));
+		}
+		assertSame(points.get(copy.getEndPointIndex(0)), points.get(copy.getBeginPointIndex(1)));
+	}
+
+	/**
+	 */
+	@Test
+	public void astar() {
+		AStar<CompactGraphPathStub, CompactGraphSegment, CompactGraphPoint> astar =
+				new AStar<CompactGraphPathStub, CompactGraphSegment, CompactGraphPoint>(
+						(p1, p2) -> 0., (point, segment) -> new CompactGraphPathStub(segment, point));
+		CompactGraphPathStub path = astar.solve(this.graph.getPointAt(0), this.graph.getPointAt(3));
+		assertNotNull(path);
+		assertEquals(3, path.size());
+		assertEquals(this.graph.getSegmentAt(0), path.get(0));
+		assertEquals(this.graph.getSegmentAt(1), path.get(1));
+		assertEquals(this.graph.getSegmentAt(3), path.get(2));
+		assertNull(astar.solve(this.graph.getPointAt(0), this.graph.getPointAt(4)));
+	}
+
+	/**
+	 */
+	@Test
+	public void compareTo() {
+		CompactGraph other = new CompactGraph(5,
+				new int[] {0, 1, 0, 2},
+				new int[] {1, 2, 2, 3},
+				new double[] {1, 1, 5, 1});
+		CompactGraphPoint p1 = this.graph.getPointAt(1);
+		CompactGraphPoint p2 = this.graph.getPointAt(2);
+		assertEquals(0, p1.compareTo(this.graph.getPointAt(1)));
+		assertTrue(p1.compareTo(p2) < 0);
+		assertTrue(p2.compareTo(p1) > 0);
+		CompactGraphPoint q1 = other.getPointAt(1);
+		assertTrue(p1.compareTo(q1) != 0);
+		assertEquals(-Integer.signum(p1.compareTo(q1)), Integer.signum(q1.compareTo(p1)));
+		assertEquals(Integer.signum(p1.compareTo(q1)), Integer.signum(p2.compareTo(other.getPointAt(2))));
+	}
+
+	/**
+	 */
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void getPointAt_outOfBounds() {
+		this.graph.getPointAt(5);
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	private static class CompactGraphPathStub extends GraphPath<CompactGraphPathStub, CompactGraphSegment, CompactGraphPoint> {
+
+		/**
+		 * @param segment
+		 * @param point
+		 */
+		CompactGraphPathStub(CompactGraphSegment segment, CompactGraphPoint point) {
+			super(segment, point);
+		}
+
+	}
+
+}
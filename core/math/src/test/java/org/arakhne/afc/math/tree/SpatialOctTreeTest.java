@@ -0,0 +1,193 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.tree;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.arakhne.afc.math.geometry.d3.Point3D;
+import org.arakhne.afc.math.tree.builder.SpatialOctTreeBuilder;
+import org.arakhne.afc.math.tree.builder.TreeBuilderException;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class SpatialOctTreeTest {
+
+	private Random random;
+
+	private List<Point3D> points;
+
+	@Before
+	public void setUp() {
+		this.random = new Random(1515);
+		this.points = new ArrayList<>();
+		for (int i = 0; i < 2000; ++i) {
+			this.points.add(randomPoint());
+		}
+	}
+
+	private Point3D randomPoint() {
+		return createPoint(this.random.nextDouble() * 100, this.random.nextDouble() * 100, this.random.nextDouble() * 100);
+	}
+
+	private static Point3D createPoint(double x, double y, double z) {
+		return (Point3D) Proxy.newProxyInstance(Point3D.class.getClassLoader(), new Class[] {Point3D.class},
+			(proxy, method, args) -> {
+				switch (method.getName()) {
+				case "getX":
+					return x;
+				case "getY":
+					return y;
+				case "getZ":
+					return z;
+				case "getDistanceSquared":
+					final Point3D other = (Point3D) args[0];
+					return (x - other.getX()) * (x - other.getX()) + (y - other.getY()) * (y - other.getY())
+							+ (z - other.getZ()) * (z - other.getZ());
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				default:
+					throw new UnsupportedOperationException(method.getName());
+				}
+			});
+	}
+
+	private void assertQueries(SpatialOctTree<Point3D> tree) {
+		assertEquals(this.points.size(), tree.getUserDataCount());
+		for (int i = 0; i < 50; ++i) {
+			final Point3D reference = randomPoint();
+			final double[] plane1 = new double[] {1, 1, 0, -reference.getX() - reference.getY()};
+			final double[] plane2 = new double[] {0, -1, 1, reference.getY() - reference.getZ() + 10};
+			final HashSet<Point3D> inBox = new HashSet<>();
+			final HashSet<Point3D> inRange = new HashSet<>();
+			final HashSet<Point3D> inFrustum = new HashSet<>();
+			final List<Double> distances = new ArrayList<>();
+			for (final Point3D point : this.points) {
+				if (point.getX() >= reference.getX() && point.getX() <= reference.getX() + 20
+						&& point.getY() >= reference.getY() && point.getY() <= reference.getY() + 10
+						&& point.getZ() >= reference.getZ() && point.getZ() <= reference.getZ() + 30) {
+					inBox.add(point);
+				}
+				final double distance = point.getDistanceSquared(reference);
+				if (distance <= 15 * 15) {
+					inRange.add(point);
+				}
+				if (plane1[0] * point.getX() + plane1[1] * point.getY() + plane1[2] * point.getZ() + plane1[3] >= 0
+						&& plane2[0] * point.getX() + plane2[1] * point.getY() + plane2[2] * point.getZ() + plane2[3] >= 0) {
+					inFrustum.add(point);
+				}
+				distances.add(distance);
+			}
+			Collections.sort(distances);
+			assertEquals(inBox, new HashSet<>(tree.getInBox(reference.getX(), reference.getY(), reference.getZ(),
+					reference.getX() + 20, reference.getY() + 10, reference.getZ() + 30)));
+			assertEquals(inRange, new HashSet<>(tree.getInRange(reference, 15)));
+			assertEquals(inFrustum, new HashSet<>(tree.getInFrustum(plane1, plane2)));
+			final List<Point3D> nearest = tree.getNearest(reference, 7);
+			assertEquals(7, nearest.size());
+			for (int j = 0; j < nearest.size(); ++j) {
+				assertEquals(distances.get(j), nearest.get(j).getDistanceSquared(reference), 0);
+			}
+		}
+	}
+
+	@Test
+	public void build() {
+		final SpatialOctTree<Point3D> tree = new SpatialOctTree<>(0, 0, 0, 100, 100, 100);
+		tree.build(this.points);
+		assertTrue(tree.getMaxHeight() > 1);
+		assertQueries(tree);
+	}
+
+	@Test
+	public void add() {
+		final SpatialOctTree<Point3D> tree = new SpatialOctTree<>(0, 0, 0, 50, 50, 50);
+		tree.setSplittingCount(3);
+		for (final Point3D point : this.points) {
+			tree.add(point);
+		}
+		assertQueries(tree);
+	}
+
+	@Test
+	public void remove() {
+		final SpatialOctTree<Point3D> tree = new SpatialOctTree<>(0, 0, 0, 100, 100, 100);
+		tree.setSplittingCount(5);
+		tree.build(this.points);
+		for (int i = 0; i < 1500; ++i) {
+			assertTrue(tree.remove(this.points.remove(this.random.nextInt(this.points.size()))));
+		}
+		assertFalse(tree.remove(createPoint(-1, -1, -1)));
+		assertQueries(tree);
+		for (final Point3D point : this.points) {
+			assertTrue(tree.remove(point));
+		}
+		assertTrue(tree.isEmpty());
+		assertEquals(1, tree.getNodeCount());
+	}
+
+	@Test
+	public void builder() throws Exception {
+		final SpatialOctTreeBuilder<Point3D> builder = new SpatialOctTreeBuilder<>();
+		builder.setSplittingCount(10);
+		final SpatialOctTree<Point3D> tree = builder.buildTree(this.points);
+		assertEquals(10, tree.getSplittingCount());
+		assertQueries(tree);
+	}
+
+	@Test(expected = TreeBuilderException.EmptyBoundingBoxException.class)
+	public void builderEmpty() throws Exception {
+		new SpatialOctTreeBuilder<Point3D>().buildTree(Collections.<Point3D>emptyList());
+	}
+
+	@Test
+	public void builderAfterEmpty() throws Exception {
+		final SpatialOctTreeBuilder<Point3D> builder = new SpatialOctTreeBuilder<>();
+		try {
+			builder.buildTree(Collections.<Point3D>emptyList());
+			fail("expecting EmptyBoundingBoxException"); //$NON-NLS-1$
+		} catch (TreeBuilderException.EmptyBoundingBoxException exception) {
+			//
+		}
+		final SpatialOctTree<Point3D> tree = builder.buildTree(this.points);
+		assertQueries(tree);
+	}
+
+}
@@ -0,0 +1,191 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.tree;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.arakhne.afc.math.geometry.d2.d.Circle2d;
+import org.arakhne.afc.math.geometry.d2.d.Point2d;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+import org.arakhne.afc.math.geometry.d2.d.Shape2d;
+import org.arakhne.afc.math.tree.builder.SpatialQuadTreeBuilder;
+import org.arakhne.afc.math.tree.builder.TreeBuilderException;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class SpatialQuadTreeTest {
+
+	private Random random;
+
+	private List<Shape2d<?>> shapes;
+
+	@Before
+	public void setUp() {
+		this.random = new Random(1789);
+		this.shapes = new ArrayList<>();
+		for (int i = 0; i < 2000; ++i) {
+			this.shapes.add(randomShape());
+		}
+	}
+
+	private Shape2d<?> randomShape() {
+		final double x = this.random.nextDouble() * 1000;
+		final double y = this.random.nextDouble() * 1000;
+		if (this.random.nextBoolean()) {
+			return new Rectangle2d(x, y, this.random.nextDouble() * 10, this.random.nextDouble() * 10);
+		}
+		return new Circle2d(x, y, this.random.nextDouble() * 5);
+	}
+
+	private void assertQueries(SpatialQuadTree<Shape2d<?>> tree) {
+		assertEquals(this.shapes.size(), tree.getUserDataCount());
+		assertEquals(this.shapes.size(), tree.getRoot().getDeepCount());
+		for (int i = 0; i < 50; ++i) {
+			final Rectangle2d rectangle = new Rectangle2d(this.random.nextDouble() * 1000, this.random.nextDouble() * 1000,
+					this.random.nextDouble() * 100, this.random.nextDouble() * 100);
+			final Point2d point = new Point2d(this.random.nextDouble() * 1200 - 100, this.random.nextDouble() * 1200 - 100);
+			final HashSet<Shape2d<?>> intersecting = new HashSet<>();
+			final HashSet<Shape2d<?>> inRange = new HashSet<>();
+			final List<Double> distances = new ArrayList<>();
+			for (final Shape2d<?> shape : this.shapes) {
+				if (shape.intersects(rectangle)) {
+					intersecting.add(shape);
+				}
+				final double distance = shape.getDistanceSquared(point);
+				if (distance <= 50 * 50) {
+					inRange.add(shape);
+				}
+				distances.add(distance);
+			}
+			Collections.sort(distances);
+			assertEquals(intersecting, new HashSet<>(tree.getIntersecting(rectangle)));
+			assertEquals(inRange, new HashSet<>(tree.getInRange(point, 50)));
+			final List<Shape2d<?>> nearest = tree.getNearest(point, 10);
+			assertEquals(Math.min(10, this.shapes.size()), nearest.size());
+			for (int j = 0; j < nearest.size(); ++j) {
+				assertEquals(distances.get(j), nearest.get(j).getDistanceSquared(point), 0);
+			}
+		}
+	}
+
+	@Test
+	public void build() {
+		final SpatialQuadTree<Shape2d<?>> tree = new SpatialQuadTree<>(0, 0, 1000, 1000);
+		tree.build(this.shapes);
+		assertTrue(tree.getMaxHeight() > 1);
+		assertQueries(tree);
+	}
+
+	@Test
+	public void add() {
+		final SpatialQuadTree<Shape2d<?>> tree = new SpatialQuadTree<>(0, 0, 500, 500);
+		tree.setSplittingCount(4);
+		for (final Shape2d<?> shape : this.shapes) {
+			tree.add(shape);
+		}
+		assertQueries(tree);
+	}
+
+	@Test
+	public void remove() {
+		final SpatialQuadTree<Shape2d<?>> tree = new SpatialQuadTree<>(0, 0, 1000, 1000);
+		tree.setSplittingCount(8);
+		tree.build(this.shapes);
+		final int height = tree.getMaxHeight();
+		for (int i = 0; i < 1900; ++i) {
+			assertTrue(tree.remove(this.shapes.remove(this.random.nextInt(this.shapes.size()))));
+		}
+		assertFalse(tree.remove(new Rectangle2d(-5, -5, 1, 1)));
+		assertTrue(tree.getMaxHeight() < height);
+		assertQueries(tree);
+		for (final Shape2d<?> shape : this.shapes) {
+			assertTrue(tree.remove(shape));
+		}
+		assertTrue(tree.isEmpty());
+		assertEquals(1, tree.getNodeCount());
+	}
+
+	@Test
+	public void clear() {
+		final SpatialQuadTree<Shape2d<?>> tree = new SpatialQuadTree<>(0, 0, 1000, 1000);
+		tree.build(this.shapes);
+		tree.clear();
+		assertTrue(tree.isEmpty());
+		assertEquals(1000, tree.getRoot().getMaxX(), 0);
+		this.shapes.clear();
+		this.shapes.add(new Rectangle2d(1, 1, 1, 1));
+		tree.add(this.shapes.get(0));
+		assertQueries(tree);
+	}
+
+	@Test
+	public void builder() throws Exception {
+		final SpatialQuadTreeBuilder<Shape2d<?>> builder = new SpatialQuadTreeBuilder<>();
+		builder.setSplittingCount(10);
+		assertEquals(10, builder.getSplittingCount());
+		final SpatialQuadTree<Shape2d<?>> tree = builder.buildTree(this.shapes);
+		assertEquals(10, tree.getSplittingCount());
+		assertQueries(tree);
+	}
+
+	@Test(expected = TreeBuilderException.BuilderAlreadyStartedException.class)
+	public void builderTwice() throws Exception {
+		final SpatialQuadTreeBuilder<Shape2d<?>> builder = new SpatialQuadTreeBuilder<>();
+		builder.buildTree(this.shapes);
+		builder.buildTree(this.shapes);
+	}
+
+	@Test(expected = TreeBuilderException.EmptyBoundingBoxException.class)
+	public void builderEmpty() throws Exception {
+		new SpatialQuadTreeBuilder<Shape2d<?>>().buildTree(Collections.<Shape2d<?>>emptyList());
+	}
+
+	@Test
+	public void builderAfterEmpty() throws Exception {
+		final SpatialQuadTreeBuilder<Shape2d<?>> builder = new SpatialQuadTreeBuilder<>();
+		try {
+			builder.buildTree(Collections.<Shape2d<?>>emptyList());
+			fail("expecting EmptyBoundingBoxException"); //$NON-NLS-1$
+		} catch (TreeBuilderException.EmptyBoundingBoxException exception) {
+			//
+		}
+		final SpatialQuadTree<Shape2d<?>> tree = builder.buildTree(this.shapes);
+		assertQueries(tree);
+	}
+
+}
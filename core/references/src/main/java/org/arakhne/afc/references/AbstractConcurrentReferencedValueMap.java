@@ -0,0 +1,582 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.references;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.vmutil.locale.Locale;
+
+/**
+ * A thread-safe <tt>ConcurrentMap</tt> implementation with <em>weak/soft values</em>.
+ * An entry in a <tt>AbstractConcurrentReferencedValueMap</tt> will automatically be
+ * removed when its value is no longer in ordinary use.
+ *
+ * <p>The entries are stored in a {@link ConcurrentHashMap}: the reading operations are
+ * lock-free, and the writing operations lock only the bin of the modified key. Contrary to
+ * {@link AbstractReferencedValueMap}, no operation of this map expurges the released values.
+ * The references are registered on a queue that is shared by all the concurrent maps, and
+ * drained in batches by a daemon thread. This thread removes the released entries from their
+ * maps, and notifies the {@link ReferenceListener reference listeners} with one event per map
+ * and per batch. The notifications are run on this daemon thread; the listeners must be fast
+ * and thread-safe.
+ *
+ * <p>Until the daemon thread has processed a released value, its entry is still counted by
+ * {@link #size()}, but it is neither replied by {@link #get(Object)} nor by the iterators.
+ * {@link #expurge()} may be invoked to remove these entries immediately.
+ *
+ * <p>Like {@link ConcurrentHashMap}, this map does not accept <code>null</code> keys
+ * or values.
+ *
+ * @param <K> is the type of the keys.
+ * @param <V> is the type of the values.
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+public abstract class AbstractConcurrentReferencedValueMap<K, V> extends AbstractMap<K, V>
+		implements ConcurrentMap<K, V> {
+
+	/** Internal map.
+	 */
+	protected final ConcurrentMap<K, ReleasableValue<K, V>> map;
+
+	private final CopyOnWriteArrayList<ReferenceListener> listeners = new CopyOnWriteArrayList<>();
+
+	private Set<Entry<K, V>> entrySet;
+
+	/**
+	 * Constructs an empty <tt>Map</tt>.
+	 *
+	 * @param  map is the map instance to use to store the entries.
+	 */
+	public AbstractConcurrentReferencedValueMap(ConcurrentMap<K, ReleasableValue<K, V>> map) {
+		this.map = map;
+	}
+
+	/** Create a storage object that permits to put the specified
+	 * elements inside this map. The reference must be registered on
+	 * the {@link #getReferenceQueue() shared reference queue}.
+	 *
+	 * @param key is the key associated to the value.
+	 * @param value is the value.
+	 * @return the new storage object.
+	 */
+	protected abstract ReleasableValue<K, V> makeValue(K key, V value);
+
+	/** Replies the reference queue that is shared by the concurrent maps, and drained
+	 * by the daemon cleaning thread.
+	 *
+	 * @return the reference queue.
+	 */
+	@Pure
+	protected static ReferenceQueue<Object> getReferenceQueue() {
+		return ReferenceCleaner.getQueue();
+	}
+
+	/** Add listener on reference's release.
+	 *
+	 * @param listener the listener.
+	 */
+	public void addReferenceListener(ReferenceListener listener) {
+		this.listeners.add(listener);
+	}
+
+	/** Remove listener on reference's release.
+	 *
+	 * @param listener the listener.
+	 */
+	public void removeReferenceListener(ReferenceListener listener) {
+		this.listeners.remove(listener);
+	}
+
+	/**
+	 * Fire the reference release event.
+	 *
+	 * @param released is the count of released objects.
+	 */
+	protected void fireReferenceRelease(int released) {
+		for (final ReferenceListener listener : this.listeners) {
+			listener.referenceReleased(released);
+		}
+	}
+
+	/** Remove the given released value from this map, if it is still mapped.
+	 * Invoked by the daemon cleaning thread.
+	 *
+	 * @param value the released value.
+	 * @return <code>true</code> if the entry was removed.
+	 */
+	boolean removeReleasedValue(ReleasableValue<?, ?> value) {
+		return this.map.remove(value.getKey(), value);
+	}
+
+	/** Remove all the entries with a released value, even if the references
+	 * were not yet processed by the daemon cleaning thread.
+	 *
+	 * <p>This function walks through all the entries of the map.
+	 */
+	public final void expurge() {
+		int released = 0;
+		for (final Entry<K, ReleasableValue<K, V>> entry : this.map.entrySet()) {
+			final ReleasableValue<K, V> value = entry.getValue();
+			if (value.get() == null && this.map.remove(entry.getKey(), value)) {
+				++released;
+			}
+		}
+		if (released > 0) {
+			fireReferenceRelease(released);
+		}
+	}
+
+	@Pure
+	@Override
+	public int size() {
+		return this.map.size();
+	}
+
+	@Pure
+	@Override
+	public boolean isEmpty() {
+		return this.map.isEmpty();
+	}
+
+	@Pure
+	@Override
+	public V get(Object key) {
+		final ReleasableValue<K, V> value = this.map.get(key);
+		return value == null ? null : value.get();
+	}
+
+	@Pure
+	@Override
+	public boolean containsKey(Object key) {
+		return get(key) != null;
+	}
+
+	@Override
+	public V put(K key, V value) {
+		Objects.requireNonNull(value);
+		final ReleasableValue<K, V> old = this.map.put(key, makeValue(key, value));
+		return release(old);
+	}
+
+	@Override
+	public V putIfAbsent(K key, V value) {
+		Objects.requireNonNull(value);
+		ReleasableValue<K, V> newValue = null;
+		while (true) {
+			final ReleasableValue<K, V> current = this.map.get(key);
+			if (current != null) {
+				final V currentValue = current.get();
+				if (currentValue != null) {
+					return currentValue;
+				}
+			}
+			if (newValue == null) {
+				newValue = makeValue(key, value);
+			}
+			if (current == null) {
+				if (this.map.putIfAbsent(key, newValue) == null) {
+					return null;
+				}
+			} else if (this.map.replace(key, current, newValue)) {
+				// The current value was released
+				current.clear();
+				return null;
+			}
+		}
+	}
+
+	@Override
+	public V remove(Object key) {
+		return release(this.map.remove(key));
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+		final ReleasableValue<K, V> current = this.map.get(key);
+		if (current != null && value != null && value.equals(current.get())
+				&& this.map.remove(key, current)) {
+			current.clear();
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public boolean replace(K key, V oldValue, V newValue) {
+		Objects.requireNonNull(oldValue);
+		Objects.requireNonNull(newValue);
+		final ReleasableValue<K, V> current = this.map.get(key);
+		if (current != null && oldValue.equals(current.get())
+				&& this.map.replace(key, current, makeValue(key, newValue))) {
+			current.clear();
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public V replace(K key, V value) {
+		Objects.requireNonNull(value);
+		ReleasableValue<K, V> newValue = null;
+		while (true) {
+			final ReleasableValue<K, V> current = this.map.get(key);
+			if (current == null) {
+				return null;
+			}
+			final V currentValue = current.get();
+			if (currentValue == null) {
+				return null;
+			}
+			if (newValue == null) {
+				newValue = makeValue(key, value);
+			}
+			if (this.map.replace(key, current, newValue)) {
+				current.clear();
+				return currentValue;
+			}
+		}
+	}
+
+	@Override
+	public void clear() {
+		final Iterator<ReleasableValue<K, V>> iterator = this.map.values().iterator();
+		while (iterator.hasNext()) {
+			final ReleasableValue<K, V> value = iterator.next();
+			iterator.remove();
+			value.clear();
+		}
+	}
+
+	/** Clear the given reference, which was removed from the map, in order to avoid
+	 * its enqueuing, and reply its value.
+	 *
+	 * @param value the removed reference.
+	 * @return the value of the reference.
+	 */
+	private V release(ReleasableValue<K, V> value) {
+		if (value == null) {
+			return null;
+		}
+		final V old = value.get();
+		value.clear();
+		return old;
+	}
+
+	@Pure
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		if (this.entrySet == null) {
+			this.entrySet = new InnerEntrySet();
+		}
+		return this.entrySet;
+	}
+
+	/**
+	 * This interface provides information about the values inside
+	 * a concurrent map with weak/soft reference values.
+	 *
+	 * @param <K> is the type of the map keys.
+	 * @param <V> is the type of the map values.
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	protected interface ReleasableValue<K, V> {
+
+		/** Replies the map that is containing this value.
+		 *
+		 * @return the map.
+		 */
+		AbstractConcurrentReferencedValueMap<K, V> getOwner();
+
+		/** Replies the key associated to this value.
+		 *
+		 * @return the key.
+		 */
+		K getKey();
+
+		/** Replies the referenced value.
+		 *
+		 * @return the value, or <code>null</code> if it was released.
+		 */
+		V get();
+
+		/** Clear the reference.
+		 */
+		void clear();
+
+	}
+
+	/**
+	 * Value stored in a {@link AbstractConcurrentReferencedValueMap} inside a {@link SoftReference}.
+	 *
+	 * @param <K> is the type of the key associated to the value.
+	 * @param <V> is the type of the value.
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	protected static class SoftReleasableValue<K, V> extends SoftReference<V> implements ReleasableValue<K, V> {
+
+		private final AbstractConcurrentReferencedValueMap<K, V> owner;
+
+		private final K key;
+
+		/**
+		 * @param owner is the map that is containing the value.
+		 * @param key is the key.
+		 * @param value is the value.
+		 */
+		public SoftReleasableValue(AbstractConcurrentReferencedValueMap<K, V> owner, K key, V value) {
+			super(value, getReferenceQueue());
+			this.owner = owner;
+			this.key = key;
+		}
+
+		@Override
+		public AbstractConcurrentReferencedValueMap<K, V> getOwner() {
+			return this.owner;
+		}
+
+		@Override
+		public K getKey() {
+			return this.key;
+		}
+
+	}
+
+	/**
+	 * Value stored in a {@link AbstractConcurrentReferencedValueMap} inside a {@link WeakReference}.
+	 *
+	 * @param <K> is the type of the key associated to the value.
+	 * @param <V> is the type of the value.
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	protected static class WeakReleasableValue<K, V> extends WeakReference<V> implements ReleasableValue<K, V> {
+
+		private final AbstractConcurrentReferencedValueMap<K, V> owner;
+
+		private final K key;
+
+		/**
+		 * @param owner is the map that is containing the value.
+		 * @param key is the key.
+		 * @param value is the value.
+		 */
+		public WeakReleasableValue(AbstractConcurrentReferencedValueMap<K, V> owner, K key, V value) {
+			super(value, getReferenceQueue());
+			this.owner = owner;
+			this.key = key;
+		}
+
+		@Override
+		public AbstractConcurrentReferencedValueMap<K, V> getOwner() {
+			return this.owner;
+		}
+
+		@Override
+		public K getKey() {
+			return this.key;
+		}
+
+	}
+
+	/** Internal implementation of the set of entries.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private class InnerEntrySet extends AbstractSet<Entry<K, V>> {
+
+		/** Constructor.
+		 */
+		InnerEntrySet() {
+			//
+		}
+
+		@Override
+		public Iterator<Entry<K, V>> iterator() {
+			return new InnerIterator();
+		}
+
+		@Override
+		public int size() {
+			return AbstractConcurrentReferencedValueMap.this.size();
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return AbstractConcurrentReferencedValueMap.this.isEmpty();
+		}
+
+		@Override
+		public boolean contains(Object element) {
+			if (element instanceof Entry<?, ?>) {
+				final Entry<?, ?> entry = (Entry<?, ?>) element;
+				final Object key = entry.getKey();
+				final Object value = entry.getValue();
+				return key != null && value != null && value.equals(get(key));
+			}
+			return false;
+		}
+
+		@Override
+		public boolean remove(Object element) {
+			if (element instanceof Entry<?, ?>) {
+				final Entry<?, ?> entry = (Entry<?, ?>) element;
+				final Object key = entry.getKey();
+				return key != null && AbstractConcurrentReferencedValueMap.this.remove(key, entry.getValue());
+			}
+			return false;
+		}
+
+		@Override
+		public void clear() {
+			AbstractConcurrentReferencedValueMap.this.clear();
+		}
+
+	}
+
+	/** Internal implementation of an iterator on the entries. The entries with
+	 * a released value are skipped.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private class InnerIterator implements Iterator<Entry<K, V>> {
+
+		private final Iterator<Entry<K, ReleasableValue<K, V>>> originalIterator;
+
+		private Entry<K, V> next;
+
+		private ReleasableValue<K, V> nextReference;
+
+		private ReleasableValue<K, V> lastReference;
+
+		InnerIterator() {
+			this.originalIterator = AbstractConcurrentReferencedValueMap.this.map.entrySet().iterator();
+			searchNext();
+		}
+
+		private void searchNext() {
+			this.next = null;
+			this.nextReference = null;
+			while (this.originalIterator.hasNext()) {
+				final Entry<K, ReleasableValue<K, V>> entry = this.originalIterator.next();
+				final ReleasableValue<K, V> reference = entry.getValue();
+				final V value = reference.get();
+				if (value != null) {
+					this.next = new InnerEntry(entry.getKey(), value);
+					this.nextReference = reference;
+					return;
+				}
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.next != null;
+		}
+
+		@Override
+		public Entry<K, V> next() {
+			final Entry<K, V> current = this.next;
+			if (current == null) {
+				throw new NoSuchElementException();
+			}
+			this.lastReference = this.nextReference;
+			searchNext();
+			return current;
+		}
+
+		@Override
+		public void remove() {
+			final ReleasableValue<K, V> last = this.lastReference;
+			if (last == null) {
+				throw new IllegalStateException(Locale.getString("E1")); //$NON-NLS-1$
+			}
+			this.lastReference = null;
+			if (AbstractConcurrentReferencedValueMap.this.map.remove(last.getKey(), last)) {
+				last.clear();
+			}
+		}
+
+	}
+
+	/** Internal implementation of a map entry. The value is strongly referenced
+	 * by the entry, and the changes are written through the map.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private class InnerEntry extends SimpleEntry<K, V> {
+
+		private static final long serialVersionUID = -8079627513716564016L;
+
+		InnerEntry(K key, V value) {
+			super(key, value);
+		}
+
+		@Override
+		public V setValue(V value) {
+			Objects.requireNonNull(value);
+			final V old = super.setValue(value);
+			put(getKey(), value);
+			return old;
+		}
+
+	}
+
+}
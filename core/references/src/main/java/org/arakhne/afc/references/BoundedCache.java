@@ -0,0 +1,649 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.references;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+/**
+ * A <tt>Map</tt> implementation that keeps a bounded working set of entries.
+ *
+ * <p>The entries are strongly referenced until the total weight of the entries exceeds
+ * the maximal weight of the cache. By default, each entry weights {@code 1}, and the maximal
+ * weight is the maximal number of entries. A {@link Weigher} may be given to take the size
+ * of the values into account. When the cache is full, an entry is evicted according to the
+ * {@link EvictionPolicy eviction policy}:
+ * <ul>
+ * <li>{@link EvictionPolicy#LRU}: the least recently used entry is evicted;</li>
+ * <li>{@link EvictionPolicy#WINDOW_TINY_LFU}: the new entries are stored in a small LRU window
+ * (1% of the weight). An entry leaving the window enters the main LRU region only if it was
+ * accessed more frequently than the least recently used entry of the main region, which is
+ * evicted in this case. The frequencies are estimated with a compact count-min sketch
+ * that ages over time. This policy protects the working set against scans of keys that are
+ * used once.</li>
+ * </ul>
+ *
+ * <p>If the soft overflow tier is enabled, the evicted entries are kept with
+ * {@link java.lang.ref.SoftReference soft references} until the garbage collector needs
+ * the memory. The entries of this tier are not counted by {@link #size()} and are not replied
+ * by the iterators; they are replied by {@link #get(Object)}, which moves them back into the
+ * bounded tier.
+ *
+ * <p>The cache counts the hits, the hits in the soft tier, the misses, and the evictions.
+ * Only {@link #get(Object)} updates the statistics and the recency of the entries.
+ *
+ * <p>This cache does not accept <code>null</code> keys or values. It is not thread-safe.
+ *
+ * @param <K> is the type of the keys.
+ * @param <V> is the type of the values.
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+public class BoundedCache<K, V> extends AbstractMap<K, V> {
+
+	/** Default maximal number of entries.
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+	private static final int WINDOW_RATIO = 100;
+
+	private final Map<K, Node<K, V>> nodes = new HashMap<>();
+
+	private final long maximumWeight;
+
+	private final long maximumWindowWeight;
+
+	private final Weigher<? super K, ? super V> weigher;
+
+	private final EvictionPolicy policy;
+
+	private final FrequencySketch sketch;
+
+	private final Region<K, V> window = new Region<>();
+
+	private final Region<K, V> main = new Region<>();
+
+	private final ConcurrentSoftValueHashMap<K, V> overflow;
+
+	private long hitCount;
+
+	private long overflowHitCount;
+
+	private long missCount;
+
+	private long evictionCount;
+
+	private Set<Entry<K, V>> entrySet;
+
+	/** Construct a LRU cache of the {@link #DEFAULT_MAXIMUM_SIZE default size}, without
+	 * soft overflow tier.
+	 */
+	public BoundedCache() {
+		this(DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/** Construct a LRU cache without soft overflow tier.
+	 *
+	 * @param maximumSize the maximal number of entries.
+	 */
+	public BoundedCache(int maximumSize) {
+		this(maximumSize, EvictionPolicy.LRU, false);
+	}
+
+	/** Construct a cache.
+	 *
+	 * @param maximumSize the maximal number of entries.
+	 * @param policy the eviction policy.
+	 * @param softOverflow indicates if the evicted entries are kept with soft references.
+	 */
+	public BoundedCache(int maximumSize, EvictionPolicy policy, boolean softOverflow) {
+		this(maximumSize, null, policy, softOverflow);
+	}
+
+	/** Construct a cache.
+	 *
+	 * @param maximumWeight the maximal total weight of the entries.
+	 * @param weigher the function that computes the weights of the entries. If it is
+	 *     <code>null</code>, each entry weights {@code 1}.
+	 * @param policy the eviction policy.
+	 * @param softOverflow indicates if the evicted entries are kept with soft references.
+	 */
+	public BoundedCache(long maximumWeight, Weigher<? super K, ? super V> weigher, EvictionPolicy policy,
+			boolean softOverflow) {
+		if (maximumWeight < 0) {
+			throw new IllegalArgumentException();
+		}
+		this.maximumWeight = maximumWeight;
+		this.weigher = weigher;
+		this.policy = policy == null ? EvictionPolicy.LRU : policy;
+		if (this.policy == EvictionPolicy.WINDOW_TINY_LFU) {
+			this.maximumWindowWeight = Math.min(Math.max(1, maximumWeight / WINDOW_RATIO), maximumWeight / 2);
+			this.sketch = new FrequencySketch(maximumWeight);
+		} else {
+			this.maximumWindowWeight = 0;
+			this.sketch = null;
+		}
+		this.overflow = softOverflow ? new ConcurrentSoftValueHashMap<>() : null;
+	}
+
+	/** Replies the maximal total weight of the entries.
+	 *
+	 * @return the maximal weight.
+	 */
+	@Pure
+	public long getMaximumWeight() {
+		return this.maximumWeight;
+	}
+
+	/** Replies the total weight of the entries in the bounded tier.
+	 *
+	 * @return the weight.
+	 */
+	@Pure
+	public long getWeight() {
+		return this.window.weight + this.main.weight;
+	}
+
+	/** Replies the eviction policy.
+	 *
+	 * @return the eviction policy.
+	 */
+	@Pure
+	public EvictionPolicy getEvictionPolicy() {
+		return this.policy;
+	}
+
+	/** Replies if the evicted entries are kept with soft references.
+	 *
+	 * @return <code>true</code> if the soft overflow tier is enabled.
+	 */
+	@Pure
+	public boolean isSoftOverflow() {
+		return this.overflow != null;
+	}
+
+	/** Replies the number of calls to {@link #get(Object)} that found the entry
+	 * in the bounded tier.
+	 *
+	 * @return the number of hits.
+	 */
+	@Pure
+	public long getHitCount() {
+		return this.hitCount;
+	}
+
+	/** Replies the number of calls to {@link #get(Object)} that found the entry
+	 * in the soft overflow tier.
+	 *
+	 * @return the number of hits in the soft tier.
+	 */
+	@Pure
+	public long getOverflowHitCount() {
+		return this.overflowHitCount;
+	}
+
+	/** Replies the number of calls to {@link #get(Object)} that did not find the entry.
+	 *
+	 * @return the number of misses.
+	 */
+	@Pure
+	public long getMissCount() {
+		return this.missCount;
+	}
+
+	/** Replies the number of entries that were evicted from the bounded tier.
+	 *
+	 * @return the number of evictions.
+	 */
+	@Pure
+	public long getEvictionCount() {
+		return this.evictionCount;
+	}
+
+	/** Reset the hit, miss and eviction counters.
+	 */
+	public void resetStatistics() {
+		this.hitCount = 0;
+		this.overflowHitCount = 0;
+		this.missCount = 0;
+		this.evictionCount = 0;
+	}
+
+	@Pure
+	@Override
+	public int size() {
+		return this.nodes.size();
+	}
+
+	@Pure
+	@Override
+	public boolean isEmpty() {
+		return this.nodes.isEmpty();
+	}
+
+	@Pure
+	@Override
+	public boolean containsKey(Object key) {
+		return key != null && (this.nodes.containsKey(key)
+				|| (this.overflow != null && this.overflow.containsKey(key)));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		if (key == null) {
+			return null;
+		}
+		if (this.sketch != null) {
+			this.sketch.increment(key);
+		}
+		final Node<K, V> node = this.nodes.get(key);
+		if (node != null) {
+			++this.hitCount;
+			regionOf(node).moveToFirst(node);
+			return node.value;
+		}
+		if (this.overflow != null) {
+			final V value = this.overflow.remove(key);
+			if (value != null) {
+				++this.overflowHitCount;
+				insert((K) key, value);
+				return value;
+			}
+		}
+		++this.missCount;
+		return null;
+	}
+
+	@Override
+	public V put(K key, V value) {
+		Objects.requireNonNull(key);
+		Objects.requireNonNull(value);
+		final Node<K, V> node = this.nodes.get(key);
+		if (node != null) {
+			final V old = node.value;
+			final Region<K, V> region = regionOf(node);
+			final int weight = weigh(key, value);
+			region.weight += weight - node.weight;
+			node.value = value;
+			node.weight = weight;
+			region.moveToFirst(node);
+			evict();
+			return old;
+		}
+		final V old = this.overflow == null ? null : this.overflow.remove(key);
+		insert(key, value);
+		return old;
+	}
+
+	@Override
+	public V remove(Object key) {
+		if (key == null) {
+			return null;
+		}
+		final Node<K, V> node = this.nodes.remove(key);
+		if (node != null) {
+			regionOf(node).remove(node);
+			return node.value;
+		}
+		return this.overflow == null ? null : this.overflow.remove(key);
+	}
+
+	@Override
+	public void clear() {
+		this.nodes.clear();
+		this.window.clear();
+		this.main.clear();
+		if (this.overflow != null) {
+			this.overflow.clear();
+		}
+		if (this.sketch != null) {
+			this.sketch.clear();
+		}
+	}
+
+	@Pure
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		if (this.entrySet == null) {
+			this.entrySet = new InnerEntrySet();
+		}
+		return this.entrySet;
+	}
+
+	private int weigh(K key, V value) {
+		if (this.weigher == null) {
+			return 1;
+		}
+		final int weight = this.weigher.weigh(key, value);
+		if (weight < 0) {
+			throw new IllegalArgumentException();
+		}
+		return weight;
+	}
+
+	private Region<K, V> regionOf(Node<K, V> node) {
+		return node.inWindow ? this.window : this.main;
+	}
+
+	/** Add a new entry in the bounded tier, and evict the entries that are overflowing.
+	 */
+	private void insert(K key, V value) {
+		final Node<K, V> node = new Node<>(key, value, weigh(key, value));
+		this.nodes.put(key, node);
+		if (this.sketch == null) {
+			this.main.addFirst(node);
+		} else {
+			node.inWindow = true;
+			this.window.addFirst(node);
+		}
+		evict();
+	}
+
+	private void evict() {
+		if (this.sketch != null) {
+			while (this.window.weight > this.maximumWindowWeight && this.window.tail != null) {
+				final Node<K, V> candidate = this.window.tail;
+				this.window.remove(candidate);
+				candidate.inWindow = false;
+				admit(candidate);
+			}
+		}
+		final long maximumMainWeight = this.maximumWeight - this.maximumWindowWeight;
+		while (this.main.weight > maximumMainWeight && this.main.tail != null) {
+			final Node<K, V> victim = this.main.tail;
+			this.main.remove(victim);
+			evicted(victim);
+		}
+	}
+
+	/** Move the given candidate from the window to the main region if it is more frequently
+	 * used than the entries it replaces; otherwise the candidate is evicted.
+	 */
+	private void admit(Node<K, V> candidate) {
+		final long maximumMainWeight = this.maximumWeight - this.maximumWindowWeight;
+		if (candidate.weight > maximumMainWeight) {
+			evicted(candidate);
+			return;
+		}
+		final int frequency = this.sketch.frequency(candidate.key);
+		while (this.main.weight + candidate.weight > maximumMainWeight) {
+			final Node<K, V> victim = this.main.tail;
+			if (frequency > this.sketch.frequency(victim.key)) {
+				this.main.remove(victim);
+				evicted(victim);
+			} else {
+				evicted(candidate);
+				return;
+			}
+		}
+		this.main.addFirst(candidate);
+	}
+
+	/** Remove the given node, which is no more in a region, from the cache.
+	 */
+	private void evicted(Node<K, V> node) {
+		this.nodes.remove(node.key);
+		++this.evictionCount;
+		if (this.overflow != null) {
+			this.overflow.put(node.key, node.value);
+		}
+	}
+
+	/** Policy of eviction of the entries of a {@link BoundedCache}.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	public enum EvictionPolicy {
+
+		/** The least recently used entry is evicted.
+		 */
+		LRU,
+
+		/** The new entries are admitted in the main region only if they are more
+		 * frequently used than the entries they replace.
+		 */
+		WINDOW_TINY_LFU;
+
+	}
+
+	/** Compute the weight of an entry of a {@link BoundedCache}.
+	 *
+	 * @param <K> is the type of the keys.
+	 * @param <V> is the type of the values.
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	@FunctionalInterface
+	public interface Weigher<K, V> {
+
+		/** Replies the weight of the given entry.
+		 *
+		 * @param key the key.
+		 * @param value the value.
+		 * @return the weight, positive or zero.
+		 */
+		int weigh(K key, V value);
+
+	}
+
+	/** Entry of the cache, inside a doubly-linked list.
+	 *
+	 * @param <K> is the type of the keys.
+	 * @param <V> is the type of the values.
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private static final class Node<K, V> {
+
+		final K key;
+
+		V value;
+
+		int weight;
+
+		boolean inWindow;
+
+		Node<K, V> previous;
+
+		Node<K, V> next;
+
+		Node(K key, V value, int weight) {
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+		}
+
+	}
+
+	/** Doubly-linked list of nodes, from the most recently used to the least recently used.
+	 *
+	 * @param <K> is the type of the keys.
+	 * @param <V> is the type of the values.
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private static final class Region<K, V> {
+
+		Node<K, V> head;
+
+		Node<K, V> tail;
+
+		long weight;
+
+		Region() {
+			//
+		}
+
+		void addFirst(Node<K, V> node) {
+			node.previous = null;
+			node.next = this.head;
+			if (this.head == null) {
+				this.tail = node;
+			} else {
+				this.head.previous = node;
+			}
+			this.head = node;
+			this.weight += node.weight;
+		}
+
+		void remove(Node<K, V> node) {
+			if (node.previous == null) {
+				this.head = node.next;
+			} else {
+				node.previous.next = node.next;
+			}
+			if (node.next == null) {
+				this.tail = node.previous;
+			} else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+			this.weight -= node.weight;
+		}
+
+		void moveToFirst(Node<K, V> node) {
+			if (node != this.head) {
+				remove(node);
+				addFirst(node);
+			}
+		}
+
+		void clear() {
+			this.head = null;
+			this.tail = null;
+			this.weight = 0;
+		}
+
+	}
+
+	/** Set of the entries of the bounded tier.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private class InnerEntrySet extends AbstractSet<Entry<K, V>> {
+
+		InnerEntrySet() {
+			//
+		}
+
+		@Override
+		public Iterator<Entry<K, V>> iterator() {
+			return new InnerIterator();
+		}
+
+		@Override
+		public int size() {
+			return BoundedCache.this.size();
+		}
+
+		@Override
+		public void clear() {
+			BoundedCache.this.clear();
+		}
+
+	}
+
+	/** Iterator on the entries of the window, and then on the entries of the main region,
+	 * from the most recently used to the least recently used.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private class InnerIterator implements Iterator<Entry<K, V>> {
+
+		private Node<K, V> next;
+
+		private Node<K, V> last;
+
+		InnerIterator() {
+			this.next = BoundedCache.this.window.head != null ? BoundedCache.this.window.head
+					: BoundedCache.this.main.head;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.next != null;
+		}
+
+		@Override
+		public Entry<K, V> next() {
+			final Node<K, V> current = this.next;
+			if (current == null) {
+				throw new NoSuchElementException();
+			}
+			if (current.next != null) {
+				this.next = current.next;
+			} else if (current.inWindow) {
+				this.next = BoundedCache.this.main.head;
+			} else {
+				this.next = null;
+			}
+			this.last = current;
+			return new SimpleImmutableEntry<>(current.key, current.value);
+		}
+
+		@Override
+		public void remove() {
+			final Node<K, V> current = this.last;
+			if (current == null) {
+				throw new IllegalStateException();
+			}
+			this.last = null;
+			BoundedCache.this.nodes.remove(current.key);
+			regionOf(current).remove(current);
+		}
+
+	}
+
+}
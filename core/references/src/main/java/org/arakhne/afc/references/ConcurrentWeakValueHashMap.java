@@ -0,0 +1,95 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.references;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A thread-safe <tt>ConcurrentMap</tt> implementation with {@link WeakReference weak values}.
+ * An entry in a <tt>ConcurrentWeakValueHashMap</tt> will automatically be removed
+ * when its value is no longer in ordinary use.
+ *
+ * <p>This class is the concurrent version of {@link WeakValueHashMap}. It uses a
+ * {@link ConcurrentHashMap} as its internal data structure, and the released values
+ * are removed by a shared daemon thread (see {@link AbstractConcurrentReferencedValueMap}).
+ * It does not accept <code>null</code> keys or values.
+ *
+ * @param <K> is the type of the keys.
+ * @param <V> is the type of the values.
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+public class ConcurrentWeakValueHashMap<K, V> extends AbstractConcurrentReferencedValueMap<K, V> {
+
+	/**
+	 * Constructs an empty map with the specified initial capacity, load factor
+	 * and number of concurrently updating threads.
+	 *
+	 * @param  initialCapacity the initial capacity.
+	 * @param  loadFactor the load factor.
+	 * @param  concurrencyLevel the estimated number of concurrently updating threads.
+	 * @throws IllegalArgumentException if the initial capacity is negative
+	 *         or the load factor or concurrency level are nonpositive.
+	 */
+	public ConcurrentWeakValueHashMap(int initialCapacity, float loadFactor, int concurrencyLevel) {
+		super(new ConcurrentHashMap<K, ReleasableValue<K, V>>(initialCapacity, loadFactor, concurrencyLevel));
+	}
+
+	/**
+	 * Constructs an empty map with the specified initial capacity.
+	 *
+	 * @param  initialCapacity the initial capacity.
+	 * @throws IllegalArgumentException if the initial capacity is negative.
+	 */
+	public ConcurrentWeakValueHashMap(int initialCapacity) {
+		super(new ConcurrentHashMap<K, ReleasableValue<K, V>>(initialCapacity));
+	}
+
+	/**
+	 * Constructs an empty map with the default initial capacity (16).
+	 */
+	public ConcurrentWeakValueHashMap() {
+		super(new ConcurrentHashMap<K, ReleasableValue<K, V>>());
+	}
+
+	/**
+	 * Constructs a new map with the same mappings as the specified <tt>Map</tt>.
+	 *
+	 * @param   map the map whose mappings are to be placed in this map.
+	 * @throws  NullPointerException if the specified map is null, or if it contains
+	 *          <code>null</code> keys or values.
+	 */
+	public ConcurrentWeakValueHashMap(Map<? extends K, ? extends V> map) {
+		super(new ConcurrentHashMap<K, ReleasableValue<K, V>>(map.size()));
+		putAll(map);
+	}
+
+	@Override
+	protected final ReleasableValue<K, V> makeValue(K key, V value) {
+		return new WeakReleasableValue<>(this, key, value);
+	}
+
+}
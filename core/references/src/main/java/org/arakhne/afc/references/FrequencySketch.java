@@ -0,0 +1,138 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.references;
+
+import java.util.Arrays;
+
+/**
+ * Approximated access frequencies of the keys of a {@link BoundedCache}.
+ *
+ * <p>The sketch is a count-min sketch with four rows of 4-bit counters. When the number
+ * of recorded accesses reaches ten times the width of the sketch, all the counters are
+ * halved, so that the old accesses are progressively forgotten.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+final class FrequencySketch {
+
+	private static final int DEPTH = 4;
+
+	private static final int MAXIMUM_WIDTH = 65536;
+
+	private static final int MINIMUM_WIDTH = 16;
+
+	private static final int MAXIMUM_COUNT = 15;
+
+	private static final int SAMPLE_FACTOR = 10;
+
+	private static final int[] SEEDS = {0x97cb3127, 0xb3c8a5c5, 0x8ebcb1b3, 0xc6a4a793};
+
+	private static final int SHIFT = 16;
+
+	private final byte[] counters;
+
+	private final int mask;
+
+	private final int sampleSize;
+
+	private int additions;
+
+	/**
+	 * @param expectedEntries the expected number of entries in the cache.
+	 */
+	FrequencySketch(long expectedEntries) {
+		int width = MINIMUM_WIDTH;
+		while (width < expectedEntries && width < MAXIMUM_WIDTH) {
+			width <<= 1;
+		}
+		this.counters = new byte[DEPTH * width];
+		this.mask = width - 1;
+		this.sampleSize = SAMPLE_FACTOR * width;
+	}
+
+	private int index(int hash, int row) {
+		int value = hash * SEEDS[row];
+		value ^= value >>> SHIFT;
+		return row * (this.mask + 1) + (value & this.mask);
+	}
+
+	private static int spread(Object key) {
+		final int value = key.hashCode();
+		return value ^ (value >>> SHIFT);
+	}
+
+	/** Record an access to the given key.
+	 *
+	 * @param key the key.
+	 */
+	void increment(Object key) {
+		final int hash = spread(key);
+		boolean added = false;
+		for (int row = 0; row < DEPTH; ++row) {
+			final int index = index(hash, row);
+			if (this.counters[index] < MAXIMUM_COUNT) {
+				++this.counters[index];
+				added = true;
+			}
+		}
+		if (added) {
+			++this.additions;
+			if (this.additions >= this.sampleSize) {
+				reset();
+			}
+		}
+	}
+
+	/** Replies the estimated number of accesses to the given key.
+	 *
+	 * @param key the key.
+	 * @return the frequency, between {@code 0} and {@code 15}.
+	 */
+	int frequency(Object key) {
+		final int hash = spread(key);
+		int frequency = MAXIMUM_COUNT;
+		for (int row = 0; row < DEPTH; ++row) {
+			frequency = Math.min(frequency, this.counters[index(hash, row)]);
+		}
+		return frequency;
+	}
+
+	/** Halve all the counters.
+	 */
+	private void reset() {
+		for (int i = 0; i < this.counters.length; ++i) {
+			this.counters[i] >>= 1;
+		}
+		this.additions >>= 1;
+	}
+
+	/** Forget all the recorded accesses.
+	 */
+	void clear() {
+		Arrays.fill(this.counters, (byte) 0);
+		this.additions = 0;
+	}
+
+}
@@ -0,0 +1,139 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.references;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.arakhne.afc.references.AbstractConcurrentReferencedValueMap.ReleasableValue;
+
+/**
+ * Daemon thread that drains the reference queue shared by the
+ * {@link AbstractConcurrentReferencedValueMap concurrent maps}.
+ *
+ * <p>The released references are processed in batches: the thread waits for a first
+ * reference, polls the following ones without waiting, removes their entries from
+ * their maps, and fires one release event per map for the whole batch.
+ *
+ * <p>The thread is started when the queue is used for the first time.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+final class ReferenceCleaner extends Thread {
+
+	/** Maximal number of references that are processed before the release events are fired.
+	 */
+	static final int BATCH_SIZE = 256;
+
+	private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+	private final Map<AbstractConcurrentReferencedValueMap<?, ?>, int[]> releases = new IdentityHashMap<>();
+
+	private ReferenceCleaner() {
+		super("AFC Reference Cleaner"); //$NON-NLS-1$
+		setDaemon(true);
+	}
+
+	/** Replies the shared reference queue, and start the cleaning thread if needed.
+	 *
+	 * @return the reference queue.
+	 */
+	static ReferenceQueue<Object> getQueue() {
+		return Holder.INSTANCE.queue;
+	}
+
+	@Override
+	public void run() {
+		while (true) {
+			try {
+				Reference<?> reference = this.queue.remove();
+				int count = 0;
+				do {
+					release(reference);
+					++count;
+					reference = count < BATCH_SIZE ? this.queue.poll() : null;
+				}
+				while (reference != null);
+				fireReleases();
+			} catch (InterruptedException exception) {
+				// The cleaner lives as long as the virtual machine
+			}
+		}
+	}
+
+	private void release(Reference<?> reference) {
+		if (reference instanceof ReleasableValue<?, ?>) {
+			final ReleasableValue<?, ?> value = (ReleasableValue<?, ?>) reference;
+			final AbstractConcurrentReferencedValueMap<?, ?> owner = value.getOwner();
+			if (owner.removeReleasedValue(value)) {
+				final int[] counter = this.releases.get(owner);
+				if (counter == null) {
+					this.releases.put(owner, new int[] {1});
+				} else {
+					++counter[0];
+				}
+			}
+		}
+	}
+
+	private void fireReleases() {
+		for (final Entry<AbstractConcurrentReferencedValueMap<?, ?>, int[]> entry : this.releases.entrySet()) {
+			try {
+				entry.getKey().fireReferenceRelease(entry.getValue()[0]);
+			} catch (RuntimeException exception) {
+				// A faulty listener must not stop the cleaning of the other maps
+				getUncaughtExceptionHandler().uncaughtException(this, exception);
+			}
+		}
+		this.releases.clear();
+	}
+
+	/** Holder of the singleton, for a lazy and thread-safe initialization.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private static final class Holder {
+
+		static final ReferenceCleaner INSTANCE;
+
+		static {
+			INSTANCE = new ReferenceCleaner();
+			INSTANCE.start();
+		}
+
+		private Holder() {
+			//
+		}
+
+	}
+
+}
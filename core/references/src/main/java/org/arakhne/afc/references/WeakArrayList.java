@@ -68,6 +68,16 @@ import org.arakhne.afc.vmutil.locale.Locale;
  * of the garbage collector which seems to not always enqueued the
  * released values (sometimes the queue is empty even if a value was released).
  *
+ * <p>By default, the released references are removed from the list each time
+ * the list is accessed, including by {@link #size()} and {@link #get(int)}.
+ * When a {@link #setCompactionThreshold(float) compaction threshold} is set,
+ * the released references become tombstones: they stay in the list, and
+ * {@link #get(int)} replies <code>null</code> for them. The list is compacted when
+ * an element is added and the ratio of tombstones reaches the threshold, or by an
+ * explicit call to {@link #expurge()}. In this mode, {@link #size()}
+ * replies in constant time the number of slots in the list, including the
+ * tombstones, and the indexes are not changed by the read accesses.
+ *
  * @param <T> is the type of the array's elements.
  * @author $Author: sgalland$
  * @version $FullVersion$
@@ -88,6 +98,10 @@ public class WeakArrayList<T> extends AbstractList<T> {
 
 	private boolean enquedElement;
 
+	private int releasedCount;
+
+	private float compactionThreshold;
+
 	private List<ReferenceListener> listeners;
 
 	/**
@@ -169,7 +183,88 @@ public class WeakArrayList<T> extends AbstractList<T> {
 	 * @return the weak reference.
 	 */
 	private Reference<T> createRef(T obj) {
-		return new WeakReference<>(maskNull(obj), this.queue);
+		return new Slot<>(maskNull(obj), this.queue);
+	}
+
+	/** Mark the given reference as removed from the list, and clear it.
+	 *
+	 * @param ref the reference.
+	 */
+	private void detach(Reference<?> ref) {
+		final Slot<?> slot = (Slot<?>) ref;
+		slot.detached = true;
+		if (slot.released) {
+			--this.releasedCount;
+		}
+		ref.clear();
+	}
+
+	/** Consume the reference queue, and count the released references that are still in the list.
+	 */
+	private void pollReleasedReferences() {
+		Reference<? extends T> ref = this.queue.poll();
+		while (ref != null) {
+			this.enquedElement = true;
+			final Slot<?> slot = (Slot<?>) ref;
+			if (!slot.detached && !slot.released) {
+				slot.released = true;
+				++this.releasedCount;
+			}
+			ref = this.queue.poll();
+		}
+	}
+
+	/** Replies the ratio of tombstones above which the list is compacted when an element is added.
+	 *
+	 * @return the ratio of tombstones, or {@code 0} if the released references are removed
+	 *     at each access.
+	 * @since 13.0
+	 */
+	@Pure
+	public float getCompactionThreshold() {
+		return this.compactionThreshold;
+	}
+
+	/** Change the ratio of tombstones above which the list is compacted when an element is added.
+	 *
+	 * <p>If the threshold is {@code 0}, the released references are removed at each access
+	 * to the list. Otherwise, the released references are kept as tombstones until their
+	 * number reaches the given ratio of the size of the list. With a threshold of {@code 1},
+	 * the list is compacted when all its slots are tombstones.
+	 *
+	 * @param threshold the ratio of tombstones, in <code>[0;1]</code>.
+	 * @since 13.0
+	 */
+	public void setCompactionThreshold(float threshold) {
+		assert threshold >= 0f && threshold <= 1f : AssertMessages.outsideRangeInclusiveParameter(threshold, 0, 1);
+		this.compactionThreshold = threshold;
+	}
+
+	/** Replies the number of released references that are still in the list, as tombstones.
+	 *
+	 * <p>The references that were released by the garbage collector but not yet
+	 * enqueued are not counted.
+	 *
+	 * @return the number of tombstones.
+	 * @since 13.0
+	 */
+	public int getReleasedCount() {
+		pollReleasedReferences();
+		return this.releasedCount;
+	}
+
+	/** Compact the list if the ratio of tombstones reaches the compaction threshold.
+	 *
+	 * @param slots the number of slots against which the ratio is computed. The slot of an element
+	 *     that was just added is not counted, otherwise a threshold of {@code 1} could never be reached.
+	 */
+	private void expurgeIfNeeded(int slots) {
+		if (this.compactionThreshold > 0f) {
+			pollReleasedReferences();
+			if (this.releasedCount > 0 && this.releasedCount >= this.compactionThreshold * slots) {
+				expurge();
+			}
+		}
 	}
 
 	/**
@@ -216,9 +311,7 @@ public class WeakArrayList<T> extends AbstractList<T> {
 	@SuppressWarnings("unchecked")
 	public int expurge() {
 		// clear out ref queue.
-		while (this.queue.poll() != null) {
-			this.enquedElement = true;
-		}
+		pollReleasedReferences();
 
 		int j;
 
@@ -230,7 +323,7 @@ public class WeakArrayList<T> extends AbstractList<T> {
 				ref = (Reference<T>) this.data[i];
 				if ((ref == null) || (ref.isEnqueued()) || (ref.get() == null)) {
 					if (ref != null) {
-						ref.clear();
+						detach(ref);
 					}
 					this.data[i] = null;
 				} else {
@@ -249,9 +342,7 @@ public class WeakArrayList<T> extends AbstractList<T> {
 		// Allocation of array may have caused GC, which may have caused
 		// additional entries to go stale.  Removing these entries from the
 		// reference queue will make them eligible for reclamation.
-		while (this.queue.poll() != null) {
-			this.enquedElement = true;
-		}
+		pollReleasedReferences();
 
 		final int oldSize = this.size;
 		this.size = j;
@@ -269,7 +360,7 @@ public class WeakArrayList<T> extends AbstractList<T> {
 	 * @param allowLast indicates if the last elements is assumed to be valid or not.
 	 */
 	protected void assertRange(int index, boolean allowLast) {
-		final int csize = expurge();
+		final int csize = this.compactionThreshold > 0f ? this.size : expurge();
 		if (index < 0) {
 			throw new IndexOutOfBoundsException(Locale.getString("E1", index)); //$NON-NLS-1$
 		}
@@ -284,6 +375,9 @@ public class WeakArrayList<T> extends AbstractList<T> {
 	@Pure
 	@Override
 	public int size() {
+		if (this.compactionThreshold > 0f) {
+			return this.size;
+		}
 		return expurge();
 	}
 
@@ -296,7 +390,7 @@ public class WeakArrayList<T> extends AbstractList<T> {
 			assertRange(index, false);
 			value = ((Reference<T>) this.data[index]).get();
 		}
-		while (value == null);
+		while (value == null && this.compactionThreshold <= 0f);
 		return unmaskNull(value);
 	}
 
@@ -310,8 +404,8 @@ public class WeakArrayList<T> extends AbstractList<T> {
 			ref = (Reference<T>) this.data[index];
 			oldValue = ref.get();
 		}
-		while (oldValue == null);
-		ref.clear();
+		while (oldValue == null && this.compactionThreshold <= 0f);
+		detach(ref);
 		this.data[index] = createRef(element);
 		this.modCount++;
 		return unmaskNull(oldValue);
@@ -325,6 +419,7 @@ public class WeakArrayList<T> extends AbstractList<T> {
 		this.data[index] = createRef(element);
 		this.size++;
 		this.modCount++;
+		expurgeIfNeeded(this.size - 1);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -337,8 +432,8 @@ public class WeakArrayList<T> extends AbstractList<T> {
 			ref = (Reference<T>) this.data[index];
 			oldValue = ref.get();
 		}
-		while (oldValue == null);
-		ref.clear();
+		while (oldValue == null && this.compactionThreshold <= 0f);
+		detach(ref);
 		System.arraycopy(this.data, index + 1, this.data, index, this.size - index - 1);
 		this.data[this.size - 1] = null;
 		this.size--;
@@ -390,4 +485,29 @@ public class WeakArrayList<T> extends AbstractList<T> {
 		}
 	}
 
+	/** Weak reference that is stored in the list.
+	 *
+	 * @param <T> is the type of the referenced object.
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private static final class Slot<T> extends WeakReference<T> {
+
+		/** Indicates if the reference was enqueued and counted as a tombstone.
+		 */
+		boolean released;
+
+		/** Indicates if the reference was removed from the list.
+		 */
+		boolean detached;
+
+		Slot(T referent, ReferenceQueue<? super T> queue) {
+			super(referent, queue);
+		}
+
+	}
+
 }
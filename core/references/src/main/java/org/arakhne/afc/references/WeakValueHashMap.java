@@ -55,6 +55,9 @@ import java.util.WeakHashMap;
  * of the garbage collector which seems to not always enqueued the
  * released values (sometimes the queue is empty even if a value was released).
  *
+ * <p>This map is not thread-safe. {@link ConcurrentWeakValueHashMap} is a concurrent
+ * alternative with lock-free reads.
+ *
  * @param <K> is the type of the keys.
  * @param <V> is the type of the values.
  * @author $Author: sgalland$
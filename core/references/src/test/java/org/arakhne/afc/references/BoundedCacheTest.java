@@ -0,0 +1,182 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.references;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.arakhne.afc.references.BoundedCache.EvictionPolicy;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+@SuppressWarnings("all")
+public class BoundedCacheTest extends AbstractMapTestCase<String, String> {
+
+	@Override
+	protected String createKeyInstance(String prefix) {
+		return prefix + UUID.randomUUID().toString();
+	}
+
+	@Override
+	protected String createValueInstance(String prefix) {
+		return prefix + UUID.randomUUID().toString();
+	}
+
+	@Override
+	protected Map<String, String> createMap() {
+		return new BoundedCache<>(1000);
+	}
+
+	private static void fill(BoundedCache<Integer, String> cache, int from, int to) {
+		for (int i = from; i < to; ++i) {
+			cache.put(i, Integer.toString(i));
+		}
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void testPutNullValue() {
+		this.map.put("a", null); //$NON-NLS-1$
+	}
+
+	@Test
+	public void lruEviction() {
+		final BoundedCache<Integer, String> cache = new BoundedCache<>(3);
+		fill(cache, 0, 3);
+		Assert.assertEquals("0", cache.get(0)); //$NON-NLS-1$
+		cache.put(3, "3"); //$NON-NLS-1$
+		Assert.assertEquals(3, cache.size());
+		Assert.assertFalse(cache.containsKey(1));
+		Assert.assertTrue(cache.containsKey(0));
+		Assert.assertTrue(cache.containsKey(2));
+		Assert.assertTrue(cache.containsKey(3));
+		Assert.assertEquals(1, cache.getEvictionCount());
+		Assert.assertEquals(1, cache.getHitCount());
+		Assert.assertNull(cache.get(1));
+		Assert.assertEquals(1, cache.getMissCount());
+	}
+
+	@Test
+	public void iterationOrder() {
+		final BoundedCache<Integer, String> cache = new BoundedCache<>(10);
+		fill(cache, 0, 4);
+		cache.get(1);
+		final Integer[] keys = cache.keySet().toArray(new Integer[0]);
+		Assert.assertEquals(Arrays.asList(1, 3, 2, 0), Arrays.asList(keys));
+	}
+
+	@Test
+	public void iteratorRemove() {
+		final BoundedCache<Integer, String> cache = new BoundedCache<>(10, EvictionPolicy.WINDOW_TINY_LFU, false);
+		fill(cache, 0, 10);
+		final Iterator<Entry<Integer, String>> iterator = cache.entrySet().iterator();
+		int count = 0;
+		while (iterator.hasNext()) {
+			if (iterator.next().getKey().intValue() % 2 == 0) {
+				iterator.remove();
+			}
+			++count;
+		}
+		Assert.assertEquals(10, count);
+		Assert.assertEquals(5, cache.size());
+		Assert.assertEquals(5, cache.getWeight());
+		for (int i = 0; i < 10; ++i) {
+			Assert.assertEquals(i % 2 != 0, cache.containsKey(i));
+		}
+	}
+
+	@Test
+	public void weigher() {
+		final BoundedCache<Integer, String> cache = new BoundedCache<>(10, (key, value) -> value.length(),
+				EvictionPolicy.LRU, false);
+		cache.put(1, "aaaa"); //$NON-NLS-1$
+		cache.put(2, "bbbb"); //$NON-NLS-1$
+		Assert.assertEquals(8, cache.getWeight());
+		cache.put(3, "cc"); //$NON-NLS-1$
+		Assert.assertEquals(10, cache.getWeight());
+		Assert.assertEquals(3, cache.size());
+		cache.put(3, "ccc"); //$NON-NLS-1$
+		Assert.assertEquals(7, cache.getWeight());
+		Assert.assertFalse(cache.containsKey(1));
+		cache.put(4, "dddddddddddd"); //$NON-NLS-1$
+		Assert.assertEquals(0, cache.getWeight());
+		Assert.assertTrue(cache.isEmpty());
+	}
+
+	@Test
+	public void softOverflow() {
+		final BoundedCache<Integer, String> cache = new BoundedCache<>(2, EvictionPolicy.LRU, true);
+		fill(cache, 0, 4);
+		Assert.assertEquals(2, cache.size());
+		Assert.assertEquals(2, cache.getEvictionCount());
+		Assert.assertTrue(cache.containsKey(0));
+		Assert.assertEquals("0", cache.get(0)); //$NON-NLS-1$
+		Assert.assertEquals(1, cache.getOverflowHitCount());
+		Assert.assertEquals(0, cache.getHitCount());
+		Assert.assertEquals(2, cache.size());
+		Assert.assertEquals("2", cache.remove(2)); //$NON-NLS-1$
+		Assert.assertFalse(cache.containsKey(2));
+		cache.clear();
+		Assert.assertFalse(cache.containsKey(1));
+		Assert.assertNull(cache.get(1));
+	}
+
+	@Test
+	public void tinyLfuResistsScan() {
+		final int size = 100;
+		final BoundedCache<Integer, String> lru = new BoundedCache<>(size, EvictionPolicy.LRU, false);
+		final BoundedCache<Integer, String> lfu = new BoundedCache<>(size, EvictionPolicy.WINDOW_TINY_LFU, false);
+		for (final BoundedCache<Integer, String> cache : Arrays.asList(lru, lfu)) {
+			for (int round = 0; round < 5; ++round) {
+				for (int i = 0; i < size / 2; ++i) {
+					if (cache.get(i) == null) {
+						cache.put(i, Integer.toString(i));
+					}
+				}
+			}
+			for (int i = size; i < 10 * size; ++i) {
+				if (cache.get(i) == null) {
+					cache.put(i, Integer.toString(i));
+				}
+			}
+			cache.resetStatistics();
+			for (int i = 0; i < size / 2; ++i) {
+				cache.get(i);
+			}
+		}
+		Assert.assertEquals(0, lru.getHitCount());
+		// The frequencies are approximated: a few hot keys may be lost because of collisions
+		Assert.assertTrue(lfu.getHitCount() >= 4 * size / 10);
+		Assert.assertEquals(size, lfu.size());
+		Assert.assertEquals(size, lfu.getWeight());
+	}
+
+}
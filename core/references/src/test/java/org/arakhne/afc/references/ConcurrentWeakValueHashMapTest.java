@@ -0,0 +1,164 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.references;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+public class ConcurrentWeakValueHashMapTest extends AbstractReferencableValueMapTestCase {
+
+	/**
+	 */
+	public ConcurrentWeakValueHashMapTest() {
+		super(false);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Map<String,String> createMap() {
+		return new ConcurrentWeakValueHashMap<>();
+	}
+
+	/**
+	 */
+	@Test(expected = NullPointerException.class)
+	public void testPutNullValue() {
+		this.map.put("a", null); //$NON-NLS-1$
+	}
+
+	/**
+	 */
+	@Test
+	public void testPutIfAbsent() {
+		final ConcurrentWeakValueHashMap<String, String> m = new ConcurrentWeakValueHashMap<>();
+		final String v1 = new String("v1"); //$NON-NLS-1$
+		final String v2 = new String("v2"); //$NON-NLS-1$
+		Assert.assertNull(m.putIfAbsent("a", v1)); //$NON-NLS-1$
+		Assert.assertSame(v1, m.putIfAbsent("a", v2)); //$NON-NLS-1$
+		Assert.assertFalse(m.replace("a", v2, v2)); //$NON-NLS-1$
+		Assert.assertTrue(m.replace("a", v1, v2)); //$NON-NLS-1$
+		Assert.assertSame(v2, m.get("a")); //$NON-NLS-1$
+		Assert.assertFalse(m.remove("a", v1)); //$NON-NLS-1$
+		Assert.assertTrue(m.remove("a", v2)); //$NON-NLS-1$
+		Assert.assertTrue(m.isEmpty());
+	}
+
+	/**
+	 * @throws Exception
+	 */
+	@Test
+	public void testReleaseNotification() throws Exception {
+		final ConcurrentWeakValueHashMap<String, Object> m = new ConcurrentWeakValueHashMap<>();
+		final AtomicInteger released = new AtomicInteger();
+		m.addReferenceListener(new ReferenceListener() {
+			@Override
+			public void referenceReleased(int count) {
+				released.addAndGet(count);
+			}
+		});
+		final List<Object> kept = new ArrayList<>();
+		for (int i = 0; i < 100; ++i) {
+			final Object value = new Object();
+			m.put("k" + i, value); //$NON-NLS-1$
+			if (i % 2 == 0) {
+				kept.add(value);
+			}
+		}
+		for (int i = 0; i < 100 && released.get() < 50; ++i) {
+			freeMemory();
+			Thread.sleep(20);
+		}
+		Assert.assertEquals(50, released.get());
+		Assert.assertEquals(50, m.size());
+		for (int i = 0; i < 100; i += 2) {
+			Assert.assertSame(kept.get(i / 2), m.get("k" + i)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 */
+	@Test
+	public void testRemovedValuesAreNotNotified() {
+		final ConcurrentWeakValueHashMap<String, Object> m = new ConcurrentWeakValueHashMap<>();
+		final AtomicInteger released = new AtomicInteger();
+		m.addReferenceListener(new ReferenceListener() {
+			@Override
+			public void referenceReleased(int count) {
+				released.addAndGet(count);
+			}
+		});
+		for (int i = 0; i < 100; ++i) {
+			m.put("k" + i, new Object()); //$NON-NLS-1$
+		}
+		m.clear();
+		freeMemory();
+		m.expurge();
+		Assert.assertEquals(0, released.get());
+	}
+
+	/**
+	 * @throws Exception
+	 */
+	@Test
+	public void testConcurrentUpdates() throws Exception {
+		final ConcurrentWeakValueHashMap<Integer, Integer> m = new ConcurrentWeakValueHashMap<>();
+		final Integer[] values = new Integer[1000];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = new Integer(i);
+		}
+		final AtomicInteger failures = new AtomicInteger();
+		final Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; ++t) {
+			threads[t] = new Thread(() -> {
+				for (int i = 0; i < values.length; ++i) {
+					m.putIfAbsent(i, values[i]);
+					if (m.get(i) != values[i]) {
+						failures.incrementAndGet();
+					}
+				}
+			});
+			threads[t].start();
+		}
+		for (final Thread thread : threads) {
+			thread.join();
+		}
+		Assert.assertEquals(0, failures.get());
+		Assert.assertEquals(values.length, m.size());
+		for (int i = 0; i < values.length; ++i) {
+			Assert.assertSame(values[i], m.get(i));
+		}
+	}
+
+}
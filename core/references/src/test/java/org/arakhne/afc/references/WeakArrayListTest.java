@@ -0,0 +1,210 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.references;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ */
+@SuppressWarnings("all")
+public class WeakArrayListTest {
+
+	private static void freeMemory() throws InterruptedException {
+		for (int i = 0; i < 6; ++i) {
+			System.gc();
+		}
+		Thread.sleep(20);
+	}
+
+	private static List<Object> fill(WeakArrayList<Object> list, int count) {
+		final List<Object> kept = new ArrayList<>();
+		for (int i = 0; i < count; ++i) {
+			final Object value = new Object();
+			list.add(value);
+			if (i % 2 == 0) {
+				kept.add(value);
+			}
+		}
+		return kept;
+	}
+
+	@Test
+	public void expurgeAtEachAccess() throws Exception {
+		final WeakArrayList<Object> list = new WeakArrayList<>();
+		final List<Object> kept = fill(list, 100);
+		for (int i = 0; i < 100 && list.size() > 50; ++i) {
+			freeMemory();
+		}
+		Assert.assertEquals(50, list.size());
+		Assert.assertEquals(0, list.getReleasedCount());
+		for (int i = 0; i < 50; ++i) {
+			Assert.assertSame(kept.get(i), list.get(i));
+		}
+	}
+
+	@Test
+	public void tombstones() throws Exception {
+		final WeakArrayList<Object> list = new WeakArrayList<>();
+		list.setCompactionThreshold(.25f);
+		final AtomicInteger released = new AtomicInteger();
+		list.addReferenceListener(new ReferenceListener() {
+			@Override
+			public void referenceReleased(int count) {
+				released.addAndGet(count);
+			}
+		});
+		final List<Object> kept = fill(list, 100);
+		for (int i = 0; i < 100 && list.getReleasedCount() < 50; ++i) {
+			freeMemory();
+		}
+		Assert.assertEquals(50, list.getReleasedCount());
+		Assert.assertEquals(100, list.size());
+		Assert.assertEquals(0, released.get());
+		int nulls = 0;
+		for (final Object value : list) {
+			if (value == null) {
+				++nulls;
+			}
+		}
+		Assert.assertEquals(50, nulls);
+		for (int i = 0; i < 100; ++i) {
+			if (i % 2 == 0) {
+				Assert.assertSame(kept.get(i / 2), list.get(i));
+			} else {
+				Assert.assertNull(list.get(i));
+			}
+		}
+
+		final Object last = new Object();
+		list.add(last);
+		Assert.assertEquals(51, list.size());
+		Assert.assertEquals(0, list.getReleasedCount());
+		Assert.assertEquals(50, released.get());
+		for (int i = 0; i < 50; ++i) {
+			Assert.assertSame(kept.get(i), list.get(i));
+		}
+		Assert.assertSame(last, list.get(50));
+	}
+
+	@Test
+	public void compactionAtMaximalThreshold() throws Exception {
+		final WeakArrayList<Object> list = new WeakArrayList<>();
+		list.setCompactionThreshold(1f);
+		for (int i = 0; i < 10; ++i) {
+			list.add(new Object());
+		}
+		for (int i = 0; i < 100 && list.getReleasedCount() < 10; ++i) {
+			freeMemory();
+		}
+		Assert.assertEquals(10, list.getReleasedCount());
+		Assert.assertEquals(10, list.size());
+		final Object last = new Object();
+		list.add(last);
+		Assert.assertEquals(1, list.size());
+		Assert.assertEquals(0, list.getReleasedCount());
+		Assert.assertSame(last, list.get(0));
+	}
+
+	@Test
+	public void removeTombstone() throws Exception {
+		final WeakArrayList<Object> list = new WeakArrayList<>();
+		list.setCompactionThreshold(1f);
+		final List<Object> kept = fill(list, 10);
+		for (int i = 0; i < 100 && list.getReleasedCount() < 5; ++i) {
+			freeMemory();
+		}
+		Assert.assertEquals(5, list.getReleasedCount());
+		Assert.assertNull(list.remove(1));
+		Assert.assertNull(list.set(2, kept.get(0)));
+		Assert.assertEquals(3, list.getReleasedCount());
+		Assert.assertEquals(9, list.size());
+		Assert.assertEquals(6, list.expurge());
+		Assert.assertEquals(0, list.getReleasedCount());
+	}
+
+	@Test
+	public void stressWithGarbageCollection() throws Exception {
+		final Random random = new Random(2016);
+		final WeakArrayList<Object> list = new WeakArrayList<>();
+		list.setCompactionThreshold(.3f);
+		final AtomicInteger released = new AtomicInteger();
+		list.addReferenceListener(new ReferenceListener() {
+			@Override
+			public void referenceReleased(int count) {
+				released.addAndGet(count);
+			}
+		});
+		final List<Object> kept = new ArrayList<>();
+		int added = 0;
+		for (int round = 0; round < 20; ++round) {
+			for (int i = 0; i < 1000; ++i) {
+				final Object value = new Object();
+				list.add(value);
+				++added;
+				if (random.nextInt(4) == 0) {
+					kept.add(value);
+				}
+			}
+			if (round % 3 == 0) {
+				freeMemory();
+			}
+			final Map<Object, Boolean> alive = new IdentityHashMap<>();
+			for (final Object value : kept) {
+				alive.put(value, Boolean.TRUE);
+			}
+			// The indexes are stable while reading
+			final int size = list.size();
+			int previousIndex = -1;
+			for (int i = 0; i < size; ++i) {
+				final Object value = list.get(i);
+				if (value != null && alive.containsKey(value)) {
+					final int index = kept.indexOf(value);
+					Assert.assertTrue(index > previousIndex);
+					previousIndex = index;
+				}
+			}
+			Assert.assertEquals(size, list.size());
+			Assert.assertTrue(list.getReleasedCount() <= size);
+		}
+		for (int i = 0; i < 100 && list.expurge() > kept.size(); ++i) {
+			freeMemory();
+		}
+		Assert.assertEquals(kept.size(), list.size());
+		Assert.assertEquals(added - kept.size(), released.get());
+		for (int i = 0; i < kept.size(); ++i) {
+			Assert.assertSame(kept.get(i), list.get(i));
+		}
+	}
+
+}
@@ -48,12 +48,22 @@ import org.eclipse.xtext.xbase.lib.Pure;
 @SuppressWarnings("checkstyle:methodcount")
 public class IntegerList implements SortedSet<Integer>, List<Integer> {
 
+	/** Default number of cells allocated in the array of values.
+	 */
+	private static final int DEFAULT_CAPACITY = 8;
+
 	/** This is the list of values.
 	 * The value segments are represented by 2 values: the first value
 	 * and the last value of the segment.
+	 * Only the first {@link #valueCount} cells are used; the remaining cells are
+	 * reserved for the amortized growth of the list.
 	 */
 	private int[] values;
 
+	/** Number of used cells in {@link #values}. It is always a multiple of 2.
+	 */
+	private int valueCount;
+
 	/** This is the theorycal size of this list, ie. the count of integers.
 	 */
 	private int size;
@@ -62,6 +72,7 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 	 */
 	public IntegerList() {
 		this.values = null;
+		this.valueCount = 0;
 		this.size = 0;
 	}
 
@@ -71,6 +82,7 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 	 */
 	public IntegerList(int value) {
 		this.values = new int[] {value, value};
+		this.valueCount = 2;
 		this.size = 1;
 	}
 
@@ -88,6 +100,7 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 			theEnd = tmp;
 		}
 		this.values = new int[] {theStart, theEnd};
+		this.valueCount = 2;
 		this.size = theEnd - theStart + 1;
 	}
 
@@ -97,6 +110,7 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 	 */
 	public IntegerList(Collection<? extends Integer> collection) {
 		this.values = null;
+		this.valueCount = 0;
 		this.size = 0;
 		addAll(collection);
 	}
@@ -107,7 +121,7 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 		final StringBuilder buffer = new StringBuilder();
 		buffer.append('[');
 		if (this.values != null) {
-			for (int idxStart = 0; idxStart < this.values.length - 1; idxStart += 2) {
+			for (int idxStart = 0; idxStart < this.valueCount - 1; idxStart += 2) {
 				if (idxStart > 0) {
 					buffer.append(',');
 				}
@@ -149,7 +163,7 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 	public SortedSet<Integer> headSet(Integer toElement) {
 		final SortedSet<Integer> theset = new TreeSet<>();
 		if (this.values != null) {
-			for (int idxStart = 0; idxStart < this.values.length - 1; idxStart += 2) {
+			for (int idxStart = 0; idxStart < this.valueCount - 1; idxStart += 2) {
 				// The next segment is greater or equal to the given bound
 				if (this.values[idxStart] >= toElement) {
 					break;
@@ -170,7 +184,7 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 		if (this.values == null) {
 			throw new NoSuchElementException();
 		}
-		return this.values[this.values.length - 1];
+		return this.values[this.valueCount - 1];
 	}
 
 	@Inline("null")
@@ -184,7 +198,7 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 			int max;
 			int firstSegment = -1;
 
-			for (int idxSegment = 0; firstSegment == -1 && idxSegment < this.values.length; idxSegment += 2) {
+			for (int idxSegment = 0; firstSegment == -1 && idxSegment < this.valueCount; idxSegment += 2) {
 				max = this.values[idxSegment + 1];
 				if (fromElement.compareTo(max) <= 0) {
 					firstSegment = idxSegment;
@@ -193,11 +207,11 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 
 			if (firstSegment != -1) {
 				// Go through the segments
-				for (int idxSegment = firstSegment; idxSegment < this.values.length; idxSegment += 2) {
+				for (int idxSegment = firstSegment; idxSegment < this.valueCount; idxSegment += 2) {
 					min = this.values[idxSegment];
 					max = this.values[idxSegment + 1];
 					if (toElement.compareTo(min) <= 0) {
-						idxSegment = this.values.length;
+						idxSegment = this.valueCount;
 					} else {
 						for (int value = min; toElement.compareTo(value) > 0 && value <= max; ++value) {
 							assert toElement.compareTo(value) > 0;
@@ -219,7 +233,7 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 		final SortedSet<Integer> theset = new TreeSet<>();
 		if (this.values != null) {
 
-			for (int idxStart = 0; idxStart < this.values.length - 1; idxStart += 2) {
+			for (int idxStart = 0; idxStart < this.valueCount - 1; idxStart += 2) {
 				// The next segment is lower to the given bound
 				if (this.values[idxStart + 1] < fromElement) {
 					continue;
@@ -251,8 +265,24 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 
 	@Override
 	public boolean add(Integer value) {
+		return add(value.intValue());
+	}
+
+	/** Add the given value into this list.
+	 *
+	 * <p>This function does not box the given value.
+	 *
+	 * @param value the value to add.
+	 * @return <code>true</code> if the value was added, <code>false</code> if
+	 *     it is already inside the list.
+	 * @since 13.0
+	 */
+	public boolean add(int value) {
 		if (this.values == null) {
-			this.values = new int[] {value, value};
+			this.values = new int[DEFAULT_CAPACITY];
+			this.values[0] = value;
+			this.values[1] = value;
+			this.valueCount = 2;
 			this.size = 1;
 		} else {
 			int first = 0;
@@ -263,11 +293,11 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 				final int min = this.values[center * 2];
 				final int max = this.values[center * 2 + 1];
 
-				if (value.compareTo(min) >= 0 && value.compareTo(max) <= 0) {
+				if (value >= min && value <= max) {
 					return false;
 				}
 
-				if (value.compareTo(min) < 0) {
+				if (value < min) {
 					last = center - 1;
 				} else {
 					first = center + 1;
@@ -275,34 +305,106 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 			}
 
 			final int index = first * 2;
-			final boolean mergeWithPrevious = index > 0 && value.compareTo(this.values[index - 1] + 1) == 0;
-			final boolean mergeWithNext = index < this.values.length && value.compareTo(this.values[index] - 1) == 0;
+			final boolean mergeWithPrevious = index > 0 && value == this.values[index - 1] + 1;
+			final boolean mergeWithNext = index < this.valueCount && value == this.values[index] - 1;
 
 			++this.size;
 
 			if (mergeWithPrevious && mergeWithNext) {
 				this.values[index - 1] = this.values[index + 1];
-				final int[] nValues = new int[this.values.length - 2];
-				System.arraycopy(this.values, 0, nValues, 0, index);
-				System.arraycopy(this.values, index + 2, nValues, index, this.values.length - index - 2);
-				this.values = nValues;
+				System.arraycopy(this.values, index + 2, this.values, index, this.valueCount - index - 2);
+				this.valueCount -= 2;
 			} else if (mergeWithPrevious) {
-				this.values[index - 1] = value.intValue();
+				this.values[index - 1] = value;
 			} else if (mergeWithNext) {
-				this.values[index] = value.intValue();
+				this.values[index] = value;
 			} else {
 				// Create a new segment
-				final int[] nValues = new int[this.values.length + 2];
-				System.arraycopy(this.values, 0, nValues, 0, index);
-				nValues[index] = value.intValue();
-				nValues[index + 1] = nValues[index];
-				System.arraycopy(this.values, index, nValues, index + 2, this.values.length - index);
-				this.values = nValues;
+				ensureCapacity(this.valueCount + 2);
+				System.arraycopy(this.values, index, this.values, index + 2, this.valueCount - index);
+				this.values[index] = value;
+				this.values[index + 1] = value;
+				this.valueCount += 2;
 			}
 		}
 		return true;
 	}
 
+	/** Add all the values between the two given bounds (inclusive) into this list.
+	 *
+	 * <p>When the given segment is located after the last value of the list, it is appended
+	 * in an amortized constant time. Otherwise it is merged with the segments of this list
+	 * in a single linear pass.
+	 *
+	 * @param first the first value to add.
+	 * @param last the last value to add.
+	 * @return <code>true</code> if this list has changed.
+	 * @since 13.0
+	 */
+	public boolean addSegment(int first, int last) {
+		int theFirst = first;
+		int theLast = last;
+		if (theFirst > theLast) {
+			final int tmp = theFirst;
+			theFirst = theLast;
+			theLast = tmp;
+		}
+		if (this.valueCount == 0 || theFirst > this.values[this.valueCount - 2]) {
+			// Fast path: the new segment is located after the start of the last segment
+			final int oldSize = this.size;
+			final int oldCount = this.valueCount;
+			final int oldLast = oldCount == 0 ? 0 : this.values[oldCount - 1];
+			ensureCapacity(oldCount + 2);
+			this.valueCount = appendSegment(this.values, oldCount, theFirst, theLast);
+			if (this.valueCount > oldCount) {
+				this.size += theLast - theFirst + 1;
+			} else if (theLast > oldLast) {
+				this.size += theLast - Math.max(oldLast, theFirst - 1);
+			}
+			return oldSize != this.size;
+		}
+		final int oldSize = this.size;
+		final int[] result = new int[this.valueCount + 2];
+		setSegments(result, unionSegments(this.values, this.valueCount, new int[] {theFirst, theLast}, 2, result));
+		return oldSize != this.size;
+	}
+
+	/** Ensure that the array of values has at least the given number of cells.
+	 * The array grows by half of its size in order to obtain an amortized constant
+	 * cost for the insertions.
+	 *
+	 * @param minCapacity the minimal number of cells.
+	 */
+	private void ensureCapacity(int minCapacity) {
+		if (this.values == null) {
+			this.values = new int[Math.max(DEFAULT_CAPACITY, minCapacity)];
+		} else if (this.values.length < minCapacity) {
+			int newCapacity = Math.max(minCapacity, this.values.length + (this.values.length >> 1));
+			// Keep the segment pairs aligned
+			newCapacity += newCapacity & 1;
+			this.values = Arrays.copyOf(this.values, newCapacity);
+		}
+	}
+
+	/** Replace the content of this list by the given segments.
+	 *
+	 * @param segments the bounds of the segments.
+	 * @param count the number of used cells in {@code segments}.
+	 */
+	private void setSegments(int[] segments, int count) {
+		if (count == 0) {
+			clear();
+		} else {
+			this.values = segments;
+			this.valueCount = count;
+			int newSize = 0;
+			for (int i = 0; i < count; i += 2) {
+				newSize += segments[i + 1] - segments[i] + 1;
+			}
+			this.size = newSize;
+		}
+	}
+
 	@Override
 	public final boolean addAll(int index, Collection<? extends Integer> collection) {
 		return addAll(collection);
@@ -310,38 +412,260 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 
 	@Override
 	public boolean addAll(Collection<? extends Integer> collection) {
+		if (collection instanceof IntegerList) {
+			final IntegerList list = (IntegerList) collection;
+			final int oldSize = this.size;
+			final int[] result = new int[this.valueCount + list.valueCount];
+			setSegments(result, unionSegments(this.values, this.valueCount, list.values, list.valueCount, result));
+			return oldSize != this.size;
+		}
 		boolean changed = false;
 		for (final Integer value : collection) {
-			changed |= add(value);
+			changed |= add(value.intValue());
 		}
 		return changed;
 	}
 
+	/** Add the given values into this list.
+	 *
+	 * <p>The values are grouped into segments, and merged with the segments
+	 * of this list in a single linear pass. The values are expected to be
+	 * sorted in ascending order, and may contain duplicates. If they
+	 * are not sorted, a sorted copy of the array is used.
+	 *
+	 * @param sortedValues the values to add.
+	 * @return <code>true</code> if this list has changed.
+	 * @since 13.0
+	 */
+	public boolean addAll(int[] sortedValues) {
+		if (sortedValues.length == 0) {
+			return false;
+		}
+		int[] input = sortedValues;
+		for (int i = 1; i < input.length; ++i) {
+			if (input[i] < input[i - 1]) {
+				input = Arrays.copyOf(sortedValues, sortedValues.length);
+				Arrays.sort(input);
+				break;
+			}
+		}
+		// Build the segments of the given values
+		final int[] runs = new int[input.length * 2];
+		int runCount = 0;
+		for (final int value : input) {
+			runCount = appendSegment(runs, runCount, value, value);
+		}
+		final int oldSize = this.size;
+		final int[] result = new int[this.valueCount + runCount];
+		setSegments(result, unionSegments(this.values, this.valueCount, runs, runCount, result));
+		return oldSize != this.size;
+	}
+
+	/** Replies the union of this list and the given list.
+	 * The two lists are not changed.
+	 *
+	 * <p>The union is computed in a time proportional to the number of segments.
+	 *
+	 * @param list the other list.
+	 * @return the union.
+	 * @since 13.0
+	 */
+	@Pure
+	public IntegerList union(IntegerList list) {
+		final int[] result = new int[this.valueCount + list.valueCount];
+		final IntegerList union = new IntegerList();
+		union.setSegments(result, unionSegments(this.values, this.valueCount, list.values, list.valueCount, result));
+		return union;
+	}
+
+	/** Replies the intersection of this list and the given list.
+	 * The two lists are not changed.
+	 *
+	 * <p>The intersection is computed in a time proportional to the number of segments.
+	 *
+	 * @param list the other list.
+	 * @return the intersection.
+	 * @since 13.0
+	 */
+	@Pure
+	public IntegerList intersection(IntegerList list) {
+		final int[] result = new int[this.valueCount + list.valueCount];
+		final IntegerList intersection = new IntegerList();
+		intersection.setSegments(result,
+				intersectSegments(this.values, this.valueCount, list.values, list.valueCount, result));
+		return intersection;
+	}
+
+	/** Replies the values of this list that are not inside the given list.
+	 * The two lists are not changed.
+	 *
+	 * <p>The difference is computed in a time proportional to the number of segments.
+	 *
+	 * @param list the other list.
+	 * @return the difference.
+	 * @since 13.0
+	 */
+	@Pure
+	public IntegerList difference(IntegerList list) {
+		final int[] result = new int[this.valueCount + list.valueCount];
+		final IntegerList difference = new IntegerList();
+		difference.setSegments(result,
+				subtractSegments(this.values, this.valueCount, list.values, list.valueCount, result));
+		return difference;
+	}
+
+	/** Append the given segment to the result, or merge it with the last segment of the result.
+	 * The given segment must not start before the last segment of the result.
+	 *
+	 * @param result the array of result segments.
+	 * @param count the number of used cells in {@code result}.
+	 * @param first the first value of the segment.
+	 * @param last the last value of the segment.
+	 * @return the new number of used cells in {@code result}.
+	 */
+	private static int appendSegment(int[] result, int count, int first, int last) {
+		if (count > 0) {
+			final int previousLast = result[count - 1];
+			// The second test avoids the overflow of previousLast + 1
+			if (first <= previousLast || first - 1 == previousLast) {
+				if (last > previousLast) {
+					result[count - 1] = last;
+				}
+				return count;
+			}
+		}
+		result[count] = first;
+		result[count + 1] = last;
+		return count + 2;
+	}
+
+	/** Compute the union of two arrays of sorted segments.
+	 *
+	 * @param segments1 the first segments.
+	 * @param count1 the number of used cells in {@code segments1}.
+	 * @param segments2 the second segments.
+	 * @param count2 the number of used cells in {@code segments2}.
+	 * @param result the array to fill, with at least {@code count1 + count2} cells.
+	 * @return the number of used cells in {@code result}.
+	 */
+	private static int unionSegments(int[] segments1, int count1, int[] segments2, int count2, int[] result) {
+		int count = 0;
+		int i = 0;
+		int j = 0;
+		while (i < count1 || j < count2) {
+			if (j >= count2 || (i < count1 && segments1[i] <= segments2[j])) {
+				count = appendSegment(result, count, segments1[i], segments1[i + 1]);
+				i += 2;
+			} else {
+				count = appendSegment(result, count, segments2[j], segments2[j + 1]);
+				j += 2;
+			}
+		}
+		return count;
+	}
+
+	/** Compute the intersection of two arrays of sorted segments.
+	 *
+	 * @param segments1 the first segments.
+	 * @param count1 the number of used cells in {@code segments1}.
+	 * @param segments2 the second segments.
+	 * @param count2 the number of used cells in {@code segments2}.
+	 * @param result the array to fill, with at least {@code count1 + count2} cells.
+	 * @return the number of used cells in {@code result}.
+	 */
+	private static int intersectSegments(int[] segments1, int count1, int[] segments2, int count2, int[] result) {
+		int count = 0;
+		int i = 0;
+		int j = 0;
+		while (i < count1 && j < count2) {
+			final int first = Math.max(segments1[i], segments2[j]);
+			final int last = Math.min(segments1[i + 1], segments2[j + 1]);
+			if (first <= last) {
+				result[count] = first;
+				result[count + 1] = last;
+				count += 2;
+			}
+			if (segments1[i + 1] < segments2[j + 1]) {
+				i += 2;
+			} else {
+				j += 2;
+			}
+		}
+		return count;
+	}
+
+	/** Compute the difference of two arrays of sorted segments.
+	 *
+	 * @param segments1 the segments from which the values are removed.
+	 * @param count1 the number of used cells in {@code segments1}.
+	 * @param segments2 the segments of the values to remove.
+	 * @param count2 the number of used cells in {@code segments2}.
+	 * @param result the array to fill, with at least {@code count1 + count2} cells.
+	 * @return the number of used cells in {@code result}.
+	 */
+	private static int subtractSegments(int[] segments1, int count1, int[] segments2, int count2, int[] result) {
+		int count = 0;
+		int j = 0;
+		for (int i = 0; i < count1; i += 2) {
+			int first = segments1[i];
+			final int last = segments1[i + 1];
+			while (j < count2 && segments2[j + 1] < first) {
+				j += 2;
+			}
+			boolean remaining = true;
+			int k = j;
+			while (remaining && k < count2 && segments2[k] <= last) {
+				if (segments2[k] > first) {
+					result[count] = first;
+					result[count + 1] = segments2[k] - 1;
+					count += 2;
+				}
+				if (segments2[k + 1] >= last) {
+					// The rest of the segment is removed
+					remaining = false;
+				} else {
+					first = segments2[k + 1] + 1;
+					k += 2;
+				}
+			}
+			if (remaining) {
+				result[count] = first;
+				result[count + 1] = last;
+				count += 2;
+			}
+		}
+		return count;
+	}
+
 	@Override
 	public void clear() {
 		this.values = null;
+		this.valueCount = 0;
 		this.size = 0;
 	}
 
 	@Pure
 	@Override
 	public boolean contains(Object obj) {
-		if ((this.values != null) && (obj instanceof Number)) {
-			final int e = ((Number) obj).intValue();
-
-			for (int idxStart = 0; idxStart < this.values.length - 1; idxStart += 2) {
-				if (e < this.values[idxStart]) {
-					return false;
-				}
-				if ((e >= this.values[idxStart]) && (e <= this.values[idxStart + 1])) {
-					return true;
-				}
-			}
-
+		if (obj instanceof Number) {
+			return contains(((Number) obj).intValue());
 		}
 		return false;
 	}
 
+	/** Replies if the given value is inside this list.
+	 *
+	 * <p>This function does not box the given value, and runs in a logarithmic time.
+	 *
+	 * @param value the value to search for.
+	 * @return <code>true</code> if the value is inside the list.
+	 * @since 13.0
+	 */
+	@Pure
+	public boolean contains(int value) {
+		return getSegmentIndexFor(value) >= 0;
+	}
+
 	@Pure
 	@Override
 	public boolean containsAll(Collection<?> collection) {
@@ -359,7 +683,7 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 		int idxStart = 0;
 
 		for (final Integer e : elements) {
-			for (; idxStart < this.values.length - 1; idxStart += 2) {
+			for (; idxStart < this.valueCount - 1; idxStart += 2) {
 				if (e < this.values[idxStart]) {
 					return false;
 				}
@@ -409,12 +733,8 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 
 	@Override
 	public boolean remove(Object obj) {
-		if ((this.values != null) && (obj instanceof Number)) {
-			final int e = ((Number) obj).intValue();
-			final int segmentIndex = getSegmentIndexFor(e);
-			if (segmentIndex >= 0 && removeElementInSegment(segmentIndex, e)) {
-				return true;
-			}
+		if (obj instanceof Number) {
+			return removeValue(((Number) obj).intValue());
 		}
 		return false;
 	}
@@ -427,7 +747,7 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 
 		int firstIndex = 0;
 
-		for (int idxStart = 0; idxStart < this.values.length - 1; idxStart += 2) {
+		for (int idxStart = 0; idxStart < this.valueCount - 1; idxStart += 2) {
 			final int endIndex = this.values[idxStart + 1] - this.values[idxStart] + firstIndex;
 			if ((index >= firstIndex) && (index <= endIndex)) {
 				final int elementToRemove = this.values[idxStart] + index - firstIndex;
@@ -442,6 +762,21 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 		throw new IndexOutOfBoundsException(Integer.toString(index));
 	}
 
+	/** Remove the given value from this list.
+	 *
+	 * <p>This function does not box the given value. It is not named {@code remove(int)}
+	 * because this name is already used for removing the value at a given position.
+	 *
+	 * @param value the value to remove.
+	 * @return <code>true</code> if the value was removed, <code>false</code> if
+	 *     it is not inside the list.
+	 * @since 13.0
+	 */
+	public boolean removeValue(int value) {
+		final int segmentIndex = getSegmentIndexFor(value);
+		return segmentIndex >= 0 && removeElementInSegment(segmentIndex, value);
+	}
+
 	/** Remove the {@code element} in the segment starting at index
 	 * {@code segmentIndex}.
 	 *
@@ -453,14 +788,12 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 	protected boolean removeElementInSegment(int segmentIndex, int element) {
 		if ((element == this.values[segmentIndex]) && (element == this.values[segmentIndex + 1])) {
 			// Remove the segment
-			if (this.values.length == 2) {
-				this.values = null;
-				this.size = 0;
+			if (this.valueCount == 2) {
+				clear();
 			} else {
-				final int[] newTab = new int[this.values.length - 2];
-				System.arraycopy(this.values, 0, newTab, 0, segmentIndex);
-				System.arraycopy(this.values, segmentIndex + 2, newTab, segmentIndex, newTab.length - segmentIndex);
-				this.values = newTab;
+				System.arraycopy(this.values, segmentIndex + 2, this.values, segmentIndex,
+						this.valueCount - segmentIndex - 2);
+				this.valueCount -= 2;
 				--this.size;
 			}
 			return true;
@@ -477,12 +810,12 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 				--this.size;
 			} else {
 				// Split the segment
-				final int[] newTab = new int[this.values.length + 2];
-				System.arraycopy(this.values, 0, newTab, 0, segmentIndex + 1);
-				System.arraycopy(this.values, segmentIndex + 1, newTab, segmentIndex + 3, newTab.length - segmentIndex - 3);
-				newTab[segmentIndex + 1] = element - 1;
-				newTab[segmentIndex + 2] = element + 1;
-				this.values = newTab;
+				ensureCapacity(this.valueCount + 2);
+				System.arraycopy(this.values, segmentIndex + 1, this.values, segmentIndex + 3,
+						this.valueCount - segmentIndex - 1);
+				this.values[segmentIndex + 1] = element - 1;
+				this.values[segmentIndex + 2] = element + 1;
+				this.valueCount += 2;
 				--this.size;
 			}
 
@@ -500,19 +833,17 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 	 */
 	protected boolean removeSegment(int segmentIndex) {
 		if ((this.values == null) || (segmentIndex < 0)
-				|| (segmentIndex >= this.values.length - 1)) {
+				|| (segmentIndex >= this.valueCount - 1)) {
 			return false;
 		}
 
-		if (this.values.length == 2) {
-			this.values = null;
-			this.size = 0;
+		if (this.valueCount == 2) {
+			clear();
 		} else {
 			final int count = this.values[segmentIndex + 1] - this.values[segmentIndex] + 1;
-			final int[] newTab = new int[this.values.length - 2];
-			System.arraycopy(this.values, 0, newTab, 0, segmentIndex);
-			System.arraycopy(this.values, segmentIndex + 2, newTab, segmentIndex, this.values.length - segmentIndex);
-			this.values = newTab;
+			System.arraycopy(this.values, segmentIndex + 2, this.values, segmentIndex,
+					this.valueCount - segmentIndex - 2);
+			this.valueCount -= 2;
 			this.size -= count;
 		}
 
@@ -521,6 +852,13 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 
 	@Override
 	public boolean removeAll(Collection<?> collection) {
+		if (collection instanceof IntegerList) {
+			final IntegerList list = (IntegerList) collection;
+			final int oldSize = this.size;
+			final int[] result = new int[this.valueCount + list.valueCount];
+			setSegments(result, subtractSegments(this.values, this.valueCount, list.values, list.valueCount, result));
+			return oldSize != this.size;
+		}
 		boolean changed = false;
 		for (final Object o : collection) {
 			changed |= remove(o);
@@ -530,6 +868,13 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 
 	@Override
 	public boolean retainAll(Collection<?> collection) {
+		if (collection instanceof IntegerList) {
+			final IntegerList list = (IntegerList) collection;
+			final int oldSize = this.size;
+			final int[] result = new int[this.valueCount + list.valueCount];
+			setSegments(result, intersectSegments(this.values, this.valueCount, list.values, list.valueCount, result));
+			return oldSize != this.size;
+		}
 		final SortedSet<Integer> theset = toSortedSet();
 		final boolean changed = theset.retainAll(collection);
 		if (changed) {
@@ -550,29 +895,29 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 	 * @param collection is the values to pout inside this list.
 	 */
 	public void set(SortedSet<? extends Number> collection) {
-		this.values = null;
-		this.size = 0;
+		clear();
 
 		for (final Number number : collection) {
 			final int e = number.intValue();
 
-			if ((this.values != null) && (e == this.values[this.values.length - 1] + 1)) {
+			if (this.values == null) {
+				// Add the first group
+				this.values = new int[DEFAULT_CAPACITY];
+				this.values[0] = e;
+				this.values[1] = e;
+				this.valueCount = 2;
+				this.size = 1;
+			} else if (e == this.values[this.valueCount - 1] + 1) {
 				// Same group
-				++this.values[this.values.length - 1];
+				++this.values[this.valueCount - 1];
 				++this.size;
-			}
-			if ((this.values != null) && (e > this.values[this.values.length - 1] + 1)) {
+			} else if (e > this.values[this.valueCount - 1] + 1) {
 				// Create a new group
-				final int[] newTab = new int[this.values.length + 2];
-				System.arraycopy(this.values, 0, newTab, 0, this.values.length);
-				newTab[newTab.length - 2] = e;
-				newTab[newTab.length - 1] = newTab[newTab.length - 2];
-				this.values = newTab;
+				ensureCapacity(this.valueCount + 2);
+				this.values[this.valueCount] = e;
+				this.values[this.valueCount + 1] = e;
+				this.valueCount += 2;
 				++this.size;
-			} else if (this.values == null) {
-				// Add the first group
-				this.values = new int[] {e, e};
-				this.size = 1;
 			}
 
 		}
@@ -590,7 +935,7 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 	 * @return the count of segments.
 	 */
 	protected int getSegmentCount() {
-		return (this.values == null) ? 0 : (this.values.length / 2);
+		return (this.values == null) ? 0 : (this.valueCount / 2);
 	}
 
 	/**
@@ -661,7 +1006,7 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 
 		int firstIndex = 0;
 
-		for (int idxStart = 0; idxStart < this.values.length - 1; idxStart += 2) {
+		for (int idxStart = 0; idxStart < this.valueCount - 1; idxStart += 2) {
 			final int endIndex = this.values[idxStart + 1] - this.values[idxStart] + firstIndex;
 			if ((index >= firstIndex) && (index <= endIndex)) {
 				return this.values[idxStart] + index - firstIndex;
@@ -687,7 +1032,7 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 	protected boolean get(int offset, int[] tofill) {
 		if (this.values != null) {
 			int idxTab = 0;
-			for (int idxStart = 0; idxStart < this.values.length - 1; idxStart += 2) {
+			for (int idxStart = 0; idxStart < this.valueCount - 1; idxStart += 2) {
 				for (int n = this.values[idxStart]; n <= this.values[idxStart + 1]; ++n) {
 					if (offset == idxTab) {
 						tofill[0] = idxStart;
@@ -709,7 +1054,7 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 		final Object[] tab = new Object[this.size];
 		if (this.values != null) {
 			int idxTab = 0;
-			for (int idxStart = 0; idxStart < this.values.length - 1; idxStart += 2) {
+			for (int idxStart = 0; idxStart < this.valueCount - 1; idxStart += 2) {
 				for (int n = this.values[idxStart]; n <= this.values[idxStart + 1]; ++n) {
 					tab[idxTab++] = n;
 				}
@@ -732,7 +1077,7 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 
 		if (this.values != null) {
 			int idxTab = 0;
-			for (int idxStart = 0; idxStart < this.values.length - 1; idxStart += 2) {
+			for (int idxStart = 0; idxStart < this.valueCount - 1; idxStart += 2) {
 				for (int n = this.values[idxStart]; n <= this.values[idxStart + 1]; ++n) {
 					tab[idxTab++] = (T) Integer.valueOf(n);
 				}
@@ -763,7 +1108,7 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 		final int[] tab = new int[this.size];
 		if (this.values != null) {
 			int idxTab = 0;
-			for (int idxStart = 0; idxStart < this.values.length - 1; idxStart += 2) {
+			for (int idxStart = 0; idxStart < this.valueCount - 1; idxStart += 2) {
 				for (int n = this.values[idxStart]; n <= this.values[idxStart + 1]; ++n) {
 					tab[idxTab++] = n;
 				}
@@ -780,7 +1125,7 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 	public SortedSet<Integer> toSortedSet() {
 		final SortedSet<Integer> theset = new TreeSet<>();
 		if (this.values != null) {
-			for (int idxStart = 0; idxStart < this.values.length - 1; idxStart += 2) {
+			for (int idxStart = 0; idxStart < this.valueCount - 1; idxStart += 2) {
 				for (int n = this.values[idxStart]; n <= this.values[idxStart + 1]; ++n) {
 					theset.add(n);
 				}
@@ -798,7 +1143,7 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 			if (this.values != null) {
 				int idx = 0;
 
-				for (int idxStart = 0; idxStart < this.values.length - 1; idxStart += 2) {
+				for (int idxStart = 0; idxStart < this.valueCount - 1; idxStart += 2) {
 					for (int n = this.values[idxStart]; n <= this.values[idxStart + 1]; ++n) {
 						if (n == e) {
 							return idx;
@@ -825,7 +1170,7 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 			if (this.values != null) {
 				int idx = this.size - 1;
 
-				for (int idxStart = this.values.length - 2; idxStart >= 0; idxStart -= 2) {
+				for (int idxStart = this.valueCount - 2; idxStart >= 0; idxStart -= 2) {
 					for (int n = this.values[idxStart + 1]; n >= this.values[idxStart]; --n) {
 						if (n == e) {
 							return idx;
@@ -865,7 +1210,7 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 			int firstSegment = -1;
 			int idxValue = 0;
 
-			for (int idxSegment = 0; firstSegment == -1 && idxSegment < this.values.length; idxSegment += 2) {
+			for (int idxSegment = 0; firstSegment == -1 && idxSegment < this.valueCount; idxSegment += 2) {
 				final int min = this.values[idxSegment];
 				final int max = this.values[idxSegment + 1];
 				final int nb = max - min + 1;
@@ -878,11 +1223,11 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 
 			if (firstSegment != -1) {
 				// Go through the segments
-				for (int idxSegment = firstSegment; idxSegment < this.values.length; idxSegment += 2) {
+				for (int idxSegment = firstSegment; idxSegment < this.valueCount; idxSegment += 2) {
 					final int min = this.values[idxSegment];
 					final int max = this.values[idxSegment + 1];
 					if (toIndex <= idxValue) {
-						idxSegment = this.values.length;
+						idxSegment = this.valueCount;
 					} else {
 						for (int value = min; idxValue < toIndex && value <= max; ++value) {
 							if (fromIndex <= idxValue) {
@@ -1122,13 +1467,13 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 		@Override
 		@SuppressWarnings("synthetic-access")
 		public boolean hasNext() {
-			return this.index < IntegerList.this.values.length;
+			return this.index < IntegerList.this.valueCount;
 		}
 
 		@Override
 		@SuppressWarnings("synthetic-access")
 		public IntegerSegment next() {
-			if (this.index >= IntegerList.this.values.length) {
+			if (this.index >= IntegerList.this.valueCount) {
 				throw new ConcurrentModificationException();
 			}
 
@@ -1148,7 +1493,7 @@ public class IntegerList implements SortedSet<Integer>, List<Integer> {
 		public void remove() {
 			if (this.removable) {
 				final int idx = this.index - 2;
-				if (idx < 0 || idx >= IntegerList.this.values.length) {
+				if (idx < 0 || idx >= IntegerList.this.valueCount) {
 					throw new ConcurrentModificationException();
 				}
 				removeSegment(idx);
@@ -1365,4 +1365,145 @@ public class IntegerListTest {
 		assertEquals(Integer.valueOf(20), i.next());
 	}
 
+    /**
+     */
+	@Test
+	public void addInt_manySegments() {
+		IntegerList l = new IntegerList();
+		for (int i = 0; i < 1000; i += 2) {
+			assertTrue(l.add(i));
+		}
+		assertFalse(l.add(500));
+		assertEquals(500, l.size());
+		assertEquals(500, l.getSegmentCount());
+		for (int i = 1; i < 1000; i += 2) {
+			assertTrue(l.add(i));
+		}
+		assertEquals(1000, l.size());
+		assertEquals(1, l.getSegmentCount());
+		assertEquals("[0-999]", l.toString());
+	}
+
+    /**
+     */
+	@Test
+	public void removeValueInt() {
+		assertFalse(this.list.removeValue(4));
+		assertTrue(this.list.removeValue(22));
+		assertEquals("[1-3,10,20,21,23-25]", this.list.toString());
+		assertTrue(this.list.removeValue(10));
+		assertEquals("[1-3,20,21,23-25]", this.list.toString());
+		assertEquals(8, this.list.size());
+		assertFalse(this.list.contains(22));
+		assertTrue(this.list.contains(23));
+	}
+
+    /**
+     */
+	@Test
+	public void addAllIntArray() {
+		assertTrue(this.list.addAll(new int[] {-5, -4, 4, 4, 5, 11, 26, 30, 31}));
+		assertEquals("[-5,-4,1-5,10,11,20-26,30,31]", this.list.toString());
+		assertEquals(18, this.list.size());
+		assertFalse(this.list.addAll(new int[] {1, 2, 3}));
+		assertTrue(this.list.addAll(new int[] {9, 7, 8, 6}));
+		assertEquals("[-5,-4,1-11,20-26,30,31]", this.list.toString());
+		assertEquals(22, this.list.size());
+	}
+
+    /**
+     */
+	@Test
+	public void addAllIntArray_bounds() {
+		IntegerList l = new IntegerList();
+		assertTrue(l.addAll(new int[] {Integer.MIN_VALUE, Integer.MAX_VALUE - 1, Integer.MAX_VALUE}));
+		assertEquals(3, l.size());
+		assertEquals(2, l.getSegmentCount());
+		assertTrue(l.contains(Integer.MAX_VALUE));
+	}
+
+    /**
+     */
+	@Test
+	public void addSegmentIntInt() {
+		assertFalse(this.list.addSegment(21, 24));
+		assertTrue(this.list.addSegment(24, 28));
+		assertEquals("[1-3,10,20-28]", this.list.toString());
+		assertEquals(13, this.list.size());
+		assertTrue(this.list.addSegment(35, 30));
+		assertEquals("[1-3,10,20-28,30-35]", this.list.toString());
+		assertEquals(19, this.list.size());
+		assertTrue(this.list.addSegment(31, 36));
+		assertEquals("[1-3,10,20-28,30-36]", this.list.toString());
+		assertEquals(20, this.list.size());
+		assertTrue(this.list.addSegment(4, 9));
+		assertEquals("[1-10,20-28,30-36]", this.list.toString());
+		assertEquals(26, this.list.size());
+		assertTrue(this.list.addSegment(-5, 40));
+		assertEquals("[-5-40]", this.list.toString());
+		assertEquals(46, this.list.size());
+	}
+
+    /**
+     */
+	@Test
+	public void addSegmentIntInt_append() {
+		IntegerList l = new IntegerList();
+		for (int y = 0; y < 100; ++y) {
+			assertTrue(l.addSegment(y * 1000 + 10, y * 1000 + 19));
+		}
+		assertEquals(1000, l.size());
+		assertEquals(100, l.getSegmentCount());
+		assertTrue(l.addSegment(99030, 99030));
+		assertEquals(101, l.getSegmentCount());
+		assertTrue(l.addSegment(99031, 99031));
+		assertEquals(101, l.getSegmentCount());
+		assertEquals(1002, l.size());
+	}
+
+    /**
+     */
+	@Test
+	public void unionIntegerList() {
+		IntegerList other = new IntegerList(4, 9);
+		other.add(15);
+		other.add(24);
+		other.add(26);
+		IntegerList union = this.list.union(other);
+		assertEquals("[1-10,15,20-26]", union.toString());
+		assertEquals(18, union.size());
+		assertEquals(10, this.list.size());
+		assertTrue(this.list.addAll(other));
+		assertEquals("[1-10,15,20-26]", this.list.toString());
+	}
+
+    /**
+     */
+	@Test
+	public void intersectionIntegerList() {
+		IntegerList other = new IntegerList(2, 21);
+		other.add(25);
+		IntegerList intersection = this.list.intersection(other);
+		assertEquals("[2,3,10,20,21,25]", intersection.toString());
+		assertEquals(6, intersection.size());
+		assertTrue(this.list.retainAll(other));
+		assertEquals("[2,3,10,20,21,25]", this.list.toString());
+		assertTrue(this.list.intersection(new IntegerList(100)).isEmpty());
+	}
+
+    /**
+     */
+	@Test
+	public void differenceIntegerList() {
+		IntegerList other = new IntegerList(2, 10);
+		other.add(22);
+		other.add(25);
+		IntegerList difference = this.list.difference(other);
+		assertEquals("[1,20,21,23,24]", difference.toString());
+		assertEquals(5, difference.size());
+		assertTrue(this.list.removeAll(other));
+		assertEquals("[1,20,21,23,24]", this.list.toString());
+		assertTrue(this.list.difference(new IntegerList(-100, 100)).isEmpty());
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,411 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.arakhne.afc.ui.swing.zoom;
+
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+
+import org.arakhne.afc.ui.Graphics2DLOD;
+
+/** Cache of offscreen images that are containing the rendering
+ * of a {@link ZoomableView}.
+ * <p>
+ * The rendering is split into square tiles of {@link #TILE_SIZE} pixels.
+ * The tiles are located in a pixel space that does not depend on the
+ * translation of the view, i.e. a pixel coordinate in this space is
+ * the logical coordinate multiplied by the scaling factor (and negated
+ * if the axis is inverted). Consequently, the tiles may be reused
+ * when the view is panned. Each tile is associated to the scaling
+ * factor and to the axis inversion flags for which it was rendered.
+ * <p>
+ * The cache is bounded: when the number of tiles exceeds
+ * the maximal size, the least recently used tiles are discarded.
+ * The maximal size is at least {@link #VIEWPORT_FACTOR} times the number
+ * of tiles that may be visible in the viewport (see {@link #setViewportSize(int, int)}),
+ * so that the tiles of a frame never evict each other.
+ * <p>
+ * The cache also provides a rendering buffer in which all the missing
+ * tiles of a frame are rendered at once.
+ * 
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @deprecated see JavaFX API
+ */
+@Deprecated
+class ZoomableTileCache {
+
+	/** Size of a tile in pixels.
+	 */
+	public static final int TILE_SIZE = 256;
+
+	/** Minimal ratio between the maximal number of tiles in the cache
+	 * and the number of tiles that may be visible in the viewport.
+	 */
+	public static final int VIEWPORT_FACTOR = 2;
+
+	private final TileMap tiles = new TileMap();
+
+	/** Maximal number of tiles given by the user.
+	 */
+	private int userMaxTiles = 0;
+
+	/** Maximal number of tiles that may be visible in the viewport.
+	 */
+	private int viewportTiles = 0;
+
+	private int maxTiles = 1;
+
+	/** Buffer in which the missing tiles are rendered.
+	 */
+	private BufferedImage renderingBuffer = null;
+
+	/** Construct an empty cache.
+	 * The maximal size of the cache is computed from the
+	 * size of the viewport.
+	 */
+	public ZoomableTileCache() {
+		//
+	}
+
+	/** Replies the maximal number of tiles in the cache.
+	 * 
+	 * @return the maximal number of tiles.
+	 */
+	public int getMaxTiles() {
+		return this.maxTiles;
+	}
+
+	/** Change the maximal number of tiles in the cache.
+	 * <p>
+	 * The cache keeps at least {@link #VIEWPORT_FACTOR} times the number of
+	 * tiles that may be visible in the viewport, even if the given number
+	 * is lower.
+	 * 
+	 * @param max is the maximal number of tiles, or <code>0</code> to size
+	 * the cache only from the viewport.
+	 */
+	public void setMaxTiles(int max) {
+		this.userMaxTiles = Math.max(0, max);
+		updateMaxTiles();
+	}
+
+	/** Change the size of the viewport in which the tiles are displayed.
+	 * The maximal size of the cache is updated accordingly.
+	 * 
+	 * @param width is the width of the viewport in pixels.
+	 * @param height is the height of the viewport in pixels.
+	 */
+	public void setViewportSize(int width, int height) {
+		// A viewport that is not aligned on the tiles overlaps one more tile on each axis.
+		int columns = (Math.max(0, width) + TILE_SIZE - 1) / TILE_SIZE + 1;
+		int rows = (Math.max(0, height) + TILE_SIZE - 1) / TILE_SIZE + 1;
+		int visible = columns * rows;
+		if (visible!=this.viewportTiles) {
+			this.viewportTiles = visible;
+			updateMaxTiles();
+		}
+	}
+
+	private void updateMaxTiles() {
+		this.maxTiles = Math.max(1, Math.max(this.userMaxTiles, this.viewportTiles * VIEWPORT_FACTOR));
+		Iterator<Tile> iterator = this.tiles.values().iterator();
+		while (this.tiles.size()>this.maxTiles && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	/** Replies the number of tiles in the cache.
+	 * 
+	 * @return the number of tiles.
+	 */
+	public int size() {
+		return this.tiles.size();
+	}
+
+	/** Replies the tile at the given position if it is available
+	 * and if it was rendered with a level of detail compatible with
+	 * the given one.
+	 * <p>
+	 * A tile rendered with a low level of detail is not compatible
+	 * with a higher level of detail. All the tiles are compatible
+	 * with the low level of detail.
+	 * 
+	 * @param scale is the scaling factor.
+	 * @param xInverted indicates if the X axis is inverted.
+	 * @param yInverted indicates if the Y axis is inverted.
+	 * @param column is the index of the tile along the X axis.
+	 * @param row is the index of the tile along the Y axis.
+	 * @param lod is the level of detail that is expected.
+	 * @return the image of the tile, or <code>null</code> if the tile must be rendered.
+	 */
+	public BufferedImage getTile(float scale, boolean xInverted, boolean yInverted,
+			int column, int row, Graphics2DLOD lod) {
+		Tile tile = this.tiles.get(new TileKey(scale, xInverted, yInverted, column, row));
+		if (tile!=null) {
+			if (lod==Graphics2DLOD.LOW_LEVEL_OF_DETAIL || lod==Graphics2DLOD.SHADOW
+				|| tile.lod.compareTo(lod)>=0) {
+				return tile.image;
+			}
+		}
+		return null;
+	}
+
+	/** Put the tile at the given position.
+	 * 
+	 * @param scale is the scaling factor.
+	 * @param xInverted indicates if the X axis is inverted.
+	 * @param yInverted indicates if the Y axis is inverted.
+	 * @param column is the index of the tile along the X axis.
+	 * @param row is the index of the tile along the Y axis.
+	 * @param lod is the level of detail used to render the tile.
+	 * @param image is the image of the tile.
+	 */
+	public void putTile(float scale, boolean xInverted, boolean yInverted,
+			int column, int row, Graphics2DLOD lod, BufferedImage image) {
+		this.tiles.put(
+				new TileKey(scale, xInverted, yInverted, column, row),
+				new Tile(image, lod));
+	}
+
+	/** Replies an image that may be used to render a tile.
+	 * The image is recycled from a discarded tile if possible.
+	 * The content of a recycled image is undefined.
+	 * 
+	 * @param scale is the scaling factor.
+	 * @param xInverted indicates if the X axis is inverted.
+	 * @param yInverted indicates if the Y axis is inverted.
+	 * @param column is the index of the tile along the X axis.
+	 * @param row is the index of the tile along the Y axis.
+	 * @return the image.
+	 */
+	public BufferedImage allocateTileImage(float scale, boolean xInverted, boolean yInverted,
+			int column, int row) {
+		Tile tile = this.tiles.remove(new TileKey(scale, xInverted, yInverted, column, row));
+		if (tile!=null) {
+			return tile.image;
+		}
+		if (this.tiles.size()>=this.maxTiles) {
+			Iterator<Tile> iterator = this.tiles.values().iterator();
+			if (iterator.hasNext()) {
+				tile = iterator.next();
+				iterator.remove();
+				return tile.image;
+			}
+		}
+		return new BufferedImage(TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_ARGB);
+	}
+
+	/** Replies an image in which the missing tiles of a frame may be rendered.
+	 * The image is reused from one frame to the next one; it is at least
+	 * as large as the given size, and its content is undefined.
+	 * 
+	 * @param width is the minimal width of the image.
+	 * @param height is the minimal height of the image.
+	 * @return the image.
+	 */
+	public BufferedImage getRenderingBuffer(int width, int height) {
+		BufferedImage buffer = this.renderingBuffer;
+		if (buffer==null || buffer.getWidth()<width || buffer.getHeight()<height) {
+			int w = Math.max(width, buffer==null ? 0 : buffer.getWidth());
+			int h = Math.max(height, buffer==null ? 0 : buffer.getHeight());
+			buffer = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+			this.renderingBuffer = buffer;
+		}
+		return buffer;
+	}
+
+	/** Remove all the tiles.
+	 */
+	public void clear() {
+		this.tiles.clear();
+	}
+
+	/** Remove the tiles that are intersecting the given logical area,
+	 * for all the scaling factors.
+	 * 
+	 * @param x is the position of the area in the logical space.
+	 * @param y is the position of the area in the logical space.
+	 * @param width is the width of the area in the logical space.
+	 * @param height is the height of the area in the logical space.
+	 * @param border is the number of pixels to add around the area.
+	 */
+	public void invalidate(float x, float y, float width, float height, int border) {
+		Iterator<TileKey> iterator = this.tiles.keySet().iterator();
+		TileKey key;
+		while (iterator.hasNext()) {
+			key = iterator.next();
+			if (key.intersects(x, y, width, height, border)) {
+				iterator.remove();
+			}
+		}
+	}
+
+	/** Replies the index of the tile that is containing the given pixel.
+	 * 
+	 * @param pixel is the pixel coordinate in the tile space.
+	 * @return the index of the tile.
+	 */
+	public static int toTileIndex(int pixel) {
+		return Math.floorDiv(pixel, TILE_SIZE);
+	}
+
+	/** Map of the tiles, in which the least recently used tile
+	 * is the first one.
+	 * 
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	private class TileMap extends LinkedHashMap<TileKey, Tile> {
+
+		private static final long serialVersionUID = -2563468457930853040L;
+
+		/** Construct an empty map with the access order.
+		 */
+		public TileMap() {
+			super(16, .75f, true);
+		}
+
+		@SuppressWarnings("synthetic-access")
+		@Override
+		protected boolean removeEldestEntry(Entry<TileKey, Tile> eldest) {
+			return size()>ZoomableTileCache.this.maxTiles;
+		}
+
+	}
+
+	/** Rendered tile.
+	 * 
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	private static class Tile {
+
+		public final BufferedImage image;
+
+		public final Graphics2DLOD lod;
+
+		/**
+		 * @param image is the image of the tile.
+		 * @param lod is the level of detail used to render the tile.
+		 */
+		public Tile(BufferedImage image, Graphics2DLOD lod) {
+			this.image = image;
+			this.lod = lod;
+		}
+
+	}
+
+	/** Position of a tile, and rendering parameters of the tile.
+	 * 
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	private static class TileKey {
+
+		private final float scale;
+
+		private final boolean xInverted;
+
+		private final boolean yInverted;
+
+		private final int column;
+
+		private final int row;
+
+		/**
+		 * @param scale is the scaling factor.
+		 * @param xInverted indicates if the X axis is inverted.
+		 * @param yInverted indicates if the Y axis is inverted.
+		 * @param column is the index of the tile along the X axis.
+		 * @param row is the index of the tile along the Y axis.
+		 */
+		public TileKey(float scale, boolean xInverted, boolean yInverted, int column, int row) {
+			this.scale = scale;
+			this.xInverted = xInverted;
+			this.yInverted = yInverted;
+			this.column = column;
+			this.row = row;
+		}
+
+		/** Replies if this tile is intersecting the given logical area.
+		 * 
+		 * @param x is the position of the area in the logical space.
+		 * @param y is the position of the area in the logical space.
+		 * @param width is the width of the area in the logical space.
+		 * @param height is the height of the area in the logical space.
+		 * @param border is the number of pixels to add around the area.
+		 * @return <code>true</code> if the tile intersects the area.
+		 */
+		public boolean intersects(float x, float y, float width, float height, int border) {
+			return intersects(this.column, this.xInverted, x, width, border)
+					&& intersects(this.row, this.yInverted, y, height, border);
+		}
+
+		private boolean intersects(int index, boolean inverted, float min, float size, int border) {
+			float pmin = min * this.scale;
+			float pmax = (min + size) * this.scale;
+			if (inverted) {
+				float t = pmin;
+				pmin = -pmax;
+				pmax = -t;
+			}
+			int tmin = toTileIndex((int)Math.floor(pmin) - border);
+			int tmax = toTileIndex((int)Math.ceil(pmax) + border);
+			return index>=tmin && index<=tmax;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof TileKey) {
+				TileKey key = (TileKey)obj;
+				return this.column==key.column && this.row==key.row
+						&& this.xInverted==key.xInverted && this.yInverted==key.yInverted
+						&& Float.floatToIntBits(this.scale)==Float.floatToIntBits(key.scale);
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			int h = 1;
+			h = h * 31 + Float.floatToIntBits(this.scale);
+			h = h * 31 + (this.xInverted ? 1 : 0);
+			h = h * 31 + (this.yInverted ? 1 : 0);
+			h = h * 31 + this.column;
+			h = h * 31 + this.row;
+			return h;
+		}
+
+	}
+
+}
@@ -20,6 +20,7 @@
 
 package org.arakhne.afc.ui.swing.zoom;
 
+import java.awt.AlphaComposite;
 import java.awt.Adjustable;
 import java.awt.BorderLayout;
 import java.awt.Color;
@@ -29,6 +30,8 @@ import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
 import java.awt.event.AdjustmentEvent;
 import java.awt.event.AdjustmentListener;
 import java.awt.event.ComponentEvent;
@@ -37,17 +40,21 @@ import java.awt.event.KeyListener;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseWheelEvent;
 import java.awt.event.MouseWheelListener;
+import java.awt.geom.Area;
 import java.awt.geom.Dimension2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.awt.print.PageFormat;
 import java.awt.print.Printable;
 import java.awt.print.PrinterException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.swing.BoxLayout;
+import javax.swing.JComponent;
 import javax.swing.JPanel;
 import javax.swing.JScrollBar;
 import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
 import javax.swing.event.MouseInputListener;
@@ -91,6 +98,18 @@ import org.arakhne.afc.ui.swing.zoom.ScrollingMethod.ScrollingMethodListener;
  * The function {@link #onDrawView(Graphics2D, float, CenteringTransform)}} may
  * use an instance of the graphical context {@link ZoomableGraphics2D} to draw
  * the elements according to the zooming attributes.
+ * <p>
+ * When the tile cache is enabled (see {@link #setTileCacheEnabled(boolean)}),
+ * the rendering of the view is kept in offscreen tiles for the current scaling
+ * factor. Panning the view only blits the cached tiles, and
+ * {@link #onDrawView(Graphics2D, float, CenteringTransform)} is invoked for the
+ * tiles that were never rendered or that were invalidated with
+ * {@link #repaint(Rectangle2f)}, {@link #repaint(Shape2f)},
+ * {@link #repaint(float, float, float, float)} or {@link #invalidateTileCache()}.
+ * While a pan or a zoom gesture is in progress, the level of details replied by
+ * {@link #getLOD()} is {@link Graphics2DLOD#LOW_LEVEL_OF_DETAIL}; the tiles
+ * rendered during the gesture are rendered again with the normal level of details
+ * when the gesture is finished.
  * 
  * @author $Author: sgalland$
  * @version $Name$ $Revision$ $Date$
@@ -109,6 +128,11 @@ public abstract class ZoomableView extends JPanel implements ZoomableContext, Pr
 	 */
 	public static final int REPAINT_BORDER = 5;
 	
+	/** Delay in milliseconds after the last mouse wheel event
+	 * that marks the end of a zooming gesture.
+	 */
+	private static final int ZOOMING_GESTURE_DELAY = 250;
+	
 	/** Indicates if the anti-aliasing flag is set or not.
 	 */
 	private boolean antialiasing = false;
@@ -173,6 +197,15 @@ public abstract class ZoomableView extends JPanel implements ZoomableContext, Pr
 	 */
 	private boolean isWheelSupport = true;
 
+	/** Cache of the rendered tiles, or <code>null</code> if
+	 * the tile cache is disabled.
+	 */
+	private ZoomableTileCache tileCache = null;
+
+	/** Indicates if a zooming gesture is under progress.
+	 */
+	boolean isZoomingGesture = false;
+
 	/** Wrapper to the document.
 	 */
 	final DocumentWrapper documentWrapper;
@@ -342,7 +375,80 @@ public abstract class ZoomableView extends JPanel implements ZoomableContext, Pr
 	 * otherwhise <code>false</code>
 	 */
 	public void setAntiAliased(boolean antialiasing) {
-		this.antialiasing = antialiasing;
+		if (this.antialiasing!=antialiasing) {
+			this.antialiasing = antialiasing;
+			invalidateTileCache();
+		}
+	}
+
+	/** Replies if the rendering of the view is cached in offscreen tiles.
+	 * 
+	 * @return <code>true</code> if the tile cache is enabled,
+	 * otherwise <code>false</code>
+	 * @see #setTileCacheEnabled(boolean)
+	 */
+	public boolean isTileCacheEnabled() {
+		return this.tileCache!=null;
+	}
+
+	/** Set if the rendering of the view is cached in offscreen tiles.
+	 * <p>
+	 * When the cache is enabled, the changes in the displayed document
+	 * must be notified with {@link #repaint(Rectangle2f)},
+	 * {@link #repaint(Shape2f)}, {@link #repaint(float, float, float, float)}
+	 * or {@link #invalidateTileCache()}; otherwise the old rendering
+	 * of the document is displayed.
+	 * 
+	 * @param enable must be <code>true</code> if the tile cache is enabled,
+	 * otherwise <code>false</code>
+	 */
+	public void setTileCacheEnabled(boolean enable) {
+		if (enable!=isTileCacheEnabled()) {
+			this.tileCache = enable ? new ZoomableTileCache() : null;
+			repaint();
+		}
+	}
+
+	/** Replies the maximal number of tiles in the tile cache.
+	 * Each tile has a size of 256x256 pixels.
+	 * <p>
+	 * The cache keeps at least twice the number of tiles that may be
+	 * visible in the view.
+	 * 
+	 * @return the maximal number of tiles, or <code>0</code> if the
+	 * tile cache is disabled.
+	 */
+	public int getTileCacheSize() {
+		ZoomableTileCache cache = this.tileCache;
+		return cache==null ? 0 : cache.getMaxTiles();
+	}
+
+	/** Change the maximal number of tiles in the tile cache.
+	 * Each tile has a size of 256x256 pixels.
+	 * <p>
+	 * The cache keeps at least twice the number of tiles that may be
+	 * visible in the view, even if the given size is lower.
+	 * 
+	 * @param size is the maximal number of tiles, or <code>0</code> to
+	 * size the cache only from the size of the view.
+	 */
+	public void setTileCacheSize(int size) {
+		ZoomableTileCache cache = this.tileCache;
+		if (cache!=null) {
+			cache.setMaxTiles(size);
+		}
+	}
+
+	/** Discard all the rendered tiles and repaint the view.
+	 * This function must be invoked when the whole document
+	 * has changed.
+	 */
+	public void invalidateTileCache() {
+		ZoomableTileCache cache = this.tileCache;
+		if (cache!=null) {
+			cache.clear();
+			repaint();
+		}
 	}
 
 	/** Replies the level of details to be used by this
@@ -489,6 +595,10 @@ public abstract class ZoomableView extends JPanel implements ZoomableContext, Pr
 	 * @see #REPAINT_BORDER
 	 */
 	public final void repaint(float x, float y, float width, float height) {
+		ZoomableTileCache cache = this.tileCache;
+		if (cache!=null) {
+			cache.invalidate(x, y, width, height, REPAINT_BORDER);
+		}
 		int l = (int)logical2pixel_x(x)-REPAINT_BORDER;
 		int t = (int)logical2pixel_y(y)-REPAINT_BORDER;
 		int w = (int)logical2pixel_size(width)+REPAINT_BORDER*2;
@@ -1154,7 +1264,166 @@ public abstract class ZoomableView extends JPanel implements ZoomableContext, Pr
 	public final void paint(Graphics g) {
 		super.paint(g);
 		if (this.viewport==null)
-			onDrawView((Graphics2D)g, this.scaleFactor, this.centeringTransform);
+			drawView((Graphics2D)g, this);
+	}
+
+	/** Draw the view into the given graphical context.
+	 * <p>
+	 * If the tile cache is enabled, the cached tiles are blitted and
+	 * {@link #onDrawView(Graphics2D, float, CenteringTransform)} is invoked
+	 * once for all the missing tiles. The tile cache is not used when printing
+	 * or during a zooming gesture.
+	 * <p>
+	 * The tiles are rendered in a tile space that is aligned on the pixels:
+	 * the fractional part of the position of the view origin is removed
+	 * when the tiles are rendered, and it is applied as a single translation
+	 * when all the tiles are blitted. In this way, the tiles that were
+	 * rendered at different positions of the view are aligned together.
+	 * 
+	 * @param g is the graphical context.
+	 * @param surface is the component on which the view is drawn.
+	 */
+	void drawView(Graphics2D g, JComponent surface) {
+		ZoomableTileCache cache = this.tileCache;
+		if (cache==null || this.isZoomingGesture || surface.isPaintingForPrint()) {
+			onDrawView(g, this.scaleFactor, this.centeringTransform);
+			return;
+		}
+		cache.setViewportSize(surface.getWidth(), surface.getHeight());
+		float scale = this.scaleFactor;
+		boolean xInverted = isXAxisInverted();
+		boolean yInverted = isYAxisInverted();
+		Graphics2DLOD lod = getLOD();
+		float pixelOriginX = logical2pixel_x(0f);
+		float pixelOriginY = logical2pixel_y(0f);
+		int originX = (int) Math.floor(pixelOriginX);
+		int originY = (int) Math.floor(pixelOriginY);
+		float fractionX = pixelOriginX - originX;
+		float fractionY = pixelOriginY - originY;
+		Rectangle clip = g.getClipBounds();
+		if (clip==null) {
+			clip = new Rectangle(0, 0, surface.getWidth(), surface.getHeight());
+		}
+		// The tiles are blitted with the fractional offset: the first pixel of the
+		// clip may be covered by the previous tile.
+		int minColumn = ZoomableTileCache.toTileIndex(clip.x - originX - (fractionX>0f ? 1 : 0));
+		int maxColumn = ZoomableTileCache.toTileIndex(clip.x + clip.width - 1 - originX);
+		int minRow = ZoomableTileCache.toTileIndex(clip.y - originY - (fractionY>0f ? 1 : 0));
+		int maxRow = ZoomableTileCache.toTileIndex(clip.y + clip.height - 1 - originY);
+		int columns = maxColumn - minColumn + 1;
+		int rows = maxRow - minRow + 1;
+		if (columns<=0 || rows<=0) {
+			return;
+		}
+
+		// Collect the tiles, and allocate the images of the missing tiles
+		BufferedImage[] images = new BufferedImage[columns * rows];
+		boolean[] missing = new boolean[columns * rows];
+		Area missingArea = null;
+		BufferedImage image;
+		int x, y, i = 0;
+		for (int row = minRow; row<=maxRow; ++row) {
+			y = originY + row * ZoomableTileCache.TILE_SIZE;
+			for (int column = minColumn; column<=maxColumn; ++column, ++i) {
+				x = originX + column * ZoomableTileCache.TILE_SIZE;
+				image = cache.getTile(scale, xInverted, yInverted, column, row, lod);
+				if (image==null) {
+					image = cache.allocateTileImage(scale, xInverted, yInverted, column, row);
+					missing[i] = true;
+					Rectangle tileBounds = new Rectangle(x, y, ZoomableTileCache.TILE_SIZE, ZoomableTileCache.TILE_SIZE);
+					if (missingArea==null) {
+						missingArea = new Area(tileBounds);
+					}
+					else {
+						missingArea.add(new Area(tileBounds));
+					}
+				}
+				images[i] = image;
+			}
+		}
+
+		// Render the missing tiles with a single drawing of the view
+		if (missingArea!=null) {
+			Rectangle bounds = missingArea.getBounds();
+			BufferedImage buffer = cache.getRenderingBuffer(bounds.width, bounds.height);
+			drawBuffer(g, buffer, bounds, missingArea, fractionX, fractionY);
+			i = 0;
+			for (int row = minRow; row<=maxRow; ++row) {
+				y = originY + row * ZoomableTileCache.TILE_SIZE;
+				for (int column = minColumn; column<=maxColumn; ++column, ++i) {
+					if (missing[i]) {
+						x = originX + column * ZoomableTileCache.TILE_SIZE;
+						copyTile(buffer, images[i], x - bounds.x, y - bounds.y);
+						cache.putTile(scale, xInverted, yInverted, column, row, lod, images[i]);
+					}
+				}
+			}
+		}
+
+		// Blit the tiles
+		g.translate(fractionX, fractionY);
+		try {
+			i = 0;
+			for (int row = minRow; row<=maxRow; ++row) {
+				y = originY + row * ZoomableTileCache.TILE_SIZE;
+				for (int column = minColumn; column<=maxColumn; ++column, ++i) {
+					x = originX + column * ZoomableTileCache.TILE_SIZE;
+					g.drawImage(images[i], x, y, null);
+				}
+			}
+		}
+		finally {
+			g.translate(-fractionX, -fractionY);
+		}
+	}
+
+	/** Render the view inside the given buffer.
+	 * 
+	 * @param g is the graphical context of the view.
+	 * @param buffer is the image in which the view is rendered.
+	 * @param bounds is the area of the tile space that corresponds to the upper-left corner of the buffer.
+	 * @param area is the area of the tile space to render.
+	 * @param fractionX is the fractional part of the horizontal position of the view origin on the screen.
+	 * @param fractionY is the fractional part of the vertical position of the view origin on the screen.
+	 */
+	private void drawBuffer(Graphics2D g, BufferedImage buffer, Rectangle bounds, Area area,
+			float fractionX, float fractionY) {
+		Graphics2D bufferGraphics = buffer.createGraphics();
+		try {
+			bufferGraphics.setComposite(AlphaComposite.Clear);
+			bufferGraphics.fillRect(0, 0, bounds.width, bounds.height);
+			bufferGraphics.setComposite(AlphaComposite.SrcOver);
+			bufferGraphics.setRenderingHints(g.getRenderingHints());
+			bufferGraphics.setColor(g.getColor());
+			bufferGraphics.setBackground(g.getBackground());
+			bufferGraphics.setFont(g.getFont());
+			bufferGraphics.translate(-bounds.x, -bounds.y);
+			bufferGraphics.clip(area);
+			// From the screen space to the tile space
+			bufferGraphics.translate(-fractionX, -fractionY);
+			onDrawView(bufferGraphics, this.scaleFactor, this.centeringTransform);
+		}
+		finally {
+			bufferGraphics.dispose();
+		}
+	}
+
+	/** Copy a part of the rendering buffer into the image of a tile.
+	 * 
+	 * @param buffer is the image in which the view was rendered.
+	 * @param image is the image of the tile.
+	 * @param x is the position of the tile in the buffer.
+	 * @param y is the position of the tile in the buffer.
+	 */
+	private static void copyTile(BufferedImage buffer, BufferedImage image, int x, int y) {
+		Graphics2D tileGraphics = image.createGraphics();
+		try {
+			tileGraphics.setComposite(AlphaComposite.Src);
+			tileGraphics.drawImage(buffer, -x, -y, null);
+		}
+		finally {
+			tileGraphics.dispose();
+		}
 	}
 
 	/** Invoked to paint the view after it is translated and scaled.
@@ -1300,7 +1569,7 @@ public abstract class ZoomableView extends JPanel implements ZoomableContext, Pr
 		@Override
 		public void paint(Graphics g) {
 			super.paint(g);
-			onDrawView((Graphics2D)g, ZoomableView.this.scaleFactor, ZoomableView.this.centeringTransform);
+			drawView((Graphics2D)g, this);
 		}
 
 	}
@@ -1314,7 +1583,7 @@ public abstract class ZoomableView extends JPanel implements ZoomableContext, Pr
 	private class SwingEventHandler implements ComponentListener, 
 	MouseInputListener, MouseWheelListener,
 	ScrollingMethodListener, AdjustmentListener, ChangeListener,
-	KeyListener {
+	KeyListener, ActionListener {
 
 		/** Save the number of wheel clicks between two calls to
 		 * {@link #mouseWheelMoved(MouseWheelEvent)}.
@@ -1338,9 +1607,17 @@ public abstract class ZoomableView extends JPanel implements ZoomableContext, Pr
 		 */
 		private int mouseY = -1;
 
-		/** Save the LOD for beeing restored after scrolling.
+		/** Timer that detects the end of a zooming gesture.
+		 */
+		private Timer zoomingTimer = null;
+
+		/** Number of gestures (scrolling, zooming) that are under progress.
 		 */
-		private Graphics2DLOD previousLOD = null;
+		private int gestureCount = 0;
+
+		/** Save the LOD for beeing restored after the last gesture.
+		 */
+		private Graphics2DLOD gesturePreviousLOD = null;
 
 		public SwingEventHandler() {
 			//
@@ -1476,6 +1753,7 @@ public abstract class ZoomableView extends JPanel implements ZoomableContext, Pr
 				}
 				if (onScale(fx, fy, Math.abs(clicks) * scale)) {
 					this.bufferedWheelClicks = 0;
+					startZooming();
 					repaint();
 				}
 				else {
@@ -1485,11 +1763,63 @@ public abstract class ZoomableView extends JPanel implements ZoomableContext, Pr
 			}
 		}
 
+		/** Invoked when a gesture is started. The level of details is
+		 * lowered, and it is saved if no other gesture is under progress.
+		 */
+		private void startGesture() {
+			if (this.gestureCount==0) {
+				this.gesturePreviousLOD = setLOD(Graphics2DLOD.LOW_LEVEL_OF_DETAIL);
+			}
+			++this.gestureCount;
+		}
+
+		/** Invoked when a gesture is finished. The saved level of details
+		 * is restored if no other gesture is under progress.
+		 */
+		private void stopGesture() {
+			if (this.gestureCount>0) {
+				--this.gestureCount;
+				if (this.gestureCount==0) {
+					setLOD(this.gesturePreviousLOD);
+					this.gesturePreviousLOD = null;
+				}
+			}
+		}
+
+		/** Start or continue a zooming gesture.
+		 * The gesture is finished when no zooming event was received
+		 * during {@link ZoomableView#ZOOMING_GESTURE_DELAY} milliseconds.
+		 */
+		private void startZooming() {
+			if (this.zoomingTimer==null) {
+				ZoomableView.this.isZoomingGesture = true;
+				startGesture();
+				this.zoomingTimer = new Timer(ZOOMING_GESTURE_DELAY, this);
+				this.zoomingTimer.setRepeats(false);
+				this.zoomingTimer.start();
+			}
+			else {
+				this.zoomingTimer.restart();
+			}
+		}
+
+		/** Invoked when the zooming gesture is finished.
+		 */
+		@Override
+		public void actionPerformed(ActionEvent e) {
+			if (this.zoomingTimer!=null) {
+				this.zoomingTimer = null;
+				ZoomableView.this.isZoomingGesture = false;
+				stopGesture();
+				repaint();
+			}
+		}
+
 		@Override
 		public void startScrolling(MouseEvent event, int delay) {
 			if (delay<=0) {
 				this.mouseScrollingUnderProgress = true;
-				this.previousLOD = setLOD(Graphics2DLOD.LOW_LEVEL_OF_DETAIL);
+				startGesture();
 				setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
 				event.consume();
 				this.mouseX = event.getX();
@@ -1506,7 +1836,7 @@ public abstract class ZoomableView extends JPanel implements ZoomableContext, Pr
 			this.scrollWaiter = null;
 			if (this.mouseScrollingUnderProgress) {
 				this.mouseScrollingUnderProgress = false;
-				setLOD(this.previousLOD);
+				stopGesture();
 				setCursor(Cursor.getDefaultCursor());
 				event.consume();
 				repaint();
@@ -1590,6 +1920,7 @@ public abstract class ZoomableView extends JPanel implements ZoomableContext, Pr
 		@Override
 		public void stateChanged(ChangeEvent e) {
 			updateScrollbars();
+			invalidateTileCache();
 		}
 
 		@Override
@@ -0,0 +1,459 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.ui.vector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.arakhne.afc.math.continous.object2d.Rectangle2f;
+import org.arakhne.afc.math.continous.object2d.Shape2f;
+import org.arakhne.afc.math.matrix.Transform2D;
+import org.arakhne.afc.ui.Graphics2DLOD;
+
+/** Retained-mode scene of shapes that are drawn on a {@link VectorGraphics2D}.
+ * <p>
+ * The shapes are registered once and stored in a uniform-grid spatial index
+ * on their bounding boxes. When the scene is painted, only the shapes whose
+ * bounds intersect the clip of the graphical context are passed to the
+ * context. At {@link Graphics2DLOD#LOW_LEVEL_OF_DETAIL} (and below), the
+ * shapes with screen-space bounds smaller than one pixel are skipped.
+ * <p>
+ * The shapes are painted in their order of registration.
+ * If a registered shape is changed, {@link #update(Shape2f)} must be
+ * invoked to update the spatial index.
+ * <p>
+ * This scene is not thread-safe.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 13.0
+ * @deprecated see JavaFX API
+ */
+@Deprecated
+public class VectorScene {
+
+	/** Default size of the cells of the spatial index, in user-space units.
+	 */
+	public static final float DEFAULT_CELL_SIZE = 64f;
+
+	/** Maximal number of cells covered by a shape before it is
+	 * stored outside the grid.
+	 */
+	private static final int MAX_CELLS_PER_ENTRY = 64;
+
+	/** Renderer that strokes the outline of the shape.
+	 */
+	private static final ShapeRenderer DEFAULT_RENDERER = new ShapeRenderer() {
+		@Override
+		public void paint(VectorGraphics2D g, Shape2f shape) {
+			g.draw(shape);
+		}
+	};
+
+	private static final Comparator<Entry> ORDER_COMPARATOR = new Comparator<Entry>() {
+		@Override
+		public int compare(Entry o1, Entry o2) {
+			return Long.compare(o1.order, o2.order);
+		}
+	};
+
+	private final float cellSize;
+
+	private final Map<Shape2f, Entry> entries = new IdentityHashMap<>();
+
+	private final Map<Long, List<Entry>> grid = new HashMap<>();
+
+	/** Shapes that are covering too many cells to be stored in the grid.
+	 */
+	private final List<Entry> largeEntries = new ArrayList<>();
+
+	private final List<Entry> buffer = new ArrayList<>();
+
+	private float cullingMargin;
+
+	private long nextOrder;
+
+	private int queryStamp;
+
+	/** Construct a scene with the {@link #DEFAULT_CELL_SIZE default cell size}.
+	 */
+	public VectorScene() {
+		this(DEFAULT_CELL_SIZE);
+	}
+
+	/**
+	 * @param cellSize is the size of the cells of the spatial index, in user-space units.
+	 */
+	public VectorScene(float cellSize) {
+		assert(cellSize>0f);
+		this.cellSize = cellSize;
+	}
+
+	/** Replies the margin that is added around the bounds of the
+	 * shapes when they are tested against the clip.
+	 * This margin permits to take into account the width of the
+	 * strokes or the decorations drawn by the renderers.
+	 *
+	 * @return the margin in user-space units.
+	 */
+	public float getCullingMargin() {
+		return this.cullingMargin;
+	}
+
+	/** Change the margin that is added around the bounds of the
+	 * shapes when they are tested against the clip.
+	 *
+	 * @param margin the margin in user-space units.
+	 */
+	public void setCullingMargin(float margin) {
+		this.cullingMargin = Math.max(0f, margin);
+	}
+
+	/** Replies the number of shapes in the scene.
+	 *
+	 * @return the number of shapes.
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+
+	/** Replies if the scene is empty.
+	 *
+	 * @return <code>true</code> if the scene has no shape.
+	 */
+	public boolean isEmpty() {
+		return this.entries.isEmpty();
+	}
+
+	/** Replies if the given shape is registered in the scene.
+	 *
+	 * @param shape
+	 * @return <code>true</code> if the shape is in the scene.
+	 */
+	public boolean contains(Shape2f shape) {
+		return this.entries.containsKey(shape);
+	}
+
+	/** Add a shape that is stroked with the current settings of the
+	 * graphical context.
+	 *
+	 * @param shape
+	 */
+	public void add(Shape2f shape) {
+		add(shape, null);
+	}
+
+	/** Add a shape with the renderer that is painting it.
+	 * If the shape is already in the scene, its renderer is replaced
+	 * and its bounds are updated.
+	 *
+	 * @param shape
+	 * @param renderer is the renderer of the shape, or <code>null</code>
+	 * to stroke the shape with the current settings of the graphical context.
+	 */
+	public void add(Shape2f shape, ShapeRenderer renderer) {
+		assert(shape!=null);
+		ShapeRenderer r = renderer==null ? DEFAULT_RENDERER : renderer;
+		Entry entry = this.entries.get(shape);
+		if (entry==null) {
+			entry = new Entry(shape, r, this.nextOrder++);
+			this.entries.put(shape, entry);
+		}
+		else {
+			unindex(entry);
+			entry.renderer = r;
+		}
+		index(entry);
+	}
+
+	/** Remove the given shape from the scene.
+	 *
+	 * @param shape
+	 * @return <code>true</code> if the shape was removed.
+	 */
+	public boolean remove(Shape2f shape) {
+		Entry entry = this.entries.remove(shape);
+		if (entry!=null) {
+			unindex(entry);
+			return true;
+		}
+		return false;
+	}
+
+	/** Update the spatial index after a change of the given shape.
+	 *
+	 * @param shape
+	 * @return <code>true</code> if the shape is in the scene.
+	 */
+	public boolean update(Shape2f shape) {
+		Entry entry = this.entries.get(shape);
+		if (entry!=null) {
+			unindex(entry);
+			index(entry);
+			return true;
+		}
+		return false;
+	}
+
+	/** Remove all the shapes.
+	 */
+	public void clear() {
+		this.entries.clear();
+		this.grid.clear();
+		this.largeEntries.clear();
+		this.nextOrder = 0;
+	}
+
+	/** Replies the shapes with bounds intersecting the given area,
+	 * in their order of registration.
+	 *
+	 * @param area is the area to query, or <code>null</code> for all the shapes.
+	 * @return the shapes.
+	 */
+	public List<Shape2f> getShapesIntersecting(Rectangle2f area) {
+		List<Entry> candidates = query(area);
+		List<Shape2f> shapes = new ArrayList<>(candidates.size());
+		for(Entry entry : candidates) {
+			shapes.add(entry.shape);
+		}
+		candidates.clear();
+		return shapes;
+	}
+
+	/** Paint the shapes that are intersecting the clip of the given
+	 * graphical context.
+	 *
+	 * @param g is the graphical context.
+	 * @return the number of shapes passed to the renderers.
+	 */
+	public int paint(VectorGraphics2D g) {
+		Shape2f clip = g.getClip();
+		List<Entry> candidates = query(clip==null ? null : clip.toBoundingBox());
+		float minWidth = 0f;
+		float minHeight = 0f;
+		if (g.getLOD().compareTo(Graphics2DLOD.LOW_LEVEL_OF_DETAIL)<=0) {
+			// Size in user space of one pixel along each axis.
+			Transform2D tr = g.getTransform();
+			float sx = (float)Math.hypot(tr.getScaleX(), tr.getShearY());
+			float sy = (float)Math.hypot(tr.getShearX(), tr.getScaleY());
+			minWidth = sx>0f ? 1f/sx : 0f;
+			minHeight = sy>0f ? 1f/sy : 0f;
+		}
+		int count = 0;
+		try {
+			for(Entry entry : candidates) {
+				if (entry.maxx-entry.minx>=minWidth || entry.maxy-entry.miny>=minHeight) {
+					entry.renderer.paint(g, entry.shape);
+					++count;
+				}
+			}
+		}
+		finally {
+			candidates.clear();
+		}
+		return count;
+	}
+
+	/** Replies the entries intersecting the given area, in their order of registration.
+	 * The replied list is a shared buffer that must be cleared by the caller.
+	 */
+	private List<Entry> query(Rectangle2f area) {
+		List<Entry> result = this.buffer;
+		result.clear();
+		if (area==null) {
+			result.addAll(this.entries.values());
+		}
+		else {
+			float margin = this.cullingMargin;
+			float minx = area.getMinX() - margin;
+			float miny = area.getMinY() - margin;
+			float maxx = area.getMaxX() + margin;
+			float maxy = area.getMaxY() + margin;
+			int stamp = ++this.queryStamp;
+			for(Entry entry : this.largeEntries) {
+				collect(entry, minx, miny, maxx, maxy, stamp, result);
+			}
+			int cx1 = cell(minx);
+			int cy1 = cell(miny);
+			int cx2 = cell(maxx);
+			int cy2 = cell(maxy);
+			long cellCount = ((long)cx2-cx1+1) * ((long)cy2-cy1+1);
+			if (cellCount>this.grid.size()) {
+				// The area covers more cells than the occupied ones.
+				for(List<Entry> cell : this.grid.values()) {
+					for(Entry entry : cell) {
+						collect(entry, minx, miny, maxx, maxy, stamp, result);
+					}
+				}
+			}
+			else {
+				for(int cx=cx1; cx<=cx2; ++cx) {
+					for(int cy=cy1; cy<=cy2; ++cy) {
+						List<Entry> cell = this.grid.get(key(cx, cy));
+						if (cell!=null) {
+							for(Entry entry : cell) {
+								collect(entry, minx, miny, maxx, maxy, stamp, result);
+							}
+						}
+					}
+				}
+			}
+		}
+		Collections.sort(result, ORDER_COMPARATOR);
+		return result;
+	}
+
+	private static void collect(Entry entry, float minx, float miny, float maxx, float maxy, int stamp, List<Entry> result) {
+		if (entry.stamp!=stamp) {
+			entry.stamp = stamp;
+			if (entry.minx<=maxx && entry.maxx>=minx && entry.miny<=maxy && entry.maxy>=miny) {
+				result.add(entry);
+			}
+		}
+	}
+
+	private void index(Entry entry) {
+		Rectangle2f bounds = entry.shape.toBoundingBox();
+		entry.minx = bounds.getMinX();
+		entry.miny = bounds.getMinY();
+		entry.maxx = bounds.getMaxX();
+		entry.maxy = bounds.getMaxY();
+		int cx1 = cell(entry.minx);
+		int cy1 = cell(entry.miny);
+		int cx2 = cell(entry.maxx);
+		int cy2 = cell(entry.maxy);
+		if (((long)cx2-cx1+1) * ((long)cy2-cy1+1) > MAX_CELLS_PER_ENTRY) {
+			this.largeEntries.add(entry);
+			entry.large = true;
+		}
+		else {
+			for(int cx=cx1; cx<=cx2; ++cx) {
+				for(int cy=cy1; cy<=cy2; ++cy) {
+					Long key = key(cx, cy);
+					List<Entry> cell = this.grid.get(key);
+					if (cell==null) {
+						cell = new ArrayList<>();
+						this.grid.put(key, cell);
+					}
+					cell.add(entry);
+				}
+			}
+			entry.large = false;
+		}
+	}
+
+	private void unindex(Entry entry) {
+		if (entry.large) {
+			this.largeEntries.remove(entry);
+		}
+		else {
+			int cx1 = cell(entry.minx);
+			int cy1 = cell(entry.miny);
+			int cx2 = cell(entry.maxx);
+			int cy2 = cell(entry.maxy);
+			for(int cx=cx1; cx<=cx2; ++cx) {
+				for(int cy=cy1; cy<=cy2; ++cy) {
+					Long key = key(cx, cy);
+					List<Entry> cell = this.grid.get(key);
+					if (cell!=null) {
+						cell.remove(entry);
+						if (cell.isEmpty()) {
+							this.grid.remove(key);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private int cell(float coordinate) {
+		return (int)Math.floor(coordinate / this.cellSize);
+	}
+
+	private static Long key(int cx, int cy) {
+		return Long.valueOf(((long)cx << 32) | (cy & 0xFFFFFFFFL));
+	}
+
+	/** Renderer of a shape in a {@link VectorScene}.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 * @deprecated see JavaFX API
+	 */
+	@Deprecated
+	public interface ShapeRenderer {
+
+		/** Paint the given shape.
+		 *
+		 * @param g is the graphical context.
+		 * @param shape is the shape to paint.
+		 */
+		public void paint(VectorGraphics2D g, Shape2f shape);
+
+	}
+
+	/** Entry of the scene.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 13.0
+	 */
+	private static class Entry {
+
+		public final Shape2f shape;
+
+		public final long order;
+
+		public ShapeRenderer renderer;
+
+		public float minx;
+
+		public float miny;
+
+		public float maxx;
+
+		public float maxy;
+
+		public boolean large;
+
+		public int stamp;
+
+		public Entry(Shape2f shape, ShapeRenderer renderer, long order) {
+			this.shape = shape;
+			this.renderer = renderer;
+			this.order = order;
+		}
+
+	}
+
+}